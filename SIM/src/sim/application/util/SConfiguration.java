@@ -1,294 +1,590 @@
-/**
- * 
- */
-package sim.application.util;
-
-import java.io.FileWriter;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.FileNotFoundException;
-
-import sim.exception.SConstructorException;
-import sim.exception.SNoImplementationException;
-import sim.exception.SRuntimeException;
-import sim.graphics.SScene;
-import sim.graphics.SViewport;
-import sim.readwrite.SAbstractReadable;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SFileSearch;
-import sim.util.SInitializationException;
-import sim.util.SLog;
-import sim.util.SReadingException;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SConfiguration</b> reprsente la configuration d'un programme. Cette classe fait la lecture d'un fichier config.cgp et initialise des paramtres du programme.
- * 
- * @author Simon Vzina
- * @since 2015-01-04
- * @version 2016-02-29
- */
-public class SConfiguration extends SAbstractReadable {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>KEYWORD_PARAMETER</b> correspond  un tableau contenant l'ensemble des mots cls 
-   *  utiliser reconnus lors de la dfinition de l'objet par une lecture en fichier.
-   */
-  private static final String[] KEYWORD_PARAMETER = { 
-    SKeyWordDecoder.KW_READ_DATA, SKeyWordDecoder.KW_WRITE_DATA, SKeyWordDecoder.KW_LOG_FILE_NAME,
-    SKeyWordDecoder.KW_LOG_CONSOLE, SKeyWordDecoder.KW_LOG_FILE, SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT, 
-    SKeyWordDecoder.KW_APPLICATION 
-  };
-  
-  /**
-   * La constante <b>APPLICATION_TYPE</b> correspond  un tablea de mots cl reprsentant le nom des applications reconnues par la classe <b>SConfiguration</b>.
-   */
-  public static final String[] APPLICATION_TYPE = { "none", "info", "console", "frame", "comparator"};
-  
-  /**
-   * La constante <b>DEFAULT_CONFIG_FILE_NAME</b> correspond au nom du fichier de configuration par dfaut tant gal  {@value}.
-   */
-	private static final String DEFAULT_CONFIG_FILE_NAME = "configuration.cfg";	
-		
-	/**
-   * La constante <b>DEFAULT_WRITE_SCENE</b> correspond au nom du fichier de scne qui sera en criture par dfaut tant gal  {@value}.
-   */
-  private static final String DEFAULT_WRITE_SCENE = "out.txt";
-  
-	/**
-	 * La constante <b>DEFAULT_READ_DATA_FILE_NAME</b> correspond au nom du fichier en lecture pour les donnes de l'application par la configuration par dfaut tant gal  {@value}.
-	 */
-	private static final String DEFAULT_READ_DATA_FILE_NAME = "read_data_file_name.txt";	  
-	
-	/**
-	 * La constante <b>DEFAULT_WRITE_DATA_FILE_NAME</b> correspond au nom du ficher en criture des donnes de l'application par la configuration par dfaut tant gal  {@value}.
-	 */
-	private static final String DEFAULT_WRITE_DATA_FILE_NAME = "write_data_file_name.txt";	
-	
-	//-------------
-	// VARIABLES //
-	//-------------
-	
-	/**
-	 * La variable <b>config_file_name</b> correspond au nom du fichier de configuration.
-	 */
-	private final String config_file_name;		
-	
-	/**
-	 * La variable <b>read_data_file_name<b> correspond au nom du fichier qui sera lu par la configuration pour dfinir les donnes de l'application.
-	 */
-	private String read_data_file_name;			
-	
-	/**
-	 * La varialbe <b>write_data_file_name</b> correspond au nom du fichier qui sera crit par la configuration pour sauvegarder les donnes de l'application en format texte.
-	 */
-	private String write_data_file_name;		
-	
-	/**
-	 * La variable <b>application_type</b> correspond  un code de rfrence dfinissant l'application qui sera lance par la configuration.
-	 */
-	private int application_type;	         
-	
-	//----------------
-	// CONSTRUCTEUR //
-	//----------------
-	
-	/**
-	 * Constructeur de la configuration du programme par dfaut.
-	 * Le nom du fichier sera <b>"configuration.cfg"</b>.
-	 * Ce fichier ne sera pas lu, car le constructeur par dfaut propose ses propres valeurs. 
-   */
-	public SConfiguration()
-	{
-	  config_file_name = DEFAULT_CONFIG_FILE_NAME;
-	  read_data_file_name =  SScene.DEFAULT_SCENE_FILE_NAME;
-    write_data_file_name = DEFAULT_WRITE_SCENE;
-    application_type = 1;   // application de type "info"
-	}
-	
-	/**
-	 * Constructeur de la configuration du programme avec le nom de configuration.
-	 * 
-	 * @param file_name - Le nom du fichier de configuration.
-	 * @throws FileNotFoundException Si le fichier de lecture n'a pas t trouv.
-   * @throws IOException Si une erreur de type I/O est survenue.
-   * @throws SConstructorException Si le nom du ficher de scne a t trouv sous plusieurs versions.
-   */
-	public SConfiguration(String file_name) throws FileNotFoundException, SConstructorException, IOException
-	{
-		config_file_name = file_name;
-		
-		read_data_file_name =  DEFAULT_READ_DATA_FILE_NAME;
-		write_data_file_name = DEFAULT_WRITE_DATA_FILE_NAME;
-		
-		application_type = 0;   //application de type "none"
-		
-		//Trouver le fichier  partir du rpertoire o l'excution de l'application est ralise
-    SFileSearch search = new SFileSearch("", file_name);
-    
-    if(!search.isFileFound())
-      throw new FileNotFoundException("Erreur SConfiguration 001 : Le fichier '" + file_name + "' n'est pas trouv.");
-    
-    if(search.isManyFileFound())
-      throw new SConstructorException("Erreur SConfiguration 002 : Le fichier '" + file_name + "' a t trouv plus d'une fois dans les diffrents sous-rpertoires. Veuillez en garder qu'une seule version.");
-    
-    //Lecture de la scne  partir d'un fichier
-    FileReader fr = new FileReader(search.getFileFoundList().get(0));
-    SBufferedReader sbr = new SBufferedReader(fr);
-    
-    try{
-      read(sbr);
-    }catch(SInitializationException e){
-      //Les trois points sont colinaire ce qui ne permet pas de dfinir une normale  la surface au triangle. 
-      throw new SConstructorException("Erreur SConfiguration 003 : Une erreur est survenue lors de l'initialisation." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);  
-    }
-    
-    sbr.close();
-    fr.close();
-	}
-	
-	//------------
-	// MTHODES //
-	//------------
-	
-	/**
-	 * Mthode pour obtenir le nom du fichier en lecture du data.
-	 * 
-	 * @return Le nom du fichier en lecture du data.
-	 */
-	public String getReadDataFileName()
-	{ 
-	  return read_data_file_name;
-	}
-		
-	/**
-	 * Mthode pour obtenir le nom du fichier en criture du data.
-	 * 
-	 * @return Le nom du fichier.
-	 */
-	public String getWriteDataFileName()
-	{ 
-	  return write_data_file_name;
-	}
-	
-	/**
-	 * Mthode pour obtenir le type d'application devant tre construite selon la configuration.
-	 * 
-	 * @return Le code associ au type de configuration.
-	 */
-	public int getApplicationType()
-	{
-	  return application_type;
-	}
-	
-	@Override
-  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException
-  {
-    switch(code)
-    {
-      case SKeyWordDecoder.CODE_READ_SCENE : 
-      case SKeyWordDecoder.CODE_READ_DATA :  read_data_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_READ_DATA); return true;           
-                              
-      case SKeyWordDecoder.CODE_WRITE_SCENE : 
-      case SKeyWordDecoder.CODE_WRITE_DATA : write_data_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_WRITE_DATA); return true;        
-      
-      case SKeyWordDecoder.CODE_LOG_FILE_NAME : try{
-                                                  SLog.setLogFileName(readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_LOG_FILE_NAME)); 
-                                                }catch(SRuntimeException e){
-                                                  throw new SReadingException("Erreur SConfiguration 004 : Le nom du fichier de log n'est pas adquat." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-                                                }
-                                                return true;   
-        
-      case SKeyWordDecoder.CODE_LOG_CONSOLE : SLog.setConsoleLog(readTrueFalseExpressionOrInt(remaining_line, SKeyWordDecoder.KW_LOG_CONSOLE)); return true;
-        
-      case SKeyWordDecoder.CODE_LOG_FILE : SLog.setFileLog(readTrueFalseExpressionOrInt(remaining_line, SKeyWordDecoder.KW_LOG_FILE)); return true; 
-        
-      case SKeyWordDecoder.CODE_VIEWPORT_IMAGE_COUNT :  try{
-                                                          SViewport.setImageCounter(readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT));
-                                                        }catch(SRuntimeException e){
-                                                          throw new SReadingException("Erreur SConfiguration 005 : Le nombre en affectation  la numrotation des images du viewport n'est pas adquat." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);   
-                                                        }
-                                                        return true;
-      
-      case SKeyWordDecoder.CODE_APPLICATION : application_type = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_APPLICATION, APPLICATION_TYPE); return true;
-      
-      default : return false;
-    }
-  }
-  
-	/**
-	 * Mthode pour crire le fichier de configuration.
-	 */
-	public void writeFile()
-	{
-		try{
-		  
-			FileWriter fw = new FileWriter(config_file_name);
-			BufferedWriter bw = new BufferedWriter(fw);
-			
-			bw.write(SKeyWordDecoder.KW_APPLICATION);
-			bw.write("\t");
-			bw.write(APPLICATION_TYPE[application_type]);
-			bw.write(SStringUtil.END_LINE_CARACTER);
-			
-			bw.write(SKeyWordDecoder.KW_READ_DATA);
-			bw.write("\t\t");
-			bw.write(read_data_file_name);
-			bw.write(SStringUtil.END_LINE_CARACTER);
-			
-			bw.write(SKeyWordDecoder.KW_WRITE_DATA);
-			bw.write("\t\t");
-			bw.write(write_data_file_name);
-			bw.write(SStringUtil.END_LINE_CARACTER);
-			
-			//crire les proprits static de la classe SLog
-			SLog.staticWrite(bw);
-			
-			//crire les proprits static de la classe SViewport
-			SViewport.staticWrite(bw);
-			
-			bw.close();     //  fermer celui-ci en premier, sinon, ERROR !!!
-			fw.close();
-			
-		}catch(IOException ioe){
-			ioe.printStackTrace();
-		}
-	}
-	
-	/**
-   * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-   * 
-   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
-   */
-	private void initialize() throws SInitializationException
-  {
-   
-  }
-	
-	@Override
-  protected void readingInitialization() throws SInitializationException
-  {
-    initialize();
-  }
-	
-	@Override
-  public String getReadableName()
-  {
-	  throw new SNoImplementationException("Erreur SConfiguration 006 : Cette mthode ne retourne pas de mot cl, car cet objet ne peut pas tre construit par l'appel d'un mot cl.");
-  }
-  
-  @Override
-  public String[] getReadableParameterName()
-  {
-    String[] other_parameters = super.getReadableParameterName();
-    
-    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
-  }
-  
-}//fin de la classe SConfiguration
+/**
+ * 
+ */
+package sim.application.util;
+
+import java.io.FileWriter;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.FileNotFoundException;
+
+import sim.exception.SConstructorException;
+import sim.exception.SNoImplementationException;
+import sim.exception.SRuntimeException;
+import sim.graphics.SScene;
+import sim.graphics.SViewport;
+import sim.readwrite.SAbstractReadable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SFileSearch;
+import sim.util.SInitializationException;
+import sim.util.SLog;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SConfiguration</b> représente la configuration d'un programme. Cette classe fait la lecture d'un fichier config.cgp et initialise des paramètres du programme.
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-04
+ * @version 2017-02-14
+ */
+public class SConfiguration extends SAbstractReadable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés 
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = { 
+    SKeyWordDecoder.KW_READ_DATA, SKeyWordDecoder.KW_WRITE_DATA, SKeyWordDecoder.KW_LOG_FILE_NAME,
+    SKeyWordDecoder.KW_LOG_CONSOLE, SKeyWordDecoder.KW_LOG_FILE, SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT, 
+    SKeyWordDecoder.KW_APPLICATION, SKeyWordDecoder.KW_WATCH_SCENE, SKeyWordDecoder.KW_DISTRIBUTED_HOST,
+    SKeyWordDecoder.KW_DISTRIBUTED_PORT, SKeyWordDecoder.KW_DISTRIBUTED_LOCAL_WORKERS, SKeyWordDecoder.KW_DISTRIBUTED_TILE_SIZE,
+    SKeyWordDecoder.KW_DISTRIBUTED_TIMEOUT, SKeyWordDecoder.KW_DISTRIBUTED_SECRET, SKeyWordDecoder.KW_DISTRIBUTED_BIND,
+    SKeyWordDecoder.KW_DAEMON_PORT, SKeyWordDecoder.KW_DAEMON_SCENE_CACHE
+  };
+  
+  /**
+   * La constante <b>APPLICATION_TYPE</b> correspond à un tablea de mots clé représentant le nom des applications reconnues par la classe <b>SConfiguration</b>.
+   */
+  public static final String[] APPLICATION_TYPE = { "none", "info", "console", "frame", "comparator", "coordinator", "worker", "daemon"};
+  
+  /**
+   * La constante <b>DEFAULT_CONFIG_FILE_NAME</b> correspond au nom du fichier de configuration par défaut étant égal à {@value}.
+   */
+	private static final String DEFAULT_CONFIG_FILE_NAME = "configuration.cfg";	
+		
+	/**
+   * La constante <b>DEFAULT_WRITE_SCENE</b> correspond au nom du fichier de scène qui sera en écriture par défaut étant égal à {@value}.
+   */
+  private static final String DEFAULT_WRITE_SCENE = "out.txt";
+  
+	/**
+	 * La constante <b>DEFAULT_READ_DATA_FILE_NAME</b> correspond au nom du fichier en lecture pour les données de l'application par la configuration par défaut étant égal à {@value}.
+	 */
+	private static final String DEFAULT_READ_DATA_FILE_NAME = "read_data_file_name.txt";	  
+	
+	/**
+	 * La constante <b>DEFAULT_WRITE_DATA_FILE_NAME</b> correspond au nom du ficher en écriture des données de l'application par la configuration par défaut étant égal à {@value}.
+	 */
+	private static final String DEFAULT_WRITE_DATA_FILE_NAME = "write_data_file_name.txt";	
+	
+	/**
+	 * La constante <b>DEFAULT_DISTRIBUTED_HOST</b> correspond au nom de l'ordinateur du coordonnateur d'un rendu distribué par défaut étant égal à {@value}.
+	 */
+	private static final String DEFAULT_DISTRIBUTED_HOST = "localhost";
+	
+	/**
+	 * La constante <b>DEFAULT_DISTRIBUTED_PORT</b> correspond au port du coordonnateur d'un rendu distribué par défaut étant égal à {@value}.
+	 */
+	private static final int DEFAULT_DISTRIBUTED_PORT = 5050;
+	
+	/**
+	 * La constante <b>DEFAULT_DISTRIBUTED_TILE_SIZE</b> correspond à la taille (en pixels) des tuiles d'un rendu distribué par défaut étant égale à {@value}.
+	 */
+	private static final int DEFAULT_DISTRIBUTED_TILE_SIZE = 32;
+	
+	/**
+	 * La constante <b>DEFAULT_DISTRIBUTED_TIMEOUT</b> correspond au délai (en secondes) par défaut au-delà duquel un processus de rendu 
+	 * ne répondant pas est considéré en panne étant égal à {@value}.
+	 */
+	private static final double DEFAULT_DISTRIBUTED_TIMEOUT = 300.0;
+	
+	/**
+	 * La constante <b>DEFAULT_DISTRIBUTED_BIND</b> correspond à l'adresse de l'interface réseau où le coordonnateur ouvre son port par défaut
+	 * (interface locale seulement) étant égale à {@value}.
+	 */
+	private static final String DEFAULT_DISTRIBUTED_BIND = "127.0.0.1";
+	
+	/**
+	 * La constante <b>DEFAULT_DAEMON_PORT</b> correspond au port du service de rendu par défaut étant égal à {@value}.
+	 */
+	private static final int DEFAULT_DAEMON_PORT = 5060;
+	
+	/**
+	 * La constante <b>DEFAULT_DAEMON_SCENE_CACHE</b> correspond au nombre de scènes conservées en mémoire par le service de rendu par défaut étant égal à {@value}.
+	 */
+	private static final int DEFAULT_DAEMON_SCENE_CACHE = 4;
+	
+	//-------------
+	// VARIABLES //
+	//-------------
+	
+	/**
+	 * La variable <b>config_file_name</b> correspond au nom du fichier de configuration.
+	 */
+	private final String config_file_name;		
+	
+	/**
+	 * La variable <b>read_data_file_name<b> correspond au nom du fichier qui sera lu par la configuration pour définir les données de l'application.
+	 */
+	private String read_data_file_name;			
+	
+	/**
+	 * La varialbe <b>write_data_file_name</b> correspond au nom du fichier qui sera écrit par la configuration pour sauvegarder les données de l'application en format texte.
+	 */
+	private String write_data_file_name;		
+	
+	/**
+	 * La variable <b>application_type</b> correspond à un code de référence définissant l'application qui sera lancée par la configuration.
+	 */
+	private int application_type;	         
+	
+	/**
+	 * La variable <b>watch_scene</b> détermine si le fichier de scène et ses ressources (modèles et textures) seront surveillés 
+	 * afin de refaire le rendu à chaque modification (rechargement à chaud).
+	 */
+	private boolean watch_scene;
+	
+	/**
+	 * La variable <b>distributed_host</b> correspond au nom de l'ordinateur du coordonnateur auquel se connecte un processus de rendu (application "worker").
+	 */
+	private String distributed_host;
+	
+	/**
+	 * La variable <b>distributed_port</b> correspond au port du coordonnateur d'un rendu distribué (0 pour un port choisi par le système).
+	 */
+	private int distributed_port;
+	
+	/**
+	 * La variable <b>distributed_local_workers</b> correspond au nombre de processus de rendu lancés sur l'ordinateur du coordonnateur.
+	 */
+	private int distributed_local_workers;
+	
+	/**
+	 * La variable <b>distributed_tile_size</b> correspond à la taille (en pixels) des tuiles distribuées aux processus de rendu.
+	 */
+	private int distributed_tile_size;
+	
+	/**
+	 * La variable <b>distributed_timeout</b> correspond au délai (en secondes) au-delà duquel un processus de rendu ne répondant pas est considéré en panne.
+	 */
+	private double distributed_timeout;
+	
+	/**
+	 * La variable <b>distributed_secret</b> correspond au secret partagé entre le coordonnateur et les processus de rendu (vide pour aucun secret).
+	 */
+	private String distributed_secret;
+	
+	/**
+	 * La variable <b>distributed_bind</b> correspond à l'adresse de l'interface réseau où le coordonnateur ouvre son port (ex. 0.0.0.0 pour toutes les interfaces).
+	 */
+	private String distributed_bind;
+	
+	/**
+	 * La variable <b>daemon_port</b> correspond au port local sur lequel le service de rendu (application "daemon") reçoit les requêtes.
+	 */
+	private int daemon_port;
+	
+	/**
+	 * La variable <b>daemon_scene_cache</b> correspond au nombre de scènes construites conservées en mémoire par le service de rendu.
+	 */
+	private int daemon_scene_cache;
+	
+	//----------------
+	// CONSTRUCTEUR //
+	//----------------
+	
+	/**
+	 * Constructeur de la configuration du programme par défaut.
+	 * Le nom du fichier sera <b>"configuration.cfg"</b>.
+	 * Ce fichier ne sera pas lu, car le constructeur par défaut propose ses propres valeurs. 
+   */
+	public SConfiguration()
+	{
+	  config_file_name = DEFAULT_CONFIG_FILE_NAME;
+	  read_data_file_name =  SScene.DEFAULT_SCENE_FILE_NAME;
+    write_data_file_name = DEFAULT_WRITE_SCENE;
+    application_type = 1;   // application de type "info"
+    watch_scene = false;
+    
+    distributed_host = DEFAULT_DISTRIBUTED_HOST;
+    distributed_port = DEFAULT_DISTRIBUTED_PORT;
+    distributed_local_workers = 0;
+    distributed_tile_size = DEFAULT_DISTRIBUTED_TILE_SIZE;
+    distributed_timeout = DEFAULT_DISTRIBUTED_TIMEOUT;
+    distributed_secret = "";
+    distributed_bind = DEFAULT_DISTRIBUTED_BIND;
+    
+    daemon_port = DEFAULT_DAEMON_PORT;
+    daemon_scene_cache = DEFAULT_DAEMON_SCENE_CACHE;
+	}
+	
+	/**
+	 * Constructeur de la configuration du programme avec le nom de configuration.
+	 * 
+	 * @param file_name - Le nom du fichier de configuration.
+	 * @throws FileNotFoundException Si le fichier de lecture n'a pas été trouvé.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   * @throws SConstructorException Si le nom du ficher de scène a été trouvé sous plusieurs versions.
+   */
+	public SConfiguration(String file_name) throws FileNotFoundException, SConstructorException, IOException
+	{
+		config_file_name = file_name;
+		
+		read_data_file_name =  DEFAULT_READ_DATA_FILE_NAME;
+		write_data_file_name = DEFAULT_WRITE_DATA_FILE_NAME;
+		
+		application_type = 0;   //application de type "none"
+		watch_scene = false;
+		
+		distributed_host = DEFAULT_DISTRIBUTED_HOST;
+		distributed_port = DEFAULT_DISTRIBUTED_PORT;
+		distributed_local_workers = 0;
+		distributed_tile_size = DEFAULT_DISTRIBUTED_TILE_SIZE;
+		distributed_timeout = DEFAULT_DISTRIBUTED_TIMEOUT;
+		distributed_secret = "";
+		distributed_bind = DEFAULT_DISTRIBUTED_BIND;
+		
+		daemon_port = DEFAULT_DAEMON_PORT;
+		daemon_scene_cache = DEFAULT_DAEMON_SCENE_CACHE;
+		
+		//Trouver le fichier à partir du répertoire où l'exécution de l'application est réalisée
+    SFileSearch search = new SFileSearch("", file_name);
+    
+    if(!search.isFileFound())
+      throw new FileNotFoundException("Erreur SConfiguration 001 : Le fichier '" + file_name + "' n'est pas trouvé.");
+    
+    if(search.isManyFileFound())
+      throw new SConstructorException("Erreur SConfiguration 002 : Le fichier '" + file_name + "' a été trouvé plus d'une fois dans les différents sous-répertoires. Veuillez en garder qu'une seule version.");
+    
+    //Lecture de la scène à partir d'un fichier
+    FileReader fr = new FileReader(search.getFileFoundList().get(0));
+    SBufferedReader sbr = new SBufferedReader(fr);
+    
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      //Les trois points sont colinéaire ce qui ne permet pas de définir une normale à la surface au triangle. 
+      throw new SConstructorException("Erreur SConfiguration 003 : Une erreur est survenue lors de l'initialisation." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);  
+    }
+    
+    sbr.close();
+    fr.close();
+	}
+	
+	//------------
+	// MÉTHODES //
+	//------------
+	
+	/**
+	 * Méthode pour obtenir le nom du fichier en lecture du data.
+	 * 
+	 * @return Le nom du fichier en lecture du data.
+	 */
+	public String getReadDataFileName()
+	{ 
+	  return read_data_file_name;
+	}
+		
+	/**
+	 * Méthode pour obtenir le nom du fichier en écriture du data.
+	 * 
+	 * @return Le nom du fichier.
+	 */
+	public String getWriteDataFileName()
+	{ 
+	  return write_data_file_name;
+	}
+	
+	/**
+	 * Méthode pour obtenir le type d'application devant être construite selon la configuration.
+	 * 
+	 * @return Le code associé au type de configuration.
+	 */
+	public int getApplicationType()
+	{
+	  return application_type;
+	}
+	
+	/**
+	 * Méthode pour déterminer si le fichier de scène doit être surveillé afin de refaire le rendu à chaque modification.
+	 * 
+	 * @return <b>true</b> si la scène est surveillée et <b>false</b> sinon.
+	 */
+	public boolean isWatchScene()
+	{
+	  return watch_scene;
+	}
+	
+	/**
+	 * Méthode pour obtenir le nom de l'ordinateur du coordonnateur d'un rendu distribué.
+	 * 
+	 * @return Le nom de l'ordinateur du coordonnateur.
+	 */
+	public String getDistributedHost()
+	{
+	  return distributed_host;
+	}
+	
+	/**
+	 * Méthode pour obtenir le port du coordonnateur d'un rendu distribué.
+	 * 
+	 * @return Le port du coordonnateur.
+	 */
+	public int getDistributedPort()
+	{
+	  return distributed_port;
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre de processus de rendu lancés sur l'ordinateur du coordonnateur.
+	 * 
+	 * @return Le nombre de processus de rendu locaux.
+	 */
+	public int getDistributedLocalWorkers()
+	{
+	  return distributed_local_workers;
+	}
+	
+	/**
+	 * Méthode pour obtenir la taille (en pixels) des tuiles d'un rendu distribué.
+	 * 
+	 * @return La taille des tuiles.
+	 */
+	public int getDistributedTileSize()
+	{
+	  return distributed_tile_size;
+	}
+	
+	/**
+	 * Méthode pour obtenir le délai (en secondes) au-delà duquel un processus de rendu ne répondant pas est considéré en panne.
+	 * 
+	 * @return Le délai en secondes.
+	 */
+	public double getDistributedTimeout()
+	{
+	  return distributed_timeout;
+	}
+	
+	/**
+	 * Méthode pour obtenir le secret partagé entre le coordonnateur et les processus de rendu.
+	 * 
+	 * @return Le secret partagé (vide pour aucun secret).
+	 */
+	public String getDistributedSecret()
+	{
+	  return distributed_secret;
+	}
+	
+	/**
+	 * Méthode pour obtenir l'adresse de l'interface réseau où le coordonnateur ouvre son port.
+	 * 
+	 * @return L'adresse de l'interface réseau.
+	 */
+	public String getDistributedBind()
+	{
+	  return distributed_bind;
+	}
+	
+	/**
+	 * Méthode pour obtenir le port local du service de rendu.
+	 * 
+	 * @return Le port du service de rendu.
+	 */
+	public int getDaemonPort()
+	{
+	  return daemon_port;
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre de scènes construites conservées en mémoire par le service de rendu.
+	 * 
+	 * @return Le nombre de scènes conservées.
+	 */
+	public int getDaemonSceneCache()
+	{
+	  return daemon_scene_cache;
+	}
+	
+	@Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException
+  {
+    switch(code)
+    {
+      case SKeyWordDecoder.CODE_READ_SCENE : 
+      case SKeyWordDecoder.CODE_READ_DATA :  read_data_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_READ_DATA); return true;           
+                              
+      case SKeyWordDecoder.CODE_WRITE_SCENE : 
+      case SKeyWordDecoder.CODE_WRITE_DATA : write_data_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_WRITE_DATA); return true;        
+      
+      case SKeyWordDecoder.CODE_LOG_FILE_NAME : try{
+                                                  SLog.setLogFileName(readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_LOG_FILE_NAME)); 
+                                                }catch(SRuntimeException e){
+                                                  throw new SReadingException("Erreur SConfiguration 004 : Le nom du fichier de log n'est pas adéquat." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+                                                }
+                                                return true;   
+        
+      case SKeyWordDecoder.CODE_LOG_CONSOLE : SLog.setConsoleLog(readTrueFalseExpressionOrInt(remaining_line, SKeyWordDecoder.KW_LOG_CONSOLE)); return true;
+        
+      case SKeyWordDecoder.CODE_LOG_FILE : SLog.setFileLog(readTrueFalseExpressionOrInt(remaining_line, SKeyWordDecoder.KW_LOG_FILE)); return true; 
+        
+      case SKeyWordDecoder.CODE_VIEWPORT_IMAGE_COUNT :  try{
+                                                          SViewport.setImageCounter(readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT));
+                                                        }catch(SRuntimeException e){
+                                                          throw new SReadingException("Erreur SConfiguration 005 : Le nombre en affectation à la numérotation des images du viewport n'est pas adéquat." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);   
+                                                        }
+                                                        return true;
+      
+      case SKeyWordDecoder.CODE_WATCH_SCENE : watch_scene = readTrueFalseExpressionOrInt(remaining_line, SKeyWordDecoder.KW_WATCH_SCENE); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_HOST : distributed_host = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_HOST); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_PORT : distributed_port = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_PORT); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_LOCAL_WORKERS : distributed_local_workers = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_LOCAL_WORKERS); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_TILE_SIZE : distributed_tile_size = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_TILE_SIZE); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_TIMEOUT : distributed_timeout = readDoubleGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_TIMEOUT); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_SECRET : distributed_secret = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_SECRET); return true;
+      
+      case SKeyWordDecoder.CODE_DISTRIBUTED_BIND : distributed_bind = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_DISTRIBUTED_BIND); return true;
+      
+      case SKeyWordDecoder.CODE_DAEMON_PORT : daemon_port = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DAEMON_PORT); return true;
+      
+      case SKeyWordDecoder.CODE_DAEMON_SCENE_CACHE : daemon_scene_cache = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_DAEMON_SCENE_CACHE); return true;
+      
+      case SKeyWordDecoder.CODE_APPLICATION : application_type = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_APPLICATION, APPLICATION_TYPE); return true;
+      
+      default : return false;
+    }
+  }
+  
+	/**
+	 * Méthode pour écrire le fichier de configuration.
+	 */
+	public void writeFile()
+	{
+		try{
+		  
+			FileWriter fw = new FileWriter(config_file_name);
+			BufferedWriter bw = new BufferedWriter(fw);
+			
+			bw.write(SKeyWordDecoder.KW_APPLICATION);
+			bw.write("\t");
+			bw.write(APPLICATION_TYPE[application_type]);
+			bw.write(SStringUtil.END_LINE_CARACTER);
+			
+			bw.write(SKeyWordDecoder.KW_READ_DATA);
+			bw.write("\t\t");
+			bw.write(read_data_file_name);
+			bw.write(SStringUtil.END_LINE_CARACTER);
+			
+			bw.write(SKeyWordDecoder.KW_WRITE_DATA);
+			bw.write("\t\t");
+			bw.write(write_data_file_name);
+			bw.write(SStringUtil.END_LINE_CARACTER);
+			
+			bw.write(SKeyWordDecoder.KW_WATCH_SCENE);
+			bw.write("\t\t");
+			bw.write(Boolean.toString(watch_scene));
+			bw.write(SStringUtil.END_LINE_CARACTER);
+			
+			// Paramètres du rendu distribué (applications "coordinator" et "worker")
+			if(application_type == 5 || application_type == 6)
+			{
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_HOST);
+			  bw.write("\t");
+			  bw.write(distributed_host);
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_PORT);
+			  bw.write("\t");
+			  bw.write(Integer.toString(distributed_port));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_LOCAL_WORKERS);
+			  bw.write("\t");
+			  bw.write(Integer.toString(distributed_local_workers));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_TILE_SIZE);
+			  bw.write("\t");
+			  bw.write(Integer.toString(distributed_tile_size));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_TIMEOUT);
+			  bw.write("\t");
+			  bw.write(Double.toString(distributed_timeout));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DISTRIBUTED_BIND);
+			  bw.write("\t");
+			  bw.write(distributed_bind);
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  if(!distributed_secret.isEmpty())
+			  {
+			    bw.write(SKeyWordDecoder.KW_DISTRIBUTED_SECRET);
+			    bw.write("\t");
+			    bw.write(distributed_secret);
+			    bw.write(SStringUtil.END_LINE_CARACTER);
+			  }
+			}
+			
+			// Paramètres du service de rendu (application "daemon")
+			if(application_type == 7)
+			{
+			  bw.write(SKeyWordDecoder.KW_DAEMON_PORT);
+			  bw.write("\t\t");
+			  bw.write(Integer.toString(daemon_port));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			  
+			  bw.write(SKeyWordDecoder.KW_DAEMON_SCENE_CACHE);
+			  bw.write("\t");
+			  bw.write(Integer.toString(daemon_scene_cache));
+			  bw.write(SStringUtil.END_LINE_CARACTER);
+			}
+			
+			//Écrire les propriétés static de la classe SLog
+			SLog.staticWrite(bw);
+			
+			//Écrire les propriétés static de la classe SViewport
+			SViewport.staticWrite(bw);
+			
+			bw.close();     //  fermer celui-ci en premier, sinon, ERROR !!!
+			fw.close();
+			
+		}catch(IOException ioe){
+			ioe.printStackTrace();
+		}
+	}
+	
+	/**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   * 
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+	private void initialize() throws SInitializationException
+  {
+   
+  }
+	
+	@Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+	
+	@Override
+  public String getReadableName()
+  {
+	  throw new SNoImplementationException("Erreur SConfiguration 006 : Cette méthode ne retourne pas de mot clé, car cet objet ne peut pas être construit par l'appel d'un mot clé.");
+  }
+  
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+    
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+  
+}//fin de la classe SConfiguration
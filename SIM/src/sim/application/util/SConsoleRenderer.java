@@ -1,109 +1,311 @@
-/**
- * 
- */
-package sim.application.util;
-
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import sim.exception.SConstructorException;
-import sim.geometry.space.SAbstractGeometrySpace;
-import sim.graphics.SRaytracer;
-import sim.graphics.SScene;
-import sim.util.SChronometer;
-import sim.util.SLog;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SConsoleRenderer</b> reprsente une console permettant de gnrer une image par 
- * calcul de <i>ray tracing</i>  partir d'un fichier de configuration. 
- * 
- * @author Simon Vzina
- * @since 2015-08-23
- * @version 2016-01-01
- */
-public class SConsoleRenderer {
-
-  /**
-   * Mthode pour lancer l'application du ray tracer en format "console".
-   * @param config - La configuration de l'application.
-   */
-  public static void raytrace(SConfiguration config)
-  {
-    try
-    {
-      SChronometer chrono = new SChronometer();
-      
-      //Lecture de la scne
-      chrono.start();
-      SLog.logWriteLine("Message SConsoleRenderer : Lecture de la scne '" + config.getReadDataFileName() + "'.");
-      
-      SScene scene = new SScene(config.getReadDataFileName());
-        
-      chrono.stop();
-      SLog.logWriteLine("Message SConsoleRenderer : Fin de la lecture de la scne.");
-      SLog.logWriteLine("Message SConsoleRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("");
-      
-      // Dbut du ray tracing
-      SLog.logWriteLine("Message SConsoleRenderer : Dbut du raytracing.");
-      
-      chrono.start();
-      
-      // Construction du raytracer
-      SRaytracer raytracer = scene.buildRaytracer();
-      
-      // Afficher une ligne de "-" afin de mieux visualiser la progression du ray tracing
-      for(int i=0; i<101; i++)
-        SLog.logWrite("_");
-      SLog.logWriteLine();
-      
-      // Effectuer le ray tracing avec affichage "."  chaque 1% complt
-      int pixels = raytracer.nbPixels();
-      int pack = pixels / 100;
-      
-      for(int i=0; i<101; i++)
-      {
-        //Calcul du ray tracing
-        raytracer.raytrace(pack);  //calcul pour une groupe de 1% des pixels
-        
-        SLog.logWrite(".");        //criture du caractre "."  chaque 1% de complt
-      }
-      
-      chrono.stop();
-      
-      SLog.logWriteLine();
-      SLog.logWriteLine();
-      SLog.logWriteLine("Message SConsoleRenderer : Fin du raytracing.");
-      SLog.logWriteLine("Message SConsoleRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("Message SConsoleRenderer : Nombre de tests d'intersection raliss : " + SAbstractGeometrySpace.getIntersectionTestCount() + " tests.");
-      SLog.logWriteLine();
-      
-      //criture de l'image
-      chrono.start();
-      SLog.logWriteLine("Message SConsoleRenderer : criture de l'image.");
-      
-      scene.getViewport().writeImage();
-      
-      chrono.stop();
-      SLog.logWriteLine("Message SConsoleRenderer : Fin de l'criture de l'image.");
-      SLog.logWriteLine("Message SConsoleRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("");
-      
-      //criture de la scne
-      scene.write(config.getWriteDataFileName());
-    
-    }catch(FileNotFoundException e){       
-      SLog.logWriteLine("Message SConsoleRenderer : Une erreur de type FileNotFoundException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage()); 
-    }catch(SConstructorException e){
-      SLog.logWriteLine("Message SConsoleRenderer : Une erreur de type SConstructorException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage()); 
-      e.printStackTrace();
-    }catch(IOException e){                 
-      // Exception lance s'il y a un problme en mmoire lors de la lecture/criture d'un fichier             
-      e.printStackTrace();                                               
-    }
-    
-    SLog.logWriteLine("Message SConsoleRenderer : Fin de l'application."); 
-  }
-
-}//fin de la classe SConsoleRenderer
+/**
+ * 
+ */
+package sim.application.util;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import sim.exception.SConstructorException;
+import sim.geometry.space.SAbstractGeometrySpace;
+import sim.graphics.SAnimation;
+import sim.graphics.SCamera;
+import sim.graphics.SMultiViewRaytracer;
+import sim.graphics.SRaytracer;
+import sim.graphics.SScene;
+import sim.graphics.SView;
+import sim.graphics.SViewport;
+import sim.graphics.light.SAbstractInterferenceLight;
+import sim.graphics.light.SIntensityCache;
+import sim.graphics.light.SLight;
+import sim.util.SChronometer;
+import sim.util.SLog;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SConsoleRenderer</b> représente une console permettant de générer une image par 
+ * calcul de <i>ray tracing</i> à partir d'un fichier de configuration. 
+ * 
+ * @author Simon Vézina
+ * @since 2015-08-23
+ * @version 2017-02-14
+ */
+public class SConsoleRenderer {
+
+  /**
+   * Méthode pour lancer l'application du ray tracer en format "console".
+   * @param config - La configuration de l'application.
+   */
+  public static void raytrace(SConfiguration config)
+  {
+    try
+    {
+      SChronometer chrono = new SChronometer();
+      
+      //Lecture de la scène
+      chrono.start();
+      SLog.logWriteLine("Message SConsoleRenderer : Lecture de la scène '" + config.getReadDataFileName() + "'.");
+      
+      SScene scene = new SScene(config.getReadDataFileName());
+        
+      chrono.stop();
+      SLog.logWriteLine("Message SConsoleRenderer : Fin de la lecture de la scène.");
+      SLog.logWriteLine("Message SConsoleRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("");
+      
+      // Rendu d'une séquence d'images
+      if(scene.getAnimation() != null)
+      {
+        raytraceAnimation(scene);
+        scene.write(config.getWriteDataFileName());
+        
+        SLog.logWriteLine("Message SConsoleRenderer : Fin de l'application.");
+        return;
+      }
+      
+      // Rendu de plusieurs vues de la scène
+      if(!scene.getViewList().isEmpty())
+      {
+        raytraceViews(scene);
+        scene.write(config.getWriteDataFileName());
+        
+        SLog.logWriteLine("Message SConsoleRenderer : Fin de l'application.");
+        return;
+      }
+      
+      // Début du ray tracing
+      SLog.logWriteLine("Message SConsoleRenderer : Début du raytracing.");
+      
+      chrono.start();
+      
+      // Construction du raytracer
+      SRaytracer raytracer = scene.buildRaytracer();
+      
+      // Afficher une ligne de "-" afin de mieux visualiser la progression du ray tracing
+      for(int i=0; i<101; i++)
+        SLog.logWrite("_");
+      SLog.logWriteLine();
+      
+      // Effectuer le ray tracing avec affichage "." à chaque 1% complété
+      int pixels = raytracer.nbPixels();
+      int pack = pixels / 100;
+      
+      for(int i=0; i<101; i++)
+      {
+        //Calcul du ray tracing
+        raytracer.raytrace(pack);  //calcul pour une groupe de 1% des pixels
+        
+        SLog.logWrite(".");        //écriture du caractère "." à chaque 1% de complété
+      }
+      
+      chrono.stop();
+      
+      SLog.logWriteLine();
+      SLog.logWriteLine();
+      SLog.logWriteLine("Message SConsoleRenderer : Fin du raytracing.");
+      SLog.logWriteLine("Message SConsoleRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("Message SConsoleRenderer : Nombre de tests d'intersection réalisés : " + SAbstractGeometrySpace.getIntersectionTestCount() + " tests.");
+      
+      // Statistiques des caches d'intensité des sources de lumière avec interférence
+      for(SLight light : scene.getLightList())
+        if(light instanceof SAbstractInterferenceLight && ((SAbstractInterferenceLight)light).getIntensityCache() != null)
+        {
+          SAbstractInterferenceLight interference_light = (SAbstractInterferenceLight)light;
+          SIntensityCache cache = interference_light.getIntensityCache();
+          
+          SLog.logWriteLine("Message SConsoleRenderer : Cache d'intensité (" + interference_light.getReadableName() + ") : " + cache.getHitCount() + " succès sur " + cache.getQueryCount() 
+              + " demandes (" + Math.round(cache.getHitRate()*100) + " %), " + cache.getEvaluationCount() + " évaluations, " + cache.size() + " cellules.");
+        }
+      SLog.logWriteLine();
+      
+      //Écriture de l'image
+      chrono.start();
+      SLog.logWriteLine("Message SConsoleRenderer : Écriture de l'image.");
+      
+      scene.getViewport().writeImage();
+      
+      chrono.stop();
+      SLog.logWriteLine("Message SConsoleRenderer : Fin de l'écriture de l'image.");
+      SLog.logWriteLine("Message SConsoleRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("");
+      
+      //Écriture de la scène
+      scene.write(config.getWriteDataFileName());
+    
+    }catch(FileNotFoundException e){       
+      SLog.logWriteLine("Message SConsoleRenderer : Une erreur de type FileNotFoundException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage()); 
+    }catch(SConstructorException e){
+      SLog.logWriteLine("Message SConsoleRenderer : Une erreur de type SConstructorException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage()); 
+      e.printStackTrace();
+    }catch(IOException e){                 
+      // Exception lancée s'il y a un problème en mémoire lors de la lecture/écriture d'un fichier             
+      e.printStackTrace();                                               
+    }
+    
+    SLog.logWriteLine("Message SConsoleRenderer : Fin de l'application."); 
+  }
+  
+  /**
+   * Méthode pour faire le rendu de chaque image de l'animation de la scène. La scène, ses ressources et son espace des géométries
+   * sont construits une seule fois pour l'ensemble des images. L'écriture d'une image est réalisée par une autre tâche 
+   * pendant le rendu de l'image suivante (au plus une image est en attente d'écriture).
+   * 
+   * @param scene - La scène.
+   * @throws IOException S'il y a une erreur lors de l'écriture d'une image ou si l'animation comprend trop d'images pour leur numérotation.
+   * @throws SConstructorException Si la caméra d'une image ne peut pas être construite.
+   */
+  private static void raytraceAnimation(SScene scene) throws IOException, SConstructorException
+  {
+    SAnimation animation = scene.getAnimation();
+    SViewport viewport = scene.getViewport();
+    
+    int nb_frame = animation.getFrameCount();
+    int nb_pixel = viewport.getWidth() * viewport.getHeight();
+    
+    // Le numéro des fichiers image revient à 0 après 999 : les premières images seraient remplacées
+    if(nb_frame > SViewport.getNbAvailableImage())
+      throw new IOException("Erreur SConsoleRenderer 003 : Les " + nb_frame + " images de l'animation ne peuvent pas être numérotées sans remplacer des images précédentes (" + SViewport.getNbAvailableImage() + " numéros disponibles).");
+    
+    // Un rendu interrompu ne peut pas être repris à une image de l'animation
+    viewport.setCheckpointFile(null);
+    
+    // En écriture continue, l'image est écrite pendant son rendu
+    boolean pipelined = viewport.getStreamingOutput() == SViewport.NO_STREAMING;
+    
+    ExecutorService writer = Executors.newSingleThreadExecutor();
+    Future<?> previous_write = null;
+    
+    SLog.logWriteLine("Message SConsoleRenderer : Début du raytracing de l'animation (" + nb_frame + " images).");
+    
+    SChronometer chrono = new SChronometer();
+    chrono.start();
+    
+    try{
+      
+      for(int frame = 0; frame < nb_frame; frame++)
+      {
+        SChronometer frame_chrono = new SChronometer();
+        frame_chrono.start();
+        
+        // L'espace des géométries de la scène est réutilisé pour chaque image
+        SCamera camera = animation.getCamera(scene.getCamera(), frame);
+        SRaytracer raytracer = scene.buildRaytracer(camera, viewport);
+        
+        viewport.clear();
+        
+        while(viewport.hasNextPixel())
+          raytracer.raytrace(nb_pixel);
+        
+        if(pipelined)
+        {
+          final BufferedImage image = viewport.copyBufferedImage();
+          final File file = viewport.nextImageFile();
+          
+          waitWrite(previous_write);
+          
+          previous_write = writer.submit(() -> ImageIO.write(image, "png", file));
+        }
+        else
+          viewport.writeImage();
+        
+        frame_chrono.stop();
+        SLog.logWriteLine("Message SConsoleRenderer : Image " + (frame + 1) + " / " + nb_frame + " (" + frame_chrono.getTime() + " s).");
+      }
+      
+      waitWrite(previous_write);
+      
+    }finally{
+      writer.shutdown();
+    }
+    
+    chrono.stop();
+    
+    SLog.logWriteLine("Message SConsoleRenderer : Fin du raytracing de l'animation.");
+    SLog.logWriteLine("Message SConsoleRenderer : Durée : " + chrono.getTime() + " s.");
+    SLog.logWriteLine("");
+  }
+  
+  /**
+   * Méthode pour faire le rendu des vues de la scène. La scène, ses ressources et son espace des géométries 
+   * sont construits une seule fois et les tuiles de l'ensemble des vues sont évaluées par un seul exécuteur.
+   * 
+   * @param scene - La scène.
+   * @throws IOException S'il y a une erreur lors de l'écriture d'une image.
+   * @throws SConstructorException Si le raytracer des vues ne peut pas être construit.
+   */
+  private static void raytraceViews(SScene scene) throws IOException, SConstructorException
+  {
+    // Un rendu interrompu ne peut pas être repris pour une vue
+    for(SView view : scene.getViewList())
+      view.getViewport().setCheckpointFile(null);
+    
+    SLog.logWriteLine("Message SConsoleRenderer : Début du raytracing des vues (" + scene.getViewList().size() + " vues).");
+    
+    SChronometer chrono = new SChronometer();
+    chrono.start();
+    
+    SMultiViewRaytracer raytracer = scene.buildMultiViewRaytracer();
+    
+    // Afficher une ligne de "-" afin de mieux visualiser la progression du ray tracing
+    for(int i=0; i<101; i++)
+      SLog.logWrite("_");
+    SLog.logWriteLine();
+    
+    // Effectuer le ray tracing avec affichage "." à chaque 1% complété
+    int pack = raytracer.nbPixels() / 100;
+    
+    for(int i=0; i<101; i++)
+    {
+      raytracer.raytrace(pack);
+      SLog.logWrite(".");
+    }
+    
+    // Terminer les tuiles restantes
+    raytracer.raytrace();
+    
+    chrono.stop();
+    
+    SLog.logWriteLine();
+    SLog.logWriteLine();
+    SLog.logWriteLine("Message SConsoleRenderer : Fin du raytracing des vues (" + raytracer.getNbTile() + " tuiles).");
+    SLog.logWriteLine("Message SConsoleRenderer : Durée : " + chrono.getTime() + " s.");
+    SLog.logWriteLine("Message SConsoleRenderer : Nombre de tests d'intersection réalisés : " + SAbstractGeometrySpace.getIntersectionTestCount() + " tests.");
+    SLog.logWriteLine();
+    
+    //Écriture des images
+    for(SView view : scene.getViewList())
+      view.getViewport().writeImage();
+    
+    SLog.logWriteLine("Message SConsoleRenderer : Fin de l'écriture des images.");
+    SLog.logWriteLine("");
+  }
+  
+  /**
+   * Méthode pour attendre la fin de l'écriture d'une image.
+   * 
+   * @param write - L'écriture de l'image (<b>null</b> s'il n'y en a pas).
+   * @throws IOException Si l'écriture de l'image a échoué ou a été interrompue.
+   */
+  private static void waitWrite(Future<?> write) throws IOException
+  {
+    if(write == null)
+      return;
+    
+    try{
+      write.get();
+    }catch(InterruptedException e){
+      throw new IOException("Erreur SConsoleRenderer 001 : L'écriture d'une image a été interrompue.", e);
+    }catch(ExecutionException e){
+      throw new IOException("Erreur SConsoleRenderer 002 : L'écriture d'une image est impossible." + SStringUtil.END_LINE_CARACTER + "\t" + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+}//fin de la classe SConsoleRenderer
@@ -0,0 +1,893 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.graphics.SColor;
+import sim.graphics.SScene;
+import sim.graphics.SViewport;
+import sim.util.SChronometer;
+import sim.util.SLog;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SDistributedRenderer</b> représente le coordonnateur d'un rendu distribué. Le viewport de la scène est découpé en tuiles
+ * qui sont distribuées à des processus de rendu (<b>SDistributedWorker</b>) connectés par socket. Chaque processus calcule
+ * les tuiles reçues et retourne la couleur de leurs pixels au coordonnateur qui assemble l'image.
+ * </p>
+ *
+ * <p>
+ * Le fichier de scène n'est pas transmis : chaque processus de rendu lit la scène (ainsi que ses modèles et ses textures)
+ * à partir de son propre répertoire d'exécution (système de fichiers partagé). Le coordonnateur transmet le nom de la scène
+ * et l'empreinte (SHA-256) de son contenu afin qu'un processus ne calcule jamais une version différente de la scène.
+ * </p>
+ *
+ * <p>
+ * Un processus de rendu doit prouver qu'il connaît le secret partagé du rendu avant de recevoir la scène : le coordonnateur lui transmet
+ * un défi aléatoire auquel il répond par le code d'authentification (HMAC-SHA256) du défi. Le secret n'est jamais transmis.
+ * </p>
+ *
+ * <p>
+ * Le coordonnateur gère également les processus lents et les pannes :
+ * <ul>- Une tuile dont le processus est en panne (connexion perdue ou délai dépassé) est redistribuée à un autre processus.</ul>
+ * <ul>- Lorsqu'il n'y a plus de tuile à distribuer, une tuile dont le calcul est anormalement long est dupliquée sur un processus libre.
+ *       Le premier résultat reçu est conservé.</ul>
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SDistributedRenderer {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>MAGIC</b> correspond à l'identifiant du protocole de communication ("SIMD").
+   */
+  static final int MAGIC = 0x53494D44;
+
+  /**
+   * La constante <b>VERSION</b> correspond à la version du protocole de communication étant égale à {@value}.
+   */
+  static final int VERSION = 2;
+
+  /**
+   * La constante <b>SCENE</b> correspond au message du coordonnateur transmettant le nom et l'empreinte de la scène étant égal à {@value}.
+   */
+  static final int SCENE = 1;
+
+  /**
+   * La constante <b>READY</b> correspond au message d'un processus de rendu ayant construit la scène étant égal à {@value}.
+   */
+  static final int READY = 2;
+
+  /**
+   * La constante <b>TILE</b> correspond au message du coordonnateur attribuant une tuile à calculer étant égal à {@value}.
+   */
+  static final int TILE = 3;
+
+  /**
+   * La constante <b>RESULT</b> correspond au message d'un processus de rendu retournant la couleur des pixels d'une tuile étant égal à {@value}.
+   */
+  static final int RESULT = 4;
+
+  /**
+   * La constante <b>END</b> correspond au message du coordonnateur terminant le rendu étant égal à {@value}.
+   */
+  static final int END = 5;
+
+  /**
+   * La constante <b>ERROR</b> correspond au message d'un processus de rendu n'ayant pas pu construire la scène étant égal à {@value}.
+   */
+  static final int ERROR = 6;
+
+  /**
+   * La constante <b>CHALLENGE</b> correspond au message du coordonnateur transmettant le défi d'authentification étant égal à {@value}.
+   */
+  static final int CHALLENGE = 7;
+
+  /**
+   * La constante <b>AUTH</b> correspond au message d'un processus de rendu répondant au défi d'authentification étant égal à {@value}.
+   */
+  static final int AUTH = 8;
+
+  /**
+   * La constante <b>CHALLENGE_SIZE</b> correspond au nombre d'octets du défi d'authentification étant égal à {@value}.
+   */
+  static final int CHALLENGE_SIZE = 32;
+
+  /**
+   * La constante <b>AUTH_SIZE</b> correspond au nombre d'octets de la réponse au défi d'authentification (HMAC-SHA256) étant égal à {@value}.
+   */
+  static final int AUTH_SIZE = 32;
+
+  /**
+   * La constante <b>SECRET_ENV</b> correspond à la variable d'environnement transmettant le secret partagé aux processus de rendu locaux
+   * (le secret n'apparaît pas dans la ligne de commande).
+   */
+  static final String SECRET_ENV = "SIM_DISTRIBUTED_SECRET";
+
+  /**
+   * La constante <b>STRAGGLER_FACTOR</b> correspond au facteur multipliant la durée moyenne du calcul d'une tuile
+   * au-delà duquel une tuile en cours de calcul est dupliquée étant égal à {@value}.
+   */
+  private static final double STRAGGLER_FACTOR = 3.0;
+
+  /**
+   * La constante <b>MAX_TILE_COPY</b> correspond au nombre maximal de processus calculant simultanément la même tuile étant égal à {@value}.
+   */
+  private static final int MAX_TILE_COPY = 2;
+
+  /**
+   * La constante <b>SCHEDULER_WAIT</b> correspond au délai (en millisecondes) entre deux recherches de tuiles à dupliquer étant égal à {@value}.
+   */
+  private static final long SCHEDULER_WAIT = 100;
+
+  /**
+   * La constante <b>END_WAIT</b> correspond au délai (en secondes) accordé aux processus de rendu locaux pour se terminer étant égal à {@value}.
+   */
+  private static final long END_WAIT = 10;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>viewport</b> correspond au viewport de la scène où l'image est assemblée.
+   */
+  private final SViewport viewport;
+
+  /**
+   * La variable <b>scene_file_name</b> correspond au nom du fichier de la scène.
+   */
+  private final String scene_file_name;
+
+  /**
+   * La variable <b>scene_hash</b> correspond à l'empreinte du contenu du fichier de la scène.
+   */
+  private final String scene_hash;
+
+  /**
+   * La variable <b>timeout</b> correspond au délai (en millisecondes) au-delà duquel un processus de rendu ne répondant pas est considéré en panne.
+   */
+  private final int timeout;
+
+  /**
+   * La variable <b>pending</b> correspond aux tuiles en attente d'être distribuées.
+   */
+  private final Deque<STile> pending;
+
+  /**
+   * La variable <b>running</b> correspond aux tuiles en cours de calcul.
+   */
+  private final Set<STile> running;
+
+  /**
+   * La variable <b>tile_count</b> correspond au nombre de tuiles de l'image.
+   */
+  private final int tile_count;
+
+  /**
+   * La variable <b>remaining</b> correspond au nombre de tuiles dont le résultat n'a pas encore été assemblé.
+   */
+  private int remaining;
+
+  /**
+   * La variable <b>completed_time</b> correspond à la somme des durées (en nanosecondes) de calcul des tuiles complétées.
+   */
+  private long completed_time;
+
+  /**
+   * La variable <b>completed_count</b> correspond au nombre de tuiles complétées.
+   */
+  private int completed_count;
+
+  /**
+   * La variable <b>redispatch_count</b> correspond au nombre de tuiles redistribuées suite à la panne d'un processus.
+   */
+  private int redispatch_count;
+
+  /**
+   * La variable <b>duplicate_count</b> correspond au nombre de tuiles dupliquées en raison d'un calcul anormalement long.
+   */
+  private int duplicate_count;
+
+  /**
+   * La variable <b>connected_count</b> correspond au nombre de processus de rendu présentement connectés au coordonnateur.
+   */
+  private int connected_count;
+
+  /**
+   * La variable <b>port</b> correspond au port du coordonnateur durant le rendu (0 si le rendu n'est pas débuté).
+   */
+  private volatile int port;
+
+  /**
+   * La variable <b>secret</b> correspond au secret partagé que doivent connaître les processus de rendu durant le rendu.
+   */
+  private volatile String secret;
+
+  /**
+   * La variable <b>random</b> correspond au générateur des défis d'authentification.
+   */
+  private final SecureRandom random;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un coordonnateur de rendu distribué.
+   *
+   * @param viewport - Le viewport de la scène.
+   * @param scene_file_name - Le nom du fichier de la scène.
+   * @param scene_hash - L'empreinte du contenu du fichier de la scène.
+   * @param tile_size - La taille (en pixels) des tuiles.
+   * @param timeout - Le délai (en secondes) au-delà duquel un processus de rendu ne répondant pas est considéré en panne.
+   * @throws SConstructorException Si la taille des tuiles ou le délai n'est pas positif.
+   */
+  public SDistributedRenderer(SViewport viewport, String scene_file_name, String scene_hash, int tile_size, double timeout) throws SConstructorException
+  {
+    if(tile_size < 1)
+      throw new SConstructorException("Erreur SDistributedRenderer 001 : La taille des tuiles '" + tile_size + "' doit être supérieure à 0.");
+
+    if(timeout <= 0.0)
+      throw new SConstructorException("Erreur SDistributedRenderer 002 : Le délai '" + timeout + "' doit être supérieur à 0.");
+
+    this.viewport = viewport;
+    this.scene_file_name = scene_file_name;
+    this.scene_hash = scene_hash;
+    this.timeout = (int)Math.min(Integer.MAX_VALUE, Math.ceil(timeout * 1000.0));
+
+    pending = new ArrayDeque<STile>();
+    running = new LinkedHashSet<STile>();
+
+    // Tuiles en ordre de rangée (compatible avec l'écriture continue de l'image)
+    int id = 0;
+
+    for(int y = 0; y < viewport.getHeight(); y += tile_size)
+      for(int x = 0; x < viewport.getWidth(); x += tile_size)
+        pending.add(new STile(id++, x, y, Math.min(tile_size, viewport.getWidth() - x), Math.min(tile_size, viewport.getHeight() - y)));
+
+    tile_count = id;
+    remaining = id;
+
+    completed_time = 0;
+    completed_count = 0;
+    redispatch_count = 0;
+    duplicate_count = 0;
+    connected_count = 0;
+    port = 0;
+    secret = "";
+
+    random = new SecureRandom();
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour lancer l'application du ray tracer en format "coordinator".
+   *
+   * @param config - La configuration de l'application.
+   */
+  public static void raytrace(SConfiguration config)
+  {
+    try
+    {
+      SChronometer chrono = new SChronometer();
+
+      //Lecture de la scène
+      chrono.start();
+      SLog.logWriteLine("Message SDistributedRenderer : Lecture de la scène '" + config.getReadDataFileName() + "'.");
+
+      SScene scene = new SScene(config.getReadDataFileName());
+      String hash = SScene.sceneHash(config.getReadDataFileName());
+
+      chrono.stop();
+      SLog.logWriteLine("Message SDistributedRenderer : Fin de la lecture de la scène.");
+      SLog.logWriteLine("Message SDistributedRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine();
+
+      // Rendu distribué
+      chrono.start();
+
+      SDistributedRenderer renderer = new SDistributedRenderer(scene.getViewport(), config.getReadDataFileName(), hash, config.getDistributedTileSize(), config.getDistributedTimeout());
+      renderer.render(InetAddress.getByName(config.getDistributedBind()), config.getDistributedPort(), config.getDistributedSecret(), config.getDistributedLocalWorkers());
+
+      chrono.stop();
+
+      SLog.logWriteLine();
+      SLog.logWriteLine("Message SDistributedRenderer : Fin du raytracing.");
+      SLog.logWriteLine("Message SDistributedRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("Message SDistributedRenderer : " + renderer.tile_count + " tuiles, " + renderer.redispatch_count + " redistribuées (panne), " + renderer.duplicate_count + " dupliquées (calcul lent).");
+      SLog.logWriteLine();
+
+      //Écriture de l'image
+      chrono.start();
+      SLog.logWriteLine("Message SDistributedRenderer : Écriture de l'image.");
+
+      scene.getViewport().writeImage();
+
+      chrono.stop();
+      SLog.logWriteLine("Message SDistributedRenderer : Fin de l'écriture de l'image.");
+      SLog.logWriteLine("Message SDistributedRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("");
+
+      //Écriture de la scène
+      scene.write(config.getWriteDataFileName());
+
+    }catch(FileNotFoundException e){
+      SLog.logWriteLine("Message SDistributedRenderer : Une erreur de type FileNotFoundException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
+    }catch(SConstructorException e){
+      SLog.logWriteLine("Message SDistributedRenderer : Une erreur de type SConstructorException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
+      e.printStackTrace();
+    }catch(IOException e){
+      e.printStackTrace();
+    }catch(SRuntimeException e){
+      SLog.logWriteLine("Message SDistributedRenderer : Une erreur de type SRuntimeException est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
+    }
+
+    SLog.logWriteLine("Message SDistributedRenderer : Fin de l'application.");
+  }
+
+  /**
+   * <p>
+   * Méthode pour effectuer le rendu distribué. Le coordonnateur attend la connexion des processus de rendu sur un port
+   * et leur distribue les tuiles jusqu'à ce que l'image soit complétée. Des processus de rendu peuvent se joindre au rendu en tout temps.
+   * </p>
+   *
+   * <p>
+   * Des processus de rendu locaux (sur l'ordinateur du coordonnateur) peuvent être lancés par le coordonnateur.
+   * Ils utilisent la même machine virtuelle Java et le même <i>classpath</i> que le coordonnateur.
+   * </p>
+   *
+   * <p>
+   * Le rendu est abandonné si aucun processus de rendu n'est connecté alors que tous les processus locaux sont terminés
+   * (ex. scène différente ou impossible à construire) ou si aucun processus de rendu n'est connecté durant le délai de panne.
+   * </p>
+   *
+   * <p>
+   * Le port est ouvert uniquement sur l'interface locale (<i>loopback</i>), comme le service de rendu <b>SRenderDaemon</b>.
+   * Un rendu sur plusieurs ordinateurs doit donc préciser l'adresse de l'interface réseau (mot clé <i>distributed_bind</i>,
+   * ex. 0.0.0.0 pour toutes les interfaces) et un secret partagé (mot clé <i>distributed_secret</i>). Tout ordinateur pouvant
+   * joindre le port pourrait sinon recevoir des tuiles et retourner n'importe quelle couleur. Le secret est vérifié avant
+   * la transmission de la scène : un processus ne le connaissant pas est déconnecté sans recevoir de tuile.
+   * </p>
+   *
+   * @param port - Le port du coordonnateur (0 pour un port choisi par le système).
+   * @param nb_local_worker - Le nombre de processus de rendu locaux à lancer.
+   * @throws IOException Si le port ne peut pas être ouvert ou si un processus local ne peut pas être lancé.
+   * @throws SRuntimeException Si le rendu est abandonné faute de processus de rendu ou s'il est interrompu.
+   * @see #render(InetAddress, int, String, int)
+   */
+  public void render(int port, int nb_local_worker) throws IOException, SRuntimeException
+  {
+    render(InetAddress.getLoopbackAddress(), port, "", nb_local_worker);
+  }
+
+  /**
+   * Méthode pour effectuer le rendu distribué sur une interface réseau avec un secret partagé.
+   *
+   * @param bind_address - L'adresse de l'interface réseau où le port est ouvert (ex. 0.0.0.0 pour toutes les interfaces).
+   * @param port - Le port du coordonnateur (0 pour un port choisi par le système).
+   * @param secret - Le secret partagé que doivent connaître les processus de rendu (vide pour aucun secret).
+   * @param nb_local_worker - Le nombre de processus de rendu locaux à lancer.
+   * @throws IOException Si le port ne peut pas être ouvert ou si un processus local ne peut pas être lancé.
+   * @throws SRuntimeException Si le port est ouvert hors de l'interface locale sans secret partagé, si le rendu est abandonné
+   *                           faute de processus de rendu ou s'il est interrompu.
+   * @see #render(int, int)
+   */
+  public void render(InetAddress bind_address, int port, String secret, int nb_local_worker) throws IOException, SRuntimeException
+  {
+    if(secret.isEmpty() && !bind_address.isLoopbackAddress())
+      throw new SRuntimeException("Erreur SDistributedRenderer 013 : Un secret partagé est requis pour ouvrir le port sur l'interface '" + bind_address.getHostAddress() + "'.");
+
+    this.secret = secret;
+
+    final ServerSocket server = new ServerSocket(port, 0, bind_address);
+    this.port = server.getLocalPort();
+
+    List<Process> process_list = new ArrayList<Process>();
+
+    try{
+
+      SLog.logWriteLine("Message SDistributedRenderer : En attente des processus de rendu sur '" + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort() + "'.");
+
+      // Accepter les connexions des processus de rendu
+      Thread accept_thread = new Thread(new Runnable(){
+
+        @Override
+        public void run()
+        {
+          acceptWorkers(server);
+        }
+      });
+
+      accept_thread.setDaemon(true);
+      accept_thread.start();
+
+      // Lancer les processus de rendu locaux
+      String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+      String host = server.getInetAddress().isAnyLocalAddress() ? "localhost" : server.getInetAddress().getHostAddress();
+
+      for(int i = 0; i < nb_local_worker; i++)
+      {
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), SDistributedWorker.class.getName(),
+            host, Integer.toString(server.getLocalPort()));
+
+        builder.environment().put(SECRET_ENV, secret);
+        builder.inheritIO();
+        process_list.add(builder.start());
+      }
+
+      // Attendre l'assemblage de toutes les tuiles avec affichage "." à chaque 1% complété
+      waitCompletion(process_list);
+
+    }finally{
+      server.close();
+      this.port = 0;
+
+      // Les processus locaux se terminent après avoir reçu le message de fin
+      for(Process process : process_list)
+        try{
+          if(!process.waitFor(END_WAIT, TimeUnit.SECONDS))
+            process.destroy();
+        }catch(InterruptedException e){
+          process.destroy();
+        }
+    }
+  }
+
+  /**
+   * Méthode pour obtenir le port du coordonnateur durant le rendu.
+   *
+   * @return Le port (0 si le rendu n'est pas débuté ou s'il est terminé).
+   */
+  int getPort()
+  {
+    return port;
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de tuiles redistribuées suite à la panne d'un processus.
+   *
+   * @return Le nombre de tuiles redistribuées.
+   */
+  synchronized int getRedispatchCount()
+  {
+    return redispatch_count;
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de tuiles dupliquées en raison d'un calcul anormalement long.
+   *
+   * @return Le nombre de tuiles dupliquées.
+   */
+  synchronized int getDuplicateCount()
+  {
+    return duplicate_count;
+  }
+
+  /**
+   * Méthode pour attendre que toutes les tuiles soient assemblées dans le viewport. L'attente est abandonnée
+   * s'il n'y a plus de processus de rendu pour calculer les tuiles restantes.
+   *
+   * @param process_list - Les processus de rendu locaux.
+   * @throws SRuntimeException Si aucun processus de rendu n'est connecté alors que les processus locaux sont terminés ou depuis le délai de panne.
+   */
+  private synchronized void waitCompletion(List<Process> process_list) throws SRuntimeException
+  {
+    int percent = 0;
+    long idle_start = System.nanoTime();
+
+    while(remaining > 0)
+    {
+      try{
+        wait(SCHEDULER_WAIT);
+      }catch(InterruptedException e){
+        throw new SRuntimeException("Erreur SDistributedRenderer 003 : Le rendu distribué a été interrompu.", e);
+      }
+
+      for(; percent < 100 * (tile_count - remaining) / tile_count; percent++)
+        SLog.logWrite(".");
+
+      if(remaining == 0 || connected_count > 0)
+      {
+        idle_start = System.nanoTime();
+        continue;
+      }
+
+      if(!process_list.isEmpty() && !isAlive(process_list))
+        throw new SRuntimeException("Erreur SDistributedRenderer 011 : Les processus de rendu locaux sont terminés et aucun processus de rendu n'est connecté (" + remaining + " tuiles restantes).");
+
+      if(System.nanoTime() - idle_start > (long)timeout * 1000000L)
+        throw new SRuntimeException("Erreur SDistributedRenderer 012 : Aucun processus de rendu n'est connecté depuis " + (timeout / 1000.0) + " s (" + remaining + " tuiles restantes).");
+    }
+  }
+
+  /**
+   * Méthode pour déterminer si au moins un processus est en exécution.
+   *
+   * @param process_list - Les processus.
+   * @return <b>true</b> si au moins un processus est en exécution et <b>false</b> sinon.
+   */
+  private static boolean isAlive(List<Process> process_list)
+  {
+    for(Process process : process_list)
+      if(process.isAlive())
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Méthode pour accepter les connexions des processus de rendu. Chaque processus est géré par un fil d'exécution.
+   * La méthode se termine lorsque le socket du coordonnateur est fermé.
+   *
+   * @param server - Le socket du coordonnateur.
+   */
+  private void acceptWorkers(ServerSocket server)
+  {
+    try{
+
+      while(true)
+      {
+        final Socket socket = server.accept();
+
+        Thread thread = new Thread(new Runnable(){
+
+          @Override
+          public void run()
+          {
+            handleWorker(socket);
+          }
+        });
+
+        thread.setDaemon(true);
+        thread.start();
+      }
+
+    }catch(IOException e){
+      // Le socket du coordonnateur est fermé : le rendu est terminé
+    }
+  }
+
+  /**
+   * Méthode pour communiquer avec un processus de rendu : transmission de la scène, puis distribution des tuiles jusqu'à la fin du rendu.
+   * Si le processus tombe en panne, sa tuile en cours de calcul est redistribuée.
+   *
+   * @param socket - Le socket du processus de rendu.
+   */
+  private void handleWorker(Socket socket)
+  {
+    STile tile = null;
+    boolean authenticated = false;
+
+    try{
+
+      socket.setSoTimeout(timeout);
+      socket.setTcpNoDelay(true);
+
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+      if(in.readInt() != MAGIC || in.readInt() != VERSION)
+        throw new IOException("Erreur SDistributedRenderer 004 : Le processus '" + socket.getRemoteSocketAddress() + "' n'utilise pas le même protocole.");
+
+      // Authentification par défi avant la transmission de la scène
+      byte[] challenge = new byte[CHALLENGE_SIZE];
+      random.nextBytes(challenge);
+
+      out.writeInt(CHALLENGE);
+      out.write(challenge);
+      out.flush();
+
+      byte[] answer_code = new byte[AUTH_SIZE];
+
+      if(in.readInt() != AUTH)
+        throw new IOException("Erreur SDistributedRenderer 014 : Le processus '" + socket.getRemoteSocketAddress() + "' n'a pas répondu au défi d'authentification.");
+
+      in.readFully(answer_code);
+
+      if(!MessageDigest.isEqual(authenticationCode(secret, challenge), answer_code))
+        throw new IOException("Erreur SDistributedRenderer 015 : Le processus '" + socket.getRemoteSocketAddress() + "' ne connaît pas le secret partagé.");
+
+      authenticated = true;
+      connect(1);
+
+      // Transmission de la scène
+      out.writeInt(SCENE);
+      out.writeUTF(scene_file_name);
+      out.writeUTF(scene_hash);
+      out.flush();
+
+      int answer = in.readInt();
+
+      if(answer == ERROR)
+        throw new IOException("Erreur SDistributedRenderer 005 : Le processus '" + socket.getRemoteSocketAddress() + "' n'a pas construit la scène." + SStringUtil.END_LINE_CARACTER + "\t" + in.readUTF());
+
+      if(answer != READY)
+        throw new IOException("Erreur SDistributedRenderer 006 : Le message '" + answer + "' du processus '" + socket.getRemoteSocketAddress() + "' n'est pas reconnu.");
+
+      // Distribution des tuiles
+      while((tile = nextTile()) != null)
+      {
+        out.writeInt(TILE);
+        out.writeInt(tile.id);
+        out.writeInt(tile.x);
+        out.writeInt(tile.y);
+        out.writeInt(tile.width);
+        out.writeInt(tile.height);
+        out.flush();
+
+        if(in.readInt() != RESULT || in.readInt() != tile.id)
+          throw new IOException("Erreur SDistributedRenderer 007 : Le processus '" + socket.getRemoteSocketAddress() + "' n'a pas retourné la tuile '" + tile.id + "'.");
+
+        SColor[] color = new SColor[tile.width * tile.height];
+
+        for(int i = 0; i < color.length; i++)
+          color[i] = new SColor(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+
+        complete(tile, color);
+        tile = null;
+      }
+
+      out.writeInt(END);
+      out.flush();
+
+    }catch(IOException | SConstructorException e){
+      SLog.logWriteLine("Message SDistributedRenderer : Le processus de rendu '" + socket.getRemoteSocketAddress() + "' est retiré du rendu." + SStringUtil.END_LINE_CARACTER + "\t" + (e.getMessage() != null ? e.getMessage() : e.toString()));
+
+      if(tile != null)
+        fail(tile);
+    }finally{
+      try{
+        socket.close();
+      }catch(IOException e){
+        // Le socket est déjà fermé
+      }
+
+      if(authenticated)
+        connect(-1);
+    }
+  }
+
+  /**
+   * Méthode pour évaluer la réponse à un défi d'authentification, soit le code HMAC-SHA256 du défi dont la clé est l'empreinte SHA-256 du secret partagé.
+   *
+   * @param secret - Le secret partagé.
+   * @param challenge - Le défi.
+   * @return Le code d'authentification.
+   * @throws SRuntimeException Si les algorithmes SHA-256 ou HMAC-SHA256 ne sont pas disponibles.
+   */
+  static byte[] authenticationCode(String secret, byte[] challenge) throws SRuntimeException
+  {
+    try{
+      byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(key, "HmacSHA256"));
+
+      return mac.doFinal(challenge);
+    }catch(GeneralSecurityException e){
+      throw new SRuntimeException("Erreur SDistributedRenderer 016 : Le code d'authentification ne peut pas être évalué.", e);
+    }
+  }
+
+  /**
+   * Méthode pour modifier le nombre de processus de rendu connectés.
+   *
+   * @param delta - La variation du nombre de processus connectés (1 pour une connexion et -1 pour une déconnexion).
+   */
+  private synchronized void connect(int delta)
+  {
+    connected_count += delta;
+    notifyAll();
+  }
+
+  /**
+   * Méthode pour obtenir la prochaine tuile à calculer. S'il n'y a plus de tuile en attente, une tuile dont le calcul est anormalement long
+   * est dupliquée. Sinon, la méthode attend qu'une tuile soit redistribuée ou que le rendu soit terminé.
+   *
+   * @return La tuile à calculer et <b>null</b> si le rendu est terminé.
+   */
+  private synchronized STile nextTile()
+  {
+    while(remaining > 0)
+    {
+      STile tile = pending.poll();
+
+      if(tile != null)
+      {
+        tile.copy++;
+        tile.start_time = System.nanoTime();
+        running.add(tile);
+
+        return tile;
+      }
+
+      tile = straggler();
+
+      if(tile != null)
+      {
+        tile.copy++;
+        duplicate_count++;
+
+        return tile;
+      }
+
+      try{
+        wait(SCHEDULER_WAIT);
+      }catch(InterruptedException e){
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Méthode pour trouver la tuile en cours de calcul depuis le plus longtemps si sa durée de calcul dépasse la durée moyenne d'un facteur STRAGGLER_FACTOR.
+   *
+   * @return La tuile à dupliquer et <b>null</b> s'il n'y en a pas.
+   */
+  private STile straggler()
+  {
+    if(completed_count == 0)
+      return null;
+
+    long limit = (long)(STRAGGLER_FACTOR * completed_time / completed_count);
+    long now = System.nanoTime();
+
+    STile oldest = null;
+
+    for(STile tile : running)
+      if(tile.copy < MAX_TILE_COPY && now - tile.start_time > limit)
+        if(oldest == null || tile.start_time < oldest.start_time)
+          oldest = tile;
+
+    return oldest;
+  }
+
+  /**
+   * Méthode pour assembler le résultat d'une tuile dans le viewport. Le résultat d'une tuile déjà assemblée (tuile dupliquée) est ignoré.
+   *
+   * @param tile - La tuile.
+   * @param color - La couleur des pixels de la tuile (rangée par rangée).
+   */
+  private void complete(STile tile, SColor[] color)
+  {
+    synchronized(this)
+    {
+      tile.copy--;
+
+      if(tile.done)
+        return;
+
+      tile.done = true;
+      running.remove(tile);
+
+      completed_time += System.nanoTime() - tile.start_time;
+      completed_count++;
+    }
+
+    // Les tuiles sont disjointes : l'assemblage peut se faire sans synchronisation
+    for(int j = 0; j < tile.height; j++)
+      for(int i = 0; i < tile.width; i++)
+        viewport.setColor(tile.x + i, tile.y + j, color[j*tile.width + i]);
+
+    synchronized(this)
+    {
+      remaining--;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Méthode pour redistribuer une tuile dont le processus de rendu est en panne.
+   * La tuile est redistribuée en priorité, sauf si une copie est encore en cours de calcul ou si elle est déjà complétée.
+   *
+   * @param tile - La tuile.
+   */
+  private synchronized void fail(STile tile)
+  {
+    tile.copy--;
+
+    if(!tile.done && tile.copy == 0)
+    {
+      running.remove(tile);
+      pending.addFirst(tile);
+      redispatch_count++;
+    }
+
+    notifyAll();
+  }
+
+  /**
+   * Classe interne représentant une tuile rectangulaire du viewport.
+   */
+  private static class STile {
+
+    /**
+     * La variable <b>id</b> correspond au numéro de la tuile.
+     */
+    private final int id;
+
+    /**
+     * Les variables <b>x</b>, <b>y</b>, <b>width</b> et <b>height</b> correspondent à la position du coin supérieur gauche et à la dimension de la tuile.
+     */
+    private final int x, y, width, height;
+
+    /**
+     * La variable <b>copy</b> correspond au nombre de processus calculant présentement la tuile.
+     */
+    private int copy;
+
+    /**
+     * La variable <b>start_time</b> correspond au moment (en nanosecondes) de la première distribution de la tuile.
+     */
+    private long start_time;
+
+    /**
+     * La variable <b>done</b> détermine si le résultat de la tuile a été assemblé.
+     */
+    private boolean done;
+
+    /**
+     * Constructeur d'une tuile.
+     *
+     * @param id - Le numéro de la tuile.
+     * @param x - La coordonnée x du coin supérieur gauche.
+     * @param y - La coordonnée y du coin supérieur gauche.
+     * @param width - La largeur.
+     * @param height - La hauteur.
+     */
+    private STile(int id, int x, int y, int width, int height)
+    {
+      this.id = id;
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+
+      copy = 0;
+      start_time = 0;
+      done = false;
+    }
+  }
+
+}//fin de la classe SDistributedRenderer
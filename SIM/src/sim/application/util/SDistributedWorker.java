@@ -0,0 +1,227 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Socket;
+
+import sim.exception.SConstructorException;
+import sim.graphics.SColor;
+import sim.graphics.SRaytracer;
+import sim.graphics.SScene;
+import sim.graphics.SViewport;
+import sim.util.SLog;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SDistributedWorker</b> représente un processus de rendu d'un rendu distribué. Le processus se connecte au coordonnateur
+ * (<b>SDistributedRenderer</b>), construit la scène à partir de son répertoire d'exécution, puis calcule les tuiles reçues
+ * jusqu'à la fin du rendu. La scène est construite une seule fois pour l'ensemble des tuiles.
+ * </p>
+ *
+ * <p>
+ * Les couleurs des pixels sont retournées en double précision afin que l'image assemblée soit identique à un rendu sur un seul processus.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SDistributedWorker {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>CONNECTION_ATTEMPT</b> correspond au nombre de tentatives de connexion au coordonnateur étant égal à {@value}.
+   */
+  private static final int CONNECTION_ATTEMPT = 50;
+
+  /**
+   * La constante <b>CONNECTION_WAIT</b> correspond au délai (en millisecondes) entre deux tentatives de connexion étant égal à {@value}.
+   */
+  private static final long CONNECTION_WAIT = 200;
+
+  //----------------
+  // MÉTHODE MAIN //
+  //----------------
+
+  /**
+   * Lancement d'un processus de rendu local par le coordonnateur. Le fichier de log n'est pas utilisé afin de ne pas écrire dans celui du coordonnateur.
+   * Le secret partagé est transmis par la variable d'environnement <i>SIM_DISTRIBUTED_SECRET</i>.
+   *
+   * @param args - Le nom de l'ordinateur et le port du coordonnateur.
+   */
+  public static void main(String[] args)
+  {
+    SLog.setFileLog(false);
+
+    String secret = System.getenv(SDistributedRenderer.SECRET_ENV);
+
+    try{
+      work(args[0], Integer.parseInt(args[1]), secret != null ? secret : "");
+    }catch(IOException e){
+      SLog.logWriteLine("Message SDistributedWorker : Le processus de rendu est interrompu." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
+    }
+
+    System.exit(0);
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour effectuer le travail d'un processus de rendu jusqu'à la fin du rendu distribué.
+   *
+   * @param host - Le nom de l'ordinateur du coordonnateur.
+   * @param port - Le port du coordonnateur.
+   * @param secret - Le secret partagé du rendu (vide pour aucun secret).
+   * @throws IOException S'il y a une erreur de communication avec le coordonnateur ou si le coordonnateur refuse le secret partagé.
+   */
+  public static void work(String host, int port, String secret) throws IOException
+  {
+    Socket socket = connect(host, port);
+
+    try{
+
+      socket.setTcpNoDelay(true);
+
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+      out.writeInt(SDistributedRenderer.MAGIC);
+      out.writeInt(SDistributedRenderer.VERSION);
+      out.flush();
+
+      // Réponse au défi d'authentification
+      if(in.readInt() != SDistributedRenderer.CHALLENGE)
+        throw new IOException("Erreur SDistributedWorker 004 : Le coordonnateur n'a pas transmis de défi d'authentification.");
+
+      byte[] challenge = new byte[SDistributedRenderer.CHALLENGE_SIZE];
+      in.readFully(challenge);
+
+      out.writeInt(SDistributedRenderer.AUTH);
+      out.write(SDistributedRenderer.authenticationCode(secret, challenge));
+      out.flush();
+
+      // Le coordonnateur ferme la connexion si le secret partagé est refusé
+      int command;
+
+      try{
+        command = in.readInt();
+      }catch(EOFException e){
+        throw new IOException("Erreur SDistributedWorker 005 : Le coordonnateur a refusé le secret partagé.", e);
+      }
+
+      if(command != SDistributedRenderer.SCENE)
+        throw new IOException("Erreur SDistributedWorker 001 : Le coordonnateur n'a pas transmis la scène.");
+
+      String scene_file_name = in.readUTF();
+      String scene_hash = in.readUTF();
+
+      // Construction de la scène (une seule fois pour l'ensemble des tuiles)
+      SViewport viewport;
+      SRaytracer raytracer;
+
+      try{
+
+        if(!SScene.sceneHash(scene_file_name).equals(scene_hash))
+          throw new IOException("Erreur SDistributedWorker 002 : Le fichier '" + scene_file_name + "' est différent de celui du coordonnateur.");
+
+        SScene scene = new SScene(scene_file_name);
+
+        // L'image et le fichier de sauvegarde appartiennent au coordonnateur
+        viewport = scene.getViewport();
+        viewport.setCheckpointFile(null);
+        viewport.setStreamingOutput(SViewport.NO_STREAMING);
+
+        raytracer = scene.buildRaytracer();
+
+      }catch(IOException | SConstructorException e){
+        out.writeInt(SDistributedRenderer.ERROR);
+        out.writeUTF(String.valueOf(e.getMessage()));
+        out.flush();
+
+        throw e;
+      }
+
+      out.writeInt(SDistributedRenderer.READY);
+      out.flush();
+
+      SLog.logWriteLine("Message SDistributedWorker : La scène '" + scene_file_name + "' est construite.");
+
+      // Calcul des tuiles
+      while((command = in.readInt()) == SDistributedRenderer.TILE)
+      {
+        int id = in.readInt();
+        int x = in.readInt();
+        int y = in.readInt();
+        int width = in.readInt();
+        int height = in.readInt();
+
+        viewport.setPixelRegion(x, y, width, height);
+
+        while(viewport.hasNextPixel())
+          raytracer.raytrace(width * height);
+
+        out.writeInt(SDistributedRenderer.RESULT);
+        out.writeInt(id);
+
+        for(int j = 0; j < height; j++)
+          for(int i = 0; i < width; i++)
+          {
+            SColor color = viewport.getColor(x + i, y + j);
+
+            out.writeDouble(color.getRed());
+            out.writeDouble(color.getGreen());
+            out.writeDouble(color.getBlue());
+            out.writeDouble(color.getAlpha());
+          }
+
+        out.flush();
+      }
+
+      if(command != SDistributedRenderer.END)
+        throw new IOException("Erreur SDistributedWorker 003 : Le message '" + command + "' du coordonnateur n'est pas reconnu.");
+
+    }finally{
+      socket.close();
+    }
+  }
+
+  /**
+   * Méthode pour se connecter au coordonnateur. Plusieurs tentatives sont effectuées, car le coordonnateur peut être en cours de démarrage.
+   *
+   * @param host - Le nom de l'ordinateur du coordonnateur.
+   * @param port - Le port du coordonnateur.
+   * @return Le socket connecté au coordonnateur.
+   * @throws IOException Si la connexion est impossible.
+   */
+  private static Socket connect(String host, int port) throws IOException
+  {
+    for(int i = 1; ; i++)
+      try{
+        return new Socket(host, port);
+      }catch(ConnectException e){
+        if(i >= CONNECTION_ATTEMPT)
+          throw e;
+
+        try{
+          Thread.sleep(CONNECTION_WAIT);
+        }catch(InterruptedException ie){
+          throw e;
+        }
+      }
+  }
+
+}//fin de la classe SDistributedWorker
@@ -1,143 +1,236 @@
-package sim.application.util;
-
-import java.awt.BorderLayout;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.swing.JFrame;
-import javax.swing.border.EmptyBorder;
-
-import sim.exception.SConstructorException;
-import sim.geometry.space.SAbstractGeometrySpace;
-import sim.graphics.SRaytracer;
-import sim.graphics.SScene;
-import sim.util.SChronometer;
-import sim.util.SLog;
-
-/**
- * La classe <b>SJFrameRenderer</b> reprsentant un JFrame permettant de lancer l'application du <i>ray tracer</i>.
- * 
- * @author Simon Vzina
- * @since 2015-08-22
- * @version 2017-12-08
- */
-public class SJFrameRenderer extends JFrame {
-
-  /**
-   * La variable <b>NB_LINES_BEFORE_REPAINT</b> reprsente le nombre de lignes calcules par le <i>ray tracer</i> avant d'effectuer un repaint du jpanel.
-   */
-  private final int NB_LINES_BEFORE_REPAINT = 1;   
-  
-  /**
-   * 
-   */
-  private static final long serialVersionUID = 1663616456131809383L;
-  
-  private SJPanelRenderer contentPane;
-
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-  /**
-   * Constructeur de l'application <i>ray tracer</i> dans un format "JFrame".
-   */
-  public SJFrameRenderer()
-  {
-    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-    setBounds(100, 100, 450, 300);
-    
-    //Le panel du renderer
-    contentPane = new SJPanelRenderer();
-    contentPane.setBorder(new EmptyBorder(5, 5, 5, 5));
-    contentPane.setLayout(new BorderLayout(0, 0));
-    contentPane.setPreferredSize(getMaximumSize());       //permettre au jpanel d'occuper le maximum d'espace dans le jframe
-    setContentPane(contentPane);
-  }
-
-  //------------
-  // MTHODES //
-  //------------
-  
-  /**
-   * Mthode pour lancer l'application du <i>ray tracer</i> en format "JFrame".
-   * 
-   * @param config - La configuration de l'application.
-   */
-  public void raytrace(SConfiguration config)
-  {
-    try
-    {
-      SChronometer chrono = new SChronometer();
-      
-      //Lecture de la scne
-      chrono.start();
-      SLog.logWriteLine("Message SJFrameRenderer : Lecture de la scne '" + config.getReadDataFileName() + "'.");
-      
-      SScene scene = new SScene(config.getReadDataFileName());
-        
-      chrono.stop();
-      SLog.logWriteLine("Message SJFrameRenderer : Fin de la lecture de la scne.");
-      SLog.logWriteLine("Message SJFrameRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("");
-      
-      //Ray tracing
-      chrono.start();
-      SLog.logWriteLine("Message SJFrameRenderer : Dbut du raytracing.");
-      
-      //Construction du raytracer
-      SRaytracer raytracer = scene.buildRaytracer();
-      
-      //Mettre  jour la taille de la fentre
-      setBounds(100, 100, scene.getViewport().getWidth(), scene.getViewport().getHeight());
-      
-      //Effectuer le ray tracing ligne par ligne
-      int nb_pixels = scene.getViewport().getWidth()*NB_LINES_BEFORE_REPAINT;
-      
-      while(scene.getViewport().hasNextPixel())
-      {
-        raytracer.raytrace(nb_pixels);
-        contentPane.setBufferedImage(scene.getViewport().getBufferedImage());
-        repaint();
-      }
-                       
-      chrono.stop();
-      
-      SLog.logWriteLine("Message SJFrameRenderer : Fin du raytracing.");
-      SLog.logWriteLine("Message SJFrameRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("Message SJFrameRenderer : Nombre de tests d'intersection raliss : " + SAbstractGeometrySpace.getIntersectionTestCount() + " tests.");
-      
-      SLog.logWriteLine("");
-      
-      //criture de l'image
-      chrono.start();
-      SLog.logWriteLine("Message SJFrameRenderer : criture de l'image.");
-      
-      //criture du fichier png
-      scene.getViewport().writeImage();
-      
-      chrono.stop();
-      SLog.logWriteLine("Message SJFrameRenderer : Fin de l'criture de l'image.");
-      SLog.logWriteLine("Message SJFrameRenderer : Dure : " + chrono.getTime() + " s.");
-      SLog.logWriteLine("");
-      
-      //criture de la scne
-      scene.write(config.getWriteDataFileName());
- 
-    }catch(FileNotFoundException e){       
-      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type FileNotFoundException est survenue.");
-      SLog.logException(e);
-    }catch(SConstructorException e){
-      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type SConstructorException est survenue."); 
-      SLog.logWriteLine(e.getMessage());
-      e.printStackTrace();
-    }catch(IOException e){                 
-      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type I/O est survenue."); 
-      SLog.logWriteLine(e.getMessage());
-      e.printStackTrace();                                              
-    }
-      
-    SLog.logWriteLine("Message SJFrameRenderer : Fin de l'application."); 
-  }
-  
-}//fin de la classe SJFrameRenderer
+package sim.application.util;
+
+import java.awt.BorderLayout;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+
+import javax.swing.JFrame;
+import javax.swing.border.EmptyBorder;
+
+import sim.exception.SConstructorException;
+import sim.geometry.space.SAbstractGeometrySpace;
+import sim.graphics.SModelReader;
+import sim.graphics.SRaytracer;
+import sim.graphics.SScene;
+import sim.graphics.SViewport;
+import sim.graphics.STextureReader;
+import sim.util.SChronometer;
+import sim.util.SFileWatcher;
+import sim.util.SLog;
+
+/**
+ * La classe <b>SJFrameRenderer</b> représentant un JFrame permettant de lancer l'application du <i>ray tracer</i>.
+ * 
+ * @author Simon Vézina
+ * @since 2015-08-22
+ * @version 2017-12-08
+ */
+public class SJFrameRenderer extends JFrame {
+
+  /**
+   * La variable <b>NB_LINES_BEFORE_REPAINT</b> représente le nombre de lignes calculées par le <i>ray tracer</i> avant d'effectuer un repaint du jpanel.
+   */
+  private final int NB_LINES_BEFORE_REPAINT = 1;   
+  
+  /**
+   * 
+   */
+  private static final long serialVersionUID = 1663616456131809383L;
+  
+  private SJPanelRenderer contentPane;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+  /**
+   * Constructeur de l'application <i>ray tracer</i> dans un format "JFrame".
+   */
+  public SJFrameRenderer()
+  {
+    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    setBounds(100, 100, 450, 300);
+    
+    //Le panel du renderer
+    contentPane = new SJPanelRenderer();
+    contentPane.setBorder(new EmptyBorder(5, 5, 5, 5));
+    contentPane.setLayout(new BorderLayout(0, 0));
+    contentPane.setPreferredSize(getMaximumSize());       //permettre au jpanel d'occuper le maximum d'espace dans le jframe
+    setContentPane(contentPane);
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+  
+  /**
+   * Méthode pour lancer l'application du <i>ray tracer</i> en format "JFrame".
+   * 
+   * @param config - La configuration de l'application.
+   */
+  public void raytrace(SConfiguration config)
+  {
+    try
+    {
+      SChronometer chrono = new SChronometer();
+      
+      //Lecture de la scène
+      chrono.start();
+      SLog.logWriteLine("Message SJFrameRenderer : Lecture de la scène '" + config.getReadDataFileName() + "'.");
+      
+      SScene scene = new SScene(config.getReadDataFileName());
+        
+      chrono.stop();
+      SLog.logWriteLine("Message SJFrameRenderer : Fin de la lecture de la scène.");
+      SLog.logWriteLine("Message SJFrameRenderer : Durée : " + chrono.getTime() + " s.");
+      SLog.logWriteLine("");
+      
+      //Rendu de la scène
+      render(config, scene);
+      
+      //Surveillance de la scène afin de refaire le rendu à chaque modification
+      if(config.isWatchScene())
+        watchScene(config, scene);
+ 
+    }catch(FileNotFoundException e){       
+      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type FileNotFoundException est survenue.");
+      SLog.logException(e);
+    }catch(SConstructorException e){
+      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type SConstructorException est survenue."); 
+      SLog.logWriteLine(e.getMessage());
+      e.printStackTrace();
+    }catch(IOException e){                 
+      SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type I/O est survenue."); 
+      SLog.logWriteLine(e.getMessage());
+      e.printStackTrace();                                              
+    }
+      
+    SLog.logWriteLine("Message SJFrameRenderer : Fin de l'application."); 
+  }
+  
+  /**
+   * Méthode pour faire le rendu d'une scène, l'écriture de l'image et l'écriture de la scène.
+   * 
+   * @param config - La configuration de l'application.
+   * @param scene - La scène à rendre.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   */
+  private void render(SConfiguration config, SScene scene) throws IOException
+  {
+    SChronometer chrono = new SChronometer();
+    
+    //Ray tracing
+    chrono.start();
+    SLog.logWriteLine("Message SJFrameRenderer : Début du raytracing.");
+    
+    //Construction du raytracer
+    SRaytracer raytracer = scene.buildRaytracer();
+    
+    //Mettre à jour la taille de la fenêtre
+    setBounds(100, 100, scene.getViewport().getWidth(), scene.getViewport().getHeight());
+    
+    //Effectuer le ray tracing ligne par ligne
+    int nb_pixels = scene.getViewport().getWidth()*NB_LINES_BEFORE_REPAINT;
+    
+    // En écriture continue, l'image n'est pas conservée en mémoire et ne peut pas être affichée
+    boolean display = scene.getViewport().getStreamingOutput() == SViewport.NO_STREAMING;
+    
+    if(!display)
+      SLog.logWriteLine("Message SJFrameRenderer : L'image n'est pas affichée durant le rendu, car le viewport utilise l'écriture continue.");
+    
+    while(scene.getViewport().hasNextPixel())
+    {
+      raytracer.raytrace(nb_pixels);
+      
+      if(display)
+      {
+        contentPane.setBufferedImage(scene.getViewport().getBufferedImage());
+        repaint();
+      }
+    }
+                     
+    chrono.stop();
+    
+    SLog.logWriteLine("Message SJFrameRenderer : Fin du raytracing.");
+    SLog.logWriteLine("Message SJFrameRenderer : Durée : " + chrono.getTime() + " s.");
+    SLog.logWriteLine("Message SJFrameRenderer : Nombre de tests d'intersection réalisés : " + SAbstractGeometrySpace.getIntersectionTestCount() + " tests.");
+    
+    SLog.logWriteLine("");
+    
+    //Écriture de l'image
+    chrono.start();
+    SLog.logWriteLine("Message SJFrameRenderer : Écriture de l'image.");
+    
+    //Écriture du fichier png
+    scene.getViewport().writeImage();
+    
+    chrono.stop();
+    SLog.logWriteLine("Message SJFrameRenderer : Fin de l'écriture de l'image.");
+    SLog.logWriteLine("Message SJFrameRenderer : Durée : " + chrono.getTime() + " s.");
+    SLog.logWriteLine("");
+    
+    //Écriture de la scène
+    scene.write(config.getWriteDataFileName());
+  }
+  
+  /**
+   * Méthode pour surveiller le fichier de scène et ses ressources (modèles et textures) afin de refaire le rendu à chaque modification.
+   * Les ressources modifiées sont retirées de la mémoire afin d'être relues et les éléments inchangés de la scène précédente sont réutilisés.
+   * Une scène en erreur de lecture est ignorée et la surveillance se poursuit. 
+   * 
+   * @param config - La configuration de l'application.
+   * @param scene - La scène ayant été rendue.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   */
+  private void watchScene(SConfiguration config, SScene scene) throws IOException
+  {
+    SFileWatcher watcher = new SFileWatcher();
+    
+    while(true)
+    {
+      //Ajouter à la surveillance la scène et les ressources chargées
+      watcher.addFile(config.getReadDataFileName());
+      watcher.addFile(SModelReader.getLoadedFileNameList());
+      watcher.addFile(STextureReader.getLoadedFileNameList());
+      
+      SLog.logWriteLine("Message SJFrameRenderer : En attente d'une modification de la scène '" + config.getReadDataFileName() + "'.");
+      
+      List<String> modified_file_list;
+      
+      try{
+        modified_file_list = watcher.waitModification(SFileWatcher.DEFAULT_PERIOD);
+      }catch(InterruptedException e){
+        return;
+      }
+      
+      //Une texture modifiée peut être utilisée par les matériaux d'un modèle. Les modèles devront alors être relus.
+      for(String file_name : STextureReader.getLoadedFileNameList())
+        if(modified_file_list.contains(file_name))
+        {
+          modified_file_list.addAll(SModelReader.getLoadedFileNameList());
+          break;
+        }
+      
+      //Retirer de la mémoire les ressources modifiées
+      for(String file_name : modified_file_list)
+      {
+        SLog.logWriteLine("Message SJFrameRenderer : Le fichier '" + file_name + "' a été modifié.");
+        SModelReader.removeLoadedFile(file_name);
+        STextureReader.removeLoadedFile(file_name);
+      }
+      
+      try{
+        scene = new SScene(config.getReadDataFileName(), scene, modified_file_list);
+        render(config, scene);
+      }catch(FileNotFoundException e){
+        SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type FileNotFoundException est survenue lors du rechargement de la scène.");
+        SLog.logException(e);
+      }catch(SConstructorException e){
+        SLog.logWriteLine("Message SJFrameRenderer : Une erreur de type SConstructorException est survenue lors du rechargement de la scène."); 
+        SLog.logWriteLine(e.getMessage());
+      }
+    }
+  }
+  
+}//fin de la classe SJFrameRenderer
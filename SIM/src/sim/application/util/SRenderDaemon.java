@@ -0,0 +1,609 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import javax.imageio.ImageIO;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.graphics.SCamera;
+import sim.graphics.SModelReader;
+import sim.graphics.SRaytracer;
+import sim.graphics.SScene;
+import sim.graphics.STextureReader;
+import sim.graphics.SViewport;
+import sim.math.SVector3d;
+import sim.util.SChronometer;
+import sim.util.SFileWatcher;
+import sim.util.SLog;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SRenderDaemon</b> représente un service de rendu. Le service reçoit des demandes de rendu (<b>SRenderJob</b>)
+ * par HTTP sur l'ordinateur local et les rend une à la fois selon leur priorité. Les requêtes reconnues sont :
+ * <ul>- <b>POST /jobs</b> : ajouter une demande (paramètres <i>scene</i>, <i>priority</i>, <i>position</i>, <i>look_at</i>, <i>up</i> et <i>output</i>).</ul>
+ * <ul>- <b>GET /jobs</b> : obtenir l'état de l'ensemble des demandes.</ul>
+ * <ul>- <b>GET /jobs/id</b> : obtenir l'état et la progression d'une demande.</ul>
+ * <ul>- <b>DELETE /jobs/id</b> : annuler une demande en attente ou en cours de rendu.</ul>
+ * Les paramètres sont transmis dans l'adresse ou dans le corps de la requête (<i>application/x-www-form-urlencoded</i>)
+ * et les vecteurs sous la forme "x,y,z".
+ * </p>
+ *
+ * <p>
+ * Les scènes construites (incluant leur espace des géométries) sont conservées en mémoire entre les demandes
+ * ainsi que les modèles et les textures lus. Lorsqu'un fichier d'une scène conservée est modifié, la scène est relue
+ * en réutilisant ses éléments inchangés comme lors d'un rechargement à chaud.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRenderDaemon {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>JOB_PATH</b> correspond au chemin des requêtes portant sur les demandes de rendu.
+   */
+  private static final String JOB_PATH = "/jobs";
+
+  /**
+   * La constante <b>PIXEL_PACK</b> correspond au nombre de pixels rendus entre deux mises à jour de la progression
+   * (et deux vérifications d'annulation) étant égal à {@value}.
+   */
+  private static final int PIXEL_PACK = 4096;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>server</b> correspond au serveur HTTP recevant les requêtes.
+   */
+  private final HttpServer server;
+
+  /**
+   * La variable <b>job_queue</b> correspond aux demandes en attente ordonnées par priorité.
+   */
+  private final PriorityBlockingQueue<SRenderJob> job_queue;
+
+  /**
+   * La variable <b>job_map</b> correspond à l'ensemble des demandes reçues. La <b>clé de recherche</b> est l'identifiant de la demande.
+   */
+  private final Map<Integer, SRenderJob> job_map;
+
+  /**
+   * La variable <b>next_id</b> correspond à l'identifiant de la prochaine demande.
+   */
+  private int next_id;
+
+  /**
+   * La variable <b>scene_map</b> correspond aux scènes construites conservées en mémoire (de la moins récemment utilisée à la plus récente).
+   * La <b>clé de recherche</b> est le nom du fichier de la scène.
+   */
+  private final LinkedHashMap<String, SSceneEntry> scene_map;
+
+  /**
+   * La variable <b>watcher</b> correspond au surveillant des fichiers des scènes conservées et de leurs ressources.
+   */
+  private final SFileWatcher watcher;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un service de rendu.
+   *
+   * @param port - Le port local sur lequel les requêtes sont reçues (0 pour un port choisi par le système).
+   * @param scene_cache - Le nombre de scènes construites conservées en mémoire.
+   * @throws IOException Si le serveur ne peut pas être lancé sur le port.
+   * @throws SConstructorException Si le nombre de scènes conservées n'est pas supérieur à 0.
+   */
+  public SRenderDaemon(int port, final int scene_cache) throws IOException, SConstructorException
+  {
+    if(scene_cache < 1)
+      throw new SConstructorException("Erreur SRenderDaemon 001 : Le nombre de scènes conservées '" + scene_cache + "' doit être supérieur à 0.");
+
+    job_queue = new PriorityBlockingQueue<SRenderJob>();
+    job_map = new LinkedHashMap<Integer, SRenderJob>();
+    next_id = 1;
+
+    scene_map = new LinkedHashMap<String, SSceneEntry>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, SSceneEntry> eldest)
+      {
+        if(size() <= scene_cache)
+          return false;
+
+        SLog.logWriteLine("Message SRenderDaemon : La scène '" + eldest.getKey() + "' est retirée de la mémoire.");
+        return true;
+      }
+    };
+
+    watcher = new SFileWatcher();
+
+    // Le service n'est accessible que par l'ordinateur local
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext(JOB_PATH, this::handle);
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour lancer le service de rendu à partir de la configuration.
+   *
+   * @param config - La configuration de l'application.
+   * @throws IOException Si le serveur ne peut pas être lancé.
+   * @throws SConstructorException Si la configuration du service n'est pas valide.
+   */
+  public static void raytrace(SConfiguration config) throws IOException, SConstructorException
+  {
+    SRenderDaemon daemon = new SRenderDaemon(config.getDaemonPort(), config.getDaemonSceneCache());
+
+    daemon.run();
+  }
+
+  /**
+   * Méthode pour obtenir le port local sur lequel les requêtes sont reçues.
+   *
+   * @return Le port du service.
+   */
+  public int getPort()
+  {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Méthode pour ajouter une demande de rendu à la file d'attente.
+   *
+   * @param scene_file_name - Le nom du fichier de la scène.
+   * @param priority - La priorité de la demande.
+   * @param position - La position de la caméra (<b>null</b> pour la caméra de la scène).
+   * @param look_at - La position où regarde la caméra (<b>null</b> pour la caméra de la scène).
+   * @param up - L'orientation du haut de la caméra (<b>null</b> pour celle de la caméra de la scène).
+   * @param output_file_name - Le nom du fichier image à écrire (<b>null</b> pour le fichier du viewport de la scène).
+   * @return La demande ajoutée.
+   * @throws SConstructorException Si la demande n'est pas valide.
+   */
+  public SRenderJob submit(String scene_file_name, int priority, SVector3d position, SVector3d look_at, SVector3d up, String output_file_name) throws SConstructorException
+  {
+    SRenderJob job;
+
+    synchronized(job_map)
+    {
+      job = new SRenderJob(next_id, scene_file_name, priority, position, look_at, up, output_file_name);
+
+      job_map.put(next_id, job);
+      next_id++;
+    }
+
+    job_queue.add(job);
+
+    return job;
+  }
+
+  /**
+   * Méthode pour obtenir une demande de rendu.
+   *
+   * @param id - L'identifiant de la demande.
+   * @return La demande (<b>null</b> si elle n'existe pas).
+   */
+  public SRenderJob getJob(int id)
+  {
+    synchronized(job_map)
+    {
+      return job_map.get(id);
+    }
+  }
+
+  /**
+   * Méthode pour obtenir l'ensemble des demandes de rendu (par ordre d'arrivée).
+   *
+   * @return La liste des demandes.
+   */
+  public List<SRenderJob> getJobList()
+  {
+    synchronized(job_map)
+    {
+      return new ArrayList<SRenderJob>(job_map.values());
+    }
+  }
+
+  /**
+   * Méthode pour obtenir une scène conservée en mémoire. Cette méthode doit être appelée lorsqu'aucune demande n'est en cours de rendu.
+   *
+   * @param scene_file_name - Le nom du fichier de la scène.
+   * @return La scène (<b>null</b> si elle n'est pas conservée en mémoire).
+   */
+  SScene getScene(String scene_file_name)
+  {
+    SSceneEntry entry = scene_map.get(scene_file_name);
+
+    return entry != null ? entry.scene : null;
+  }
+
+  /**
+   * Méthode pour lancer le serveur et rendre les demandes reçues jusqu'à l'interruption de la tâche appelante.
+   */
+  public void run()
+  {
+    server.start();
+
+    SLog.logWriteLine("Message SRenderDaemon : Le service de rendu est en attente de demandes sur le port '" + getPort() + "'.");
+
+    try{
+
+      while(true)
+        render(job_queue.take());
+
+    }catch(InterruptedException e){
+      // Arrêt du service
+    }finally{
+      server.stop(0);
+    }
+
+    SLog.logWriteLine("Message SRenderDaemon : Le service de rendu est arrêté.");
+  }
+
+  /**
+   * Méthode pour rendre une demande. Une demande annulée pendant son attente est ignorée.
+   *
+   * @param job - La demande.
+   */
+  private void render(SRenderJob job)
+  {
+    if(!job.start())
+      return;
+
+    SLog.logWriteLine("Message SRenderDaemon : Rendu de la demande " + job.getId() + " (scène '" + job.getSceneFileName() + "').");
+
+    SChronometer chrono = new SChronometer();
+    chrono.start();
+
+    try{
+
+      SScene scene = loadScene(job.getSceneFileName());
+      SViewport viewport = scene.getViewport();
+
+      if(job.getOutputFileName() != null && viewport.getStreamingOutput() != SViewport.NO_STREAMING)
+        throw new SRuntimeException("Erreur SRenderDaemon 002 : Le fichier image '" + job.getOutputFileName() + "' ne peut pas être choisi, car le viewport de la scène utilise l'écriture continue.");
+
+      // La caméra de la demande conserve l'objectif de la caméra de la scène
+      SCamera camera = scene.getCamera();
+
+      if(job.isCameraOverride())
+        camera = camera.move(job.getPosition(), job.getLookAt(), job.getUp() != null ? job.getUp() : camera.getUp());
+
+      // L'espace des géométries de la scène est réutilisé
+      SRaytracer raytracer = scene.buildRaytracer(camera, viewport);
+
+      viewport.clear();
+
+      long nb_pixel = (long)viewport.getWidth() * (long)viewport.getHeight();
+      long count = 0;
+
+      while(viewport.hasNextPixel())
+      {
+        if(job.isCancelRequested())
+        {
+          // L'image partielle est abandonnée
+          viewport.clear();
+
+          job.finish(SRenderJob.CANCELLED, null);
+          SLog.logWriteLine("Message SRenderDaemon : La demande " + job.getId() + " est annulée.");
+          return;
+        }
+
+        raytracer.raytrace(PIXEL_PACK);
+
+        count = Math.min(nb_pixel, count + PIXEL_PACK);
+        job.setProgress((double)count / (double)nb_pixel);
+      }
+
+      if(job.getOutputFileName() != null)
+        ImageIO.write(viewport.getBufferedImage(), "png", new File(job.getOutputFileName()));
+      else
+        viewport.writeImage();
+
+      job.finish(SRenderJob.DONE, null);
+
+      chrono.stop();
+      SLog.logWriteLine("Message SRenderDaemon : Fin du rendu de la demande " + job.getId() + " (" + chrono.getTime() + " s).");
+
+    }catch(IOException | RuntimeException e){
+      // Toute erreur d'une demande (ex. SNoImplementationException) est limitée à cette demande : le service continue
+      String message = e.getMessage() != null ? e.getMessage() : e.toString();
+
+      job.finish(SRenderJob.FAILED, message);
+
+      SLog.logWriteLine("Message SRenderDaemon : La demande " + job.getId() + " est en erreur." + SStringUtil.END_LINE_CARACTER + "\t" + message);
+    }
+  }
+
+  /**
+   * Méthode pour obtenir une scène construite. Une scène conservée en mémoire est réutilisée si ses fichiers n'ont pas été modifiés.
+   * Sinon, la scène est relue en réutilisant ses éléments inchangés (rechargement à chaud).
+   *
+   * @param scene_file_name - Le nom du fichier de la scène.
+   * @return La scène.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   * @throws SConstructorException Si une erreur est survenue lors de la construction de la scène.
+   */
+  private SScene loadScene(String scene_file_name) throws IOException, SConstructorException
+  {
+    updateModifiedFile();
+
+    SSceneEntry entry = scene_map.get(scene_file_name);
+
+    if(entry != null && entry.modified_file_set.isEmpty())
+      return entry.scene;
+
+    SScene scene;
+
+    if(entry == null)
+    {
+      SLog.logWriteLine("Message SRenderDaemon : Lecture de la scène '" + scene_file_name + "'.");
+      scene = new SScene(scene_file_name);
+    }
+    else
+    {
+      SLog.logWriteLine("Message SRenderDaemon : Relecture de la scène modifiée '" + scene_file_name + "'.");
+      scene = new SScene(scene_file_name, entry.scene, entry.modified_file_set);
+    }
+
+    // Une demande peut être annulée : la scène n'est pas sauvegardée pour une reprise
+    scene.getViewport().setCheckpointFile(null);
+
+    scene_map.put(scene_file_name, new SSceneEntry(scene));
+
+    // Surveillance de la scène et des ressources lues
+    watcher.addFile(scene_file_name);
+    watcher.addFile(SModelReader.getLoadedFileNameList());
+    watcher.addFile(STextureReader.getLoadedFileNameList());
+
+    return scene;
+  }
+
+  /**
+   * Méthode pour retirer de la mémoire les ressources modifiées et identifier les fichiers modifiés de chaque scène conservée.
+   */
+  private void updateModifiedFile()
+  {
+    List<String> modified_file_list = watcher.getModifiedFileList();
+
+    if(modified_file_list.isEmpty())
+      return;
+
+    // Une texture modifiée peut être utilisée par les matériaux d'un modèle. Les modèles devront alors être relus.
+    for(String file_name : STextureReader.getLoadedFileNameList())
+      if(modified_file_list.contains(file_name))
+      {
+        modified_file_list.addAll(SModelReader.getLoadedFileNameList());
+        break;
+      }
+
+    for(String file_name : modified_file_list)
+    {
+      SLog.logWriteLine("Message SRenderDaemon : Le fichier '" + file_name + "' a été modifié.");
+      SModelReader.removeLoadedFile(file_name);
+      STextureReader.removeLoadedFile(file_name);
+    }
+
+    // Les ressources étant partagées, chaque scène conservée devra être relue
+    for(SSceneEntry entry : scene_map.values())
+      entry.modified_file_set.addAll(modified_file_list);
+  }
+
+  /**
+   * Méthode pour traiter une requête HTTP portant sur les demandes de rendu.
+   *
+   * @param exchange - La requête et sa réponse.
+   * @throws IOException S'il y a une erreur de communication avec le client.
+   */
+  private void handle(HttpExchange exchange) throws IOException
+  {
+    try{
+
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getPath();
+
+      // Requêtes portant sur l'ensemble des demandes
+      if(path.equals(JOB_PATH) || path.equals(JOB_PATH + "/"))
+      {
+        if(method.equals("GET"))
+        {
+          StringBuilder builder = new StringBuilder();
+
+          for(SRenderJob job : getJobList())
+            builder.append(job).append(SStringUtil.END_LINE_CARACTER);
+
+          send(exchange, 200, builder.toString());
+        }
+        else
+          if(method.equals("POST"))
+          {
+            Map<String, String> parameter = readParameter(exchange);
+
+            SRenderJob job = submit(parameter.get("scene"),
+                                    parameter.containsKey("priority") ? Integer.parseInt(parameter.get("priority")) : 0,
+                                    readVector(parameter, "position"), readVector(parameter, "look_at"), readVector(parameter, "up"),
+                                    parameter.get("output"));
+
+            send(exchange, 201, job + SStringUtil.END_LINE_CARACTER);
+          }
+          else
+            send(exchange, 405, "Erreur SRenderDaemon 003 : La méthode '" + method + "' n'est pas reconnue." + SStringUtil.END_LINE_CARACTER);
+
+        return;
+      }
+
+      // Requêtes portant sur une demande
+      SRenderJob job = getJob(Integer.parseInt(path.substring(JOB_PATH.length() + 1)));
+
+      if(job == null)
+        send(exchange, 404, "Erreur SRenderDaemon 004 : La demande '" + path + "' n'existe pas." + SStringUtil.END_LINE_CARACTER);
+      else
+        if(method.equals("GET"))
+          send(exchange, 200, job + SStringUtil.END_LINE_CARACTER);
+        else
+          if(method.equals("DELETE"))
+          {
+            if(job.cancel())
+              send(exchange, 200, job + SStringUtil.END_LINE_CARACTER);
+            else
+              send(exchange, 409, "Erreur SRenderDaemon 005 : La demande " + job.getId() + " est terminée et ne peut pas être annulée." + SStringUtil.END_LINE_CARACTER);
+          }
+          else
+            send(exchange, 405, "Erreur SRenderDaemon 003 : La méthode '" + method + "' n'est pas reconnue." + SStringUtil.END_LINE_CARACTER);
+
+    }catch(NumberFormatException | SReadingException | SConstructorException e){
+      send(exchange, 400, e.getMessage() + SStringUtil.END_LINE_CARACTER);
+    }
+  }
+
+  /**
+   * Méthode pour lire les paramètres d'une requête transmis dans l'adresse et dans le corps de la requête.
+   *
+   * @param exchange - La requête.
+   * @return La carte des paramètres. La <b>clé de recherche</b> est le nom du paramètre.
+   * @throws IOException S'il y a une erreur de lecture de la requête.
+   */
+  private static Map<String, String> readParameter(HttpExchange exchange) throws IOException
+  {
+    Map<String, String> map = new HashMap<String, String>();
+
+    readParameter(exchange.getRequestURI().getRawQuery(), map);
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    try(InputStream in = exchange.getRequestBody()){
+      byte[] buffer = new byte[4096];
+
+      for(int n = in.read(buffer); n > 0; n = in.read(buffer))
+        body.write(buffer, 0, n);
+    }
+
+    readParameter(new String(body.toByteArray(), StandardCharsets.UTF_8), map);
+
+    return map;
+  }
+
+  /**
+   * Méthode pour lire des paramètres encodés (nom=valeur&amp;nom=valeur).
+   *
+   * @param encoded - Les paramètres encodés (<b>null</b> s'il n'y en a pas).
+   * @param map - La carte des paramètres à compléter.
+   * @throws UnsupportedEncodingException Si l'encodage UTF-8 n'est pas supporté.
+   */
+  private static void readParameter(String encoded, Map<String, String> map) throws UnsupportedEncodingException
+  {
+    if(encoded == null || encoded.trim().isEmpty())
+      return;
+
+    for(String pair : encoded.trim().split("&"))
+    {
+      int index = pair.indexOf('=');
+
+      if(index > 0)
+        map.put(URLDecoder.decode(pair.substring(0, index), "UTF-8"), URLDecoder.decode(pair.substring(index + 1), "UTF-8"));
+    }
+  }
+
+  /**
+   * Méthode pour lire un vecteur parmi les paramètres d'une requête.
+   *
+   * @param map - La carte des paramètres.
+   * @param name - Le nom du paramètre.
+   * @return Le vecteur (<b>null</b> si le paramètre n'est pas défini).
+   * @throws SReadingException Si le paramètre ne définit pas un vecteur.
+   */
+  private static SVector3d readVector(Map<String, String> map, String name) throws SReadingException
+  {
+    if(!map.containsKey(name))
+      return null;
+
+    return new SVector3d(map.get(name));
+  }
+
+  /**
+   * Méthode pour envoyer la réponse d'une requête.
+   *
+   * @param exchange - La requête.
+   * @param code - Le code de la réponse HTTP.
+   * @param text - Le texte de la réponse.
+   * @throws IOException S'il y a une erreur de communication avec le client.
+   */
+  private static void send(HttpExchange exchange, int code, String text) throws IOException
+  {
+    byte[] data = text.getBytes(StandardCharsets.UTF_8);
+
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+    exchange.sendResponseHeaders(code, data.length);
+
+    try(OutputStream out = exchange.getResponseBody()){
+      out.write(data);
+    }
+  }
+
+  /**
+   * Classe interne représentant une scène conservée en mémoire et les fichiers modifiés depuis sa lecture.
+   */
+  private static class SSceneEntry {
+
+    /**
+     * La variable <b>scene</b> correspond à la scène construite.
+     */
+    private final SScene scene;
+
+    /**
+     * La variable <b>modified_file_set</b> correspond à l'ensemble des noms de fichier modifiés depuis la lecture de la scène.
+     */
+    private final Set<String> modified_file_set;
+
+    /**
+     * Constructeur d'une scène conservée en mémoire.
+     *
+     * @param scene - La scène construite.
+     */
+    private SSceneEntry(SScene scene)
+    {
+      this.scene = scene;
+      this.modified_file_set = new HashSet<String>();
+    }
+  }
+
+}//fin de la classe SRenderDaemon
@@ -0,0 +1,366 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.util.Locale;
+
+import sim.exception.SConstructorException;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SRenderJob</b> représente une demande de rendu reçue par le service de rendu (<b>SRenderDaemon</b>).
+ * Une demande identifie la scène à rendre, sa priorité, une position de caméra remplaçant celle de la scène (optionnelle)
+ * et le fichier image à écrire (optionnel).
+ * </p>
+ *
+ * <p>
+ * Les demandes sont ordonnées par priorité décroissante puis par ordre d'arrivée. L'état et la progression d'une demande
+ * sont modifiés par la tâche de rendu et consultés par les requêtes des clients.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRenderJob implements Comparable<SRenderJob> {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>STATE</b> correspond au nom des états d'une demande de rendu.
+   */
+  public static final String[] STATE = { "queued", "running", "done", "failed", "cancelled" };
+
+  /**
+   * La constante <b>QUEUED</b> correspond à l'état d'une demande en attente étant égal à {@value}.
+   */
+  public static final int QUEUED = 0;
+
+  /**
+   * La constante <b>RUNNING</b> correspond à l'état d'une demande en cours de rendu étant égal à {@value}.
+   */
+  public static final int RUNNING = 1;
+
+  /**
+   * La constante <b>DONE</b> correspond à l'état d'une demande dont l'image a été écrite étant égal à {@value}.
+   */
+  public static final int DONE = 2;
+
+  /**
+   * La constante <b>FAILED</b> correspond à l'état d'une demande en erreur étant égal à {@value}.
+   */
+  public static final int FAILED = 3;
+
+  /**
+   * La constante <b>CANCELLED</b> correspond à l'état d'une demande annulée étant égal à {@value}.
+   */
+  public static final int CANCELLED = 4;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>id</b> correspond à l'identifiant de la demande (attribué par ordre d'arrivée).
+   */
+  private final int id;
+
+  /**
+   * La variable <b>scene_file_name</b> correspond au nom du fichier de la scène à rendre.
+   */
+  private final String scene_file_name;
+
+  /**
+   * La variable <b>priority</b> correspond à la priorité de la demande. Une demande de plus grande priorité est rendue en premier.
+   */
+  private final int priority;
+
+  /**
+   * La variable <b>position</b> correspond à la position de la caméra (<b>null</b> pour la caméra de la scène).
+   */
+  private final SVector3d position;
+
+  /**
+   * La variable <b>look_at</b> correspond à la position où regarde la caméra (<b>null</b> pour la caméra de la scène).
+   */
+  private final SVector3d look_at;
+
+  /**
+   * La variable <b>up</b> correspond à l'orientation du haut de la caméra (<b>null</b> pour celle de la caméra de la scène).
+   */
+  private final SVector3d up;
+
+  /**
+   * La variable <b>output_file_name</b> correspond au nom du fichier image PNG à écrire (<b>null</b> pour le fichier du viewport de la scène).
+   */
+  private final String output_file_name;
+
+  /**
+   * La variable <b>state</b> correspond à l'état de la demande.
+   */
+  private int state;
+
+  /**
+   * La variable <b>progress</b> correspond à la proportion des pixels rendus (entre 0 et 1).
+   */
+  private volatile double progress;
+
+  /**
+   * La variable <b>cancel_requested</b> détermine si l'annulation de la demande en cours de rendu a été demandée.
+   */
+  private volatile boolean cancel_requested;
+
+  /**
+   * La variable <b>message</b> correspond au message d'erreur d'une demande en erreur (<b>null</b> sinon).
+   */
+  private String message;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une demande de rendu.
+   *
+   * @param id - L'identifiant de la demande.
+   * @param scene_file_name - Le nom du fichier de la scène.
+   * @param priority - La priorité de la demande.
+   * @param position - La position de la caméra (<b>null</b> pour la caméra de la scène).
+   * @param look_at - La position où regarde la caméra (<b>null</b> pour la caméra de la scène).
+   * @param up - L'orientation du haut de la caméra (<b>null</b> pour celle de la caméra de la scène).
+   * @param output_file_name - Le nom du fichier image à écrire (<b>null</b> pour le fichier du viewport de la scène).
+   * @throws SConstructorException Si le nom de la scène est vide ou si la position de la caméra est incomplète.
+   */
+  public SRenderJob(int id, String scene_file_name, int priority, SVector3d position, SVector3d look_at, SVector3d up, String output_file_name) throws SConstructorException
+  {
+    if(scene_file_name == null || scene_file_name.isEmpty())
+      throw new SConstructorException("Erreur SRenderJob 001 : Le nom de la scène à rendre n'est pas défini.");
+
+    if((position == null) != (look_at == null))
+      throw new SConstructorException("Erreur SRenderJob 002 : La position de la caméra et la position où elle regarde doivent être définies ensemble.");
+
+    if(up != null && position == null)
+      throw new SConstructorException("Erreur SRenderJob 003 : L'orientation du haut de la caméra '" + up + "' est définie sans la position de la caméra.");
+
+    this.id = id;
+    this.scene_file_name = scene_file_name;
+    this.priority = priority;
+    this.position = position;
+    this.look_at = look_at;
+    this.up = up;
+    this.output_file_name = output_file_name;
+
+    state = QUEUED;
+    progress = 0.0;
+    cancel_requested = false;
+    message = null;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir l'identifiant de la demande.
+   *
+   * @return L'identifiant.
+   */
+  public int getId()
+  {
+    return id;
+  }
+
+  /**
+   * Méthode pour obtenir le nom du fichier de la scène à rendre.
+   *
+   * @return Le nom du fichier de la scène.
+   */
+  public String getSceneFileName()
+  {
+    return scene_file_name;
+  }
+
+  /**
+   * Méthode pour obtenir la priorité de la demande.
+   *
+   * @return La priorité.
+   */
+  public int getPriority()
+  {
+    return priority;
+  }
+
+  /**
+   * Méthode pour déterminer si la demande remplace la position de la caméra de la scène.
+   *
+   * @return <b>true</b> si la caméra est déplacée et <b>false</b> sinon.
+   */
+  public boolean isCameraOverride()
+  {
+    return position != null;
+  }
+
+  /**
+   * Méthode pour obtenir la position de la caméra.
+   *
+   * @return La position de la caméra (<b>null</b> pour la caméra de la scène).
+   */
+  public SVector3d getPosition()
+  {
+    return position;
+  }
+
+  /**
+   * Méthode pour obtenir la position où regarde la caméra.
+   *
+   * @return La position où regarde la caméra (<b>null</b> pour la caméra de la scène).
+   */
+  public SVector3d getLookAt()
+  {
+    return look_at;
+  }
+
+  /**
+   * Méthode pour obtenir l'orientation du haut de la caméra.
+   *
+   * @return L'orientation du haut (<b>null</b> pour celle de la caméra de la scène).
+   */
+  public SVector3d getUp()
+  {
+    return up;
+  }
+
+  /**
+   * Méthode pour obtenir le nom du fichier image à écrire.
+   *
+   * @return Le nom du fichier image (<b>null</b> pour le fichier du viewport de la scène).
+   */
+  public String getOutputFileName()
+  {
+    return output_file_name;
+  }
+
+  /**
+   * Méthode pour obtenir l'état de la demande.
+   *
+   * @return L'état de la demande.
+   * @see SRenderJob#STATE
+   */
+  public synchronized int getState()
+  {
+    return state;
+  }
+
+  /**
+   * Méthode pour obtenir la proportion des pixels rendus.
+   *
+   * @return La progression (entre 0 et 1).
+   */
+  public double getProgress()
+  {
+    return progress;
+  }
+
+  /**
+   * Méthode pour déterminer si l'annulation de la demande en cours de rendu a été demandée.
+   *
+   * @return <b>true</b> si le rendu doit être interrompu et <b>false</b> sinon.
+   */
+  public boolean isCancelRequested()
+  {
+    return cancel_requested;
+  }
+
+  /**
+   * Méthode pour annuler la demande. Une demande en attente est annulée immédiatement alors qu'une demande
+   * en cours de rendu sera interrompue par la tâche de rendu.
+   *
+   * @return <b>true</b> si la demande peut être annulée et <b>false</b> si elle est déjà terminée.
+   */
+  public synchronized boolean cancel()
+  {
+    switch(state)
+    {
+      case QUEUED : state = CANCELLED; return true;
+
+      case RUNNING : cancel_requested = true; return true;
+
+      default : return false;
+    }
+  }
+
+  /**
+   * Méthode pour débuter le rendu de la demande.
+   *
+   * @return <b>true</b> si le rendu peut débuter et <b>false</b> si la demande a été annulée.
+   */
+  synchronized boolean start()
+  {
+    if(state != QUEUED)
+      return false;
+
+    state = RUNNING;
+
+    return true;
+  }
+
+  /**
+   * Méthode pour modifier la progression du rendu.
+   *
+   * @param progress - La proportion des pixels rendus.
+   */
+  void setProgress(double progress)
+  {
+    this.progress = progress;
+  }
+
+  /**
+   * Méthode pour terminer le rendu de la demande.
+   *
+   * @param state - L'état final (DONE, FAILED ou CANCELLED).
+   * @param message - Le message d'erreur (<b>null</b> s'il n'y en a pas).
+   */
+  synchronized void finish(int state, String message)
+  {
+    this.state = state;
+    this.message = message;
+
+    if(state == DONE)
+      progress = 1.0;
+  }
+
+  /**
+   * Méthode pour comparer deux demandes selon leur ordre de rendu : la priorité la plus grande en premier,
+   * puis la demande arrivée la première.
+   */
+  @Override
+  public int compareTo(SRenderJob job)
+  {
+    if(priority != job.priority)
+      return Integer.compare(job.priority, priority);
+
+    return Integer.compare(id, job.id);
+  }
+
+  /**
+   * Méthode pour décrire la demande sur une ligne (identifiant, état, progression, priorité, scène, fichier image et message).
+   */
+  @Override
+  public synchronized String toString()
+  {
+    String line = id + "\t" + STATE[state] + "\t" + String.format(Locale.US, "%.1f", 100.0*progress) + "%\t" + priority + "\t" + scene_file_name;
+
+    if(output_file_name != null)
+      line += "\t" + output_file_name;
+
+    if(message != null)
+      line += "\t" + message.replaceAll("\\s+", " ");
+
+    return line;
+  }
+
+}//fin de la classe SRenderJob
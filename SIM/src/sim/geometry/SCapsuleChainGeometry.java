@@ -0,0 +1,1077 @@
+/**
+ *
+ */
+package sim.geometry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import sim.exception.SConstructorException;
+import sim.exception.SNoImplementationException;
+import sim.graphics.SPrimitive;
+import sim.math.SMath;
+import sim.math.SVector3d;
+import sim.math.SVectorUV;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SCapsuleChainGeometry</b> représente la géométrie d'une chaîne de capsules (sphère balayée le long d'une ligne brisée).
+ * Chaque segment entre deux points consécutifs de la chaîne est une capsule, soit un tube de rayon R fermé par deux demi-sphères de rayon R.
+ * Les capsules consécutives partagent la sphère de leur point commun ce qui donne une surface continue aux jonctions.
+ * </p>
+ * <p>
+ * Une seule géométrie représente l'ensemble de la chaîne. Les points sont conservés dans un tableau de coordonnées et
+ * une hiérarchie de volumes englobants est construite le long de la chaîne en divisant récursivement la séquence des segments en deux.
+ * Puisque les points d'une chaîne sont voisins dans l'espace, cette hiérarchie est compacte et le test d'intersection parcourt
+ * uniquement les segments près du rayon. Cette géométrie ne reçoit pas de boîte englobante dans un espace de voxels
+ * afin de ne pas être testée à répétition dans chaque voxel traversé par un rayon.
+ * </p>
+ * <p>
+ * La surface de la chaîne est la surface de l'union des capsules. Une racine sur la surface d'une capsule n'est retenue
+ * que si elle n'est pas à l'intérieur d'une autre capsule de la chaîne.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-10
+ * @version 2017-02-14
+ */
+public class SCapsuleChainGeometry extends SAbstractGeometry {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = { SKeyWordDecoder.KW_POINT, SKeyWordDecoder.KW_RAY };
+
+  /**
+   * La constante <b>DEFAULT_COORDINATE</b> correspond aux coordonnées des points par défaut d'une chaîne étant un segment de l'origine à (1,0,0).
+   */
+  private static final double[] DEFAULT_COORDINATE = { 0.0, 0.0, 0.0, 1.0, 0.0, 0.0 };
+
+  /**
+   * La constante <b>DEFAULT_RAY</b> correspond au rayon par défaut des capsules de la chaîne étant égal à {@value}.
+   */
+  private static final double DEFAULT_RAY = 0.1;
+
+  /**
+   * La constante <b>LEAF_SIZE</b> correspond au nombre maximal de segments dans une feuille de la hiérarchie étant égal à {@value}.
+   */
+  private static final int LEAF_SIZE = 4;
+
+  /**
+   * La constante <b>STACK_SIZE</b> correspond à la taille de la pile de parcours de la hiérarchie étant égale à {@value}.
+   * La hiérarchie étant équilibrée, sa profondeur est inférieure à 32 pour toute chaîne représentable.
+   */
+  private static final int STACK_SIZE = 64;
+
+  /**
+   * La constante <b>MAX_UNION_ITERATION</b> correspond au nombre maximal de racines rejetées (car à l'intérieur d'une autre capsule)
+   * lors de la recherche de l'intersection d'un rayon avec la surface de l'union des capsules étant égal à {@value}.
+   */
+  private static final int MAX_UNION_ITERATION = 256;
+
+  /**
+   * La constante <b>TRAVERSAL_BUFFER</b> correspond aux piles de parcours de la hiérarchie propres à chaque <i>thread</i>.
+   * Elles sont réutilisées d'une intersection à l'autre plutôt qu'allouées à chaque parcours.
+   */
+  private static final ThreadLocal<STraversalBuffer> TRAVERSAL_BUFFER = ThreadLocal.withInitial(STraversalBuffer::new);
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>coordinate</b> correspond aux coordonnées des points de la chaîne (x0, y0, z0, x1, y1, z1, ...).
+   */
+  private double[] coordinate;
+
+  /**
+   * La variable <b>R</b> correspond au rayon des capsules de la chaîne.
+   */
+  private double R;
+
+  /**
+   * La variable <b>reading_point</b> correspond au nombre de points lus lors de la lecture en fichier.
+   */
+  private int reading_point;
+
+  //--------------------------
+  // PARAMÈTRE DE PRÉCALCUL //
+  //--------------------------
+
+  /**
+   * La variable <b>R2</b> correspond au carré du rayon des capsules.
+   */
+  private double R2;
+
+  /**
+   * La variable <b>nb_segment</b> correspond au nombre de segments de la chaîne.
+   * Le segment i relie le point i au point i+1. Une chaîne d'un seul point est un segment de longueur nulle (une sphère).
+   */
+  private int nb_segment;
+
+  /**
+   * La variable <b>node_bound</b> correspond aux boîtes englobantes des noeuds de la hiérarchie (xmin, ymin, zmin, xmax, ymax, zmax, ...).
+   */
+  private double[] node_bound;
+
+  /**
+   * Les variables <b>node_start</b> et <b>node_end</b> correspondent à l'intervalle [start, end[ des segments contenus dans un noeud.
+   */
+  private int[] node_start;
+  private int[] node_end;
+
+  /**
+   * La variable <b>node_right</b> correspond à l'index de l'enfant de droite d'un noeud (-1 pour une feuille).
+   * L'enfant de gauche d'un noeud est toujours le noeud suivant.
+   */
+  private int[] node_right;
+
+  //-----------------
+  // CONSTRUCTEURS //
+  //-----------------
+
+  /**
+   * Constructeur d'une chaîne de capsules par défaut.
+   */
+  public SCapsuleChainGeometry()
+  {
+    this(DEFAULT_COORDINATE.clone(), DEFAULT_RAY);
+  }
+
+  /**
+   * Constructeur d'une chaîne de capsules à partir d'une liste de points.
+   *
+   * @param point_list La liste des points de la chaîne.
+   * @param ray Le rayon des capsules.
+   * @throws SConstructorException Si la chaîne n'a pas de point ou si le rayon n'est pas positif.
+   */
+  public SCapsuleChainGeometry(List<SVector3d> point_list, double ray) throws SConstructorException
+  {
+    this(toCoordinate(point_list), ray, null);
+  }
+
+  /**
+   * Constructeur d'une chaîne de capsules à partir d'un tableau de coordonnées.
+   *
+   * @param coordinate Les coordonnées des points de la chaîne (x0, y0, z0, x1, y1, z1, ...). Le tableau est conservé sans copie.
+   * @param ray Le rayon des capsules.
+   * @throws SConstructorException Si la chaîne n'a pas de point ou si le rayon n'est pas positif.
+   */
+  public SCapsuleChainGeometry(double[] coordinate, double ray) throws SConstructorException
+  {
+    this(coordinate, ray, null);
+  }
+
+  /**
+   * Constructeur d'une chaîne de capsules à partir d'un tableau de coordonnées.
+   *
+   * @param coordinate Les coordonnées des points de la chaîne (x0, y0, z0, x1, y1, z1, ...). Le tableau est conservé sans copie.
+   * @param ray Le rayon des capsules.
+   * @param parent La primitive parent à cette géométrie.
+   * @throws SConstructorException Si la chaîne n'a pas de point ou si le rayon n'est pas positif.
+   */
+  public SCapsuleChainGeometry(double[] coordinate, double ray, SPrimitive parent) throws SConstructorException
+  {
+    super(parent);
+
+    if(ray <= 0.0)
+      throw new SConstructorException("Erreur SCapsuleChainGeometry 001 : Le rayon des capsules R = " + ray + " doit être positif.");
+
+    this.coordinate = coordinate;
+    R = ray;
+    reading_point = 0;
+
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SCapsuleChainGeometry 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Constructeur d'une chaîne de capsules à partir d'information lue dans un fichier de format txt.
+   *
+   * @param sbr Le BufferedReader cherchant l'information dans le fichier txt.
+   * @param parent La primitive qui fait la construction de cette géométrie (qui est le parent).
+   * @throws IOException Si une erreur de de type I/O est lancée.
+   * @throws SConstructorException Si une ereur est survenue lors de la construction de la géométrie.
+   */
+  public SCapsuleChainGeometry(SBufferedReader sbr, SPrimitive parent) throws IOException, SConstructorException
+  {
+    this(DEFAULT_COORDINATE.clone(), DEFAULT_RAY, parent);
+
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SCapsuleChainGeometry 003 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de points de la chaîne.
+   *
+   * @return Le nombre de points.
+   */
+  public int getNbPoint()
+  {
+    return coordinate.length / 3;
+  }
+
+  /**
+   * Méthode pour obtenir un point de la chaîne.
+   *
+   * @param index L'index du point.
+   * @return Le point.
+   * @throws IndexOutOfBoundsException Si l'index est à l'extérieur des bornes suivantes (index < 0 || index >= getNbPoint()).
+   */
+  public SVector3d getPoint(int index) throws IndexOutOfBoundsException
+  {
+    if(index < 0 || index >= getNbPoint())
+      throw new IndexOutOfBoundsException("Erreur SCapsuleChainGeometry 004 : L'index " + index + " est à l'extérieur de la chaîne de " + getNbPoint() + " points.");
+
+    return new SVector3d(coordinate[3*index], coordinate[3*index + 1], coordinate[3*index + 2]);
+  }
+
+  /**
+   * Méthode pour obtenir le rayon des capsules de la chaîne.
+   *
+   * @return Le rayon des capsules.
+   */
+  public double getRay()
+  {
+    return R;
+  }
+
+  /**
+   * Méthode pour obtenir le point minimal de la boîte englobant l'ensemble de la chaîne (racine de la hiérarchie).
+   *
+   * @return Le point minimal.
+   */
+  public SVector3d getMinPoint()
+  {
+    return new SVector3d(node_bound[0], node_bound[1], node_bound[2]);
+  }
+
+  /**
+   * Méthode pour obtenir le point maximal de la boîte englobant l'ensemble de la chaîne (racine de la hiérarchie).
+   *
+   * @return Le point maximal.
+   */
+  public SVector3d getMaxPoint()
+  {
+    return new SVector3d(node_bound[3], node_bound[4], node_bound[5]);
+  }
+
+  @Override
+  public int getCodeName()
+  {
+    return SAbstractGeometry.CAPSULE_CHAIN_CODE;
+  }
+
+  @Override
+  public boolean isClosedGeometry()
+  {
+    return true;
+  }
+
+  @Override
+  public boolean isInside(SVector3d v)
+  {
+    return findSegment(v.getX(), v.getY(), v.getZ(), -1, R2) >= 0;
+  }
+
+  @Override
+  public SRay intersection(SRay ray) throws SAlreadyIntersectedRayException
+  {
+    SVector3d origin = ray.getOrigin();
+    SVector3d direction = ray.getDirection();
+
+    double ox = origin.getX();
+    double oy = origin.getY();
+    double oz = origin.getZ();
+
+    double dx = direction.getX();
+    double dy = direction.getY();
+    double dz = direction.getZ();
+
+    STraversalBuffer buffer = TRAVERSAL_BUFFER.get();
+
+    double t_min = SRay.getEpsilon();
+
+    for(int i = 0; i < MAX_UNION_ITERATION; i++)
+    {
+      double t = nearestRoot(ox, oy, oz, dx, dy, dz, t_min, buffer);
+
+      if(t == SMath.INFINITY)
+        return ray;
+
+      double x = ox + t*dx;
+      double y = oy + t*dy;
+      double z = oz + t*dz;
+
+      // La racine est sur la surface de l'union si elle n'est pas à l'intérieur d'une autre capsule
+      int other = findSegment(x, y, z, buffer.hit_segment, R2*SMath.ONE_MINUS_1000EPSILON);
+
+      if(other < 0)
+        return ray.intersection(this, segmentNormal(buffer.hit_segment, x, y, z), t);
+
+      // La surface de l'union ne peut pas être rencontrée avant la sortie de la capsule contenant la racine (capsule convexe)
+      double t_exit = capsuleRoot(other, ox, oy, oz, dx, dy, dz, t);
+
+      t_min = t_exit == SMath.INFINITY ? t : t_exit - SRay.getEpsilon();
+
+      if(t_min < t)
+        t_min = t;
+    }
+
+    return ray;
+  }
+
+  /**
+   * Méthode pour obtenir la plus petite racine supérieure à un temps minimal parmi les capsules de la chaîne.
+   *
+   * @param ox La composante x de l'origine du rayon.
+   * @param oy La composante y de l'origine du rayon.
+   * @param oz La composante z de l'origine du rayon.
+   * @param dx La composante x de la direction du rayon.
+   * @param dy La composante y de la direction du rayon.
+   * @param dz La composante z de la direction du rayon.
+   * @param t_min Le temps minimal (exclus).
+   * @param buffer Les piles de parcours du <i>thread</i> où sera aussi affecté l'index du segment de la racine.
+   * @return Le temps de la racine ou {@link SMath#INFINITY} s'il n'y en a pas.
+   */
+  private double nearestRoot(double ox, double oy, double oz, double dx, double dy, double dz, double t_min, STraversalBuffer buffer)
+  {
+    double idx = 1.0 / dx;
+    double idy = 1.0 / dy;
+    double idz = 1.0 / dz;
+
+    double best = SMath.INFINITY;
+
+    if(boxEntry(0, ox, oy, oz, idx, idy, idz, t_min, best) == SMath.INFINITY)
+      return best;
+
+    int[] stack = buffer.stack;
+    double[] stack_entry = buffer.stack_entry;
+    int size = 0;
+
+    int node = 0;
+
+    while(true)
+    {
+      int right = node_right[node];
+
+      if(right < 0)
+      {
+        // Feuille : tester les capsules du noeud
+        for(int s = node_start[node]; s < node_end[node]; s++)
+        {
+          double t = capsuleRoot(s, ox, oy, oz, dx, dy, dz, t_min);
+
+          if(t < best)
+          {
+            best = t;
+            buffer.hit_segment = s;
+          }
+        }
+
+        node = -1;
+      }
+      else
+      {
+        // Noeud interne : descendre dans l'enfant le plus près et empiler l'autre
+        int left = node + 1;
+
+        double t_left = boxEntry(left, ox, oy, oz, idx, idy, idz, t_min, best);
+        double t_right = boxEntry(right, ox, oy, oz, idx, idy, idz, t_min, best);
+
+        if(t_left == SMath.INFINITY)
+          node = t_right == SMath.INFINITY ? -1 : right;
+        else if(t_right == SMath.INFINITY)
+          node = left;
+        else if(t_left <= t_right)
+        {
+          stack[size] = right;
+          stack_entry[size++] = t_right;
+          node = left;
+        }
+        else
+        {
+          stack[size] = left;
+          stack_entry[size++] = t_left;
+          node = right;
+        }
+      }
+
+      // Dépiler le prochain noeud pouvant contenir une racine plus près
+      while(node < 0)
+      {
+        if(size == 0)
+          return best;
+
+        size--;
+
+        if(stack_entry[size] <= best)
+          node = stack[size];
+      }
+    }
+  }
+
+  /**
+   * Méthode pour obtenir le temps d'entrée d'un rayon dans la boîte englobante d'un noeud à l'intérieur de l'intervalle [t_min, t_max].
+   *
+   * @param node L'index du noeud.
+   * @param ox La composante x de l'origine du rayon.
+   * @param oy La composante y de l'origine du rayon.
+   * @param oz La composante z de l'origine du rayon.
+   * @param idx L'inverse de la composante x de la direction du rayon.
+   * @param idy L'inverse de la composante y de la direction du rayon.
+   * @param idz L'inverse de la composante z de la direction du rayon.
+   * @param t_min Le début de l'intervalle.
+   * @param t_max La fin de l'intervalle.
+   * @return Le temps d'entrée dans la boîte ou {@link SMath#INFINITY} si le rayon ne traverse pas la boîte dans l'intervalle.
+   */
+  private double boxEntry(int node, double ox, double oy, double oz, double idx, double idy, double idz, double t_min, double t_max)
+  {
+    int b = 6*node;
+
+    double t_near = t_min;
+    double t_far = t_max;
+
+    double t1 = (node_bound[b] - ox) * idx;
+    double t2 = (node_bound[b + 3] - ox) * idx;
+
+    // Les comparaisons avec NaN (origine sur un plan d'une boîte parallèle au rayon) sont fausses et n'ont pas d'effet
+    if(t1 > t2) { double tmp = t1; t1 = t2; t2 = tmp; }
+    if(t1 > t_near) t_near = t1;
+    if(t2 < t_far) t_far = t2;
+
+    t1 = (node_bound[b + 1] - oy) * idy;
+    t2 = (node_bound[b + 4] - oy) * idy;
+
+    if(t1 > t2) { double tmp = t1; t1 = t2; t2 = tmp; }
+    if(t1 > t_near) t_near = t1;
+    if(t2 < t_far) t_far = t2;
+
+    t1 = (node_bound[b + 2] - oz) * idz;
+    t2 = (node_bound[b + 5] - oz) * idz;
+
+    if(t1 > t2) { double tmp = t1; t1 = t2; t2 = tmp; }
+    if(t1 > t_near) t_near = t1;
+    if(t2 < t_far) t_far = t2;
+
+    if(t_near > t_far)
+      return SMath.INFINITY;
+    else
+      return t_near;
+  }
+
+  /**
+   * Méthode pour obtenir la plus petite racine supérieure à un temps minimal entre un rayon et la surface de la capsule d'un segment.
+   * La capsule est l'union d'un tube et de deux sphères aux extrémités du segment.
+   *
+   * @param s L'index du segment.
+   * @param ox La composante x de l'origine du rayon.
+   * @param oy La composante y de l'origine du rayon.
+   * @param oz La composante z de l'origine du rayon.
+   * @param dx La composante x de la direction du rayon.
+   * @param dy La composante y de la direction du rayon.
+   * @param dz La composante z de la direction du rayon.
+   * @param t_min Le temps minimal (exclus).
+   * @return Le temps de la racine ou {@link SMath#INFINITY} s'il n'y en a pas.
+   */
+  private double capsuleRoot(int s, double ox, double oy, double oz, double dx, double dy, double dz, double t_min)
+  {
+    int a = 3*s;
+    int b = segmentEnd(s);
+
+    double bax = coordinate[b] - coordinate[a];
+    double bay = coordinate[b + 1] - coordinate[a + 1];
+    double baz = coordinate[b + 2] - coordinate[a + 2];
+
+    double oax = ox - coordinate[a];
+    double oay = oy - coordinate[a + 1];
+    double oaz = oz - coordinate[a + 2];
+
+    double baba = bax*bax + bay*bay + baz*baz;
+    double bard = bax*dx + bay*dy + baz*dz;
+    double baoa = bax*oax + bay*oay + baz*oaz;
+    double rdoa = dx*oax + dy*oay + dz*oaz;
+    double oaoa = oax*oax + oay*oay + oaz*oaz;
+    double dd = dx*dx + dy*dy + dz*dz;
+
+    double best = SMath.INFINITY;
+
+    // Le tube : racines dont la projection sur l'axe est entre les deux extrémités
+    double A = baba*dd - bard*bard;
+
+    if(A > SMath.EPSILON*baba*dd)
+    {
+      double B = baba*rdoa - baoa*bard;
+      double C = baba*oaoa - baoa*baoa - R2*baba;
+      double discriminant = B*B - A*C;
+
+      if(discriminant >= 0)
+      {
+        double sqrt_discriminant = Math.sqrt(discriminant);
+
+        double t = (-B - sqrt_discriminant) / A;
+        best = acceptTubeRoot(t, t_min, baoa, bard, baba, best);
+
+        t = (-B + sqrt_discriminant) / A;
+        best = acceptTubeRoot(t, t_min, baoa, bard, baba, best);
+      }
+    }
+
+    // La sphère du 1ier point : racines du côté opposé au segment
+    double discriminant = rdoa*rdoa - dd*(oaoa - R2);
+
+    if(discriminant >= 0)
+    {
+      double sqrt_discriminant = Math.sqrt(discriminant);
+
+      double t = (-rdoa - sqrt_discriminant) / dd;
+      if(t > t_min && t < best && baoa + t*bard <= 0)
+        best = t;
+
+      t = (-rdoa + sqrt_discriminant) / dd;
+      if(t > t_min && t < best && baoa + t*bard <= 0)
+        best = t;
+    }
+
+    // La sphère du 2ième point : racines au-delà du segment
+    double obx = ox - coordinate[b];
+    double oby = oy - coordinate[b + 1];
+    double obz = oz - coordinate[b + 2];
+
+    double rdob = dx*obx + dy*oby + dz*obz;
+
+    discriminant = rdob*rdob - dd*(obx*obx + oby*oby + obz*obz - R2);
+
+    if(discriminant >= 0)
+    {
+      double sqrt_discriminant = Math.sqrt(discriminant);
+
+      double t = (-rdob - sqrt_discriminant) / dd;
+      if(t > t_min && t < best && baoa + t*bard >= baba)
+        best = t;
+
+      t = (-rdob + sqrt_discriminant) / dd;
+      if(t > t_min && t < best && baoa + t*bard >= baba)
+        best = t;
+    }
+
+    return best;
+  }
+
+  /**
+   * Méthode pour retenir une racine du tube d'une capsule si elle est plus près que la meilleure racine et comprise entre les extrémités du segment.
+   *
+   * @param t Le temps de la racine.
+   * @param t_min Le temps minimal (exclus).
+   * @param baoa La projection de l'origine du rayon sur l'axe (non normalisé) du segment.
+   * @param bard La projection de la direction du rayon sur l'axe (non normalisé) du segment.
+   * @param baba Le carré de la longueur du segment.
+   * @param best La meilleure racine.
+   * @return La nouvelle meilleure racine.
+   */
+  private static double acceptTubeRoot(double t, double t_min, double baoa, double bard, double baba, double best)
+  {
+    if(t <= t_min || t >= best)
+      return best;
+
+    double y = baoa + t*bard;
+
+    if(y > 0 && y < baba)
+      return t;
+    else
+      return best;
+  }
+
+  /**
+   * Méthode pour trouver un segment dont la distance au carré avec un point est inférieure à une limite.
+   *
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @param exclude L'index d'un segment à ignorer (-1 pour n'en ignorer aucun).
+   * @param limit2 La limite de la distance au carré.
+   * @return L'index d'un segment respectant la limite ou -1 s'il n'y en a pas.
+   */
+  private int findSegment(double x, double y, double z, int exclude, double limit2)
+  {
+    int[] stack = TRAVERSAL_BUFFER.get().stack;
+    int size = 0;
+
+    stack[size++] = 0;
+
+    while(size > 0)
+    {
+      int node = stack[--size];
+
+      if(!isInsideBox(node, x, y, z))
+        continue;
+
+      int right = node_right[node];
+
+      if(right < 0)
+      {
+        for(int s = node_start[node]; s < node_end[node]; s++)
+          if(s != exclude && segmentDistance2(s, x, y, z) < limit2)
+            return s;
+      }
+      else
+      {
+        stack[size++] = right;
+        stack[size++] = node + 1;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Méthode pour trouver le segment le plus près d'un point.
+   *
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return L'index du segment le plus près.
+   */
+  private int nearestSegment(double x, double y, double z)
+  {
+    int[] stack = TRAVERSAL_BUFFER.get().stack;
+    int size = 0;
+
+    int nearest = 0;
+    double best = segmentDistance2(0, x, y, z);
+
+    stack[size++] = 0;
+
+    while(size > 0)
+    {
+      int node = stack[--size];
+
+      // Les boîtes englobantes sont agrandies du rayon : leur distance est une borne inférieure après retrait du rayon
+      double box_distance = Math.sqrt(boxDistance2(node, x, y, z)) + R;
+
+      if(box_distance*box_distance >= best)
+        continue;
+
+      int right = node_right[node];
+
+      if(right < 0)
+      {
+        for(int s = node_start[node]; s < node_end[node]; s++)
+        {
+          double d2 = segmentDistance2(s, x, y, z);
+
+          if(d2 < best)
+          {
+            best = d2;
+            nearest = s;
+          }
+        }
+      }
+      else
+      {
+        stack[size++] = right;
+        stack[size++] = node + 1;
+      }
+    }
+
+    return nearest;
+  }
+
+  /**
+   * Méthode pour déterminer si un point est à l'intérieur de la boîte englobante d'un noeud.
+   *
+   * @param node L'index du noeud.
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return <b>true</b> si le point est dans la boîte et <b>false</b> sinon.
+   */
+  private boolean isInsideBox(int node, double x, double y, double z)
+  {
+    int b = 6*node;
+
+    return x >= node_bound[b] && y >= node_bound[b + 1] && z >= node_bound[b + 2]
+        && x <= node_bound[b + 3] && y <= node_bound[b + 4] && z <= node_bound[b + 5];
+  }
+
+  /**
+   * Méthode pour obtenir la distance au carré entre un point et la boîte englobante d'un noeud.
+   *
+   * @param node L'index du noeud.
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return La distance au carré (nulle si le point est dans la boîte).
+   */
+  private double boxDistance2(int node, double x, double y, double z)
+  {
+    int b = 6*node;
+
+    double ex = Math.max(0.0, Math.max(node_bound[b] - x, x - node_bound[b + 3]));
+    double ey = Math.max(0.0, Math.max(node_bound[b + 1] - y, y - node_bound[b + 4]));
+    double ez = Math.max(0.0, Math.max(node_bound[b + 2] - z, z - node_bound[b + 5]));
+
+    return ex*ex + ey*ey + ez*ez;
+  }
+
+  /**
+   * Méthode pour obtenir la distance au carré entre un point et un segment.
+   *
+   * @param s L'index du segment.
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return La distance au carré.
+   */
+  private double segmentDistance2(int s, double x, double y, double z)
+  {
+    double f = segmentParameter(s, x, y, z);
+
+    int a = 3*s;
+    int b = segmentEnd(s);
+
+    double ex = x - (coordinate[a] + f*(coordinate[b] - coordinate[a]));
+    double ey = y - (coordinate[a + 1] + f*(coordinate[b + 1] - coordinate[a + 1]));
+    double ez = z - (coordinate[a + 2] + f*(coordinate[b + 2] - coordinate[a + 2]));
+
+    return ex*ex + ey*ey + ez*ez;
+  }
+
+  /**
+   * Méthode pour obtenir le paramètre (entre 0 et 1) du point d'un segment le plus près d'un point.
+   *
+   * @param s L'index du segment.
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return Le paramètre du point le plus près sur le segment.
+   */
+  private double segmentParameter(int s, double x, double y, double z)
+  {
+    int a = 3*s;
+    int b = segmentEnd(s);
+
+    double bax = coordinate[b] - coordinate[a];
+    double bay = coordinate[b + 1] - coordinate[a + 1];
+    double baz = coordinate[b + 2] - coordinate[a + 2];
+
+    double baba = bax*bax + bay*bay + baz*baz;
+
+    if(baba == 0.0)
+      return 0.0;
+
+    double f = (bax*(x - coordinate[a]) + bay*(y - coordinate[a + 1]) + baz*(z - coordinate[a + 2])) / baba;
+
+    if(f < 0.0)
+      return 0.0;
+    else if(f > 1.0)
+      return 1.0;
+    else
+      return f;
+  }
+
+  /**
+   * Méthode pour obtenir la normale à la surface de la capsule d'un segment en un point de sa surface.
+   *
+   * @param s L'index du segment.
+   * @param x La composante x du point.
+   * @param y La composante y du point.
+   * @param z La composante z du point.
+   * @return La normale à la surface orientée vers l'extérieur.
+   */
+  private SVector3d segmentNormal(int s, double x, double y, double z)
+  {
+    double f = segmentParameter(s, x, y, z);
+
+    int a = 3*s;
+    int b = segmentEnd(s);
+
+    double nx = x - (coordinate[a] + f*(coordinate[b] - coordinate[a]));
+    double ny = y - (coordinate[a + 1] + f*(coordinate[b + 1] - coordinate[a + 1]));
+    double nz = z - (coordinate[a + 2] + f*(coordinate[b + 2] - coordinate[a + 2]));
+
+    double length = Math.sqrt(nx*nx + ny*ny + nz*nz);
+
+    return new SVector3d(nx/length, ny/length, nz/length);
+  }
+
+  /**
+   * Méthode pour obtenir l'index dans le tableau des coordonnées du 2ième point d'un segment.
+   *
+   * @param s L'index du segment.
+   * @return L'index de la coordonnée x du 2ième point.
+   */
+  private int segmentEnd(int s)
+  {
+    // Une chaîne d'un seul point est un segment de longueur nulle
+    return Math.min(3*(s + 1), coordinate.length - 3);
+  }
+
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_CAPSULE_CHAIN);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    //Écrire les propriétés de la classe SCapsuleChainGeometry et ses paramètres hérités
+    writeSCapsuleChainGeometryParameter(bw);
+
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  /**
+   * Méthode pour écrire les paramètres associés à la classe SCapsuleChainGeometry et ses paramètres hérités.
+   *
+   * @param bw Le BufferedWriter écrivant l'information dans un fichier txt.
+   * @throws IOException Si une erreur I/O s'est produite.
+   * @see IOException
+   */
+  protected void writeSCapsuleChainGeometryParameter(BufferedWriter bw) throws IOException
+  {
+    for(int i = 0; i < getNbPoint(); i++)
+    {
+      bw.write(SKeyWordDecoder.KW_POINT);
+      bw.write("\t");
+      getPoint(i).write(bw);
+      bw.write(SStringUtil.END_LINE_CARACTER);
+    }
+
+    bw.write(SKeyWordDecoder.KW_RAY);
+    bw.write("\t\t");
+    bw.write(Double.toString(R));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  @Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException
+  {
+    switch(code)
+    {
+      case SKeyWordDecoder.CODE_POINT : readPoint(remaining_line); return true;
+
+      case SKeyWordDecoder.CODE_RAY :   R = readDoubleGreaterThanZero(remaining_line, SKeyWordDecoder.KW_RAY); return true;
+
+      default : return false;
+    }
+  }
+
+  /**
+   * Méthode pour faire la lecture d'un point qui sera ajouté à la fin de la chaîne.
+   * Le premier point lu remplace les points par défaut de la chaîne.
+   *
+   * @param remaining_line L'expression en string du vecteur positionnant le point.
+   * @throws SReadingException S'il y a une erreur de lecture.
+   */
+  private void readPoint(String remaining_line) throws SReadingException
+  {
+    SVector3d p = new SVector3d(remaining_line);
+
+    if(reading_point == 0)
+      coordinate = new double[3*LEAF_SIZE];
+    else if(3*reading_point == coordinate.length)
+      coordinate = Arrays.copyOf(coordinate, 2*coordinate.length);
+
+    coordinate[3*reading_point] = p.getX();
+    coordinate[3*reading_point + 1] = p.getY();
+    coordinate[3*reading_point + 2] = p.getZ();
+
+    reading_point++;
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   *
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    if(coordinate.length < 3 || coordinate.length % 3 != 0)
+      throw new SInitializationException("Erreur SCapsuleChainGeometry 005 : Le tableau de " + coordinate.length + " coordonnées ne définit pas une chaîne d'au moins un point.");
+
+    R2 = R*R;
+
+    nb_segment = Math.max(1, coordinate.length/3 - 1);
+
+    // Construire la hiérarchie des volumes englobants le long de la chaîne
+    int nb_node = countNode(nb_segment);
+
+    node_bound = new double[6*nb_node];
+    node_start = new int[nb_node];
+    node_end = new int[nb_node];
+    node_right = new int[nb_node];
+
+    buildNode(0, 0, nb_segment);
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de noeuds de la hiérarchie d'un intervalle de segments.
+   *
+   * @param count Le nombre de segments.
+   * @return Le nombre de noeuds.
+   */
+  private static int countNode(int count)
+  {
+    if(count <= LEAF_SIZE)
+      return 1;
+    else
+      return 1 + countNode(count/2) + countNode(count - count/2);
+  }
+
+  /**
+   * Méthode pour construire un noeud de la hiérarchie et ses enfants. Les noeuds sont placés en ordre de parcours en profondeur.
+   *
+   * @param node L'index du noeud à construire.
+   * @param start L'index du premier segment du noeud.
+   * @param end L'index suivant le dernier segment du noeud.
+   * @return L'index du prochain noeud libre.
+   */
+  private int buildNode(int node, int start, int end)
+  {
+    node_start[node] = start;
+    node_end[node] = end;
+
+    // Les segments [start, end[ couvrent les points start à end (le dernier segment d'une chaîne d'un point est dégénéré)
+    int b = 6*node;
+    int last = Math.min(end, coordinate.length/3 - 1);
+
+    for(int k = 0; k < 3; k++)
+    {
+      node_bound[b + k] = SMath.INFINITY;
+      node_bound[b + 3 + k] = -SMath.INFINITY;
+    }
+
+    for(int i = start; i <= last; i++)
+      for(int k = 0; k < 3; k++)
+      {
+        double c = coordinate[3*i + k];
+
+        if(c - R < node_bound[b + k])
+          node_bound[b + k] = c - R;
+
+        if(c + R > node_bound[b + 3 + k])
+          node_bound[b + 3 + k] = c + R;
+      }
+
+    if(end - start <= LEAF_SIZE)
+    {
+      node_right[node] = -1;
+      return node + 1;
+    }
+
+    int middle = start + (end - start)/2;
+
+    int right = buildNode(node + 1, start, middle);
+    node_right[node] = right;
+
+    return buildNode(right, middle, end);
+  }
+
+  /**
+   * Méthode pour convertir une liste de points en tableau de coordonnées.
+   *
+   * @param point_list La liste des points.
+   * @return Le tableau des coordonnées.
+   */
+  private static double[] toCoordinate(List<SVector3d> point_list)
+  {
+    double[] coordinate = new double[3*point_list.size()];
+
+    for(int i = 0; i < point_list.size(); i++)
+    {
+      SVector3d p = point_list.get(i);
+
+      coordinate[3*i] = p.getX();
+      coordinate[3*i + 1] = p.getY();
+      coordinate[3*i + 2] = p.getZ();
+    }
+
+    return coordinate;
+  }
+
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    super.readingInitialization();
+
+    // Retirer l'espace libre à la fin du tableau des points lus
+    if(reading_point > 0 && 3*reading_point < coordinate.length)
+      coordinate = Arrays.copyOf(coordinate, 3*reading_point);
+
+    initialize();
+  }
+
+  @Override
+  protected SVector3d evaluateIntersectionNormal(SRay ray, double intersection_t)
+  {
+    SVector3d p = ray.getPosition(intersection_t);
+
+    return segmentNormal(nearestSegment(p.getX(), p.getY(), p.getZ()), p.getX(), p.getY(), p.getZ());
+  }
+
+  @Override
+  protected SVectorUV evaluateIntersectionUV(SRay ray, double intersection_t)
+  {
+    throw new SNoImplementationException("Erreur SCapsuleChainGeometry 006 : La méthode n'a pas été implémentée.");
+  }
+
+  @Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_CAPSULE_CHAIN;
+  }
+
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+
+  /**
+   * Classe interne représentant les piles de parcours de la hiérarchie d'un <i>thread</i>.
+   * Les parcours d'une même intersection étant successifs (et non imbriqués), une seule paire de piles suffit.
+   */
+  private static class STraversalBuffer {
+
+    /**
+     * La variable <b>stack</b> correspond à la pile des noeuds à parcourir.
+     */
+    private final int[] stack = new int[STACK_SIZE];
+
+    /**
+     * La variable <b>stack_entry</b> correspond au temps d'entrée du rayon dans la boîte de chaque noeud de la pile.
+     */
+    private final double[] stack_entry = new double[STACK_SIZE];
+
+    /**
+     * La variable <b>hit_segment</b> correspond à l'index du segment de la dernière racine trouvée.
+     */
+    private int hit_segment;
+  }
+
+}//fin de la classe SCapsuleChainGeometry
@@ -1,154 +1,229 @@
-/**
- * 
- */
-package sim.geometry;
-
-import java.io.BufferedWriter;
-import java.io.IOException;
-
-import sim.exception.SConstructorException;
-import sim.graphics.SPrimitive;
-import sim.math.SVector3d;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SInitializationException;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SCylinderGeometry</b> reprsente la gomtrie d'un cylindre. 
- * Hritant de la classe STubeGeometry, le cylindre possde deux disques fermant les deux extrmits du tube.
- * Le cylindre est une gomtrie ferme.
- * 
- * @author Simon Vzina
- * @since 2015-07-07
- * @version 2017-12-20 (version labo  Le ray tracer v2.1)
- */
-public class SCylinderGeometry extends STubeGeometry {
-
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-  /**
-   * Constructeur d'un cylindre par dfaut. 
-   */
-  public SCylinderGeometry()
-  {
-    this(DEFAULT_P1, DEFAULT_P2, DEFAULT_R);
-  }
-
-  /**
-   * Constructeur d'un cylindre.
-   * 
-   * @param P1 - Le 1ier point du cylindre. 
-   * @param P2 - Le 2ime point du cylindre.
-   * @param R - Le rayon du cylindre.
-   */
-  public SCylinderGeometry(SVector3d P1, SVector3d P2, double R)
-  {
-    this(P1, P2, R, null);
-  }
-
-  /**
-   * Constructeur d'un tube avec une primitive comme parent.
-   * 
-   * @param P1 - Le 1ier point du cylindre. 
-   * @param P2 - Le 2ime point du cylindre.
-   * @param R - Le rayon du cylindre.
-   * @param parent - La primitive en parent.
-   * @throws SConstructorException Si une erreur lors de la construction de la gomtrie est survenue.
-   */
-  public SCylinderGeometry(SVector3d P1, SVector3d P2, double R, SPrimitive parent) throws SConstructorException
-  {
-    super(P1, P2, R, parent);
-    
-    try{
-      initialize();
-    }catch(SInitializationException e){
-      throw new SConstructorException("Erreur SCylinderGeometry 001 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }  
-  }
-
-  /**
-   * Constructeur d'un cylindre  partir d'information lue dans un fichier de format txt.
-   * Puisqu'une gomtrie est construite  l'intrieure d'une primitive, une rfrence  celle-ci doit tre intgre au constructeur pour y a voir accs.
-   * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
-   * @param parent - La primitive qui fait la construction de cette gomtrie (qui est le parent).
-   * @throws IOException Si une erreur de de type I/O est lance.
-   * @see SBufferedReader
-   * @see SPrimitive
-   */
-  public SCylinderGeometry(SBufferedReader sbr, SPrimitive parent) throws IOException, SConstructorException
-  {
-    super(sbr, parent);
-    
-    try{
-      initialize();
-    }catch(SInitializationException e){
-      throw new SConstructorException("Erreur SCylinderGeometry 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    } 
-  }
-
-  /**
-   * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-   * 
-   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
-   */
-  private void initialize() throws SInitializationException
-  {
-    
-  }
-  
-  @Override
-  public int getCodeName()
-  {
-    return SAbstractGeometry.CYLINDER_CODE;
-  }
-  
-  @Override
-  public SRay intersection(SRay ray) throws SAlreadyIntersectedRayException
-  {
-    return ray;
-  }
-  
-  @Override
-  public boolean isClosedGeometry()
-  {
-    return true;
-  }
-  
-  @Override
-  public boolean isInside(SVector3d v)
-  {
-    return SGeometricUtil.isOnCylinderSurface(P1, P2, R, v) < 0;
-  }
-    
-  @Override
-  public void write(BufferedWriter bw) throws IOException
-  {
-    bw.write(SKeyWordDecoder.KW_CYLINDER);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    //crire les proprits de la classe SCercleGeometry et ses paramtres hrits
-    writeSTubeGeometryParameter(bw);
-    
-    bw.write(SKeyWordDecoder.KW_END);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-  }
-  
-  @Override
-  protected void readingInitialization() throws SInitializationException
-  {
-    super.readingInitialization();
-    
-    initialize();
-  }
-  
-  @Override
-  public String getReadableName()
-  {
-    return SKeyWordDecoder.KW_CYLINDER;
-  }
-  
-}//fin classe SCylinderGeometry
+/**
+ * 
+ */
+package sim.geometry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import sim.exception.SConstructorException;
+import sim.graphics.SPrimitive;
+import sim.math.SMath;
+import sim.math.SVector3d;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SCylinderGeometry</b> représente la géométrie d'un cylindre. 
+ * Héritant de la classe STubeGeometry, le cylindre possède deux disques fermant les deux extrémités du tube.
+ * Le cylindre est une géométrie fermée.
+ * 
+ * @author Simon Vézina
+ * @since 2015-07-07
+ * @version 2017-12-20 (version labo  Le ray tracer v2.1)
+ */
+public class SCylinderGeometry extends STubeGeometry {
+
+  //--------------------------
+  // PARAMÈTRE DE PRÉCALCUL //
+  //--------------------------
+  
+  /**
+   * La variable <b>S21</b> correspond à l'axe du cylindre orienté de P2 à P1. Il s'agit de la normale extérieure du disque à l'extrémité P1.
+   */
+  private SVector3d S21;
+  
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+  /**
+   * Constructeur d'un cylindre par défaut. 
+   */
+  public SCylinderGeometry()
+  {
+    this(DEFAULT_P1, DEFAULT_P2, DEFAULT_R);
+  }
+
+  /**
+   * Constructeur d'un cylindre.
+   * 
+   * @param P1 - Le 1ier point du cylindre. 
+   * @param P2 - Le 2ième point du cylindre.
+   * @param R - Le rayon du cylindre.
+   */
+  public SCylinderGeometry(SVector3d P1, SVector3d P2, double R)
+  {
+    this(P1, P2, R, null);
+  }
+
+  /**
+   * Constructeur d'un tube avec une primitive comme parent.
+   * 
+   * @param P1 - Le 1ier point du cylindre. 
+   * @param P2 - Le 2ième point du cylindre.
+   * @param R - Le rayon du cylindre.
+   * @param parent - La primitive en parent.
+   * @throws SConstructorException Si une erreur lors de la construction de la géométrie est survenue.
+   */
+  public SCylinderGeometry(SVector3d P1, SVector3d P2, double R, SPrimitive parent) throws SConstructorException
+  {
+    super(P1, P2, R, parent);
+    
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SCylinderGeometry 001 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }  
+  }
+
+  /**
+   * Constructeur d'un cylindre à partir d'information lue dans un fichier de format txt.
+   * Puisqu'une géométrie est construite à l'intérieure d'une primitive, une référence à celle-ci doit être intégrée au constructeur pour y a voir accès.
+   * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
+   * @param parent - La primitive qui fait la construction de cette géométrie (qui est le parent).
+   * @throws IOException Si une erreur de de type I/O est lancée.
+   * @see SBufferedReader
+   * @see SPrimitive
+   */
+  public SCylinderGeometry(SBufferedReader sbr, SPrimitive parent) throws IOException, SConstructorException
+  {
+    super(sbr, parent);
+    
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SCylinderGeometry 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    } 
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   * 
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    S21 = S12.multiply(-1.0);
+  }
+  
+  @Override
+  public int getCodeName()
+  {
+    return SAbstractGeometry.CYLINDER_CODE;
+  }
+  
+  @Override
+  public SRay intersection(SRay ray) throws SAlreadyIntersectedRayException
+  {
+    SVector3d origin = ray.getOrigin();
+    SVector3d direction = ray.getDirection();
+    
+    // Origine du rayon par rapport au point P1
+    double ox = origin.getX() - p1x;
+    double oy = origin.getY() - p1y;
+    double oz = origin.getZ() - p1z;
+    
+    double dx = direction.getX();
+    double dy = direction.getY();
+    double dz = direction.getZ();
+    
+    // Intersection avec la surface du tube
+    double t_tube = tubeIntersectionTime(ox, oy, oz, dx, dy, dz);
+    
+    // Intersection avec les disques des extrémités (plans perpendiculaires à l'axe en P1 et en P2)
+    double t_disk = SMath.INFINITY;
+    SVector3d disk_normal = null;
+    
+    double oa = ox*ax + oy*ay + oz*az;
+    double da = dx*ax + dy*ay + dz*az;
+    
+    if(!SMath.nearlyZero(da))
+    {
+      double t1 = -oa / da;
+      
+      if(t1 > SRay.getEpsilon() && t1 < t_tube && isInsideDisk(ox + t1*dx, oy + t1*dy, oz + t1*dz, 0.0))
+      {
+        t_disk = t1;
+        disk_normal = S21;
+      }
+      
+      double t2 = (length - oa) / da;
+      
+      if(t2 > SRay.getEpsilon() && t2 < t_tube && t2 < t_disk && isInsideDisk(ox + t2*dx, oy + t2*dy, oz + t2*dz, length))
+      {
+        t_disk = t2;
+        disk_normal = S12;
+      }
+    }
+    
+    if(t_disk < SMath.INFINITY)
+      return ray.intersection(this, disk_normal, t_disk);
+    
+    if(t_tube < SMath.INFINITY)
+      return ray.intersection(this, evaluateIntersectionNormal(ray, t_tube), t_tube);
+    
+    return ray;
+  }
+  
+  /**
+   * Méthode pour déterminer si une position sur le plan d'une extrémité du cylindre est à l'intérieur du disque de l'extrémité.
+   * 
+   * @param x - La composante x de la position par rapport au point P1.
+   * @param y - La composante y de la position par rapport au point P1.
+   * @param z - La composante z de la position par rapport au point P1.
+   * @param s - La position de l'extrémité selon l'axe du cylindre (0 pour P1 et <i>length</i> pour P2).
+   * @return <b>true</b> si la position est à l'intérieur du disque et <b>false</b> sinon.
+   */
+  private boolean isInsideDisk(double x, double y, double z, double s)
+  {
+    double rx = x - s*ax;
+    double ry = y - s*ay;
+    double rz = z - s*az;
+    
+    return rx*rx + ry*ry + rz*rz <= R2;
+  }
+  
+  @Override
+  public boolean isClosedGeometry()
+  {
+    return true;
+  }
+  
+  @Override
+  public boolean isInside(SVector3d v)
+  {
+    return SGeometricUtil.isOnCylinderSurface(P1, P2, R, v) < 0;
+  }
+    
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_CYLINDER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    //Écrire les propriétés de la classe SCercleGeometry et ses paramètres hérités
+    writeSTubeGeometryParameter(bw);
+    
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+  
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    super.readingInitialization();
+    
+    initialize();
+  }
+  
+  @Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_CYLINDER;
+  }
+  
+}//fin classe SCylinderGeometry
@@ -1,149 +1,186 @@
-/**
- * 
- */
-package sim.geometry;
-
-import sim.exception.SNoImplementationException;
-import sim.exception.SRuntimeException;
-import sim.math.SMath;
-import sim.math.SVector3d;
-
-/**
- * La classe <b>SGeometricIntersection</b> reprsente une classe utilitaire
- * permettant d'valuer des intersections entre un rayon et diffrentes
- * gomtries.
- * <p>
- * Le rayon tant paramtris dans le temps, la solution au intersection est le
- * temps requis afin qu'un rayon intersection la gomtrie. Un ensemble solution
- * vide signifie qu'aucune intersection n'a t ralis entre le rayon et la
- * gomtrie et un ensemble solution multiple signifie que le rayon peut
- * intersecter la gomtrie  plusieurs endroits (dont plusieurs temps).
- * </p>
- * 
- * @author Simon Vzina
- * @since 2015-11-08
- * @version 2017-12-20 (version labo  Le ray tracer v2.1)
- */
-public class SGeometricIntersection {
-
-	/**
-	 * Mthode permettant d'valuer l'intersection entre un rayon et un plan. Un
-	 * rayon peut raliser jusqu' <b>une intersection</b> avec un plan.
-	 * 
-	 * @param ray     - Le rayon  intersecter avec le plan.
-	 * @param r_plane - La position de rfrence du plan.
-	 * @param n_plane - La normale  la surface du plan.
-	 * @return L'ensemble solution des temps pour raliser l'intersection entre le
-	 *         rayon et le plan <u>dans un tableau tri</u>. L'ensemble solution
-	 *         contient 0 ou 1 lment.
-	 */
-	public static double[] planeIntersection(SRay ray, SVector3d r_plane, SVector3d n_plane) {
-		double A = n_plane.dot(ray.getDirection());
-		double B = n_plane.dot(ray.getOrigin().substract(r_plane));
-		
-		return SMath.linearRealRoot(A, B);
-		
-		//throw new SNoImplementationException("Erreur SGeometricIntersection : La mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode permettant d'valuer l'intersection entre un rayon et une sphre. Un
-	 * rayon peut raliser jusqu' <b>deux intersections</b> avec une sphre.
-	 * 
-	 * @param ray      - Le rayon  intersecter avec la sphre.
-	 * @param r_sphere - La position de la sphre.
-	 * @param R        - Le rayon de la sphre (doit tre positif).
-	 * @return L'ensemble solution des temps pour raliser l'intersection entre le
-	 *         rayon et la sphre <u>dans un tableau tri</u>. L'ensemble solution
-	 *         contient 0, 1 ou 2 lments.
-	 */
-	public static double[] sphereIntersection(SRay ray, SVector3d r_sphere, double R) {
-	
-		double A = ray.getDirection().dot(ray.getDirection());
-		double B = ray.getOrigin().substract(r_sphere).dot(ray.getDirection()) * 2 ;
-		double C = ray.getOrigin().substract(r_sphere).dot(ray.getOrigin().substract(r_sphere)) - (R*R);
-		
-		return SMath.quadricRealRoot(A, B, C);
-		
-		//throw new SNoImplementationException("Erreur SGeometricIntersection : La mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode permettant d'valuer l'intersection entre un rayon et un tube infini.
-	 * Un rayon peut raliser jusqu' <b>deux intersections</b> avec le tube infini.
-	 * 
-	 * @param ray    - Le rayon  intersecter avec le tube infini.
-	 * @param r_tube - Une position sur l'axe central du tube infini.
-	 * @param axis   - L'axe du tube (doit tre normalis).
-	 * @param R      - Le rayon du tube (doit tre positif).
-	 * @return L'ensemble solution des temps pour raliser l'intersection entre le
-	 *         rayon et le tube infini <u>dans un tableau tri</u>. L'ensemble
-	 *         solution contient 0, 1 ou 2 lments.
-	 */
-	public static double[] infiniteTubeIntersection(SRay ray, SVector3d r_tube, SVector3d axis, double R) {
-		
-		SVector3d va = axis.cross(ray.getDirection().cross(axis));
-		SVector3d rao = axis.cross(ray.getOrigin().substract(r_tube)).cross(axis);
-		double A = va.dot(va);
-		double B = rao.multiply(2).dot(va);
-		double C = rao.dot(rao) - R*R;
-		
-		double[] res = SMath.quadricRealRoot(A,B,C);
-		return res;
-		//throw new SNoImplementationException("Erreur SGeometricIntersection : La mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode permettant d'valuer l'intersection entre un rayon et deux cnes
-	 * infinis reli par leur pointe. Un rayon peut raliser jusqu' <b>deux
-	 * intersections</b> avec les deux cnes infinis.
-	 * 
-	 * @param ray    - Le rayon  intersecter avec les deux cnes.
-	 * @param r_cone - Une position sur l'axe central des deux cnes o le rayon
-	 *               <i>R</i> a t dfini.
-	 * @param axis   - L'axe des deux cnes dans la direction localisant la pointe
-	 *               du cne  partir de la position <i>r_cone</i> (doit tre
-	 *               normalis).
-	 * @param R      - Le rayon du cne  la position <i>r_cone</i> (doit tre
-	 *               positif).
-	 * @param H      - La hauteur du cne tant dfinie comme la distance entre la
-	 *               position <i>r_cone</i> et la pointe des cnes (doit tre
-	 *               positif).
-	 * @return L'ensemble solution des temps pour raliser l'intersectin entre le
-	 *         rayon et les deux cnes infinis <u>dans un tableau tri</u>.
-	 *         L'ensemble solution contient 0, 1 ou 2 lments.
-	 */
-	public static double[] infiniteTwoConeIntersection(SRay ray, SVector3d r_cone, SVector3d axis, double R, double H) {
-		throw new SNoImplementationException("Erreur SGeometricIntersection : La mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode permettant d'valuer l'intersection entre un rayon et un tore
-	 * (beigne). Un rayon peut raliser jusqu' <b>quatre intersections</b> avec un
-	 * tore.
-	 * 
-	 * @param ray     Le rayon  intersection avec le tore.
-	 * @param r_torus La position centrale du tore.
-	 * @param n_torus La normale au plan du tore.
-	 * @param R       Le rayon de rvolution du cylindre formant le tore (doit tre
-	 *                positif).
-	 * @param r       Le rayon de la partie cylindrique du tore (doit tre positif)
-	 * @return L'ensemble solution des temps pour raliser l'intersection entre le
-	 *         rayon et le tore <u>dans un tableau tri</u>. L'ensemble solution
-	 *         contient 0, 1, 2, 3 ou 4 lments.
-	 * @throws SRuntimeException Si R ou r est ngatif.
-	 */
-	public static double[] torusIntersection(SRay ray, SVector3d r_torus, SVector3d n_torus, double R, double r)
-			throws SRuntimeException {
-		if (R < 0)
-			throw new SRuntimeException(
-					"Erreur SGeometricIntersection 001 : Le rayon du tore R = " + R + " est ngatif.");
-
-		if (r < 0)
-			throw new SRuntimeException(
-					"Erreur SGeometricIntersection 002 : Le rayon du cylindre du tore r = " + r + " est ngatif.");
-
-		throw new SNoImplementationException("Erreur SGeometricIntersection : La mthode n'a pas t implmente.");
-	}
-
-}// fin de la classe SGeometricIntersection
+/**
+ * 
+ */
+package sim.geometry;
+
+import sim.exception.SNoImplementationException;
+import sim.exception.SRuntimeException;
+import sim.math.SMath;
+import sim.math.SVector3d;
+
+/**
+ * La classe <b>SGeometricIntersection</b> représente une classe utilitaire
+ * permettant d'évaluer des intersections entre un rayon et différentes
+ * géométries.
+ * <p>
+ * Le rayon étant paramétrisé dans le temps, la solution au intersection est le
+ * temps requis afin qu'un rayon intersection la géométrie. Un ensemble solution
+ * vide signifie qu'aucune intersection n'a été réalisé entre le rayon et la
+ * géométrie et un ensemble solution multiple signifie que le rayon peut
+ * intersecter la géométrie à plusieurs endroits (dont plusieurs temps).
+ * </p>
+ * 
+ * @author Simon Vézina
+ * @since 2015-11-08
+ * @version 2017-12-20 (version labo  Le ray tracer v2.1)
+ */
+public class SGeometricIntersection {
+
+	/**
+	 * Méthode permettant d'évaluer l'intersection entre un rayon et un plan. Un
+	 * rayon peut réaliser jusqu'à <b>une intersection</b> avec un plan.
+	 * 
+	 * @param ray     - Le rayon à intersecter avec le plan.
+	 * @param r_plane - La position de référence du plan.
+	 * @param n_plane - La normale à la surface du plan.
+	 * @return L'ensemble solution des temps pour réaliser l'intersection entre le
+	 *         rayon et le plan <u>dans un tableau trié</u>. L'ensemble solution
+	 *         contient 0 ou 1 élément.
+	 */
+	public static double[] planeIntersection(SRay ray, SVector3d r_plane, SVector3d n_plane) {
+		double A = n_plane.dot(ray.getDirection());
+		double B = n_plane.dot(ray.getOrigin().substract(r_plane));
+		
+		return SMath.linearRealRoot(A, B);
+		
+		//throw new SNoImplementationException("Erreur SGeometricIntersection : La méthode n'a pas été implémentée.");
+	}
+
+	/**
+	 * Méthode permettant d'évaluer l'intersection entre un rayon et une sphère. Un
+	 * rayon peut réaliser jusqu'à <b>deux intersections</b> avec une sphère.
+	 * 
+	 * @param ray      - Le rayon à intersecter avec la sphère.
+	 * @param r_sphere - La position de la sphère.
+	 * @param R        - Le rayon de la sphère (doit être positif).
+	 * @return L'ensemble solution des temps pour réaliser l'intersection entre le
+	 *         rayon et la sphère <u>dans un tableau trié</u>. L'ensemble solution
+	 *         contient 0, 1 ou 2 éléments.
+	 */
+	public static double[] sphereIntersection(SRay ray, SVector3d r_sphere, double R) {
+	
+		double A = ray.getDirection().dot(ray.getDirection());
+		double B = ray.getOrigin().substract(r_sphere).dot(ray.getDirection()) * 2 ;
+		double C = ray.getOrigin().substract(r_sphere).dot(ray.getOrigin().substract(r_sphere)) - (R*R);
+		
+		return SMath.quadricRealRoot(A, B, C);
+		
+		//throw new SNoImplementationException("Erreur SGeometricIntersection : La méthode n'a pas été implémentée.");
+	}
+
+	/**
+	 * Méthode permettant d'évaluer l'intersection entre un rayon et un tube infini.
+	 * Un rayon peut réaliser jusqu'à <b>deux intersections</b> avec le tube infini.
+	 * 
+	 * @param ray    - Le rayon à intersecter avec le tube infini.
+	 * @param r_tube - Une position sur l'axe central du tube infini.
+	 * @param axis   - L'axe du tube (doit être normalisé).
+	 * @param R      - Le rayon du tube (doit être positif).
+	 * @return L'ensemble solution des temps pour réaliser l'intersection entre le
+	 *         rayon et le tube infini <u>dans un tableau trié</u>. L'ensemble
+	 *         solution contient 0, 1 ou 2 éléments.
+	 */
+	public static double[] infiniteTubeIntersection(SRay ray, SVector3d r_tube, SVector3d axis, double R) {
+		
+		SVector3d va = axis.cross(ray.getDirection().cross(axis));
+		SVector3d rao = axis.cross(ray.getOrigin().substract(r_tube)).cross(axis);
+		double A = va.dot(va);
+		double B = rao.multiply(2).dot(va);
+		double C = rao.dot(rao) - R*R;
+		
+		double[] res = SMath.quadricRealRoot(A,B,C);
+		return res;
+		//throw new SNoImplementationException("Erreur SGeometricIntersection : La méthode n'a pas été implémentée.");
+	}
+
+	/**
+	 * Méthode permettant d'évaluer l'intersection entre un rayon et deux cônes
+	 * infinis relié par leur pointe. Un rayon peut réaliser jusqu'à <b>deux
+	 * intersections</b> avec les deux cônes infinis.
+	 * 
+	 * @param ray    - Le rayon à intersecter avec les deux cônes.
+	 * @param r_cone - Une position sur l'axe central des deux cônes où le rayon
+	 *               <i>R</i> a été défini.
+	 * @param axis   - L'axe des deux cônes dans la direction localisant la pointe
+	 *               du cône à partir de la position <i>r_cone</i> (doit être
+	 *               normalisé).
+	 * @param R      - Le rayon du cône à la position <i>r_cone</i> (doit être
+	 *               positif).
+	 * @param H      - La hauteur du cône étant définie comme la distance entre la
+	 *               position <i>r_cone</i> et la pointe des cônes (doit être
+	 *               positif).
+	 * @return L'ensemble solution des temps pour réaliser l'intersectin entre le
+	 *         rayon et les deux cônes infinis <u>dans un tableau trié</u>.
+	 *         L'ensemble solution contient 0, 1 ou 2 éléments.
+	 */
+	public static double[] infiniteTwoConeIntersection(SRay ray, SVector3d r_cone, SVector3d axis, double R, double H) {
+		throw new SNoImplementationException("Erreur SGeometricIntersection : La méthode n'a pas été implémentée.");
+	}
+
+	/**
+	 * Méthode permettant d'évaluer l'intersection entre un rayon et un tore
+	 * (beigne). Un rayon peut réaliser jusqu'à <b>quatre intersections</b> avec un
+	 * tore.
+	 * 
+	 * @param ray     Le rayon à intersection avec le tore.
+	 * @param r_torus La position centrale du tore.
+	 * @param n_torus La normale au plan du tore.
+	 * @param R       Le rayon de révolution du cylindre formant le tore (doit être
+	 *                positif).
+	 * @param r       Le rayon de la partie cylindrique du tore (doit être positif)
+	 * @return L'ensemble solution des temps pour réaliser l'intersection entre le
+	 *         rayon et le tore <u>dans un tableau trié</u>. L'ensemble solution
+	 *         contient 0, 1, 2, 3 ou 4 éléments.
+	 * @throws SRuntimeException Si R ou r est négatif.
+	 */
+	public static double[] torusIntersection(SRay ray, SVector3d r_torus, SVector3d n_torus, double R, double r)
+			throws SRuntimeException {
+		if (R < 0)
+			throw new SRuntimeException(
+					"Erreur SGeometricIntersection 001 : Le rayon du tore R = " + R + " est négatif.");
+
+		if (r < 0)
+			throw new SRuntimeException(
+					"Erreur SGeometricIntersection 002 : Le rayon du cylindre du tore r = " + r + " est négatif.");
+
+		// Pré-rejet par la sphère englobante du tore (rayon R + r)
+		double[] sphere = sphereIntersection(ray, r_torus, R + r);
+		if (sphere.length == 0)
+			return SMath.NO_ROOT_SOLUTION;
+
+		// Pour des raisons numériques, le polynôme est exprimé à partir de l'entrée
+		// du rayon dans la sphère englobante (temps u = t - t0) plutôt qu'à partir de
+		// l'origine du rayon qui peut être très éloignée du tore.
+		double t0 = sphere[0];
+
+		SVector3d d = ray.getDirection();
+		SVector3d p = ray.getPosition(t0).substract(r_torus);
+
+		// Surface du tore : (|x|^2 + R^2 - r^2)^2 = 4R^2(|x|^2 - (x.n)^2)
+		// avec x = p + d*u et |x|^2 = G*u^2 + H*u + I.
+		double G = d.dot(d);
+		double H = 2.0 * p.dot(d);
+		double I = p.dot(p);
+
+		double dn = d.dot(n_torus);
+		double pn = p.dot(n_torus);
+
+		double K = I + R * R - r * r;
+		double R4 = 4.0 * R * R;
+
+		double A = G * G;
+		double B = 2.0 * G * H;
+		double C = H * H + 2.0 * G * K - R4 * (G - dn * dn);
+		double D = 2.0 * H * K - R4 * (H - 2.0 * dn * pn);
+		double E = K * K - R4 * (I - pn * pn);
+
+		double[] solution = SMath.quarticRealRoot(A, B, C, D, E);
+
+		// Revenir au temps du rayon
+		for (int i = 0; i < solution.length; i++)
+			solution[i] += t0;
+
+		return solution;
+	}
+
+}// fin de la classe SGeometricIntersection
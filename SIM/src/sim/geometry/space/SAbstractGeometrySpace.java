@@ -1,323 +1,494 @@
-/**
- * 
- */
-package sim.geometry.space;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.math.SVector3d;
-
-/**
- * La classe <b>SAbstractGeometrySpace</b> reprsente un espace  gomtrie abstrait.
- * 
- * @author Simon Vzina
- * @since 2015-01-11
- * @version 2016-01-01
- */
-public abstract class SAbstractGeometrySpace implements SGeometrySpace{
-
-  //Mode de slection du type d'espace des gomtries
-  public static final String[] TYPE_OF_SPACE = {"linear", "voxel", "multi_voxel"};
-  public static final int LINEAR = 0;
-  public static final int VOXEL = 1;
-  public static final int MULTI_VOXEL = 2;
-  
-  /**
-   * La variable <b>intersection_test_count</b> correspond au nombre de tests d'intersection qui ont t raliss
-   * depuis la cration d'un espace des gomtries.
-   */
-  private static int intersection_test_count = 0;
-  
-  /**
-   * La variable <b>geometry_list</b> correspond  la liste complte des gomtries dans l'espace des gomtries.
-   */
-  protected final List<SGeometry> geometry_list;
-  
-  /**
-   * La variable <b>space_initialized</b> permet de dfinir si l'espace des voxels a t initialis.
-   */
-  protected boolean space_initialized;
-  
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-  /**
-   * Constructeur par dfaut d'un espace de gomtrie abstraite.
-   */
-  public SAbstractGeometrySpace()
-  {
-    geometry_list = new ArrayList<SGeometry>();
-    
-    space_initialized = false;
-  }
-  
-  //------------
-  // MTHODES //
-  //------------
-  
-  @Override
-  public void addGeometry(SGeometry geometry)
-  {
-    geometry_list.add(geometry);
-    
-    space_initialized = false;
-  }
-  
-	@Override
-	public void addGeometry(List<SGeometry> list)
-	{
-		for(SGeometry g : list)
-			addGeometry(g);
-	}
-
-	/**
-   * Mthode qui value toutes les intersections entre un rayon et les diffrentes gomtries d'une liste ne dpassant pas une valeur de temps maximal.
-   * Les rayons ayant intersects seront retourns dans une <b>liste trier en ordre croissant de temps</b> (du plus prs au plus loig).
-   *
-   * @param list - La liste des gomtries.
-   * @param ray - Le rayon  intersecter avec les gomtries de l'espace.
-   * @param t_max - Le temps maximal.
-   * @return Une liste des diffrentes intersections avec les primitives en ordre croissant de temps. Si la <b>liste est vide</b>, il n'y a <b>pas eu d'intersection</b>.
-   */
-  protected List<SRay> intersections(List<SGeometry> list, SRay ray, double t_max)
-  {
-    // Compter le nombre de tests d'intersection qui seront effectus lors de l'appel de cette mthode
-    increaseIntersectionCount(list.size());
-    
-    // Liste des rayons intersects  gnrer
-    List<SRay> return_list = new ArrayList<SRay>();  
-    
-    // Itration sur l'ensemble des gomtries de la liste
-    for(SGeometry g : list)
-    {
-      // valuer l'intersection entre le rayon et la gomtrie
-      SRay result_ray = g.intersection(ray);  
-          
-      if(result_ray.asIntersected())    //Vrification de l'intersection
-        if(result_ray.getT() < t_max)   //Vrification de ne pas dpasser t_max
-          return_list.add(result_ray);
-    }
-        
-    //Trier la list en ordre croissant de valeur t (ce que l'implmentation de Comparable fait pour SRay)
-    Collections.sort(return_list); 
-        
-    return return_list;  
-  }
-  
-  /**
-   * <p>
-   * Mthode pour fusionner deux listes d'intersections en une nouvelle liste.
-   * La nouvelle liste des intersections sera <b>trie en ordre croissant de temps</b>.
-   * </p>
-   * 
-   * <p>
-   * Il est important de prciser que cette mthode ne vrifie pas que les rayons  
-   * l'intrieur des deux listes sont des rayons ayant raliss des intersection.
-   * </p>
-   * 
-   * @param list1 - La premire liste  fusionner.
-   * @param list2 - La deuxime liste  fusionner.
-   * @return La fusion des deux listes en <b>tri en ordre croissant de temps</b>.
-   */
-  protected List<SRay> mergeIntersections(List<SRay> list1, List<SRay> list2)
-  {
-    List<SRay> return_list = new ArrayList<SRay>();  
-    
-    return_list.addAll(list1);
-    return_list.addAll(list2);
-    
-    Collections.sort(return_list); 
-    
-    return return_list;
-  }
-  
-  /**
-   * <p>
-   * Mthode qui value l'intersection la plus prs entre un rayon et les diffrentes gomtries <b>opaque</b> de l'espace ne dpassant pas un certain temps maximal.
-   * Une liste des gomtries transparentes sera ordonne en <b>ordre inverse d'apparition</b> (ordre dcroissant du temps).
-   * La <b>liste dbutera par une gomtrie opaque</b> s'il y a eu une intersection avec une gomtrie opaque.
-   * S'il n'y a pas eu d'intersection avec une gomtrie opaque, elle contiendra uniquement des gomtries transparentes.
-   * </p>
-   * 
-   * <p>
-   * Cette mthode sera utile lors du lanc d'un rayon d'ombre o l'intersection avec une gomtrie transparente
-   * ne bloquera pas entirement la lumire (ombre partielle).
-   * </p>
-   *
-   * @param list - La liste des gomtries.
-   * @param ray - Le rayon  intersecter avec les gomtries de l'espace.
-   * @param t_max - Le temps maximal.
-   * @return Une liste des gomtries transparentes intersectes en <b>ordre dcroissant</b> dbutant par une gomtrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
-   */
-  protected List<SRay> nearestOpaqueIntersection(List<SGeometry> list, SRay ray, final double t_max)
-  {
-    // Obtenir la liste complte des intersections tries en ordre croissant
-    List<SRay> list_intersection = intersections(list, ray, t_max);
-    
-    // Iterer sur l'ensemble des intersections et conserver celle 
-    // o il y a des gomtries transparentes et une seule opaque s'il y en a une
-    List<SRay> return_list = new ArrayList<SRay>();
-    
-    for(SRay r : list_intersection)
-    {
-      return_list.add(r);   // ajouter cette intersection
-      
-      // Si la gomtrie intersect n'est pas transparente,
-      // ce sera la dernire intersection ajoute  la liste
-      // car elle sera la seule intersection opaque de la liste.
-      if(!r.getGeometry().isTransparent())
-      {
-        Collections.reverse(return_list);       // Inverser l'ordre en ordre dcroissant
-        return return_list;                     // retourner une liste avec gomtrie opaque
-      }
-    }
-    
-    Collections.reverse(return_list);           // Inverser l'ordre en ordre dcroissant
-    return return_list;                         // retourner une liste sans gomtrie opaque
-    
-    // ANCIENNE VERSION ... BEAUCOUP PLUS COMPLIQUE !!!
-    
-    /*
-    SRay nearest_opaque_intersection = ray;                             //l'intersection opaque la plus prs ... initialement, il n'y en a pas !
-    
-    List<SRay> list_transparent_intersection = new LinkedList<SRay>();  //liste des intersections avec gomtrie transparente
-    
-    //- Conserver les intersections transparentes 
-    //- Garder en gardant en mmoire l'intersection avec la gomtrie opaque la plus prs
-    for(SRay r : list_intersection)
-      if(r.getGeometry().isTransparent())                  //Si la gomtrie est transparente
-        list_transparent_intersection.add(r);
-      else                                                 //Si la gomtrie est opaque
-        if(r.getT() < nearest_opaque_intersection.getT())     //Si l'on trouve une gomtrie opaque plus prs que celle trouve avant
-          nearest_opaque_intersection = r;
-    
-    //Construire la liste officielle des intersections transparentes en gardant  
-    //uniquement les intersections transparentes avant celle qui est opaque et  
-    //mettre l'intersection opaque dans la liste s'il y en a eu une.
-    //IMPORTANT : Il faut trier la liste en ordre dcroissant par la suite (la gomtrie opaque sera la premire de la liste, si elle est prsente).
-    if(nearest_opaque_intersection.asIntersected())       //S'il y a pas eu d'intersection opaque
-    { 
-      List<SRay> list_return = new LinkedList<SRay>();    //Nouvelle liste  retourner
-      
-      for(SRay r : list_transparent_intersection)
-        if(r.getT() < nearest_opaque_intersection.getT()) //Ajouter les gomtries transparente plus prs que l'intersection opaque
-          list_return.add(r);
-      
-      list_return.add(nearest_opaque_intersection);     //Ajouter l'intersection opaque
-      
-      Collections.sort(list_return);              //Trier dans l'ordre croissant
-      Collections.reverse(list_return);           //Inverser l'ordre en ordre dcroissant
-      return list_return;
-    }
-    else
-    {
-      Collections.sort(list_transparent_intersection);      //Trier dans l'ordre croissant
-      Collections.reverse(list_transparent_intersection);   //Inverser l'ordre en ordre dcroissant
-      return list_transparent_intersection;
-    }   
-    */
-  }
-  
-  /**
-   * Mthode qui effectue la fusion de deux listes de rayon ayant ralis le test de l'intersection
-   * avec la gomtrie opaque la plus prs. Ces deux listes seront fusionnes, les premires intersections
-   * avec une gomtrie transparente seront conserve jusqu' la 1ire gomtrie opaque et cette squence
-   * sera finalement inverse.
-   * 
-   * @param list1 - La 1ire liste  fusionner.
-   * @param list2 - La 2ime liste  fusionner.
-   * @return Une nouvelle liste dterminant la 1ire gomtrie opaque intersecte.
-   */
-  protected List<SRay> mergeNearestOpaqueIntersection(List<SRay> list1, List<SRay> list2)
-  {
-    // Fusionner les deux listes d'intersection en liste trie
-    List<SRay> merge_list = mergeIntersections(list1, list2);
-    
-    // Iterer sur la liste fusionner et ajouter les intersection transparente
-    // et garder seulement une seule intersection avec gomtrie opaque
-    List<SRay> return_list = new ArrayList<SRay>();
-    
-    for(SRay r : merge_list)
-    {
-      return_list.add(r);
-      
-      if(!r.getGeometry().isTransparent())
-      {
-        Collections.reverse(return_list);       // Inverser l'ordre en ordre dcroissant
-        return return_list;                     // retourner une liste avec gomtrie opaque
-      }
-    }
-    
-    Collections.reverse(return_list);           // Inverser l'ordre en ordre dcroissant
-    return return_list;                         // retourner une liste sans gomtrie opaque
-  }
-  
-  /**
-   * Mthode qui value l'ensemble des gomtries d'une liste o un vecteur v se retrouve  l'intrieur.
-   * 
-   * @param list - La liste des gomtries.
-   * @param v - La position du vecteur.
-   * @return La liste des gomtries o le vecteur v se retrouve  l'intrieur.
-   */
-  protected List<SGeometry> listInsideGeometry(List<SGeometry> list, SVector3d v)
-  {
-    // Liste des gomtries o le vecteur v se retrouvera  l'intrieur
-    List<SGeometry> return_list = new ArrayList<SGeometry>();  
-    
-    //Itration sur l'ensemble des gomtries 
-    if(list != null)
-      for(SGeometry g : list)
-        if(g.isClosedGeometry())     // la gomtrie doit tre ferme  
-          if(g.isInside(v))          // le vecteur v doit se retrouver  l'intrieur de la gomtrie
-            return_list.add(g);
-          
-    return return_list;
-  }
-  
-  @Override
-  public void initialize()
-  {
-    space_initialized = true;
-  }
-  
-  @Override
-  public String toString()
-  {
-    return new String("Nb geometry : " + geometry_list.size());
-  }
-  
-  /**
-   * Mthode pour obtenir le nombre de tests d'intersection qui ont t raliss.
-   * 
-   * @return Le nombre de tests d'intersection calculs.
-   */
-  public static int getIntersectionTestCount()
-  {
-    return intersection_test_count;
-  }
-  
-  /**
-   * Mthode pour rinitialiser le comptage des tests d'intersection.
-   */
-  public static synchronized void resetIntersectinonTestCount()
-  {
-    intersection_test_count = 0;
-  }
-  
-  /**
-   * Mthode pour augmenter le nombre de tests d'intersection raliss.
-   * Cette mthode sous cette forme est ncessaire afin d'viter des problmes lors d'un usage de cette classe en mode <i>multiprocessing</i>.
-   * 
-   * @param value - Le nombre de tests d'intersection  ajouter.
-   */
-  private static synchronized void increaseIntersectionCount(int value)
-  {
-    intersection_test_count += value;
-  }
-  
-}//fin classe abstraite SAbstractGeometrySpace
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+
+/**
+ * La classe <b>SAbstractGeometrySpace</b> représente un espace à géométrie abstrait.
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-11
+ * @version 2016-04-04
+ */
+public abstract class SAbstractGeometrySpace implements SGeometrySpace{
+
+  //Mode de sélection du type d'espace des géométries
+  public static final String[] TYPE_OF_SPACE = {"linear", "voxel", "multi_voxel", "lazy_voxel"};
+  public static final int LINEAR = 0;
+  public static final int VOXEL = 1;
+  public static final int MULTI_VOXEL = 2;
+  public static final int LAZY_VOXEL = 3;
+  
+  /**
+   * La constante <b>PARALLEL_BUILD_THRESHOLD</b> correspond au nombre minimal de géométries à partir duquel 
+   * l'initialisation d'un espace des géométries (boîtes englobantes, carte de voxels) est réalisée en parallèle.
+   * Sous ce seuil, la construction séquentielle est plus rapide. La valeur est égale à {@value}.
+   */
+  public static final int PARALLEL_BUILD_THRESHOLD = 1000;
+  
+  /**
+   * La variable <b>intersection_test_count</b> correspond au nombre de tests d'intersection qui ont été réalisés
+   * depuis la création d'un espace des géométries.
+   */
+  private static int intersection_test_count = 0;
+  
+  /**
+   * La variable <b>geometry_list</b> correspond à la liste complète des géométries dans l'espace des géométries.
+   */
+  protected final List<SGeometry> geometry_list;
+  
+  /**
+   * La variable <b>space_initialized</b> permet de définir si l'espace des voxels a été initialisé.
+   */
+  protected boolean space_initialized;
+  
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+  /**
+   * Constructeur par défaut d'un espace de géométrie abstraite.
+   */
+  public SAbstractGeometrySpace()
+  {
+    geometry_list = new ArrayList<SGeometry>();
+    
+    space_initialized = false;
+  }
+  
+  //------------
+  // MÉTHODES //
+  //------------
+  
+  @Override
+  public void addGeometry(SGeometry geometry)
+  {
+    geometry_list.add(geometry);
+    
+    space_initialized = false;
+  }
+  
+	@Override
+	public void addGeometry(List<SGeometry> list)
+	{
+		for(SGeometry g : list)
+			addGeometry(g);
+	}
+
+	/**
+	 * <p>
+	 * Méthode qui insère une géométrie dans l'espace.
+	 * </p>
+	 * 
+	 * <p>
+	 * L'implémentation par défaut reconstruit l'espace au complet s'il était initialisé. 
+	 * Un espace pouvant faire une mise à jour locale devra redéfinir cette méthode.
+	 * </p>
+	 */
+	@Override
+	public void insertGeometry(SGeometry geometry)
+	{
+	  boolean initialized = space_initialized;
+	  
+	  addGeometry(geometry);
+	  
+	  if(initialized)
+	    initialize();
+	}
+	
+	/**
+	 * <p>
+	 * Méthode qui retire une géométrie de l'espace.
+	 * </p>
+	 * 
+	 * <p>
+	 * L'implémentation par défaut reconstruit l'espace au complet s'il était initialisé. 
+	 * Un espace pouvant faire une mise à jour locale devra redéfinir cette méthode.
+	 * </p>
+	 */
+	@Override
+	public void removeGeometry(SGeometry geometry) throws SRuntimeException
+	{
+	  if(!geometry_list.remove(geometry))
+	    throw new SRuntimeException("Erreur SAbstractGeometrySpace 001 : La géométrie '" + geometry + "' n'est pas dans l'espace des géométries.");
+	  
+	  if(space_initialized)
+	    initialize();
+	}
+	
+	/**
+	 * <p>
+	 * Méthode qui remplace une géométrie de l'espace par une nouvelle géométrie.
+	 * </p>
+	 * 
+	 * <p>
+	 * L'implémentation par défaut reconstruit l'espace au complet (une seule fois) s'il était initialisé. 
+	 * Un espace pouvant faire une mise à jour locale devra redéfinir cette méthode.
+	 * </p>
+	 */
+	@Override
+	public void moveGeometry(SGeometry old_geometry, SGeometry new_geometry) throws SRuntimeException
+	{
+	  int index = geometry_list.indexOf(old_geometry);
+	  
+	  if(index < 0)
+	    throw new SRuntimeException("Erreur SAbstractGeometrySpace 002 : La géométrie '" + old_geometry + "' n'est pas dans l'espace des géométries.");
+	  
+	  geometry_list.set(index, new_geometry);
+	  
+	  if(space_initialized)
+	    initialize();
+	}
+
+	/**
+	 * <p>
+	 * Méthode qui évalue l'intersection la plus près de chaque rayon d'un paquet.
+	 * </p>
+	 * 
+	 * <p>
+	 * L'implémentation par défaut évalue les rayons un à un. 
+	 * Un espace pouvant amortir ses tests sur l'ensemble du paquet devra redéfinir cette méthode.
+	 * </p>
+	 */
+	@Override
+	public SRay[] nearestIntersection(SRay[] ray, double t_max) throws SRuntimeException
+	{
+	  SRay[] result = new SRay[ray.length];
+	  
+	  for(int i = 0; i < ray.length; i++)
+	    result[i] = nearestIntersection(ray[i], t_max);
+	  
+	  return result;
+	}
+	
+	/**
+	 * <p>
+	 * Méthode qui évalue l'intersection la plus près avec une géométrie opaque de chaque rayon d'un paquet.
+	 * </p>
+	 * 
+	 * <p>
+	 * L'implémentation par défaut évalue les rayons un à un. 
+	 * Un espace pouvant amortir ses tests sur l'ensemble du paquet devra redéfinir cette méthode.
+	 * </p>
+	 */
+	@Override
+	public List<List<SRay>> nearestOpaqueIntersection(SRay[] ray, double[] t_max) throws SRuntimeException
+	{
+	  List<List<SRay>> result = new ArrayList<List<SRay>>(ray.length);
+	  
+	  for(int i = 0; i < ray.length; i++)
+	    result.add(nearestOpaqueIntersection(ray[i], t_max[i]));
+	  
+	  return result;
+	}
+	
+	/**
+   * Méthode qui évalue toutes les intersections entre un rayon et les différentes géométries d'une liste ne dépassant pas une valeur de temps maximal.
+   * Les rayons ayant intersectés seront retournés dans une <b>liste trier en ordre croissant de temps</b> (du plus près au plus éloigé).
+   *
+   * @param list - La liste des géométries.
+   * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+   * @param t_max - Le temps maximal.
+   * @return Une liste des différentes intersections avec les primitives en ordre croissant de temps. Si la <b>liste est vide</b>, il n'y a <b>pas eu d'intersection</b>.
+   */
+  protected List<SRay> intersections(List<SGeometry> list, SRay ray, double t_max)
+  {
+    // Compter le nombre de tests d'intersection qui seront effectués lors de l'appel de cette méthode
+    increaseIntersectionCount(list.size());
+    
+    // Liste des rayons intersectés à générer
+    List<SRay> return_list = new ArrayList<SRay>();  
+    
+    // Itération sur l'ensemble des géométries de la liste
+    for(SGeometry g : list)
+    {
+      // Évaluer l'intersection entre le rayon et la géométrie
+      SRay result_ray = g.intersection(ray);  
+          
+      if(result_ray.asIntersected())    //Vérification de l'intersection
+        if(result_ray.getT() < t_max)   //Vérification de ne pas dépasser t_max
+          return_list.add(result_ray);
+    }
+        
+    //Trier la list en ordre croissant de valeur t (ce que l'implémentation de Comparable fait pour SRay)
+    Collections.sort(return_list); 
+        
+    return return_list;  
+  }
+  
+  /**
+   * Méthode qui évalue toutes les intersections entre un rayon et les différentes géométries d'une liste ne dépassant pas une valeur de temps maximal
+   * en éliminant au préalable, à l'aide d'un noyau de calcul, les triangles ne pouvant pas être intersectés. 
+   * Le résultat est identique à celui de la méthode <b>intersections(List, SRay, double)</b>.
+   *
+   * @param list - La liste des géométries.
+   * @param kernel - Le noyau de calcul construit à partir de la liste (<b>null</b> s'il n'y en a pas).
+   * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+   * @param t_max - Le temps maximal.
+   * @return Une liste des différentes intersections avec les primitives en ordre croissant de temps. Si la <b>liste est vide</b>, il n'y a <b>pas eu d'intersection</b>.
+   */
+  protected List<SRay> intersections(List<SGeometry> list, STriangleKernel kernel, SRay ray, double t_max)
+  {
+    if(kernel == null)
+      return intersections(list, ray, t_max);
+    
+    // Compter le nombre de tests d'intersection qui seront effectués lors de l'appel de cette méthode (incluant les tests du noyau)
+    increaseIntersectionCount(list.size());
+    
+    // Les géométries pouvant être intersectées (en ordre de la liste)
+    int[] candidate = new int[kernel.size()];
+    int nb = kernel.candidates(ray, t_max, candidate);
+    
+    List<SRay> return_list = new ArrayList<SRay>();  
+    
+    for(int i = 0; i < nb; i++)
+    {
+      SRay result_ray = list.get(candidate[i]).intersection(ray);  
+          
+      if(result_ray.asIntersected())    
+        if(result_ray.getT() < t_max)   
+          return_list.add(result_ray);
+    }
+    
+    Collections.sort(return_list); 
+    
+    return return_list;  
+  }
+  
+  /**
+   * <p>
+   * Méthode pour fusionner deux listes d'intersections en une nouvelle liste.
+   * La nouvelle liste des intersections sera <b>triée en ordre croissant de temps</b>.
+   * </p>
+   * 
+   * <p>
+   * Il est important de préciser que cette méthode ne vérifie pas que les rayons à 
+   * l'intérieur des deux listes sont des rayons ayant réalisés des intersection.
+   * </p>
+   * 
+   * @param list1 - La première liste à fusionner.
+   * @param list2 - La deuxième liste à fusionner.
+   * @return La fusion des deux listes en <b>trié en ordre croissant de temps</b>.
+   */
+  protected List<SRay> mergeIntersections(List<SRay> list1, List<SRay> list2)
+  {
+    List<SRay> return_list = new ArrayList<SRay>();  
+    
+    return_list.addAll(list1);
+    return_list.addAll(list2);
+    
+    Collections.sort(return_list); 
+    
+    return return_list;
+  }
+  
+  /**
+   * <p>
+   * Méthode qui évalue l'intersection la plus près entre un rayon et les différentes géométries <b>opaque</b> de l'espace ne dépassant pas un certain temps maximal.
+   * Une liste des géométries transparentes sera ordonnée en <b>ordre inverse d'apparition</b> (ordre décroissant du temps).
+   * La <b>liste débutera par une géométrie opaque</b> s'il y a eu une intersection avec une géométrie opaque.
+   * S'il n'y a pas eu d'intersection avec une géométrie opaque, elle contiendra uniquement des géométries transparentes.
+   * </p>
+   * 
+   * <p>
+   * Cette méthode sera utile lors du lancé d'un rayon d'ombre où l'intersection avec une géométrie transparente
+   * ne bloquera pas entièrement la lumière (ombre partielle).
+   * </p>
+   *
+   * @param list - La liste des géométries.
+   * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+   * @param t_max - Le temps maximal.
+   * @return Une liste des géométries transparentes intersectées en <b>ordre décroissant</b> débutant par une géométrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
+   */
+  protected List<SRay> nearestOpaqueIntersection(List<SGeometry> list, SRay ray, final double t_max)
+  {
+    return nearestOpaqueIntersection(list, null, ray, t_max);
+  }
+  
+  /**
+   * Méthode qui évalue l'intersection la plus près entre un rayon et les différentes géométries <b>opaque</b> d'une liste ne dépassant pas un certain temps maximal
+   * en éliminant au préalable, à l'aide d'un noyau de calcul, les triangles ne pouvant pas être intersectés.
+   * Le résultat est identique à celui de la méthode <b>nearestOpaqueIntersection(List, SRay, double)</b>.
+   *
+   * @param list - La liste des géométries.
+   * @param kernel - Le noyau de calcul construit à partir de la liste (<b>null</b> s'il n'y en a pas).
+   * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+   * @param t_max - Le temps maximal.
+   * @return Une liste des géométries transparentes intersectées en <b>ordre décroissant</b> débutant par une géométrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
+   */
+  protected List<SRay> nearestOpaqueIntersection(List<SGeometry> list, STriangleKernel kernel, SRay ray, final double t_max)
+  {
+    // Obtenir la liste complète des intersections triées en ordre croissant
+    List<SRay> list_intersection = intersections(list, kernel, ray, t_max);
+    
+    // Iterer sur l'ensemble des intersections et conserver celle 
+    // où il y a des géométries transparentes et une seule opaque s'il y en a une
+    List<SRay> return_list = new ArrayList<SRay>();
+    
+    for(SRay r : list_intersection)
+    {
+      return_list.add(r);   // ajouter cette intersection
+      
+      // Si la géométrie intersecté n'est pas transparente,
+      // ce sera la dernière intersection ajoutée à la liste
+      // car elle sera la seule intersection opaque de la liste.
+      if(!r.getGeometry().isTransparent())
+      {
+        Collections.reverse(return_list);       // Inverser l'ordre en ordre décroissant
+        return return_list;                     // retourner une liste avec géométrie opaque
+      }
+    }
+    
+    Collections.reverse(return_list);           // Inverser l'ordre en ordre décroissant
+    return return_list;                         // retourner une liste sans géométrie opaque
+    
+    // ANCIENNE VERSION ... BEAUCOUP PLUS COMPLIQUÉE !!!
+    
+    /*
+    SRay nearest_opaque_intersection = ray;                             //l'intersection opaque la plus près ... initialement, il n'y en a pas !
+    
+    List<SRay> list_transparent_intersection = new LinkedList<SRay>();  //liste des intersections avec géométrie transparente
+    
+    //- Conserver les intersections transparentes 
+    //- Garder en gardant en mémoire l'intersection avec la géométrie opaque la plus près
+    for(SRay r : list_intersection)
+      if(r.getGeometry().isTransparent())                  //Si la géométrie est transparente
+        list_transparent_intersection.add(r);
+      else                                                 //Si la géométrie est opaque
+        if(r.getT() < nearest_opaque_intersection.getT())     //Si l'on trouve une géométrie opaque plus près que celle trouvée avant
+          nearest_opaque_intersection = r;
+    
+    //Construire la liste officielle des intersections transparentes en gardant  
+    //uniquement les intersections transparentes avant celle qui est opaque et  
+    //mettre l'intersection opaque dans la liste s'il y en a eu une.
+    //IMPORTANT : Il faut trier la liste en ordre décroissant par la suite (la géométrie opaque sera la première de la liste, si elle est présente).
+    if(nearest_opaque_intersection.asIntersected())       //S'il y a pas eu d'intersection opaque
+    { 
+      List<SRay> list_return = new LinkedList<SRay>();    //Nouvelle liste à retourner
+      
+      for(SRay r : list_transparent_intersection)
+        if(r.getT() < nearest_opaque_intersection.getT()) //Ajouter les géométries transparente plus près que l'intersection opaque
+          list_return.add(r);
+      
+      list_return.add(nearest_opaque_intersection);     //Ajouter l'intersection opaque
+      
+      Collections.sort(list_return);              //Trier dans l'ordre croissant
+      Collections.reverse(list_return);           //Inverser l'ordre en ordre décroissant
+      return list_return;
+    }
+    else
+    {
+      Collections.sort(list_transparent_intersection);      //Trier dans l'ordre croissant
+      Collections.reverse(list_transparent_intersection);   //Inverser l'ordre en ordre décroissant
+      return list_transparent_intersection;
+    }   
+    */
+  }
+  
+  /**
+   * Méthode qui effectue la fusion de deux listes de rayon ayant réalisé le test de l'intersection
+   * avec la géométrie opaque la plus près. Ces deux listes seront fusionnées, les premières intersections
+   * avec une géométrie transparente seront conservée jusqu'à la 1ière géométrie opaque et cette séquence
+   * sera finalement inversée.
+   * 
+   * @param list1 - La 1ière liste à fusionner.
+   * @param list2 - La 2ième liste à fusionner.
+   * @return Une nouvelle liste déterminant la 1ière géométrie opaque intersectée.
+   */
+  protected List<SRay> mergeNearestOpaqueIntersection(List<SRay> list1, List<SRay> list2)
+  {
+    // Fusionner les deux listes d'intersection en liste triée
+    List<SRay> merge_list = mergeIntersections(list1, list2);
+    
+    // Iterer sur la liste fusionner et ajouter les intersection transparente
+    // et garder seulement une seule intersection avec géométrie opaque
+    List<SRay> return_list = new ArrayList<SRay>();
+    
+    for(SRay r : merge_list)
+    {
+      return_list.add(r);
+      
+      if(!r.getGeometry().isTransparent())
+      {
+        Collections.reverse(return_list);       // Inverser l'ordre en ordre décroissant
+        return return_list;                     // retourner une liste avec géométrie opaque
+      }
+    }
+    
+    Collections.reverse(return_list);           // Inverser l'ordre en ordre décroissant
+    return return_list;                         // retourner une liste sans géométrie opaque
+  }
+  
+  /**
+   * Méthode qui évalue l'ensemble des géométries d'une liste où un vecteur v se retrouve à l'intérieur.
+   * 
+   * @param list - La liste des géométries.
+   * @param v - La position du vecteur.
+   * @return La liste des géométries où le vecteur v se retrouve à l'intérieur.
+   */
+  protected List<SGeometry> listInsideGeometry(List<SGeometry> list, SVector3d v)
+  {
+    // Liste des géométries où le vecteur v se retrouvera à l'intérieur
+    List<SGeometry> return_list = new ArrayList<SGeometry>();  
+    
+    //Itération sur l'ensemble des géométries 
+    if(list != null)
+      for(SGeometry g : list)
+        if(g.isClosedGeometry())     // la géométrie doit être fermée  
+          if(g.isInside(v))          // le vecteur v doit se retrouver à l'intérieur de la géométrie
+            return_list.add(g);
+          
+    return return_list;
+  }
+  
+  @Override
+  public void initialize()
+  {
+    space_initialized = true;
+  }
+  
+  @Override
+  public String toString()
+  {
+    return new String("Nb geometry : " + geometry_list.size());
+  }
+  
+  /**
+   * Méthode pour obtenir le nombre de tests d'intersection qui ont été réalisés.
+   * 
+   * @return Le nombre de tests d'intersection calculés.
+   */
+  public static int getIntersectionTestCount()
+  {
+    return intersection_test_count;
+  }
+  
+  /**
+   * Méthode pour réinitialiser le comptage des tests d'intersection.
+   */
+  public static synchronized void resetIntersectinonTestCount()
+  {
+    intersection_test_count = 0;
+  }
+  
+  /**
+   * Méthode pour augmenter le nombre de tests d'intersection réalisés.
+   * Cette méthode sous cette forme est nécessaire afin d'éviter des problèmes lors d'un usage de cette classe en mode <i>multiprocessing</i>.
+   * 
+   * @param value - Le nombre de tests d'intersection à ajouter.
+   */
+  private static synchronized void increaseIntersectionCount(int value)
+  {
+    intersection_test_count += value;
+  }
+  
+}//fin classe abstraite SAbstractGeometrySpace
@@ -1,282 +1,490 @@
-/**
- * 
- */
-package sim.geometry.space;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.math.SVector3d;
-
-/**
- * La classe abstraite <b>SAbstractVoxelSpace</b> reprsente un espace de gomtrie dont le partitionnement
- * de l'espace s'effectue par voxel. Cette classe contient des mthodes utilitaires pour analyser cet espace.
- * 
- * @author Simon Vzina
- * @since 2015-12-24
- * @version 2015-12-29
- */
-public abstract class SAbstractVoxelSpace extends SAbstractGeometrySpace {
-
-  //------------
-  // VARIABLE //
-  //------------
-  
-  /**
-   * La variable 'linear_list' correspond  une liste de primitive ne fait pas partie de la carte des voxels puisque ce sont des primitives <b>sans bote englobante</b>.
-   * L'algorithme d'intersection testera alors toutes les primitives de cette liste avec chaque rayon. 
-   */
-  protected List<SGeometry> linear_list;  
-  
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-  /**
-   * Constructeur d'un espace de voxel abstrait par dfaut. 
-   */
-  public SAbstractVoxelSpace()
-  {
-    super();
-    
-    linear_list = new ArrayList<SGeometry>();
-  }
-
-  //------------
-  // MTHODES //
-  //------------
-  
-  /**
-   * Mthode pour obtenir l'intersection la plus prs entre un rayon et des gomtries situes dans une carte de voxels. 
-   * 
-   * @param ray - Le rayon  intersecter avec les gomtries.
-   * @param t_max - Le temps maximal.
-   * @param map - La carte des voxels.
-   * @param builder - Le constructeur de voxel (pour vrifier si l'intersection est  l'intrieur du voxel).
-   * @param voxel - Le voxel de la carte o sont raliss les tests d'intersection.
-   * @return Le rayon avec les caractristiques de l'intersection (s'il y en a eu une) de temps minimum.
-   */
-  protected SRay nearestIntersectionInVoxelMap(SRay ray, double t_max, Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVoxel voxel)
-  {
-    if(map != null)         // Si la carte n'est pas null
-      if(!map.isEmpty())    // Si la carte n'est pas vide
-      {
-        // Obtenir la liste des gomtries en rfrence dans le voxel
-        List<SGeometry> list = map.get(voxel);
-        
-        if(list != null)          // Si le voxel est dans la carte
-          if(!list.isEmpty())     // Si la liste de gomtrie associe  ce voxel n'est pas vide
-          {
-            // Raliser les intersections avec la liste disponible dans le voxel.
-            // Cette liste sera trie en ordre croissant de temps (le plus petit temps en premier dans la liste)
-            List<SRay> list_intersection = intersections(list, ray, t_max);   
-                
-            // Regarder la liste des intersections et prendre l'intersection au temps le plus petit,
-            // mais qui se retrouve dans le voxel courant (sinon, il est rejet).
-            // Comparer celles trouves avec le rayon dj intersect pour garder celle de moindre temps
-            if(!list_intersection.isEmpty())
-              for(SRay r : list_intersection)
-                if(builder.buildVoxel(r.getIntersectionPosition()).equals(voxel))   
-                  return r;
-          }
-      }
-    
-    // Il n'y a pas d'intersection adquate qui a t ralis, on retourne un rayon sans intersection
-    return ray;
-  }
-    
-  /**
-   * Mthode pour obtenir la liste des intersections transparente en ordre dcroissant dont la plus loign (premire de la liste) sera une gomtrie opaque s'il y a eu intersection de cette nature.
-   * 
-   * @param ray - Le rayon  intersecter.
-   * @param t_max - Le temps maximal pouvant tre parcouru par le rayon.
-   * @param map - La carte des voxels.
-   * @param builder - Le constructeur de voxel (pour vrifier si l'intersection est  l'intrieur du voxel).
-   * @param voxel - Le voxel de la carte o sont raliss les tests d'intersection.
-   * @return La liste des intersections transparente en odre dcroissant dont le premier lment sera une gomtrie opaque s'il y a eu intersection de cette nature.
-   */
-  protected List<SRay> nearestOpaqueIntersectionInVoxelMap(SRay ray, double t_max, Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVoxel voxel)
-  {
-    if(map != null)
-      if(!map.isEmpty())
-      {
-        // Obtenir la liste des gomtries en rfrence dans le voxel
-        List<SGeometry> list = map.get(voxel);
-        
-        if(list != null)          
-          if(!list.isEmpty())     
-            return nearestOpaqueIntersectionInVoxel(list, ray, t_max, builder, voxel);  // Obtenir la liste de l'intersection opaque la plus prs
-      }
-
-    // La carte n'tant vide, on retourne une liste vide
-    return new ArrayList<SRay>();    
-  }
-  
-  /**
-   * <p>
-   * Mthode qui value l'intersection la plus prs entre un rayon et les diffrentes gomtries <b>opaque</b> de l'espace ne dpassant pas un certain temps maximal.
-   * Une liste des gomtries transparentes sera ordonne en <b>ordre inverse d'apparition</b> (ordre dcroissant du temps).
-   * La <b>liste dbutera par une gomtrie opaque</b> s'il y a eu une intersection avec une gomtrie opaque.
-   * S'il n'y a pas eu d'intersection avec une gomtrie opaque, elle contiendra uniquement des gomtries transparentes.
-   * </p>
-   * 
-   * <p>
-   * En comparaison avec sa version prcdente, cette mthode n'acceptera uniquement les intersections situes  l'intrieur du voxel associ  la liste des gomtries.
-   * </p>
-   *
-   * @param list - La liste des gomtries.
-   * @param ray - Le rayon  intersecter avec les gomtries de l'espace.
-   * @param t_max - Le temps maximal.
-   * @param builder - Le constructeur de voxel (pour vrifier si l'intersection est  l'intrieur du voxel).
-   * @param voxel - Le voxel de la carte o sont raliss les tests d'intersection.
-   * @return Une liste des gomtries transparentes intersectes en <b>ordre dcroissant</b> dbutant par une gomtrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
-   */
-  private List<SRay> nearestOpaqueIntersectionInVoxel(List<SGeometry> list, SRay ray, final double t_max, SVoxelBuilder builder, SVoxel voxel)
-  {
-    // Obtenir la liste complte des intersections tries en ordre croissant
-    List<SRay> list_intersection = intersections(list, ray, t_max);
-    
-    // Iterer sur l'ensemble des intersections et conserver celle 
-    // o il y a des gomtries transparentes et une seule opaque s'il y en a une
-    List<SRay> return_list = new ArrayList<SRay>();
-    
-    for(SRay r : list_intersection)
-    {
-      // Ajouter et traiter l'intersection uniquement si elle se retrouve dans le voxel
-      if(builder.buildVoxel(r.getIntersectionPosition()).equals(voxel))
-      {
-        return_list.add(r);   // ajouter cette intersection
-        
-        // Si la gomtrie intersect n'est pas transparente,
-        // ce sera la dernire intersection ajoute  la liste
-        // car elle sera la seule intersection opaque de la liste.
-        if(!r.getGeometry().isTransparent())
-        {
-          Collections.reverse(return_list);     // Inverser l'ordre en ordre dcroissant
-          return return_list;                   // retourner une liste avec gomtrie opaque
-        }
-      }
-    }
-    
-    Collections.reverse(return_list);           // Inverser l'ordre en ordre dcroissant
-    return return_list;                         // retourner une liste sans gomtrie opaque
-  }
-  
-  /**
-   * Mthode qui value l'ensemble des gomtries d'une carte de voxel o une vecteur v se retrouve  l'intrieur.
-   * 
-   * @param map - La carte des voxels.
-   * @param builder - Le constructeur de voxel attitr  la carte de voxel.
-   * @param v - La position du vecteur.
-   * @return La liste des gomtries o le vecteur v se retrouve  l'intrieur.
-   */
-  protected List<SGeometry> listInsideGeometryInMap(Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVector3d v)
-  {
-    // Obtenir la liste des gomtries dans la cartes des voxel 
-    // et obtenir les gomtries o le vecteur v s'y retrouve
-    if(map != null)        
-      if(!map.isEmpty())    
-        return listInsideGeometry(map.get(builder.buildVoxel(v)), v);
-        
-    // La carte tant null ou vide, nous retournons une liste vide.
-    return new ArrayList<SGeometry>();
-  }
-  
-  /**
-   * Mthode pour ajouter des gomtries  la carte de voxel avec les voxels o la gomtrie est situe.
-   * 
-   * @param map - La carte des voxels contenant une liste de gomtrie.
-   * @param extremum_voxel - Le voxel extremum associ  la carte de voxels.
-   * @param geometry - La gomtrie  ajouter.
-   * @param list - La liste des voxels o la gomtrie est situe.
-   */
-  protected SVoxel addGeometryToMap(Map<SVoxel, List<SGeometry>> map, SVoxel extremum_voxel, SGeometry geometry, List<SVoxel> list)
-  {
-    // Iterer sur la liste des voxels
-    for(SVoxel v : list)
-    {  
-      // Si le voxel est dj dans la carte : ajouter la gomtrie  la liste existante de gomtrie de ce voxel
-      if(map.containsKey(v))            
-        map.get(v).add(geometry);
-      else                                    
-      {
-        // Si le voxel n'est pas dans la carte : crer une liste avec la gomtrie dedans. 
-        // Ajouter le voxel comme cl de recherche dans la carte.
-        // Il faudra ajuster le voxel d'extrme galement.
-        List<SGeometry> l = new ArrayList<SGeometry>();
-        
-        // Ajouter la gomtrie  la liste
-        l.add(geometry);                                       
-        
-        // Ajouter le voxel  la carte
-        map.put(v, l);                                           
-        
-        // Mise  jour du voxel d'extremum (si ncessaire)
-        extremum_voxel = updateExtremumVoxel(extremum_voxel, v);   
-      }
-    }
-    
-    return extremum_voxel;
-  }
-  
-  /**
-   * Mthode pour faire la mise  jour du voxel dfinissant les extermums en valeur absolue d'une carte de voxels.
-   * 
-   * @param previous_extremum - Le voxel tant celui dfinissant l'ancien extremum.
-   * @param new_voxel - Le nouveau voxel pouvant redfinir le voxel extremum.
-   * @return Un nouveau voxel dfinissant un nouvel extremum ou celui pass en paramtre s'il demeure extremum.
-   */
-  protected SVoxel updateExtremumVoxel(SVoxel previous_extremum, SVoxel new_voxel)
-  {
-    // Voxel de retour tant l'ancien par dfaut (s'il n'est pas chang)
-    SVoxel return_voxel = previous_extremum;
-    
-    //Mise  jour si ncessaire de la coordonne extermum en x
-    if(Math.abs(new_voxel.getX()) > return_voxel.getX())
-      return_voxel = new SVoxel(Math.abs(new_voxel.getX()), return_voxel.getY(), return_voxel.getZ());
-    
-    //Mise  jour si ncessaire de la coordonne extermum en y
-    if(Math.abs(new_voxel.getY()) > return_voxel.getY())
-      return_voxel = new SVoxel(return_voxel.getX(), Math.abs(new_voxel.getY()), return_voxel.getZ());
-    
-    //Mise  jour si ncessaire de la coordonne extermum en z
-    if(Math.abs(new_voxel.getZ()) > return_voxel.getZ())
-      return_voxel = new SVoxel(return_voxel.getX(), return_voxel.getY(), Math.abs(new_voxel.getZ()));
-    
-    return return_voxel;
-  }
-  
-  /**
-   * Mthode pour obtenir le nombre de gomtries en rfrence dans les voxels.
-   * 
-   * @param map - La carte des voxels.
-   * @return Le nombre de primitives dans les voxels de la carte.
-   */
-  protected int evaluateNbGeometryReference(Map<SVoxel, List<SGeometry>> map)
-  {
-    int count = 0;
-    
-    // Iterer sur l'ensemble des valeurs de la carte
-    for(List<SGeometry> l : map.values())
-      count += l.size();
-    
-    return count;
-  }
-  
-  /**
-   * Mthode pour obtenir le nombre de gomtries en rfrence en moyenne par voxel.
-   * 
-   * @param map - La carte des voxels.
-   * @return Le nombre moyen de primitives par voxel.
-   */
-  protected double evaluateNbGeometryReferencePerVoxel(Map<SVoxel, List<SGeometry>> map)
-  {
-    // Valeur statistique tant un calcul de moyenne
-    return (double) evaluateNbGeometryReference(map) / (double) map.keySet().size();
-  }
-  
-}//fin de la classe SAbstractVoxelSpace
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+import sim.util.SLog;
+
+/**
+ * La classe abstraite <b>SAbstractVoxelSpace</b> représente un espace de géométrie dont le partitionnement
+ * de l'espace s'effectue par voxel. Cette classe contient des méthodes utilitaires pour analyser cet espace.
+ * 
+ * @author Simon Vézina
+ * @since 2015-12-24
+ * @version 2016-04-04
+ */
+public abstract class SAbstractVoxelSpace extends SAbstractGeometrySpace {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>REBUILD_DEGRADATION_FACTOR</b> correspond au facteur de dégradation de la qualité de la carte des voxels 
+   * (nombre moyen de voxels par géométrie ou de géométries par voxel) à partir duquel une reconstruction complète de l'espace 
+   * est préférable aux mises à jour locales. La valeur est égale à {@value}.
+   */
+  protected static final double REBUILD_DEGRADATION_FACTOR = 2.0;
+  
+  //------------
+  // VARIABLE //
+  //------------
+  
+  /**
+   * La variable 'linear_list' correspond à une liste de primitive ne fait pas partie de la carte des voxels puisque ce sont des primitives <b>sans boîte englobante</b>.
+   * L'algorithme d'intersection testera alors toutes les primitives de cette liste avec chaque rayon. 
+   */
+  protected List<SGeometry> linear_list;  
+  
+  /**
+   * La variable <b>reference_count</b> correspond au nombre de références à des géométries dans la carte des voxels.
+   * Elle est évaluée lors de l'initialisation et mise à jour lors des insertions et des retraits de géométries.
+   */
+  protected int reference_count;
+  
+  /**
+   * La variable <b>built_reference_per_geometry</b> correspond au nombre moyen de voxels référençant une géométrie lors de la dernière construction complète.
+   */
+  private double built_reference_per_geometry;
+  
+  /**
+   * La variable <b>built_reference_per_voxel</b> correspond au nombre moyen de géométries référencées par voxel lors de la dernière construction complète.
+   */
+  private double built_reference_per_voxel;
+  
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+  /**
+   * Constructeur d'un espace de voxel abstrait par défaut. 
+   */
+  public SAbstractVoxelSpace()
+  {
+    super();
+    
+    linear_list = new ArrayList<SGeometry>();
+    
+    reference_count = 0;
+    built_reference_per_geometry = 0.0;
+    built_reference_per_voxel = 0.0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+  
+  /**
+   * Méthode pour obtenir l'intersection la plus près entre un rayon et des géométries situées dans une carte de voxels. 
+   * 
+   * @param ray - Le rayon à intersecter avec les géométries.
+   * @param t_max - Le temps maximal.
+   * @param map - La carte des voxels.
+   * @param builder - Le constructeur de voxel (pour vérifier si l'intersection est à l'intérieur du voxel).
+   * @param voxel - Le voxel de la carte où sont réalisés les tests d'intersection.
+   * @return Le rayon avec les caractéristiques de l'intersection (s'il y en a eu une) de temps minimum.
+   */
+  protected SRay nearestIntersectionInVoxelMap(SRay ray, double t_max, Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVoxel voxel)
+  {
+    if(map != null)         // Si la carte n'est pas null
+      if(!map.isEmpty())    // Si la carte n'est pas vide
+      {
+        // Obtenir la liste des géométries en référence dans le voxel
+        List<SGeometry> list = map.get(voxel);
+        
+        if(list != null)          // Si le voxel est dans la carte
+          if(!list.isEmpty())     // Si la liste de géométrie associée à ce voxel n'est pas vide
+          {
+            // Réaliser les intersections avec la liste disponible dans le voxel.
+            // Cette liste sera triée en ordre croissant de temps (le plus petit temps en premier dans la liste)
+            List<SRay> list_intersection = intersections(list, kernel(list), ray, t_max);   
+                
+            // Regarder la liste des intersections et prendre l'intersection au temps le plus petit,
+            // mais qui se retrouve dans le voxel courant (sinon, il est rejeté).
+            // Comparer celles trouvées avec le rayon déjà intersecté pour garder celle de moindre temps
+            if(!list_intersection.isEmpty())
+              for(SRay r : list_intersection)
+                if(builder.buildVoxel(r.getIntersectionPosition()).equals(voxel))   
+                  return r;
+          }
+      }
+    
+    // Il n'y a pas d'intersection adéquate qui a été réalisé, on retourne un rayon sans intersection
+    return ray;
+  }
+    
+  /**
+   * Méthode pour obtenir la liste des intersections transparente en ordre décroissant dont la plus éloigné (première de la liste) sera une géométrie opaque s'il y a eu intersection de cette nature.
+   * 
+   * @param ray - Le rayon à intersecter.
+   * @param t_max - Le temps maximal pouvant être parcouru par le rayon.
+   * @param map - La carte des voxels.
+   * @param builder - Le constructeur de voxel (pour vérifier si l'intersection est à l'intérieur du voxel).
+   * @param voxel - Le voxel de la carte où sont réalisés les tests d'intersection.
+   * @return La liste des intersections transparente en odre décroissant dont le premier élément sera une géométrie opaque s'il y a eu intersection de cette nature.
+   */
+  protected List<SRay> nearestOpaqueIntersectionInVoxelMap(SRay ray, double t_max, Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVoxel voxel)
+  {
+    if(map != null)
+      if(!map.isEmpty())
+      {
+        // Obtenir la liste des géométries en référence dans le voxel
+        List<SGeometry> list = map.get(voxel);
+        
+        if(list != null)          
+          if(!list.isEmpty())     
+            return nearestOpaqueIntersectionInVoxel(list, kernel(list), ray, t_max, builder, voxel);  // Obtenir la liste de l'intersection opaque la plus près
+      }
+
+    // La carte n'étant vide, on retourne une liste vide
+    return new ArrayList<SRay>();    
+  }
+  
+  /**
+   * <p>
+   * Méthode qui évalue l'intersection la plus près entre un rayon et les différentes géométries <b>opaque</b> de l'espace ne dépassant pas un certain temps maximal.
+   * Une liste des géométries transparentes sera ordonnée en <b>ordre inverse d'apparition</b> (ordre décroissant du temps).
+   * La <b>liste débutera par une géométrie opaque</b> s'il y a eu une intersection avec une géométrie opaque.
+   * S'il n'y a pas eu d'intersection avec une géométrie opaque, elle contiendra uniquement des géométries transparentes.
+   * </p>
+   * 
+   * <p>
+   * En comparaison avec sa version précédente, cette méthode n'acceptera uniquement les intersections situées à l'intérieur du voxel associé à la liste des géométries.
+   * </p>
+   *
+   * @param list - La liste des géométries.
+   * @param kernel - Le noyau de calcul de la liste (<b>null</b> s'il n'y en a pas).
+   * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+   * @param t_max - Le temps maximal.
+   * @param builder - Le constructeur de voxel (pour vérifier si l'intersection est à l'intérieur du voxel).
+   * @param voxel - Le voxel de la carte où sont réalisés les tests d'intersection.
+   * @return Une liste des géométries transparentes intersectées en <b>ordre décroissant</b> débutant par une géométrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
+   */
+  private List<SRay> nearestOpaqueIntersectionInVoxel(List<SGeometry> list, STriangleKernel kernel, SRay ray, final double t_max, SVoxelBuilder builder, SVoxel voxel)
+  {
+    // Obtenir la liste complète des intersections triées en ordre croissant
+    List<SRay> list_intersection = intersections(list, kernel, ray, t_max);
+    
+    // Iterer sur l'ensemble des intersections et conserver celle 
+    // où il y a des géométries transparentes et une seule opaque s'il y en a une
+    List<SRay> return_list = new ArrayList<SRay>();
+    
+    for(SRay r : list_intersection)
+    {
+      // Ajouter et traiter l'intersection uniquement si elle se retrouve dans le voxel
+      if(builder.buildVoxel(r.getIntersectionPosition()).equals(voxel))
+      {
+        return_list.add(r);   // ajouter cette intersection
+        
+        // Si la géométrie intersecté n'est pas transparente,
+        // ce sera la dernière intersection ajoutée à la liste
+        // car elle sera la seule intersection opaque de la liste.
+        if(!r.getGeometry().isTransparent())
+        {
+          Collections.reverse(return_list);     // Inverser l'ordre en ordre décroissant
+          return return_list;                   // retourner une liste avec géométrie opaque
+        }
+      }
+    }
+    
+    Collections.reverse(return_list);           // Inverser l'ordre en ordre décroissant
+    return return_list;                         // retourner une liste sans géométrie opaque
+  }
+  
+  /**
+   * Méthode qui évalue l'ensemble des géométries d'une carte de voxel où une vecteur v se retrouve à l'intérieur.
+   * 
+   * @param map - La carte des voxels.
+   * @param builder - Le constructeur de voxel attitré à la carte de voxel.
+   * @param v - La position du vecteur.
+   * @return La liste des géométries où le vecteur v se retrouve à l'intérieur.
+   */
+  protected List<SGeometry> listInsideGeometryInMap(Map<SVoxel,List<SGeometry>> map, SVoxelBuilder builder, SVector3d v)
+  {
+    // Obtenir la liste des géométries dans la cartes des voxel 
+    // et obtenir les géométries où le vecteur v s'y retrouve
+    if(map != null)        
+      if(!map.isEmpty())    
+        return listInsideGeometry(map.get(builder.buildVoxel(v)), v);
+        
+    // La carte étant null ou vide, nous retournons une liste vide.
+    return new ArrayList<SGeometry>();
+  }
+  
+  /**
+   * <p>
+   * Méthode pour construire une carte de voxels à partir d'une liste de boîtes englobantes.
+   * Chaque géométrie sera référencée dans l'ensemble des voxels recouverts par sa boîte englobante.
+   * </p>
+   * 
+   * <p>
+   * Lorsque la liste comporte au moins {@link SAbstractGeometrySpace#PARALLEL_BUILD_THRESHOLD} boîtes, 
+   * l'insertion est réalisée en parallèle : chaque tâche remplit sa propre carte partielle et les cartes
+   * partielles sont fusionnées à la fin. Puisque le <i>stream</i> est ordonné, l'ordre des géométries dans chaque voxel
+   * est identique à celui d'une construction séquentielle.
+   * </p>
+   * 
+   * @param list - La liste des boîtes englobantes contenant les géométries.
+   * @param builder - Le constructeur de voxel attitré à la carte.
+   * @return La carte des voxels.
+   */
+  protected Map<SVoxel, List<SGeometry>> buildVoxelMap(List<SBoundingBox> list, SVoxelBuilder builder)
+  {
+    Stream<SBoundingBox> stream;
+    
+    if(list.size() < PARALLEL_BUILD_THRESHOLD)
+      stream = list.stream();
+    else
+      stream = list.parallelStream();
+    
+    return stream.collect(
+        HashMap<SVoxel, List<SGeometry>>::new,                                              // carte partielle d'une tâche
+        (map, box) -> addGeometryToMap(map, box.getGeometry(), builder.buildVoxel(box)),   // insertion dans la carte partielle
+        this::mergeVoxelMap);                                                              // fusion de deux cartes partielles
+  }
+  
+  /**
+   * Méthode pour obtenir le noyau de calcul de la liste des géométries d'un voxel.
+   * 
+   * @param list - La liste des géométries du voxel.
+   * @return Le noyau de calcul ou <b>null</b> si la liste n'en a pas.
+   * @see SVoxelGeometryList#getKernel()
+   */
+  private static STriangleKernel kernel(List<SGeometry> list)
+  {
+    // Une liste trop courte n'a jamais de noyau
+    if(list.size() < STriangleKernel.MIN_SIZE || !(list instanceof SVoxelGeometryList))
+      return null;
+    
+    return ((SVoxelGeometryList)list).getKernel();
+  }
+  
+  /**
+   * Méthode pour ajouter une géométrie à la carte de voxel avec les voxels où la géométrie est située.
+   * 
+   * @param map - La carte des voxels contenant une liste de géométrie.
+   * @param geometry - La géométrie à ajouter.
+   * @param list - La liste des voxels où la géométrie est située.
+   */
+  protected void addGeometryToMap(Map<SVoxel, List<SGeometry>> map, SGeometry geometry, List<SVoxel> list)
+  {
+    // Iterer sur la liste des voxels
+    for(SVoxel v : list)
+    {  
+      List<SGeometry> l = map.get(v);
+      
+      // Si le voxel n'est pas dans la carte : créer une liste et ajouter le voxel comme clé de recherche dans la carte.
+      if(l == null)
+      {
+        l = new SVoxelGeometryList();
+        map.put(v, l);
+      }
+      
+      // Ajouter la géométrie à la liste de ce voxel
+      l.add(geometry);
+    }
+  }
+  
+  /**
+   * Méthode pour retirer une géométrie de la carte de voxel. Les voxels ne contenant plus de géométrie seront retirés de la carte.
+   * 
+   * @param map - La carte des voxels contenant une liste de géométrie.
+   * @param geometry - La géométrie à retirer.
+   * @param list - La liste des voxels où la géométrie est située.
+   * @return Le nombre de références à la géométrie qui ont été retirées de la carte.
+   */
+  protected int removeGeometryFromMap(Map<SVoxel, List<SGeometry>> map, SGeometry geometry, List<SVoxel> list)
+  {
+    int count = 0;
+    
+    for(SVoxel v : list)
+    {
+      List<SGeometry> l = map.get(v);
+      
+      if(l != null)
+        if(l.remove(geometry))
+        {
+          count++;
+          
+          // Retirer le voxel de la carte s'il ne contient plus de géométrie
+          if(l.isEmpty())
+            map.remove(v);
+        }
+    }
+    
+    return count;
+  }
+  
+  /**
+   * Méthode pour mémoriser la qualité de la carte des voxels à la fin d'une construction complète de l'espace.
+   * La variable <b>reference_count</b> doit avoir préalablement été évaluée.
+   * 
+   * @param nb_voxel - Le nombre de voxels de la carte.
+   */
+  protected void recordBuildQuality(int nb_voxel)
+  {
+    built_reference_per_geometry = evaluateReferencePerGeometry();
+    built_reference_per_voxel = evaluateReferencePerVoxel(nb_voxel);
+  }
+  
+  /**
+   * <p>
+   * Méthode pour faire la reconstruction complète de l'espace si la qualité de la carte des voxels s'est trop dégradée 
+   * suite aux mises à jour locales depuis la dernière construction complète.
+   * </p>
+   * 
+   * <p>
+   * La qualité est dégradée lorsque le nombre moyen de voxels par géométrie (géométries trop grandes pour la taille des voxels)
+   * ou le nombre moyen de géométries par voxel (géométries trop petites pour la taille des voxels) dépasse 
+   * {@link #REBUILD_DEGRADATION_FACTOR} fois sa valeur lors de la dernière construction.
+   * </p>
+   * 
+   * @param nb_voxel - Le nombre de voxels de la carte.
+   * @return <b>true</b> si l'espace a été reconstruit et <b>false</b> sinon.
+   */
+  protected boolean rebuildIfDegraded(int nb_voxel)
+  {
+    if(evaluateReferencePerGeometry() > REBUILD_DEGRADATION_FACTOR * built_reference_per_geometry ||
+       evaluateReferencePerVoxel(nb_voxel) > REBUILD_DEGRADATION_FACTOR * built_reference_per_voxel)
+    {
+      SLog.logWriteLine("Message SAbstractVoxelSpace : La qualité de la carte des voxels est dégradée. Reconstruction complète de l'espace.");
+      
+      initialize();
+      return true;
+    }
+    else
+      return false;
+  }
+  
+  /**
+   * Méthode pour évaluer le nombre moyen de voxels référençant une géométrie admettant une boîte englobante.
+   * 
+   * @return Le nombre moyen de références par géométrie.
+   */
+  private double evaluateReferencePerGeometry()
+  {
+    int nb_geometry = geometry_list.size() - linear_list.size();
+    
+    if(nb_geometry == 0)
+      return 0.0;
+    else
+      return (double) reference_count / (double) nb_geometry;
+  }
+  
+  /**
+   * Méthode pour évaluer le nombre moyen de géométries référencées par voxel.
+   * 
+   * @param nb_voxel - Le nombre de voxels de la carte.
+   * @return Le nombre moyen de références par voxel.
+   */
+  private double evaluateReferencePerVoxel(int nb_voxel)
+  {
+    if(nb_voxel == 0)
+      return 0.0;
+    else
+      return (double) reference_count / (double) nb_voxel;
+  }
+  
+  /**
+   * Méthode pour fusionner une carte de voxels dans une autre. Les géométries de la deuxième carte 
+   * seront ajoutées <b>à la suite</b> des géométries de la première carte pour un même voxel.
+   * 
+   * @param map - La carte des voxels qui sera complétée.
+   * @param other_map - La carte des voxels à fusionner dans la première carte.
+   */
+  protected void mergeVoxelMap(Map<SVoxel, List<SGeometry>> map, Map<SVoxel, List<SGeometry>> other_map)
+  {
+    for(Map.Entry<SVoxel, List<SGeometry>> e : other_map.entrySet())
+    {
+      List<SGeometry> l = map.get(e.getKey());
+      
+      if(l == null)
+        map.put(e.getKey(), e.getValue());
+      else
+        l.addAll(e.getValue());
+    }
+  }
+  
+  /**
+   * Méthode pour évaluer le voxel définissant les extremums en valeur absolue d'une carte de voxels.
+   * 
+   * @param map - La carte des voxels.
+   * @return Le voxel d'extrême de la carte.
+   */
+  protected SVoxel evaluateAbsoluteExtremumVoxel(Map<SVoxel, List<SGeometry>> map)
+  {
+    SVoxel extremum_voxel = new SVoxel(0, 0, 0);
+    
+    for(SVoxel v : map.keySet())
+      extremum_voxel = updateExtremumVoxel(extremum_voxel, v);
+    
+    return extremum_voxel;
+  }
+  
+  /**
+   * Méthode pour faire la mise à jour du voxel définissant les extermums en valeur absolue d'une carte de voxels.
+   * 
+   * @param previous_extremum - Le voxel étant celui définissant l'ancien extremum.
+   * @param new_voxel - Le nouveau voxel pouvant redéfinir le voxel extremum.
+   * @return Un nouveau voxel définissant un nouvel extremum ou celui passé en paramètre s'il demeure extremum.
+   */
+  protected SVoxel updateExtremumVoxel(SVoxel previous_extremum, SVoxel new_voxel)
+  {
+    // Voxel de retour étant l'ancien par défaut (s'il n'est pas changé)
+    SVoxel return_voxel = previous_extremum;
+    
+    //Mise à jour si nécessaire de la coordonnée extermum en x
+    if(Math.abs(new_voxel.getX()) > return_voxel.getX())
+      return_voxel = new SVoxel(Math.abs(new_voxel.getX()), return_voxel.getY(), return_voxel.getZ());
+    
+    //Mise à jour si nécessaire de la coordonnée extermum en y
+    if(Math.abs(new_voxel.getY()) > return_voxel.getY())
+      return_voxel = new SVoxel(return_voxel.getX(), Math.abs(new_voxel.getY()), return_voxel.getZ());
+    
+    //Mise à jour si nécessaire de la coordonnée extermum en z
+    if(Math.abs(new_voxel.getZ()) > return_voxel.getZ())
+      return_voxel = new SVoxel(return_voxel.getX(), return_voxel.getY(), Math.abs(new_voxel.getZ()));
+    
+    return return_voxel;
+  }
+  
+  /**
+   * Méthode pour obtenir le nombre de géométries en référence dans les voxels.
+   * 
+   * @param map - La carte des voxels.
+   * @return Le nombre de primitives dans les voxels de la carte.
+   */
+  protected int evaluateNbGeometryReference(Map<SVoxel, List<SGeometry>> map)
+  {
+    int count = 0;
+    
+    // Iterer sur l'ensemble des valeurs de la carte
+    for(List<SGeometry> l : map.values())
+      count += l.size();
+    
+    return count;
+  }
+  
+  /**
+   * Méthode pour obtenir le nombre de géométries en référence en moyenne par voxel.
+   * 
+   * @param map - La carte des voxels.
+   * @return Le nombre moyen de primitives par voxel.
+   */
+  protected double evaluateNbGeometryReferencePerVoxel(Map<SVoxel, List<SGeometry>> map)
+  {
+    // Valeur statistique étant un calcul de moyenne
+    return (double) evaluateNbGeometryReference(map) / (double) map.keySet().size();
+  }
+  
+}//fin de la classe SAbstractVoxelSpace
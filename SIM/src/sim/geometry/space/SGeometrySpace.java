@@ -1,73 +1,124 @@
-/**
- * 
- */
-package sim.geometry.space;
-
-import java.util.List;
-
-import sim.exception.SRuntimeException;
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.math.SVector3d;
-
-/**
- * L'interface <b>SGeometrySpace</b> reprsentant un espace de rengement des gomtries. 
- * Cet espace permet d'organiser les gomtries afin d'effectuer le calculs de l'intersection avec les gomtries plus efficacement.
- * 
- * @author Simon Vzina
- * @since 2015-01-10
- * @version 2015-12-29
- */
-public interface SGeometrySpace {
-
-	/**
-	 * Mthode qui ajoute une gomtrie  l'espace.
-	 * @param geometry - La gomtrie  ajouter  l'espace.
-	 */
-	public void addGeometry(SGeometry geometry);
-	
-	/**
-	 * Mthode qui ajoute une liste de gomtries  l'espace.
-	 * @param list - La liste de gomtries  ajouter  l'espace.
-	 */
-	public void addGeometry(List<SGeometry> list);
-	
-	/**
-	 * Mthode qui value l'intersection la plus prs entre un rayon et les diffrentes gomtries de l'espace ne dpassant pas un certain temps maximal.
-	 * @param ray - Le rayon  intersecter avec les gomtries de l'espace.
-	 * @param t_max - Le temps maximal.
-	 * @return Un nouveau rayon avec les proprits de l'intersection la plus prs ne dpassant pas le temps maximal. Si <b>aucune intersection</b> respectant ces contraintes n'a peut tre ralise, le <b>rayon d'origine sera retourn</b> tant un rayon sans intersection.
-	 * @throws SRuntimeException Si le rayon a dj intersect une autre gomtrie.
-	 * @throws SRuntimeException Si la valeur de t_max est ngative.
-	 * @throws SRuntimeException Si l'espace des gomtries n'a pas t pralablement initialis.
-	 */
-	public SRay nearestIntersection(SRay ray, double t_max) throws SRuntimeException;
-		
-	/**
-	 * Mthode qui value l'intersection la plus prs entre un rayon et les diffrentes gomtries <b>opaque</b> de l'espace ne dpassant pas un certain temps maximal.
-	 * Une liste des gomtries transparentes sera ordonne en <b>ordre inverse d'apparition</b> (ordre dcroissant) et la <b>liste dbutera par une gomtrie opaque</b> s'il y a eu intersection avec une gomtrie opaque.
-	 * @param ray - Le rayon  intersecter avec les gomtries de l'espace.
-	 * @param t_max - Le temps maximal.
-	 * @return Une liste des gomtries transparentes intersectes en <b>ordre dcroissant</b> dbutant par une gomtrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
-	 * @throws SRuntimeException Si le rayon a dj intersect une autre gomtrie.
-	 * @throws SRuntimeException Si la valeur de t_max est ngative.
-	 * @throws SRuntimeException Si l'espace des gomtries n'a pas t pralablement initialis.
-	 */
-	public List<SRay> nearestOpaqueIntersection(SRay ray, double t_max) throws SRuntimeException;
-	
-	/**
-	 * Mthode pour obtenir la liste des gomtries o la position du vecteur <i>v</i> se retrouve  l'intrieur.
-	 * Si la liste est vide, c'est que le vecteur <i>v</i> se retrouve  l'intrieur d'aucune gomtrie.
-	 * @param v - La position d'un point de l'espace.
-	 * @return La liste des gomtries o le vecteur <i>v</i> se retrouve  l'intrieur.
-	 * @throws SRuntimeException Si l'espace des gomtries n'a pas t pralablement initialis.
-	 */
-	public List<SGeometry> listInsideGeometry(SVector3d v) throws SRuntimeException;
-	
-	/**
-	 * Mthode pour initialiser l'espace des gomtries. L'espace ne sera pas oprationnel 
-	 * pour effectuer des tests d'intersection si cette mthode n'est pas active avant.
-	 */
-	public void initialize();
-	
-}//fin interface SGeometrySpace
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.List;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+
+/**
+ * L'interface <b>SGeometrySpace</b> représentant un espace de rengement des géométries. 
+ * Cet espace permet d'organiser les géométries afin d'effectuer le calculs de l'intersection avec les géométries plus efficacement.
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-10
+ * @version 2016-04-04
+ */
+public interface SGeometrySpace {
+
+	/**
+	 * Méthode qui ajoute une géométrie à l'espace.
+	 * @param geometry - La géométrie à ajouter à l'espace.
+	 */
+	public void addGeometry(SGeometry geometry);
+	
+	/**
+	 * Méthode qui ajoute une liste de géométries à l'espace.
+	 * @param list - La liste de géométries à ajouter à l'espace.
+	 */
+	public void addGeometry(List<SGeometry> list);
+	
+	/**
+	 * Méthode qui insère une géométrie dans un espace déjà initialisé. Uniquement la partie de l'espace 
+	 * touchée par la géométrie sera mise à jour (si l'espace le permet). Si l'espace n'est pas initialisé, la géométrie est simplement ajoutée.
+	 * @param geometry - La géométrie à insérer dans l'espace.
+	 */
+	public void insertGeometry(SGeometry geometry);
+	
+	/**
+	 * Méthode qui retire une géométrie de l'espace. Uniquement la partie de l'espace
+	 * touchée par la géométrie sera mise à jour (si l'espace le permet).
+	 * @param geometry - La géométrie à retirer de l'espace.
+	 * @throws SRuntimeException Si la géométrie n'est pas dans l'espace.
+	 */
+	public void removeGeometry(SGeometry geometry) throws SRuntimeException;
+	
+	/**
+	 * Méthode qui remplace une géométrie de l'espace par une nouvelle géométrie. 
+	 * Puisque les géométries sont immuables, le déplacement ou le changement de forme d'un objet 
+	 * de la scène correspond au remplacement de son ancienne géométrie par une nouvelle.
+	 * @param old_geometry - La géométrie à remplacer.
+	 * @param new_geometry - La nouvelle géométrie.
+	 * @throws SRuntimeException Si l'ancienne géométrie n'est pas dans l'espace.
+	 */
+	public void moveGeometry(SGeometry old_geometry, SGeometry new_geometry) throws SRuntimeException;
+	
+	/**
+	 * Méthode qui évalue l'intersection la plus près entre un rayon et les différentes géométries de l'espace ne dépassant pas un certain temps maximal.
+	 * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+	 * @param t_max - Le temps maximal.
+	 * @return Un nouveau rayon avec les propriétés de l'intersection la plus près ne dépassant pas le temps maximal. Si <b>aucune intersection</b> respectant ces contraintes n'a peut être réalisée, le <b>rayon d'origine sera retourné</b> étant un rayon sans intersection.
+	 * @throws SRuntimeException Si le rayon a déjà intersecté une autre géométrie.
+	 * @throws SRuntimeException Si la valeur de t_max est négative.
+	 * @throws SRuntimeException Si l'espace des géométries n'a pas été préalablement initialisé.
+	 */
+	public SRay nearestIntersection(SRay ray, double t_max) throws SRuntimeException;
+		
+	/**
+	 * Méthode qui évalue l'intersection la plus près entre un rayon et les différentes géométries <b>opaque</b> de l'espace ne dépassant pas un certain temps maximal.
+	 * Une liste des géométries transparentes sera ordonnée en <b>ordre inverse d'apparition</b> (ordre décroissant) et la <b>liste débutera par une géométrie opaque</b> s'il y a eu intersection avec une géométrie opaque.
+	 * @param ray - Le rayon à intersecter avec les géométries de l'espace.
+	 * @param t_max - Le temps maximal.
+	 * @return Une liste des géométries transparentes intersectées en <b>ordre décroissant</b> débutant par une géométrie opaque s'il y a eu lieu. La liste sera <b>vide</b> s'il n'y a <b>aucune intersection</b> sur le temps maximal.
+	 * @throws SRuntimeException Si le rayon a déjà intersecté une autre géométrie.
+	 * @throws SRuntimeException Si la valeur de t_max est négative.
+	 * @throws SRuntimeException Si l'espace des géométries n'a pas été préalablement initialisé.
+	 */
+	public List<SRay> nearestOpaqueIntersection(SRay ray, double t_max) throws SRuntimeException;
+	
+	/**
+	 * Méthode qui évalue l'intersection la plus près de chaque rayon d'un paquet de rayons cohérents (ex : rayons de pixels voisins). 
+	 * Les tests communs au paquet (ex : boîtes englobantes) sont réalisés une seule fois pour l'ensemble des rayons.
+	 * Le résultat de chaque rayon est identique à celui de la méthode <b>nearestIntersection(SRay, double)</b>.
+	 * @param ray - Les rayons du paquet.
+	 * @param t_max - Le temps maximal.
+	 * @return Les rayons avec les propriétés de l'intersection la plus près (dans l'ordre des rayons du paquet).
+	 * @throws SRuntimeException Si un rayon a déjà intersecté une autre géométrie.
+	 * @throws SRuntimeException Si la valeur de t_max est négative.
+	 * @throws SRuntimeException Si l'espace des géométries n'a pas été préalablement initialisé.
+	 */
+	public SRay[] nearestIntersection(SRay[] ray, double t_max) throws SRuntimeException;
+	
+	/**
+	 * Méthode qui évalue l'intersection la plus près avec une géométrie <b>opaque</b> de chaque rayon d'un paquet de rayons cohérents
+	 * (ex : rayons d'ombrage d'une même région vers une même source de lumière). 
+	 * Le résultat de chaque rayon est identique à celui de la méthode <b>nearestOpaqueIntersection(SRay, double)</b>.
+	 * @param ray - Les rayons du paquet.
+	 * @param t_max - Le temps maximal de chaque rayon.
+	 * @return Les listes des intersections de chaque rayon (dans l'ordre des rayons du paquet).
+	 * @throws SRuntimeException Si un rayon a déjà intersecté une autre géométrie.
+	 * @throws SRuntimeException Si une valeur de t_max est négative.
+	 * @throws SRuntimeException Si l'espace des géométries n'a pas été préalablement initialisé.
+	 */
+	public List<List<SRay>> nearestOpaqueIntersection(SRay[] ray, double[] t_max) throws SRuntimeException;
+	
+	/**
+	 * Méthode pour obtenir la liste des géométries où la position du vecteur <i>v</i> se retrouve à l'intérieur.
+	 * Si la liste est vide, c'est que le vecteur <i>v</i> se retrouve à l'intérieur d'aucune géométrie.
+	 * @param v - La position d'un point de l'espace.
+	 * @return La liste des géométries où le vecteur <i>v</i> se retrouve à l'intérieur.
+	 * @throws SRuntimeException Si l'espace des géométries n'a pas été préalablement initialisé.
+	 */
+	public List<SGeometry> listInsideGeometry(SVector3d v) throws SRuntimeException;
+	
+	/**
+	 * Méthode pour initialiser l'espace des géométries. L'espace ne sera pas opérationnel 
+	 * pour effectuer des tests d'intersection si cette méthode n'est pas activée avant.
+	 */
+	public void initialize();
+	
+}//fin interface SGeometrySpace
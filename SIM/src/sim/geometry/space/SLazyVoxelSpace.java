@@ -0,0 +1,593 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+import sim.util.SLog;
+
+/**
+ * <p>
+ * La classe <b>SLazyVoxelSpace</b> représente un espace de géométries distribuées dans une grille de voxels à <b>construction paresseuse</b>.
+ * Lors de l'initialisation, uniquement une grille grossière de cellules est construite. La carte des voxels fins d'une cellule
+ * est construite au premier passage d'un rayon dans cette cellule.
+ * </p>
+ *
+ * <p>
+ * Cet espace réduit le temps d'attente avant l'affichage du premier pixel (ex. aperçu interactif avec <b>SJFrameRenderer</b>)
+ * puisque le coût de construction est réparti durant le rendu et que les régions jamais visitées par un rayon ne sont jamais construites.
+ * Les voxels fins ont une dimension étant une fraction entière de celle des cellules afin qu'ils soient exactement imbriqués dans les cellules.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2016-04-04
+ * @version 2016-04-04
+ */
+public class SLazyVoxelSpace extends SAbstractVoxelSpace {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>COARSE_RATIO</b> correspond au rapport entre la dimension des cellules de la grille grossière
+   * et la dimension des voxels évaluée pour l'ensemble des géométries. La valeur est égale à {@value}.
+   */
+  private static final double COARSE_RATIO = 8.0;
+
+  /**
+   * La constante <b>MAX_SUBDIVISION</b> correspond au nombre maximal de voxels fins selon un axe d'une cellule.
+   * La valeur est égale à {@value}.
+   */
+  private static final int MAX_SUBDIVISION = 16;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>cell_map</b> correspond à la carte des cellules de la grille grossière où sont situées des géométries admettant une boîte englobante.
+   */
+  private Map<SVoxel, SLazyVoxelSpaceCell> cell_map;
+
+  /**
+   * La variable <b>cell_builder</b> correspond au constructeur de voxel de la grille grossière.
+   */
+  private SVoxelBuilder cell_builder;
+
+  /**
+   * La variable <b>absolute_extremum_cell</b> correspond au voxel de coordonnée extremums en valeur absolue de la grille grossière.
+   */
+  private SVoxel absolute_extremum_cell;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un espace de voxel à construction paresseuse par défaut.
+   */
+  public SLazyVoxelSpace()
+  {
+    super();
+
+    cell_map = new HashMap<SVoxel, SLazyVoxelSpaceCell>();
+    cell_builder = null;
+    absolute_extremum_cell = null;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  @Override
+  public SRay nearestIntersection(SRay ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier si le rayon a déjà intersecté une géométrie
+    if(ray.asIntersected())
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 001 : Le rayon en paramètre a déjà intersecté une géométrie.");
+
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 002 : Le temps maximale ne peut pas être négative.");
+
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 003 : L'espace de géométries de voxel n'a pas été initialisé.");
+
+    // Résultat de l'intersection avec la grille. Sera égale à "ray" s'il y en a pas eu.
+    SRay intersection_in_voxel = nearestIntersectionInCellMap(ray, t_max);
+
+    // Résultat de l'intersection avec les géométries hors voxel
+    List<SRay> list_intersection_not_in_voxel = intersections(linear_list, ray, t_max);
+
+    // Ajouter l'intersection de la grille à la liste linéaire et trier.
+    list_intersection_not_in_voxel.add(intersection_in_voxel);
+    Collections.sort(list_intersection_not_in_voxel);
+
+    // Retourner le permier élément de la liste (sera sans intersection s'il n'y en a pas eu).
+    return list_intersection_not_in_voxel.get(0);
+  }
+
+  /**
+   * Méthode pour obtenir l'intersection la plus près entre un rayon et des géométries situées dans la grille grossière.
+   * Chaque cellule non vide traversée par le rayon est parcourue à l'aide de sa carte de voxels fins (construite au besoin).
+   *
+   * @param ray - Le rayon à intersecter avec les géométries.
+   * @param t_max - Le temps maximal.
+   * @return Le rayon avec les caractéristiques de l'intersection (s'il y en a eu une).
+   */
+  private SRay nearestIntersectionInCellMap(SRay ray, double t_max)
+  {
+    if(!cell_map.isEmpty())
+    {
+      // Créer la ligne de cellules à parcourir une à une
+      SFastTraversalVoxelAlgorithm line_of_cell = new SFastTraversalVoxelAlgorithm(ray, Double.POSITIVE_INFINITY, cell_builder.getDimension(), absolute_extremum_cell);
+
+      while(line_of_cell.asNextVoxel())
+      {
+        // Temps d'entrée et de sortie de la cellule qui sera parcourue
+        double t_in = line_of_cell.nextMinTime();
+        double t_out = Math.min(line_of_cell.nextMaxTime(), t_max);
+
+        // Fin du parcours lorsque la cellule débute au-delà du temps maximal
+        if(t_in > t_max)
+          break;
+
+        SVoxel cell_voxel = line_of_cell.nextVoxel();
+        SLazyVoxelSpaceCell cell = cell_map.get(cell_voxel);
+
+        if(cell != null)
+        {
+          SVoxelSpaceEntry entry = getCellEntry(cell);
+
+          // Créer la ligne de voxels fins à l'intérieur de la cellule
+          SFastTraversalVoxelAlgorithm line_of_voxel = buildLineOfVoxel(ray, t_in, entry);
+
+          while(line_of_voxel.asNextVoxel())
+          {
+            // Fin du parcours de la cellule lorsque le voxel fin débute après la sortie de la cellule
+            if(line_of_voxel.nextMinTime() > t_out - t_in)
+              break;
+
+            SVoxel voxel = line_of_voxel.nextVoxel();
+
+            // Le voxel fin doit être dans la cellule courante, car les géométries d'une cellule voisine n'y ont pas été référencées
+            if(isInCell(voxel, cell_voxel, entry))
+            {
+              SRay ray_intersection = nearestIntersectionInVoxelMap(ray, t_max, entry.getVoxelMap(), entry.getVoxelBuilder(), voxel);
+
+              if(ray_intersection.asIntersected())
+                return ray_intersection;
+            }
+          }
+        }
+      }
+    }
+
+    // Aucune intersection valide n'a été trouvée.
+    return ray;
+  }
+
+  @Override
+  public List<SRay> nearestOpaqueIntersection(SRay ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier si le rayon a déjà intersecté une géométrie
+    if(ray.asIntersected())
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 004 : Le rayon en paramètre a déjà intersecté une géométrie.");
+
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 005 : Le temps maximale ne peut pas être négative.");
+
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 006 : L'espace de géométries de voxel n'a pas été initialisé.");
+
+    // La liste déterminée dans la grille et celle déterminée dans la liste linéaire des géométries
+    List<SRay> list_in_voxel = nearestOpaqueIntersectionInCellMap(ray, t_max);
+    List<SRay> list_not_in_voxel = nearestOpaqueIntersection(linear_list, ray, t_max);
+
+    // La liste fusionnée adéquatement
+    return mergeNearestOpaqueIntersection(list_in_voxel, list_not_in_voxel);
+  }
+
+  /**
+   * Méthode pour obtenir la liste des intersections transparente en ordre décroissant dont la plus éloigné (première de la liste)
+   * sera une géométrie opaque s'il y a eu intersection de cette nature.
+   *
+   * @param ray - Le rayon à intersecter.
+   * @param t_max - Le temps maximal pouvant être parcouru par le rayon.
+   * @return La liste des intersections transparente en odre décroissant dont le premier élément sera une géométrie opaque s'il y a eu intersection de cette nature.
+   */
+  private List<SRay> nearestOpaqueIntersectionInCellMap(SRay ray, double t_max)
+  {
+    List<SRay> return_list = new ArrayList<SRay>();
+
+    if(!cell_map.isEmpty())
+    {
+      SFastTraversalVoxelAlgorithm line_of_cell = new SFastTraversalVoxelAlgorithm(ray, Double.POSITIVE_INFINITY, cell_builder.getDimension(), absolute_extremum_cell);
+
+      while(line_of_cell.asNextVoxel())
+      {
+        double t_in = line_of_cell.nextMinTime();
+        double t_out = Math.min(line_of_cell.nextMaxTime(), t_max);
+
+        if(t_in > t_max)
+          break;
+
+        SVoxel cell_voxel = line_of_cell.nextVoxel();
+        SLazyVoxelSpaceCell cell = cell_map.get(cell_voxel);
+
+        if(cell != null)
+        {
+          SVoxelSpaceEntry entry = getCellEntry(cell);
+
+          SFastTraversalVoxelAlgorithm line_of_voxel = buildLineOfVoxel(ray, t_in, entry);
+
+          while(line_of_voxel.asNextVoxel())
+          {
+            if(line_of_voxel.nextMinTime() > t_out - t_in)
+              break;
+
+            SVoxel voxel = line_of_voxel.nextVoxel();
+
+            // Les voxels fins hors de la cellule courante seront traités avec la cellule voisine
+            if(!isInCell(voxel, cell_voxel, entry))
+              continue;
+
+            List<SRay> list = nearestOpaqueIntersectionInVoxelMap(ray, t_max, entry.getVoxelMap(), entry.getVoxelBuilder(), voxel);
+
+            return_list = mergeNearestOpaqueIntersection(return_list, list);
+
+            // Retourner cette liste si l'intersection opaque a déjà été trouvée.
+            if(!return_list.isEmpty())
+              if(!return_list.get(0).getGeometry().isTransparent())
+                return return_list;
+          }
+        }
+      }
+    }
+
+    // La liste est vide ou elle contient uniquement des géométries transparentes
+    return return_list;
+  }
+
+  @Override
+  public List<SGeometry> listInsideGeometry(SVector3d v)
+  {
+    // Vérifier que l'initialisation a été complétée
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 007 : L'espace de voxel n'a pas été initialisé.");
+
+    List<SGeometry> inside_list = new ArrayList<SGeometry>();
+
+    // Obtenir les géométries de la cellule où est situé le vecteur v
+    if(!cell_map.isEmpty())
+    {
+      SLazyVoxelSpaceCell cell = cell_map.get(cell_builder.buildVoxel(v));
+
+      if(cell != null)
+      {
+        SVoxelSpaceEntry entry = getCellEntry(cell);
+        inside_list = listInsideGeometryInMap(entry.getVoxelMap(), entry.getVoxelBuilder(), v);
+      }
+    }
+
+    // Ajouter les géométries sans boîte où le vecteur v s'y retrouve.
+    inside_list.addAll(listInsideGeometry(linear_list, v));
+
+    return inside_list;
+  }
+
+  /**
+   * <p>
+   * Méthode pour construire la ligne de voxels fins parcourue par un rayon à partir de son entrée dans une cellule.
+   * La ligne débute à la position du rayon au temps d'entrée dans la cellule.
+   * </p>
+   * 
+   * <p>
+   * La ligne n'est pas limitée en temps, car un parcoureur de voxel ne retourne pas le voxel contenant son temps maximal.
+   * Le parcours doit alors être interrompu lorsque le temps d'entrée d'un voxel fin dépasse le temps de sortie de la cellule.
+   * </p>
+   *
+   * @param ray - Le rayon.
+   * @param t_in - Le temps d'entrée du rayon dans la cellule.
+   * @param entry - La carte des voxels fins de la cellule.
+   * @return La ligne de voxels fins.
+   */
+  private SFastTraversalVoxelAlgorithm buildLineOfVoxel(SRay ray, double t_in, SVoxelSpaceEntry entry)
+  {
+    SRay cell_ray = new SRay(ray.getPosition(t_in), ray.getDirection(), ray.getRefractiveIndex());
+
+    return new SFastTraversalVoxelAlgorithm(cell_ray, Double.POSITIVE_INFINITY, entry.getVoxelBuilder().getDimension(), entry.getAbsoluteExtremumVoxel());
+  }
+
+  /**
+   * Méthode pour déterminer si un voxel fin est imbriqué dans une cellule de la grille grossière.
+   * Le test est réalisé sur les coordonnées entières des voxels afin d'éviter les erreurs d'arrondi aux frontières des cellules.
+   *
+   * @param voxel - Le voxel fin.
+   * @param cell_voxel - Le voxel de la cellule.
+   * @param entry - La carte des voxels fins de la cellule.
+   * @return <b>true</b> si le voxel fin est dans la cellule et <b>false</b> sinon.
+   */
+  private boolean isInCell(SVoxel voxel, SVoxel cell_voxel, SVoxelSpaceEntry entry)
+  {
+    int subdivision = (int) Math.round(cell_builder.getDimension() / entry.getVoxelBuilder().getDimension());
+
+    return Math.floorDiv(voxel.getX(), subdivision) == cell_voxel.getX() &&
+           Math.floorDiv(voxel.getY(), subdivision) == cell_voxel.getY() &&
+           Math.floorDiv(voxel.getZ(), subdivision) == cell_voxel.getZ();
+  }
+
+  /**
+   * Méthode pour obtenir la carte des voxels fins d'une cellule. La carte sera construite lors du premier appel.
+   * La construction est réalisée une seule fois même si plusieurs <i>threads</i> visitent la cellule en même temps.
+   *
+   * @param cell - La cellule.
+   * @return La carte des voxels fins de la cellule.
+   */
+  private SVoxelSpaceEntry getCellEntry(SLazyVoxelSpaceCell cell)
+  {
+    SVoxelSpaceEntry entry = cell.getEntry();
+
+    if(entry == null)
+      synchronized(cell)
+      {
+        entry = cell.getEntry();
+
+        if(entry == null)
+        {
+          entry = buildCellEntry(cell);
+          cell.setEntry(entry);
+        }
+      }
+
+    return entry;
+  }
+
+  /**
+   * Méthode pour construire la carte des voxels fins d'une cellule.
+   * La dimension des voxels fins est une fraction entière de la dimension de la cellule.
+   *
+   * @param cell - La cellule.
+   * @return La carte des voxels fins.
+   */
+  private SVoxelSpaceEntry buildCellEntry(SLazyVoxelSpaceCell cell)
+  {
+    // Les géométries d'une cellule possèdent toutes une boîte englobante
+    List<SBoundingBox> box_list = new SBoundingBoxBuilder().buildBoundingBox(cell.getGeometryList());
+
+    // Évaluer la dimension des voxels fins et l'arrondir à une subdivision entière de la cellule
+    SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(box_list, SVoxelDimensionEvaluator.MID_AVERAGE_LENGHT_ALGORITHM);
+
+    int subdivision = (int) Math.round(cell.getDimension() / evaluator.getDimension());
+    subdivision = Math.max(1, Math.min(MAX_SUBDIVISION, subdivision));
+
+    SVoxelBuilder voxel_builder = new SVoxelBuilder(cell.getDimension() / subdivision);
+
+    Map<SVoxel, List<SGeometry>> voxel_map = buildVoxelMap(box_list, voxel_builder);
+
+    return new SVoxelSpaceEntry(voxel_map, voxel_builder, evaluateAbsoluteExtremumVoxel(voxel_map));
+  }
+
+  /**
+   * Méthode qui insère une géométrie dans l'espace. Les cellules recouvertes par la boîte englobante de la géométrie 
+   * seront invalidées et leur carte des voxels fins sera reconstruite au prochain passage d'un rayon.
+   */
+  @Override
+  public void insertGeometry(SGeometry geometry)
+  {
+    // Sans grille (espace non initialisé ou sans boîte englobante), la construction complète est nécessaire
+    if(!space_initialized || cell_builder == null)
+    {
+      super.insertGeometry(geometry);
+      return;
+    }
+
+    geometry_list.add(geometry);
+    insertInCellMap(geometry);
+
+    rebuildIfDegraded(cell_map.size());
+  }
+
+  /**
+   * Méthode qui retire une géométrie de l'espace. Les cellules recouvertes par la boîte englobante de la géométrie
+   * seront invalidées et leur carte des voxels fins sera reconstruite au prochain passage d'un rayon.
+   */
+  @Override
+  public void removeGeometry(SGeometry geometry) throws SRuntimeException
+  {
+    if(!space_initialized || cell_builder == null)
+    {
+      super.removeGeometry(geometry);
+      return;
+    }
+
+    if(!geometry_list.remove(geometry))
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 008 : La géométrie '" + geometry + "' n'est pas dans l'espace des géométries.");
+
+    removeFromCellMap(geometry);
+
+    rebuildIfDegraded(cell_map.size());
+  }
+
+  /**
+   * Méthode qui remplace une géométrie de l'espace par une nouvelle géométrie. Uniquement les cellules recouvertes
+   * par la boîte englobante des deux géométries seront invalidées.
+   */
+  @Override
+  public void moveGeometry(SGeometry old_geometry, SGeometry new_geometry) throws SRuntimeException
+  {
+    if(!space_initialized || cell_builder == null)
+    {
+      super.moveGeometry(old_geometry, new_geometry);
+      return;
+    }
+
+    int index = geometry_list.indexOf(old_geometry);
+
+    if(index < 0)
+      throw new SRuntimeException("Erreur SLazyVoxelSpace 009 : La géométrie '" + old_geometry + "' n'est pas dans l'espace des géométries.");
+
+    geometry_list.set(index, new_geometry);
+
+    removeFromCellMap(old_geometry);
+    insertInCellMap(new_geometry);
+
+    rebuildIfDegraded(cell_map.size());
+  }
+
+  /**
+   * Méthode pour insérer une géométrie dans les cellules de la grille ou dans la liste linéaire si elle n'a pas de boîte englobante.
+   *
+   * @param geometry - La géométrie à insérer.
+   */
+  private void insertInCellMap(SGeometry geometry)
+  {
+    SBoundingBox box = new SBoundingBoxBuilder().buildBoundingBox(geometry);
+
+    if(box == null)
+    {
+      linear_list.add(geometry);
+      return;
+    }
+
+    List<SVoxel> list = cell_builder.buildVoxel(box);
+
+    for(SVoxel v : list)
+    {
+      SLazyVoxelSpaceCell cell = cell_map.get(v);
+
+      if(cell == null)
+      {
+        cell = new SLazyVoxelSpaceCell(new ArrayList<SGeometry>(), cell_builder.getDimension());
+        cell_map.put(v, cell);
+
+        absolute_extremum_cell = updateExtremumVoxel(absolute_extremum_cell, v);
+      }
+
+      cell.getGeometryList().add(geometry);
+      cell.setEntry(null);
+    }
+
+    reference_count += list.size();
+  }
+
+  /**
+   * Méthode pour retirer une géométrie des cellules de la grille ou de la liste linéaire si elle n'a pas de boîte englobante.
+   * Les cellules recouvertes sont retrouvées à partir de la boîte englobante de la géométrie (une géométrie étant immuable).
+   *
+   * @param geometry - La géométrie à retirer.
+   */
+  private void removeFromCellMap(SGeometry geometry)
+  {
+    SBoundingBox box = new SBoundingBoxBuilder().buildBoundingBox(geometry);
+
+    if(box == null)
+    {
+      linear_list.remove(geometry);
+      return;
+    }
+
+    for(SVoxel v : cell_builder.buildVoxel(box))
+    {
+      SLazyVoxelSpaceCell cell = cell_map.get(v);
+
+      if(cell != null)
+        if(cell.getGeometryList().remove(geometry))
+        {
+          reference_count--;
+
+          // Retirer la cellule si elle ne contient plus de géométrie, sinon la reconstruire au prochain passage
+          if(cell.getGeometryList().isEmpty())
+            cell_map.remove(v);
+          else
+            cell.setEntry(null);
+        }
+    }
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de cellules de la grille grossière dont la carte des voxels fins a été construite.
+   *
+   * @return Le nombre de cellules construites.
+   */
+  public int getNbBuiltCell()
+  {
+    int count = 0;
+
+    for(SLazyVoxelSpaceCell cell : cell_map.values())
+      if(cell.isBuilt())
+        count++;
+
+    return count;
+  }
+
+  @Override
+  public void initialize()
+  {
+    SLog.logWriteLine("Message SLazyVoxelSpace : Construction de la grille grossière de l'espace des géométries avec voxel.");
+
+    // Séparateur de la collection de géométrie
+    SGeometryCollectionSplitter splitter = new SGeometryCollectionSplitter(geometry_list, SGeometryCollectionSplitter.SPLIT_BOX_AND_NO_BOX);
+
+    // Obtenir la liste des géométries sans boîte englobante et l'affecter à la liste linéaire
+    linear_list = splitter.getNoBoxList();
+
+    List<SBoundingBox> bounding_box_list = new ArrayList<SBoundingBox>();
+
+    if(!splitter.getBoundingBoxSplitList().isEmpty())
+      bounding_box_list = splitter.getBoundingBoxSplitList().get(0);
+
+    cell_map = new HashMap<SVoxel, SLazyVoxelSpaceCell>();
+
+    if(!bounding_box_list.isEmpty())
+    {
+      // La dimension des cellules est un multiple de la dimension évaluée pour l'ensemble des géométries
+      SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.MID_AVERAGE_LENGHT_ALGORITHM);
+
+      cell_builder = new SVoxelBuilder(evaluator.getDimension() * COARSE_RATIO);
+
+      // Construire la grille grossière et envelopper chaque liste de géométries dans une cellule à construire
+      Map<SVoxel, List<SGeometry>> coarse_map = buildVoxelMap(bounding_box_list, cell_builder);
+
+      for(Map.Entry<SVoxel, List<SGeometry>> e : coarse_map.entrySet())
+        cell_map.put(e.getKey(), new SLazyVoxelSpaceCell(e.getValue(), cell_builder.getDimension()));
+
+      absolute_extremum_cell = evaluateAbsoluteExtremumVoxel(coarse_map);
+
+      // Mémoriser la qualité de la grille pour les mises à jour locales
+      reference_count = evaluateNbGeometryReference(coarse_map);
+      recordBuildQuality(coarse_map.size());
+
+      SLog.logWriteLine("Message SLazyVoxelSpace : Nombre de géométries dans la grille : " + bounding_box_list.size() + " géométries.");
+      SLog.logWriteLine("Message SLazyVoxelSpace : Taille des cellules : " + cell_builder.getDimension() + " unités.");
+      SLog.logWriteLine("Message SLazyVoxelSpace : Nombre de cellules à construire durant le rendu : " + cell_map.size() + " cellules.");
+      SLog.logWriteLine();
+    }
+    else
+    {
+      SLog.logWriteLine("Message SLazyVoxelSpace : Aucune géométrie ne possède de boîte englobante! Le choix d'un espace de géométries en voxel devient inéfficace.");
+
+      cell_builder = null;
+      reference_count = 0;
+    }
+
+    SLog.logWriteLine("Message SLazyVoxelSpace : Fin de la construction de la grille grossière de l'espace des géométries avec voxel.");
+    SLog.logWriteLine();
+
+    space_initialized = true;
+  }
+
+}//fin de la classe SLazyVoxelSpace
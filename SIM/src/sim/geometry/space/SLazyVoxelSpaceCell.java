@@ -0,0 +1,121 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.List;
+
+import sim.geometry.SGeometry;
+
+/**
+ * <p>
+ * La classe <b>SLazyVoxelSpaceCell</b> représente une cellule de la grille grossière d'un <b>SLazyVoxelSpace</b>.
+ * La cellule contient la liste des géométries dont la boîte englobante recouvre la cellule. La carte des voxels fins
+ * de la cellule n'est construite qu'au <b>premier</b> passage d'un rayon dans la cellule.
+ * </p>
+ *
+ * <p>
+ * La construction de la carte des voxels fins est réalisée une seule fois même si plusieurs <i>threads</i>
+ * visitent la cellule en même temps (voir <b>SLazyVoxelSpace</b>).
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2016-04-04
+ * @version 2016-04-04
+ */
+public class SLazyVoxelSpaceCell {
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>geometry_list</b> correspond à la liste des géométries dont la boîte englobante recouvre la cellule.
+   */
+  private final List<SGeometry> geometry_list;
+
+  /**
+   * La variable <b>cell_dimension</b> correspond à la dimension de la cellule en unité monde.
+   */
+  private final double cell_dimension;
+
+  /**
+   * La variable <b>entry</b> correspond à la carte des voxels fins de la cellule.
+   * Elle est <b>null</b> tant que la cellule n'a pas été visitée par un rayon.
+   */
+  private volatile SVoxelSpaceEntry entry;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une cellule d'un espace de voxels à construction paresseuse.
+   *
+   * @param geometry_list - La liste des géométries recouvrant la cellule.
+   * @param cell_dimension - La dimension de la cellule en unité monde.
+   */
+  public SLazyVoxelSpaceCell(List<SGeometry> geometry_list, double cell_dimension)
+  {
+    this.geometry_list = geometry_list;
+    this.cell_dimension = cell_dimension;
+    this.entry = null;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour déterminer si la carte des voxels fins de la cellule a été construite.
+   *
+   * @return <b>true</b> si la cellule a été construite et <b>false</b> sinon.
+   */
+  public boolean isBuilt()
+  {
+    return entry != null;
+  }
+
+  /**
+   * Méthode pour obtenir la liste des géométries recouvrant la cellule.
+   *
+   * @return La liste des géométries.
+   */
+  public List<SGeometry> getGeometryList()
+  {
+    return geometry_list;
+  }
+
+  /**
+   * Méthode pour obtenir la carte des voxels fins de la cellule.
+   *
+   * @return La carte des voxels fins de la cellule ou <b>null</b> si elle n'a pas encore été construite.
+   */
+  public SVoxelSpaceEntry getEntry()
+  {
+    return entry;
+  }
+
+  /**
+   * Méthode pour affecter la carte des voxels fins de la cellule. Cette méthode est appelée par l'espace de voxels 
+   * lors du premier passage d'un rayon dans la cellule ou avec <b>null</b> lorsque la liste des géométries de la cellule a été modifiée
+   * (la carte sera alors reconstruite au prochain passage d'un rayon).
+   *
+   * @param entry - La carte des voxels fins de la cellule.
+   */
+  public void setEntry(SVoxelSpaceEntry entry)
+  {
+    this.entry = entry;
+  }
+
+  /**
+   * Méthode pour obtenir la dimension de la cellule en unité monde.
+   *
+   * @return La dimension de la cellule.
+   */
+  public double getDimension()
+  {
+    return cell_dimension;
+  }
+
+}//fin de la classe SLazyVoxelSpaceCell
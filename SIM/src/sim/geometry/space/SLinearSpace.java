@@ -1,98 +1,283 @@
-/**
- * 
- */
-package sim.geometry.space;
-
-import java.util.List;
-
-import sim.exception.SRuntimeException;
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.math.SVector3d;
-import sim.util.SLog;
-
-/**
- * Classe qui reprsente un espace  gomtrie linaire. Cela signifie que les gomtries ne sont pas organises
- * dans une structure complexe. Il sera test en squence linaire  chaque tentative d'intersection avec un rayon.
- * Cette version trs nave est efficace seulement pour des scnes comportant un nombre trs trs faible de gomtries.
- * 
- * @author Simon Vzina
- * @since 2015-01-10
- * @version 2015-12-27
- */
-public class SLinearSpace extends SAbstractGeometrySpace {
-
-	/**
-	 * Constructeur d'un espace  gomtrie linaire.
-	 */
-	public SLinearSpace()
-	{
-	  super();
-	}
-	
-	@Override
-	public SRay nearestIntersection(SRay ray, double t_max)throws SRuntimeException
-	{
-		//Vrifier si le rayon a dj intersect une gomtrie
-		if(ray.asIntersected())
-			throw new SRuntimeException("Erreur SLinearSpace 001 : Le rayon en paramtre a dj intersect une gomtrie.");
-				
-		//Vrifier la valeur de t_max est adquate
-		if(t_max < 0.0)
-			throw new SRuntimeException("Erreur SLinearSpace 002 : Le temps/distance maximale ne peut pas tre ngative.");
-				
-		// Vrifier si l'espace a t initialis
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SLinearSpace 003 : L'espace de gomtrie n'a pas t initialis.");
-    
-		//Obtenir la liste des intersections
-		List<SRay> list_intersection = intersections(geometry_list, ray, t_max);
-		
-		//Si la liste n'est pas vide, la premire intersection sera l'lment [0] de la liste, 
-		//car elle doit tre trie en ordre croissant de temps/distante
-		if(!list_intersection.isEmpty())
-			return list_intersection.get(0);
-		else
-			return ray;	//sans intersection, on retourne le rayon d'origine
-	}
-	
-	@Override
-	public List<SRay> nearestOpaqueIntersection(SRay ray, final double t_max)throws SRuntimeException
-	{
-	  //Vrifier si le rayon a dj intersect une gomtrie
-    if(ray.asIntersected())
-      throw new SRuntimeException("Erreur SLinearSpace 004 : Le rayon en paramtre a dj intersect une gomtrie.");
-        
-    //Vrifier la valeur de t_max est adquate
-    if(t_max < 0.0)
-      throw new SRuntimeException("Erreur SLinearSpace 005 : Le temps/distance maximale ne peut pas tre ngative.");
-        
-    // Vrifier si l'espace a t initialis
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SLinearSpace 006 : L'espace de gomtrie n'a pas t initialis.");
-    
-	  return nearestOpaqueIntersection(geometry_list, ray, t_max);
-	}
-	
-  @Override
-  public List<SGeometry> listInsideGeometry(SVector3d v) throws SRuntimeException
-  {
-    // Vrifier si l'espace a t initialis
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SLinearSpace 007 : L'espace de gomtrie n'a pas t initialis.");
-    
-    return listInsideGeometry(geometry_list, v);
-  }
- 
-  @Override
-  public void initialize()
-  {
-    SLog.logWriteLine("Message SLinearSpace : Construction de l'espace linaire des gomtries.");
-    
-    SLog.logWriteLine("Message SLinearSpace : Fin de la construction de l'espace linaire des gomtries.");
-    SLog.logWriteLine();
-    
-    space_initialized = true;
-  }
-  
-}//fin classe SLinearSpace
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SAbstractGeometry;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+import sim.util.SLog;
+
+/**
+ * Classe qui représente un espace à géométrie linéaire. Cela signifie que les géométries ne sont pas organisées
+ * dans une structure complexe. Il sera testé en séquence linéaire à chaque tentative d'intersection avec un rayon.
+ * Cette version très naïve est efficace seulement pour des scènes comportant un nombre très très faible de géométries.
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-10
+ * @version 2016-04-04
+ */
+public class SLinearSpace extends SAbstractGeometrySpace {
+
+  /**
+   * La variable <b>box_list</b> correspond aux boîtes englobantes des géométries de la liste (<b>null</b> pour une géométrie sans boîte).
+   * Elle permet d'écarter d'un seul test une géométrie qu'aucun rayon d'un paquet ne peut atteindre.
+   */
+  private final List<SBoundingBox> box_list;
+  
+  /**
+   * La variable <b>kernel</b> correspond au noyau de calcul des triangles de la liste des géométries (<b>null</b> s'il n'est pas avantageux).
+   */
+  private STriangleKernel kernel;
+
+	/**
+	 * Constructeur d'un espace à géométrie linéaire.
+	 */
+	public SLinearSpace()
+	{
+	  super();
+	  
+	  box_list = new ArrayList<SBoundingBox>();
+	  kernel = null;
+	}
+	
+	@Override
+	public SRay nearestIntersection(SRay ray, double t_max)throws SRuntimeException
+	{
+		//Vérifier si le rayon a déjà intersecté une géométrie
+		if(ray.asIntersected())
+			throw new SRuntimeException("Erreur SLinearSpace 001 : Le rayon en paramètre a déjà intersecté une géométrie.");
+				
+		//Vérifier la valeur de t_max est adéquate
+		if(t_max < 0.0)
+			throw new SRuntimeException("Erreur SLinearSpace 002 : Le temps/distance maximale ne peut pas être négative.");
+				
+		// Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLinearSpace 003 : L'espace de géométrie n'a pas été initialisé.");
+    
+		//Obtenir la liste des intersections
+		List<SRay> list_intersection = intersections(geometry_list, kernel, ray, t_max);
+		
+		//Si la liste n'est pas vide, la première intersection sera l'élément [0] de la liste, 
+		//car elle doit être triée en ordre croissant de temps/distante
+		if(!list_intersection.isEmpty())
+			return list_intersection.get(0);
+		else
+			return ray;	//sans intersection, on retourne le rayon d'origine
+	}
+	
+	@Override
+	public List<SRay> nearestOpaqueIntersection(SRay ray, final double t_max)throws SRuntimeException
+	{
+	  //Vérifier si le rayon a déjà intersecté une géométrie
+    if(ray.asIntersected())
+      throw new SRuntimeException("Erreur SLinearSpace 004 : Le rayon en paramètre a déjà intersecté une géométrie.");
+        
+    //Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SLinearSpace 005 : Le temps/distance maximale ne peut pas être négative.");
+        
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLinearSpace 006 : L'espace de géométrie n'a pas été initialisé.");
+    
+	  return nearestOpaqueIntersection(geometry_list, kernel, ray, t_max);
+	}
+	
+  @Override
+  public SRay[] nearestIntersection(SRay[] ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SLinearSpace 010 : Le temps/distance maximale ne peut pas être négative.");
+    
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLinearSpace 011 : L'espace de géométrie n'a pas été initialisé.");
+    
+    SRayPacket packet = new SRayPacket(ray, t_max);
+    
+    // Un paquet non cohérent est évalué rayon par rayon
+    if(!packet.isCoherent())
+      return super.nearestIntersection(ray, t_max);
+    
+    // Les géométries pouvant être atteintes par au moins un rayon du paquet
+    List<SGeometry> list = packetGeometryList(packet);
+    
+    SRay[] result = new SRay[ray.length];
+    
+    for(int i = 0; i < ray.length; i++)
+    {
+      if(ray[i].asIntersected())
+        throw new SRuntimeException("Erreur SLinearSpace 012 : Le rayon en paramètre a déjà intersecté une géométrie.");
+      
+      List<SRay> list_intersection = intersections(list, ray[i], t_max);
+      
+      result[i] = list_intersection.isEmpty() ? ray[i] : list_intersection.get(0);
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public List<List<SRay>> nearestOpaqueIntersection(SRay[] ray, double[] t_max) throws SRuntimeException
+  {
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLinearSpace 013 : L'espace de géométrie n'a pas été initialisé.");
+    
+    SRayPacket packet = new SRayPacket(ray, t_max);
+    
+    // Un paquet non cohérent est évalué rayon par rayon
+    if(!packet.isCoherent())
+      return super.nearestOpaqueIntersection(ray, t_max);
+    
+    // Les géométries pouvant être atteintes par au moins un rayon du paquet
+    List<SGeometry> list = packetGeometryList(packet);
+    
+    List<List<SRay>> result = new ArrayList<List<SRay>>(ray.length);
+    
+    for(int i = 0; i < ray.length; i++)
+    {
+      if(ray[i].asIntersected())
+        throw new SRuntimeException("Erreur SLinearSpace 014 : Le rayon en paramètre a déjà intersecté une géométrie.");
+      
+      if(t_max[i] < 0.0)
+        throw new SRuntimeException("Erreur SLinearSpace 015 : Le temps/distance maximale ne peut pas être négative.");
+      
+      result.add(nearestOpaqueIntersection(list, ray[i], t_max[i]));
+    }
+    
+    return result;
+  }
+  
+  /**
+   * Méthode pour obtenir la liste des géométries pouvant être atteintes par au moins un rayon d'un paquet. 
+   * L'ordre des géométries de l'espace est conservé et une géométrie sans boîte englobante est toujours retenue.
+   * 
+   * @param packet - Le paquet de rayons.
+   * @return La liste des géométries.
+   */
+  private List<SGeometry> packetGeometryList(SRayPacket packet)
+  {
+    List<SGeometry> list = new ArrayList<SGeometry>();
+    
+    for(int i = 0; i < geometry_list.size(); i++)
+    {
+      SBoundingBox box = box_list.get(i);
+      
+      if(box == null || packet.intersects(box))
+        list.add(geometry_list.get(i));
+    }
+    
+    return list;
+  }
+  
+  @Override
+  public List<SGeometry> listInsideGeometry(SVector3d v) throws SRuntimeException
+  {
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SLinearSpace 007 : L'espace de géométrie n'a pas été initialisé.");
+    
+    return listInsideGeometry(geometry_list, v);
+  }
+ 
+  /**
+   * Méthode qui insère une géométrie dans l'espace. L'espace linéaire n'ayant aucune structure à mettre à jour,
+   * la géométrie est uniquement ajoutée à la liste sans modifier l'état de l'initialisation.
+   */
+  @Override
+  public void insertGeometry(SGeometry geometry)
+  {
+    geometry_list.add(geometry);
+    
+    // Les boîtes englobantes sont reconstruites à l'initialisation
+    if(space_initialized)
+      box_list.add(boundingBox(geometry));
+    
+    // Le noyau de calcul ne correspond plus à la liste : il sera reconstruit à l'initialisation
+    kernel = null;
+  }
+  
+  @Override
+  public void removeGeometry(SGeometry geometry) throws SRuntimeException
+  {
+    int index = geometry_list.indexOf(geometry);
+    
+    if(index < 0)
+      throw new SRuntimeException("Erreur SLinearSpace 008 : La géométrie '" + geometry + "' n'est pas dans l'espace des géométries.");
+    
+    geometry_list.remove(index);
+    
+    // Les boîtes englobantes sont reconstruites à l'initialisation
+    if(space_initialized)
+      box_list.remove(index);
+    
+    // Le noyau de calcul ne correspond plus à la liste : il sera reconstruit à l'initialisation
+    kernel = null;
+  }
+  
+  @Override
+  public void moveGeometry(SGeometry old_geometry, SGeometry new_geometry) throws SRuntimeException
+  {
+    int index = geometry_list.indexOf(old_geometry);
+    
+    if(index < 0)
+      throw new SRuntimeException("Erreur SLinearSpace 009 : La géométrie '" + old_geometry + "' n'est pas dans l'espace des géométries.");
+    
+    geometry_list.set(index, new_geometry);
+    
+    // Les boîtes englobantes sont reconstruites à l'initialisation
+    if(space_initialized)
+      box_list.set(index, boundingBox(new_geometry));
+    
+    // Le noyau de calcul ne correspond plus à la liste : il sera reconstruit à l'initialisation
+    kernel = null;
+  }
+  
+  @Override
+  public void initialize()
+  {
+    SLog.logWriteLine("Message SLinearSpace : Construction de l'espace linéaire des géométries.");
+    
+    // Boîtes englobantes utilisées par les paquets de rayons
+    box_list.clear();
+    
+    for(SGeometry g : geometry_list)
+      box_list.add(boundingBox(g));
+    
+    // Noyau de calcul des triangles de la liste
+    if(STriangleKernel.isWorthwhile(geometry_list))
+      kernel = new STriangleKernel(geometry_list);
+    else
+      kernel = null;
+    
+    SLog.logWriteLine("Message SLinearSpace : Fin de la construction de l'espace linéaire des géométries.");
+    SLog.logWriteLine();
+    
+    space_initialized = true;
+  }
+  
+  /**
+   * Méthode pour obtenir la boîte englobante d'une géométrie utilisée par les paquets de rayons. 
+   * Une géométrie transformable n'a pas de boîte (<b>null</b>) et sera toujours testée, car la transformation de sa boîte n'est pas disponible.
+   * 
+   * @param geometry La géométrie.
+   * @return La boîte englobante ou <b>null</b> si la géométrie n'a pas de boîte.
+   */
+  private static SBoundingBox boundingBox(SGeometry geometry)
+  {
+    if(geometry.getCodeName() == SAbstractGeometry.TRANSFORMABLE_CODE)
+      return null;
+    
+    return new SBoundingBoxBuilder().buildBoundingBox(geometry);
+  }
+  
+}//fin classe SLinearSpace
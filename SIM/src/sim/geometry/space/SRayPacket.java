@@ -0,0 +1,352 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.Arrays;
+
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SRayPacket</b> représente un paquet de rayons cohérents (ex : rayons primaires de pixels voisins ou rayons d'ombrage
+ * d'une même région vers une même source de lumière) parcourant ensemble l'espace des géométries.
+ * </p>
+ * <p>
+ * Le paquet conserve les intervalles des origines et de l'inverse des directions de ses rayons selon chaque axe. Par arithmétique d'intervalles,
+ * un seul test permet de déterminer qu'aucun rayon du paquet ne traverse une boîte englobante. Un axe dont les composantes des directions
+ * ne sont pas toutes de même signe ne participe pas à ce test.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-13
+ * @version 2017-02-13
+ */
+public class SRayPacket {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>MARGIN</b> correspond à la marge relative ajoutée aux boîtes englobantes lors du test d'un paquet étant égale à {@value}.
+   * Elle protège le test des erreurs d'arrondi de l'arithmétique d'intervalles.
+   */
+  private static final double MARGIN = 1e-9;
+
+  /**
+   * La constante <b>NO_AXIS</b> correspond à l'absence d'axe dominant commun aux rayons du paquet.
+   */
+  public static final int NO_AXIS = -1;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>ray</b> correspond aux rayons du paquet.
+   */
+  private final SRay[] ray;
+
+  /**
+   * La variable <b>t_max</b> correspond au temps maximal de chaque rayon du paquet.
+   */
+  private final double[] t_max;
+
+  /**
+   * La variable <b>max_t_max</b> correspond au plus grand temps maximal des rayons du paquet.
+   */
+  private final double max_t_max;
+
+  /**
+   * Les variables <b>origin_min</b> et <b>origin_max</b> correspondent aux bornes des origines des rayons selon chaque axe.
+   */
+  private final double[] origin_min;
+  private final double[] origin_max;
+
+  /**
+   * Les variables <b>inverse_min</b> et <b>inverse_max</b> correspondent aux bornes de l'inverse des directions des rayons selon chaque axe.
+   */
+  private final double[] inverse_min;
+  private final double[] inverse_max;
+
+  /**
+   * La variable <b>sign</b> correspond au signe commun des directions des rayons selon chaque axe (0 si les signes diffèrent ou si une composante est nulle).
+   */
+  private final int[] sign;
+
+  /**
+   * La variable <b>dominant_axis</b> correspond à l'axe de signe commun selon lequel les rayons progressent le plus rapidement.
+   */
+  private final int dominant_axis;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un paquet de rayons ayant le même temps maximal.
+   *
+   * @param ray Les rayons du paquet.
+   * @param t_max Le temps maximal des rayons.
+   */
+  public SRayPacket(SRay[] ray, double t_max)
+  {
+    this(ray, filledArray(ray.length, t_max));
+  }
+
+  /**
+   * Constructeur d'un paquet de rayons.
+   *
+   * @param ray Les rayons du paquet.
+   * @param t_max Le temps maximal de chaque rayon.
+   */
+  public SRayPacket(SRay[] ray, double[] t_max)
+  {
+    this.ray = ray;
+    this.t_max = t_max;
+
+    origin_min = new double[3];
+    origin_max = new double[3];
+    inverse_min = new double[3];
+    inverse_max = new double[3];
+    sign = new int[3];
+
+    double max = 0.0;
+
+    for(double t : t_max)
+      max = Math.max(max, t);
+
+    max_t_max = max;
+
+    // Plus petite composante (en valeur absolue) de la direction selon chaque axe
+    double[] min_component = new double[3];
+
+    for(int axis = 0; axis < 3; axis++)
+    {
+      origin_min[axis] = Double.POSITIVE_INFINITY;
+      origin_max[axis] = Double.NEGATIVE_INFINITY;
+      inverse_min[axis] = Double.POSITIVE_INFINITY;
+      inverse_max[axis] = Double.NEGATIVE_INFINITY;
+      min_component[axis] = Double.POSITIVE_INFINITY;
+
+      int axis_sign = 0;
+      boolean coherent = true;
+
+      for(SRay r : ray)
+      {
+        double o = component(r.getOrigin(), axis);
+        double d = component(r.getDirection(), axis);
+
+        origin_min[axis] = Math.min(origin_min[axis], o);
+        origin_max[axis] = Math.max(origin_max[axis], o);
+
+        int d_sign = d > 0.0 ? 1 : (d < 0.0 ? -1 : 0);
+
+        if(d_sign == 0 || (axis_sign != 0 && d_sign != axis_sign))
+          coherent = false;
+
+        axis_sign = d_sign;
+
+        if(d_sign != 0)
+        {
+          inverse_min[axis] = Math.min(inverse_min[axis], 1.0/d);
+          inverse_max[axis] = Math.max(inverse_max[axis], 1.0/d);
+        }
+
+        min_component[axis] = Math.min(min_component[axis], Math.abs(d));
+      }
+
+      sign[axis] = coherent ? axis_sign : 0;
+    }
+
+    // L'axe dominant est l'axe cohérent dont la plus petite composante est la plus grande
+    int best = NO_AXIS;
+
+    for(int axis = 0; axis < 3; axis++)
+      if(sign[axis] != 0 && (best == NO_AXIS || min_component[axis] > min_component[best]))
+        best = axis;
+
+    dominant_axis = best;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de rayons du paquet.
+   *
+   * @return Le nombre de rayons.
+   */
+  public int size()
+  {
+    return ray.length;
+  }
+
+  /**
+   * Méthode pour obtenir un rayon du paquet.
+   *
+   * @param i L'index du rayon.
+   * @return Le rayon.
+   */
+  public SRay getRay(int i)
+  {
+    return ray[i];
+  }
+
+  /**
+   * Méthode pour obtenir le temps maximal d'un rayon du paquet.
+   *
+   * @param i L'index du rayon.
+   * @return Le temps maximal.
+   */
+  public double getTMax(int i)
+  {
+    return t_max[i];
+  }
+
+  /**
+   * Méthode pour déterminer si le paquet est cohérent, c'est-à-dire si les directions de ses rayons ont le même signe selon au moins un axe.
+   * Un paquet non cohérent doit être évalué rayon par rayon.
+   *
+   * @return <b>true</b> si le paquet est cohérent et <b>false</b> sinon.
+   */
+  public boolean isCoherent()
+  {
+    return dominant_axis != NO_AXIS;
+  }
+
+  /**
+   * Méthode pour obtenir l'axe dominant du paquet (0 = x, 1 = y, 2 = z).
+   *
+   * @return L'axe dominant ou <b>NO_AXIS</b> si le paquet n'est pas cohérent.
+   */
+  public int getDominantAxis()
+  {
+    return dominant_axis;
+  }
+
+  /**
+   * Méthode pour obtenir le signe commun des directions des rayons selon un axe.
+   *
+   * @param axis L'axe (0 = x, 1 = y, 2 = z).
+   * @return Le signe (1 ou -1) ou 0 si les signes diffèrent.
+   */
+  public int getSign(int axis)
+  {
+    return sign[axis];
+  }
+
+  /**
+   * Méthode pour déterminer si au moins un rayon du paquet peut traverser une boîte englobante avant son temps maximal.
+   * Le test est conservateur : un résultat <b>false</b> garantit qu'aucun rayon ne traverse la boîte.
+   *
+   * @param box La boîte englobante.
+   * @return <b>true</b> si un rayon peut traverser la boîte et <b>false</b> sinon.
+   */
+  public boolean intersects(SBoundingBox box)
+  {
+    SVector3d min = box.getMinPoint();
+    SVector3d max = box.getMaxPoint();
+
+    double t_enter = 0.0;
+    double t_exit = max_t_max;
+
+    for(int axis = 0; axis < 3; axis++)
+    {
+      double box_min = component(min, axis);
+      double box_max = component(max, axis);
+
+      double margin = MARGIN * (1.0 + Math.abs(box_min) + Math.abs(box_max));
+
+      box_min -= margin;
+      box_max += margin;
+
+      if(sign[axis] == 0)
+      {
+        // Sans signe commun, l'axe ne limite pas l'intervalle (sauf si aucun rayon ne se déplace selon cet axe)
+        if(inverse_min[axis] == Double.POSITIVE_INFINITY && (origin_max[axis] < box_min || origin_min[axis] > box_max))
+          return false;
+
+        continue;
+      }
+
+      // Plans d'entrée et de sortie de la boîte selon le sens de déplacement
+      double plane_enter = sign[axis] > 0 ? box_min : box_max;
+      double plane_exit = sign[axis] > 0 ? box_max : box_min;
+
+      // Bornes des temps d'entrée et de sortie par arithmétique d'intervalles : [plane - origine] x [1/d]
+      t_enter = Math.max(t_enter, lowerProduct(plane_enter - origin_max[axis], plane_enter - origin_min[axis], inverse_min[axis], inverse_max[axis]));
+      t_exit = Math.min(t_exit, upperProduct(plane_exit - origin_max[axis], plane_exit - origin_min[axis], inverse_min[axis], inverse_max[axis]));
+
+      if(t_enter > t_exit)
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Méthode pour obtenir la borne inférieure du produit de deux intervalles.
+   *
+   * @param a_min La borne inférieure du premier intervalle.
+   * @param a_max La borne supérieure du premier intervalle.
+   * @param b_min La borne inférieure du deuxième intervalle.
+   * @param b_max La borne supérieure du deuxième intervalle.
+   * @return La borne inférieure du produit.
+   */
+  private static double lowerProduct(double a_min, double a_max, double b_min, double b_max)
+  {
+    return Math.min(Math.min(a_min*b_min, a_min*b_max), Math.min(a_max*b_min, a_max*b_max));
+  }
+
+  /**
+   * Méthode pour obtenir la borne supérieure du produit de deux intervalles.
+   *
+   * @param a_min La borne inférieure du premier intervalle.
+   * @param a_max La borne supérieure du premier intervalle.
+   * @param b_min La borne inférieure du deuxième intervalle.
+   * @param b_max La borne supérieure du deuxième intervalle.
+   * @return La borne supérieure du produit.
+   */
+  private static double upperProduct(double a_min, double a_max, double b_min, double b_max)
+  {
+    return Math.max(Math.max(a_min*b_min, a_min*b_max), Math.max(a_max*b_min, a_max*b_max));
+  }
+
+  /**
+   * Méthode pour obtenir la composante d'un vecteur selon un axe.
+   *
+   * @param v Le vecteur.
+   * @param axis L'axe (0 = x, 1 = y, 2 = z).
+   * @return La composante.
+   */
+  public static double component(SVector3d v, int axis)
+  {
+    switch(axis)
+    {
+      case 0 : return v.getX();
+      case 1 : return v.getY();
+      default : return v.getZ();
+    }
+  }
+
+  /**
+   * Méthode pour construire un tableau rempli d'une même valeur.
+   *
+   * @param size La taille du tableau.
+   * @param value La valeur.
+   * @return Le tableau.
+   */
+  private static double[] filledArray(int size, double value)
+  {
+    double[] array = new double[size];
+
+    Arrays.fill(array, value);
+
+    return array;
+  }
+
+}//fin de la classe SRayPacket
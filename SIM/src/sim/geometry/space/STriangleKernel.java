@@ -0,0 +1,289 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.List;
+
+import sim.geometry.SAbstractGeometry;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.geometry.STriangleGeometry;
+import sim.math.SLinearAlgebra;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>STriangleKernel</b> représente un noyau de calcul permettant de tester un rayon avec l'ensemble des triangles d'une liste de géométries.
+ * Le plan et les arêtes des triangles sont conservés dans un seul tableau de valeurs primitives où chaque propriété est contiguë
+ * pour un bloc de quelques triangles. Le test d'un rayon parcourt ainsi des données contiguës sans construire de vecteur ni de rayon
+ * et sans branchement, ce qui permet au compilateur de la machine virtuelle de traiter plusieurs triangles à la fois.
+ * </p>
+ *
+ * <p>
+ * Le noyau ne remplace pas le calcul d'intersection des géométries : il <b>élimine</b> les triangles qui ne peuvent pas être intersectés.
+ * Le test est conservateur (avec une tolérance) et les géométries retenues sont évaluées par leur propre méthode d'intersection.
+ * Une géométrie qui n'est pas un triangle (ou un triangle dégénéré) est toujours retenue.
+ * </p>
+ *
+ * <p>
+ * Un noyau est immuable et doit être reconstruit lorsque la liste des géométries est modifiée.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class STriangleKernel {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>MIN_SIZE</b> correspond au nombre minimal de géométries d'une liste pour qu'un noyau soit avantageux étant égal à {@value}.
+   */
+  public static final int MIN_SIZE = 8;
+
+  /**
+   * La constante <b>TOLERANCE</b> correspond à la tolérance relative du test des triangles étant égale à {@value}.
+   * Elle garantit qu'un triangle intersecté par sa propre méthode d'intersection ne sera jamais éliminé par le noyau.
+   */
+  private static final double TOLERANCE = 1e-7;
+
+  /**
+   * La constante <b>PARALLEL_THRESHOLD</b> correspond à la valeur du produit scalaire entre la normale et la direction du rayon
+   * sous laquelle le rayon est considéré parallèle au plan du triangle étant égale à {@value}. Le triangle est alors toujours retenu.
+   */
+  private static final double PARALLEL_THRESHOLD = 1e-6;
+
+  /**
+   * La constante <b>LANE</b> correspond au nombre de triangles regroupés dans un bloc du tableau des données étant égal à {@value}.
+   */
+  private static final int LANE = 4;
+
+  /**
+   * Les constantes suivantes correspondent à l'index des propriétés d'un triangle dans un bloc du tableau des données : 
+   * la normale normalisée (N_X, N_Y, N_Z) et sa distance à l'origine (N_D), la normale de chaque arête (vers l'intérieur et dans le plan) 
+   * et sa distance à l'origine (U01, U12 et U20), l'échelle du triangle (SCALE) et l'indicateur d'une géométrie toujours retenue (ALWAYS).
+   */
+  private static final int N_X = 0, N_Y = 1, N_Z = 2, N_D = 3;
+  private static final int U01_X = 4, U01_Y = 5, U01_Z = 6, U01_D = 7;
+  private static final int U12_X = 8, U12_Y = 9, U12_Z = 10, U12_D = 11;
+  private static final int U20_X = 12, U20_Y = 13, U20_Z = 14, U20_D = 15;
+  private static final int SCALE = 16, ALWAYS = 17;
+
+  /**
+   * La constante <b>FIELD</b> correspond au nombre de propriétés d'un triangle étant égal à {@value}.
+   */
+  private static final int FIELD = 18;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>size</b> correspond au nombre de géométries du noyau.
+   */
+  private final int size;
+
+  /**
+   * La variable <b>data</b> correspond aux propriétés des triangles. Les triangles sont regroupés par blocs de <b>LANE</b> triangles
+   * et, dans un bloc, chaque propriété est conservée de façon contiguë pour les triangles du bloc (<i>array of structures of arrays</i>). 
+   * L'ensemble des données d'un noyau occupe ainsi un seul tableau, ce qui est avantageux pour les courtes listes des voxels.
+   */
+  private final double[] data;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un noyau de calcul pour une liste de géométries.
+   *
+   * @param list - La liste des géométries.
+   */
+  public STriangleKernel(List<SGeometry> list)
+  {
+    size = list.size();
+
+    data = new double[((size + LANE - 1) / LANE) * LANE * FIELD];
+
+    for(int k = 0; k < size; k++)
+      if(!store(k, list.get(k)))
+        data[index(k, ALWAYS)] = 1.0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour déterminer si une géométrie est un triangle pouvant être traité par un noyau.
+   *
+   * @param geometry - La géométrie.
+   * @return <b>true</b> si la géométrie est un triangle et <b>false</b> sinon.
+   */
+  public static boolean isTriangle(SGeometry geometry)
+  {
+    return geometry.getCodeName() == SAbstractGeometry.TRIANGLE_CODE || geometry.getCodeName() == SAbstractGeometry.BTRIANGLE_CODE;
+  }
+
+  /**
+   * Méthode pour déterminer si un noyau est avantageux pour une liste de géométries, c'est-à-dire si la liste contient
+   * au moins <b>MIN_SIZE</b> géométries dont au moins un triangle.
+   *
+   * @param list - La liste des géométries.
+   * @return <b>true</b> si un noyau est avantageux et <b>false</b> sinon.
+   */
+  public static boolean isWorthwhile(List<SGeometry> list)
+  {
+    if(list.size() < MIN_SIZE)
+      return false;
+
+    for(SGeometry g : list)
+      if(isTriangle(g))
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de géométries du noyau.
+   *
+   * @return Le nombre de géométries.
+   */
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * Méthode pour obtenir les index des géométries pouvant être intersectées par un rayon avant un temps maximal.
+   * Les index sont en ordre croissant (ordre de la liste des géométries).
+   *
+   * @param ray - Le rayon.
+   * @param t_max - Le temps maximal.
+   * @param candidate - Le tableau (d'une taille d'au moins <b>size()</b>) où sont écrits les index des géométries retenues.
+   * @return Le nombre de géométries retenues.
+   */
+  public int candidates(SRay ray, double t_max, int[] candidate)
+  {
+    SVector3d origin = ray.getOrigin();
+    SVector3d direction = ray.getDirection();
+
+    double o_x = origin.getX();
+    double o_y = origin.getY();
+    double o_z = origin.getZ();
+
+    double d_x = direction.getX();
+    double d_y = direction.getY();
+    double d_z = direction.getZ();
+
+    double t_min = SRay.getEpsilon();
+
+    int nb = 0;
+
+    for(int k = 0; k < size; k++)
+    {
+      int i = (k / LANE) * LANE * FIELD + (k % LANE);
+
+      // Intersection avec le plan du triangle
+      double A = data[i + N_X*LANE]*d_x + data[i + N_Y*LANE]*d_y + data[i + N_Z*LANE]*d_z;
+      double B = data[i + N_X*LANE]*o_x + data[i + N_Y*LANE]*o_y + data[i + N_Z*LANE]*o_z - data[i + N_D*LANE];
+
+      double t = -B / A;
+
+      double tolerance = TOLERANCE * (data[i + SCALE*LANE] + Math.abs(t));
+
+      // Point d'intersection avec le plan
+      double x = o_x + t*d_x;
+      double y = o_y + t*d_y;
+      double z = o_z + t*d_z;
+
+      // Position du point par rapport aux trois arêtes (positive à l'intérieur du triangle)
+      double e01 = x*data[i + U01_X*LANE] + y*data[i + U01_Y*LANE] + z*data[i + U01_Z*LANE] - data[i + U01_D*LANE];
+      double e12 = x*data[i + U12_X*LANE] + y*data[i + U12_Y*LANE] + z*data[i + U12_Z*LANE] - data[i + U12_D*LANE];
+      double e20 = x*data[i + U20_X*LANE] + y*data[i + U20_Y*LANE] + z*data[i + U20_Z*LANE] - data[i + U20_D*LANE];
+
+      double inside = Math.min(e01, Math.min(e12, e20)) + tolerance;
+
+      boolean keep = data[i + ALWAYS*LANE] != 0.0
+          || Math.abs(A) < PARALLEL_THRESHOLD
+          || (t + tolerance >= t_min && t - tolerance < t_max && inside >= 0.0);
+
+      candidate[nb] = k;
+      nb += keep ? 1 : 0;
+    }
+
+    return nb;
+  }
+
+  /**
+   * Méthode pour obtenir l'index d'une propriété d'un triangle dans le tableau des données.
+   *
+   * @param k - L'index de la géométrie.
+   * @param field - La propriété.
+   * @return L'index dans le tableau des données.
+   */
+  private static int index(int k, int field)
+  {
+    return (k / LANE) * LANE * FIELD + field * LANE + (k % LANE);
+  }
+
+  /**
+   * Méthode pour mémoriser les propriétés d'un triangle dans les tableaux du noyau.
+   *
+   * @param k - L'index de la géométrie.
+   * @param geometry - La géométrie.
+   * @return <b>true</b> si le triangle a été mémorisé et <b>false</b> si la géométrie doit toujours être retenue.
+   */
+  private boolean store(int k, SGeometry geometry)
+  {
+    if(!isTriangle(geometry))
+      return false;
+
+    STriangleGeometry triangle = (STriangleGeometry)geometry;
+
+    SVector3d P0 = triangle.getP0();
+    SVector3d P1 = triangle.getP1();
+    SVector3d P2 = triangle.getP2();
+
+    SVector3d normal;
+    SVector3d u01;
+    SVector3d u12;
+    SVector3d u20;
+
+    try{
+      normal = SLinearAlgebra.normalizedPlanNormal(P0, P1, P2);
+
+      u01 = normal.cross(P1.substract(P0)).normalize();
+      u12 = normal.cross(P2.substract(P1)).normalize();
+      u20 = normal.cross(P0.substract(P2)).normalize();
+    }catch(RuntimeException e){
+      // Triangle dégénéré : il sera évalué par sa propre méthode d'intersection
+      return false;
+    }
+
+    double edge = Math.max(P1.substract(P0).modulus(), Math.max(P2.substract(P1).modulus(), P0.substract(P2).modulus()));
+    double extent = Math.max(Math.abs(P0.getX()), Math.max(Math.abs(P0.getY()), Math.abs(P0.getZ())));
+
+    double[] value = { 
+        normal.getX(), normal.getY(), normal.getZ(), normal.dot(P0),
+        u01.getX(), u01.getY(), u01.getZ(), u01.dot(P0),
+        u12.getX(), u12.getY(), u12.getZ(), u12.dot(P1),
+        u20.getX(), u20.getY(), u20.getZ(), u20.dot(P2),
+        edge + extent };
+
+    // Une valeur non finie rend le test non fiable
+    for(double v : value)
+      if(Double.isNaN(v) || Double.isInfinite(v))
+        return false;
+
+    for(int field = 0; field < value.length; field++)
+      data[index(k, field)] = value[field];
+
+    return true;
+  }
+
+}//fin de la classe STriangleKernel
@@ -0,0 +1,152 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import sim.geometry.SGeometry;
+
+/**
+ * <p>
+ * La classe <b>SVoxelGeometryList</b> représente la liste des géométries référencées par un voxel d'une carte de voxels.
+ * La liste conserve le noyau de calcul (<b>STriangleKernel</b>) de ses triangles afin que le noyau d'un voxel soit obtenu
+ * sans une seconde recherche dans une carte.
+ * </p>
+ *
+ * <p>
+ * Le noyau est construit lors de sa première utilisation et il est oublié dès que la liste est modifiée par l'une des méthodes
+ * d'ajout ou de retrait. Puisqu'un noyau est immuable, deux <i>threads</i> construisant simultanément le noyau d'une même liste
+ * obtiennent des noyaux équivalents.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SVoxelGeometryList extends ArrayList<SGeometry> {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>serialVersionUID</b> correspond à l'identifiant de sérialisation de la classe.
+   */
+  private static final long serialVersionUID = 1L;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>kernel</b> correspond au noyau de calcul de la liste (<b>null</b> s'il n'a pas encore été construit).
+   */
+  private transient STriangleKernel kernel;
+
+  /**
+   * La variable <b>kernel_evaluated</b> détermine si la pertinence d'un noyau a été évaluée depuis la dernière modification de la liste.
+   */
+  private transient boolean kernel_evaluated;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une liste de géométries d'un voxel vide.
+   */
+  public SVoxelGeometryList()
+  {
+    super();
+
+    kernel = null;
+    kernel_evaluated = false;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le noyau de calcul des triangles de la liste. Le noyau est construit s'il est avantageux
+   * et s'il n'a pas déjà été construit.
+   *
+   * @return Le noyau de calcul ou <b>null</b> si un noyau n'est pas avantageux pour la liste.
+   * @see STriangleKernel#isWorthwhile(java.util.List)
+   */
+  public STriangleKernel getKernel()
+  {
+    if(!kernel_evaluated)
+    {
+      if(STriangleKernel.isWorthwhile(this))
+        kernel = new STriangleKernel(this);
+      else
+        kernel = null;
+
+      kernel_evaluated = true;
+    }
+
+    return kernel;
+  }
+
+  /**
+   * Méthode pour oublier le noyau de calcul suite à une modification de la liste.
+   */
+  private void invalidateKernel()
+  {
+    kernel = null;
+    kernel_evaluated = false;
+  }
+
+  @Override
+  public boolean add(SGeometry geometry)
+  {
+    invalidateKernel();
+    return super.add(geometry);
+  }
+
+  @Override
+  public void add(int index, SGeometry geometry)
+  {
+    invalidateKernel();
+    super.add(index, geometry);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends SGeometry> collection)
+  {
+    invalidateKernel();
+    return super.addAll(collection);
+  }
+
+  @Override
+  public SGeometry set(int index, SGeometry geometry)
+  {
+    invalidateKernel();
+    return super.set(index, geometry);
+  }
+
+  @Override
+  public SGeometry remove(int index)
+  {
+    invalidateKernel();
+    return super.remove(index);
+  }
+
+  @Override
+  public boolean remove(Object o)
+  {
+    invalidateKernel();
+    return super.remove(o);
+  }
+
+  @Override
+  public void clear()
+  {
+    invalidateKernel();
+    super.clear();
+  }
+
+}//fin de la classe SVoxelGeometryList
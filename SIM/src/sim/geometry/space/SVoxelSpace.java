@@ -1,284 +1,973 @@
-/**
- * 
- */
-package sim.geometry.space;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import sim.exception.SRuntimeException;
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.math.SVector3d;
-import sim.util.SLog;
-
-/**
- * <p>
- * La classe <b>SVoxelSpace</b> reprsentant un espace de gomtries distribues dans un espace de voxels (en trois dimensions).
- * Cette organisation permettra d'effecter l'intersection d'un rayon avec un nombre plus limits de gomtries ce qui va acclrer les calculs.
- * </p> 
- * 
- * <p>
- * Distribue dans une grille rgulire de voxel, chaque gomtrie sera localise dans un ou plusieurs voxels 
- * et le lancer d'un rayon parcourera un nombre limit de voxels ce qui ainsi limitera le nombre de tests d'intersection.
- * </p>
- * 
- * @author Simon Vzina
- * @since 2015-08-04
- * @version 2016-04-04
- */
-public class SVoxelSpace extends SAbstractVoxelSpace {
-
-  //-------------
-  // VARIABLES //
-  //-------------
-  
-  /**
-   * La variable <b>voxel_map</b> correspond  la carte des voxels o sont situes des gomtries admettant une bote englobante.
-   */
-  private final Map<SVoxel, List<SGeometry>> voxel_map;  
-  
-  /**
-   * La variable <b>voxel_builder</b> correspond au constructeur de voxel. 
-   * La taille des voxels sera dtermine par un objet de type SVoxelDimensionEvaluator. 
-   */
-  private SVoxelBuilder voxel_builder;                   
-  
-  /**
-   * La variable <b>absolute_extremum_voxel</b> correspond  un voxel de coordonne extremums en valeur absolue  celle contenue dans la carte de voxel.
-   * Ceci permet de connatre la taille maximal de la carte des voxels.
-   */
-  private SVoxel absolute_extremum_voxel;               
-  
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-  /**
-   * Constructeur d'un espace de voxel par dfaut. 
-   */
-  public SVoxelSpace()
-  {
-    super();
-    
-    voxel_map = new HashMap<SVoxel, List<SGeometry>>();
-    voxel_builder = null;
-    absolute_extremum_voxel = null;
-  }
-
-  //------------
-  // MTHODES //
-  //------------
-  
-  @Override
-  public SRay nearestIntersection(SRay ray, double t_max) throws SRuntimeException
-  {
-    // Vrifier si le rayon a dj intersect une gomtrie
-    if(ray.asIntersected())
-      throw new SRuntimeException("Erreur SVoxelSpace 003 : Le rayon en paramtre a dj intersect une gomtrie.");
-    
-    // Vrifier la valeur de t_max est adquate
-    if(t_max < 0.0)
-      throw new SRuntimeException("Erreur SVoxelSpace 004 : Le temps maximale ne peut pas tre ngative.");
-   
-    // Vrifier si l'espace a t initialis
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SVoxelSpace 005 : L'espace de gomtries de voxel n'a pas t initialis.");
-    
-    //Rsultat de l'intersection avec la carte de voxel. Sera gale  "ray" s'il y en a pas eu.
-    SRay intersection_in_voxel = nearestIntersectionInVoxelMap(ray, t_max);
-    
-    //Rsultat de l'intersection avec les gomtries hors voxel
-    List<SRay> list_intersection_not_in_voxel = intersections(linear_list, ray, t_max);
-    
-    // Ajouter l'intersection de la carte de voxel  la liste linaire.
-    // Cette liste sera ainsi pas vide.
-    list_intersection_not_in_voxel.add(intersection_in_voxel);
-    
-    // Trier la liste pour le dernier lment ajout.
-    Collections.sort(list_intersection_not_in_voxel); 
-    
-    // Retourner le permier lment de la liste (sera sans intersection s'il n'y en a pas eu).
-    return list_intersection_not_in_voxel.get(0);
-  }
-
-  /**
-   * Mthode pour obtenir l'intersection la plus prs entre un rayon et des gomtries situes dans la carte de voxel.
-   * @param ray - Le rayon  intersecter avec les gomtries.
-   * @param t_max - Le temps maximal.
-   * @return Le rayon avec les caractristiques de l'intersection (s'il y en a eu une).
-   */
-  private SRay nearestIntersectionInVoxelMap(SRay ray, double t_max)
-  {
-    //Raliser des calculs d'intersection avec les gomtries de la carte uniquement si elle n'est pas vide
-    if(!voxel_map.isEmpty())
-    {
-      //Crer la ligne de voxel  parcourir un  un
-      SFastTraversalVoxelAlgorithm line_of_voxel = new SFastTraversalVoxelAlgorithm(ray, t_max, voxel_builder.getDimension(), absolute_extremum_voxel);
-      
-      //Faire l'itration sur la ligne de voxel depuis l'origine du rayon
-      while(line_of_voxel.asNextVoxel())
-      {
-        SVoxel voxel = line_of_voxel.nextVoxel();
-        
-        // Faire le test de l'intersection des gomtries situes dans le voxel en cours
-        SRay ray_intersection = nearestIntersectionInVoxelMap(ray, t_max, voxel_map, voxel_builder, voxel);
-        
-        // Retourner le rsultat de l'intersection s'il y en a une, car elle sera ncessairement de plus court temps
-        if(ray_intersection.asIntersected())
-          return ray_intersection;
-      }
-    }
-    
-    // Aucune intersection valide n'a t trouve.
-    return ray;
-  }
-  
-  @Override
-  public List<SRay> nearestOpaqueIntersection(SRay ray, double t_max) throws SRuntimeException
-  {
-    // Vrifier si le rayon a dj intersect une gomtrie
-    if(ray.asIntersected())
-      throw new SRuntimeException("Erreur SVoxelSpace 006 : Le rayon en paramtre a dj intersect une gomtrie.");
-    
-    // Vrifier la valeur de t_max est adquate
-    if(t_max < 0.0)
-      throw new SRuntimeException("Erreur SVoxelSpace 007 : Le temps maximale ne peut pas tre ngative.");
-   
-    // Vrifier si l'espace a t initialis
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SVoxelSpace 008 : L'espace de gomtries de voxel n'a pas t initialis.");
-   
-    // La liste dtermine dans la carte des gomtries
-    List<SRay> list_in_voxel = nearestOpaqueIntersectionInVoxelMap(ray, t_max);
-    
-    // La liste dtermine dans la liste linaire des gomtries
-    List<SRay> list_not_in_voxel = nearestOpaqueIntersection(linear_list, ray, t_max);
-    
-    // La liste fusionne adquatement
-    return mergeNearestOpaqueIntersection(list_in_voxel, list_not_in_voxel);    
-  }
-
-  /**
-   * Mthode pour obtenir la liste des intersections transparente en ordre dcroissant dont la plus loign (premire de la liste) sera une gomtrie opaque s'il y a eu intersection de cette nature.
-   * 
-   * @param ray - Le rayon  intersecter.
-   * @param t_max - Le temps maximal pouvant tre parcouru par le rayon.
-   * @return La liste des intersections transparente en odre dcroissant dont le premier lment sera une gomtrie opaque s'il y a eu intersection de cette nature.
-   */
-  private List<SRay> nearestOpaqueIntersectionInVoxelMap(SRay ray, double t_max)
-  {
-    List<SRay> return_list = new ArrayList<SRay>();
-    
-    if(!voxel_map.isEmpty())
-    {
-      //Crer la ligne de voxel  parcourir un  un
-      SFastTraversalVoxelAlgorithm line_of_voxel = new SFastTraversalVoxelAlgorithm(ray, t_max, voxel_builder.getDimension(), absolute_extremum_voxel);
-      
-      while(line_of_voxel.asNextVoxel())
-      {
-        SVoxel voxel = line_of_voxel.nextVoxel();
-        
-        // Obtenir la liste de l'intersection opaque associ au voxel courant
-        List<SRay> list = nearestOpaqueIntersectionInVoxelMap(ray, t_max, voxel_map, voxel_builder, voxel);
-        
-        // Ajouter cette liste  la liste  retourner
-        return_list = mergeNearestOpaqueIntersection(return_list, list);
-        
-        // Retourner cette liste si l'intersection opaque a dj t trouve.
-        if(!return_list.isEmpty())
-          if(!return_list.get(0).getGeometry().isTransparent())
-            return return_list;
-      }
-    }
-    
-    // La liste est vide ou elle contient uniquement des gomtries transparentes
-    return return_list;
-  }
-  
-  @Override
-  public List<SGeometry> listInsideGeometry(SVector3d v)
-  {
-    // Vrifier que l'initialisation a t complte
-    if(!space_initialized)
-      throw new SRuntimeException("Erreur SVoxelSpace 009 : L'espace de voxel n'a pas t initialis.");
-    
-    // Liste des gomtries o le vecteur v sera situ  l'intrieur.
-    // Dbutons avec la liste disponible  partir des informations de la carte des voxels.
-    List<SGeometry> inside_list = listInsideGeometryInMap(voxel_map, voxel_builder, v);
-    
-    // Ajouter les gomtries sans bote o le vecteur v s'y retrouve.
-    inside_list.addAll(listInsideGeometry(linear_list, v));
-        
-    return inside_list;
-  }
-
-  @Override
-  public void initialize()
-  {
-    SLog.logWriteLine("Message SVoxelSpace : Construction de l'espace des gomtries avec voxel.");
-    
-    // Sparateur de la collection de gomtrie
-    SGeometryCollectionSplitter splitter = new SGeometryCollectionSplitter(geometry_list, SGeometryCollectionSplitter.SPLIT_BOX_AND_NO_BOX);
-    
-    // Obtenir la liste des gomtries sans bote englobante et l'affecter  la liste linaire
-    linear_list = splitter.getNoBoxList();
-    
-    // Liste des botes englobantes autour des gomtries de la liste.
-    // Nous commencons pas une liste vide afin qu'elle soit remplace par celle donne par le "splitter".
-    List<SBoundingBox> bounding_box_list = new ArrayList<SBoundingBox>();   
-      
-    // Vrifier qu'il y a au moins une liste de liste de botes englobantes dans le "splitter".
-    // Puisque le type de sparation gnre uniquement une liste, alors nous pourrons l'utiliser et elle ne sera pas vide.
-    if(!splitter.getBoundingBoxSplitList().isEmpty())
-      bounding_box_list = splitter.getBoundingBoxSplitList().get(0);
-        
-    // S'assurer que la liste des botes n'est pas vide, sinon il n'y a pas de carte de voxel  construire
-    if(!bounding_box_list.isEmpty())
-    {
-      // Faire l'valuation de la dimension des voxels et construire le gnrateur de voxel
-      //-------------------------------------------------------------------------------------------------------------------------------------------------
-      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.ONE_FOR_ONE_ALGORITHM);
-      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.BIGGEST_AVERAGE_LENGHT_ALGORITHM);
-      SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.MID_AVERAGE_LENGHT_ALGORITHM);
-      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.SMALLEST_AVERAGE_LENGHT_ALGORITHM); 
-      
-      // Gnrateur de voxel pour la carte de voxel en construction
-      voxel_builder = new SVoxelBuilder(evaluator.getDimension()); 
-            
-      // Construire le voxel d'extrme  la nouvelle carte et le mettre  jour  chaque insertion de gomtrie
-      absolute_extremum_voxel = new SVoxel(0, 0, 0);
-              
-      // Iterer sur l'ensemble botes englobante.
-      // Intgrer leur voxels attitrs avec leur gomtrie  la carte des voxels.
-      // Mettre  jour le voxel d'extrme
-      for(SBoundingBox box : bounding_box_list)
-        absolute_extremum_voxel = addGeometryToMap(voxel_map, absolute_extremum_voxel, box.getGeometry(), voxel_builder.buildVoxel(box));     
-      
-      // Messages multiples  afficher
-      SLog.logWriteLine("Message SVoxelSpace : Nombre de gomtries dans la carte de voxels : " + bounding_box_list.size() + " gomtries.");
-      SLog.logWriteLine("Message SVoxelSpace : Taille des voxels : " + evaluator.getDimension() + " units.");  
-      SLog.logWriteLine("Message SVoxelSpace : Nombre de rfrence  des gomtries : " + evaluateNbGeometryReference(voxel_map) + " rfrences.");
-      SLog.logWriteLine("Message SVoxelSpace : Nombre moyen de rfrence  des gomtries par voxel : " + evaluateNbGeometryReferencePerVoxel(voxel_map) + " rfrences/voxel.");
-      
-      SLog.logWriteLine();
-    }//fin if
-    else
-    {
-      // Il n'y a pas de bote englobante de disponible pour l'espace avec voxel
-      SLog.logWriteLine("Message SVoxelSpace : Aucune gomtrie ne possde de bote englobante! Le choix d'un espace de gomtries en voxel devient infficace.");
-     
-      voxel_builder = null;   // Il n'y a pas de constructeur de voxel disponible
-    }
-    
-    SLog.logWriteLine("Message SVoxelSpace : Fin de la construction de l'espace des gomtries avec voxel.");
-    SLog.logWriteLine();
-    
-    // Initialisation de l'espace des voxels complte
-    space_initialized = true;
-  }
-  
-}//fin de la classe SVoxelSpace
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+import sim.util.SLog;
+
+/**
+ * <p>
+ * La classe <b>SVoxelSpace</b> représentant un espace de géométries distribuées dans un espace de voxels (en trois dimensions).
+ * Cette organisation permettra d'effecter l'intersection d'un rayon avec un nombre plus limités de géométries ce qui va accélérer les calculs.
+ * </p> 
+ * 
+ * <p>
+ * Distribuée dans une grille régulière de voxel, chaque géométrie sera localisée dans un ou plusieurs voxels 
+ * et le lancer d'un rayon parcourera un nombre limité de voxels ce qui ainsi limitera le nombre de tests d'intersection.
+ * </p>
+ * 
+ * @author Simon Vézina
+ * @since 2015-08-04
+ * @version 2017-02-14
+ */
+public class SVoxelSpace extends SAbstractVoxelSpace {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>PACKET_MARGIN</b> correspond à la marge relative ajoutée au rectangle de voxels parcouru par un paquet de rayons dans une couche étant égale à {@value}.
+   * Elle protège le parcours des erreurs d'arrondi sur les frontières des voxels.
+   */
+  private static final double PACKET_MARGIN = 1e-9;
+  
+  /**
+   * La constante <b>PACKET_VOXEL_PER_RAY</b> correspond au nombre maximal de voxels par rayon du rectangle d'une couche pour que ses voxels 
+   * soient partagés par l'ensemble du paquet étant égal à {@value}. Au-delà, le paquet est trop divergent et chaque rayon utilise son propre rectangle.
+   */
+  private static final int PACKET_VOXEL_PER_RAY = 2;
+  
+  //-------------
+  // VARIABLES //
+  //-------------
+  
+  /**
+   * La variable <b>voxel_map</b> correspond à la carte des voxels où sont situées des géométries admettant une boîte englobante.
+   */
+  private Map<SVoxel, List<SGeometry>> voxel_map;  
+  
+  /**
+   * La variable <b>voxel_builder</b> correspond au constructeur de voxel. 
+   * La taille des voxels sera déterminée par un objet de type SVoxelDimensionEvaluator. 
+   */
+  private SVoxelBuilder voxel_builder;                   
+  
+  /**
+   * La variable <b>absolute_extremum_voxel</b> correspond à un voxel de coordonnée extremums en valeur absolue à celle contenue dans la carte de voxel.
+   * Ceci permet de connaître la taille maximal de la carte des voxels.
+   */
+  private SVoxel absolute_extremum_voxel;               
+  
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+  /**
+   * Constructeur d'un espace de voxel par défaut. 
+   */
+  public SVoxelSpace()
+  {
+    super();
+    
+    voxel_map = new HashMap<SVoxel, List<SGeometry>>();
+    voxel_builder = null;
+    absolute_extremum_voxel = null;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+  
+  @Override
+  public SRay nearestIntersection(SRay ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier si le rayon a déjà intersecté une géométrie
+    if(ray.asIntersected())
+      throw new SRuntimeException("Erreur SVoxelSpace 003 : Le rayon en paramètre a déjà intersecté une géométrie.");
+    
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SVoxelSpace 004 : Le temps maximale ne peut pas être négative.");
+   
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SVoxelSpace 005 : L'espace de géométries de voxel n'a pas été initialisé.");
+    
+    //Résultat de l'intersection avec la carte de voxel. Sera égale à "ray" s'il y en a pas eu.
+    SRay intersection_in_voxel = nearestIntersectionInVoxelMap(ray, t_max);
+    
+    //Résultat de l'intersection avec les géométries hors voxel
+    List<SRay> list_intersection_not_in_voxel = intersections(linear_list, ray, t_max);
+    
+    // Ajouter l'intersection de la carte de voxel à la liste linéaire.
+    // Cette liste sera ainsi pas vide.
+    list_intersection_not_in_voxel.add(intersection_in_voxel);
+    
+    // Trier la liste pour le dernier élément ajouté.
+    Collections.sort(list_intersection_not_in_voxel); 
+    
+    // Retourner le permier élément de la liste (sera sans intersection s'il n'y en a pas eu).
+    return list_intersection_not_in_voxel.get(0);
+  }
+
+  /**
+   * Méthode pour obtenir l'intersection la plus près entre un rayon et des géométries situées dans la carte de voxel.
+   * @param ray - Le rayon à intersecter avec les géométries.
+   * @param t_max - Le temps maximal.
+   * @return Le rayon avec les caractéristiques de l'intersection (s'il y en a eu une).
+   */
+  private SRay nearestIntersectionInVoxelMap(SRay ray, double t_max)
+  {
+    //Réaliser des calculs d'intersection avec les géométries de la carte uniquement si elle n'est pas vide
+    if(!voxel_map.isEmpty())
+    {
+      //Créer la ligne de voxel à parcourir un à un
+      SFastTraversalVoxelAlgorithm line_of_voxel = new SFastTraversalVoxelAlgorithm(ray, t_max, voxel_builder.getDimension(), absolute_extremum_voxel);
+      
+      //Faire l'itération sur la ligne de voxel depuis l'origine du rayon
+      while(line_of_voxel.asNextVoxel())
+      {
+        SVoxel voxel = line_of_voxel.nextVoxel();
+        
+        // Faire le test de l'intersection des géométries situées dans le voxel en cours
+        SRay ray_intersection = nearestIntersectionInVoxelMap(ray, t_max, voxel_map, voxel_builder, voxel);
+        
+        // Retourner le résultat de l'intersection s'il y en a une, car elle sera nécessairement de plus court temps
+        if(ray_intersection.asIntersected())
+          return ray_intersection;
+      }
+    }
+    
+    // Aucune intersection valide n'a été trouvée.
+    return ray;
+  }
+  
+  @Override
+  public List<SRay> nearestOpaqueIntersection(SRay ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier si le rayon a déjà intersecté une géométrie
+    if(ray.asIntersected())
+      throw new SRuntimeException("Erreur SVoxelSpace 006 : Le rayon en paramètre a déjà intersecté une géométrie.");
+    
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SVoxelSpace 007 : Le temps maximale ne peut pas être négative.");
+   
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SVoxelSpace 008 : L'espace de géométries de voxel n'a pas été initialisé.");
+   
+    // La liste déterminée dans la carte des géométries
+    List<SRay> list_in_voxel = nearestOpaqueIntersectionInVoxelMap(ray, t_max);
+    
+    // La liste déterminée dans la liste linéaire des géométries
+    List<SRay> list_not_in_voxel = nearestOpaqueIntersection(linear_list, ray, t_max);
+    
+    // La liste fusionnée adéquatement
+    return mergeNearestOpaqueIntersection(list_in_voxel, list_not_in_voxel);    
+  }
+
+  /**
+   * Méthode pour obtenir la liste des intersections transparente en ordre décroissant dont la plus éloigné (première de la liste) sera une géométrie opaque s'il y a eu intersection de cette nature.
+   * 
+   * @param ray - Le rayon à intersecter.
+   * @param t_max - Le temps maximal pouvant être parcouru par le rayon.
+   * @return La liste des intersections transparente en odre décroissant dont le premier élément sera une géométrie opaque s'il y a eu intersection de cette nature.
+   */
+  private List<SRay> nearestOpaqueIntersectionInVoxelMap(SRay ray, double t_max)
+  {
+    List<SRay> return_list = new ArrayList<SRay>();
+    
+    if(!voxel_map.isEmpty())
+    {
+      //Créer la ligne de voxel à parcourir un à un
+      SFastTraversalVoxelAlgorithm line_of_voxel = new SFastTraversalVoxelAlgorithm(ray, t_max, voxel_builder.getDimension(), absolute_extremum_voxel);
+      
+      while(line_of_voxel.asNextVoxel())
+      {
+        SVoxel voxel = line_of_voxel.nextVoxel();
+        
+        // Obtenir la liste de l'intersection opaque associé au voxel courant
+        List<SRay> list = nearestOpaqueIntersectionInVoxelMap(ray, t_max, voxel_map, voxel_builder, voxel);
+        
+        // Ajouter cette liste à la liste à retourner
+        return_list = mergeNearestOpaqueIntersection(return_list, list);
+        
+        // Retourner cette liste si l'intersection opaque a déjà été trouvée.
+        if(!return_list.isEmpty())
+          if(!return_list.get(0).getGeometry().isTransparent())
+            return return_list;
+      }
+    }
+    
+    // La liste est vide ou elle contient uniquement des géométries transparentes
+    return return_list;
+  }
+  
+  @Override
+  public SRay[] nearestIntersection(SRay[] ray, double t_max) throws SRuntimeException
+  {
+    // Vérifier la valeur de t_max est adéquate
+    if(t_max < 0.0)
+      throw new SRuntimeException("Erreur SVoxelSpace 012 : Le temps maximale ne peut pas être négative.");
+   
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SVoxelSpace 013 : L'espace de géométries de voxel n'a pas été initialisé.");
+    
+    SRayPacket packet = new SRayPacket(ray, t_max);
+    
+    // Un paquet non cohérent est évalué rayon par rayon
+    if(!packet.isCoherent())
+      return super.nearestIntersection(ray, t_max);
+    
+    for(SRay r : ray)
+      if(r.asIntersected())
+        throw new SRuntimeException("Erreur SVoxelSpace 014 : Le rayon en paramètre a déjà intersecté une géométrie.");
+    
+    // Résultat du parcours de la carte de voxel par le paquet (seulement si un rayon peut l'atteindre)
+    SRay[] result = packetReachesVoxelMap(packet) ? nearestIntersectionInVoxelMap(packet) : ray.clone();
+    
+    // Ajouter les intersections avec les géométries hors voxel
+    for(int i = 0; i < ray.length; i++)
+    {
+      List<SRay> list_intersection = intersections(linear_list, ray[i], t_max);
+      list_intersection.add(result[i]);
+      
+      Collections.sort(list_intersection);
+      
+      result[i] = list_intersection.get(0);
+    }
+    
+    return result;
+  }
+  
+  /**
+   * Méthode pour obtenir l'intersection la plus près de chaque rayon d'un paquet avec les géométries situées dans la carte de voxel.
+   * La carte est parcourue par couches de voxels selon l'axe dominant du paquet. Un rayon cesse son parcours à la couche
+   * où son intersection la plus près est trouvée.
+   * 
+   * @param packet - Le paquet de rayons cohérent.
+   * @return Les rayons avec les caractéristiques de leur intersection (s'il y en a eu une).
+   */
+  private SRay[] nearestIntersectionInVoxelMap(SRayPacket packet)
+  {
+    int size = packet.size();
+    int axis = packet.getDominantAxis();
+    int step = packet.getSign(axis);
+    
+    SRay[] result = new SRay[size];
+    boolean[] active = new boolean[size];
+    
+    for(int i = 0; i < size; i++)
+      result[i] = packet.getRay(i);
+    
+    // Intervalle de temps de chaque rayon à l'intérieur de la carte de voxel
+    double[][] interval = gridInterval(packet, active);
+    
+    int last_layer = step * extremumComponent(axis);
+    
+    for(int layer = firstLayer(packet, interval, active); step*(layer - last_layer) <= 0 && isActive(active); layer += step)
+    {
+      List<List<SVoxel>> layer_voxel = packetLayerVoxel(packet, layer, interval, active);
+      
+      for(int i = 0; i < size; i++)
+        if(layer_voxel.get(i) != null)
+        {
+          SRay ray = packet.getRay(i);
+          List<SVoxel> voxel_list = layer_voxel.get(i);
+          double[] t_enter = new double[voxel_list.size()];
+          
+          for(int j = 0; j < t_enter.length; j++)
+            t_enter[j] = voxelEnterTime(ray, packet.getTMax(i), voxel_list.get(j));
+          
+          // Parcourir les voxels de la couche traversés par le rayon en ordre d'entrée jusqu'à la première intersection
+          for(int j = nextVoxel(t_enter); j >= 0 && !result[i].asIntersected(); j = nextVoxel(t_enter))
+          {
+            result[i] = nearestIntersectionInVoxelMap(ray, packet.getTMax(i), voxel_map, voxel_builder, voxel_list.get(j));
+            t_enter[j] = Double.POSITIVE_INFINITY;
+          }
+          
+          // Une intersection trouvée dans la couche est nécessairement la plus près
+          if(result[i].asIntersected())
+            active[i] = false;
+        }
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public List<List<SRay>> nearestOpaqueIntersection(SRay[] ray, double[] t_max) throws SRuntimeException
+  {
+    // Vérifier si l'espace a été initialisé
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SVoxelSpace 015 : L'espace de géométries de voxel n'a pas été initialisé.");
+    
+    SRayPacket packet = new SRayPacket(ray, t_max);
+    
+    // Un paquet non cohérent est évalué rayon par rayon
+    if(!packet.isCoherent())
+      return super.nearestOpaqueIntersection(ray, t_max);
+    
+    for(int i = 0; i < ray.length; i++)
+    {
+      if(ray[i].asIntersected())
+        throw new SRuntimeException("Erreur SVoxelSpace 016 : Le rayon en paramètre a déjà intersecté une géométrie.");
+      
+      if(t_max[i] < 0.0)
+        throw new SRuntimeException("Erreur SVoxelSpace 017 : Le temps maximale ne peut pas être négative.");
+    }
+    
+    // Résultat du parcours de la carte de voxel par le paquet (seulement si un rayon peut l'atteindre)
+    List<List<SRay>> result = packetReachesVoxelMap(packet) ? nearestOpaqueIntersectionInVoxelMap(packet) : emptyLists(ray.length);
+    
+    // Fusionner avec les intersections des géométries hors voxel
+    for(int i = 0; i < ray.length; i++)
+      result.set(i, mergeNearestOpaqueIntersection(result.get(i), nearestOpaqueIntersection(linear_list, ray[i], t_max[i])));
+    
+    return result;
+  }
+  
+  /**
+   * Méthode pour obtenir, pour chaque rayon d'un paquet, la liste des intersections transparentes en ordre décroissant 
+   * dont la plus éloignée (première de la liste) sera une géométrie opaque s'il y a eu intersection de cette nature.
+   * La carte est parcourue par couches de voxels selon l'axe dominant du paquet. Un rayon cesse son parcours 
+   * à la couche où une géométrie opaque est intersectée.
+   * 
+   * @param packet - Le paquet de rayons cohérent.
+   * @return La liste des intersections de chaque rayon du paquet.
+   */
+  private List<List<SRay>> nearestOpaqueIntersectionInVoxelMap(SRayPacket packet)
+  {
+    int size = packet.size();
+    int axis = packet.getDominantAxis();
+    int step = packet.getSign(axis);
+    
+    List<List<SRay>> result = emptyLists(size);
+    boolean[] active = new boolean[size];
+    
+    // Intervalle de temps de chaque rayon à l'intérieur de la carte de voxel
+    double[][] interval = gridInterval(packet, active);
+    
+    int last_layer = step * extremumComponent(axis);
+    
+    for(int layer = firstLayer(packet, interval, active); step*(layer - last_layer) <= 0 && isActive(active); layer += step)
+    {
+      List<List<SVoxel>> layer_voxel = packetLayerVoxel(packet, layer, interval, active);
+      
+      for(int i = 0; i < size; i++)
+        if(layer_voxel.get(i) != null)
+        {
+          SRay ray = packet.getRay(i);
+          List<SVoxel> voxel_list = layer_voxel.get(i);
+          double[] t_enter = new double[voxel_list.size()];
+          List<SRay> list_ray = result.get(i);
+          
+          for(int j = 0; j < t_enter.length; j++)
+            t_enter[j] = voxelEnterTime(ray, packet.getTMax(i), voxel_list.get(j));
+          
+          // Parcourir les voxels de la couche traversés par le rayon en ordre d'entrée jusqu'à la première intersection opaque.
+          // Chaque intersection n'est retenue que dans le voxel où elle est située.
+          for(int j = nextVoxel(t_enter); j >= 0 && (list_ray.isEmpty() || list_ray.get(0).getGeometry().isTransparent()); j = nextVoxel(t_enter))
+          {
+            list_ray = mergeNearestOpaqueIntersection(list_ray, nearestOpaqueIntersectionInVoxelMap(ray, packet.getTMax(i), voxel_map, voxel_builder, voxel_list.get(j)));
+            t_enter[j] = Double.POSITIVE_INFINITY;
+          }
+          
+          result.set(i, list_ray);
+          
+          // Le parcours du rayon se termine à la couche de sa première intersection opaque
+          if(!list_ray.isEmpty())
+            if(!list_ray.get(0).getGeometry().isTransparent())
+              active[i] = false;
+        }
+    }
+    
+    return result;
+  }
+  
+  /**
+   * Méthode pour obtenir, pour chaque rayon d'un paquet, les voxels non vides d'une couche de la carte de voxel pouvant être atteints par ce rayon.
+   * Une couche regroupe les voxels de même coordonnée selon l'axe dominant du paquet. 
+   * Lorsque le rectangle englobant les segments des rayons dans la couche est compact (paquet cohérent), ses voxels sont obtenus 
+   * une seule fois et partagés par tous les rayons. Sinon, chaque rayon utilise le rectangle de son propre segment.
+   * 
+   * @param packet - Le paquet de rayons cohérent.
+   * @param layer - La coordonnée de la couche selon l'axe dominant.
+   * @param interval - L'intervalle de temps de chaque rayon à l'intérieur de la carte de voxel.
+   * @param active - Les rayons poursuivant leur parcours. Un rayon ayant quitté la carte avant la couche y sera désactivé.
+   * @return La liste des voxels de chaque rayon (<b>null</b> pour un rayon ne traversant pas la couche).
+   */
+  private List<List<SVoxel>> packetLayerVoxel(SRayPacket packet, int layer, double[][] interval, boolean[] active)
+  {
+    int axis = packet.getDominantAxis();
+    int axis1 = (axis + 1) % 3;
+    int axis2 = (axis + 2) % 3;
+    
+    double dimension = voxel_builder.getDimension();
+    
+    // Plans d'entrée et de sortie de la couche selon le sens de déplacement
+    double plane_enter = packet.getSign(axis) > 0 ? layer*dimension : (layer + 1)*dimension;
+    double plane_exit = packet.getSign(axis) > 0 ? (layer + 1)*dimension : layer*dimension;
+    
+    // Rectangle englobant le segment de chaque rayon dans la couche (min1, max1, min2, max2)
+    double[][] bound = new double[packet.size()][];
+    int nb_crossing = 0;
+    
+    for(int i = 0; i < packet.size(); i++)
+    {
+      if(!active[i])
+        continue;
+      
+      SRay ray = packet.getRay(i);
+      double origin = SRayPacket.component(ray.getOrigin(), axis);
+      double direction = SRayPacket.component(ray.getDirection(), axis);
+      
+      double t_enter = Math.max(interval[i][0], (plane_enter - origin)/direction);
+      double t_exit = Math.min(interval[i][1], (plane_exit - origin)/direction);
+      
+      // Le rayon quitte la carte (ou atteint son temps maximal) avant la couche : son parcours est terminé
+      if(t_enter > interval[i][1])
+      {
+        active[i] = false;
+        continue;
+      }
+      
+      // La couche est située avant l'entrée du rayon dans la carte
+      if(t_enter > t_exit)
+        continue;
+      
+      SVector3d enter = ray.getPosition(t_enter);
+      SVector3d exit = ray.getPosition(t_exit);
+      
+      bound[i] = new double[]{ Math.min(SRayPacket.component(enter, axis1), SRayPacket.component(exit, axis1)),
+                               Math.max(SRayPacket.component(enter, axis1), SRayPacket.component(exit, axis1)),
+                               Math.min(SRayPacket.component(enter, axis2), SRayPacket.component(exit, axis2)),
+                               Math.max(SRayPacket.component(enter, axis2), SRayPacket.component(exit, axis2)) };
+      nb_crossing++;
+    }
+    
+    List<List<SVoxel>> layer_voxel = new ArrayList<List<SVoxel>>(packet.size());
+    
+    // Rectangle englobant l'ensemble des segments
+    double[] packet_bound = { Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+    
+    for(double[] b : bound)
+      if(b != null)
+      {
+        packet_bound[0] = Math.min(packet_bound[0], b[0]);
+        packet_bound[1] = Math.max(packet_bound[1], b[1]);
+        packet_bound[2] = Math.min(packet_bound[2], b[2]);
+        packet_bound[3] = Math.max(packet_bound[3], b[3]);
+      }
+    
+    List<SVoxel> shared_list = null;
+    
+    if(nb_crossing > 0 && nbVoxel(packet_bound, axis1, axis2) <= PACKET_VOXEL_PER_RAY*nb_crossing)
+      shared_list = layerVoxel(packet_bound, layer, axis, axis1, axis2);
+    
+    for(double[] b : bound)
+      if(b == null)
+        layer_voxel.add(null);
+      else
+        layer_voxel.add(shared_list != null ? shared_list : layerVoxel(b, layer, axis, axis1, axis2));
+    
+    return layer_voxel;
+  }
+  
+  /**
+   * Méthode pour obtenir le nombre de voxels de la carte compris dans un rectangle d'une couche.
+   * 
+   * @param bound - Le rectangle (min1, max1, min2, max2).
+   * @param axis1 - Le premier axe du rectangle.
+   * @param axis2 - Le deuxième axe du rectangle.
+   * @return Le nombre de voxels.
+   */
+  private long nbVoxel(double[] bound, int axis1, int axis2)
+  {
+    int[] range = voxelRange(bound, axis1, axis2);
+    
+    return (long)Math.max(0, range[1] - range[0] + 1) * Math.max(0, range[3] - range[2] + 1);
+  }
+  
+  /**
+   * Méthode pour obtenir les voxels non vides de la carte compris dans un rectangle d'une couche.
+   * 
+   * @param bound - Le rectangle (min1, max1, min2, max2).
+   * @param layer - La coordonnée de la couche selon l'axe dominant.
+   * @param axis - L'axe dominant.
+   * @param axis1 - Le premier axe du rectangle.
+   * @param axis2 - Le deuxième axe du rectangle.
+   * @return La liste des voxels non vides.
+   */
+  private List<SVoxel> layerVoxel(double[] bound, int layer, int axis, int axis1, int axis2)
+  {
+    int[] range = voxelRange(bound, axis1, axis2);
+    
+    List<SVoxel> voxel_list = new ArrayList<SVoxel>();
+    
+    int[] index = new int[3];
+    index[axis] = layer;
+    
+    for(index[axis1] = range[0]; index[axis1] <= range[1]; index[axis1]++)
+      for(index[axis2] = range[2]; index[axis2] <= range[3]; index[axis2]++)
+      {
+        SVoxel voxel = new SVoxel(index[0], index[1], index[2]);
+        List<SGeometry> list = voxel_map.get(voxel);
+        
+        if(list != null && !list.isEmpty())
+          voxel_list.add(voxel);
+      }
+    
+    return voxel_list;
+  }
+  
+  /**
+   * Méthode pour obtenir les coordonnées des voxels d'un rectangle d'une couche (élargi pour les erreurs d'arrondi) limitées à la carte de voxel.
+   * 
+   * @param bound - Le rectangle (min1, max1, min2, max2).
+   * @param axis1 - Le premier axe du rectangle.
+   * @param axis2 - Le deuxième axe du rectangle.
+   * @return Les coordonnées (first1, last1, first2, last2).
+   */
+  private int[] voxelRange(double[] bound, int axis1, int axis2)
+  {
+    double dimension = voxel_builder.getDimension();
+    
+    return new int[]{ Math.max(-extremumComponent(axis1), voxelComponent(bound[0] - PACKET_MARGIN*(dimension + Math.abs(bound[0])))),
+                      Math.min(extremumComponent(axis1), voxelComponent(bound[1] + PACKET_MARGIN*(dimension + Math.abs(bound[1])))),
+                      Math.max(-extremumComponent(axis2), voxelComponent(bound[2] - PACKET_MARGIN*(dimension + Math.abs(bound[2])))),
+                      Math.min(extremumComponent(axis2), voxelComponent(bound[3] + PACKET_MARGIN*(dimension + Math.abs(bound[3])))) };
+  }
+  
+  /**
+   * Méthode pour obtenir le temps d'entrée d'un rayon dans un voxel.
+   * Le test est conservateur : un temps infini garantit que le rayon ne traverse pas le voxel avant son temps maximal.
+   * 
+   * @param ray - Le rayon.
+   * @param t_max - Le temps maximal du rayon.
+   * @param voxel - Le voxel.
+   * @return Le temps d'entrée dans le voxel ou <b>Double.POSITIVE_INFINITY</b> si le rayon ne traverse pas le voxel.
+   */
+  private double voxelEnterTime(SRay ray, double t_max, SVoxel voxel)
+  {
+    double dimension = voxel_builder.getDimension();
+    
+    double[] box_min = { voxel.getX()*dimension, voxel.getY()*dimension, voxel.getZ()*dimension };
+    double[] box_max = { box_min[0] + dimension, box_min[1] + dimension, box_min[2] + dimension };
+    
+    double[] t = boxInterval(ray, t_max, box_min, box_max);
+    
+    return t[0] <= t[1] ? t[0] : Double.POSITIVE_INFINITY;
+  }
+  
+  /**
+   * Méthode pour obtenir l'intervalle de temps de chaque rayon d'un paquet à l'intérieur de la carte de voxel.
+   * Un rayon n'atteignant pas la carte avant son temps maximal n'est pas actif.
+   * 
+   * @param packet - Le paquet de rayons.
+   * @param active - Les rayons atteignant la carte (tableau rempli par la méthode).
+   * @return L'intervalle de temps (entrée, sortie) de chaque rayon.
+   */
+  private double[][] gridInterval(SRayPacket packet, boolean[] active)
+  {
+    double dimension = voxel_builder.getDimension();
+    
+    double[] box_min = new double[3];
+    double[] box_max = new double[3];
+    
+    for(int axis = 0; axis < 3; axis++)
+    {
+      box_min[axis] = -extremumComponent(axis)*dimension;
+      box_max[axis] = (extremumComponent(axis) + 1)*dimension;
+    }
+    
+    double[][] interval = new double[packet.size()][];
+    
+    for(int i = 0; i < packet.size(); i++)
+    {
+      interval[i] = boxInterval(packet.getRay(i), packet.getTMax(i), box_min, box_max);
+      active[i] = interval[i][0] <= interval[i][1];
+    }
+    
+    return interval;
+  }
+  
+  /**
+   * Méthode pour obtenir l'intervalle de temps d'un rayon à l'intérieur d'une boîte alignée sur les axes (test des plans élargi pour les erreurs d'arrondi).
+   * L'intervalle est limité à [0, t_max] et il est vide (entrée supérieure à la sortie) si le rayon ne traverse pas la boîte.
+   * 
+   * @param ray - Le rayon.
+   * @param t_max - Le temps maximal du rayon.
+   * @param box_min - Le point minimal de la boîte.
+   * @param box_max - Le point maximal de la boîte.
+   * @return L'intervalle de temps (entrée, sortie).
+   */
+  private static double[] boxInterval(SRay ray, double t_max, double[] box_min, double[] box_max)
+  {
+    double t_enter = 0.0;
+    double t_exit = t_max;
+    
+    for(int axis = 0; axis < 3; axis++)
+    {
+      double margin = PACKET_MARGIN*(box_max[axis] - box_min[axis] + Math.abs(box_min[axis]) + Math.abs(box_max[axis]));
+      
+      double min = box_min[axis] - margin;
+      double max = box_max[axis] + margin;
+      
+      double origin = SRayPacket.component(ray.getOrigin(), axis);
+      double direction = SRayPacket.component(ray.getDirection(), axis);
+      
+      if(direction == 0.0)
+      {
+        if(origin < min || origin > max)
+          return new double[]{ Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+        
+        continue;
+      }
+      
+      double t1 = (min - origin)/direction;
+      double t2 = (max - origin)/direction;
+      
+      t_enter = Math.max(t_enter, Math.min(t1, t2));
+      t_exit = Math.min(t_exit, Math.max(t1, t2));
+    }
+    
+    return new double[]{ t_enter, t_exit };
+  }
+  
+  /**
+   * Méthode pour obtenir l'index du prochain voxel traversé par un rayon, soit celui de plus petit temps d'entrée.
+   * 
+   * @param t_enter - Les temps d'entrée du rayon dans les voxels (infini pour un voxel non traversé ou déjà parcouru).
+   * @return L'index du voxel ou -1 s'il n'y en a plus.
+   */
+  private static int nextVoxel(double[] t_enter)
+  {
+    int next = -1;
+    
+    for(int j = 0; j < t_enter.length; j++)
+      if(t_enter[j] != Double.POSITIVE_INFINITY && (next < 0 || t_enter[j] < t_enter[next]))
+        next = j;
+    
+    return next;
+  }
+  
+  /**
+   * Méthode pour obtenir la coordonnée d'un voxel selon un axe.
+   * 
+   * @param voxel - Le voxel.
+   * @param axis - L'axe (0 = x, 1 = y, 2 = z).
+   * @return La coordonnée.
+   */
+  private static int voxelComponent(SVoxel voxel, int axis)
+  {
+    switch(axis)
+    {
+      case 0 : return voxel.getX();
+      case 1 : return voxel.getY();
+      default : return voxel.getZ();
+    }
+  }
+  
+  /**
+   * Méthode pour obtenir la première couche de la carte de voxel parcourue par un paquet de rayons cohérent, 
+   * soit la couche du point d'entrée dans la carte le plus en arrière selon l'axe dominant.
+   * 
+   * @param packet - Le paquet de rayons cohérent.
+   * @param interval - L'intervalle de temps de chaque rayon à l'intérieur de la carte de voxel.
+   * @param active - Les rayons atteignant la carte.
+   * @return La coordonnée de la première couche selon l'axe dominant.
+   */
+  private int firstLayer(SRayPacket packet, double[][] interval, boolean[] active)
+  {
+    int axis = packet.getDominantAxis();
+    int step = packet.getSign(axis);
+    
+    int first = Integer.MAX_VALUE;
+    
+    for(int i = 0; i < packet.size(); i++)
+      if(active[i])
+        first = Math.min(first, step * voxelComponent(SRayPacket.component(packet.getRay(i).getPosition(interval[i][0]), axis)));
+    
+    return step * Math.max(first, -extremumComponent(axis));
+  }
+  
+  /**
+   * Méthode pour obtenir la coordonnée de voxel associée à une composante d'une position.
+   * 
+   * @param value - La composante de la position.
+   * @return La coordonnée de voxel.
+   */
+  private int voxelComponent(double value)
+  {
+    return (int)Math.floor(value/voxel_builder.getDimension());
+  }
+  
+  /**
+   * Méthode pour obtenir la coordonnée extremum (en valeur absolue) de la carte de voxel selon un axe.
+   * 
+   * @param axis - L'axe (0 = x, 1 = y, 2 = z).
+   * @return La coordonnée extremum.
+   */
+  private int extremumComponent(int axis)
+  {
+    return voxelComponent(absolute_extremum_voxel, axis);
+  }
+  
+  /**
+   * Méthode pour déterminer si au moins un rayon d'un paquet poursuit son parcours.
+   * 
+   * @param active - Les rayons poursuivant leur parcours.
+   * @return <b>true</b> si un rayon est actif et <b>false</b> sinon.
+   */
+  private static boolean isActive(boolean[] active)
+  {
+    for(boolean b : active)
+      if(b)
+        return true;
+    
+    return false;
+  }
+  
+  /**
+   * Méthode pour construire une liste de listes d'intersections vides.
+   * 
+   * @param size - Le nombre de listes.
+   * @return La liste des listes vides.
+   */
+  private static List<List<SRay>> emptyLists(int size)
+  {
+    List<List<SRay>> list = new ArrayList<List<SRay>>(size);
+    
+    for(int i = 0; i < size; i++)
+      list.add(new ArrayList<SRay>());
+    
+    return list;
+  }
+  
+  /**
+   * Méthode pour déterminer si un paquet de rayons cohérent doit parcourir la carte de voxel. 
+   * La boîte englobant l'ensemble de la carte est testée une seule fois pour tout le paquet.
+   * 
+   * @param packet - Le paquet de rayons.
+   * @return <b>true</b> si un rayon du paquet peut atteindre la carte de voxel et <b>false</b> sinon.
+   */
+  private boolean packetReachesVoxelMap(SRayPacket packet)
+  {
+    if(voxel_map.isEmpty())
+      return false;
+    
+    double dimension = voxel_builder.getDimension();
+    
+    SVector3d min = new SVector3d(-absolute_extremum_voxel.getX(), -absolute_extremum_voxel.getY(), -absolute_extremum_voxel.getZ()).multiply(dimension);
+    SVector3d max = new SVector3d(absolute_extremum_voxel.getX() + 1, absolute_extremum_voxel.getY() + 1, absolute_extremum_voxel.getZ() + 1).multiply(dimension);
+    
+    return packet.intersects(new SBoundingBox(null, min, max));
+  }
+  
+  @Override
+  public List<SGeometry> listInsideGeometry(SVector3d v)
+  {
+    // Vérifier que l'initialisation a été complétée
+    if(!space_initialized)
+      throw new SRuntimeException("Erreur SVoxelSpace 009 : L'espace de voxel n'a pas été initialisé.");
+    
+    // Liste des géométries où le vecteur v sera situé à l'intérieur.
+    // Débutons avec la liste disponible à partir des informations de la carte des voxels.
+    List<SGeometry> inside_list = listInsideGeometryInMap(voxel_map, voxel_builder, v);
+    
+    // Ajouter les géométries sans boîte où le vecteur v s'y retrouve.
+    inside_list.addAll(listInsideGeometry(linear_list, v));
+        
+    return inside_list;
+  }
+
+  /**
+   * Méthode qui insère une géométrie dans l'espace. Uniquement les voxels recouverts par la boîte englobante 
+   * de la géométrie seront mis à jour. L'espace sera reconstruit au complet si la qualité de la carte des voxels est trop dégradée.
+   */
+  @Override
+  public void insertGeometry(SGeometry geometry)
+  {
+    // Sans carte de voxels (espace non initialisé ou sans boîte englobante), la construction complète est nécessaire
+    if(!space_initialized || voxel_builder == null)
+    {
+      super.insertGeometry(geometry);
+      return;
+    }
+    
+    geometry_list.add(geometry);
+    insertInVoxelMap(geometry);
+    
+    rebuildIfDegraded(voxel_map.size());
+  }
+  
+  /**
+   * Méthode qui retire une géométrie de l'espace. Uniquement les voxels recouverts par la boîte englobante 
+   * de la géométrie seront mis à jour. L'espace sera reconstruit au complet si la qualité de la carte des voxels est trop dégradée.
+   */
+  @Override
+  public void removeGeometry(SGeometry geometry) throws SRuntimeException
+  {
+    if(!space_initialized || voxel_builder == null)
+    {
+      super.removeGeometry(geometry);
+      return;
+    }
+    
+    if(!geometry_list.remove(geometry))
+      throw new SRuntimeException("Erreur SVoxelSpace 010 : La géométrie '" + geometry + "' n'est pas dans l'espace des géométries.");
+    
+    removeFromVoxelMap(geometry);
+    
+    rebuildIfDegraded(voxel_map.size());
+  }
+  
+  /**
+   * Méthode qui remplace une géométrie de l'espace par une nouvelle géométrie. Uniquement les voxels recouverts par la boîte englobante 
+   * des deux géométries seront mis à jour. L'espace sera reconstruit au complet si la qualité de la carte des voxels est trop dégradée.
+   */
+  @Override
+  public void moveGeometry(SGeometry old_geometry, SGeometry new_geometry) throws SRuntimeException
+  {
+    if(!space_initialized || voxel_builder == null)
+    {
+      super.moveGeometry(old_geometry, new_geometry);
+      return;
+    }
+    
+    int index = geometry_list.indexOf(old_geometry);
+    
+    if(index < 0)
+      throw new SRuntimeException("Erreur SVoxelSpace 011 : La géométrie '" + old_geometry + "' n'est pas dans l'espace des géométries.");
+    
+    geometry_list.set(index, new_geometry);
+    
+    removeFromVoxelMap(old_geometry);
+    insertInVoxelMap(new_geometry);
+    
+    rebuildIfDegraded(voxel_map.size());
+  }
+  
+  /**
+   * Méthode pour insérer une géométrie dans la carte des voxels ou dans la liste linéaire si elle n'a pas de boîte englobante.
+   * 
+   * @param geometry - La géométrie à insérer.
+   */
+  private void insertInVoxelMap(SGeometry geometry)
+  {
+    SBoundingBox box = new SBoundingBoxBuilder().buildBoundingBox(geometry);
+    
+    if(box == null)
+      linear_list.add(geometry);
+    else
+    {
+      List<SVoxel> list = voxel_builder.buildVoxel(box);
+      
+      addGeometryToMap(voxel_map, geometry, list);
+      reference_count += list.size();
+      
+      // La carte peut s'agrandir
+      for(SVoxel v : list)
+        absolute_extremum_voxel = updateExtremumVoxel(absolute_extremum_voxel, v);
+    }
+  }
+  
+  /**
+   * Méthode pour retirer une géométrie de la carte des voxels ou de la liste linéaire si elle n'a pas de boîte englobante.
+   * Les voxels recouverts sont retrouvés à partir de la boîte englobante de la géométrie (une géométrie étant immuable).
+   * 
+   * @param geometry - La géométrie à retirer.
+   */
+  private void removeFromVoxelMap(SGeometry geometry)
+  {
+    SBoundingBox box = new SBoundingBoxBuilder().buildBoundingBox(geometry);
+    
+    if(box == null)
+      linear_list.remove(geometry);
+    else
+      reference_count -= removeGeometryFromMap(voxel_map, geometry, voxel_builder.buildVoxel(box));
+  }
+  
+  @Override
+  public void initialize()
+  {
+    SLog.logWriteLine("Message SVoxelSpace : Construction de l'espace des géométries avec voxel.");
+    
+    // Séparateur de la collection de géométrie
+    SGeometryCollectionSplitter splitter = new SGeometryCollectionSplitter(geometry_list, SGeometryCollectionSplitter.SPLIT_BOX_AND_NO_BOX);
+    
+    // Obtenir la liste des géométries sans boîte englobante et l'affecter à la liste linéaire
+    linear_list = splitter.getNoBoxList();
+    
+    // Liste des boîtes englobantes autour des géométries de la liste.
+    // Nous commencons pas une liste vide afin qu'elle soit remplacée par celle donnée par le "splitter".
+    List<SBoundingBox> bounding_box_list = new ArrayList<SBoundingBox>();   
+      
+    // Vérifier qu'il y a au moins une liste de liste de boîtes englobantes dans le "splitter".
+    // Puisque le type de séparation génère uniquement une liste, alors nous pourrons l'utiliser et elle ne sera pas vide.
+    if(!splitter.getBoundingBoxSplitList().isEmpty())
+      bounding_box_list = splitter.getBoundingBoxSplitList().get(0);
+        
+    // S'assurer que la liste des boîtes n'est pas vide, sinon il n'y a pas de carte de voxel à construire
+    if(!bounding_box_list.isEmpty())
+    {
+      // Faire l'évaluation de la dimension des voxels et construire le générateur de voxel
+      //-------------------------------------------------------------------------------------------------------------------------------------------------
+      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.ONE_FOR_ONE_ALGORITHM);
+      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.BIGGEST_AVERAGE_LENGHT_ALGORITHM);
+      SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.MID_AVERAGE_LENGHT_ALGORITHM);
+      //SVoxelDimensionEvaluator evaluator = new SVoxelDimensionEvaluator(bounding_box_list, SVoxelDimensionEvaluator.SMALLEST_AVERAGE_LENGHT_ALGORITHM); 
+      
+      // Générateur de voxel pour la carte de voxel en construction
+      voxel_builder = new SVoxelBuilder(evaluator.getDimension()); 
+            
+      // Intégrer les voxels attitrés aux boîtes englobantes avec leur géométrie à la carte des voxels (en parallèle pour une grande liste).
+      voxel_map = buildVoxelMap(bounding_box_list, voxel_builder);
+      
+      // Construire le voxel d'extrême de la nouvelle carte
+      absolute_extremum_voxel = evaluateAbsoluteExtremumVoxel(voxel_map);
+      
+      // Mémoriser la qualité de la carte pour les mises à jour locales
+      reference_count = evaluateNbGeometryReference(voxel_map);
+      recordBuildQuality(voxel_map.size());
+      
+      // Messages multiples à afficher
+      SLog.logWriteLine("Message SVoxelSpace : Nombre de géométries dans la carte de voxels : " + bounding_box_list.size() + " géométries.");
+      SLog.logWriteLine("Message SVoxelSpace : Taille des voxels : " + evaluator.getDimension() + " unités.");  
+      SLog.logWriteLine("Message SVoxelSpace : Nombre de référence à des géométries : " + evaluateNbGeometryReference(voxel_map) + " références.");
+      SLog.logWriteLine("Message SVoxelSpace : Nombre moyen de référence à des géométries par voxel : " + evaluateNbGeometryReferencePerVoxel(voxel_map) + " références/voxel.");
+      
+      SLog.logWriteLine();
+    }//fin if
+    else
+    {
+      // Il n'y a pas de boîte englobante de disponible pour l'espace avec voxel
+      SLog.logWriteLine("Message SVoxelSpace : Aucune géométrie ne possède de boîte englobante! Le choix d'un espace de géométries en voxel devient inéfficace.");
+     
+      voxel_map = new HashMap<SVoxel, List<SGeometry>>();
+      voxel_builder = null;   // Il n'y a pas de constructeur de voxel disponible
+      reference_count = 0;
+    }
+    
+    SLog.logWriteLine("Message SVoxelSpace : Fin de la construction de l'espace des géométries avec voxel.");
+    SLog.logWriteLine();
+    
+    // Initialisation de l'espace des voxels complétée
+    space_initialized = true;
+  }
+  
+}//fin de la classe SVoxelSpace
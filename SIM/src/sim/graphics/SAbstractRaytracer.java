@@ -1,89 +1,133 @@
-/**
- * 
- */
-package sim.graphics;
-
-import sim.geometry.SRay;
-import sim.graphics.shader.SShader;
-import sim.math.SVector3d;
-import sim.math.SVectorPixel;
-
-/**
- * Classe abstraite reprsentant un raytracer.
- * @author Simon Vzina
- * @since 2015-04-11
- * @version 2015-07-16
- */
-public abstract class SAbstractRaytracer implements SRaytracer {
-
-	 protected final SViewFrustum view_frustum; // pyramide de vue du raytracer
-	 protected final SShader shader; // shader du raytracer
-	 protected final SViewport viewport; // viewport du raytracer
-	
-	 /**
-	   * Constructeur d'un raytracer.
-	   * 
-	   * @param view_frustum - La pyramide de vue.
-	   * @param shader - Le calculateur d'illumination (<i>shader</i>).
-	   * @param viewport - La fentre de rendu (<i>viewport</i>).
-	   */
-	  public SAbstractRaytracer(SViewFrustum view_frustum, SShader shader, SViewport viewport)
-	  {
-	    this.view_frustum = view_frustum;
-	    this.shader = shader;
-	    this.viewport = viewport;
-	  }
-	  
-	/* (non-Javadoc)
-	 * @see sim.graphics.SRaytracer#raytrace()
-	 */
-	@Override
-	public void raytrace()
-	{
-		raytrace(nbPixels());
-	}
-
-	/* (non-Javadoc)
-	 * @see sim.graphics.SRaytracer#nbPixels()
-	 */
-	@Override
-	public int nbPixels() 
-	{
-		return viewport.getHeight() * viewport.getHeight();
-	}
-
-	/**
-	   * Mthode pour valuer la couleur  attribuer  un pixel.
-	   * 
-	   * @param pixel - La coordonne du pixel.
-	   * @return La couleur  attribuer au pixel.
-	   */
-	abstract protected SColor evaluatePixelColor(SVectorPixel pixel);
-	
-	/**
-	   * Mthode pour calculer la couleur associ  un rayon lanc depuis la position de la camra et traversant un pixel de la pyramide de vue. La coordonne du
-	   * pixel sera calcule par la pyramide de vue (view frustum) et la couleur sera dtermine par le shader ayant accs  la gomtrie de la scne et des
-	   * matriaux qui s'y trouvent.
-	   * 
-	   * @param pixel - La coordonne du pixel.
-	   * @return La couleur calcule par <b>le lanc d'un rayon</b> dans le pixel.
-	   */
-	  protected SColor raytracePixel(SVectorPixel pixel)
-	  {
-	    // La coordonne 3d du pixel dans les coordonnes de la scne
-	    SVector3d position_pixel = view_frustum.viewportToViewFrustum(pixel);
-
-	    // Direction du rayon normalis
-	    SVector3d direction = position_pixel.substract(view_frustum.getCameraPosition()).normalize();
-	   
-	    // valuer adquatement l'indice de rfraction et reconstruction du rayon adquatement
-	    double refractive_index = shader.evaluateRefractiveIndex(position_pixel);
-	    
-	    // Construire le rayon avec le bon indice de rfraction
-	    SRay ray = new SRay(position_pixel, direction, refractive_index); 
-
-	    // valuer la couleur attribue  ce rayon partant de la camra et traversant un pixel du viewport
-	    return shader.shade(ray);
-	  }
-	  
-}//fin de la classe SAbstractRaytracer
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import sim.geometry.SRay;
+import sim.graphics.shader.SMediumStack;
+import sim.graphics.shader.SShader;
+import sim.math.SVector3d;
+import sim.math.SVectorPixel;
+
+/**
+ * Classe abstraite représentant un raytracer.
+ * @author Simon Vézina
+ * @since 2015-04-11
+ * @version 2017-02-14
+ */
+public abstract class SAbstractRaytracer implements SRaytracer {
+
+   /**
+    * La constante <b>THREAD_KEEP_ALIVE</b> correspond au délai (en secondes) après lequel une thread inactive d'un exécuteur se termine étant égal à {@value}.
+    */
+   protected static final long THREAD_KEEP_ALIVE = 1;
+   
+	 protected final SViewFrustum view_frustum; // pyramide de vue du raytracer
+	 protected final SShader shader; // shader du raytracer
+	 protected final SViewport viewport; // viewport du raytracer
+	 protected final SMediumStack camera_medium_stack; // pile des milieux à la position de la caméra (évaluée une seule fois par image)
+	
+	 /**
+	   * Constructeur d'un raytracer.
+	   * 
+	   * @param view_frustum - La pyramide de vue.
+	   * @param shader - Le calculateur d'illumination (<i>shader</i>).
+	   * @param viewport - La fenêtre de rendu (<i>viewport</i>).
+	   */
+	  public SAbstractRaytracer(SViewFrustum view_frustum, SShader shader, SViewport viewport)
+	  {
+	    this.view_frustum = view_frustum;
+	    this.shader = shader;
+	    this.viewport = viewport;
+	    
+	    // Évaluer une seule fois le milieu dans lequel la caméra est située plutôt qu'à chaque pixel
+	    this.camera_medium_stack = shader.evaluateMediumStack(view_frustum.getCameraPosition());
+	  }
+	  
+	/**
+	 * Méthode pour construire l'exécuteur des tâches d'un raytracer. Les threads inactives se terminent 
+	 * afin qu'un raytracer n'étant plus utilisé (par exemple après un rendu du service de rendu) ne conserve pas ses threads.
+	 * 
+	 * @param task - Le nombre de tâches exécutées simultanément.
+	 * @return L'exécuteur des tâches.
+	 */
+	protected static ThreadPoolExecutor buildExecutor(int task)
+	{
+	  ThreadPoolExecutor executor = new ThreadPoolExecutor(task, task, THREAD_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+	  executor.allowCoreThreadTimeOut(true);
+	  
+	  return executor;
+	}
+	
+	/* (non-Javadoc)
+	 * @see sim.graphics.SRaytracer#raytrace()
+	 */
+	@Override
+	public void raytrace()
+	{
+		raytrace(nbPixels());
+	}
+
+	/* (non-Javadoc)
+	 * @see sim.graphics.SRaytracer#nbPixels()
+	 */
+	@Override
+	public int nbPixels() 
+	{
+		return viewport.getHeight() * viewport.getHeight();
+	}
+
+	/**
+	   * Méthode pour évaluer la couleur à attribuer à un pixel.
+	   * 
+	   * @param pixel - La coordonnée du pixel.
+	   * @return La couleur à attribuer au pixel.
+	   */
+	abstract protected SColor evaluatePixelColor(SVectorPixel pixel);
+	
+	/**
+	 * Méthode pour évaluer la couleur d'un groupe de pixels (ex. une tuile) sans passer par l'itération des pixels du viewport.
+	 * Cette méthode peut être appelée simultanément par plusieurs tâches.
+	 * 
+	 * @param pixel_list - Les coordonnées des pixels.
+	 * @return La couleur à attribuer à chaque pixel.
+	 */
+	protected SColor[] evaluatePixelColor(List<SVectorPixel> pixel_list)
+	{
+	  SColor[] color = new SColor[pixel_list.size()];
+	  
+	  for(int i = 0; i < color.length; i++)
+	    color[i] = evaluatePixelColor(pixel_list.get(i));
+	  
+	  return color;
+	}
+	
+	/**
+	   * Méthode pour calculer la couleur associé à un rayon lancé depuis la position de la caméra et traversant un pixel de la pyramide de vue. La coordonnée du
+	   * pixel sera calculée par la pyramide de vue (view frustum) et la couleur sera déterminée par le shader ayant accès à la géométrie de la scène et des
+	   * matériaux qui s'y trouvent.
+	   * 
+	   * @param pixel - La coordonnée du pixel.
+	   * @return La couleur calculée par <b>le lancé d'un rayon</b> dans le pixel.
+	   */
+	  protected SColor raytracePixel(SVectorPixel pixel)
+	  {
+	    // La coordonnée 3d du pixel dans les coordonnées de la scène
+	    SVector3d position_pixel = view_frustum.viewportToViewFrustum(pixel);
+
+	    // Direction du rayon normalisé
+	    SVector3d direction = position_pixel.substract(view_frustum.getCameraPosition()).normalize();
+	   
+	    // Construire le rayon avec l'indice de réfraction du milieu de la caméra
+	    SRay ray = new SRay(position_pixel, direction, camera_medium_stack.getRefractiveIndex()); 
+
+	    // Évaluer la couleur attribuée à ce rayon partant de la caméra et traversant un pixel du viewport
+	    return shader.shade(ray, camera_medium_stack);
+	  }
+	  
+}//fin de la classe SAbstractRaytracer
@@ -0,0 +1,331 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import sim.exception.SConstructorException;
+import sim.math.SVector3d;
+import sim.readwrite.SAbstractReadableWriteable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SAnimation</b> représente le déplacement de la caméra d'une scène le long d'une séquence d'images.
+ * Le déplacement est défini par des images clés (<b>SKeyFrame</b>). Entre deux images clés, la position de la caméra,
+ * la position où elle regarde et son haut sont interpolés par une spline cubique d'Hermite passant par les images clés
+ * (tangentes de Catmull-Rom). Avec deux images clés, le déplacement est linéaire. Avant la première et après la dernière image clé,
+ * la caméra est immobile.
+ * </p>
+ *
+ * <p>
+ * Une image clé peut être définie pour chaque image de l'animation afin d'imposer directement la caméra de chaque image.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SAnimation extends SAbstractReadableWriteable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_FRAME_COUNT, SKeyWordDecoder.KW_KEY_FRAME
+  };
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>frame_count</b> correspond au nombre d'images de l'animation (0 pour terminer l'animation à la dernière image clé).
+   */
+  private int frame_count;
+
+  /**
+   * La variable <b>key_frame_list</b> correspond à la liste des images clés triées par numéro d'image.
+   */
+  private final List<SKeyFrame> key_frame_list;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une animation.
+   *
+   * @param frame_count - Le nombre d'images de l'animation (0 pour terminer l'animation à la dernière image clé).
+   * @param key_frame_list - La liste des images clés.
+   * @throws SConstructorException S'il n'y a pas d'image clé ou si deux images clés ont le même numéro.
+   */
+  public SAnimation(int frame_count, List<SKeyFrame> key_frame_list) throws SConstructorException
+  {
+    this.frame_count = frame_count;
+    this.key_frame_list = new ArrayList<SKeyFrame>(key_frame_list);
+
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SAnimation 001 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Constructeur d'une animation à partir d'information lue dans un fichier de format txt.
+   *
+   * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   * @throws SConstructorException Si une erreur est survenue lors de la construction.
+   */
+  public SAnimation(SBufferedReader sbr) throws IOException, SConstructorException
+  {
+    frame_count = 0;
+    key_frame_list = new ArrayList<SKeyFrame>();
+
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SAnimation 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre d'images de l'animation.
+   *
+   * @return Le nombre d'images.
+   */
+  public int getFrameCount()
+  {
+    if(frame_count > 0)
+      return frame_count;
+    else
+      return key_frame_list.get(key_frame_list.size() - 1).getFrame() + 1;
+  }
+
+  /**
+   * Méthode pour obtenir la liste des images clés triées par numéro d'image.
+   *
+   * @return La liste des images clés.
+   */
+  public List<SKeyFrame> getKeyFrameList()
+  {
+    return Collections.unmodifiableList(key_frame_list);
+  }
+
+  /**
+   * Méthode pour obtenir la caméra d'une image de l'animation. La caméra obtenue conserve l'angle d'ouverture
+   * et les écrans de face et de fond de la caméra de la scène.
+   *
+   * @param camera - La caméra de la scène.
+   * @param frame - Le numéro de l'image.
+   * @return La caméra de l'image.
+   * @throws SConstructorException Si la caméra interpolée regarde sa propre position.
+   */
+  public SCamera getCamera(SCamera camera, int frame) throws SConstructorException
+  {
+    SVector3d position = interpolate(frame, 0);
+    SVector3d look_at = interpolate(frame, 1);
+
+    // Le haut est interpolé seulement s'il est défini par chaque image clé
+    SVector3d up = isUpDefined() ? interpolate(frame, 2) : camera.getUp();
+
+    return camera.move(position, look_at, up);
+  }
+
+  /**
+   * Méthode pour déterminer si l'orientation du haut de la caméra est définie par chaque image clé.
+   *
+   * @return <b>true</b> si le haut est défini par chaque image clé et <b>false</b> sinon.
+   */
+  private boolean isUpDefined()
+  {
+    for(SKeyFrame k : key_frame_list)
+      if(k.getUp() == null)
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Méthode pour obtenir un vecteur d'une image clé (0 = position, 1 = position où regarde la caméra, 2 = haut).
+   *
+   * @param index - L'index de l'image clé.
+   * @param vector - Le vecteur désiré.
+   * @return Le vecteur.
+   */
+  private SVector3d getVector(int index, int vector)
+  {
+    SKeyFrame k = key_frame_list.get(index);
+
+    switch(vector)
+    {
+      case 0 : return k.getPosition();
+      case 1 : return k.getLookAt();
+      default : return k.getUp();
+    }
+  }
+
+  /**
+   * Méthode pour obtenir la dérivée (par image) d'un vecteur à une image clé selon les images clés voisines.
+   *
+   * @param index - L'index de l'image clé.
+   * @param vector - Le vecteur désiré.
+   * @return La dérivée du vecteur.
+   */
+  private SVector3d getTangent(int index, int vector)
+  {
+    int previous = Math.max(0, index - 1);
+    int next = Math.min(key_frame_list.size() - 1, index + 1);
+
+    double nb_frame = key_frame_list.get(next).getFrame() - key_frame_list.get(previous).getFrame();
+
+    return getVector(next, vector).substract(getVector(previous, vector)).multiply(1.0 / nb_frame);
+  }
+
+  /**
+   * Méthode pour interpoler un vecteur des images clés à une image de l'animation.
+   *
+   * @param frame - Le numéro de l'image.
+   * @param vector - Le vecteur désiré.
+   * @return Le vecteur interpolé.
+   */
+  private SVector3d interpolate(int frame, int vector)
+  {
+    int last = key_frame_list.size() - 1;
+
+    if(frame <= key_frame_list.get(0).getFrame())
+      return getVector(0, vector);
+
+    if(frame >= key_frame_list.get(last).getFrame())
+      return getVector(last, vector);
+
+    // Image clé précédant l'image
+    int i = 0;
+
+    while(key_frame_list.get(i + 1).getFrame() <= frame)
+      i++;
+
+    double h = key_frame_list.get(i + 1).getFrame() - key_frame_list.get(i).getFrame();
+    double t = (frame - key_frame_list.get(i).getFrame()) / h;
+
+    double t2 = t*t;
+    double t3 = t2*t;
+
+    // Polynômes d'Hermite
+    double h00 = 2*t3 - 3*t2 + 1;
+    double h10 = t3 - 2*t2 + t;
+    double h01 = -2*t3 + 3*t2;
+    double h11 = t3 - t2;
+
+    return getVector(i, vector).multiply(h00)
+        .add(getTangent(i, vector).multiply(h10*h))
+        .add(getVector(i + 1, vector).multiply(h01))
+        .add(getTangent(i + 1, vector).multiply(h11*h));
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   *
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    if(frame_count < 0)
+      throw new SInitializationException("Erreur SAnimation 003 : Le nombre d'images '" + frame_count + "' ne peut pas être négatif.");
+
+    if(key_frame_list.isEmpty())
+      throw new SInitializationException("Erreur SAnimation 004 : L'animation doit contenir au moins une image clé.");
+
+    Collections.sort(key_frame_list, new Comparator<SKeyFrame>() {
+
+      @Override
+      public int compare(SKeyFrame k1, SKeyFrame k2)
+      {
+        return Integer.compare(k1.getFrame(), k2.getFrame());
+      }
+    });
+
+    for(int i = 1; i < key_frame_list.size(); i++)
+      if(key_frame_list.get(i).getFrame() == key_frame_list.get(i - 1).getFrame())
+        throw new SInitializationException("Erreur SAnimation 005 : L'image '" + key_frame_list.get(i).getFrame() + "' est définie par plusieurs images clés.");
+  }
+
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_ANIMATION);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    bw.write(SKeyWordDecoder.KW_FRAME_COUNT);
+    bw.write("\t");
+    bw.write(Integer.toString(frame_count));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    for(SKeyFrame k : key_frame_list)
+      k.write(bw);
+
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  @Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException
+  {
+    switch(code)
+    {
+      case SKeyWordDecoder.CODE_FRAME_COUNT : frame_count = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_FRAME_COUNT); return true;
+
+      case SKeyWordDecoder.CODE_KEY_FRAME : try{
+                                              key_frame_list.add(new SKeyFrame(sbr));
+                                            }catch(SConstructorException e){
+                                              throw new SReadingException("Erreur SAnimation 006 : La construction d'une image clé est impossible." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+                                            }
+                                            return true;
+
+      default : return false;
+    }
+  }
+
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+
+  @Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_ANIMATION;
+  }
+
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+
+}//fin de la classe SAnimation
@@ -0,0 +1,42 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * <p>
+ * L'interface <b>SImageRowWriter</b> représente un objet écrivant une image dans un fichier <b>rangée par rangée</b>.
+ * Une rangée est écrite dès qu'elle est complétée, ce qui permet de générer une image sans jamais conserver l'image complète en mémoire.
+ * </p>
+ *
+ * <p>
+ * Les rangées doivent être écrites en ordre croissant (de y = 0 à y = height-1).
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public interface SImageRowWriter extends Closeable {
+
+  /**
+   * Méthode pour écrire une rangée de l'image.
+   *
+   * @param y - Le numéro de la rangée.
+   * @param row - Les couleurs des pixels de la rangée (de x = 0 à x = width-1). Un pixel <b>null</b> n'a pas reçu de couleur (pixel transparent).
+   * @throws IOException S'il y a une erreur lors de l'écriture ou si la rangée n'est pas la rangée attendue.
+   */
+  public void writeRow(int y, SColor[] row) throws IOException;
+
+  /**
+   * Méthode pour terminer l'écriture de l'image. Toutes les rangées doivent avoir été écrites.
+   *
+   * @throws IOException S'il y a une erreur lors de l'écriture ou si des rangées n'ont pas été écrites.
+   */
+  @Override
+  public void close() throws IOException;
+
+}//fin de l'interface SImageRowWriter
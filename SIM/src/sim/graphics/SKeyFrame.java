@@ -0,0 +1,244 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import sim.exception.SConstructorException;
+import sim.math.SVector3d;
+import sim.readwrite.SAbstractReadableWriteable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SKeyFrame</b> représente une image clé d'une animation. Une image clé définit la position de la caméra,
+ * la position où elle regarde et (optionnellement) l'orientation de son haut pour un numéro d'image de l'animation.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ * @see SAnimation
+ */
+public class SKeyFrame extends SAbstractReadableWriteable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_FRAME, SKeyWordDecoder.KW_POSITION, SKeyWordDecoder.KW_LOOK_AT, SKeyWordDecoder.KW_UP
+  };
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>frame</b> correspond au numéro de l'image clé dans l'animation (à partir de 0).
+   */
+  private int frame;
+
+  /**
+   * La variable <b>position</b> correspond à la position de la caméra.
+   */
+  private SVector3d position;
+
+  /**
+   * La variable <b>look_at</b> correspond à la position où regarde la caméra.
+   */
+  private SVector3d look_at;
+
+  /**
+   * La variable <b>up</b> correspond à l'orientation du haut de la caméra (<b>null</b> pour celle de la caméra de la scène).
+   */
+  private SVector3d up;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une image clé.
+   *
+   * @param frame - Le numéro de l'image clé.
+   * @param position - La position de la caméra.
+   * @param look_at - La position où regarde la caméra.
+   * @param up - L'orientation du haut de la caméra (<b>null</b> pour celle de la caméra de la scène).
+   * @throws SConstructorException Si le numéro de l'image est négatif ou si la caméra regarde sa propre position.
+   */
+  public SKeyFrame(int frame, SVector3d position, SVector3d look_at, SVector3d up) throws SConstructorException
+  {
+    this.frame = frame;
+    this.position = position;
+    this.look_at = look_at;
+    this.up = up;
+
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SKeyFrame 001 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Constructeur d'une image clé à partir d'information lue dans un fichier de format txt.
+   *
+   * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   * @throws SConstructorException Si une erreur est survenue lors de la construction.
+   */
+  public SKeyFrame(SBufferedReader sbr) throws IOException, SConstructorException
+  {
+    frame = 0;
+    position = null;
+    look_at = null;
+    up = null;
+
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SKeyFrame 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le numéro de l'image clé.
+   *
+   * @return Le numéro de l'image.
+   */
+  public int getFrame()
+  {
+    return frame;
+  }
+
+  /**
+   * Méthode pour obtenir la position de la caméra.
+   *
+   * @return La position de la caméra.
+   */
+  public SVector3d getPosition()
+  {
+    return position;
+  }
+
+  /**
+   * Méthode pour obtenir la position où regarde la caméra.
+   *
+   * @return La position où regarde la caméra.
+   */
+  public SVector3d getLookAt()
+  {
+    return look_at;
+  }
+
+  /**
+   * Méthode pour obtenir l'orientation du haut de la caméra.
+   *
+   * @return L'orientation du haut (<b>null</b> pour celle de la caméra de la scène).
+   */
+  public SVector3d getUp()
+  {
+    return up;
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   *
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    if(frame < 0)
+      throw new SInitializationException("Erreur SKeyFrame 003 : Le numéro de l'image clé '" + frame + "' ne peut pas être négatif.");
+
+    if(position == null || look_at == null)
+      throw new SInitializationException("Erreur SKeyFrame 004 : La position de la caméra et la position où elle regarde doivent être définies pour l'image clé '" + frame + "'.");
+
+    if(position.equals(look_at))
+      throw new SInitializationException("Erreur SKeyFrame 005 : La position de la caméra " + position + " et la position où elle regarde " + look_at + " sont identiques pour l'image clé '" + frame + "'.");
+  }
+
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_KEY_FRAME);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    bw.write(SKeyWordDecoder.KW_FRAME);
+    bw.write("\t\t");
+    bw.write(Integer.toString(frame));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    bw.write(SKeyWordDecoder.KW_POSITION);
+    bw.write("\t");
+    position.write(bw);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    bw.write(SKeyWordDecoder.KW_LOOK_AT);
+    bw.write("\t\t");
+    look_at.write(bw);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    if(up != null)
+    {
+      bw.write(SKeyWordDecoder.KW_UP);
+      bw.write("\t\t");
+      up.write(bw);
+      bw.write(SStringUtil.END_LINE_CARACTER);
+    }
+
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  @Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException
+  {
+    switch(code)
+    {
+      case SKeyWordDecoder.CODE_FRAME : frame = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_FRAME); return true;
+
+      case SKeyWordDecoder.CODE_POSITION : position = new SVector3d(remaining_line); return true;
+
+      case SKeyWordDecoder.CODE_LOOK_AT : look_at = new SVector3d(remaining_line); return true;
+
+      case SKeyWordDecoder.CODE_UP : up = new SVector3d(remaining_line); return true;
+
+      default : return false;
+    }
+  }
+
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+
+  @Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_KEY_FRAME;
+  }
+
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+
+}//fin de la classe SKeyFrame
@@ -1,159 +1,249 @@
-/**
- * 
- */
-package sim.graphics;
-
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.util.List;
-import java.util.ArrayList;
-
-import sim.exception.SRuntimeException;
-import sim.math.SVector3d;
-import sim.readwrite.SKeyWordDecoder;
-import sim.readwrite.SWriteable;
-import sim.util.SStringUtil;
-
-/**
- * Classe qui reprsente un model 3d comprenant des primitives.
- * @author Simon Vzina
- * @since 2015-03-16
- * @version 2015-10-31
- */
-public class SModel implements SWriteable{
-
-  public static final String DEFAULT_FILE_NAME = "none";  //nom du fichier par dfaut tant invalide
-  
-  //Vecteur dfinissant les matrices de transformation par dfaut tant aucune transformation
-  public static final SVector3d DEFAULT_SCALE = new SVector3d(1.0, 1.0, 1.0);
-  public static final SVector3d DEFAULT_ROTATION = new SVector3d(0.0, 0.0, 0.0);
-  public static final SVector3d DEFAULT_TRANSLATION = new SVector3d(0.0, 0.0, 0.0);
-  
-  private final String file_name;                 //nom du fichier du modle
-  
-  private final SVector3d scale;                  //vecteur d'homothtie
-  private final SVector3d rotation;               //vecteur de rotaion
-  private final SVector3d translation;            //vecteur de rotation
-  
-  /**
-   * La variable 'uv_format' correspond au format d'interprtation des coordonnes uv de texture que l'on doit appliquer
-   * au texture dfinie dans le modle afin de bien faire correspondre les coordonnes uv avec les bons texel.
-   */
-  private final int uv_format;
-  
-  private final List<SPrimitive> primitive_list;  //liste des primitives appartenant au modle
-  
-  /**
-   * Constructeur d'un modle 3d.
-   * @param file_name - Le nom de du fichier.
-   */
-  public SModel(String file_name)
-  {
-    this(file_name, DEFAULT_SCALE, DEFAULT_ROTATION, DEFAULT_TRANSLATION, STexture.UV_DEFAULT);
-  }
-
-  /**
-   * Constructeur d'un modle 3d avec matrice de transformation.
-   * @param file_name - Le nom de du fichier.
-   * @param scale - Le vecteur d'homothtie (<i>scale</i>).
-   * @param rotation - Le vecteur de rotation.
-   * @param translation - Le vecteur de rotation.
-   * @param uv_format - Le format d'interprtation des coordonnes uv de texture.
-   * @throws SRuntimeException Si le format d'interprtation des coordonnes de texture uv n'est pas valide.
-   */
-  public SModel(String file_name, SVector3d scale, SVector3d rotation, SVector3d translation, int uv_format) throws SRuntimeException
-  {
-    this.file_name = file_name;
-    
-    this.scale = scale;
-    this.rotation = rotation;
-    this.translation = translation;
-    
-    switch(uv_format)
-    {
-      case STexture.UV_DEFAULT :
-      case STexture.ORIGIN_UV_BOTTOM_LEFT :
-      case STexture.ORIGIN_UV_TOP_LEFT :      this.uv_format = uv_format; break;
-      
-      default : throw new SRuntimeException("Erreur SModel 001 : Le format d'interprtation des coordonnes de texture '" + uv_format + "' n'est pas reconnu par le systme.");
-    }
-    
-    primitive_list = new ArrayList<SPrimitive>();
-  }
-  
-  /**
-   * Mthode pour obtenir le nom du fichier du modle.
-   * @return Le nom du fichier du modle.
-   */
-  public String getFileName()
-  {
-    return file_name;
-  }
-  
-  /**
-   * Mthode pour obtenir la liste des primitives appartenant  ce modle.
-   * @return La liste des primitives du modle.
-   */
-  public List<SPrimitive> getPrimitiveList()
-  {
-    return primitive_list;
-  }
-  
-  /**
-   * Mthode pour ajouter une primitive au modle.
-   * @param primitive - La primitive  ajouter au modle.
-   */
-  public void addPrimitive(SPrimitive primitive)
-  {
-    primitive_list.add(primitive);
-  }
-  
-  @Override
-  public void write(BufferedWriter bw) throws IOException
-  {
-    bw.write(SKeyWordDecoder.KW_MODEL);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    //crire les paramtres de la classe SPrimitive
-    writeSModelParameter(bw);
-    
-    bw.write(SKeyWordDecoder.KW_END);
-    bw.write("\t#end model" + SStringUtil.END_LINE_CARACTER);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-  }
-
-  /**
-   * Mthode pour crire les paramtres associs  la classe SModel.
-   * @param bw - Le BufferedWriter crivant l'information dans un fichier txt.
-   * @throws IOException S'il y a une erreur d'criture.
-   * @see IOException
-   */
-  protected void writeSModelParameter(BufferedWriter bw)throws IOException 
-  {
-    bw.write(SKeyWordDecoder.KW_FILE);
-    bw.write("\t\t");
-    bw.write(file_name);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_SCALE);
-    bw.write("\t\t");
-    scale.write(bw);;
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_ROTATION);
-    bw.write("\t");
-    rotation.write(bw);;
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_TRANSLATION);
-    bw.write("\t");
-    translation.write(bw);;
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_UV_FORMAT);
-    bw.write("\t");
-    bw.write(STexture.UV_FORMAT[uv_format]);
-    bw.write(SStringUtil.END_LINE_CARACTER);
-  }
-  
-}//fin classe SModel
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.ArrayList;
+
+import sim.exception.SRuntimeException;
+import sim.math.SVector3d;
+import sim.readwrite.SKeyWordDecoder;
+import sim.readwrite.SWriteable;
+import sim.util.SStringUtil;
+
+/**
+ * Classe qui représente un model 3d comprenant des primitives.
+ * @author Simon Vézina
+ * @since 2015-03-16
+ * @version 2017-02-11
+ */
+public class SModel implements SWriteable{
+
+  public static final String DEFAULT_FILE_NAME = "none";  //nom du fichier par défaut étant invalide
+  
+  //Vecteur définissant les matrices de transformation par défaut étant aucune transformation
+  public static final SVector3d DEFAULT_SCALE = new SVector3d(1.0, 1.0, 1.0);
+  public static final SVector3d DEFAULT_ROTATION = new SVector3d(0.0, 0.0, 0.0);
+  public static final SVector3d DEFAULT_TRANSLATION = new SVector3d(0.0, 0.0, 0.0);
+  
+  private final String file_name;                 //nom du fichier du modèle
+  
+  private final SVector3d scale;                  //vecteur d'homothétie
+  private final SVector3d rotation;               //vecteur de rotaion
+  private final SVector3d translation;            //vecteur de rotation
+  
+  /**
+   * La variable 'uv_format' correspond au format d'interprétation des coordonnées uv de texture que l'on doit appliquer
+   * au texture définie dans le modèle afin de bien faire correspondre les coordonnées uv avec les bons texel.
+   */
+  private final int uv_format;
+  
+  private final List<SPrimitive> primitive_list;  //liste des primitives appartenant au modèle
+  
+  /**
+   * La variable 'level_of_detail' correspond aux niveaux de détail du modèle chargé (null s'il n'y en a pas).
+   */
+  private SModelLevelOfDetail level_of_detail;
+  
+  /**
+   * La variable 'level' correspond au niveau de détail utilisé par ce modèle (-1 si le niveau n'a pas encore été choisi).
+   */
+  private int level;
+  
+  /**
+   * Constructeur d'un modèle 3d.
+   * @param file_name - Le nom de du fichier.
+   */
+  public SModel(String file_name)
+  {
+    this(file_name, DEFAULT_SCALE, DEFAULT_ROTATION, DEFAULT_TRANSLATION, STexture.UV_DEFAULT);
+  }
+
+  /**
+   * Constructeur d'un modèle 3d avec matrice de transformation.
+   * @param file_name - Le nom de du fichier.
+   * @param scale - Le vecteur d'homothétie (<i>scale</i>).
+   * @param rotation - Le vecteur de rotation.
+   * @param translation - Le vecteur de rotation.
+   * @param uv_format - Le format d'interprétation des coordonnées uv de texture.
+   * @throws SRuntimeException Si le format d'interprétation des coordonnées de texture uv n'est pas valide.
+   */
+  public SModel(String file_name, SVector3d scale, SVector3d rotation, SVector3d translation, int uv_format) throws SRuntimeException
+  {
+    this.file_name = file_name;
+    
+    this.scale = scale;
+    this.rotation = rotation;
+    this.translation = translation;
+    
+    switch(uv_format)
+    {
+      case STexture.UV_DEFAULT :
+      case STexture.ORIGIN_UV_BOTTOM_LEFT :
+      case STexture.ORIGIN_UV_TOP_LEFT :      this.uv_format = uv_format; break;
+      
+      default : throw new SRuntimeException("Erreur SModel 001 : Le format d'interprétation des coordonnées de texture '" + uv_format + "' n'est pas reconnu par le système.");
+    }
+    
+    primitive_list = new ArrayList<SPrimitive>();
+    
+    level_of_detail = null;
+    level = 0;
+  }
+  
+  /**
+   * Méthode pour obtenir le nom du fichier du modèle.
+   * @return Le nom du fichier du modèle.
+   */
+  public String getFileName()
+  {
+    return file_name;
+  }
+  
+  /**
+   * Méthode pour obtenir le vecteur d'homothétie du modèle.
+   * @return Le vecteur d'homothétie.
+   */
+  public SVector3d getScale()
+  {
+    return scale;
+  }
+  
+  /**
+   * Méthode pour obtenir le vecteur de rotation du modèle.
+   * @return Le vecteur de rotation.
+   */
+  public SVector3d getRotation()
+  {
+    return rotation;
+  }
+  
+  /**
+   * Méthode pour obtenir le vecteur de translation du modèle.
+   * @return Le vecteur de translation.
+   */
+  public SVector3d getTranslation()
+  {
+    return translation;
+  }
+  
+  /**
+   * Méthode pour obtenir le format d'interprétation des coordonnées uv de texture du modèle.
+   * @return Le format d'interprétation des coordonnées uv.
+   */
+  public int getUVFormat()
+  {
+    return uv_format;
+  }
+  
+  /**
+   * Méthode pour obtenir les niveaux de détail du modèle.
+   * @return Les niveaux de détail ou <b>null</b> si le modèle n'en possède pas.
+   */
+  public SModelLevelOfDetail getLevelOfDetail()
+  {
+    return level_of_detail;
+  }
+  
+  /**
+   * Méthode pour obtenir le niveau de détail utilisé par le modèle.
+   * @return Le niveau de détail (-1 si le niveau n'a pas encore été choisi).
+   */
+  public int getLevel()
+  {
+    return level;
+  }
+  
+  /**
+   * Méthode pour affecter les niveaux de détail au modèle ainsi que le niveau utilisé.
+   * @param level_of_detail - Les niveaux de détail.
+   * @param level - Le niveau de détail utilisé (-1 si le niveau n'a pas encore été choisi).
+   */
+  public void setLevelOfDetail(SModelLevelOfDetail level_of_detail, int level)
+  {
+    this.level_of_detail = level_of_detail;
+    this.level = level;
+  }
+  
+  /**
+   * Méthode pour déterminer si un autre modèle a la même définition que ce modèle (même fichier, mêmes transformations 
+   * et même format d'interprétation des coordonnées uv). Deux modèles de même définition contiennent des primitives équivalentes.
+   * @param model - L'autre modèle.
+   * @return <b>true</b> si les deux modèles ont la même définition et <b>false</b> sinon.
+   */
+  public boolean isSameDefinition(SModel model)
+  {
+    return file_name.equals(model.file_name) && scale.equals(model.scale) && rotation.equals(model.rotation) && 
+           translation.equals(model.translation) && uv_format == model.uv_format;
+  }
+  
+  /**
+   * Méthode pour obtenir la liste des primitives appartenant à ce modèle.
+   * @return La liste des primitives du modèle.
+   */
+  public List<SPrimitive> getPrimitiveList()
+  {
+    return primitive_list;
+  }
+  
+  /**
+   * Méthode pour ajouter une primitive au modèle.
+   * @param primitive - La primitive à ajouter au modèle.
+   */
+  public void addPrimitive(SPrimitive primitive)
+  {
+    primitive_list.add(primitive);
+  }
+  
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_MODEL);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    //Écrire les paramètres de la classe SPrimitive
+    writeSModelParameter(bw);
+    
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write("\t#end model" + SStringUtil.END_LINE_CARACTER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  /**
+   * Méthode pour écrire les paramètres associés à la classe SModel.
+   * @param bw - Le BufferedWriter écrivant l'information dans un fichier txt.
+   * @throws IOException S'il y a une erreur d'écriture.
+   * @see IOException
+   */
+  protected void writeSModelParameter(BufferedWriter bw)throws IOException 
+  {
+    bw.write(SKeyWordDecoder.KW_FILE);
+    bw.write("\t\t");
+    bw.write(file_name);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_SCALE);
+    bw.write("\t\t");
+    scale.write(bw);;
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_ROTATION);
+    bw.write("\t");
+    rotation.write(bw);;
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_TRANSLATION);
+    bw.write("\t");
+    translation.write(bw);;
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_UV_FORMAT);
+    bw.write("\t");
+    bw.write(STexture.UV_FORMAT[uv_format]);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+  
+}//fin classe SModel
@@ -0,0 +1,266 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SAbstractGeometry;
+import sim.geometry.SGeometry;
+import sim.geometry.STriangleGeometry;
+import sim.loader.SLoaderException;
+import sim.loader.model.SModelLoader;
+import sim.math.SAffineTransformation;
+import sim.math.SMatrix4x4;
+import sim.math.SVector3d;
+import sim.util.SLog;
+import sim.util.SStringUtil;
+
+/**
+ * <p>
+ * La classe <b>SModelLevelOfDetail</b> représente l'ensemble des niveaux de détail d'un modèle 3d. Le niveau 0 correspond au modèle
+ * complet et chaque niveau suivant est une version simplifiée comprenant moins de triangles.
+ * </p>
+ * <p>
+ * Le niveau utilisé par une instance du modèle est choisi à partir de la taille de sa projection sur l'écran de vue.
+ * Le niveau retenu est le plus grossier dont le nombre de triangles demeure supérieur au nombre de pixels couverts
+ * par la sphère englobante du modèle, car des triangles plus petits qu'un pixel n'ajoutent aucun détail à l'image.
+ * </p>
+ * <p>
+ * Les niveaux qui ne sont utilisés par aucune instance peuvent être retirés de la mémoire (voir {@link #releaseUnusedLevels(Set)}).
+ * Un niveau retiré est reconstruit à partir du fichier du modèle lorsqu'il est de nouveau demandé.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-11
+ * @version 2017-02-14
+ */
+public class SModelLevelOfDetail {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>TRIANGLE_PER_PIXEL</b> correspond au nombre de triangles requis par pixel couvert par la projection du modèle étant égal à {@value}.
+   */
+  public static final double TRIANGLE_PER_PIXEL = 1.0;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>file_name</b> correspond au nom du fichier du modèle permettant de reconstruire les niveaux retirés de la mémoire.
+   */
+  private final String file_name;
+
+  /**
+   * La variable <b>level_list</b> correspond à la liste des modèles de chaque niveau de détail non transformés (niveau 0 = modèle complet).
+   * Un niveau retiré de la mémoire est <b>null</b>.
+   */
+  private final List<SModel> level_list;
+
+  /**
+   * La variable <b>nb_triangle</b> correspond au nombre de primitives de chaque niveau de détail.
+   */
+  private final int[] nb_triangle;
+
+  /**
+   * La variable <b>center</b> correspond au centre de la sphère englobante du modèle non transformé.
+   */
+  private final SVector3d center;
+
+  /**
+   * La variable <b>ray</b> correspond au rayon de la sphère englobante du modèle non transformé.
+   */
+  private final double ray;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur des niveaux de détail d'un modèle.
+   *
+   * @param model Le modèle complet (niveau 0).
+   * @param simplified_list La liste des modèles simplifiés du plus détaillé au plus grossier.
+   */
+  public SModelLevelOfDetail(SModel model, List<SModel> simplified_list)
+  {
+    file_name = model.getFileName();
+
+    level_list = new ArrayList<SModel>();
+    level_list.add(model);
+    level_list.addAll(simplified_list);
+
+    nb_triangle = new int[level_list.size()];
+
+    for(int i = 0; i < nb_triangle.length; i++)
+      nb_triangle[i] = level_list.get(i).getPrimitiveList().size();
+
+    // Sphère englobante : centre de la boîte englobante des sommets des triangles
+    List<SVector3d> point_list = new ArrayList<SVector3d>();
+
+    for(SPrimitive p : model.getPrimitiveList())
+    {
+      SGeometry geometry = p.getGeometry();
+
+      if(geometry.getCodeName() == SAbstractGeometry.TRIANGLE_CODE || geometry.getCodeName() == SAbstractGeometry.BTRIANGLE_CODE)
+      {
+        STriangleGeometry triangle = (STriangleGeometry)geometry;
+
+        point_list.add(triangle.getP0());
+        point_list.add(triangle.getP1());
+        point_list.add(triangle.getP2());
+      }
+    }
+
+    if(point_list.isEmpty())
+    {
+      center = SVector3d.ZERO;
+      ray = Double.POSITIVE_INFINITY;
+    }
+    else
+    {
+      center = SVector3d.findMinValue(point_list).add(SVector3d.findMaxValue(point_list)).multiply(0.5);
+
+      double max = 0.0;
+
+      for(SVector3d v : point_list)
+        max = Math.max(max, v.substract(center).modulus());
+
+      ray = max;
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de niveaux de détail (incluant le modèle complet).
+   *
+   * @return Le nombre de niveaux.
+   */
+  public int getNbLevel()
+  {
+    return level_list.size();
+  }
+
+  /**
+   * Méthode pour obtenir le modèle non transformé d'un niveau de détail. Si le niveau a été retiré de la mémoire,
+   * les niveaux retirés sont reconstruits à partir du fichier du modèle.
+   *
+   * @param level Le niveau de détail.
+   * @return Le modèle.
+   * @throws SRuntimeException Si le niveau n'existe pas ou s'il ne peut pas être reconstruit.
+   */
+  public synchronized SModel getLevel(int level) throws SRuntimeException
+  {
+    if(level < 0 || level >= level_list.size())
+      throw new SRuntimeException("Erreur SModelLevelOfDetail 001 : Le niveau de détail '" + level + "' n'existe pas.");
+
+    if(level_list.get(level) == null)
+      reloadLevels();
+
+    return level_list.get(level);
+  }
+
+  /**
+   * Méthode pour déterminer si un niveau de détail est présent en mémoire.
+   *
+   * @param level Le niveau de détail.
+   * @return <b>true</b> si le niveau est en mémoire et <b>false</b> s'il a été retiré.
+   */
+  public synchronized boolean isLoaded(int level)
+  {
+    return level_list.get(level) != null;
+  }
+
+  /**
+   * Méthode pour retirer de la mémoire les niveaux de détail qui ne sont pas utilisés. Les primitives d'un niveau retiré
+   * demeurent disponibles pour les modèles transformés qui les utilisent déjà.
+   *
+   * @param used_level_set L'ensemble des niveaux utilisés devant demeurer en mémoire.
+   */
+  public synchronized void releaseUnusedLevels(Set<Integer> used_level_set)
+  {
+    for(int i = 0; i < level_list.size(); i++)
+      if(!used_level_set.contains(i))
+        level_list.set(i, null);
+  }
+
+  /**
+   * Méthode pour reconstruire les niveaux de détail retirés de la mémoire à partir du fichier du modèle.
+   * La simplification étant déterministe, les niveaux reconstruits sont identiques aux niveaux retirés.
+   *
+   * @throws SRuntimeException Si le modèle ne peut pas être relu ou si ses niveaux de détail ont changé.
+   */
+  private void reloadLevels() throws SRuntimeException
+  {
+    SLog.logWriteLine("Message SModelLevelOfDetail : Reconstruction des niveaux de détail du modèle '" + file_name + "'.");
+
+    SModelLevelOfDetail reloaded;
+
+    try{
+      reloaded = new SModelLoader().loadModel(file_name).getLevelOfDetail();
+    }catch(SLoaderException e){
+      throw new SRuntimeException("Erreur SModelLevelOfDetail 002 : Les niveaux de détail du modèle '" + file_name + "' ne peuvent pas être reconstruits." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+
+    if(reloaded == null || !Arrays.equals(nb_triangle, reloaded.nb_triangle))
+      throw new SRuntimeException("Erreur SModelLevelOfDetail 003 : Les niveaux de détail du modèle '" + file_name + "' ont changé depuis sa lecture.");
+
+    for(int i = 0; i < level_list.size(); i++)
+      if(level_list.get(i) == null)
+        level_list.set(i, reloaded.level_list.get(i));
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de primitives d'un niveau de détail.
+   *
+   * @param level Le niveau de détail.
+   * @return Le nombre de primitives.
+   */
+  public int getNbTriangle(int level)
+  {
+    return nb_triangle[level];
+  }
+
+  /**
+   * Méthode pour choisir le niveau de détail d'une instance du modèle selon la taille de sa projection sur l'écran de vue.
+   *
+   * @param view_frustum La pyramide de vue de la caméra.
+   * @param definition La définition de l'instance (transformations appliquées au modèle).
+   * @return Le niveau de détail choisi.
+   */
+  public int selectLevel(SViewFrustum view_frustum, SModel definition)
+  {
+    if(level_list.size() == 1 || Double.isInfinite(ray))
+      return 0;
+
+    // Sphère englobante de l'instance
+    SMatrix4x4 mat = SMatrix4x4.TrRzyxSc(definition.getTranslation(), definition.getRotation(), definition.getScale());
+
+    SVector3d transformed_center = SAffineTransformation.transformPosition(mat, center);
+
+    SVector3d scale = definition.getScale();
+    double transformed_ray = ray * Math.max(Math.abs(scale.getX()), Math.max(Math.abs(scale.getY()), Math.abs(scale.getZ())));
+
+    double size = view_frustum.getProjectedSize(transformed_center, transformed_ray);
+    double required = size*size*TRIANGLE_PER_PIXEL;
+
+    // Le niveau le plus grossier ayant suffisamment de triangles
+    for(int i = level_list.size() - 1; i > 0; i--)
+      if(nb_triangle[i] >= required)
+        return i;
+
+    return 0;
+  }
+
+}//fin de la classe SModelLevelOfDetail
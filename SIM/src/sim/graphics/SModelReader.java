@@ -1,375 +1,595 @@
-/**
- * 
- */
-package sim.graphics;
-
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import sim.exception.SConstructorException;
-import sim.exception.SRuntimeException;
-import sim.geometry.SAbstractGeometry;
-import sim.geometry.SBTriangleGeometry;
-import sim.geometry.SGeometry;
-import sim.geometry.STransformableGeometry;
-import sim.geometry.STriangleGeometry;
-import sim.graphics.material.SMaterial;
-import sim.graphics.material.STextureMaterial;
-import sim.loader.SLoaderException;
-import sim.loader.model.SModelLoader;
-import sim.math.SImpossibleNormalizationException;
-import sim.math.SAffineTransformation;
-import sim.math.SMatrix4x4;
-import sim.math.SVector3d;
-import sim.readwrite.SAbstractReadable;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SInitializationException;
-import sim.util.SLog;
-import sim.util.SReader;
-import sim.util.SReadingException;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SModelReader</b> reprsente un lecteur de modle 3d. L'objectif
- * de ce lecteur sera la lecture des proprits du modle dans le fichier de
- * scne comme le nom du fichier principalement.
- * 
- * @author Simon Vzina
- * @since 2015-07-22
- * @version 2017-12-20 (version labo  Le ray tracer v2.1)
- */
-public class SModelReader extends SAbstractReadable implements SReader {
-
-	// --------------
-	// CONSTANTES //
-	// --------------
-
-	/**
-	 * La constante <b>KEYWORD_PARAMETER</b> correspond  un tableau contenant
-	 * l'ensemble des mots cls  utiliser reconnus lors de la dfinition de l'objet
-	 * par une lecture en fichier.
-	 */
-	private static final String[] KEYWORD_PARAMETER = { SKeyWordDecoder.KW_FILE, SKeyWordDecoder.KW_SCALE,
-			SKeyWordDecoder.KW_ROTATION, SKeyWordDecoder.KW_TRANSLATION, SKeyWordDecoder.KW_UV_FORMAT };
-
-	/**
-	 * La constante <b>DEFAULT_MODEL</b> correspond au modle par dfaut tant
-	 * inexistant. Sa valeur est alors <b>null</b>.
-	 */
-	private static final SModel DEFAULT_MODEL = null; // modle par dfaut tant non charg
-
-	// -------------
-	// VARIABLES //
-	// -------------
-
-	/**
-	 * La variable <b>model_map</b> correspond  la carte des modles dj lu et
-	 * charg en mmoire. On peut ainsi les rutiliser et leur appliquer de
-	 * nouvelles transformation pour les visualiser diffremment. La <b>cl de
-	 * recherche</b> est le <b>nom du fichier</b>.
-	 */
-	private static final Map<String, SModel> model_map = new HashMap<String, SModel>();
-
-	/**
-	 * La variable <b>file_name</b> correspond au nom du fichier comprenant les
-	 * informations dfinissant le modle.
-	 */
-	private String file_name;
-
-	/**
-	 * La variable <b>scale</b> correspond au vecteur comprenant les informations de
-	 * la transformation d'homthtie (<i>scale</i>).
-	 */
-	private SVector3d scale;
-
-	/**
-	 * La variable <b>rotation</b> correspond au vecteur comprenant les informations
-	 * de la transformation de rotation.
-	 */
-	private SVector3d rotation;
-
-	/**
-	 * La variable <b>translation</b> correspond au vecteur comprenant les
-	 * informations de la transformation de translation.
-	 */
-	private SVector3d translation;
-
-	/**
-	 * La variable <b>uv_format</b> correspond au code d'interprtation des
-	 * coordonnes uv que l'on doit appliquer au texture afin que chaque coordonne
-	 * uv corresponde au bon texel des textures.
-	 */
-	private int uv_format;
-
-	/**
-	 * La variable <b>model</b> correspond au modle lu par le lecteur.
-	 */
-	SModel model;
-
-	/**
-	 * La varaible <b>is_read</b> dtermine si un modle a t lu avec succs par le
-	 * lecteur.
-	 */
-	boolean is_read;
-
-	// -----------------
-	// CONSTRUCTEURS //
-	// -----------------
-
-	/**
-	 * Constructeur d'un lecteur de modle par dfaut.
-	 */
-	public SModelReader() {
-		file_name = SModel.DEFAULT_FILE_NAME;
-
-		scale = SModel.DEFAULT_SCALE;
-		rotation = SModel.DEFAULT_ROTATION;
-		translation = SModel.DEFAULT_TRANSLATION;
-
-		uv_format = STexture.UV_DEFAULT;
-
-		model = DEFAULT_MODEL;
-		is_read = false;
-	}
-
-	/**
-	 * Constructeur d'un constructeur de gomtrie  partir d'information lue dans
-	 * un fichier de format txt.
-	 * 
-	 * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
-	 * @throws IOException           Si une erreur de l'objet SBufferedWriter est
-	 *                               lance.
-	 * @throws SConstructorException Si une erreur est survenue lors de la
-	 *                               construction.
-	 */
-	public SModelReader(SBufferedReader sbr) throws IOException, SConstructorException {
-		this();
-
-		try {
-			read(sbr);
-		} catch (SInitializationException e) {
-			throw new SConstructorException("Erreur SModelReader 001 : Une erreur d'initialisation est survenue."
-					+ SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-		}
-	}
-
-	@Override
-	public SModel getValue() throws SRuntimeException {
-		if (is_read)
-			return model;
-		else
-			throw new SRuntimeException("Erreur SModelReader 002 : Le modle '" + file_name + "' n'a pas t lu.");
-	}
-
-	@Override
-	public boolean asRead() {
-		return is_read;
-	}
-
-	/**
-	 * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-	 * 
-	 * @throws SInitializationException Si une erreur est survenue lors de
-	 *                                  l'initialisation.
-	 */
-	private void initialize() throws SInitializationException {
-		try {
-
-			// Vrifier si le modle a dj t lu
-			if (model_map.containsKey(file_name))
-				model = model_map.get(file_name);
-			else {
-				SModelLoader model_loader = new SModelLoader();
-
-				SLog.logWriteLine("Message SModelReader : Lecture du modle '" + file_name + "'.");
-
-				model = model_loader.loadModel(file_name); // lecture du modle (exception lance s'il y a eu erreur)
-
-				model_map.put(file_name, model); // mettre le modle lu dans la carte des modles
-			}
-
-			// Excuter la transformation du modle par la construction d'un nouveau
-			model = transformModel(model);
-
-			is_read = true;
-
-		} catch (SLoaderException e) {
-			SLog.logWriteLine("Erreur SModelReader 003 : Le chargement du modle '" + file_name + "' est impossible. "
-					+ SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
-		}
-
-	}
-
-	@Override
-	protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException {
-		// Lecture des diffrentes gomtrie reconnues par le lecteur
-		switch (code) {
-		case SKeyWordDecoder.CODE_FILE:
-			file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_FILE);
-			return true;
-
-		case SKeyWordDecoder.CODE_SCALE:
-			scale = new SVector3d(remaining_line);
-			return true;
-
-		case SKeyWordDecoder.CODE_ROTATION:
-			rotation = new SVector3d(remaining_line);
-			return true;
-
-		case SKeyWordDecoder.CODE_TRANSLATION:
-			translation = new SVector3d(remaining_line);
-			return true;
-
-		case SKeyWordDecoder.CODE_UV_FORMAT:
-			uv_format = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_UV_FORMAT, STexture.UV_FORMAT);
-			return true;
-
-		default:
-			return false;
-		}
-	}
-
-	/**
-	 * Mthode pour transformer l'intgralit des gomtries contenues dans le
-	 * modle en fonction des matrices de transformation. Un nouveau modle avec
-	 * l'applications des matrices de transformation sera gnr.
-	 * 
-	 * @param model Le modle  transformer.
-	 * @return Un nouveau modle o l'application des matrices de transformation a
-	 *         t ralise.
-	 */
-	private SModel transformModel(SModel model) {
-		// Construction d'un nouveau modle
-		SModel transformed_model = new SModel(file_name, scale, rotation, translation, uv_format);
-
-		// Obtenir la liste des primitives du modle
-		List<SPrimitive> list = model.getPrimitiveList();
-
-		// Paramtre dterminant si une transformation de la gomtrie de la primitive
-		// est ncessaire
-		boolean transformation_required = !(scale.equals(SModel.DEFAULT_SCALE)
-				&& rotation.equals(SModel.DEFAULT_ROTATION) && translation.equals(SModel.DEFAULT_TRANSLATION));
-
-		if (!transformation_required)
-			SLog.logWriteLine("Message SModelReader : Le modle " + file_name + " sera charg sans transformation.");
-
-		// Gomtrie en erreur de transformation
-		int geometry_error = 0;
-
-		// Itrer sur l'ensemble des gomtries
-		for (SPrimitive p : list) {
-			SGeometry geometry; // la primitive transforme  ajouter  la liste
-			SMaterial material = p.getMaterial(); // le matriel de la gomtrie
-
-			// Modification des gomtries en fonction du type qu'elle est
-			// Des erreurs sont possibles si la transformation est impossible.
-			// Par exemple : Un modle peut tre mal dfini pour certains triangles.
-			try {
-
-				// Vrifier si la transformation de la gomtrie est ncessaire.
-				if (transformation_required) {
-					switch (p.getGeometry().getCodeName()) {
-					case SAbstractGeometry.TRIANGLE_CODE:
-						geometry = transformTriangleGeometry((STriangleGeometry) p.getGeometry());
-						break;
-
-					case SAbstractGeometry.BTRIANGLE_CODE:
-						geometry = transformBTriangleGeometry((SBTriangleGeometry) p.getGeometry());
-						break;
-
-					default:
-						geometry = new STransformableGeometry(p.getGeometry(), scale, rotation, translation);
-						break;
-					}
-				} else
-					geometry = p.getGeometry(); // gomtrie non transforme
-
-				// Modifier le format d'interprtation des coordonnes uv de texture pour un
-				// matriel avec texture.
-				// Cependant, plusieurs instance du modle peuvent tre construite.
-				// Une seule interprtation des coordonne uv sera possible. Ce sera la premire
-				// dfinition qui sera retenue.
-				if (material.asTexture()) {
-					STextureMaterial texture_material = (STextureMaterial) material;
-
-					if (!texture_material.isUVFormatSelected())
-						texture_material.setUVFormat(uv_format);
-				}
-
-				// Ajouter la nouvelle gomtrie dans une nouvelle primitive et l'injecter dans
-				// le modle.
-				if (transformation_required)
-					transformed_model.addPrimitive(new SPrimitive(geometry, material));
-				else
-					transformed_model.addPrimitive(p); // remettre l'ancienne primitive dans la nouveau modle
-
-			} catch (SConstructorException e) {
-				// S'il y a des gomtries en erreur de construction aprs l'application des
-				// transformations
-				geometry_error++;
-			} catch (SImpossibleNormalizationException e) {
-				geometry_error++;
-			}
-		} // fin for
-
-		// Afficher un message sur le nombre de gomtrie en erreur de transformation
-		if (geometry_error > 0)
-			SLog.logWriteLine("Message SModelReader : Il y a '" + geometry_error
-					+ "' gomtries en erreur de transformation. Ils ne seront pas disponibles pour l'affichage.");
-
-		return transformed_model;
-	}
-
-	/**
-	 * Mthode pour faire la transformation d'un STriangleGeometry dans l'espace
-	 * unitaire vers l'espace transform  partir des vecteurs de transformation lus
-	 * par le lecteur.
-	 * 
-	 * @param triangle Le triangle  transform
-	 * @return La gomtrie d'un triangle transform.
-	 */
-	private SGeometry transformTriangleGeometry(STriangleGeometry triangle) {
-
-		SMatrix4x4 mat = SMatrix4x4.TrRzyxSc(translation, rotation, scale);
-		STriangleGeometry res = new STriangleGeometry(SAffineTransformation.transformPosition(mat, triangle.getP0()),
-				SAffineTransformation.transformPosition(mat, triangle.getP1()),
-				SAffineTransformation.transformPosition(mat, triangle.getP2()));
-		// Version sans transformation des points du triangles
-		return res;
-	}
-
-	/**
-	 * Mthode pour faire la transformation d'un SBTriangleGeometry dans l'espace
-	 * unitaire vers l'espace transform  partir des vecteurs de transformation lus
-	 * par le lecteur.
-	 * 
-	 * @param triangle Le triangle  transform.
-	 * @return La gomtrie d'un triangle barycentrique transform.
-	 */
-	private SGeometry transformBTriangleGeometry(SBTriangleGeometry triangle) {
-		// Version sans transformation des triangles barycentriques
-		return new SBTriangleGeometry(triangle.getP0(), triangle.getP1(), triangle.getP2(), triangle.getN0(),
-				triangle.getN1(), triangle.getN2(), triangle.getUV0(), triangle.getUV1(), triangle.getUV2());
-	}
-
-	@Override
-	protected void readingInitialization() throws SInitializationException {
-		initialize();
-	}
-
-	@Override
-	public String getReadableName() {
-		return SKeyWordDecoder.KW_MODEL;
-	}
-
-	@Override
-	public String[] getReadableParameterName() {
-		String[] other_parameters = super.getReadableParameterName();
-
-		return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
-	}
-
-}// fin de la classe SModelReader
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.geometry.SAbstractGeometry;
+import sim.geometry.SBTriangleGeometry;
+import sim.geometry.SGeometry;
+import sim.geometry.STransformableGeometry;
+import sim.geometry.STriangleGeometry;
+import sim.graphics.material.SMaterial;
+import sim.graphics.material.STextureMaterial;
+import sim.loader.SLoaderException;
+import sim.loader.model.SModelLoader;
+import sim.math.SImpossibleNormalizationException;
+import sim.math.SAffineTransformation;
+import sim.math.SMatrix4x4;
+import sim.math.SVector3d;
+import sim.readwrite.SAbstractReadable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SLog;
+import sim.util.SReader;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SModelReader</b> représente un lecteur de modèle 3d. L'objectif
+ * de ce lecteur sera la lecture des propriétés du modèle dans le fichier de
+ * scène comme le nom du fichier principalement.
+ * 
+ * @author Simon Vézina
+ * @since 2015-07-22
+ * @version 2017-12-20 (version labo  Le ray tracer v2.1)
+ */
+public class SModelReader extends SAbstractReadable implements SReader {
+
+	// --------------
+	// CONSTANTES //
+	// --------------
+
+	/**
+	 * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant
+	 * l'ensemble des mots clés à utiliser reconnus lors de la définition de l'objet
+	 * par une lecture en fichier.
+	 */
+	private static final String[] KEYWORD_PARAMETER = { SKeyWordDecoder.KW_FILE, SKeyWordDecoder.KW_SCALE,
+			SKeyWordDecoder.KW_ROTATION, SKeyWordDecoder.KW_TRANSLATION, SKeyWordDecoder.KW_UV_FORMAT };
+
+	/**
+	 * La constante <b>DEFAULT_MODEL</b> correspond au modèle par défaut étant
+	 * inexistant. Sa valeur est alors <b>null</b>.
+	 */
+	private static final SModel DEFAULT_MODEL = null; // modèle par défaut étant non chargé
+
+	// -------------
+	// VARIABLES //
+	// -------------
+
+	/**
+	 * La variable <b>model_map</b> correspond à la carte des modèles déjà lu et
+	 * chargé en mémoire. On peut ainsi les réutiliser et leur appliquer de
+	 * nouvelles transformation pour les visualiser différemment. La <b>clé de
+	 * recherche</b> est le <b>nom du fichier</b>. Pour un modèle ayant des niveaux
+	 * de détail, la carte ne conserve qu'un modèle sans primitive donnant accès aux
+	 * niveaux de détail afin que les niveaux inutilisés puissent être retirés de la
+	 * mémoire (voir {@link SModelLevelOfDetail#releaseUnusedLevels(java.util.Set)}).
+	 */
+	private static final Map<String, SModel> model_map = new HashMap<String, SModel>();
+
+	/**
+	 * La variable <b>file_name</b> correspond au nom du fichier comprenant les
+	 * informations définissant le modèle.
+	 */
+	private String file_name;
+
+	/**
+	 * La variable <b>scale</b> correspond au vecteur comprenant les informations de
+	 * la transformation d'hométhétie (<i>scale</i>).
+	 */
+	private SVector3d scale;
+
+	/**
+	 * La variable <b>rotation</b> correspond au vecteur comprenant les informations
+	 * de la transformation de rotation.
+	 */
+	private SVector3d rotation;
+
+	/**
+	 * La variable <b>translation</b> correspond au vecteur comprenant les
+	 * informations de la transformation de translation.
+	 */
+	private SVector3d translation;
+
+	/**
+	 * La variable <b>uv_format</b> correspond au code d'interprétation des
+	 * coordonnées uv que l'on doit appliquer au texture afin que chaque coordonnée
+	 * uv corresponde au bon texel des textures.
+	 */
+	private int uv_format;
+
+	/**
+	 * La variable <b>model</b> correspond au modèle lu par le lecteur.
+	 */
+	SModel model;
+
+	/**
+	 * La variable <b>reusable_model_list</b> correspond à la liste des modèles déjà
+	 * transformés lors d'une lecture précédente de la scène (rechargement à chaud).
+	 * Un modèle de cette liste ayant la même définition que le modèle lu sera
+	 * réutilisé sans refaire sa transformation.
+	 */
+	private List<SModel> reusable_model_list;
+
+	/**
+	 * La variable <b>level_of_detail</b> détermine si le choix du niveau de détail
+	 * du modèle est reporté à l'initialisation de la scène. Le modèle lu est alors
+	 * en attente (sans primitive) jusqu'à l'appel de la méthode
+	 * {@link #resolveLevelOfDetail(SModel, SViewFrustum)}.
+	 */
+	private boolean level_of_detail;
+
+	/**
+	 * La varaible <b>is_read</b> détermine si un modèle a été lu avec succès par le
+	 * lecteur.
+	 */
+	boolean is_read;
+
+	// -----------------
+	// CONSTRUCTEURS //
+	// -----------------
+
+	/**
+	 * Constructeur d'un lecteur de modèle par défaut.
+	 */
+	public SModelReader() {
+		file_name = SModel.DEFAULT_FILE_NAME;
+
+		scale = SModel.DEFAULT_SCALE;
+		rotation = SModel.DEFAULT_ROTATION;
+		translation = SModel.DEFAULT_TRANSLATION;
+
+		uv_format = STexture.UV_DEFAULT;
+
+		model = DEFAULT_MODEL;
+		is_read = false;
+
+		reusable_model_list = new ArrayList<SModel>();
+
+		level_of_detail = false;
+	}
+
+	/**
+	 * Constructeur d'un constructeur de géométrie à partir d'information lue dans
+	 * un fichier de format txt.
+	 * 
+	 * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
+	 * @throws IOException           Si une erreur de l'objet SBufferedWriter est
+	 *                               lancée.
+	 * @throws SConstructorException Si une erreur est survenue lors de la
+	 *                               construction.
+	 */
+	public SModelReader(SBufferedReader sbr) throws IOException, SConstructorException {
+		this(sbr, new ArrayList<SModel>());
+	}
+
+	/**
+	 * Constructeur d'un lecteur de modèle à partir d'information lue dans un
+	 * fichier de format txt pouvant réutiliser un modèle déjà transformé lors d'une
+	 * lecture précédente de la scène.
+	 * 
+	 * @param sbr                 - Le BufferedReader cherchant l'information dans
+	 *                            le fichier txt.
+	 * @param reusable_model_list - La liste des modèles réutilisables. Un modèle
+	 *                            réutilisé sera retiré de la liste.
+	 * @throws IOException           Si une erreur de l'objet SBufferedWriter est
+	 *                               lancée.
+	 * @throws SConstructorException Si une erreur est survenue lors de la
+	 *                               construction.
+	 */
+	public SModelReader(SBufferedReader sbr, List<SModel> reusable_model_list)
+			throws IOException, SConstructorException {
+		this(sbr, reusable_model_list, false);
+	}
+
+	/**
+	 * Constructeur d'un lecteur de modèle à partir d'information lue dans un
+	 * fichier de format txt pouvant reporter le choix du niveau de détail du modèle
+	 * à l'initialisation de la scène.
+	 * 
+	 * @param sbr                 - Le BufferedReader cherchant l'information dans
+	 *                            le fichier txt.
+	 * @param reusable_model_list - La liste des modèles réutilisables. Un modèle
+	 *                            réutilisé sera retiré de la liste.
+	 * @param level_of_detail     - Détermine si le choix du niveau de détail est
+	 *                            reporté.
+	 * @throws IOException           Si une erreur de l'objet SBufferedWriter est
+	 *                               lancée.
+	 * @throws SConstructorException Si une erreur est survenue lors de la
+	 *                               construction.
+	 * @see #resolveLevelOfDetail(SModel, SViewFrustum)
+	 */
+	public SModelReader(SBufferedReader sbr, List<SModel> reusable_model_list, boolean level_of_detail)
+			throws IOException, SConstructorException {
+		this();
+
+		this.reusable_model_list = reusable_model_list;
+		this.level_of_detail = level_of_detail;
+
+		try {
+			read(sbr);
+		} catch (SInitializationException e) {
+			throw new SConstructorException("Erreur SModelReader 001 : Une erreur d'initialisation est survenue."
+					+ SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public SModel getValue() throws SRuntimeException {
+		if (is_read)
+			return model;
+		else
+			throw new SRuntimeException("Erreur SModelReader 002 : Le modèle '" + file_name + "' n'a pas été lu.");
+	}
+
+	@Override
+	public boolean asRead() {
+		return is_read;
+	}
+
+	/**
+	 * Méthode pour faire l'initialisation de l'objet après sa construction.
+	 * 
+	 * @throws SInitializationException Si une erreur est survenue lors de
+	 *                                  l'initialisation.
+	 */
+	private void initialize() throws SInitializationException {
+		// Vérifier si un modèle de même définition a déjà été transformé lors d'une
+		// lecture précédente de la scène
+		SModel reusable_model = findReusableModel();
+
+		if (reusable_model != null) {
+			SLog.logWriteLine("Message SModelReader : Le modèle '" + file_name + "' est réutilisé sans transformation.");
+
+			model = reusable_model;
+			is_read = true;
+			return;
+		}
+
+		try {
+
+			// Vérifier si le modèle a déjà été lu
+			if (model_map.containsKey(file_name))
+				model = model_map.get(file_name);
+			else {
+				SModelLoader model_loader = new SModelLoader();
+
+				SLog.logWriteLine("Message SModelReader : Lecture du modèle '" + file_name + "'.");
+
+				model = model_loader.loadModel(file_name); // lecture du modèle (exception lancée s'il y a eu erreur)
+
+				// Conserver uniquement l'accès aux niveaux de détail (le modèle complet est le niveau 0)
+				if (model.getLevelOfDetail() != null) {
+					SModel handle = new SModel(file_name);
+					handle.setLevelOfDetail(model.getLevelOfDetail(), 0);
+					model = handle;
+				}
+
+				model_map.put(file_name, model); // mettre le modèle lu dans la carte des modèles
+			}
+
+			SModel definition = new SModel(file_name, scale, rotation, translation, uv_format);
+			SModelLevelOfDetail lod = model.getLevelOfDetail();
+
+			// Reporter la transformation si le niveau de détail sera choisi à
+			// l'initialisation de la scène
+			if (level_of_detail && lod != null) {
+				definition.setLevelOfDetail(lod, -1);
+				model = definition;
+			} else
+				// Exécuter la transformation du modèle complet par la construction d'un nouveau
+				model = transformModel(lod != null ? lod.getLevel(0) : model, definition);
+
+			is_read = true;
+
+		} catch (SLoaderException e) {
+			SLog.logWriteLine("Erreur SModelReader 003 : Le chargement du modèle '" + file_name + "' est impossible. "
+					+ SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage());
+		}
+
+	}
+
+	/**
+	 * Méthode pour trouver dans la liste des modèles réutilisables un modèle ayant
+	 * la même définition (fichier et transformations) que le modèle lu. Le modèle
+	 * trouvé est retiré de la liste afin de ne pas être réutilisé deux fois.
+	 * 
+	 * @return Le modèle réutilisable ou <b>null</b> s'il n'y en a pas.
+	 */
+	private SModel findReusableModel() {
+		if (reusable_model_list.isEmpty())
+			return null;
+
+		SModel definition = new SModel(file_name, scale, rotation, translation, uv_format);
+
+		for (SModel m : reusable_model_list)
+			if (m.isSameDefinition(definition)) {
+				reusable_model_list.remove(m);
+				return m;
+			}
+
+		return null;
+	}
+
+	/**
+	 * Méthode pour obtenir la liste des noms de fichier des modèles déjà chargés en
+	 * mémoire.
+	 * 
+	 * @return La liste des noms de fichier.
+	 */
+	public static List<String> getLoadedFileNameList() {
+		return new ArrayList<String>(model_map.keySet());
+	}
+
+	/**
+	 * Méthode pour retirer de la mémoire un modèle déjà chargé. Le modèle sera
+	 * relu à partir de son fichier lors de sa prochaine lecture. Cette méthode est
+	 * utilisée lorsque le fichier du modèle a été modifié.
+	 * 
+	 * @param file_name - Le nom du fichier du modèle.
+	 */
+	public static void removeLoadedFile(String file_name) {
+		model_map.remove(file_name);
+	}
+
+	/**
+	 * Méthode pour choisir le niveau de détail d'un modèle lu selon la taille de sa
+	 * projection dans la pyramide de vue. Un nouveau modèle transformé est construit
+	 * si le niveau choisi n'est pas celui du modèle (ou si le modèle est en attente).
+	 * 
+	 * @param model        - Le modèle lu.
+	 * @param view_frustum - La pyramide de vue de la caméra.
+	 * @return Le modèle au niveau de détail choisi.
+	 */
+	public static SModel resolveLevelOfDetail(SModel model, SViewFrustum view_frustum) {
+		List<SViewFrustum> view_frustum_list = new ArrayList<SViewFrustum>();
+		view_frustum_list.add(view_frustum);
+
+		return resolveLevelOfDetail(model, view_frustum_list);
+	}
+
+	/**
+	 * Méthode pour choisir le niveau de détail d'un modèle lu visible par plusieurs
+	 * caméras (ex. les images d'une animation ou les vues d'une scène). Le niveau
+	 * retenu est le plus détaillé des niveaux choisis pour chaque pyramide de vue
+	 * afin que le modèle soit suffisamment détaillé pour chacune d'elles.
+	 * 
+	 * @param model             - Le modèle lu.
+	 * @param view_frustum_list - Les pyramides de vue des caméras.
+	 * @return Le modèle au niveau de détail choisi.
+	 */
+	public static SModel resolveLevelOfDetail(SModel model, List<SViewFrustum> view_frustum_list) {
+		SModelLevelOfDetail level_of_detail = model.getLevelOfDetail();
+
+		if (level_of_detail == null)
+			return model;
+
+		int level = level_of_detail.getNbLevel() - 1;
+
+		for (SViewFrustum view_frustum : view_frustum_list)
+			level = Math.min(level, level_of_detail.selectLevel(view_frustum, model));
+
+		return resolveLevelOfDetail(model, level);
+	}
+
+	/**
+	 * Méthode pour obtenir un modèle lu à un niveau de détail donné. Un nouveau
+	 * modèle transformé est construit si le niveau n'est pas celui du modèle (ou si
+	 * le modèle est en attente).
+	 * 
+	 * @param model - Le modèle lu.
+	 * @param level - Le niveau de détail.
+	 * @return Le modèle au niveau de détail demandé.
+	 * @throws SRuntimeException Si le modèle n'a pas de niveaux de détail ou si le
+	 *                           niveau n'existe pas.
+	 */
+	public static SModel resolveLevelOfDetail(SModel model, int level) throws SRuntimeException {
+		SModelLevelOfDetail level_of_detail = model.getLevelOfDetail();
+
+		if (level_of_detail == null)
+			throw new SRuntimeException("Erreur SModelReader 004 : Le modèle '" + model.getFileName() + "' n'a pas de niveaux de détail.");
+
+		if (level == model.getLevel())
+			return model;
+
+		if (level > 0)
+			SLog.logWriteLine("Message SModelReader : Le modèle '" + model.getFileName() + "' utilise le niveau de détail "
+					+ level + " (" + level_of_detail.getNbTriangle(level) + " primitives).");
+
+		SModel resolved_model = transformModel(level_of_detail.getLevel(level), model);
+		resolved_model.setLevelOfDetail(level_of_detail, level);
+
+		return resolved_model;
+	}
+
+	@Override
+	protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException {
+		// Lecture des différentes géométrie reconnues par le lecteur
+		switch (code) {
+		case SKeyWordDecoder.CODE_FILE:
+			file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_FILE);
+			return true;
+
+		case SKeyWordDecoder.CODE_SCALE:
+			scale = new SVector3d(remaining_line);
+			return true;
+
+		case SKeyWordDecoder.CODE_ROTATION:
+			rotation = new SVector3d(remaining_line);
+			return true;
+
+		case SKeyWordDecoder.CODE_TRANSLATION:
+			translation = new SVector3d(remaining_line);
+			return true;
+
+		case SKeyWordDecoder.CODE_UV_FORMAT:
+			uv_format = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_UV_FORMAT, STexture.UV_FORMAT);
+			return true;
+
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Méthode pour transformer l'intégralité des géométries contenues dans le
+	 * modèle en fonction des matrices de transformation. Un nouveau modèle avec
+	 * l'applications des matrices de transformation sera généré.
+	 * 
+	 * @param model      Le modèle à transformer.
+	 * @param definition La définition du modèle (fichier, transformations et
+	 *                   format des coordonnées uv).
+	 * @return Un nouveau modèle où l'application des matrices de transformation a
+	 *         été réalisée.
+	 */
+	private static SModel transformModel(SModel model, SModel definition) {
+		String file_name = definition.getFileName();
+		SVector3d scale = definition.getScale();
+		SVector3d rotation = definition.getRotation();
+		SVector3d translation = definition.getTranslation();
+		int uv_format = definition.getUVFormat();
+
+		// Construction d'un nouveau modèle
+		SModel transformed_model = new SModel(file_name, scale, rotation, translation, uv_format);
+
+		// Matrice de transformation des triangles
+		SMatrix4x4 mat = SMatrix4x4.TrRzyxSc(translation, rotation, scale);
+
+		// Obtenir la liste des primitives du modèle
+		List<SPrimitive> list = model.getPrimitiveList();
+
+		// Paramètre déterminant si une transformation de la géométrie de la primitive
+		// est nécessaire
+		boolean transformation_required = !(scale.equals(SModel.DEFAULT_SCALE)
+				&& rotation.equals(SModel.DEFAULT_ROTATION) && translation.equals(SModel.DEFAULT_TRANSLATION));
+
+		if (!transformation_required)
+			SLog.logWriteLine("Message SModelReader : Le modèle " + file_name + " sera chargé sans transformation.");
+
+		// Géométrie en erreur de transformation
+		int geometry_error = 0;
+
+		// Itérer sur l'ensemble des géométries
+		for (SPrimitive p : list) {
+			SGeometry geometry; // la primitive transformée à ajouter à la liste
+			SMaterial material = p.getMaterial(); // le matériel de la géométrie
+
+			// Modification des géométries en fonction du type qu'elle est
+			// Des erreurs sont possibles si la transformation est impossible.
+			// Par exemple : Un modèle peut être mal défini pour certains triangles.
+			try {
+
+				// Vérifier si la transformation de la géométrie est nécessaire.
+				if (transformation_required) {
+					switch (p.getGeometry().getCodeName()) {
+					case SAbstractGeometry.TRIANGLE_CODE:
+						geometry = transformTriangleGeometry((STriangleGeometry) p.getGeometry(), mat);
+						break;
+
+					case SAbstractGeometry.BTRIANGLE_CODE:
+						geometry = transformBTriangleGeometry((SBTriangleGeometry) p.getGeometry());
+						break;
+
+					default:
+						geometry = new STransformableGeometry(p.getGeometry(), scale, rotation, translation);
+						break;
+					}
+				} else
+					geometry = p.getGeometry(); // géométrie non transformée
+
+				// Modifier le format d'interprétation des coordonnées uv de texture pour un
+				// matériel avec texture.
+				// Cependant, plusieurs instance du modèle peuvent être construite.
+				// Une seule interprétation des coordonnée uv sera possible. Ce sera la première
+				// définition qui sera retenue.
+				if (material.asTexture()) {
+					STextureMaterial texture_material = (STextureMaterial) material;
+
+					if (!texture_material.isUVFormatSelected())
+						texture_material.setUVFormat(uv_format);
+				}
+
+				// Ajouter la nouvelle géométrie dans une nouvelle primitive et l'injecter dans
+				// le modèle.
+				if (transformation_required)
+					transformed_model.addPrimitive(new SPrimitive(geometry, material));
+				else
+					transformed_model.addPrimitive(p); // remettre l'ancienne primitive dans la nouveau modèle
+
+			} catch (SConstructorException e) {
+				// S'il y a des géométries en erreur de construction après l'application des
+				// transformations
+				geometry_error++;
+			} catch (SImpossibleNormalizationException e) {
+				geometry_error++;
+			}
+		} // fin for
+
+		// Afficher un message sur le nombre de géométrie en erreur de transformation
+		if (geometry_error > 0)
+			SLog.logWriteLine("Message SModelReader : Il y a '" + geometry_error
+					+ "' géométries en erreur de transformation. Ils ne seront pas disponibles pour l'affichage.");
+
+		return transformed_model;
+	}
+
+	/**
+	 * Méthode pour faire la transformation d'un STriangleGeometry dans l'espace
+	 * unitaire vers l'espace transformé à partir des vecteurs de transformation lus
+	 * par le lecteur.
+	 * 
+	 * @param triangle Le triangle à transformé
+	 * @param mat      La matrice de transformation.
+	 * @return La géométrie d'un triangle transformé.
+	 */
+	private static SGeometry transformTriangleGeometry(STriangleGeometry triangle, SMatrix4x4 mat) {
+
+		STriangleGeometry res = new STriangleGeometry(SAffineTransformation.transformPosition(mat, triangle.getP0()),
+				SAffineTransformation.transformPosition(mat, triangle.getP1()),
+				SAffineTransformation.transformPosition(mat, triangle.getP2()));
+		// Version sans transformation des points du triangles
+		return res;
+	}
+
+	/**
+	 * Méthode pour faire la transformation d'un SBTriangleGeometry dans l'espace
+	 * unitaire vers l'espace transformé à partir des vecteurs de transformation lus
+	 * par le lecteur.
+	 * 
+	 * @param triangle Le triangle à transformé.
+	 * @return La géométrie d'un triangle barycentrique transformé.
+	 */
+	private static SGeometry transformBTriangleGeometry(SBTriangleGeometry triangle) {
+		// Version sans transformation des triangles barycentriques
+		return new SBTriangleGeometry(triangle.getP0(), triangle.getP1(), triangle.getP2(), triangle.getN0(),
+				triangle.getN1(), triangle.getN2(), triangle.getUV0(), triangle.getUV1(), triangle.getUV2());
+	}
+
+	@Override
+	protected void readingInitialization() throws SInitializationException {
+		initialize();
+	}
+
+	@Override
+	public String getReadableName() {
+		return SKeyWordDecoder.KW_MODEL;
+	}
+
+	@Override
+	public String[] getReadableParameterName() {
+		String[] other_parameters = super.getReadableParameterName();
+
+		return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+	}
+
+}// fin de la classe SModelReader
@@ -0,0 +1,282 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.math.SVectorPixel;
+
+/**
+ * <p>
+ * La classe <b>SMultiViewRaytracer</b> représente un raytracer effectuant le rendu de plusieurs vues d'une même scène
+ * (ex. une paire stéréo ou plusieurs angles de vue d'un objet). Chaque vue est rendue par son propre raytracer (caméra et viewport),
+ * mais les raytracers partagent la scène, son espace des géométries et les caches des sources de lumière.
+ * </p>
+ *
+ * <p>
+ * Les images des vues sont découpées en tuiles de <b>tile_size</b> x <b>tile_size</b> pixels. Les tuiles des vues sont entrelacées
+ * et évaluées par un seul exécuteur de sorte qu'aucune tâche ne soit inactive à la fin du rendu d'une vue.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ * @see SView
+ */
+public class SMultiViewRaytracer implements SRaytracer {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>DEFAULT_TILE_SIZE</b> correspond à la taille par défaut (en pixels) d'une tuile étant égale à {@value}.
+   */
+  public static final int DEFAULT_TILE_SIZE = 32;
+
+  /**
+   * La constante <b>PENDING_TILE_PER_TASK</b> correspond au nombre de tuiles soumises à l'exécuteur par tâche
+   * afin que chaque tâche ait toujours une tuile à évaluer étant égal à {@value}.
+   */
+  private static final int PENDING_TILE_PER_TASK = 2;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>raytracer_list</b> correspond aux raytracers de chaque vue.
+   */
+  private final List<SAbstractRaytracer> raytracer_list;
+
+  /**
+   * La variable <b>tile_list</b> correspond aux tuiles des vues dans l'ordre où elles seront évaluées.
+   * Une tuile est décrite par l'index de sa vue, la coordonnée de son coin supérieur gauche et ses dimensions.
+   */
+  private final List<int[]> tile_list;
+
+  /**
+   * La variable <b>task</b> correspond au nombre de tâches simultanées.
+   */
+  private final int task;
+
+  /**
+   * La variable <b>executor</b> correspond à l'exécuteur des tuiles partagé par l'ensemble des vues.
+   */
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * La variable <b>pending_list</b> correspond aux tuiles soumises à l'exécuteur dont l'évaluation n'a pas été attendue.
+   */
+  private final Deque<Future<Integer>> pending_list;
+
+  /**
+   * La variable <b>next_tile</b> correspond à l'index de la prochaine tuile à soumettre à l'exécuteur.
+   */
+  private int next_tile;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un raytracer de plusieurs vues avec des tuiles de taille par défaut.
+   *
+   * @param raytracer_list - Les raytracers de chaque vue.
+   * @param task - Le nombre de tâches simultanées.
+   * @throws SConstructorException Si la liste des raytracers est vide, si un raytracer n'est pas supporté ou si le nombre de tâches n'est pas positif.
+   */
+  public SMultiViewRaytracer(List<SRaytracer> raytracer_list, int task) throws SConstructorException
+  {
+    this(raytracer_list, task, DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Constructeur d'un raytracer de plusieurs vues.
+   *
+   * @param raytracer_list - Les raytracers de chaque vue.
+   * @param task - Le nombre de tâches simultanées.
+   * @param tile_size - La taille (en pixels) d'une tuile.
+   * @throws SConstructorException Si la liste des raytracers est vide, si un raytracer n'est pas supporté ou si le nombre de tâches ou la taille des tuiles n'est pas positif.
+   */
+  public SMultiViewRaytracer(List<SRaytracer> raytracer_list, int task, int tile_size) throws SConstructorException
+  {
+    if(raytracer_list.isEmpty())
+      throw new SConstructorException("Erreur SMultiViewRaytracer 001 : La liste des vues à rendre est vide.");
+
+    if(task < 1)
+      throw new SConstructorException("Erreur SMultiViewRaytracer 002 : Le nombre de tâches '" + task + "' n'est pas supérieur à 0.");
+
+    if(tile_size < 1)
+      throw new SConstructorException("Erreur SMultiViewRaytracer 003 : La taille des tuiles '" + tile_size + "' n'est pas supérieure à 0.");
+
+    this.raytracer_list = new ArrayList<SAbstractRaytracer>();
+
+    for(SRaytracer r : raytracer_list)
+      if(r instanceof SAbstractRaytracer)
+        this.raytracer_list.add((SAbstractRaytracer)r);
+      else
+        throw new SConstructorException("Erreur SMultiViewRaytracer 004 : Le raytracer '" + r.getClass().getSimpleName() + "' ne permet pas l'évaluation d'une tuile.");
+
+    this.task = task;
+    this.tile_list = buildTileList(tile_size);
+
+    executor = SAbstractRaytracer.buildExecutor(task);
+    pending_list = new ArrayDeque<Future<Integer>>();
+    next_tile = 0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de vues.
+   *
+   * @return Le nombre de vues.
+   */
+  public int getNbView()
+  {
+    return raytracer_list.size();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de tuiles de l'ensemble des vues.
+   *
+   * @return Le nombre de tuiles.
+   */
+  public int getNbTile()
+  {
+    return tile_list.size();
+  }
+
+  /**
+   * Méthode pour construire la liste des tuiles des vues. Les tuiles de chaque vue sont ordonnées ligne par ligne
+   * et les tuiles des vues sont entrelacées (la première tuile de chaque vue, puis la deuxième, etc.).
+   *
+   * @param tile_size - La taille d'une tuile.
+   * @return La liste des tuiles.
+   */
+  private List<int[]> buildTileList(int tile_size)
+  {
+    List<List<int[]>> view_tile_list = new ArrayList<List<int[]>>();
+    int max = 0;
+
+    for(int v = 0; v < raytracer_list.size(); v++)
+    {
+      SViewport viewport = raytracer_list.get(v).viewport;
+      List<int[]> list = new ArrayList<int[]>();
+
+      for(int y = 0; y < viewport.getHeight(); y += tile_size)
+        for(int x = 0; x < viewport.getWidth(); x += tile_size)
+          list.add(new int[]{ v, x, y, Math.min(tile_size, viewport.getWidth() - x), Math.min(tile_size, viewport.getHeight() - y) });
+
+      view_tile_list.add(list);
+      max = Math.max(max, list.size());
+    }
+
+    List<int[]> list = new ArrayList<int[]>();
+
+    for(int i = 0; i < max; i++)
+      for(List<int[]> view_list : view_tile_list)
+        if(i < view_list.size())
+          list.add(view_list.get(i));
+
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Méthode pour évaluer une tuile et écrire la couleur de ses pixels dans le viewport de sa vue.
+   *
+   * @param tile - La tuile.
+   * @return Le nombre de pixels de la tuile.
+   * @throws SConstructorException Si la coordonnée d'un pixel de la tuile n'est pas valide.
+   */
+  private Integer raytraceTile(int[] tile) throws SConstructorException
+  {
+    SAbstractRaytracer raytracer = raytracer_list.get(tile[0]);
+
+    List<SVectorPixel> pixel_list = new ArrayList<SVectorPixel>(tile[3]*tile[4]);
+
+    for(int y = tile[2]; y < tile[2] + tile[4]; y++)
+      for(int x = tile[1]; x < tile[1] + tile[3]; x++)
+        pixel_list.add(new SVectorPixel(x, y));
+
+    SColor[] color = raytracer.evaluatePixelColor(pixel_list);
+
+    // Le viewport d'une vue reçoit les tuiles de plusieurs tâches
+    synchronized(raytracer.viewport)
+    {
+      for(int i = 0; i < color.length; i++)
+        raytracer.viewport.setColor(pixel_list.get(i), color[i]);
+    }
+
+    return pixel_list.size();
+  }
+
+  /* (non-Javadoc)
+   * @see sim.graphics.SRaytracer#raytrace()
+   */
+  @Override
+  public void raytrace()
+  {
+    raytrace(nbPixels());
+  }
+
+  /**
+   * Méthode pour effectuer le rendu des prochaines tuiles jusqu'à ce qu'au moins <b>nb_pixel</b> pixels soient calculés
+   * ou que toutes les tuiles soient calculées. Des tuiles supplémentaires demeurent soumises à l'exécuteur après le retour
+   * de la méthode afin que les tâches ne soient pas inactives entre deux appels.
+   */
+  @Override
+  public void raytrace(int nb_pixel) throws SRuntimeException
+  {
+    if(nb_pixel < 0)
+      throw new SRuntimeException("Erreur SMultiViewRaytracer 005 : Le nombre de pixels '" + nb_pixel + "' doit être supérieur à 0.");
+
+    int count = 0;
+
+    while(count < nb_pixel && (next_tile < tile_list.size() || !pending_list.isEmpty()))
+    {
+      // Soumettre des tuiles afin que chaque tâche ait une tuile à évaluer
+      while(next_tile < tile_list.size() && pending_list.size() < PENDING_TILE_PER_TASK*task)
+      {
+        final int[] tile = tile_list.get(next_tile++);
+        pending_list.add(executor.submit(() -> raytraceTile(tile)));
+      }
+
+      try{
+        count += pending_list.poll().get();
+      }catch(InterruptedException e){
+        throw new SRuntimeException("Erreur SMultiViewRaytracer 006 : Raytracer interrompu.", e);
+      }catch(ExecutionException e){
+        throw new SRuntimeException("Erreur SMultiViewRaytracer 007 : Erreur d'exécution.", e);
+      }
+    }
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de pixels de l'ensemble des vues.
+   */
+  @Override
+  public int nbPixels()
+  {
+    int nb = 0;
+
+    for(SAbstractRaytracer r : raytracer_list)
+      nb += r.viewport.getWidth() * r.viewport.getHeight();
+
+    return nb;
+  }
+
+}//fin de la classe SMultiViewRaytracer
@@ -0,0 +1,167 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import sim.exception.SConstructorException;
+
+/**
+ * <p>
+ * La classe <b>SPFMRowWriter</b> représente un encodeur d'image en format <b>PFM</b> (<i>Portable Float Map</i>, RGB, 32 bits par canal)
+ * écrivant l'image rangée par rangée. Contrairement au format PNG, les couleurs ne sont pas normalisées :
+ * l'image conserve la dynamique complète (<i>HDR</i>) des couleurs calculées.
+ * </p>
+ *
+ * <p>
+ * Puisque le format PFM conserve les rangées de bas en haut, chaque rangée est écrite directement à sa position dans le fichier.
+ * La mémoire utilisée est ainsi limitée à une seule rangée.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SPFMRowWriter implements SImageRowWriter {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>BYTE_PER_PIXEL</b> correspond au nombre d'octets par pixel (trois nombres réels de 32 bits) étant égal à {@value}.
+   */
+  private static final int BYTE_PER_PIXEL = 12;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>width</b> correspond à la largeur de l'image.
+   */
+  private final int width;
+
+  /**
+   * La variable <b>height</b> correspond à la hauteur de l'image.
+   */
+  private final int height;
+
+  /**
+   * La variable <b>channel</b> correspond au canal d'écriture du fichier.
+   */
+  private final FileChannel channel;
+
+  /**
+   * La variable <b>header_size</b> correspond à la taille (en octets) de l'entête du fichier.
+   */
+  private final long header_size;
+
+  /**
+   * La variable <b>row_buffer</b> correspond aux octets d'une rangée (<i>little endian</i>).
+   */
+  private final ByteBuffer row_buffer;
+
+  /**
+   * La variable <b>next_row</b> correspond à la prochaine rangée à écrire.
+   */
+  private int next_row;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un encodeur PFM. L'entête du fichier est écrite immédiatement.
+   *
+   * @param file - Le fichier.
+   * @param width - La largeur de l'image.
+   * @param height - La hauteur de l'image.
+   * @throws IOException S'il y a une erreur lors de l'écriture de l'entête.
+   * @throws SConstructorException Si les dimensions de l'image ne sont pas supérieures à 0.
+   */
+  public SPFMRowWriter(File file, int width, int height) throws IOException, SConstructorException
+  {
+    if(width < 1 || height < 1)
+      throw new SConstructorException("Erreur SPFMRowWriter 001 : Les dimensions de l'image '" + width + "' x '" + height + "' doivent être supérieures à 0.");
+
+    this.width = width;
+    this.height = height;
+
+    channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+    // Entête : couleur (PF), dimension et échelle négative (little endian)
+    byte[] header = ("PF\n" + width + " " + height + "\n-1.0\n").getBytes(StandardCharsets.US_ASCII);
+
+    channel.write(ByteBuffer.wrap(header), 0);
+
+    header_size = header.length;
+
+    row_buffer = ByteBuffer.allocate(width*BYTE_PER_PIXEL).order(ByteOrder.LITTLE_ENDIAN);
+    next_row = 0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  @Override
+  public void writeRow(int y, SColor[] row) throws IOException
+  {
+    if(y != next_row)
+      throw new IOException("Erreur SPFMRowWriter 002 : La rangée '" + y + "' est écrite alors que la rangée '" + next_row + "' est attendue.");
+
+    if(row.length != width)
+      throw new IOException("Erreur SPFMRowWriter 003 : La rangée '" + y + "' contient '" + row.length + "' pixels alors que l'image a une largeur de '" + width + "'.");
+
+    row_buffer.clear();
+
+    for(SColor c : row)
+    {
+      // Un pixel sans couleur est noir
+      if(c == null)
+      {
+        row_buffer.putFloat(0.0f);
+        row_buffer.putFloat(0.0f);
+        row_buffer.putFloat(0.0f);
+      }
+      else
+      {
+        row_buffer.putFloat((float)c.getRed());
+        row_buffer.putFloat((float)c.getGreen());
+        row_buffer.putFloat((float)c.getBlue());
+      }
+    }
+
+    row_buffer.flip();
+
+    // Les rangées sont conservées de bas en haut
+    long position = header_size + (long)(height - 1 - y) * (long)width * BYTE_PER_PIXEL;
+
+    while(row_buffer.hasRemaining())
+      position += channel.write(row_buffer, position);
+
+    next_row++;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    try{
+
+      if(next_row != height)
+        throw new IOException("Erreur SPFMRowWriter 004 : Seulement '" + next_row + "' rangées sur '" + height + "' ont été écrites.");
+
+    }finally{
+      channel.close();
+    }
+  }
+
+}//fin de la classe SPFMRowWriter
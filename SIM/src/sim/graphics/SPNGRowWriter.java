@@ -0,0 +1,287 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import sim.exception.SConstructorException;
+
+/**
+ * <p>
+ * La classe <b>SPNGRowWriter</b> représente un encodeur d'image en format <b>PNG</b> (RGBA, 8 bits par canal) écrivant l'image rangée par rangée.
+ * Les rangées sont compressées au fur et à mesure et les données compressées sont écrites en blocs (<i>chunk</i> IDAT) de taille fixe.
+ * La mémoire utilisée est ainsi indépendante de la hauteur de l'image.
+ * </p>
+ *
+ * <p>
+ * La couleur d'un pixel est convertie de la même façon que dans l'image du viewport (couleur normalisée).
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SPNGRowWriter implements SImageRowWriter {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>SIGNATURE</b> correspond à la signature d'un fichier PNG.
+   */
+  private static final byte[] SIGNATURE = { (byte)137, 80, 78, 71, 13, 10, 26, 10 };
+
+  /**
+   * La constante <b>CHUNK_SIZE</b> correspond à la taille maximale (en octets) des blocs de données compressées étant égale à {@value}.
+   */
+  private static final int CHUNK_SIZE = 65536;
+
+  /**
+   * La constante <b>SUB_FILTER</b> correspond au filtre PNG appliqué à chaque rangée (différence avec le pixel de gauche) étant égal à {@value}.
+   */
+  private static final int SUB_FILTER = 1;
+
+  /**
+   * La constante <b>BYTE_PER_PIXEL</b> correspond au nombre d'octets par pixel (RGBA) étant égal à {@value}.
+   */
+  private static final int BYTE_PER_PIXEL = 4;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>width</b> correspond à la largeur de l'image.
+   */
+  private final int width;
+
+  /**
+   * La variable <b>height</b> correspond à la hauteur de l'image.
+   */
+  private final int height;
+
+  /**
+   * La variable <b>file_output</b> correspond au flux d'écriture du fichier.
+   */
+  private final DataOutputStream file_output;
+
+  /**
+   * La variable <b>deflater_output</b> correspond au flux de compression des rangées.
+   */
+  private final DeflaterOutputStream deflater_output;
+
+  /**
+   * La variable <b>deflater</b> correspond au compresseur des rangées.
+   */
+  private final Deflater deflater;
+
+  /**
+   * La variable <b>row_byte</b> correspond aux octets d'une rangée (filtre et pixels).
+   */
+  private final byte[] row_byte;
+
+  /**
+   * La variable <b>next_row</b> correspond à la prochaine rangée à écrire.
+   */
+  private int next_row;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un encodeur PNG. L'entête du fichier est écrite immédiatement.
+   *
+   * @param file - Le fichier.
+   * @param width - La largeur de l'image.
+   * @param height - La hauteur de l'image.
+   * @throws IOException S'il y a une erreur lors de l'écriture de l'entête.
+   * @throws SConstructorException Si les dimensions de l'image ne sont pas supérieures à 0.
+   */
+  public SPNGRowWriter(File file, int width, int height) throws IOException, SConstructorException
+  {
+    if(width < 1 || height < 1)
+      throw new SConstructorException("Erreur SPNGRowWriter 001 : Les dimensions de l'image '" + width + "' x '" + height + "' doivent être supérieures à 0.");
+
+    this.width = width;
+    this.height = height;
+
+    file_output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+    // Signature et entête (IHDR : dimension, 8 bits, RGBA, compression, filtre et sans entrelacement)
+    file_output.write(SIGNATURE);
+
+    byte[] header = new byte[13];
+    writeInt(header, 0, width);
+    writeInt(header, 4, height);
+    header[8] = 8;
+    header[9] = 6;
+    header[10] = 0;
+    header[11] = 0;
+    header[12] = 0;
+
+    writeChunk(file_output, "IHDR", header, header.length);
+
+    deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    deflater_output = new DeflaterOutputStream(new SChunkOutputStream(), deflater, CHUNK_SIZE);
+
+    row_byte = new byte[1 + width*BYTE_PER_PIXEL];
+    next_row = 0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  @Override
+  public void writeRow(int y, SColor[] row) throws IOException
+  {
+    if(y != next_row)
+      throw new IOException("Erreur SPNGRowWriter 002 : La rangée '" + y + "' est écrite alors que la rangée '" + next_row + "' est attendue.");
+
+    if(row.length != width)
+      throw new IOException("Erreur SPNGRowWriter 003 : La rangée '" + y + "' contient '" + row.length + "' pixels alors que l'image a une largeur de '" + width + "'.");
+
+    row_byte[0] = SUB_FILTER;
+
+    int previous = 0;
+
+    for(int x = 0; x < width; x++)
+    {
+      // Un pixel sans couleur est transparent (comme dans l'image du viewport)
+      int argb = (row[x] == null) ? 0 : row[x].normalizeColor().getRGB();
+
+      // Filtre 'Sub' : différence de chaque canal avec le pixel de gauche
+      int i = 1 + x*BYTE_PER_PIXEL;
+      row_byte[i]     = (byte)(((argb >> 16) & 0xFF) - ((previous >> 16) & 0xFF));
+      row_byte[i + 1] = (byte)(((argb >> 8) & 0xFF) - ((previous >> 8) & 0xFF));
+      row_byte[i + 2] = (byte)((argb & 0xFF) - (previous & 0xFF));
+      row_byte[i + 3] = (byte)(((argb >> 24) & 0xFF) - ((previous >> 24) & 0xFF));
+
+      previous = argb;
+    }
+
+    deflater_output.write(row_byte);
+
+    next_row++;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    try{
+
+      if(next_row != height)
+        throw new IOException("Erreur SPNGRowWriter 004 : Seulement '" + next_row + "' rangées sur '" + height + "' ont été écrites.");
+
+      deflater_output.finish();
+      deflater_output.flush();
+
+      writeChunk(file_output, "IEND", new byte[0], 0);
+
+    }finally{
+      deflater.end();
+      file_output.close();
+    }
+  }
+
+  /**
+   * Méthode pour écrire un bloc (<i>chunk</i>) PNG : longueur, type, données et CRC.
+   *
+   * @param output - Le flux d'écriture.
+   * @param type - Le type du bloc.
+   * @param data - Les données.
+   * @param length - La longueur des données.
+   * @throws IOException S'il y a une erreur lors de l'écriture.
+   */
+  private static void writeChunk(DataOutputStream output, String type, byte[] data, int length) throws IOException
+  {
+    byte[] type_byte = type.getBytes(StandardCharsets.US_ASCII);
+
+    CRC32 crc = new CRC32();
+    crc.update(type_byte);
+    crc.update(data, 0, length);
+
+    output.writeInt(length);
+    output.write(type_byte);
+    output.write(data, 0, length);
+    output.writeInt((int)crc.getValue());
+  }
+
+  /**
+   * Méthode pour écrire un entier (<i>big endian</i>) dans un tableau d'octets.
+   *
+   * @param array - Le tableau.
+   * @param offset - La position de l'entier.
+   * @param value - L'entier.
+   */
+  private static void writeInt(byte[] array, int offset, int value)
+  {
+    array[offset]     = (byte)(value >>> 24);
+    array[offset + 1] = (byte)(value >>> 16);
+    array[offset + 2] = (byte)(value >>> 8);
+    array[offset + 3] = (byte)value;
+  }
+
+  /**
+   * Classe interne représentant le flux recevant les données compressées et les écrivant en blocs IDAT.
+   */
+  private class SChunkOutputStream extends OutputStream {
+
+    /**
+     * La variable <b>buffer</b> correspond aux données compressées du bloc en construction.
+     */
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+
+    /**
+     * La variable <b>size</b> correspond au nombre d'octets du bloc en construction.
+     */
+    private int size = 0;
+
+    @Override
+    public void write(int b) throws IOException
+    {
+      write(new byte[]{ (byte)b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int length) throws IOException
+    {
+      while(length > 0)
+      {
+        int n = Math.min(length, CHUNK_SIZE - size);
+
+        System.arraycopy(b, offset, buffer, size, n);
+
+        size += n;
+        offset += n;
+        length -= n;
+
+        if(size == CHUNK_SIZE)
+          flush();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+      if(size > 0)
+      {
+        writeChunk(file_output, "IDAT", buffer, size);
+        size = 0;
+      }
+    }
+  }
+
+}//fin de la classe SPNGRowWriter
@@ -1,391 +1,836 @@
-/**
- * 
- */
-package sim.graphics;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.io.FileNotFoundException;
-import java.io.BufferedWriter;
-import java.io.IOException;
-
-import sim.exception.SConstructorException;
-import sim.exception.SRuntimeException;
-import sim.geometry.SGeometry;
-import sim.geometry.SPlaneGeometry;
-import sim.geometry.SSphereGeometry;
-import sim.graphics.light.SAmbientLight;
-import sim.graphics.light.SApertureMaskLight;
-import sim.graphics.light.SDirectionalLight;
-import sim.graphics.light.SEllipticalApertureLight;
-import sim.graphics.light.SLight;
-import sim.graphics.light.SLinearApertureLight;
-import sim.graphics.light.SPointLight;
-import sim.graphics.light.SRectangularApertureLight;
-import sim.graphics.material.SBlinnMaterial;
-import sim.graphics.material.SBlinnTextureMaterial;
-import sim.graphics.material.SMaterial;
-import sim.graphics.SModel;
-import sim.math.SVector3d;
-import sim.readwrite.SAbstractReadableWriteable;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SInitializationException;
-import sim.util.SLog;
-import sim.util.SReadingException;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SScene</b> reprsente une scne en trois dimensions. 
- * Une scne comprend des primitives, des matriaux, des lumires, ainsi que des paramtres de visionnement comme une camra, un viewport et le ray tracer.
- *  
- * @author Simon Vzina
- * @since 2014-12-26
- * @version 2016-05-20
- */
-public class SScene extends SAbstractReadableWriteable {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>KEYWORD_PARAMETER</b> correspond  un tableau contenant l'ensemble des mots cls 
-   *  utiliser reconnus lors de la dfinition de l'objet par une lecture en fichier.
-   */
-  private static final String[] KEYWORD_PARAMETER = {
-    SKeyWordDecoder.KW_CAMERA, SKeyWordDecoder.KW_VIEWPORT, SKeyWordDecoder.KW_RAYTRACER,
-    SKeyWordDecoder.KW_PRIMITIVE, SKeyWordDecoder.KW_BLINN_MATERIAL, SKeyWordDecoder.KW_TEXTURE_MATERIAL, 
-    SKeyWordDecoder.KW_AMBIENT_LIGHT, SKeyWordDecoder.KW_DIRECTIONAL_LIGHT, SKeyWordDecoder.KW_POINT_LIGHT,
-    SKeyWordDecoder.KW_LINEAR_APERTURE_LIGHT, SKeyWordDecoder.KW_RECTANGULAR_APERTURE_LIGHT,
-    SKeyWordDecoder.KW_ELLIPTICAL_APERTURE_LIGHT,SKeyWordDecoder.KW_APERTURE_MASK_LIGHT,
-    SKeyWordDecoder.KW_MODEL     
-  };
-  
-  /**
-   * La constante <b>DEFAULT_SCENE_FILE_NAME</b> correspond au nom du fichier de scne par dfaut tant gal  {@value}. 
-   */
-  public static final String DEFAULT_SCENE_FILE_NAME = "default_scene.txt";
-  
-  //-------------
-  // VARIABLES //
-  //-------------
-  
-  /**
-   * La variable 'camera' correspond  la camra qui sera utilise pour visualiser la scne.
-   */
-	private SCamera camera;					                 
-	
-	/**
-	 * La variable 'viewport' correspond  l'cran de vue o seront crit les diffrents pixels de couleur calculs par le ray tracer.
-	 */
-	private SViewport viewport;		
-	
-	/**
-	 * La variable 'raytracer_builder' correspond  un constructeur du raytracer. Selon ses paramtres, un ray tracer particulier sera ventuellement construit.
-	 */
-	private SRaytracerBuilder raytracer_builder;     
-			
-	/**
-	 * La variable 'primitive_list' correspond  la liste des primitives situes dans la scne. Une primitive est une gomtrie affecte  un matriel.
-	 */
-	private final List<SPrimitive> primitive_list;   
-	
-	/**
-	 * La variable 'material_list' correspond  la liste des diffrents matriaux disponibles lors du calcul du rendu.
-	 */
-	private final List<SMaterial> material_list;		 
-	
-	/**
-	 * La variable 'light_list' correspond  la liste des sources de lumires disponibles pour faire les calculs d'illumination de la scne lors du ray tracing.
-	 */
-	private final List<SLight> light_list;				   
-	
-	/**
-	 * La variable 'model_list' correspond  la liste des diffrents modles situs dans la scne. Un modle comprend plusieurs primitives (gomtrie + matriel).
-	 */
-	private final List<SModel> model_list;           
-		
-	/**
-	 * La variable 'geometry_list' correspond  la liste des diffrentes gomtries situs dans la scne.
-	 */
-	private final List<SGeometry> geometry_list;     
-	
-	//----------------
-	// CONSTRUCTEUR //
-	//----------------
-	
-	/**
-	 * Constructeur avec lecture d'un fichier txt.
-	 * 
-	 * @param file_name - Le nom du fichier en lecture.
-	 * @throws FileNotFoundException Si le fichier de lecture n'a pas t trouv.
-	 * @throws IOException Si une erreur de type I/O est survenue.
-	 * @throws SConstructorException Si une erreur est survenue lors de la construction.
-	 */
-	public SScene(String file_name) throws FileNotFoundException, IOException, SConstructorException
-	{
-	  camera = new SCamera();                             
-    viewport = new SViewport();                         
-    raytracer_builder = new SRaytracerBuilder();        
-        
-    primitive_list = new ArrayList<SPrimitive>();  
-    material_list = new ArrayList<SMaterial>();     
-    light_list = new ArrayList<SLight>();              
-    model_list = new ArrayList<SModel>();              
-      
-    geometry_list = new ArrayList<SGeometry>();   
-		
-    // Choix de la cration de la scne
-    if(file_name.equals(DEFAULT_SCENE_FILE_NAME))
-      buildDefaultScene();                            // scne par dfaut
-    else
-      read(file_name);                                // scne en lecture  
-	}
-		
-	//------------
-	// MTHODES //
-	//------------
-	
-	/**
-	 * Mthode pour obtenir la camra de la scene.
-	 * 
-	 * @return La camra de la scene.
-	 */
-	public SCamera getCamera()
-	{ 
-	  return camera;
-	}
-	
-	/**
-	 * Mthode pour obtenir le viewport de la scene.
-	 * 
-	 * @return Le viewport de la scene.
-	 */
-	public SViewport getViewport()
-	{ 
-	  return viewport;
-	}
-	
-	/**
-	 * Mthode pour obtenir la liste des primitives de la scne.
-	 * 
-	 * @return La liste des primitives.
-	 */
-	public List<SPrimitive> getPrimitiveList(){ return primitive_list; }
-	
-	/**
-	 * Mthode pour obtenir la liste des sources de lumire de la scne.
-	 * 
-	 * @return La liste des sources de lumire.
-	 */
-	public List<SLight> getLightList(){ return light_list; }
-	
-	/**
-	 * Mthode pour faire la construction du raytracer associ  la scne en fonction de ses paramtres comme le viewport, la camra, les gomtries et les lumires.
-	 * 
-	 * @return Le ray tracer de la scne.
-	 */
-	public SRaytracer buildRaytracer()
-	{
-	  return raytracer_builder.buildRaytracer(viewport, camera, geometry_list, light_list);
-	}
-
-	@Override
-	public void write(BufferedWriter bw) throws IOException
-	{
-		writeComment(bw, "Paramtres du rendu");
-		
-	  camera.write(bw);
-		viewport.write(bw);
-		raytracer_builder.write(bw);
-			
-		writeComment(bw, "Modles de la scne");
-		    
-		//crire les modle
-    for(SModel m : model_list)
-      m.write(bw);
-    
-    writeComment(bw, "Primitives de la scne");
-       
-    //crire les primitives
-    for(SPrimitive p : primitive_list)
-      p.write(bw);
-    
-    writeComment(bw, "Matriaux de la scne");
-    
-   	//crire les matriaux
-		for(SMaterial m : material_list)
-			m.write(bw);
-		
-		writeComment(bw, "Sources de lumire de la scne");
-				
-		//crire les lumires
-		for(SLight l : light_list)
-			l.write(bw);		
-	}
-	
-	/**
-   * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-   * 
-   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
-   */
-  private void initialize() throws SInitializationException
-	{
-		int primitive_count = 0;
-		
-		//Remplir l'espace de gomtrie avec les gomtries des primitives disponibles.
-		//Les primitives sans gomtrie (qui sont  null) ne seront pas ajoutes  l'espace des gomtries.
-		for(SPrimitive p : primitive_list)
-			if(p.getGeometry() != null)							         //Vrification de la prsence d'une gomtrie
-			{
-			  geometry_list.add(p.getGeometry());	//Ajout de la gomtrie
-			  primitive_count++;
-			}
-	
-		//Mettre l'ensemble des gomtries des modle dans l'espace des gomtries
-		for(SModel m : model_list)
-		  for(SPrimitive p : m.getPrimitiveList())
-		    if(p.getGeometry() != null)                     //Vrification de la prsence d'une gomtrie
-		    {
-		      geometry_list.add(p.getGeometry());  //Ajout de la gomtrie
-		      primitive_count++;
-		    }
-		
-		//Faire l'assignation des matriaux aux primitives
-		SMaterialAffectation m_affectation = new SMaterialAffectation(primitive_list, material_list);
-		m_affectation.affectation();
-		
-		//Message du comptage des primitives
-    SLog.logWriteLine("Message SScene : La scne comprend " + primitive_count + " primitives.");
-	}
-	
-	@Override
-	protected boolean read(SBufferedReader sbr, int code, String remaining_line)throws SReadingException, IOException
-	{
-		try{
-  	  switch(code)
-  		{
-  			case SKeyWordDecoder.CODE_CAMERA :				        camera = new SCamera(sbr); return true;
-  															
-  			case SKeyWordDecoder.CODE_VIEWPORT :			        viewport = new SViewport(sbr); return true;
-  											
-  			case SKeyWordDecoder.CODE_RAYTRACER :             raytracer_builder = new SRaytracerBuilder(sbr); return true;
-  			
-  			case SKeyWordDecoder.CODE_PRIMITIVE :			        primitive_list.add(new SPrimitive(sbr)); return true;
-  															
-  			case SKeyWordDecoder.CODE_BLINN_MATERIAL:		      material_list.add(new SBlinnMaterial(sbr)); return true;
-  			
-  			case SKeyWordDecoder.CODE_TEXTURE_MATERIAL :      material_list.add(new SBlinnTextureMaterial(sbr)); return true;
-  			
-  			case SKeyWordDecoder.CODE_AMBIENT_LIGHT :		      light_list.add(new SAmbientLight(sbr));	return true;
-  															
-  			case SKeyWordDecoder.CODE_DIRECTIONAL_LIGHT :	    light_list.add(new SDirectionalLight(sbr));	return true;
-  															
-  			case SKeyWordDecoder.CODE_POINT_LIGHT :			      light_list.add(new SPointLight(sbr));	return true;
-  			
-  			case SKeyWordDecoder.CODE_LINEAR_APERTURE_LIGHT : light_list.add(new SLinearApertureLight(sbr)); return true;
-  			
-  			case SKeyWordDecoder.CODE_RECTANGULAR_APERTURE_LIGHT : light_list.add(new SRectangularApertureLight(sbr)); return true;
-        
-  			case SKeyWordDecoder.CODE_ELLIPTICAL_APERTURE_LIGHT : light_list.add(new SEllipticalApertureLight(sbr)); return true;
-  			
-  			case SKeyWordDecoder.CODE_APERTURE_MASK_LIGHT : light_list.add(new SApertureMaskLight(sbr)); return true;
-        
-  			
-  			case SKeyWordDecoder.CODE_MODEL :   SModelReader m_reader = new SModelReader(sbr);
-  			
-  			                                    if(m_reader.asRead())
-  			                                      model_list.add((SModel)m_reader.getValue());
-  			                                    
-  			                                    return true;
-  			
-  			default : return false;
-  		}
-		}catch(SConstructorException e){
-		  throw new SReadingException("Erreur SScene 004 : La construction d'un lment de la scne est impossible." + SStringUtil.END_LINE_CARACTER + "\n" + e.getMessage());
-		}
-	}
-			
-	@Override
-  protected void readingInitialization() throws SInitializationException
-  {
-    initialize();
-  }
-	
-	@Override
-  public String getReadableName()
-  {
-	  return SKeyWordDecoder.KW_SCENE;
-  }
-  
-  @Override
-  public String[] getReadableParameterName()
-  {
-    String[] other_parameters = super.getReadableParameterName();
-    
-    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
-  }
-  
-  /**
-   * Mthode pour faire le chargement de la scne par la lecture d'un fichier txt.
-   * 
-   * @param file_name Le nom du fichier txt.
-   * @throws FileNotFoundException Si le ficher de lecture n'est pas trouv.
-   * @throws SConstructorException S'il y a eu une erreur lors de la construction de l'objet.
-   * @throws IOException Si une erreur de type I/O est survenue.
-   */
-  /*
-  private void readScene(String file_name) throws FileNotFoundException, SConstructorException, IOException
-  {
-    // Trouver le fichier  partir du rpertoire o l'excution de l'application est ralise
-    SFileSearch search = new SFileSearch("", file_name);
-    
-    if(!search.isFileFound())
-      throw new FileNotFoundException("Erreur SScene 001 : Le fichier '" + file_name + "' n'est pas trouv.");
-    
-    if(search.isManyFileFound())
-      throw new SConstructorException("Erreur SScene 002 : Le fichier '" + file_name + "' a t trouv plus d'une fois dans les diffrents sous-rpertoires. Veuillez en garder qu'une seule version.");
-    
-    // Lecture de la scne  partir d'un fichier
-    FileReader fr = new FileReader(search.getFileFoundList().get(0));
-    SBufferedReader sbr = new SBufferedReader(fr);
-    
-    try{
-      read(sbr);
-    }catch(SInitializationException e){
-      throw new SConstructorException("Erreur SScene 003 : Une erreur  l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }
-      
-    sbr.close();
-    fr.close();
-  }
-  */
-  
-  /**
-   * Mthode pour faire la construction d'une scne par dfaut.
-   */
-  private void buildDefaultScene()
-  {
-    SPlaneGeometry plan = new SPlaneGeometry();
-    SSphereGeometry sphere = new SSphereGeometry(new SVector3d(0.0, 0.0, 1.0), 0.5);
-    
-    SPrimitive p1 = new SPrimitive(plan);
-    SPrimitive p2 = new SPrimitive(sphere);
-    
-    SDirectionalLight l1 = new SDirectionalLight();
-    
-    primitive_list.add(p1);
-    primitive_list.add(p2);
-    light_list.add(l1);
-    
-    camera = new SCamera(new SVector3d(-2.0, 0.0, 2.0), new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 1.0));
-    
-    try{
-      initialize();
-    }catch(SInitializationException e){
-      throw new SRuntimeException("Erreur SScene 005 : Une erreur d'initialisation est survenue durant la construction de la scne par dfaut." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }
-  }
-  
-}//fin de la classe SScene
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SPlaneGeometry;
+import sim.geometry.SSphereGeometry;
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.light.SAmbientLight;
+import sim.graphics.light.SApertureMaskLight;
+import sim.graphics.light.SDirectionalLight;
+import sim.graphics.light.SEllipticalApertureLight;
+import sim.graphics.light.SLight;
+import sim.graphics.light.SLinearApertureLight;
+import sim.graphics.light.SPointLight;
+import sim.graphics.light.SRectangularApertureLight;
+import sim.graphics.material.SBlinnMaterial;
+import sim.graphics.material.SBlinnTextureMaterial;
+import sim.graphics.material.SMaterial;
+import sim.graphics.SModel;
+import sim.math.SVector3d;
+import sim.readwrite.SAbstractReadableWriteable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SFileSearch;
+import sim.util.SInitializationException;
+import sim.util.SLog;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SScene</b> représente une scène en trois dimensions. 
+ * Une scène comprend des primitives, des matériaux, des lumières, ainsi que des paramètres de visionnement comme une caméra, un viewport et le ray tracer.
+ *  
+ * @author Simon Vézina
+ * @since 2014-12-26
+ * @version 2017-02-14
+ */
+public class SScene extends SAbstractReadableWriteable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés 
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_CAMERA, SKeyWordDecoder.KW_VIEWPORT, SKeyWordDecoder.KW_RAYTRACER,
+    SKeyWordDecoder.KW_PRIMITIVE, SKeyWordDecoder.KW_BLINN_MATERIAL, SKeyWordDecoder.KW_TEXTURE_MATERIAL, 
+    SKeyWordDecoder.KW_AMBIENT_LIGHT, SKeyWordDecoder.KW_DIRECTIONAL_LIGHT, SKeyWordDecoder.KW_POINT_LIGHT,
+    SKeyWordDecoder.KW_LINEAR_APERTURE_LIGHT, SKeyWordDecoder.KW_RECTANGULAR_APERTURE_LIGHT,
+    SKeyWordDecoder.KW_ELLIPTICAL_APERTURE_LIGHT,SKeyWordDecoder.KW_APERTURE_MASK_LIGHT,
+    SKeyWordDecoder.KW_MODEL, SKeyWordDecoder.KW_ANIMATION, SKeyWordDecoder.KW_VIEW
+  };
+  
+  /**
+   * La constante <b>DEFAULT_SCENE_FILE_NAME</b> correspond au nom du fichier de scène par défaut étant égal à {@value}. 
+   */
+  public static final String DEFAULT_SCENE_FILE_NAME = "default_scene.txt";
+  
+  /**
+   * La constante <b>SPACE_REBUILD_RATIO</b> correspond à la proportion maximale de géométries insérées ou retirées 
+   * lors d'un rechargement de la scène permettant de mettre à jour l'espace des géométries de la scène précédente
+   * plutôt que de le reconstruire au complet. Elle est égale à {@value}.
+   */
+  private static final double SPACE_REBUILD_RATIO = 0.1;
+  
+  //-------------
+  // VARIABLES //
+  //-------------
+  
+  /**
+   * La variable 'camera' correspond à la caméra qui sera utilisée pour visualiser la scène.
+   */
+	private SCamera camera;					                 
+	
+	/**
+	 * La variable 'animation' correspond au déplacement de la caméra le long d'une séquence d'images (<b>null</b> pour une seule image).
+	 */
+	private SAnimation animation;
+	
+	/**
+	 * La variable 'view_list' correspond aux vues supplémentaires de la scène rendues ensemble (vide pour le rendu de la caméra de la scène seulement).
+	 */
+	private final List<SView> view_list;
+	
+	/**
+	 * La variable 'viewport' correspond à l'écran de vue où seront écrit les différents pixels de couleur calculés par le ray tracer.
+	 */
+	private SViewport viewport;		
+	
+	/**
+	 * La variable 'raytracer_builder' correspond à un constructeur du raytracer. Selon ses paramètres, un ray tracer particulier sera éventuellement construit.
+	 */
+	private SRaytracerBuilder raytracer_builder;     
+			
+	/**
+	 * La variable 'primitive_list' correspond à la liste des primitives situées dans la scène. Une primitive est une géométrie affectée à un matériel.
+	 */
+	private final List<SPrimitive> primitive_list;   
+	
+	/**
+	 * La variable 'material_list' correspond à la liste des différents matériaux disponibles lors du calcul du rendu.
+	 */
+	private final List<SMaterial> material_list;		 
+	
+	/**
+	 * La variable 'light_list' correspond à la liste des sources de lumières disponibles pour faire les calculs d'illumination de la scène lors du ray tracing.
+	 */
+	private final List<SLight> light_list;				   
+	
+	/**
+	 * La variable 'model_list' correspond à la liste des différents modèles situés dans la scène. Un modèle comprend plusieurs primitives (géométrie + matériel).
+	 */
+	private final List<SModel> model_list;           
+		
+	/**
+	 * La variable 'geometry_list' correspond à la liste des différentes géométries situés dans la scène.
+	 */
+	private final List<SGeometry> geometry_list;     
+	
+	/**
+	 * La variable 'geometry_space' correspond à l'espace des géométries construit pour le rendu de la scène.
+	 * Il est <b>null</b> tant que le ray tracer de la scène n'a pas été construit.
+	 */
+	private SGeometrySpace geometry_space;
+	
+	/**
+	 * La variable 'previous_scene' correspond à la scène précédente lors d'un rechargement à chaud de la scène.
+	 * Les primitives, les modèles et l'espace des géométries inchangés de la scène précédente seront réutilisés.
+	 * Elle est <b>null</b> s'il n'y a pas de scène précédente ou lorsque la réutilisation a été réalisée.
+	 */
+	private SScene previous_scene;
+	
+	/**
+	 * La variable 'reusable_model_list' correspond à la liste des modèles de la scène précédente dont le fichier n'a pas été modifié.
+	 */
+	private final List<SModel> reusable_model_list;
+	
+	//----------------
+	// CONSTRUCTEUR //
+	//----------------
+	
+	/**
+	 * Constructeur avec lecture d'un fichier txt.
+	 * 
+	 * @param file_name - Le nom du fichier en lecture.
+	 * @throws FileNotFoundException Si le fichier de lecture n'a pas été trouvé.
+	 * @throws IOException Si une erreur de type I/O est survenue.
+	 * @throws SConstructorException Si une erreur est survenue lors de la construction.
+	 */
+	public SScene(String file_name) throws FileNotFoundException, IOException, SConstructorException
+	{
+	  this(file_name, null, new ArrayList<String>());
+	}
+	
+	/**
+	 * Constructeur avec lecture d'un fichier txt réutilisant les éléments inchangés d'une scène précédente (rechargement à chaud).
+	 * Les modèles dont le fichier a été modifié seront relus et les primitives dont la définition a changé seront reconstruites.
+	 * 
+	 * @param file_name - Le nom du fichier en lecture.
+	 * @param previous_scene - La scène précédente (<b>null</b> s'il n'y en a pas).
+	 * @param modified_file_list - La liste des noms de fichier modifiés depuis la lecture de la scène précédente.
+	 * @throws FileNotFoundException Si le fichier de lecture n'a pas été trouvé.
+	 * @throws IOException Si une erreur de type I/O est survenue.
+	 * @throws SConstructorException Si une erreur est survenue lors de la construction.
+	 */
+	public SScene(String file_name, SScene previous_scene, Collection<String> modified_file_list) throws FileNotFoundException, IOException, SConstructorException
+	{
+	  this.previous_scene = previous_scene;
+	  reusable_model_list = new ArrayList<SModel>();
+	  
+	  if(previous_scene != null)
+	    for(SModel m : previous_scene.model_list)
+	      if(!modified_file_list.contains(m.getFileName()))
+	        reusable_model_list.add(m);
+	  
+	  geometry_space = null;
+	  
+	  camera = new SCamera();                             
+	  animation = null;
+	  view_list = new ArrayList<SView>();
+    viewport = new SViewport();                         
+    raytracer_builder = new SRaytracerBuilder();        
+        
+    primitive_list = new ArrayList<SPrimitive>();  
+    material_list = new ArrayList<SMaterial>();     
+    light_list = new ArrayList<SLight>();              
+    model_list = new ArrayList<SModel>();              
+      
+    geometry_list = new ArrayList<SGeometry>();   
+		
+    // Choix de la création de la scène
+    if(file_name.equals(DEFAULT_SCENE_FILE_NAME))
+      buildDefaultScene();                            // scène par défaut
+    else
+    {
+      read(file_name);                                // scène en lecture  
+      
+      // Un rendu interrompu n'est repris que si la scène n'a pas été modifiée
+      List<SViewport> checkpoint_list = new ArrayList<SViewport>();
+      
+      if(viewport.hasCheckpoint())
+        checkpoint_list.add(viewport);
+      
+      for(SView view : view_list)
+        if(view.getViewport().hasCheckpoint())
+          checkpoint_list.add(view.getViewport());
+      
+      if(!checkpoint_list.isEmpty())
+      {
+        String hash = sceneHash(file_name);
+        
+        for(SViewport v : checkpoint_list)
+          v.setCheckpointSceneHash(hash);
+      }
+    }
+	}
+		
+	//------------
+	// MÉTHODES //
+	//------------
+	
+	/**
+	 * Méthode pour obtenir l'empreinte (SHA-256) du contenu d'un fichier de scène. Le fichier est cherché de la même façon que lors de la lecture de la scène.
+	 * 
+	 * @param file_name - Le nom du fichier de scène.
+	 * @return L'empreinte en hexadécimal.
+	 * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+	 * @throws IOException S'il y a une erreur lors de la lecture du fichier.
+	 * @throws SConstructorException Si le fichier a été trouvé plus d'une fois.
+	 */
+	public static String sceneHash(String file_name) throws FileNotFoundException, IOException, SConstructorException
+	{
+	  SFileSearch search = new SFileSearch("", file_name);
+	  
+	  if(!search.isFileFound())
+	    throw new FileNotFoundException("Erreur SScene 008 : Le fichier '" + file_name + "' n'est pas trouvé.");
+	  
+	  if(search.isManyFileFound())
+	    throw new SConstructorException("Erreur SScene 009 : Le fichier '" + file_name + "' a été trouvé plus d'une fois dans les différents sous-répertoires.");
+	  
+	  try{
+	    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+	    
+	    byte[] hash = digest.digest(Files.readAllBytes(new File(search.getFileFoundList().get(0)).toPath()));
+	    
+	    return String.format("%064x", new BigInteger(1, hash));
+	    
+	  }catch(NoSuchAlgorithmException e){
+	    throw new SRuntimeException("Erreur SScene 010 : L'algorithme SHA-256 n'est pas disponible.", e);
+	  }
+	}
+	
+	/**
+	 * Méthode pour obtenir la caméra de la scene.
+	 * 
+	 * @return La caméra de la scene.
+	 */
+	public SCamera getCamera()
+	{ 
+	  return camera;
+	}
+	
+	/**
+	 * Méthode pour obtenir l'animation de la caméra de la scène.
+	 * 
+	 * @return L'animation (<b>null</b> si la scène n'est pas animée).
+	 */
+	public SAnimation getAnimation()
+	{
+	  return animation;
+	}
+	
+	/**
+	 * Méthode pour obtenir les vues supplémentaires de la scène.
+	 * 
+	 * @return La liste des vues (vide si la scène n'a pas de vue supplémentaire).
+	 */
+	public List<SView> getViewList()
+	{
+	  return view_list;
+	}
+	
+	/**
+	 * Méthode pour obtenir le viewport de la scene.
+	 * 
+	 * @return Le viewport de la scene.
+	 */
+	public SViewport getViewport()
+	{ 
+	  return viewport;
+	}
+	
+	/**
+	 * Méthode pour obtenir la liste des primitives de la scène.
+	 * 
+	 * @return La liste des primitives.
+	 */
+	public List<SPrimitive> getPrimitiveList(){ return primitive_list; }
+	
+	/**
+	 * Méthode pour obtenir la liste des sources de lumière de la scène.
+	 * 
+	 * @return La liste des sources de lumière.
+	 */
+	public List<SLight> getLightList(){ return light_list; }
+	
+	/**
+	 * Méthode pour obtenir la liste des modèles de la scène.
+	 * 
+	 * @return La liste des modèles.
+	 */
+	public List<SModel> getModelList(){ return model_list; }
+	
+	/**
+	 * Méthode pour obtenir l'espace des géométries de la scène.
+	 * 
+	 * @return L'espace des géométries (<b>null</b> tant que le ray tracer de la scène n'a pas été construit).
+	 */
+	public SGeometrySpace getGeometrySpace(){ return geometry_space; }
+	
+	/**
+	 * Méthode pour faire la construction du raytracer associé à la scène en fonction de ses paramètres comme le viewport, la caméra, les géométries et les lumières.
+	 * 
+	 * @return Le ray tracer de la scène.
+	 */
+	public SRaytracer buildRaytracer()
+	{
+	  geometry_space = buildGeometrySpace();
+	  
+	  // La scène précédente n'est plus nécessaire
+	  previous_scene = null;
+	  
+	  return raytracer_builder.buildRaytracer(viewport, camera, geometry_space, light_list);
+	}
+	
+	/**
+	 * Méthode pour faire la construction d'un raytracer de la scène pour une caméra et un viewport donnés. 
+	 * L'espace des géométries est construit lors du premier appel seulement et il est partagé par l'ensemble 
+	 * des raytracers ainsi construits (plusieurs rendus de la même scène). Les modèles trop peu détaillés 
+	 * pour cette caméra sont remplacés par un niveau de détail plus fin.
+	 * 
+	 * @param camera - La caméra.
+	 * @param viewport - Le viewport.
+	 * @return Le ray tracer de la scène.
+	 */
+	public SRaytracer buildRaytracer(SCamera camera, SViewport viewport)
+	{
+	  refineLevelOfDetail(new SViewFrustum(camera, viewport));
+	  
+	  if(geometry_space == null)
+	  {
+	    geometry_space = buildGeometrySpace();
+	    
+	    // La scène précédente n'est plus nécessaire
+	    previous_scene = null;
+	  }
+	  
+	  return raytracer_builder.buildRaytracer(viewport, camera, geometry_space, light_list);
+	}
+	
+	/**
+	 * Méthode pour faire la construction du raytracer des vues de la scène. Les raytracers des vues partagent 
+	 * l'espace des géométries et les sources de lumière de la scène et leurs tuiles sont évaluées par un seul exécuteur.
+	 * 
+	 * @return Le ray tracer des vues.
+	 * @throws SConstructorException Si la scène n'a pas de vue.
+	 */
+	public SMultiViewRaytracer buildMultiViewRaytracer() throws SConstructorException
+	{
+	  List<SRaytracer> raytracer_list = new ArrayList<SRaytracer>();
+	  
+	  for(SView view : view_list)
+	    raytracer_list.add(buildRaytracer(view.getCamera(), view.getViewport()));
+	  
+	  return new SMultiViewRaytracer(raytracer_list, raytracer_builder.getNbTask());
+	}
+	
+	/**
+	 * Méthode pour remplacer les modèles dont le niveau de détail est trop grossier pour une caméra par un niveau plus détaillé.
+	 * Un modèle n'est jamais remplacé par un niveau plus grossier afin de demeurer suffisamment détaillé pour les caméras précédentes.
+	 * L'espace des géométries déjà construit est mis à jour.
+	 * 
+	 * @param view_frustum - La pyramide de vue de la caméra.
+	 */
+	private void refineLevelOfDetail(SViewFrustum view_frustum)
+	{
+	  Set<SGeometry> removed_set = new HashSet<SGeometry>();
+	  List<SGeometry> inserted_list = new ArrayList<SGeometry>();
+	  
+	  for(int i = 0; i < model_list.size(); i++)
+	  {
+	    SModel model = model_list.get(i);
+	    
+	    if(model.getLevelOfDetail() == null)
+	      continue;
+	    
+	    int level = model.getLevelOfDetail().selectLevel(view_frustum, model);
+	    
+	    if(level >= model.getLevel())
+	      continue;
+	    
+	    SModel refined_model = SModelReader.resolveLevelOfDetail(model, level);
+	    model_list.set(i, refined_model);
+	    
+	    for(SPrimitive p : model.getPrimitiveList())
+	      if(p.getGeometry() != null)
+	        removed_set.add(p.getGeometry());
+	    
+	    for(SPrimitive p : refined_model.getPrimitiveList())
+	      if(p.getGeometry() != null)
+	        inserted_list.add(p.getGeometry());
+	  }
+	  
+	  if(removed_set.isEmpty() && inserted_list.isEmpty())
+	    return;
+	  
+	  geometry_list.removeAll(removed_set);
+	  geometry_list.addAll(inserted_list);
+	  
+	  releaseUnusedLevelOfDetail();
+	  
+	  if(geometry_space == null)
+	    return;
+	  
+	  // Reconstruction complète si trop de géométries ont été modifiées
+	  if(removed_set.size() + inserted_list.size() > SPACE_REBUILD_RATIO*geometry_list.size())
+	  {
+	    SLog.logWriteLine("Message SScene : Reconstruction de l'espace des géométries pour un niveau de détail plus fin (" + removed_set.size() + " retirées, " + inserted_list.size() + " insérées).");
+	    geometry_space = raytracer_builder.buildGeometrySpace(geometry_list);
+	    return;
+	  }
+	  
+	  for(SGeometry g : removed_set)
+	    geometry_space.removeGeometry(g);
+	  
+	  for(SGeometry g : inserted_list)
+	    geometry_space.insertGeometry(g);
+	  
+	  SLog.logWriteLine("Message SScene : Mise à jour de l'espace des géométries pour un niveau de détail plus fin (" + removed_set.size() + " retirées, " + inserted_list.size() + " insérées).");
+	}
+	
+	/**
+	 * Méthode pour faire la construction de l'espace des géométries de la scène. Lors d'un rechargement à chaud,
+	 * l'espace des géométries de la scène précédente sera mis à jour par l'insertion et le retrait des géométries modifiées
+	 * si le type d'espace est inchangé et si la proportion de géométries modifiées est faible.
+	 * 
+	 * @return L'espace des géométries initialisé.
+	 */
+	private SGeometrySpace buildGeometrySpace()
+	{
+	  if(previous_scene == null || previous_scene.geometry_space == null || 
+	     previous_scene.raytracer_builder.getTypeOfSpace() != raytracer_builder.getTypeOfSpace())
+	    return raytracer_builder.buildGeometrySpace(geometry_list);
+	  
+	  Set<SGeometry> previous_set = new HashSet<SGeometry>(previous_scene.geometry_list);
+	  Set<SGeometry> current_set = new HashSet<SGeometry>(geometry_list);
+	  
+	  List<SGeometry> removed_list = new ArrayList<SGeometry>();
+	  List<SGeometry> inserted_list = new ArrayList<SGeometry>();
+	  
+	  for(SGeometry g : previous_scene.geometry_list)
+	    if(!current_set.contains(g))
+	      removed_list.add(g);
+	  
+	  for(SGeometry g : geometry_list)
+	    if(!previous_set.contains(g))
+	      inserted_list.add(g);
+	  
+	  // Reconstruction complète si trop de géométries ont été modifiées
+	  if(removed_list.size() + inserted_list.size() > SPACE_REBUILD_RATIO*geometry_list.size())
+	  {
+	    SLog.logWriteLine("Message SScene : Reconstruction complète de l'espace des géométries (" + removed_list.size() + " retirées, " + inserted_list.size() + " insérées).");
+	    return raytracer_builder.buildGeometrySpace(geometry_list);
+	  }
+	  
+	  SGeometrySpace space = previous_scene.geometry_space;
+	  
+	  for(SGeometry g : removed_list)
+	    space.removeGeometry(g);
+	  
+	  for(SGeometry g : inserted_list)
+	    space.insertGeometry(g);
+	  
+	  SLog.logWriteLine("Message SScene : Mise à jour de l'espace des géométries de la scène précédente (" + removed_list.size() + " retirées, " + inserted_list.size() + " insérées).");
+	  
+	  return space;
+	}
+
+	@Override
+	public void write(BufferedWriter bw) throws IOException
+	{
+		writeComment(bw, "Paramètres du rendu");
+		
+	  camera.write(bw);
+	  
+	  if(animation != null)
+	    animation.write(bw);
+	  
+	  for(SView view : view_list)
+	    view.write(bw);
+	  
+		viewport.write(bw);
+		raytracer_builder.write(bw);
+			
+		writeComment(bw, "Modèles de la scène");
+		    
+		//Écrire les modèle
+    for(SModel m : model_list)
+      m.write(bw);
+    
+    writeComment(bw, "Primitives de la scène");
+       
+    //Écrire les primitives
+    for(SPrimitive p : primitive_list)
+      p.write(bw);
+    
+    writeComment(bw, "Matériaux de la scène");
+    
+   	//Écrire les matériaux
+		for(SMaterial m : material_list)
+			m.write(bw);
+		
+		writeComment(bw, "Sources de lumière de la scène");
+				
+		//Écrire les lumières
+		for(SLight l : light_list)
+			l.write(bw);		
+	}
+	
+	/**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   * 
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+	{
+		int primitive_count = 0;
+		
+		//Réutiliser les primitives inchangées de la scène précédente
+		if(previous_scene != null)
+		  reusePrimitive();
+		
+		//Remplir l'espace de géométrie avec les géométries des primitives disponibles.
+		//Les primitives sans géométrie (qui sont à null) ne seront pas ajoutées à l'espace des géométries.
+		for(SPrimitive p : primitive_list)
+			if(p.getGeometry() != null)							         //Vérification de la présence d'une géométrie
+			{
+			  geometry_list.add(p.getGeometry());	//Ajout de la géométrie
+			  primitive_count++;
+			}
+	
+		//Choisir le niveau de détail des modèles selon la taille de leur projection à l'écran de chaque caméra de la scène
+		List<SViewFrustum> view_frustum_list = buildViewFrustumList();
+		
+		for(int i = 0; i < model_list.size(); i++)
+		  model_list.set(i, SModelReader.resolveLevelOfDetail(model_list.get(i), view_frustum_list));
+		
+		releaseUnusedLevelOfDetail();
+		
+		//Mettre l'ensemble des géométries des modèle dans l'espace des géométries
+		for(SModel m : model_list)
+		  for(SPrimitive p : m.getPrimitiveList())
+		    if(p.getGeometry() != null)                     //Vérification de la présence d'une géométrie
+		    {
+		      geometry_list.add(p.getGeometry());  //Ajout de la géométrie
+		      primitive_count++;
+		    }
+		
+		//Faire l'assignation des matériaux aux primitives
+		SMaterialAffectation m_affectation = new SMaterialAffectation(primitive_list, material_list);
+		m_affectation.affectation();
+		
+		//Message du comptage des primitives
+    SLog.logWriteLine("Message SScene : La scène comprend " + primitive_count + " primitives.");
+	}
+	
+	/**
+	 * Méthode pour retirer de la mémoire les niveaux de détail des modèles qui ne sont pas utilisés par la scène.
+	 * Un niveau retiré sera reconstruit à partir du fichier du modèle s'il est de nouveau requis (ex. une caméra plus rapprochée).
+	 */
+	private void releaseUnusedLevelOfDetail()
+	{
+	  Map<SModelLevelOfDetail, Set<Integer>> used_map = new HashMap<SModelLevelOfDetail, Set<Integer>>();
+	  
+	  for(SModel m : model_list)
+	    if(m.getLevelOfDetail() != null)
+	    {
+	      if(!used_map.containsKey(m.getLevelOfDetail()))
+	        used_map.put(m.getLevelOfDetail(), new HashSet<Integer>());
+	      
+	      used_map.get(m.getLevelOfDetail()).add(m.getLevel());
+	    }
+	  
+	  for(Map.Entry<SModelLevelOfDetail, Set<Integer>> entry : used_map.entrySet())
+	    entry.getKey().releaseUnusedLevels(entry.getValue());
+	}
+	
+	/**
+	 * Méthode pour obtenir les pyramides de vue de l'ensemble des caméras de la scène : la caméra de la scène, 
+	 * la caméra de chaque image de l'animation et la caméra de chaque vue.
+	 * 
+	 * @return La liste des pyramides de vue.
+	 * @throws SInitializationException Si la caméra d'une image de l'animation ne peut pas être construite.
+	 */
+	private List<SViewFrustum> buildViewFrustumList() throws SInitializationException
+	{
+	  List<SViewFrustum> list = new ArrayList<SViewFrustum>();
+	  list.add(new SViewFrustum(camera, viewport));
+	  
+	  if(animation != null)
+	    for(int frame = 0; frame < animation.getFrameCount(); frame++)
+	      try{
+	        list.add(new SViewFrustum(animation.getCamera(camera, frame), viewport));
+	      }catch(SConstructorException e){
+	        throw new SInitializationException("Erreur SScene 007 : La caméra de l'image '" + frame + "' de l'animation ne peut pas être construite." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+	      }
+	  
+	  for(SView view : view_list)
+	    list.add(new SViewFrustum(view.getCamera(), view.getViewport()));
+	  
+	  return list;
+	}
+	
+	/**
+	 * Méthode pour remplacer les primitives de la scène par les primitives de la scène précédente ayant la même définition.
+	 * Les géométries des primitives réutilisées étant identiques, elles n'auront pas à être retirées et réinsérées dans l'espace des géométries.
+	 */
+	private void reusePrimitive()
+	{
+	  Map<String, List<SPrimitive>> previous_map = new HashMap<String, List<SPrimitive>>();
+	  
+	  for(SPrimitive p : previous_scene.primitive_list)
+	  {
+	    String definition = writeDefinition(p);
+	    
+	    if(!previous_map.containsKey(definition))
+	      previous_map.put(definition, new ArrayList<SPrimitive>());
+	    
+	    previous_map.get(definition).add(p);
+	  }
+	  
+	  int reused_count = 0;
+	  
+	  for(int i = 0; i < primitive_list.size(); i++)
+	  {
+	    List<SPrimitive> list = previous_map.get(writeDefinition(primitive_list.get(i)));
+	    
+	    if(list != null && !list.isEmpty())
+	    {
+	      primitive_list.set(i, list.remove(list.size()-1));
+	      reused_count++;
+	    }
+	  }
+	  
+	  SLog.logWriteLine("Message SScene : " + reused_count + " primitives sur " + primitive_list.size() + " sont réutilisées de la scène précédente.");
+	}
+	
+	/**
+	 * Méthode pour obtenir la définition d'une primitive telle qu'elle serait écrite dans un fichier de scène.
+	 * 
+	 * @param primitive - La primitive.
+	 * @return La définition de la primitive.
+	 * @throws SRuntimeException Si une erreur d'écriture est survenue.
+	 */
+	private static String writeDefinition(SPrimitive primitive) throws SRuntimeException
+	{
+	  try{
+	    StringWriter sw = new StringWriter();
+	    BufferedWriter bw = new BufferedWriter(sw);
+	    
+	    primitive.write(bw);
+	    bw.flush();
+	    
+	    return sw.toString();
+	  }catch(IOException e){
+	    throw new SRuntimeException("Erreur SScene 006 : L'écriture de la définition d'une primitive est impossible." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+	  }
+	}
+	
+	@Override
+	protected boolean read(SBufferedReader sbr, int code, String remaining_line)throws SReadingException, IOException
+	{
+		try{
+  	  switch(code)
+  		{
+  			case SKeyWordDecoder.CODE_CAMERA :				        camera = new SCamera(sbr); return true;
+  															
+  			case SKeyWordDecoder.CODE_ANIMATION :             animation = new SAnimation(sbr); return true;
+  			
+  			case SKeyWordDecoder.CODE_VIEW :                  view_list.add(new SView(sbr)); return true;
+  			
+  			case SKeyWordDecoder.CODE_VIEWPORT :			        viewport = new SViewport(sbr); return true;
+  											
+  			case SKeyWordDecoder.CODE_RAYTRACER :             raytracer_builder = new SRaytracerBuilder(sbr); return true;
+  			
+  			case SKeyWordDecoder.CODE_PRIMITIVE :			        primitive_list.add(new SPrimitive(sbr)); return true;
+  															
+  			case SKeyWordDecoder.CODE_BLINN_MATERIAL:		      material_list.add(new SBlinnMaterial(sbr)); return true;
+  			
+  			case SKeyWordDecoder.CODE_TEXTURE_MATERIAL :      material_list.add(new SBlinnTextureMaterial(sbr)); return true;
+  			
+  			case SKeyWordDecoder.CODE_AMBIENT_LIGHT :		      light_list.add(new SAmbientLight(sbr));	return true;
+  															
+  			case SKeyWordDecoder.CODE_DIRECTIONAL_LIGHT :	    light_list.add(new SDirectionalLight(sbr));	return true;
+  															
+  			case SKeyWordDecoder.CODE_POINT_LIGHT :			      light_list.add(new SPointLight(sbr));	return true;
+  			
+  			case SKeyWordDecoder.CODE_LINEAR_APERTURE_LIGHT : light_list.add(new SLinearApertureLight(sbr)); return true;
+  			
+  			case SKeyWordDecoder.CODE_RECTANGULAR_APERTURE_LIGHT : light_list.add(new SRectangularApertureLight(sbr)); return true;
+        
+  			case SKeyWordDecoder.CODE_ELLIPTICAL_APERTURE_LIGHT : light_list.add(new SEllipticalApertureLight(sbr)); return true;
+  			
+  			case SKeyWordDecoder.CODE_APERTURE_MASK_LIGHT : light_list.add(new SApertureMaskLight(sbr)); return true;
+        
+  			
+  			case SKeyWordDecoder.CODE_MODEL :   SModelReader m_reader = new SModelReader(sbr, reusable_model_list, true);
+  			
+  			                                    if(m_reader.asRead())
+  			                                      model_list.add((SModel)m_reader.getValue());
+  			                                    
+  			                                    return true;
+  			
+  			default : return false;
+  		}
+		}catch(SConstructorException e){
+		  throw new SReadingException("Erreur SScene 004 : La construction d'un élément de la scène est impossible." + SStringUtil.END_LINE_CARACTER + "\n" + e.getMessage());
+		}
+	}
+			
+	@Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+	
+	@Override
+  public String getReadableName()
+  {
+	  return SKeyWordDecoder.KW_SCENE;
+  }
+  
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+    
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+  
+  /**
+   * Méthode pour faire le chargement de la scène par la lecture d'un fichier txt.
+   * 
+   * @param file_name Le nom du fichier txt.
+   * @throws FileNotFoundException Si le ficher de lecture n'est pas trouvé.
+   * @throws SConstructorException S'il y a eu une erreur lors de la construction de l'objet.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   */
+  /*
+  private void readScene(String file_name) throws FileNotFoundException, SConstructorException, IOException
+  {
+    // Trouver le fichier à partir du répertoire où l'exécution de l'application est réalisée
+    SFileSearch search = new SFileSearch("", file_name);
+    
+    if(!search.isFileFound())
+      throw new FileNotFoundException("Erreur SScene 001 : Le fichier '" + file_name + "' n'est pas trouvé.");
+    
+    if(search.isManyFileFound())
+      throw new SConstructorException("Erreur SScene 002 : Le fichier '" + file_name + "' a été trouvé plus d'une fois dans les différents sous-répertoires. Veuillez en garder qu'une seule version.");
+    
+    // Lecture de la scène à partir d'un fichier
+    FileReader fr = new FileReader(search.getFileFoundList().get(0));
+    SBufferedReader sbr = new SBufferedReader(fr);
+    
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SScene 003 : Une erreur à l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+      
+    sbr.close();
+    fr.close();
+  }
+  */
+  
+  /**
+   * Méthode pour faire la construction d'une scène par défaut.
+   */
+  private void buildDefaultScene()
+  {
+    SPlaneGeometry plan = new SPlaneGeometry();
+    SSphereGeometry sphere = new SSphereGeometry(new SVector3d(0.0, 0.0, 1.0), 0.5);
+    
+    SPrimitive p1 = new SPrimitive(plan);
+    SPrimitive p2 = new SPrimitive(sphere);
+    
+    SDirectionalLight l1 = new SDirectionalLight();
+    
+    primitive_list.add(p1);
+    primitive_list.add(p2);
+    light_list.add(l1);
+    
+    camera = new SCamera(new SVector3d(-2.0, 0.0, 2.0), new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 1.0));
+    
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SRuntimeException("Erreur SScene 005 : Une erreur d'initialisation est survenue durant la construction de la scène par défaut." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+  
+}//fin de la classe SScene
@@ -0,0 +1,186 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import sim.exception.SConstructorException;
+import sim.readwrite.SAbstractReadableWriteable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SView</b> représente une vue supplémentaire d'une scène. Une vue est définie par une caméra
+ * et par le viewport où son image sera écrite (ex. une image d'une paire stéréo ou un angle de vue d'un objet).
+ * Les vues d'une scène sont rendues ensemble en partageant la scène et son espace des géométries (voir <b>SMultiViewRaytracer</b>).
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ * @see SMultiViewRaytracer
+ */
+public class SView extends SAbstractReadableWriteable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_CAMERA, SKeyWordDecoder.KW_VIEWPORT
+  };
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>camera</b> correspond à la caméra de la vue.
+   */
+  private SCamera camera;
+
+  /**
+   * La variable <b>viewport</b> correspond au viewport où l'image de la vue sera écrite.
+   */
+  private SViewport viewport;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une vue.
+   *
+   * @param camera - La caméra de la vue.
+   * @param viewport - Le viewport de la vue.
+   * @throws SConstructorException Si la caméra ou le viewport n'est pas défini.
+   */
+  public SView(SCamera camera, SViewport viewport) throws SConstructorException
+  {
+    this.camera = camera;
+    this.viewport = viewport;
+
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SView 001 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Constructeur d'une vue à partir d'information lue dans un fichier de format txt.
+   *
+   * @param sbr - Le BufferedReader cherchant l'information dans le fichier txt.
+   * @throws IOException Si une erreur de type I/O est survenue.
+   * @throws SConstructorException Si une erreur est survenue lors de la construction.
+   */
+  public SView(SBufferedReader sbr) throws IOException, SConstructorException
+  {
+    camera = null;
+    viewport = null;
+
+    try{
+      read(sbr);
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SView 002 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir la caméra de la vue.
+   *
+   * @return La caméra.
+   */
+  public SCamera getCamera()
+  {
+    return camera;
+  }
+
+  /**
+   * Méthode pour obtenir le viewport de la vue.
+   *
+   * @return Le viewport.
+   */
+  public SViewport getViewport()
+  {
+    return viewport;
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   *
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    if(camera == null)
+      throw new SInitializationException("Erreur SView 003 : La caméra de la vue n'est pas définie.");
+
+    if(viewport == null)
+      throw new SInitializationException("Erreur SView 004 : Le viewport de la vue n'est pas défini.");
+  }
+
+  @Override
+  public void write(BufferedWriter bw) throws IOException
+  {
+    bw.write(SKeyWordDecoder.KW_VIEW);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+
+    camera.write(bw);
+    viewport.write(bw);
+
+    bw.write(SKeyWordDecoder.KW_END);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+
+  @Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException, IOException
+  {
+    try{
+      switch(code)
+      {
+        case SKeyWordDecoder.CODE_CAMERA : camera = new SCamera(sbr); return true;
+
+        case SKeyWordDecoder.CODE_VIEWPORT : viewport = new SViewport(sbr); return true;
+
+        default : return false;
+      }
+    }catch(SConstructorException e){
+      throw new SReadingException("Erreur SView 005 : La construction de la caméra ou du viewport de la vue est impossible." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+
+  @Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_VIEW;
+  }
+
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+
+}//fin de la classe SView
@@ -1,537 +1,1327 @@
-/**
- * 
- */
-package sim.graphics;
-
-import java.awt.image.BufferedImage;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.IOException;
-import java.util.Arrays;
-
-import javax.imageio.ImageIO;
-
-import sim.exception.SConstructorException;
-import sim.exception.SCoordinateOutOfBoundException;
-import sim.exception.SRuntimeException;
-import sim.math.SVectorPixel;
-import sim.readwrite.SAbstractReadableWriteable;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SInitializationException;
-import sim.util.SReadingException;
-import sim.util.SStringUtil;
-
-/**
- * La classe <b>SViewport</b> reprsente une grille de couleur en deux dimension en espace pixels o sera dessin la scne du point de vue de le pyramide de vue (ViewFrustum).
- * Les coordonnes sont indexs avec [x][y] o x correspond au numro de ligne et y correspond au numro de la colonne du tableau.
- * <ul>- La coordonne [0][0] correspond au coin suprieur gauche de l'image.</ul>
- * <ul>- La coordonne [width-1][0] correspond au coin suprieur droit de l'image.</ul>
- * <ul>- La coordonne [0][height-1] correspond au coin infrieur gauche de l'image.</ul>
- * <ul>- La coordonne [width-1][height-1] correspond au coint infrieur droit de l'image.</ul>
- *  
- * @author Simon Vzina
- * @since 2014-12-27
- * @version 2017-12-08
- */
-public class SViewport extends SAbstractReadableWriteable {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>KEYWORD_PARAMETER</b> correspond  un tableau contenant l'ensemble des mots cls 
-   *  utiliser reconnus lors de la dfinition de l'objet par une lecture en fichier.
-   */
-  private static final String[] KEYWORD_PARAMETER = {
-    SKeyWordDecoder.KW_WIDTH, SKeyWordDecoder.KW_HEIGHT, SKeyWordDecoder.KW_IMAGE_FILE_NAME
-  };
-  
-  /**
-   * La constante <b>ORIGIN_PIXEL</b> correspond  l'origine en coordonne pixel du viewport.
-   */
-  private static final SVectorPixel ORIGIN_PIXEL = new SVectorPixel(0,0);
-  
-	private final static int DEFAULT_IMAGE_COUNTER = 0;						        //numro de l'image initiale par dfaut
-	private final static int MAX_IMAGE_COUNTER = 999;						          //numro maximal de l'image
-		
-	public final SColor BACKGROUND_SCOLOR = new SColor(0.0, 0.0, 0.0);		//Couleur du background (en SColor)
-	
-	private static final int DEFAULT_WIDTH = 500;							            //largeur du viewport par dfaut
-	private static final int DEFAULT_HEIGHT = 500;						            //hauteur du viewport par dfaut
-	
-	private static final String DEFAULT_IMAGE_FILE_NAME = "image";			  //nom du fichier de l'criture du viewport par dfaut
-	private static final String DEFAULT_IMAGE_EXTENSION = "png";			    //extension du fichier d'criture du viewport par dfaut
-	
-	private static int image_counter = DEFAULT_IMAGE_COUNTER;				      //numro de l'image qui sera gnr lors de l'criture du viewport dans un fichier image
-	
-	/**
-	 * La variable <b>image_file_name</b> reprsente le nom du fichier lors de l'criture du viewport en fichier image.
-	 */
-	private String image_file_name;				
-		
-	/**
-	 * La variable <b>width</b> reprsente le nombre de pixels en largeur (selon l'axe x, de 0  width-1).
-	 */
-	private int width;	
-	
-	/**
-	 * La variable <b>height</b> reprsente le nombre de pixels en hauteur (selon l'axe y, de 0  height-1).
-	 */ 
-	private int height;							      
-	
-	/**
-	 * La variable <b>image</b> correspond au tableau  deux dimensions contenant les couleurs.
-	 */
-	private SColor[][] image;             
-	
-	/**
-	 * La variable <b>image_buffer</b> correspond  l'image du viewport.
-	 */
-	private BufferedImage image_buffer;
-	
-	/**
-	 * La variable <b>current_pixel</b> reprsente le pixel qui est prsentement en analyse dans le <i>viewport</i>.
-	 */
-	private SVectorPixel current_pixel;		
-		
-	//----------------
-	// CONSTRUCTEUR //
-	//----------------
-	
-	/**
-	 * Constructeur d'un viewport par dfaut.
-	 */
-	public SViewport()
-	{
-		this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
-	}
-	
-	/**
-	 * Constructeur avec dfinition des paramtres de largeur (width) et de hauteur (height).
-	 * 
-	 * @param width - La largeur du viewport.
-	 * @param height - La hauteur du viewport.
-	 */
-	public SViewport(int width, int height)
-	{
-		this(width, height, DEFAULT_IMAGE_FILE_NAME);
-	}
-	
-	/**
-	 * Constructeur d'un viewport.
-	 * 
-	 * @param width - La largeur du viewport.
-	 * @param height - La hauteur du viewport.
-	 * @param file_name - Le nom du fichier image qui sera gnr.
-	 * @throws SConstructorException Si une erreur est survenue  la construction.
-	 */
-	public SViewport(int width, int height, String file_name) throws SConstructorException
-	{
-		if(width < 1)
-		  throw new SConstructorException("Erreur SViewport 001 : La largeur du viewport (width) tant gal  " + width + "est infrieur  1.");
-		
-		if(height < 1)
-      throw new SConstructorException("Erreur SViewport 002 : La hauteur du viewport (height) tant gal  " + height + "est infrieur  1.");
-    
-	  this.width = width;
-		this.height = height;
-		image_file_name = file_name;
-				
-		try{
-		  initialize();
-		}catch(SInitializationException e){
-      throw new SConstructorException("Erreur SViewport 003 : Une erreur  l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }  
-	}
-	
-	/**
-	 * Constructeur du viewport  partir d'information lue dans un fichier de format txt.
-	 * 
-	 * @param br Le BufferedReader cherchant l'information de le fichier .txt.
-	 * @throws IOException Si une erreur de l'objet SBufferedWriter est lance.
-	 * @throws SConstructorException Si une erreur est survenue  la construction.
-	 * @see SBufferedReader
-	 */
-	public SViewport(SBufferedReader br) throws IOException, SConstructorException
-	{
-		this();		//configuration de base s'il y a des paramtres non dfini.
-		
-		try{
-		  read(br);
-		}catch(SInitializationException e){
-      throw new SConstructorException("Erreur SViewport 004 : Une erreur  l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }  
-	}
-	
-	/**
-	 * Mthode pour obtenir le nombre de pixels en largeur (width) du Viewport.
-	 * 
-	 * @return Le nombre de pixels en largeur.
-	 */
-	public int getWidth()
-	{ 
-	  return width;
-	}
-	
-	/**
-	 * Mthode pour obtenir le nombre de pixels en hauteur (height) du Viewport.
-	 * 
-	 * @return Le nombre de pixels en hauteur.
-	 */
-	public int getHeight()
-	{ 
-	  return height;
-	}
-  
-	/**
-	 * Mthode pour avoir accs au contenu du viewport sous forme d'un BufferedImage.
-	 * Il est important de ne pas modifier cet objet sous le risque de faire de la corruption dans le bufferimage du viewport. 
-	 * 
-	 * @return Le buffer associ  l'image du viewport.
-	 * @see BufferedImage
-	 */
-	public BufferedImage getBufferedImage()
-	{ 
-	  return image_buffer;
-	  
-	  /*
-	  BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-    //BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-    
-    for(int i=0; i<width; i++)
-      for(int j=0; j<height; j++)
-        buffer.setRGB(i, j, image[i][j].normalizeColor().getRGB());
-    
-    return buffer;
-    */
-	}
-	
-	/**
-	 * Mthode pour obtenir une copie de l'image enregistr dans le viewport.
-	 * Cette information peut tre modifie sans affecter le viewport.
-	 * 
-	 * @return Une copie de l'image du viewport.
-	 */
-	public BufferedImage copyBufferedImage()
-	{
-	  BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-    //BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-    
-    for(int i=0; i<width; i++)
-      for(int j=0; j<height; j++)
-        buffer.setRGB(i, j, image[i][j].normalizeColor().getRGB());
-    
-    return buffer;
-	}
-	
-	/**
-	 * Mthode pour dfinir le numro de la prochaine image gnr par les viewports.
-	 * 
-	 * @param nb - Le numro de l'image.
-	 * @throws SRuntimeException Si le numro n'est pas entre 0 et 999.
-	 */
-	public static void setImageCounter(int nb) throws SRuntimeException
-	{
-		if(nb < DEFAULT_IMAGE_COUNTER || nb > MAX_IMAGE_COUNTER)
-			throw new SRuntimeException("Erreur SViewport 005 : Le numro d'image '" + nb +"' n'est pas compris entre '" + DEFAULT_IMAGE_COUNTER + "' et '" + MAX_IMAGE_COUNTER +"'.");
-		
-		image_counter = nb;
-	}
-	
-	/**
-	 * Mthode pour attribuer une couleur  une coordonne xy d'un pixel du viewport.
-	 * Il est important de rappeler que la coordonne (0,0) correspond au coin suprieur gauche du viewport.
-	 * 
-	 * @param x - La coordonne x en largeur (width) du viewport.
-	 * @param y - La coordonne y en hauteur (height) du viewport.
-	 * @param color - La couleur  affecter au pixel.
-	 * @throws SCoordinateOutOfBoundException Si la coordonne (x,y) du pixel n'est pas admissible.
-	 */
-	public void setColor(int x, int y, SColor color) throws SCoordinateOutOfBoundException
-	{
-		if(x<0 || x>= width)
-			throw new SCoordinateOutOfBoundException("Erreur SViewport 006 : La coordonne x = " + x + " n'est pas comprise entre 0 et " + (width-1) + "(width-1).");
-		
-		if(y<0 || y>= height)
-			throw new SCoordinateOutOfBoundException("Erreur SViewport 007 : La coordonne y = " + y + " n'est pas comprise entre 0 et " + (height-1) + "(height-1).");
-		
-		// Mettre la couleur dans le tableau  2 dimension.
-		image[x][y] = color;
-		
-		// Mettre la couleur dans le buffered image.
-		image_buffer.setRGB(x, y, image[x][y].normalizeColor().getRGB());
-	}
-	
-	/**
-	 * Mthode pour attribuer une couleur  une coordonne xy d'un pixel du viewport.
-	 * Il est important de rappeler que la coordonne (0,0) correspond au coin suprieur gauche du viewport.
-	 * 
-	 * @param p - La coordonne du pixel du viewport.
-	 * @param color - La couleur  affecter au pixel.
-	 * @throws SCoordinateOutOfBoundException Si la coordonne xy du pixel n'est pas admissible.
-	 */
-	public void setColor(SVectorPixel p, SColor color) throws SCoordinateOutOfBoundException
-	{ 
-		setColor(p.getX(), p.getY(), color);
-	}  
-	
-	/**
-	 * Mthode pour effacer le viewport en rinitialisant l'ensemble des pixels  la couleur par dfaut BACKGROUND_COLOR.
-	 * Il y a galement rinitilisation de l'itration des pixels du viewport avec la mthode restartPixelIteration().
-	 * 
-	 * @see restartPixelIteration
-	 * @see BACKGROUND_COLOR
-	 */
-	public synchronized void clear()
-	{
-		for(int i=0; i<width; i++)
-      for(int j=0; j<height; j++)
-        image[i][j] = BACKGROUND_SCOLOR;
-		
-		
-		restartPixelIteration();
-	}
-	
-	/**
-	 * Mthode qui rinitialise l'itration des pixels du viewport  l'origine (de coordonne (0,0)).
-	 */
-	public void restartPixelIteration()
-	{
-		current_pixel = null;
-	}
-	
-	/**
-	 * Mthode pour dterminer s'il y a encore des pixels  analyser dans le viewport.
-	 * 
-	 * @return <b>true</b> s'il y a encore des pixels  analyser et <b>false</b> sinon.
-	 */
-	public boolean hasNextPixel()
-	{
-		if(current_pixel == null)
-			return true;
-		
-		//Condition d'arrt : Si x == width-1 et y == height-1
-		if(current_pixel.getX() >= (width-1) && current_pixel.getY() >= (height-1))
-			return false;
-		else
-			return true;
-	}
-	/**
-	 * Mthode qui retourne le pixel suivant  tre analys. Cette mthode a t dveloppe afin de pouvoir itrer sur l'ensemble des pixels du viewport.
-	 * L'itration va s'effectuer ligne par ligne ce qui correspond  x=0 jusqu' x=width-1 et l'on recommence en augmentant y afin qu'il passe de y=0  y=height-1.
-	 * 
-	 * @return la coordonne du prochain pixel  analyser et <b> null </b> s'il n'y a plus de pixel  itrer.
-	 */
-	public synchronized SVectorPixel nextPixel()
-	{
-		if(current_pixel == null)
-			current_pixel = ORIGIN_PIXEL;	// 1ier pixel tant l'origine (0,0)
-		else
-		{	
-			int x = current_pixel.getX();
-			int y = current_pixel.getY();
-		
-			x++;	// incrmenter la colonne
-		
-			// Vrifier s'il faut changer le ligne
-			if(x >= width)
-			{
-				x = 0;  // retourner  la colonne #0
-				y++;	  // incrmenter la ligne
-			
-				// Vrifier si les lignes sont compltes
-				if(y >= height)
-					return null;	// ne pas mettre  jour le current_pixel, car nous avons atteint le maximum
-			}
-			
-			current_pixel = new SVectorPixel(x,y);	// Nouveau pixel courant
-		}
-		
-		return current_pixel;
-	}
-	
-	/**
-	 * Mthode qui retourne le ratio width/height sans distorsion. 
-	 * Ce calcul est ncessaire pour la formation de la pyramide de vue (ViewFrustum) afin de dterminer une hauteur de pyramide en fonction de la largueur (dtermine par un angle d'ouverture).
-	 *  
-	 * @return Le ratio width/height.
-	 */
-	public double normalAspect()
-	{ 
-	  return (double)width / (double)height; 
-	}
-	
-	/**
-	 * Mthode pour crire un objet SReadableWriteable dans un fichier txt.
-	 * 
-	 * @param bw - Le buffer pour l'criture.
-	 * @throws IOException Si une erreur de l'objet BufferedWriter est lance.
-	 * @see BufferedWriter
-	 */
-	public void write(BufferedWriter bw)throws IOException
-	{
-		bw.write(SKeyWordDecoder.KW_VIEWPORT);
-		bw.write(SStringUtil.END_LINE_CARACTER);
-		
-		//crire les proprits de la classe SViewport et ses paramtres hrits
-		writeSViewportParameter(bw);
-				
-		bw.write(SKeyWordDecoder.KW_END);
-		bw.write(SStringUtil.END_LINE_CARACTER);
-		bw.write(SStringUtil.END_LINE_CARACTER);
-	}
-	
-	/**
-	 * Mthode pour crire les paramtres associs  la classe SViewport et ses paramtres hrits.
-	 * 
-	 * @param bw - Le BufferedWriter crivant l'information dans un fichier txt.
-	 * @throws IOException Si une erreur I/O s'est produite.
-	 */
-	protected void writeSViewportParameter(BufferedWriter bw)throws IOException
-	{	
-		bw.write(SKeyWordDecoder.KW_WIDTH);
-		bw.write("\t\t");
-		bw.write(Integer.toString(width));
-		bw.write(" pixels");
-		bw.write(SStringUtil.END_LINE_CARACTER);
-		
-		bw.write(SKeyWordDecoder.KW_HEIGHT);
-		bw.write("\t\t");
-		bw.write(Integer.toString(height));
-		bw.write(" pixels");
-		bw.write(SStringUtil.END_LINE_CARACTER);
-		
-		bw.write(SKeyWordDecoder.KW_IMAGE_FILE_NAME);
-		bw.write("\t");
-		bw.write(image_file_name);
-		bw.write(SStringUtil.END_LINE_CARACTER);
-	}
-	
-	/**
-	 * Mthode pour crire le contenu static de la classe SViewport dans un fichier txt.
-	 * 
-	 * @param bw - Le buffer pour l'criture.
-	 * @throws IOException Si une erreur de l'objet BufferedWriter est lance.
-	 * @see BufferedWriter
-	 */
-	public static void staticWrite(BufferedWriter bw)throws IOException
-	{
-		bw.write(SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT);
-	  bw.write("\t");
-	  bw.write(Integer.toString(image_counter));
-		bw.write(SStringUtil.END_LINE_CARACTER);
-	}
-		
-	/**
-	 * Mthode pour dessiner le viewport dans un fichier image.
-	 * 
-	 * @throws IOException S'il y a une erreur lors de l'criture du fichier image. 
-	 */
-	public void writeImage() throws IOException
-	{
-		String name = image_file_name + "_";
-		
-		//Ajouter le numro de l'image gnr par ce viewport
-		String number = Integer.toString(image_counter);
-		
-		//Afficher le bon nombre de '0' au nombre entre 0 et 1000
-		if(image_counter < 10)
-			name = name.concat("00");
-		else
-			if(image_counter < 100)
-				name = name.concat("0");
-		
-		name = name.concat(number);
-		
-		//Gnrer le fichier image
-		File file = new File(name + "." + DEFAULT_IMAGE_EXTENSION);
-		BufferedImage buffer = getBufferedImage();
-		ImageIO.write(buffer, DEFAULT_IMAGE_EXTENSION, file);
-		
-		image_counter++;	//augmenter le compteur
-		
-		//Rinitialiser le compteur si la valeur maximale est atteinte
-		if(image_counter > MAX_IMAGE_COUNTER)
-			image_counter = DEFAULT_IMAGE_COUNTER;
-	}
-	
-	
-	/**
-   * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-   * 
-   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
-   */
-  private void initialize() throws SInitializationException
-	{
-		image = new SColor[width][height];
-		
-		image_buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-		
-		clear();
-	}
-	
-  @Override
-	protected boolean read(SBufferedReader sbr, int code, String remaining_line)throws SReadingException
-	{
-		switch(code)
-		{
-			case SKeyWordDecoder.CODE_WIDTH :  width = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_WIDTH); return true; 
-														
-			case SKeyWordDecoder.CODE_HEIGHT : height = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_HEIGHT); return true;
-														
-			case SKeyWordDecoder.CODE_IMAGE_FILE_NAME : image_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_IMAGE_FILE_NAME); return true;
-				
-			default : return false;
-		}
-	}
-	
-	@Override
-  protected void readingInitialization() throws SInitializationException
-  {
-    initialize();
-  }
-	
-	@Override
-  public String getReadableName()
-  {
-    return SKeyWordDecoder.KW_SPHERE;
-  }
-  
-  @Override
-  public String[] getReadableParameterName()
-  {
-    String[] other_parameters = super.getReadableParameterName();
-    
-    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
-  }
-  
-  @Override
-  public boolean equals(Object obj)
-  {
-    if (this == obj)
-      return true;
-    
-    if (obj == null)
-      return false;
-    
-    if (getClass() != obj.getClass())
-      return false;
-    
-    SViewport other = (SViewport) obj;
-    
-    if (height != other.height)
-      return false;
-    
-    if (width != other.width)
-      return false;
-    
-    // Vrification de l'ensemble des couleurs du viewport
-    if (!Arrays.deepEquals(image, other.image))
-      return false;
-    
-    return true;
-  }
-
-}//fin classe SViewport
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import sim.exception.SConstructorException;
+import sim.exception.SCoordinateOutOfBoundException;
+import sim.exception.SRuntimeException;
+import sim.math.SSpaceFillingCurve;
+import sim.math.SVectorPixel;
+import sim.readwrite.SAbstractReadableWriteable;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SLog;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe <b>SViewport</b> représente une grille de couleur en deux dimension en espace pixels où sera dessiné la scène du point de vue de le pyramide de vue (ViewFrustum).
+ * Les coordonnées sont indexés avec [x][y] où x correspond au numéro de ligne et y correspond au numéro de la colonne du tableau.
+ * <ul>- La coordonnée [0][0] correspond au coin supérieur gauche de l'image.</ul>
+ * <ul>- La coordonnée [width-1][0] correspond au coin supérieur droit de l'image.</ul>
+ * <ul>- La coordonnée [0][height-1] correspond au coin inférieur gauche de l'image.</ul>
+ * <ul>- La coordonnée [width-1][height-1] correspond au coint inférieur droit de l'image.</ul>
+ * 
+ * <p>
+ * En mode d'écriture continue (<i>streaming_output</i>), l'image n'est pas conservée en mémoire : chaque rangée complétée est écrite 
+ * directement dans le fichier image (PNG ou PFM). La mémoire utilisée dépend alors du nombre de rangées en cours de calcul et non de la dimension de l'image.
+ * </p>
+ *  
+ * @author Simon Vézina
+ * @since 2014-12-27
+ * @version 2017-12-08
+ */
+public class SViewport extends SAbstractReadableWriteable {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés 
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_WIDTH, SKeyWordDecoder.KW_HEIGHT, SKeyWordDecoder.KW_IMAGE_FILE_NAME, SKeyWordDecoder.KW_PIXEL_ORDER,
+    SKeyWordDecoder.KW_STREAMING_OUTPUT, SKeyWordDecoder.KW_CHECKPOINT_FILE, SKeyWordDecoder.KW_CHECKPOINT_INTERVAL
+  };
+  
+  /**
+   * La constante <b>PIXEL_ORDER</b> correspond à l'ensemble des ordres de parcours des pixels reconnus par le viewport.
+   */
+  public static final String[] PIXEL_ORDER = { "scanline", "morton", "hilbert" };
+  
+  /**
+   * La constante <b>SCANLINE_ORDER</b> correspond à un parcours des pixels ligne par ligne.
+   */
+  public static final int SCANLINE_ORDER = 0;
+  
+  /**
+   * La constante <b>MORTON_ORDER</b> correspond à un parcours des tuiles de pixels le long d'une courbe de Morton (ordre Z).
+   */
+  public static final int MORTON_ORDER = 1;
+  
+  /**
+   * La constante <b>HILBERT_ORDER</b> correspond à un parcours des tuiles de pixels le long d'une courbe de Hilbert.
+   */
+  public static final int HILBERT_ORDER = 2;
+  
+  /**
+   * La constante <b>ORDER_TILE_SIZE</b> correspond à la largeur (en pixels) des tuiles carrées parcourues le long d'une courbe étant égale à {@value}.
+   * Les pixels d'une tuile sont parcourus ligne par ligne.
+   */
+  public static final int ORDER_TILE_SIZE = 8;
+  
+  /**
+   * La constante <b>STREAMING_OUTPUT</b> correspond à l'ensemble des formats d'écriture continue de l'image reconnus par le viewport.
+   */
+  public static final String[] STREAMING_OUTPUT = { "none", "png", "pfm" };
+  
+  /**
+   * La constante <b>NO_STREAMING</b> correspond à un viewport conservant l'image complète en mémoire (écriture à la fin du rendu).
+   */
+  public static final int NO_STREAMING = 0;
+  
+  /**
+   * La constante <b>PNG_STREAMING</b> correspond à l'écriture continue de l'image en format PNG.
+   */
+  public static final int PNG_STREAMING = 1;
+  
+  /**
+   * La constante <b>PFM_STREAMING</b> correspond à l'écriture continue de l'image en format PFM (couleurs non normalisées).
+   */
+  public static final int PFM_STREAMING = 2;
+  
+  /**
+   * La constante <b>DEFAULT_CHECKPOINT_INTERVAL</b> correspond à l'intervalle de temps (en secondes) par défaut entre deux sauvegardes du rendu étant égal à {@value}.
+   */
+  public static final double DEFAULT_CHECKPOINT_INTERVAL = 60.0;
+  
+  /**
+   * La constante <b>CHECKPOINT_PIXEL_PERIOD</b> correspond au nombre de pixels calculés entre deux vérifications de l'intervalle de sauvegarde étant égal à {@value}.
+   */
+  private static final int CHECKPOINT_PIXEL_PERIOD = 1024;
+  
+	private final static int DEFAULT_IMAGE_COUNTER = 0;						        //numéro de l'image initiale par défaut
+	private final static int MAX_IMAGE_COUNTER = 999;						          //numéro maximal de l'image
+		
+	public final SColor BACKGROUND_SCOLOR = new SColor(0.0, 0.0, 0.0);		//Couleur du background (en SColor)
+	
+	private static final int DEFAULT_WIDTH = 500;							            //largeur du viewport par défaut
+	private static final int DEFAULT_HEIGHT = 500;						            //hauteur du viewport par défaut
+	
+	private static final String DEFAULT_IMAGE_FILE_NAME = "image";			  //nom du fichier de l'écriture du viewport par défaut
+	private static final String DEFAULT_IMAGE_EXTENSION = "png";			    //extension du fichier d'écriture du viewport par défaut
+	
+	private static int image_counter = DEFAULT_IMAGE_COUNTER;				      //numéro de l'image qui sera généré lors de l'écriture du viewport dans un fichier image
+	
+	/**
+	 * La variable <b>image_file_name</b> représente le nom du fichier lors de l'écriture du viewport en fichier image.
+	 */
+	private String image_file_name;				
+		
+	/**
+	 * La variable <b>width</b> représente le nombre de pixels en largeur (selon l'axe x, de 0 à width-1).
+	 */
+	private int width;	
+	
+	/**
+	 * La variable <b>height</b> représente le nombre de pixels en hauteur (selon l'axe y, de 0 à height-1).
+	 */ 
+	private int height;							      
+	
+	/**
+	 * La variable <b>image</b> correspond au tableau à deux dimensions contenant les couleurs.
+	 */
+	private SColor[][] image;             
+	
+	/**
+	 * La variable <b>image_buffer</b> correspond à l'image du viewport.
+	 */
+	private BufferedImage image_buffer;
+	
+	/**
+	 * La variable <b>streaming_output</b> correspond au format d'écriture continue de l'image (<b>NO_STREAMING</b> si l'image est conservée en mémoire).
+	 */
+	private int streaming_output;
+	
+	/**
+	 * La variable <b>row_writer</b> correspond à l'encodeur recevant les rangées complétées lors d'une écriture continue (<b>null</b> s'il n'est pas ouvert).
+	 */
+	private SImageRowWriter row_writer;
+	
+	/**
+	 * La variable <b>pending_row</b> correspond aux rangées en cours de calcul lors d'une écriture continue (indexées par leur numéro).
+	 * Les rangées ne sont transmises à l'encodeur qu'en ordre croissant : une rangée incomplète retient en mémoire toutes les rangées suivantes
+	 * déjà calculées. La mémoire utilisée n'est donc pas bornée par l'ordre de parcours (au pire, l'image complète si le premier pixel 
+	 * de la première rangée est calculé en dernier). Un parcours par tuiles ou le long d'une courbe garde peu de rangées en attente 
+	 * seulement si les tuiles sont calculées à peu près dans l'ordre.
+	 */
+	private Map<Integer, SColor[]> pending_row;
+	
+	/**
+	 * La variable <b>row_remaining</b> correspond au nombre de pixels dont la couleur n'a pas encore été attribuée dans chaque rangée lors d'une écriture continue.
+	 */
+	private int[] row_remaining;
+	
+	/**
+	 * La variable <b>next_row</b> correspond à la prochaine rangée à transmettre à l'encodeur lors d'une écriture continue.
+	 */
+	private int next_row;
+	
+	/**
+	 * La variable <b>checkpoint_file_name</b> correspond au nom du fichier de sauvegarde du rendu (<b>null</b> s'il n'y a pas de sauvegarde).
+	 */
+	private String checkpoint_file_name;
+	
+	/**
+	 * La variable <b>checkpoint_interval</b> correspond à l'intervalle de temps (en secondes) entre deux sauvegardes du rendu.
+	 */
+	private double checkpoint_interval;
+	
+	/**
+	 * La variable <b>checkpoint</b> correspond au fichier de sauvegarde du rendu en cours (<b>null</b> s'il n'est pas ouvert).
+	 */
+	private SViewportCheckpoint checkpoint;
+	
+	/**
+	 * La variable <b>resume_remaining</b> correspond au nombre de pixels déjà calculés (lors d'un rendu précédent) que l'itération des pixels n'a pas encore ignorés.
+	 */
+	private long resume_remaining;
+	
+	/**
+	 * La variable <b>checkpoint_pixel</b> correspond au nombre de pixels calculés depuis la dernière vérification de l'intervalle de sauvegarde.
+	 * Puisque cette valeur sert uniquement à espacer les vérifications, elle n'est pas synchronisée.
+	 */
+	private int checkpoint_pixel;
+	
+	/**
+	 * La variable <b>last_checkpoint_time</b> correspond au moment (en nanosecondes) de la dernière sauvegarde du rendu.
+	 */
+	private long last_checkpoint_time;
+	
+	/**
+	 * Les variables <b>region_x</b> et <b>region_y</b> correspondent à la coordonnée du coin supérieur gauche de la région du viewport parcourue par l'itération des pixels.
+	 */
+	private int region_x, region_y;
+	
+	/**
+	 * Les variables <b>region_width</b> et <b>region_height</b> correspondent à la dimension de la région du viewport parcourue par l'itération des pixels 
+	 * (l'ensemble du viewport par défaut).
+	 */
+	private int region_width, region_height;
+	
+	/**
+	 * La variable <b>current_pixel</b> représente le pixel qui est présentement en analyse dans le <i>viewport</i>.
+	 */
+	private SVectorPixel current_pixel;		
+	
+	/**
+	 * La variable <b>pixel_order</b> correspond à l'ordre de parcours des pixels du viewport.
+	 */
+	private int pixel_order;
+	
+	/**
+	 * La variable <b>pixel_count</b> correspond au nombre de pixels déjà retournés par l'itération des pixels.
+	 */
+	private long pixel_count;
+	
+	/**
+	 * La variable <b>tile_index</b> correspond à la distance sur la courbe de la tuile présentement parcourue (parcours le long d'une courbe).
+	 */
+	private long tile_index;
+	
+	/**
+	 * La variable <b>tile_pixel</b> correspond à l'index du prochain pixel de la tuile présentement parcourue (parcours le long d'une courbe).
+	 */
+	private int tile_pixel;
+	
+	/**
+	 * Les variables <b>tile_x</b> et <b>tile_y</b> correspondent à la coordonnée de la tuile présentement parcourue (parcours le long d'une courbe).
+	 */
+	private int tile_x;
+	private int tile_y;
+		
+	//----------------
+	// CONSTRUCTEUR //
+	//----------------
+	
+	/**
+	 * Constructeur d'un viewport par défaut.
+	 */
+	public SViewport()
+	{
+		this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+	}
+	
+	/**
+	 * Constructeur avec définition des paramètres de largeur (width) et de hauteur (height).
+	 * 
+	 * @param width - La largeur du viewport.
+	 * @param height - La hauteur du viewport.
+	 */
+	public SViewport(int width, int height)
+	{
+		this(width, height, DEFAULT_IMAGE_FILE_NAME);
+	}
+	
+	/**
+	 * Constructeur d'un viewport.
+	 * 
+	 * @param width - La largeur du viewport.
+	 * @param height - La hauteur du viewport.
+	 * @param file_name - Le nom du fichier image qui sera généré.
+	 * @throws SConstructorException Si une erreur est survenue à la construction.
+	 */
+	public SViewport(int width, int height, String file_name) throws SConstructorException
+	{
+		if(width < 1)
+		  throw new SConstructorException("Erreur SViewport 001 : La largeur du viewport (width) étant égal à " + width + "est inférieur à 1.");
+		
+		if(height < 1)
+      throw new SConstructorException("Erreur SViewport 002 : La hauteur du viewport (height) étant égal à " + height + "est inférieur à 1.");
+    
+	  this.width = width;
+		this.height = height;
+		image_file_name = file_name;
+		pixel_order = SCANLINE_ORDER;
+		streaming_output = NO_STREAMING;
+		checkpoint_file_name = null;
+		checkpoint_interval = DEFAULT_CHECKPOINT_INTERVAL;
+		checkpoint = null;
+				
+		try{
+		  initialize();
+		}catch(SInitializationException e){
+      throw new SConstructorException("Erreur SViewport 003 : Une erreur à l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }  
+	}
+	
+	/**
+	 * Constructeur du viewport à partir d'information lue dans un fichier de format txt.
+	 * 
+	 * @param br Le BufferedReader cherchant l'information de le fichier .txt.
+	 * @throws IOException Si une erreur de l'objet SBufferedWriter est lancée.
+	 * @throws SConstructorException Si une erreur est survenue à la construction.
+	 * @see SBufferedReader
+	 */
+	public SViewport(SBufferedReader br) throws IOException, SConstructorException
+	{
+		this();		//configuration de base s'il y a des paramètres non défini.
+		
+		try{
+		  read(br);
+		}catch(SInitializationException e){
+      throw new SConstructorException("Erreur SViewport 004 : Une erreur à l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }  
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre de pixels en largeur (width) du Viewport.
+	 * 
+	 * @return Le nombre de pixels en largeur.
+	 */
+	public int getWidth()
+	{ 
+	  return width;
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre de pixels en hauteur (height) du Viewport.
+	 * 
+	 * @return Le nombre de pixels en hauteur.
+	 */
+	public int getHeight()
+	{ 
+	  return height;
+	}
+	
+	/**
+	 * Méthode pour obtenir le code de l'ordre de parcours des pixels du viewport.
+	 * 
+	 * @return Le code de l'ordre de parcours des pixels.
+	 * @see SViewport#PIXEL_ORDER
+	 */
+	public int getPixelOrder()
+	{
+	  return pixel_order;
+	}
+	
+	/**
+	 * <p>
+	 * Méthode pour définir l'ordre de parcours des pixels du viewport. L'itération des pixels est réinitialisée.
+	 * </p>
+	 * 
+	 * <p>
+	 * Avec un parcours le long d'une courbe (Morton ou Hilbert), deux pixels consécutifs de l'itération sont voisins dans l'image.
+	 * Les rayons d'une suite de pixels consécutifs parcourent ainsi les mêmes régions de la scène, ce qui conserve en mémoire cache 
+	 * les géométries et les voxels déjà rencontrés. Une suite de pixels attribuée à une tâche forme également une région compacte de l'image.
+	 * </p>
+	 * 
+	 * @param order - Le code de l'ordre de parcours.
+	 * @throws SRuntimeException Si le code de l'ordre de parcours n'est pas reconnu.
+	 * @see SViewport#PIXEL_ORDER
+	 */
+	public synchronized void setPixelOrder(int order) throws SRuntimeException
+	{
+	  if(order < 0 || order >= PIXEL_ORDER.length)
+	    throw new SRuntimeException("Erreur SViewport 008 : L'ordre de parcours des pixels de code '" + order + "' n'est pas reconnu.");
+	  
+	  pixel_order = order;
+	  
+	  restartPixelIteration();
+	}
+	
+	/**
+	 * Méthode pour obtenir le format d'écriture continue de l'image.
+	 * 
+	 * @return Le code du format d'écriture continue (<b>NO_STREAMING</b> si l'image est conservée en mémoire).
+	 * @see SViewport#STREAMING_OUTPUT
+	 */
+	public int getStreamingOutput()
+	{
+	  return streaming_output;
+	}
+	
+	/**
+	 * Méthode pour définir le format d'écriture continue de l'image. Le contenu du viewport est effacé.
+	 * 
+	 * @param output - Le code du format d'écriture continue.
+	 * @throws SRuntimeException Si le code du format n'est pas reconnu.
+	 * @see SViewport#STREAMING_OUTPUT
+	 */
+	public synchronized void setStreamingOutput(int output) throws SRuntimeException
+	{
+	  if(output < 0 || output >= STREAMING_OUTPUT.length)
+	    throw new SRuntimeException("Erreur SViewport 010 : Le format d'écriture continue de code '" + output + "' n'est pas reconnu.");
+	  
+	  if(streaming_output != NO_STREAMING)
+	    clearStreaming();
+	  
+	  streaming_output = output;
+	  
+	  try{
+	    initialize();
+	  }catch(SInitializationException e){
+	    throw new SRuntimeException("Erreur SViewport 013 : Une erreur à l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+	  }
+	}
+	
+	/**
+	 * <p>
+	 * Méthode pour définir le fichier de sauvegarde du rendu. Le contenu du viewport est effacé.
+	 * </p>
+	 * 
+	 * <p>
+	 * Si le fichier existe et provient d'un rendu interrompu de même dimension, les pixels déjà calculés sont restaurés 
+	 * et l'itération des pixels les ignore. Le fichier est supprimé lorsque l'image est écrite.
+	 * </p>
+	 * 
+	 * @param file_name - Le nom du fichier de sauvegarde (<b>null</b> pour ne pas sauvegarder le rendu).
+	 * @throws SRuntimeException S'il y a une erreur lors de l'ouverture du fichier de sauvegarde.
+	 * @see SViewportCheckpoint
+	 */
+	public synchronized void setCheckpointFile(String file_name) throws SRuntimeException
+	{
+	  checkpoint_file_name = file_name;
+	  
+	  try{
+	    initialize();
+	  }catch(SInitializationException e){
+	    throw new SRuntimeException("Erreur SViewport 013 : Une erreur à l'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+	  }
+	}
+	
+	/**
+	 * Méthode pour déterminer si le rendu reprend un rendu interrompu à partir du fichier de sauvegarde.
+	 * 
+	 * @return <b>true</b> si des pixels ont été restaurés à partir du fichier de sauvegarde et <b>false</b> sinon.
+	 */
+	public boolean isResumed()
+	{
+	  return checkpoint != null && checkpoint.isResumed();
+	}
+	
+	/**
+	 * Méthode pour déterminer si le rendu est sauvegardé dans un fichier de sauvegarde ouvert.
+	 * 
+	 * @return <b>true</b> si un fichier de sauvegarde est ouvert et <b>false</b> sinon.
+	 */
+	public boolean hasCheckpoint()
+	{
+	  return checkpoint != null;
+	}
+	
+	/**
+	 * Méthode pour associer le fichier de sauvegarde à la scène dont le rendu est effectué. Si le fichier de sauvegarde provient 
+	 * du rendu d'une autre scène (ou d'une version modifiée de la scène), les pixels restaurés sont effacés et le rendu recommence.
+	 * 
+	 * @param scene_hash - L'empreinte du fichier de scène.
+	 */
+	public synchronized void setCheckpointSceneHash(String scene_hash)
+	{
+	  if(checkpoint == null)
+	    return;
+	  
+	  if(checkpoint.isResumed() && !checkpoint.isSameScene(scene_hash))
+	  {
+	    SLog.logWriteLine("Message SViewport : Le fichier de sauvegarde '" + checkpoint_file_name + "' provient d'une autre scène. Le rendu recommence.");
+	    clearImage();
+	  }
+	  
+	  checkpoint.setSceneHash(scene_hash);
+	}
+	
+	/**
+	 * Méthode pour sauvegarder le rendu en cours dans le fichier de sauvegarde (couleurs, nombre d'échantillons et état du parcours des pixels).
+	 * Cette méthode est appelée périodiquement lors de l'attribution des couleurs selon l'intervalle de sauvegarde.
+	 */
+	public synchronized void saveCheckpoint()
+	{
+	  if(checkpoint == null)
+	    return;
+	  
+	  checkpoint.save(pixel_order, pixel_count);
+	  
+	  last_checkpoint_time = System.nanoTime();
+	}
+  
+	/**
+	 * <p>
+	 * Méthode pour restreindre l'itération des pixels à une région rectangulaire du viewport. L'itération des pixels est réinitialisée.
+	 * </p>
+	 * 
+	 * <p>
+	 * Cette méthode permet de calculer une partie de l'image seulement (ex. une tuile attribuée à un processus lors d'un rendu distribué).
+	 * </p>
+	 * 
+	 * @param x - La coordonnée x du coin supérieur gauche de la région.
+	 * @param y - La coordonnée y du coin supérieur gauche de la région.
+	 * @param region_width - La largeur de la région.
+	 * @param region_height - La hauteur de la région.
+	 * @throws SRuntimeException Si la région n'est pas incluse dans le viewport.
+	 */
+	public synchronized void setPixelRegion(int x, int y, int region_width, int region_height) throws SRuntimeException
+	{
+	  if(x < 0 || y < 0 || region_width < 1 || region_height < 1 || x + region_width > width || y + region_height > height)
+	    throw new SRuntimeException("Erreur SViewport 016 : La région [" + x + ", " + y + ", " + region_width + " x " + region_height + "] n'est pas incluse dans le viewport de dimension " + width + " x " + height + ".");
+	  
+	  region_x = x;
+	  region_y = y;
+	  this.region_width = region_width;
+	  this.region_height = region_height;
+	  
+	  restartPixelIteration();
+	}
+	
+	/**
+	 * Méthode pour obtenir la couleur d'un pixel du viewport.
+	 * 
+	 * @param x - La coordonnée x du pixel.
+	 * @param y - La coordonnée y du pixel.
+	 * @return La couleur du pixel.
+	 * @throws SRuntimeException Si le viewport est en mode d'écriture continue (l'image n'est pas conservée en mémoire).
+	 */
+	public SColor getColor(int x, int y) throws SRuntimeException
+	{
+	  if(streaming_output != NO_STREAMING)
+	    throw new SRuntimeException("Erreur SViewport 012 : L'image n'est pas conservée en mémoire en mode d'écriture continue '" + STREAMING_OUTPUT[streaming_output] + "'.");
+	  
+	  return image[x][y];
+	}
+	
+	/**
+	 * Méthode pour avoir accès au contenu du viewport sous forme d'un BufferedImage.
+	 * Il est important de ne pas modifier cet objet sous le risque de faire de la corruption dans le bufferimage du viewport. 
+	 * 
+	 * @return Le buffer associé à l'image du viewport.
+	 * @throws SRuntimeException Si le viewport est en mode d'écriture continue (l'image n'est pas conservée en mémoire).
+	 * @see BufferedImage
+	 */
+	public BufferedImage getBufferedImage() throws SRuntimeException
+	{ 
+	  if(streaming_output != NO_STREAMING)
+	    throw new SRuntimeException("Erreur SViewport 012 : L'image n'est pas conservée en mémoire en mode d'écriture continue '" + STREAMING_OUTPUT[streaming_output] + "'.");
+	  
+	  return image_buffer;
+	  
+	  /*
+	  BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    //BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    
+    for(int i=0; i<width; i++)
+      for(int j=0; j<height; j++)
+        buffer.setRGB(i, j, image[i][j].normalizeColor().getRGB());
+    
+    return buffer;
+    */
+	}
+	
+	/**
+	 * Méthode pour obtenir une copie de l'image enregistré dans le viewport.
+	 * Cette information peut être modifiée sans affecter le viewport.
+	 * 
+	 * @return Une copie de l'image du viewport.
+	 * @throws SRuntimeException Si le viewport est en mode d'écriture continue (l'image n'est pas conservée en mémoire).
+	 */
+	public BufferedImage copyBufferedImage() throws SRuntimeException
+	{
+	  if(streaming_output != NO_STREAMING)
+	    throw new SRuntimeException("Erreur SViewport 012 : L'image n'est pas conservée en mémoire en mode d'écriture continue '" + STREAMING_OUTPUT[streaming_output] + "'.");
+	  
+	  BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    //BufferedImage buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    
+    for(int i=0; i<width; i++)
+      for(int j=0; j<height; j++)
+        buffer.setRGB(i, j, image[i][j].normalizeColor().getRGB());
+    
+    return buffer;
+	}
+	
+	/**
+	 * Méthode pour définir le numéro de la prochaine image généré par les viewports.
+	 * 
+	 * @param nb - Le numéro de l'image.
+	 * @throws SRuntimeException Si le numéro n'est pas entre 0 et 999.
+	 */
+	public static void setImageCounter(int nb) throws SRuntimeException
+	{
+		if(nb < DEFAULT_IMAGE_COUNTER || nb > MAX_IMAGE_COUNTER)
+			throw new SRuntimeException("Erreur SViewport 005 : Le numéro d'image '" + nb +"' n'est pas compris entre '" + DEFAULT_IMAGE_COUNTER + "' et '" + MAX_IMAGE_COUNTER +"'.");
+		
+		image_counter = nb;
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre d'images pouvant encore être générées par les viewports avant que le numéro d'image 
+	 * revienne à 0 (les images suivantes remplaceraient alors les fichiers des premières images).
+	 * 
+	 * @return Le nombre d'images disponibles.
+	 */
+	public static int getNbAvailableImage()
+	{
+	  return MAX_IMAGE_COUNTER - image_counter + 1;
+	}
+	
+	/**
+	 * Méthode pour attribuer une couleur à une coordonnée xy d'un pixel du viewport.
+	 * Il est important de rappeler que la coordonnée (0,0) correspond au coin supérieur gauche du viewport.
+	 * 
+	 * @param x - La coordonnée x en largeur (width) du viewport.
+	 * @param y - La coordonnée y en hauteur (height) du viewport.
+	 * @param color - La couleur à affecter au pixel.
+	 * @throws SCoordinateOutOfBoundException Si la coordonnée (x,y) du pixel n'est pas admissible.
+	 */
+	public void setColor(int x, int y, SColor color) throws SCoordinateOutOfBoundException
+	{
+		if(x<0 || x>= width)
+			throw new SCoordinateOutOfBoundException("Erreur SViewport 006 : La coordonnée x = " + x + " n'est pas comprise entre 0 et " + (width-1) + "(width-1).");
+		
+		if(y<0 || y>= height)
+			throw new SCoordinateOutOfBoundException("Erreur SViewport 007 : La coordonnée y = " + y + " n'est pas comprise entre 0 et " + (height-1) + "(height-1).");
+		
+		// Enregistrer la couleur dans le fichier de sauvegarde
+		if(checkpoint != null)
+		{
+		  checkpoint.setColor(x, y, color);
+		  
+		  if(++checkpoint_pixel >= CHECKPOINT_PIXEL_PERIOD)
+		  {
+		    checkpoint_pixel = 0;
+		    
+		    if(System.nanoTime() - last_checkpoint_time >= (long)(checkpoint_interval * 1e9))
+		      saveCheckpoint();
+		  }
+		}
+		
+		storeColor(x, y, color);
+	}
+	
+	/**
+	 * Méthode pour conserver la couleur d'un pixel dans l'image du viewport (ou dans sa rangée en mode d'écriture continue).
+	 * 
+	 * @param x - La coordonnée x du pixel.
+	 * @param y - La coordonnée y du pixel.
+	 * @param color - La couleur du pixel.
+	 */
+	private void storeColor(int x, int y, SColor color)
+	{
+		// En écriture continue, la couleur est conservée dans sa rangée jusqu'à ce que la rangée soit complétée
+		if(streaming_output != NO_STREAMING)
+		{
+		  storeStreamingColor(x, y, color);
+		  return;
+		}
+		
+		// Mettre la couleur dans le tableau à 2 dimension.
+		image[x][y] = color;
+		
+		// Mettre la couleur dans le buffered image.
+		image_buffer.setRGB(x, y, image[x][y].normalizeColor().getRGB());
+	}
+	
+	/**
+	 * Méthode pour attribuer une couleur à une coordonnée xy d'un pixel du viewport.
+	 * Il est important de rappeler que la coordonnée (0,0) correspond au coin supérieur gauche du viewport.
+	 * 
+	 * @param p - La coordonnée du pixel du viewport.
+	 * @param color - La couleur à affecter au pixel.
+	 * @throws SCoordinateOutOfBoundException Si la coordonnée xy du pixel n'est pas admissible.
+	 */
+	public void setColor(SVectorPixel p, SColor color) throws SCoordinateOutOfBoundException
+	{ 
+		setColor(p.getX(), p.getY(), color);
+	}  
+	
+	/**
+	 * Méthode pour conserver la couleur d'un pixel en mode d'écriture continue. 
+	 * Les rangées complétées sont transmises à l'encodeur (en ordre croissant) et retirées de la mémoire.
+	 * 
+	 * @param x - La coordonnée x du pixel.
+	 * @param y - La coordonnée y du pixel.
+	 * @param color - La couleur du pixel.
+	 * @throws SRuntimeException Si la rangée du pixel a déjà été écrite ou s'il y a une erreur lors de l'écriture du fichier image.
+	 */
+	private synchronized void storeStreamingColor(int x, int y, SColor color) throws SRuntimeException
+	{
+	  if(y < next_row)
+	    throw new SRuntimeException("Erreur SViewport 011 : La rangée y = " + y + " a déjà été écrite dans le fichier image.");
+	  
+	  SColor[] row = pending_row.get(y);
+	  
+	  if(row == null)
+	  {
+	    row = new SColor[width];
+	    pending_row.put(y, row);
+	  }
+	  
+	  if(row[x] == null)
+	    row_remaining[y]--;
+	  
+	  row[x] = color;
+	  
+	  try{
+	    flushRows();
+	  }catch(IOException e){
+	    throw new SRuntimeException("Erreur SViewport 009 : Impossible d'écrire la rangée y = " + next_row + " dans le fichier image.", e);
+	  }
+	}
+	
+	/**
+	 * Méthode pour transmettre à l'encodeur les rangées complétées consécutives à partir de la prochaine rangée attendue.
+	 * L'encodeur est ouvert lors de l'écriture de la première rangée.
+	 * 
+	 * @throws IOException S'il y a une erreur lors de l'écriture du fichier image.
+	 */
+	private void flushRows() throws IOException
+	{
+	  while(next_row < height && row_remaining[next_row] == 0)
+	  {
+	    if(row_writer == null)
+	    {
+	      File file = new File(imageFileName() + "." + STREAMING_OUTPUT[streaming_output]);
+	      
+	      if(streaming_output == PFM_STREAMING)
+	        row_writer = new SPFMRowWriter(file, width, height);
+	      else
+	        row_writer = new SPNGRowWriter(file, width, height);
+	    }
+	    
+	    row_writer.writeRow(next_row, pending_row.remove(next_row));
+	    next_row++;
+	  }
+	}
+	
+	/**
+	 * Méthode pour effacer le viewport en réinitialisant l'ensemble des pixels à la couleur par défaut BACKGROUND_COLOR.
+	 * Il y a également réinitilisation de l'itération des pixels du viewport avec la méthode restartPixelIteration().
+	 * Si le fichier de sauvegarde a été supprimé lors de l'écriture de l'image précédente, il est recréé pour le nouveau rendu.
+	 * 
+	 * @throws SRuntimeException S'il y a une erreur lors de la création du fichier de sauvegarde.
+	 * @see restartPixelIteration
+	 * @see BACKGROUND_COLOR
+	 */
+	public synchronized void clear() throws SRuntimeException
+	{
+	  clearImage();
+	  
+	  if(checkpoint == null && checkpoint_file_name != null)
+	    try{
+	      openCheckpoint();
+	    }catch(SInitializationException e){
+	      throw new SRuntimeException("Erreur SViewport 017 : Une erreur est survenue lors de la création du fichier de sauvegarde." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+	    }
+	}
+	
+	/**
+	 * Méthode pour effacer l'image et le fichier de sauvegarde ouvert et réinitialiser l'itération des pixels.
+	 */
+	private void clearImage()
+	{
+	  if(checkpoint != null)
+	    checkpoint.clear();
+	  
+	  if(streaming_output != NO_STREAMING)
+	  {
+	    clearStreaming();
+	    restartPixelIteration();
+	    return;
+	  }
+	  
+		for(int i=0; i<width; i++)
+      for(int j=0; j<height; j++)
+        image[i][j] = BACKGROUND_SCOLOR;
+		
+		
+		restartPixelIteration();
+	}
+	
+	/**
+	 * Méthode pour réinitialiser l'écriture continue : les rangées en cours sont oubliées et un fichier image partiellement écrit est abandonné.
+	 */
+	private void clearStreaming()
+	{
+	  if(row_writer != null)
+	  {
+	    try{
+	      row_writer.close();
+	    }catch(IOException e){
+	      // L'image incomplète est abandonnée
+	    }
+	    
+	    row_writer = null;
+	  }
+	  
+	  pending_row = new HashMap<Integer, SColor[]>();
+	  row_remaining = new int[height];
+	  Arrays.fill(row_remaining, width);
+	  next_row = 0;
+	}
+	
+	/**
+	 * Méthode qui réinitialise l'itération des pixels du viewport à l'origine (de coordonnée (0,0)).
+	 */
+	public void restartPixelIteration()
+	{
+		current_pixel = null;
+		pixel_count = 0;
+		
+		// Les pixels déjà calculés (rendu repris) seront ignorés
+		resume_remaining = 0;
+		
+		if(checkpoint != null)
+		  if(region_width == width && region_height == height)
+		    resume_remaining = checkpoint.getCompletedCount();
+		  else
+		    for(int y = region_y; y < region_y + region_height; y++)
+		      for(int x = region_x; x < region_x + region_width; x++)
+		        if(checkpoint.getSampleCount(x, y) > 0)
+		          resume_remaining++;
+		
+		tile_index = 0;
+		tile_pixel = 0;
+		tile_x = 0;
+		tile_y = 0;
+	}
+	
+	/**
+	 * Méthode pour déterminer s'il y a encore des pixels à analyser dans le viewport.
+	 * 
+	 * @return <b>true</b> s'il y a encore des pixels à analyser et <b>false</b> sinon.
+	 */
+	public boolean hasNextPixel()
+	{
+		//Condition d'arrêt : Tous les pixels ont été retournés (ou ignorés, car déjà calculés)
+		return pixel_count + resume_remaining < (long)region_width * (long)region_height;
+	}
+	
+	/**
+	 * Méthode qui retourne le pixel suivant à être analysé. Cette méthode a été développée afin de pouvoir itérer sur l'ensemble des pixels du viewport.
+	 * Par défaut, l'itération va s'effectuer ligne par ligne ce qui correspond à x=0 jusqu'à x=width-1 et l'on recommence en augmentant y afin qu'il passe de y=0 à y=height-1.
+	 * Avec un parcours le long d'une courbe, l'itération s'effectue tuile par tuile.
+	 * Lors de la reprise d'un rendu interrompu, les pixels déjà calculés sont ignorés.
+	 * 
+	 * @return la coordonnée du prochain pixel à analyser et <b> null </b> s'il n'y a plus de pixel à itérer.
+	 * @see SViewport#setPixelOrder(int)
+	 * @see SViewport#setCheckpointFile(String)
+	 */
+	public synchronized SVectorPixel nextPixel()
+	{
+	  if(!hasNextPixel())
+	    return null;
+	  
+	  SVectorPixel pixel = iteratePixel();
+	  
+	  while(resume_remaining > 0 && checkpoint.getSampleCount(pixel.getX(), pixel.getY()) > 0)
+	  {
+	    resume_remaining--;
+	    pixel = iteratePixel();
+	  }
+	  
+	  return pixel;
+	}
+	
+	/**
+	 * Méthode qui retourne le pixel suivant de l'itération selon l'ordre de parcours des pixels.
+	 * Cette méthode doit être appelée uniquement s'il reste des pixels à itérer.
+	 * 
+	 * @return la coordonnée du prochain pixel de l'itération.
+	 */
+	private SVectorPixel iteratePixel()
+	{
+	  pixel_count++;
+	  
+	  if(pixel_order != SCANLINE_ORDER)
+	  {
+	    current_pixel = nextCurvePixel();
+	    return current_pixel;
+	  }
+	  
+		if(current_pixel == null)
+			current_pixel = new SVectorPixel(region_x, region_y);	// 1ier pixel étant l'origine de la région (0,0 par défaut)
+		else
+		{	
+			int x = current_pixel.getX();
+			int y = current_pixel.getY();
+		
+			x++;	// incrémenter la colonne
+		
+			// Vérifier s'il faut changer le ligne
+			if(x >= region_x + region_width)
+			{
+				x = region_x;  // retourner à la première colonne
+				y++;	  // incrémenter la ligne
+			
+				// Vérifier si les lignes sont complétées
+				if(y >= region_y + region_height)
+					return null;	// ne pas mettre à jour le current_pixel, car nous avons atteint le maximum
+			}
+			
+			current_pixel = new SVectorPixel(x,y);	// Nouveau pixel courant
+		}
+		
+		return current_pixel;
+	}
+	
+	/**
+	 * Méthode pour obtenir le prochain pixel d'un parcours des tuiles le long d'une courbe. Les tuiles situées à l'extérieur du viewport 
+	 * (la courbe couvrant une grille carrée de côté 2^n) sont ignorées et les tuiles du bord peuvent être incomplètes. 
+	 * Cette méthode doit être appelée uniquement s'il reste des pixels à itérer.
+	 * 
+	 * @return La coordonnée du prochain pixel.
+	 */
+	private SVectorPixel nextCurvePixel()
+	{
+	  int nb_tile_x = (region_width + ORDER_TILE_SIZE - 1) / ORDER_TILE_SIZE;
+	  int nb_tile_y = (region_height + ORDER_TILE_SIZE - 1) / ORDER_TILE_SIZE;
+	  
+	  // Chercher la prochaine tuile du viewport sur la courbe
+	  if(tile_pixel == 0)
+	  {
+	    int side = SSpaceFillingCurve.squareSide(nb_tile_x, nb_tile_y);
+	    
+	    while(true)
+	    {
+	      int[] tile;
+	      
+	      // En écriture continue, les tuiles sont parcourues bande par bande afin de limiter le nombre de rangées en cours
+	      if(streaming_output != NO_STREAMING)
+	        tile = new int[]{ (int)(tile_index % nb_tile_x), (int)(tile_index / nb_tile_x) };
+	      else
+	      if(pixel_order == MORTON_ORDER)
+	        tile = SSpaceFillingCurve.mortonToXY(tile_index);
+	      else
+	        tile = SSpaceFillingCurve.hilbertToXY(side, tile_index);
+	      
+	      if(tile[0] < nb_tile_x && tile[1] < nb_tile_y)
+	      {
+	        tile_x = tile[0];
+	        tile_y = tile[1];
+	        break;
+	      }
+	      
+	      tile_index++;
+	    }
+	  }
+	  
+	  // Dimension de la tuile (incomplète sur le bord du viewport)
+	  int tile_width = Math.min(ORDER_TILE_SIZE, region_width - tile_x*ORDER_TILE_SIZE);
+	  int tile_height = Math.min(ORDER_TILE_SIZE, region_height - tile_y*ORDER_TILE_SIZE);
+	  
+	  SVectorPixel pixel = new SVectorPixel(region_x + tile_x*ORDER_TILE_SIZE + tile_pixel % tile_width, region_y + tile_y*ORDER_TILE_SIZE + tile_pixel / tile_width);
+	  
+	  tile_pixel++;
+	  
+	  // Passer à la tuile suivante
+	  if(tile_pixel >= tile_width*tile_height)
+	  {
+	    tile_pixel = 0;
+	    tile_index++;
+	  }
+	  
+	  return pixel;
+	}
+	
+	/**
+	 * Méthode qui retourne le ratio width/height sans distorsion. 
+	 * Ce calcul est nécessaire pour la formation de la pyramide de vue (ViewFrustum) afin de déterminer une hauteur de pyramide en fonction de la largueur (déterminée par un angle d'ouverture).
+	 *  
+	 * @return Le ratio width/height.
+	 */
+	public double normalAspect()
+	{ 
+	  return (double)width / (double)height; 
+	}
+	
+	/**
+	 * Méthode pour écrire un objet SReadableWriteable dans un fichier txt.
+	 * 
+	 * @param bw - Le buffer pour l'écriture.
+	 * @throws IOException Si une erreur de l'objet BufferedWriter est lancée.
+	 * @see BufferedWriter
+	 */
+	public void write(BufferedWriter bw)throws IOException
+	{
+		bw.write(SKeyWordDecoder.KW_VIEWPORT);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		//Écrire les propriétés de la classe SViewport et ses paramètres hérités
+		writeSViewportParameter(bw);
+				
+		bw.write(SKeyWordDecoder.KW_END);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+	}
+	
+	/**
+	 * Méthode pour écrire les paramètres associés à la classe SViewport et ses paramètres hérités.
+	 * 
+	 * @param bw - Le BufferedWriter écrivant l'information dans un fichier txt.
+	 * @throws IOException Si une erreur I/O s'est produite.
+	 */
+	protected void writeSViewportParameter(BufferedWriter bw)throws IOException
+	{	
+		bw.write(SKeyWordDecoder.KW_WIDTH);
+		bw.write("\t\t");
+		bw.write(Integer.toString(width));
+		bw.write(" pixels");
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		bw.write(SKeyWordDecoder.KW_HEIGHT);
+		bw.write("\t\t");
+		bw.write(Integer.toString(height));
+		bw.write(" pixels");
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		bw.write(SKeyWordDecoder.KW_IMAGE_FILE_NAME);
+		bw.write("\t");
+		bw.write(image_file_name);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		bw.write(SKeyWordDecoder.KW_PIXEL_ORDER);
+		bw.write("\t");
+		bw.write(PIXEL_ORDER[pixel_order]);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		bw.write(SKeyWordDecoder.KW_STREAMING_OUTPUT);
+		bw.write("\t");
+		bw.write(STREAMING_OUTPUT[streaming_output]);
+		bw.write(SStringUtil.END_LINE_CARACTER);
+		
+		if(checkpoint_file_name != null)
+		{
+		  bw.write(SKeyWordDecoder.KW_CHECKPOINT_FILE);
+		  bw.write("\t");
+		  bw.write(checkpoint_file_name);
+		  bw.write(SStringUtil.END_LINE_CARACTER);
+		}
+		
+		bw.write(SKeyWordDecoder.KW_CHECKPOINT_INTERVAL);
+		bw.write("\t");
+		bw.write(Double.toString(checkpoint_interval));
+		bw.write(" s");
+		bw.write(SStringUtil.END_LINE_CARACTER);
+	}
+	
+	/**
+	 * Méthode pour écrire le contenu static de la classe SViewport dans un fichier txt.
+	 * 
+	 * @param bw - Le buffer pour l'écriture.
+	 * @throws IOException Si une erreur de l'objet BufferedWriter est lancée.
+	 * @see BufferedWriter
+	 */
+	public static void staticWrite(BufferedWriter bw)throws IOException
+	{
+		bw.write(SKeyWordDecoder.KW_VIEWPORT_IMAGE_COUNT);
+	  bw.write("\t");
+	  bw.write(Integer.toString(image_counter));
+		bw.write(SStringUtil.END_LINE_CARACTER);
+	}
+		
+	/**
+	 * Méthode pour dessiner le viewport dans un fichier image.
+	 * En mode d'écriture continue, les rangées restantes sont écrites (pixels sans couleur) et le fichier image est terminé.
+	 * 
+	 * @throws IOException S'il y a une erreur lors de l'écriture du fichier image. 
+	 */
+	public void writeImage() throws IOException
+	{
+	  if(streaming_output != NO_STREAMING)
+	    finishStreaming();
+	  else
+	  {
+	    //Générer le fichier image
+	    File file = new File(imageFileName() + "." + DEFAULT_IMAGE_EXTENSION);
+	    BufferedImage buffer = getBufferedImage();
+	    ImageIO.write(buffer, DEFAULT_IMAGE_EXTENSION, file);
+	  }
+		
+		// Le rendu est terminé : le fichier de sauvegarde n'est plus nécessaire (il sera recréé par clear() pour un nouveau rendu)
+		if(checkpoint != null)
+		{
+		  checkpoint.delete();
+		  checkpoint = null;
+		}
+		
+		nextImageCounter();
+	}
+	
+	/**
+	 * Méthode pour obtenir le fichier image où l'image courante du viewport doit être écrite et passer au numéro d'image suivant.
+	 * Une copie de l'image (voir copyBufferedImage()) peut ainsi être écrite dans ce fichier par une autre tâche 
+	 * pendant le rendu de l'image suivante.
+	 * 
+	 * @return Le fichier image.
+	 * @see SViewport#copyBufferedImage()
+	 */
+	public File nextImageFile()
+	{
+	  File file = new File(imageFileName() + "." + DEFAULT_IMAGE_EXTENSION);
+	  
+	  nextImageCounter();
+	  
+	  return file;
+	}
+	
+	/**
+	 * Méthode pour passer au numéro d'image suivant.
+	 */
+	private static void nextImageCounter()
+	{
+	  image_counter++;	//augmenter le compteur
+	  
+	  //Réinitialiser le compteur si la valeur maximale est atteinte
+	  if(image_counter > MAX_IMAGE_COUNTER)
+	    image_counter = DEFAULT_IMAGE_COUNTER;
+	}
+	
+	/**
+	 * Méthode pour terminer l'écriture continue du fichier image. Comme pour une image conservée en mémoire, 
+	 * les pixels n'ayant pas reçu de couleur sont transparents.
+	 * 
+	 * @throws IOException S'il y a une erreur lors de l'écriture du fichier image.
+	 */
+	private synchronized void finishStreaming() throws IOException
+	{
+	  for(int y = next_row; y < height; y++)
+	    if(row_remaining[y] > 0)
+	    {
+	      if(!pending_row.containsKey(y))
+	        pending_row.put(y, new SColor[width]);
+	      
+	      row_remaining[y] = 0;
+	      
+	      // Écrire les rangées au fur et à mesure afin de ne pas conserver l'image en mémoire
+	      flushRows();
+	    }
+	  
+	  flushRows();
+	  
+	  try{
+	    row_writer.close();
+	  }finally{
+	    row_writer = null;
+	    
+	    // Le viewport est prêt pour une nouvelle image
+	    clearStreaming();
+	  }
+	}
+	
+	/**
+	 * Méthode pour obtenir le nom du fichier image (sans extension) incluant le numéro de l'image généré par ce viewport.
+	 * 
+	 * @return Le nom du fichier image.
+	 */
+	private String imageFileName()
+	{
+		String name = image_file_name + "_";
+		
+		//Ajouter le numéro de l'image généré par ce viewport
+		String number = Integer.toString(image_counter);
+		
+		//Afficher le bon nombre de '0' au nombre entre 0 et 1000
+		if(image_counter < 10)
+			name = name.concat("00");
+		else
+			if(image_counter < 100)
+				name = name.concat("0");
+		
+		name = name.concat(number);
+		
+		return name;
+	}
+	
+	
+	/**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   * 
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+	{
+	  // En écriture continue, l'image complète n'est jamais conservée en mémoire
+	  if(streaming_output != NO_STREAMING)
+	  {
+	    image = null;
+	    image_buffer = null;
+	  }
+	  else
+	  {
+	    image = new SColor[width][height];
+	    image_buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+	  }
+	  
+	  // L'itération des pixels parcourt l'ensemble du viewport
+	  region_x = 0;
+	  region_y = 0;
+	  region_width = width;
+	  region_height = height;
+	  
+	  // Un fichier de sauvegarde déjà ouvert est fermé et conservé sur disque
+	  if(checkpoint != null)
+	  {
+	    try{
+	      checkpoint.close();
+	    }catch(IOException e){
+	      throw new SInitializationException("Erreur SViewport 015 : Impossible de fermer le fichier de sauvegarde '" + checkpoint_file_name + "'.", e);
+	    }
+	    
+	    checkpoint = null;
+	  }
+	  
+		clearImage();
+		
+		if(checkpoint_file_name != null)
+		  openCheckpoint();
+	}
+	
+	/**
+	 * Méthode pour ouvrir le fichier de sauvegarde et restaurer les pixels calculés lors d'un rendu interrompu.
+	 * 
+	 * @throws SInitializationException S'il y a une erreur lors de l'ouverture du fichier de sauvegarde.
+	 */
+	private void openCheckpoint() throws SInitializationException
+	{
+	  try{
+	    checkpoint = new SViewportCheckpoint(new File(checkpoint_file_name), width, height);
+	  }catch(IOException e){
+	    throw new SInitializationException("Erreur SViewport 014 : Impossible d'ouvrir le fichier de sauvegarde '" + checkpoint_file_name + "'.", e);
+	  }
+	  
+	  // Restaurer les pixels déjà calculés (sans les enregistrer à nouveau dans le fichier de sauvegarde)
+	  if(checkpoint.isResumed())
+	    for(int y = 0; y < height; y++)
+	      for(int x = 0; x < width; x++)
+	        if(checkpoint.getSampleCount(x, y) > 0)
+	          storeColor(x, y, checkpoint.getColor(x, y));
+	  
+	  restartPixelIteration();
+	  
+	  checkpoint_pixel = 0;
+	  last_checkpoint_time = System.nanoTime();
+	}
+	
+  @Override
+	protected boolean read(SBufferedReader sbr, int code, String remaining_line)throws SReadingException
+	{
+		switch(code)
+		{
+			case SKeyWordDecoder.CODE_WIDTH :  width = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_WIDTH); return true; 
+														
+			case SKeyWordDecoder.CODE_HEIGHT : height = readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_HEIGHT); return true;
+														
+			case SKeyWordDecoder.CODE_IMAGE_FILE_NAME : image_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_IMAGE_FILE_NAME); return true;
+			
+			case SKeyWordDecoder.CODE_PIXEL_ORDER : pixel_order = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_PIXEL_ORDER, PIXEL_ORDER); return true;
+			
+			case SKeyWordDecoder.CODE_CHECKPOINT_FILE : checkpoint_file_name = readStringNotEmpty(remaining_line, SKeyWordDecoder.KW_CHECKPOINT_FILE); return true;
+			
+			case SKeyWordDecoder.CODE_CHECKPOINT_INTERVAL : checkpoint_interval = readDoubleGreaterThanZero(remaining_line, SKeyWordDecoder.KW_CHECKPOINT_INTERVAL); return true;
+			
+			case SKeyWordDecoder.CODE_STREAMING_OUTPUT : streaming_output = readIntOrExpression(remaining_line, SKeyWordDecoder.KW_STREAMING_OUTPUT, STREAMING_OUTPUT); return true;
+				
+			default : return false;
+		}
+	}
+	
+	@Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    initialize();
+  }
+	
+	@Override
+  public String getReadableName()
+  {
+    return SKeyWordDecoder.KW_SPHERE;
+  }
+  
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+    
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+  
+  @Override
+  public boolean equals(Object obj)
+  {
+    if (this == obj)
+      return true;
+    
+    if (obj == null)
+      return false;
+    
+    if (getClass() != obj.getClass())
+      return false;
+    
+    SViewport other = (SViewport) obj;
+    
+    if (height != other.height)
+      return false;
+    
+    if (width != other.width)
+      return false;
+    
+    // Vérification de l'ensemble des couleurs du viewport
+    if (!Arrays.deepEquals(image, other.image))
+      return false;
+    
+    return true;
+  }
+
+}//fin classe SViewport
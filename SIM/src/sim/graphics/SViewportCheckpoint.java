@@ -0,0 +1,474 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.util.SLog;
+
+/**
+ * <p>
+ * La classe <b>SViewportCheckpoint</b> représente un fichier de sauvegarde (<i>checkpoint</i>) d'un rendu en cours projeté en mémoire (<i>memory-mapped file</i>).
+ * Le fichier contient la couleur de chaque pixel, le nombre d'échantillons attribués à chaque pixel (0 si le pixel n'a pas encore été calculé)
+ * ainsi que l'état du parcours des pixels du viewport.
+ * </p>
+ *
+ * <p>
+ * Puisque le fichier est projeté en mémoire, une couleur attribuée à un pixel est conservée par le système d'exploitation même si le programme
+ * est interrompu brutalement (manque de mémoire, arrêt du processus). La méthode <b>save</b> force l'écriture sur disque afin de survivre
+ * également à l'arrêt de la machine. Un rendu interrompu peut alors reprendre en calculant uniquement les pixels n'ayant aucun échantillon.
+ * </p>
+ *
+ * <p>
+ * Les couleurs sont conservées en double précision afin qu'un rendu repris soit identique à un rendu non interrompu
+ * (si l'échantillonnage des pixels est déterministe).
+ * </p>
+ *
+ * <p>
+ * L'entête conserve l'empreinte du fichier de scène ayant produit les pixels (voir {@link #setSceneHash(String)}).
+ * Un rendu n'est repris que si la scène n'a pas été modifiée depuis l'interruption. Les fichiers lus par la scène
+ * (modèles, textures) ne font pas partie de l'empreinte.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SViewportCheckpoint {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>MAGIC</b> correspond à l'identifiant d'un fichier de sauvegarde ("SIMC").
+   */
+  private static final int MAGIC = 0x53494D43;
+
+  /**
+   * La constante <b>VERSION</b> correspond à la version du format du fichier de sauvegarde étant égale à {@value}.
+   */
+  private static final int VERSION = 2;
+
+  /**
+   * La constante <b>HEADER_SIZE</b> correspond à la taille (en octets) de l'entête du fichier étant égale à {@value}.
+   * L'entête contient l'identifiant, la version, la dimension de l'image, l'ordre de parcours, le nombre de pixels parcourus et calculés
+   * ainsi que l'empreinte de la scène.
+   */
+  private static final int HEADER_SIZE = 128;
+
+  /**
+   * La constante <b>SCENE_HASH_OFFSET</b> correspond à la position (en octets) de l'empreinte de la scène dans l'entête étant égale à {@value}.
+   */
+  private static final int SCENE_HASH_OFFSET = 64;
+
+  /**
+   * La constante <b>SCENE_HASH_SIZE</b> correspond à la taille maximale (en octets) de l'empreinte de la scène (SHA-256 en hexadécimal) étant égale à {@value}.
+   */
+  private static final int SCENE_HASH_SIZE = 64;
+
+  /**
+   * La constante <b>BYTE_PER_PIXEL</b> correspond au nombre d'octets par pixel (quatre canaux en double précision, nombre d'échantillons et alignement) étant égal à {@value}.
+   */
+  private static final int BYTE_PER_PIXEL = 40;
+
+  /**
+   * La constante <b>SAMPLE_OFFSET</b> correspond à la position (en octets) du nombre d'échantillons dans les données d'un pixel étant égale à {@value}.
+   */
+  private static final int SAMPLE_OFFSET = 32;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>file</b> correspond au fichier de sauvegarde.
+   */
+  private final File file;
+
+  /**
+   * La variable <b>width</b> correspond à la largeur de l'image.
+   */
+  private final int width;
+
+  /**
+   * La variable <b>height</b> correspond à la hauteur de l'image.
+   */
+  private final int height;
+
+  /**
+   * La variable <b>channel</b> correspond au canal d'accès au fichier.
+   */
+  private final FileChannel channel;
+
+  /**
+   * La variable <b>header</b> correspond à la projection en mémoire de l'entête du fichier (<b>null</b> après la suppression du fichier).
+   */
+  private MappedByteBuffer header;
+
+  /**
+   * La variable <b>band</b> correspond aux projections en mémoire des pixels. Chaque projection couvre une bande de rangées
+   * (une projection étant limitée à 2 Go). Les projections sont oubliées après la suppression du fichier.
+   */
+  private MappedByteBuffer[] band;
+
+  /**
+   * La variable <b>band_height</b> correspond au nombre de rangées d'une bande.
+   */
+  private final int band_height;
+
+  /**
+   * La variable <b>resumed</b> détermine si le fichier de sauvegarde provient d'un rendu précédent (dont les pixels n'ont pas été effacés).
+   */
+  private boolean resumed;
+
+  /**
+   * La variable <b>completed_count</b> correspond au nombre de pixels ayant au moins un échantillon.
+   */
+  private final AtomicLong completed_count;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un fichier de sauvegarde. Si le fichier existe et correspond à une image de même dimension, son contenu est conservé
+   * afin de reprendre le rendu. Sinon, un nouveau fichier vide est créé.
+   *
+   * @param file - Le fichier de sauvegarde.
+   * @param width - La largeur de l'image.
+   * @param height - La hauteur de l'image.
+   * @throws IOException S'il y a une erreur lors de l'ouverture du fichier.
+   * @throws SConstructorException Si les dimensions de l'image ne sont pas supérieures à 0.
+   */
+  public SViewportCheckpoint(File file, int width, int height) throws IOException, SConstructorException
+  {
+    if(width < 1 || height < 1)
+      throw new SConstructorException("Erreur SViewportCheckpoint 001 : Les dimensions de l'image '" + width + "' x '" + height + "' doivent être supérieures à 0.");
+
+    this.file = file;
+    this.width = width;
+    this.height = height;
+
+    long row_size = (long)width * BYTE_PER_PIXEL;
+    long size = HEADER_SIZE + row_size * height;
+
+    channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    // Un fichier d'une autre dimension (ou corrompu) est remplacé par un fichier vide
+    boolean valid = channel.size() == size && isValidHeader();
+
+    if(!valid)
+    {
+      channel.truncate(0);
+      channel.write(ByteBuffer.allocate(1), size - 1);
+    }
+
+    header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+    band_height = (int)Math.max(1, Math.min(height, Integer.MAX_VALUE / row_size));
+    band = new MappedByteBuffer[(height + band_height - 1) / band_height];
+
+    for(int i = 0; i < band.length; i++)
+    {
+      int nb_row = Math.min(band_height, height - i*band_height);
+      band[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + row_size * i * band_height, row_size * nb_row);
+    }
+
+    resumed = valid;
+    completed_count = new AtomicLong(0);
+
+    if(valid)
+    {
+      // Compter les pixels déjà calculés
+      long count = 0;
+
+      for(int y = 0; y < height; y++)
+        for(int x = 0; x < width; x++)
+          if(getSampleCount(x, y) > 0)
+            count++;
+
+      completed_count.set(count);
+    }
+    else
+      writeHeader(0, 0);
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour déterminer si le fichier de sauvegarde provient d'un rendu précédent (reprise du rendu).
+   *
+   * @return <b>true</b> si le fichier provient d'un rendu précédent et <b>false</b> s'il s'agit d'un nouveau fichier ou s'il a été effacé.
+   */
+  public boolean isResumed()
+  {
+    return resumed;
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de pixels ayant au moins un échantillon.
+   *
+   * @return Le nombre de pixels calculés.
+   */
+  public long getCompletedCount()
+  {
+    return completed_count.get();
+  }
+
+  /**
+   * Méthode pour obtenir l'ordre de parcours des pixels enregistré lors de la dernière sauvegarde.
+   *
+   * @return Le code de l'ordre de parcours.
+   * @see SViewport#PIXEL_ORDER
+   */
+  public int getPixelOrder()
+  {
+    return header.getInt(16);
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de pixels parcourus par le viewport lors de la dernière sauvegarde.
+   *
+   * @return Le nombre de pixels parcourus.
+   */
+  public long getPixelCount()
+  {
+    return header.getLong(24);
+  }
+
+  /**
+   * Méthode pour déterminer si les pixels du fichier de sauvegarde ont été calculés à partir d'une scène donnée.
+   *
+   * @param scene_hash - L'empreinte du fichier de scène.
+   * @return <b>true</b> si l'empreinte enregistrée est celle de la scène et <b>false</b> sinon.
+   */
+  public boolean isSameScene(String scene_hash)
+  {
+    return getSceneHash().equals(scene_hash);
+  }
+
+  /**
+   * Méthode pour obtenir l'empreinte du fichier de scène enregistrée dans l'entête.
+   *
+   * @return L'empreinte (vide si elle n'a pas été définie).
+   */
+  public String getSceneHash()
+  {
+    byte[] bytes = new byte[SCENE_HASH_SIZE];
+
+    for(int i = 0; i < SCENE_HASH_SIZE; i++)
+      bytes[i] = header.get(SCENE_HASH_OFFSET + i);
+
+    int length = 0;
+
+    while(length < SCENE_HASH_SIZE && bytes[length] != 0)
+      length++;
+
+    return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Méthode pour enregistrer dans l'entête l'empreinte du fichier de scène dont les pixels sont calculés.
+   *
+   * @param scene_hash - L'empreinte du fichier de scène (au plus 64 caractères).
+   * @throws SRuntimeException Si l'empreinte est trop longue.
+   */
+  public synchronized void setSceneHash(String scene_hash) throws SRuntimeException
+  {
+    byte[] bytes = scene_hash.getBytes(StandardCharsets.US_ASCII);
+
+    if(bytes.length > SCENE_HASH_SIZE)
+      throw new SRuntimeException("Erreur SViewportCheckpoint 002 : L'empreinte de la scène '" + scene_hash + "' dépasse " + SCENE_HASH_SIZE + " caractères.");
+
+    for(int i = 0; i < SCENE_HASH_SIZE; i++)
+      header.put(SCENE_HASH_OFFSET + i, i < bytes.length ? bytes[i] : 0);
+
+    header.force();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre d'échantillons attribués à un pixel.
+   *
+   * @param x - La coordonnée x du pixel.
+   * @param y - La coordonnée y du pixel.
+   * @return Le nombre d'échantillons (0 si le pixel n'a pas été calculé).
+   */
+  public int getSampleCount(int x, int y)
+  {
+    return band[y / band_height].getInt(offset(x, y) + SAMPLE_OFFSET);
+  }
+
+  /**
+   * Méthode pour obtenir la couleur enregistrée d'un pixel.
+   *
+   * @param x - La coordonnée x du pixel.
+   * @param y - La coordonnée y du pixel.
+   * @return La couleur du pixel.
+   */
+  public SColor getColor(int x, int y)
+  {
+    MappedByteBuffer buffer = band[y / band_height];
+    int i = offset(x, y);
+
+    return new SColor(buffer.getDouble(i), buffer.getDouble(i + 8), buffer.getDouble(i + 16), buffer.getDouble(i + 24));
+  }
+
+  /**
+   * Méthode pour enregistrer la couleur d'un pixel. Le pixel compte alors un échantillon.
+   * Cette méthode peut être appelée simultanément par plusieurs fils d'exécution pour des pixels différents.
+   *
+   * @param x - La coordonnée x du pixel.
+   * @param y - La coordonnée y du pixel.
+   * @param color - La couleur du pixel.
+   */
+  public void setColor(int x, int y, SColor color)
+  {
+    MappedByteBuffer buffer = band[y / band_height];
+    int i = offset(x, y);
+
+    buffer.putDouble(i, color.getRed());
+    buffer.putDouble(i + 8, color.getGreen());
+    buffer.putDouble(i + 16, color.getBlue());
+    buffer.putDouble(i + 24, color.getAlpha());
+
+    // Le nombre d'échantillons est écrit après la couleur
+    if(buffer.getInt(i + SAMPLE_OFFSET) == 0)
+      completed_count.incrementAndGet();
+
+    buffer.putInt(i + SAMPLE_OFFSET, 1);
+  }
+
+  /**
+   * Méthode pour effacer l'ensemble des pixels (aucun échantillon).
+   */
+  public void clear()
+  {
+    for(int y = 0; y < height; y++)
+      for(int x = 0; x < width; x++)
+        band[y / band_height].putInt(offset(x, y) + SAMPLE_OFFSET, 0);
+
+    completed_count.set(0);
+    writeHeader(0, 0);
+
+    resumed = false;
+  }
+
+  /**
+   * Méthode pour sauvegarder l'état du parcours des pixels et forcer l'écriture du fichier sur disque.
+   *
+   * @param pixel_order - L'ordre de parcours des pixels.
+   * @param pixel_count - Le nombre de pixels parcourus.
+   */
+  public synchronized void save(int pixel_order, long pixel_count)
+  {
+    for(MappedByteBuffer buffer : band)
+      buffer.force();
+
+    // L'entête est écrite après les pixels afin de ne jamais décrire des pixels absents du disque
+    writeHeader(pixel_order, pixel_count);
+    header.force();
+  }
+
+  /**
+   * Méthode pour fermer le fichier de sauvegarde en le conservant sur disque (afin de reprendre le rendu plus tard).
+   *
+   * @throws IOException S'il y a une erreur lors de la fermeture du fichier.
+   */
+  public void close() throws IOException
+  {
+    for(MappedByteBuffer buffer : band)
+      buffer.force();
+
+    header.force();
+    channel.close();
+  }
+
+  /**
+   * <p>
+   * Méthode pour fermer le fichier de sauvegarde et le supprimer (le rendu étant terminé).
+   * </p>
+   *
+   * <p>
+   * Une projection en mémoire n'est libérée que lorsqu'elle est récupérée par le ramasse-miettes et certains systèmes (Windows)
+   * refusent de supprimer un fichier encore projeté. Les projections sont donc oubliées avant la suppression et un échec de la suppression
+   * est seulement signalé : l'entête est d'abord invalidée afin qu'un fichier restant ne soit jamais repris.
+   * </p>
+   */
+  public synchronized void delete()
+  {
+    header.putInt(0, 0);
+    header.force();
+
+    header = null;
+    band = null;
+
+    try{
+      channel.close();
+      Files.deleteIfExists(file.toPath());
+    }catch(IOException e){
+      SLog.logWriteLine("Message SViewportCheckpoint : Le fichier de sauvegarde '" + file.getPath() + "' ne peut pas être supprimé (" + e.getMessage() + "). Il sera remplacé lors du prochain rendu.");
+    }
+  }
+
+  /**
+   * Méthode pour écrire l'entête du fichier.
+   *
+   * @param pixel_order - L'ordre de parcours des pixels.
+   * @param pixel_count - Le nombre de pixels parcourus.
+   */
+  private void writeHeader(int pixel_order, long pixel_count)
+  {
+    header.putInt(0, MAGIC);
+    header.putInt(4, VERSION);
+    header.putInt(8, width);
+    header.putInt(12, height);
+    header.putInt(16, pixel_order);
+    header.putLong(24, pixel_count);
+    header.putLong(32, completed_count.get());
+  }
+
+  /**
+   * Méthode pour vérifier que l'entête du fichier existant correspond à l'image.
+   *
+   * @return <b>true</b> si l'entête est valide et <b>false</b> sinon.
+   * @throws IOException S'il y a une erreur lors de la lecture de l'entête.
+   */
+  private boolean isValidHeader() throws IOException
+  {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    if(channel.read(buffer, 0) < 16)
+      return false;
+
+    buffer.flip();
+
+    return buffer.getInt() == MAGIC && buffer.getInt() == VERSION && buffer.getInt() == width && buffer.getInt() == height;
+  }
+
+  /**
+   * Méthode pour obtenir la position (en octets) d'un pixel dans sa bande.
+   *
+   * @param x - La coordonnée x du pixel.
+   * @param y - La coordonnée y du pixel.
+   * @return La position du pixel.
+   */
+  private int offset(int x, int y)
+  {
+    return ((y % band_height) * width + x) * BYTE_PER_PIXEL;
+  }
+
+}//fin de la classe SViewportCheckpoint
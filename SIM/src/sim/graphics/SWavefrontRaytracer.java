@@ -0,0 +1,295 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.graphics.shader.SColorAccumulator;
+import sim.graphics.shader.SRayBatch;
+import sim.graphics.shader.SWavefrontShader;
+import sim.math.SVector3d;
+import sim.math.SVectorPixel;
+import sim.util.SLog;
+
+/**
+ * <p>
+ * La classe <b>SWavefrontRaytracer</b> représente un raytracer évaluant les pixels du viewport par <b>lots</b>. Les rayons primaires
+ * de l'ensemble des pixels d'un lot (incluant chaque échantillon) sont construits puis évalués par étapes par un <b>SWavefrontShader</b>.
+ * </p>
+ * <p>
+ * Les rayons primaires d'un lot sont regroupés par tuiles de pixels voisins afin de former des paquets de rayons cohérents.
+ * </p>
+ * <p>
+ * Avec plusieurs tâches, chaque tâche évalue son propre lot de pixels. La couleur des pixels est attribuée au viewport
+ * par le <i>thread</i> appelant comme pour le <b>SThreadPoolCastRaytracer</b>.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-12
+ * @version 2017-02-14
+ */
+public class SWavefrontRaytracer extends SAbstractRaytracer {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>DEFAULT_BATCH_SIZE</b> correspond au nombre maximal de pixels d'un lot étant égal à {@value}.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+
+  /**
+   * La constante <b>TILE_SIZE</b> correspond à la largeur (en pixels) des tuiles carrées regroupant les rayons primaires voisins 
+   * d'un lot étant égale à {@value}. Les rayons d'une tuile sont consécutifs dans le lot et forment un paquet cohérent.
+   */
+  public static final int TILE_SIZE = 4;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>wavefront_shader</b> correspond au shader évaluant les lots de rayons.
+   */
+  private final SWavefrontShader wavefront_shader;
+
+  /**
+   * La variable <b>sampling</b> correspond au nombre de rayons lancés dans chaque pixel.
+   */
+  private final int sampling;
+
+  /**
+   * La variable <b>task</b> correspond au nombre de lots évalués simultanément.
+   */
+  private final int task;
+
+  /**
+   * La variable <b>executor</b> correspond à l'exécuteur des lots (<b>null</b> avec une seule tâche).
+   */
+  private final ExecutorService executor;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un raytracer évaluant les pixels par lots.
+   *
+   * @param view_frustum - La pyramide de vue.
+   * @param shader - Le shader évaluant les lots de rayons.
+   * @param viewport - La fenêtre de rendu (<i>viewport</i>).
+   * @param sampling - Le nombre de rayons lancés dans chaque pixel.
+   * @param task - Le nombre de lots évalués simultanément.
+   * @throws SConstructorException Si le nombre de rayons par pixel ou le nombre de tâches n'est pas supérieur à 0.
+   */
+  public SWavefrontRaytracer(SViewFrustum view_frustum, SWavefrontShader shader, SViewport viewport, int sampling, int task) throws SConstructorException
+  {
+    super(view_frustum, shader, viewport);
+
+    if(sampling < 1)
+      throw new SConstructorException("Erreur SWavefrontRaytracer 001 : Le nombre de rayon par pixel '" + sampling + "' n'est pas supérieur à 0.");
+
+    if(task < 1)
+      throw new SConstructorException("Erreur SWavefrontRaytracer 002 : Le nombre de tâches '" + task + "' n'est pas supérieur à 0.");
+
+    this.wavefront_shader = shader;
+    this.sampling = sampling;
+    this.task = task;
+
+    //Message de mauvaise fonctionnalité si la coordonée interne d'un pixel n'est pas aléatoire lors de super sampling
+    if(sampling > 1 && view_frustum.getPixelInternalCoordinate() != SViewFrustum.RANDOM_PIXEL)
+      SLog.logWriteLine("Message SWavefrontRaytracer : Puisque le sampling est à '" + sampling + "' et que la coordonnée interne d'un pixel n'est pas '" + SViewFrustum.PIXEL_COORDINATE[SViewFrustum.RANDOM_PIXEL] + "', l'antialiasing ne peut pas être applicable.");
+
+    if(task > 1)
+      executor = buildExecutor(task);
+    else
+      executor = null;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see sim.graphics.SRaytracer#raytrace(int)
+   */
+  @Override
+  public void raytrace(int nb_pixel) throws SRuntimeException
+  {
+    if(nb_pixel < 0)
+      throw new SRuntimeException("Erreur SWavefrontRaytracer 003 : Le nombre de pixels '" + nb_pixel + "' doit être supérieur à 0.");
+
+    // Les pixels à évaluer
+    List<SVectorPixel> pixel_list = new ArrayList<SVectorPixel>();
+
+    for(int nb = 0; nb < nb_pixel && viewport.hasNextPixel(); nb++)
+      pixel_list.add(viewport.nextPixel());
+
+    if(pixel_list.isEmpty())
+      return;
+
+    // Taille des lots afin de répartir les pixels entre les tâches
+    int batch_size = Math.min(DEFAULT_BATCH_SIZE, (pixel_list.size() + task - 1) / task);
+
+    List<List<SVectorPixel>> batch_list = new ArrayList<List<SVectorPixel>>();
+
+    for(int i = 0; i < pixel_list.size(); i += batch_size)
+      batch_list.add(pixel_list.subList(i, Math.min(pixel_list.size(), i + batch_size)));
+
+    // Évaluation des lots
+    List<SColor[]> color_list = new ArrayList<SColor[]>();
+
+    if(executor == null)
+      for(List<SVectorPixel> batch : batch_list)
+        color_list.add(evaluateBatchColor(batch));
+    else
+    {
+      List<Future<SColor[]>> future_list = new ArrayList<Future<SColor[]>>();
+
+      for(List<SVectorPixel> batch : batch_list)
+        future_list.add(executor.submit(() -> evaluateBatchColor(batch)));
+
+      try{
+
+        for(Future<SColor[]> f : future_list)
+          color_list.add(f.get());
+
+      }catch(InterruptedException e){
+        throw new SRuntimeException("Erreur SWavefrontRaytracer 004 : Raytracer interrompu.", e);
+      }catch(ExecutionException e){
+        throw new SRuntimeException("Erreur SWavefrontRaytracer 005 : Erreur d'exécution.", e);
+      }
+    }
+
+    // Dessiner les pixels calculés dans le viewport
+    for(int b = 0; b < batch_list.size(); b++)
+    {
+      List<SVectorPixel> batch = batch_list.get(b);
+      SColor[] color = color_list.get(b);
+
+      for(int i = 0; i < batch.size(); i++)
+        viewport.setColor(batch.get(i), color[i]);
+    }
+  }
+
+  @Override
+  protected SColor evaluatePixelColor(SVectorPixel pixel)
+  {
+    List<SVectorPixel> batch = new ArrayList<SVectorPixel>();
+    batch.add(pixel);
+
+    return evaluateBatchColor(batch)[0];
+  }
+  
+  @Override
+  protected SColor[] evaluatePixelColor(List<SVectorPixel> pixel_list)
+  {
+    // Les pixels du groupe sont évalués par lots d'au plus DEFAULT_BATCH_SIZE pixels
+    SColor[] color = new SColor[pixel_list.size()];
+    
+    for(int i = 0; i < pixel_list.size(); i += DEFAULT_BATCH_SIZE)
+    {
+      SColor[] batch_color = evaluateBatchColor(pixel_list.subList(i, Math.min(pixel_list.size(), i + DEFAULT_BATCH_SIZE)));
+      System.arraycopy(batch_color, 0, color, i, batch_color.length);
+    }
+    
+    return color;
+  }
+
+  /**
+   * Méthode pour évaluer la couleur d'un lot de pixels. Un rayon primaire est construit pour chaque échantillon de chaque pixel
+   * et l'ensemble des rayons est évalué par le shader. La couleur d'un pixel correspond à la moyenne de ses échantillons.
+   *
+   * @param pixel_list - Les pixels du lot.
+   * @return La couleur de chaque pixel du lot.
+   */
+  private SColor[] evaluateBatchColor(List<SVectorPixel> pixel_list)
+  {
+    SRayBatch batch = new SRayBatch(pixel_list.size()*sampling);
+    SColorAccumulator[] sample_color = new SColorAccumulator[pixel_list.size()*sampling];
+
+    for(int i : tileOrder(pixel_list))
+      for(int s = 0; s < sampling; s++)
+      {
+        // La coordonnée 3d du pixel dans les coordonnées de la scène
+        SVector3d position_pixel = view_frustum.viewportToViewFrustum(pixel_list.get(i));
+
+        // Direction du rayon normalisé
+        SVector3d direction = position_pixel.substract(view_frustum.getCameraPosition()).normalize();
+
+        int sample = i*sampling + s;
+
+        batch.addPrimaryRay(position_pixel, direction, camera_medium_stack, sample);
+        sample_color[sample] = new SColorAccumulator();
+      }
+
+    wavefront_shader.shade(batch, sample_color);
+
+    SColor[] color = new SColor[pixel_list.size()];
+
+    for(int i = 0; i < pixel_list.size(); i++)
+      if(sampling == 1)
+        color[i] = sample_color[i].toColor();
+      else
+      {
+        //Faire la somme des couleurs
+        SColor sum = new SColor(0.0, 0.0, 0.0);
+
+        for(int s = 0; s < sampling; s++)
+          sum = sum.add(sample_color[i*sampling + s].toColor());
+
+        //Retourner la couleur après avoir divisé par le nombre de sampling
+        color[i] = sum.multiply(1.0 / (double)sampling);
+      }
+
+    return color;
+  }
+
+  /**
+   * Méthode pour obtenir l'ordre des pixels d'un lot regroupés par tuiles de <b>TILE_SIZE</b> x <b>TILE_SIZE</b> pixels.
+   * Les tuiles sont ordonnées ligne par ligne et les pixels d'une tuile le sont également.
+   *
+   * @param pixel_list - Les pixels du lot.
+   * @return L'ordre des index des pixels.
+   */
+  private static Integer[] tileOrder(List<SVectorPixel> pixel_list)
+  {
+    Integer[] order = new Integer[pixel_list.size()];
+
+    for(int i = 0; i < order.length; i++)
+      order[i] = i;
+
+    Arrays.sort(order, (i, j) -> {
+
+      SVectorPixel p = pixel_list.get(i);
+      SVectorPixel q = pixel_list.get(j);
+
+      int compare = Integer.compare(p.getY() / TILE_SIZE, q.getY() / TILE_SIZE);
+
+      if(compare == 0)
+        compare = Integer.compare(p.getX() / TILE_SIZE, q.getX() / TILE_SIZE);
+
+      if(compare == 0)
+        compare = Integer.compare(p.getY(), q.getY());
+
+      if(compare == 0)
+        compare = Integer.compare(p.getX(), q.getX());
+
+      return compare;
+    });
+
+    return order;
+  }
+
+}//fin de la classe SWavefrontRaytracer
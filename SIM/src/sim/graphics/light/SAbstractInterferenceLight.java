@@ -1,249 +1,395 @@
-/**
- * 
- */
-package sim.graphics.light;
-
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import sim.exception.SConstructorException;
-import sim.exception.SRuntimeException;
-import sim.math.SVector3d;
-import sim.physics.SNotVisibleLightException;
-import sim.physics.SWave;
-import sim.physics.SWaveOptics;
-import sim.readwrite.SKeyWordDecoder;
-import sim.util.SBufferedReader;
-import sim.util.SInitializationException;
-import sim.util.SReadingException;
-import sim.util.SStringUtil;
-
-/**
- * La classe abstraite <b>SAbstractInterferenceLight</b> correspond  une source de lumire monochromatique pouvant raliser de l'interfrence.
- * 
- * @author Simon Vzina
- * @since 2016-02-15
- * @version 2017-02-02
- */
-public abstract class SAbstractInterferenceLight extends SAbstractAttenuatedLight implements SInterferenceLight {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>KEYWORD_PARAMETER</b> correspond  un tableau contenant l'ensemble des mots cls 
-   *  utiliser reconnus lors de la dfinition de l'objet par une lecture en fichier.
-   */
-  private static final String[] KEYWORD_PARAMETER = {
-    SKeyWordDecoder.KW_WAVE_LENGTH, SKeyWordDecoder.KW_PERIOD_ITERATION, SKeyWordDecoder.KW_NB_OSCILLATOR
-  };
-  
-  /**
-   * La constante <b>DEFAULT_WAVE_LENGTH</b> correspond  la longueur d'onde (en nm) de la source de lumire monochromatique par dfaut.
-   */
-  protected static final double DEFAULT_WAVE_LENGTH = 550;
-  
-  /**
-   * La constante <b>DEFAULT_PERIOD_ITERATION</b> correspond au nombre d'itration qui seront ralis lors d'un calcul effectu sur une priode complte d'oscillation des oscillateurs.
-   */
-  protected static final int DEFAULT_PERIOD_ITERATION = 10;
-  
-  /**
-   * La constante <b>DEFAULT_NB_OSCILLATOR</b> correspond au nombre d'oscillateurs dfinissant un axe de la fente par dfaut.
-   */
-  protected static final int DEFAULT_NB_OSCILLATOR = 2;
-  
-  //-------------
-  // VARIABLES //
-  //-------------
-  /**
-   * La variable <b>wave_length</b> correspond  la longueur d'onde de la source de lumire.
-   */
-  protected double wave_length;
-  
-  /**
-   * La variable <b>period_iteration</b> correspond au nombre d'itrations qui seront utilises pour valuer une priode complte 
-   * d'oscillation des oscillateurs composant la source de lumire. Ce paramtre dtermine la prcision lorsqu'il
-   * y aura lors d'un calcul qui require une moyenne sur cylce complet d'oscillation. 
-   */
-  protected int period_iteration;
-  
-  /**
-   * La variable <b>nb_oscillator</b> correspond au nombre d'oscillateurs utilisa pour dfinir l'axe vertical (le <i>up</i>) de l'ouverture.
-   */
-  protected int nb_oscillator;
-  
-  /**
-   * La variable <b>wave_list</b> correspond  la liste ondes progressives gnr par les multiples oscillateurs internes  la source de lumire.
-   * Ce sont ces oscillateurs qui vont gnrer des ondes qui pourront interfrer au site o la lumire se dirigera.
-   */
-  protected final List<SWave> wave_list;
-  
-  //-----------------
-  // CONSTRUCTEURS //
-  //-----------------
-  
-  /**
-   * Constructeur d'une source de lumire pouvant raliser de l'interfrence par dfaut. 
-   */
-  public SAbstractInterferenceLight()
-  {
-    this(DEFAULT_WAVE_LENGTH, DEFAULT_POSITION, DEFAULT_AMPLIFICATION, DEFAULT_CONSTANT_ATTENUATOR, DEFAULT_LINEAR_ATTENUATOR, DEFAULT_QUADRATIC_ATTENUATOR, DEFAULT_PERIOD_ITERATION, DEFAULT_NB_OSCILLATOR);
-  }
-
-  /**
-   * Constructeur d'une source de lumire pouvant raliser de l'interfrence.
-   * 
-   * @param wave_length La longueur d'onde de la source de lumire (en nm).
-   * @param position La position de la source.
-   * @param amp Le facteur d'amplification de la source de lumire.
-   * @param cst_att La constante d'attnuation  taux constant.
-   * @param lin_att La constante d'attnuation  taux linaire.
-   * @param quad_att La constante d'attnuation  taux quadratique.
-   * @param period_iteration Le nombre d'itrations ralises dans les calculs effectus sur un cycle de priode d'oscillation des oscillateurs.
-   * @throws SConstructorException Si une erreur de construction est survenue.
-   */
-  public SAbstractInterferenceLight(double wave_length, SVector3d position, double amp, double cst_att, double lin_att, double quad_att, int period_iteration, int nb_oscillator) throws SConstructorException
-  {
-    super(DEFAULT_LIGHT_COLOR, position, amp, cst_att, lin_att, quad_att);
-    
-    if(wave_length < 0)
-      throw new SConstructorException("Erreur SAbstractInterferenceLight 001 : La longueur d'onde de la source de lumire doit tre positive.");
-    
-    if(period_iteration < 1)
-      throw new SConstructorException("Erreur SAbstractInterferenceLight 002 : Le nombre d'itration sur une priode tant de '" + period_iteration + "' doit tre suprieur  1.");
-    
-    if(nb_oscillator < 1)
-      throw new SConstructorException("Erreur SAbstractInterferenceLight 003 : Le nombre d'oscillateur pour un axe de l'ouverture '" + nb_oscillator + "' doit tre suprieur  1.");
-    
-    this.wave_length = wave_length;
-    
-    this.period_iteration = period_iteration;
-    
-    this.nb_oscillator = nb_oscillator;
-    
-    wave_list = new ArrayList<SWave>();
-    
-    try{
-      initialize();
-    }catch(SInitializationException e){
-      throw new SConstructorException("Erreur SAbstractInterferenceLight 004 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }
-  }
- 
-  
-  
-  /**
-   * Mthode pour crire les paramtres associs  la classe SAbstractInterferenceLight et ceux qu'il hrite.
-   * 
-   * @param bw Le BufferedWriter crivant l'information dans un fichier txt.
-   * @throws IOException S'il y a une erreur d'criture.
-   * @see IOException
-   */
-  protected void writeSAbstractInterferenceLightParameter(BufferedWriter bw)throws IOException
-  {
-    //crire les paramtres hrits de la classe SAbstractAttenuatedLight
-    writeSAbstractAttenuatedLightParameter(bw);
-    
-    bw.write(SKeyWordDecoder.KW_WAVE_LENGTH);
-    bw.write("\t\t");
-    bw.write(Double.toString(wave_length));
-    bw.write(" nm");
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_PERIOD_ITERATION);
-    bw.write("\t\t");
-    bw.write(Integer.toString(period_iteration));
-    bw.write(SStringUtil.END_LINE_CARACTER);
-    
-    bw.write(SKeyWordDecoder.KW_NB_OSCILLATOR);
-    bw.write("\t\t");
-    bw.write(Integer.toString(nb_oscillator));
-    bw.write(SStringUtil.END_LINE_CARACTER);
-  }
-  
-  @Override
-  public double getRelativeIntensity(SVector3d position_to_illuminate)
-  {
-    // Vrifier que la liste des ondes n'est pas vide
-    if(wave_list.isEmpty())
-      return 0.0;
-    
-    // valuer la priode sur laquelle la moyenne sera effectue (le temps d'une oscillation complte)
-    double period = wave_list.get(0).getOscillator().getPeriod();
-    
-    // valuer l'intensit moyenne sur un cycle complet des oscillateur
-    double intensity = SWaveOptics.interferenceAverageWaveValue(wave_list, position_to_illuminate, period, period_iteration);
-    
-    if(intensity < 0)
-      throw new SRuntimeException("SAbstractInterferenceLight --> intensity = " + intensity);
-    
-    // Nombre d'oscillateurs utiliss dans le calcul
-    //int nb = wave_list.size();                        // ce choix va crer par moment des valeurs ngative, ce qui n'est pas mathmatiquement possible.
-    double nb = (double)wave_list.size();               // ce choix semble rgler le problme !
-    
-    //--------------------------------
-    // CODE DE TEST --->  RETIRER !!!
-    //--------------------------------
-    if(intensity/(nb*nb) < 0)
-      throw new SRuntimeException("SAbstractInterferenceLight::public double getRelativeIntensity(SVector3d position_to_illuminate) --> intensity/(nb*nb) = " + intensity/(nb*nb) + ", intensity = " + intensity + ", nb = " + nb);
-    
-    // On retourne l'intensit relative au maximum de l'interfrence constructive 
-    // tant gale au nombre d'oscillateur au carr 
-    return intensity / (nb*nb);
-  }
-
-  /**
-   * Mthode pour faire l'initialisation de l'objet aprs sa construction.
-   * 
-   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
-   */
-  private void initialize() throws SInitializationException
-  {
-    // Vider la liste existante (pouvant tre construite lors d'une constructure, mais qui devra tre change aprs une lecture)
-    wave_list.clear();
-    
-    // Dterminer la couleur associe  la longueur d'onde
-    try{   
-      color = SWaveOptics.wavelengthToSColor(wave_length);
-    }catch(SNotVisibleLightException e){
-      throw new SInitializationException("Erreur SAbstractInterferenceLight 005 : La source de lumire n'est pas dans le visible. On ne peut pas dfinir de couleur." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
-    }
-  }
-  
-  @Override
-  protected void readingInitialization() throws SInitializationException
-  {
-    super.readingInitialization();
-    
-    initialize();
-  }
-  
-  @Override
-  public String[] getReadableParameterName()
-  {
-    String[] other_parameters = super.getReadableParameterName();
-    
-    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
-  }
-  
-  @Override
-  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException 
-  {
-    switch(code)
-    {
-      case SKeyWordDecoder.CODE_WAVE_LENGTH : wave_length = readDoubleGreaterThanZero(remaining_line, SKeyWordDecoder.KW_WAVE_LENGTH); return true;
-     
-      case SKeyWordDecoder.CODE_PERIOD_ITERATION : period_iteration = this.readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_PERIOD_ITERATION); return true;
-      
-      case SKeyWordDecoder.CODE_NB_OSCILLATOR : nb_oscillator = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_NB_OSCILLATOR); return true;
-      
-      // Lecture des paramtres de la classe hrit SAbstractAttenuatedLight  
-      default : return super.read(sbr, code, remaining_line);
-    }
-  }
-    
-}//fin de la classe SAbstractInterferenceLight
+/**
+ * 
+ */
+package sim.graphics.light;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import sim.exception.SConstructorException;
+import sim.math.SVector3d;
+import sim.physics.SNotVisibleLightException;
+import sim.physics.SWave;
+import sim.physics.SWaveOptics;
+import sim.readwrite.SKeyWordDecoder;
+import sim.util.SBufferedReader;
+import sim.util.SInitializationException;
+import sim.util.SReadingException;
+import sim.util.SStringUtil;
+
+/**
+ * La classe abstraite <b>SAbstractInterferenceLight</b> correspond à une source de lumière monochromatique pouvant réaliser de l'interférence.
+ * 
+ * @author Simon Vézina
+ * @since 2016-02-15
+ * @version 2017-02-14
+ */
+public abstract class SAbstractInterferenceLight extends SAbstractAttenuatedLight implements SInterferenceLight {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>KEYWORD_PARAMETER</b> correspond à un tableau contenant l'ensemble des mots clés 
+   * à utiliser reconnus lors de la définition de l'objet par une lecture en fichier.
+   */
+  private static final String[] KEYWORD_PARAMETER = {
+    SKeyWordDecoder.KW_WAVE_LENGTH, SKeyWordDecoder.KW_PERIOD_ITERATION, SKeyWordDecoder.KW_NB_OSCILLATOR,
+    SKeyWordDecoder.KW_INTENSITY_CACHE, SKeyWordDecoder.KW_INTENSITY_CACHE_TOLERANCE
+  };
+  
+  /**
+   * La constante <b>DEFAULT_WAVE_LENGTH</b> correspond à la longueur d'onde (en nm) de la source de lumière monochromatique par défaut.
+   */
+  protected static final double DEFAULT_WAVE_LENGTH = 550;
+  
+  /**
+   * La constante <b>DEFAULT_PERIOD_ITERATION</b> correspond au nombre d'itération qui seront réalisé lors d'un calcul effectué sur une période complète d'oscillation des oscillateurs.
+   */
+  protected static final int DEFAULT_PERIOD_ITERATION = 10;
+  
+  /**
+   * La constante <b>DEFAULT_NB_OSCILLATOR</b> correspond au nombre d'oscillateurs définissant un axe de la fente par défaut.
+   */
+  protected static final int DEFAULT_NB_OSCILLATOR = 2;
+  
+  /**
+   * La constante <b>DEFAULT_INTENSITY_CACHE</b> correspond à la taille des cellules de la cache d'intensité par défaut. 
+   * Une taille nulle signifie qu'il n'y a pas de cache.
+   */
+  protected static final double DEFAULT_INTENSITY_CACHE = 0.0;
+  
+  /**
+   * La constante <b>FRINGE_SAMPLING</b> correspond au nombre minimal de cellules de la cache d'intensité couvrant l'interfrange 
+   * le plus petit possible à une position étant égal à {@value}. Les centres et les coins des cellules (espacés d'une demi-cellule) 
+   * échantillonnent alors chaque frange au moins deux fois et aucune frange ne peut prendre la même valeur à tous ces points.
+   */
+  private static final double FRINGE_SAMPLING = 1.0;
+  
+  //-------------
+  // VARIABLES //
+  //-------------
+  /**
+   * La variable <b>wave_length</b> correspond à la longueur d'onde de la source de lumière.
+   */
+  protected double wave_length;
+  
+  /**
+   * La variable <b>period_iteration</b> correspond au nombre d'itérations qui seront utilisées pour évaluer une période complète 
+   * d'oscillation des oscillateurs composant la source de lumière. Ce paramètre détermine la précision lorsqu'il
+   * y aura lors d'un calcul qui requière une moyenne sur cylce complet d'oscillation. 
+   * L'intensité relative étant évaluée par l'expression exacte de la moyenne temporelle, ce paramètre ne l'affecte pas.
+   */
+  protected int period_iteration;
+  
+  /**
+   * La variable <b>nb_oscillator</b> correspond au nombre d'oscillateurs utiliséa pour définir l'axe vertical (le <i>up</i>) de l'ouverture.
+   */
+  protected int nb_oscillator;
+  
+  /**
+   * La variable <b>wave_list</b> correspond à la liste ondes progressives généré par les multiples oscillateurs internes à la source de lumière.
+   * Ce sont ces oscillateurs qui vont générer des ondes qui pourront interférer au site où la lumière se dirigera.
+   * Les ondes étant immuables, elles peuvent être évaluées simultanément par plusieurs <i>threads</i>.
+   */
+  protected final List<SWave> wave_list;
+  
+  /**
+   * La variable <b>intensity_cache_size</b> correspond à la taille des cellules de la cache d'intensité (aucune cache si elle est nulle).
+   */
+  protected double intensity_cache_size;
+  
+  /**
+   * La variable <b>intensity_cache_tolerance</b> correspond à l'écart d'intensité relative toléré entre le centre et les coins d'une cellule de la cache d'intensité.
+   */
+  protected double intensity_cache_tolerance;
+  
+  /**
+   * La variable <b>intensity_cache</b> correspond à la cache spatiale de l'intensité relative de la source. 
+   * Elle est <b>null</b> s'il n'y a pas de cache.
+   */
+  private SIntensityCache intensity_cache;
+  
+  /**
+   * La variable <b>intensity_function</b> correspond à la fonction d'évaluation exacte de l'intensité relative utilisée par la cache.
+   */
+  private final ToDoubleFunction<SVector3d> intensity_function = this::evaluateRelativeIntensity;
+  
+  /**
+   * La variable <b>source_bound</b> correspond au centre (x, y, z) et au diamètre de la boîte englobant les oscillateurs de la source.
+   * Elle est construite à la première demande d'intensité après l'initialisation (les ondes étant construites par les sous-classes).
+   */
+  private volatile double[] source_bound;
+  
+  //-----------------
+  // CONSTRUCTEURS //
+  //-----------------
+  
+  /**
+   * Constructeur d'une source de lumière pouvant réaliser de l'interférence par défaut. 
+   */
+  public SAbstractInterferenceLight()
+  {
+    this(DEFAULT_WAVE_LENGTH, DEFAULT_POSITION, DEFAULT_AMPLIFICATION, DEFAULT_CONSTANT_ATTENUATOR, DEFAULT_LINEAR_ATTENUATOR, DEFAULT_QUADRATIC_ATTENUATOR, DEFAULT_PERIOD_ITERATION, DEFAULT_NB_OSCILLATOR);
+  }
+
+  /**
+   * Constructeur d'une source de lumière pouvant réaliser de l'interférence.
+   * 
+   * @param wave_length La longueur d'onde de la source de lumière (en nm).
+   * @param position La position de la source.
+   * @param amp Le facteur d'amplification de la source de lumière.
+   * @param cst_att La constante d'atténuation à taux constant.
+   * @param lin_att La constante d'atténuation à taux linéaire.
+   * @param quad_att La constante d'atténuation à taux quadratique.
+   * @param period_iteration Le nombre d'itérations réalisées dans les calculs effectués sur un cycle de période d'oscillation des oscillateurs.
+   * @throws SConstructorException Si une erreur de construction est survenue.
+   */
+  public SAbstractInterferenceLight(double wave_length, SVector3d position, double amp, double cst_att, double lin_att, double quad_att, int period_iteration, int nb_oscillator) throws SConstructorException
+  {
+    super(DEFAULT_LIGHT_COLOR, position, amp, cst_att, lin_att, quad_att);
+    
+    if(wave_length < 0)
+      throw new SConstructorException("Erreur SAbstractInterferenceLight 001 : La longueur d'onde de la source de lumière doit être positive.");
+    
+    if(period_iteration < 1)
+      throw new SConstructorException("Erreur SAbstractInterferenceLight 002 : Le nombre d'itération sur une période étant de '" + period_iteration + "' doit être supérieur à 1.");
+    
+    if(nb_oscillator < 1)
+      throw new SConstructorException("Erreur SAbstractInterferenceLight 003 : Le nombre d'oscillateur pour un axe de l'ouverture '" + nb_oscillator + "' doit être supérieur à 1.");
+    
+    this.wave_length = wave_length;
+    
+    this.period_iteration = period_iteration;
+    
+    this.nb_oscillator = nb_oscillator;
+    
+    wave_list = new ArrayList<SWave>();
+    
+    intensity_cache_size = DEFAULT_INTENSITY_CACHE;
+    intensity_cache_tolerance = SIntensityCache.DEFAULT_TOLERANCE;
+    
+    try{
+      initialize();
+    }catch(SInitializationException e){
+      throw new SConstructorException("Erreur SAbstractInterferenceLight 004 : Une erreur d'initialisation est survenue." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+  }
+ 
+  
+  
+  /**
+   * Méthode pour écrire les paramètres associés à la classe SAbstractInterferenceLight et ceux qu'il hérite.
+   * 
+   * @param bw Le BufferedWriter écrivant l'information dans un fichier txt.
+   * @throws IOException S'il y a une erreur d'écriture.
+   * @see IOException
+   */
+  protected void writeSAbstractInterferenceLightParameter(BufferedWriter bw)throws IOException
+  {
+    //Écrire les paramètres hérités de la classe SAbstractAttenuatedLight
+    writeSAbstractAttenuatedLightParameter(bw);
+    
+    bw.write(SKeyWordDecoder.KW_WAVE_LENGTH);
+    bw.write("\t\t");
+    bw.write(Double.toString(wave_length));
+    bw.write(" nm");
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_PERIOD_ITERATION);
+    bw.write("\t\t");
+    bw.write(Integer.toString(period_iteration));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_NB_OSCILLATOR);
+    bw.write("\t\t");
+    bw.write(Integer.toString(nb_oscillator));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_INTENSITY_CACHE);
+    bw.write("\t\t");
+    bw.write(Double.toString(intensity_cache_size));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+    
+    bw.write(SKeyWordDecoder.KW_INTENSITY_CACHE_TOLERANCE);
+    bw.write("\t\t");
+    bw.write(Double.toString(intensity_cache_tolerance));
+    bw.write(SStringUtil.END_LINE_CARACTER);
+  }
+  
+  @Override
+  public double getRelativeIntensity(SVector3d position_to_illuminate)
+  {
+    if(intensity_cache == null)
+      return evaluateRelativeIntensity(position_to_illuminate);
+    else
+      return intensity_cache.getValue(position_to_illuminate, intensity_function, evaluateMinFringeSpacing(position_to_illuminate) / FRINGE_SAMPLING);
+  }
+  
+  /**
+   * <p>
+   * Méthode pour évaluer l'interfrange le plus petit possible de la figure d'interférence à une position. 
+   * </p>
+   * <p>
+   * Pour deux oscillateurs aux positions p1 et p2, l'intensité varie d'une frange lorsque la différence de marche r1 - r2 varie d'une longueur d'onde.
+   * Le gradient de la différence de marche est la différence des vecteurs unitaires u1 - u2 dont le module est borné 
+   * par 2|p1 - p2| / (r1 + r2) (inégalité de Dunkl-Williams) et par 2. Pour des oscillateurs contenus dans une sphère de diamètre D 
+   * centrée à une distance r de la position, l'interfrange est donc d'au moins lambda / min(2, D / (r - D/2)).
+   * </p>
+   * 
+   * @param position La position.
+   * @return L'interfrange minimal (infini s'il n'y a pas d'interférence).
+   */
+  protected double evaluateMinFringeSpacing(SVector3d position)
+  {
+    double[] bound = source_bound;
+    
+    if(bound == null)
+    {
+      bound = buildSourceBound();
+      source_bound = bound;
+    }
+    
+    double D = bound[3];
+    
+    if(D == 0.0)
+      return Double.POSITIVE_INFINITY;
+    
+    double dx = position.getX() - bound[0];
+    double dy = position.getY() - bound[1];
+    double dz = position.getZ() - bound[2];
+    
+    double r = Math.sqrt(dx*dx + dy*dy + dz*dz) - D/2.0;
+    
+    // Longueur d'onde en mètre
+    double lambda = wave_length*1e-9;
+    
+    if(r*2.0 <= D)
+      return lambda / 2.0;
+    else
+      return lambda * r / D;
+  }
+  
+  /**
+   * Méthode pour construire le centre et le diamètre de la boîte englobant les oscillateurs de la source.
+   * 
+   * @return Le tableau (x, y, z, diamètre).
+   */
+  private double[] buildSourceBound()
+  {
+    if(wave_list.isEmpty())
+      return new double[]{ 0.0, 0.0, 0.0, 0.0 };
+    
+    List<SVector3d> position_list = new ArrayList<SVector3d>();
+    
+    for(SWave wave : wave_list)
+      position_list.add(wave.getOscillator().getPosition());
+    
+    SVector3d min = SVector3d.findMinValue(position_list);
+    SVector3d max = SVector3d.findMaxValue(position_list);
+    
+    SVector3d center = min.add(max).multiply(0.5);
+    
+    return new double[]{ center.getX(), center.getY(), center.getZ(), max.substract(min).modulus() };
+  }
+  
+  /**
+   * Méthode pour obtenir la cache spatiale de l'intensité relative de la source.
+   * 
+   * @return La cache d'intensité ou <b>null</b> s'il n'y a pas de cache.
+   */
+  public SIntensityCache getIntensityCache()
+  {
+    return intensity_cache;
+  }
+  
+  /**
+   * Méthode pour évaluer exactement (sans cache) l'intensité relative de la source de lumière à une position.
+   * 
+   * @param position_to_illuminate La position à illuminer.
+   * @return L'intensité relative.
+   */
+  protected double evaluateRelativeIntensity(SVector3d position_to_illuminate)
+  {
+    // Vérifier que la liste des ondes n'est pas vide
+    if(wave_list.isEmpty())
+      return 0.0;
+    
+    // Évaluer l'intensité moyenne sur un cycle complet des oscillateurs (expression exacte de la moyenne temporelle)
+    double intensity = SWaveOptics.interferenceAverageIntensity(wave_list, position_to_illuminate);
+    
+    // Nombre d'oscillateurs utilisés dans le calcul
+    double nb = (double)wave_list.size();
+    
+    // On retourne l'intensité relative au maximum de l'interférence constructive 
+    // étant égale au nombre d'oscillateur au carré 
+    return intensity / (nb*nb);
+  }
+
+  /**
+   * Méthode pour faire l'initialisation de l'objet après sa construction.
+   * 
+   * @throws SInitializationException Si une erreur est survenue lors de l'initialisation.
+   */
+  private void initialize() throws SInitializationException
+  {
+    // Vider la liste existante (pouvant être construite lors d'une constructure, mais qui devra être changée après une lecture)
+    wave_list.clear();
+    
+    // Déterminer la couleur associée à la longueur d'onde
+    try{   
+      color = SWaveOptics.wavelengthToSColor(wave_length);
+    }catch(SNotVisibleLightException e){
+      throw new SInitializationException("Erreur SAbstractInterferenceLight 005 : La source de lumière n'est pas dans le visible. On ne peut pas définir de couleur." + SStringUtil.END_LINE_CARACTER + "\t" + e.getMessage(), e);
+    }
+    
+    // Construire une nouvelle cache d'intensité (les ondes seront reconstruites)
+    source_bound = null;
+    
+    if(intensity_cache_size > 0.0)
+      intensity_cache = new SIntensityCache(intensity_cache_size, intensity_cache_tolerance);
+    else
+      intensity_cache = null;
+  }
+  
+  @Override
+  protected void readingInitialization() throws SInitializationException
+  {
+    super.readingInitialization();
+    
+    initialize();
+  }
+  
+  @Override
+  public String[] getReadableParameterName()
+  {
+    String[] other_parameters = super.getReadableParameterName();
+    
+    return SStringUtil.merge(other_parameters, KEYWORD_PARAMETER);
+  }
+  
+  @Override
+  protected boolean read(SBufferedReader sbr, int code, String remaining_line) throws SReadingException 
+  {
+    switch(code)
+    {
+      case SKeyWordDecoder.CODE_WAVE_LENGTH : wave_length = readDoubleGreaterThanZero(remaining_line, SKeyWordDecoder.KW_WAVE_LENGTH); return true;
+     
+      case SKeyWordDecoder.CODE_PERIOD_ITERATION : period_iteration = this.readIntGreaterThanZero(remaining_line, SKeyWordDecoder.KW_PERIOD_ITERATION); return true;
+      
+      case SKeyWordDecoder.CODE_NB_OSCILLATOR : nb_oscillator = readIntEqualOrGreaterThanZero(remaining_line, SKeyWordDecoder.KW_NB_OSCILLATOR); return true;
+      
+      case SKeyWordDecoder.CODE_INTENSITY_CACHE : intensity_cache_size = readDoubleEqualOrGreaterThanValue(remaining_line, 0.0, SKeyWordDecoder.KW_INTENSITY_CACHE); return true;
+      
+      case SKeyWordDecoder.CODE_INTENSITY_CACHE_TOLERANCE : intensity_cache_tolerance = readDoubleEqualOrGreaterThanValue(remaining_line, 0.0, SKeyWordDecoder.KW_INTENSITY_CACHE_TOLERANCE); return true;
+      
+      // Lecture des paramètres de la classe hérité SAbstractAttenuatedLight  
+      default : return super.read(sbr, code, remaining_line);
+    }
+  }
+    
+}//fin de la classe SAbstractInterferenceLight
@@ -0,0 +1,436 @@
+/**
+ *
+ */
+package sim.graphics.light;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import sim.exception.SConstructorException;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SIntensityCache</b> représente une mémoire cache spatiale adaptative de l'intensité relative d'une source de lumière
+ * avec interférence. L'espace est découpé en grilles de cellules cubiques de plus en plus fines (niveau 0, 1, 2, ...) où chaque niveau
+ * divise par deux la taille des cellules du niveau précédent. La valeur d'une cellule est l'intensité évaluée à son centre.
+ * </p>
+ * <p>
+ * Pour une position donnée, les cellules la contenant sont parcourues du niveau le plus grossier au niveau le plus fin.
+ * La valeur d'une cellule est retournée lorsque l'intensité évaluée à ses huit coins diffère de la valeur au centre d'au plus la tolérance
+ * (la fonction y est lisse). Les valeurs aux coins sont conservées et partagées entre les cellules voisines et entre les niveaux
+ * (le centre d'une cellule étant un coin des cellules du niveau suivant).
+ * Dans les régions de fort gradient, la recherche se poursuit dans les niveaux plus fins et
+ * l'intensité est évaluée exactement si le niveau le plus fin n'est pas suffisant.
+ * </p>
+ * <p>
+ * Puisque les coins et les centres des cellules sont répartis sur une grille régulière, une variation périodique dont la période divise
+ * la demi-taille d'une cellule y prend partout la même valeur et ne peut pas être détectée. Une taille maximale de cellule
+ * (par exemple une fraction de l'interfrange d'une figure d'interférence) peut donc être imposée à chaque demande.
+ * </p>
+ * <p>
+ * La cache peut être utilisée simultanément par plusieurs <i>threads</i>.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-06
+ * @version 2017-02-14
+ */
+public class SIntensityCache {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>DEFAULT_TOLERANCE</b> correspond à l'écart d'intensité relative toléré entre le centre et les coins d'une cellule
+   * par défaut étant égal à {@value}.
+   */
+  public static final double DEFAULT_TOLERANCE = 0.005;
+
+  /**
+   * La constante <b>MAX_LEVEL</b> correspond au niveau de raffinement le plus fin de la cache étant égal à {@value}.
+   */
+  public static final int MAX_LEVEL = 8;
+
+  /**
+   * La constante <b>DEFAULT_MAX_SIZE</b> correspond au nombre maximal de valeurs (cellules et coins) conservées dans la cache par défaut
+   * étant égal à {@value}. Lorsque la cache est pleine, les positions absentes de la cache sont évaluées exactement sans parcourir les niveaux.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1 << 19;
+
+  /**
+   * La constante <b>INDEX_BITS</b> correspond au nombre de bits utilisés pour l'index d'une cellule selon un axe dans la clé de recherche.
+   */
+  private static final int INDEX_BITS = 20;
+
+  /**
+   * La constante <b>INDEX_LIMIT</b> correspond à la valeur absolue limite de l'index d'une cellule selon un axe.
+   */
+  private static final long INDEX_LIMIT = 1L << (INDEX_BITS - 1);
+
+  /**
+   * La constante <b>INDEX_MASK</b> correspond au masque d'un index d'une cellule dans la clé de recherche.
+   */
+  private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>cell_size</b> correspond à la taille des cellules du niveau 0.
+   */
+  private final double cell_size;
+
+  /**
+   * La variable <b>tolerance</b> correspond à l'écart d'intensité toléré entre le centre et les coins d'une cellule.
+   */
+  private final double tolerance;
+
+  /**
+   * La variable <b>max_size</b> correspond au nombre maximal de valeurs (cellules et coins) conservées dans la cache.
+   */
+  private final int max_size;
+
+  /**
+   * La variable <b>cell_map</b> correspond à la carte des valeurs des cellules. La clé de recherche regroupe le niveau et les index de la cellule.
+   * Une cellule où l'intensité varie trop a la valeur <b>NaN</b>.
+   */
+  private final Map<Long, Double> cell_map;
+
+  /**
+   * La variable <b>corner_map</b> correspond à la carte des valeurs aux coins des cellules. La clé de recherche regroupe
+   * le niveau le plus grossier où le coin existe et les index du coin à ce niveau.
+   */
+  private final Map<Long, Double> corner_map;
+
+  /**
+   * La variable <b>query_count</b> correspond au nombre de demandes d'intensité.
+   */
+  private final LongAdder query_count;
+
+  /**
+   * La variable <b>hit_count</b> correspond au nombre de demandes d'intensité répondues sans aucune évaluation.
+   */
+  private final LongAdder hit_count;
+
+  /**
+   * La variable <b>evaluation_count</b> correspond au nombre d'évaluations de l'intensité effectuées.
+   */
+  private final LongAdder evaluation_count;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une cache d'intensité.
+   *
+   * @param cell_size La taille des cellules du niveau 0.
+   * @param tolerance L'écart d'intensité relative toléré entre le centre et les coins d'une cellule.
+   * @throws SConstructorException Si la taille des cellules n'est pas positive ou si la tolérance est négative.
+   */
+  public SIntensityCache(double cell_size, double tolerance) throws SConstructorException
+  {
+    this(cell_size, tolerance, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructeur d'une cache d'intensité de taille limitée.
+   *
+   * @param cell_size La taille des cellules du niveau 0.
+   * @param tolerance L'écart d'intensité relative toléré entre le centre et les coins d'une cellule.
+   * @param max_size Le nombre maximal de valeurs (cellules et coins) conservées dans la cache.
+   * @throws SConstructorException Si la taille des cellules n'est pas positive, si la tolérance est négative ou si le nombre maximal de valeurs n'est pas positif.
+   */
+  public SIntensityCache(double cell_size, double tolerance, int max_size) throws SConstructorException
+  {
+    if(cell_size <= 0)
+      throw new SConstructorException("Erreur SIntensityCache 001 : La taille des cellules '" + cell_size + "' doit être positive.");
+
+    if(tolerance < 0)
+      throw new SConstructorException("Erreur SIntensityCache 002 : La tolérance '" + tolerance + "' ne peut pas être négative.");
+
+    if(max_size < 1)
+      throw new SConstructorException("Erreur SIntensityCache 003 : Le nombre maximal de valeurs '" + max_size + "' doit être positif.");
+
+    this.cell_size = cell_size;
+    this.tolerance = tolerance;
+    this.max_size = max_size;
+
+    cell_map = new ConcurrentHashMap<Long, Double>();
+    corner_map = new ConcurrentHashMap<Long, Double>();
+
+    query_count = new LongAdder();
+    hit_count = new LongAdder();
+    evaluation_count = new LongAdder();
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir l'intensité relative à une position à partir de la cache. Les valeurs absentes de la cache sont évaluées
+   * par la fonction d'évaluation et ajoutées à la cache.
+   *
+   * @param position La position.
+   * @param function La fonction d'évaluation exacte de l'intensité relative.
+   * @return L'intensité relative.
+   */
+  public double getValue(SVector3d position, ToDoubleFunction<SVector3d> function)
+  {
+    return getValue(position, function, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Méthode pour obtenir l'intensité relative à une position à partir de la cache en limitant la taille des cellules utilisées.
+   * Les valeurs absentes de la cache sont évaluées par la fonction d'évaluation et ajoutées à la cache.
+   *
+   * @param position La position.
+   * @param function La fonction d'évaluation exacte de l'intensité relative.
+   * @param max_cell_size La taille maximale des cellules pouvant être utilisées à cette position.
+   * @return L'intensité relative.
+   */
+  public double getValue(SVector3d position, ToDoubleFunction<SVector3d> function, double max_cell_size)
+  {
+    query_count.increment();
+
+    boolean hit = true;
+
+    // Premier niveau dont les cellules ne dépassent pas la taille maximale
+    int level = 0;
+    double size = cell_size;
+
+    while(level <= MAX_LEVEL && size > max_cell_size)
+    {
+      level++;
+      size *= 0.5;
+    }
+
+    for(; level <= MAX_LEVEL; level++, size *= 0.5)
+    {
+      long ix = (long)Math.floor(position.getX() / size);
+      long iy = (long)Math.floor(position.getY() / size);
+      long iz = (long)Math.floor(position.getZ() / size);
+
+      // La position est trop éloignée de l'origine pour que la cellule et ses coins (jusqu'au niveau suivant) soient représentés dans la cache
+      if(!isInsideIndexLimit(2*ix) || !isInsideIndexLimit(2*iy) || !isInsideIndexLimit(2*iz)
+          || !isInsideIndexLimit(2*ix + 2) || !isInsideIndexLimit(2*iy + 2) || !isInsideIndexLimit(2*iz + 2))
+        break;
+
+      Long key = buildKey(level, ix, iy, iz);
+
+      Double value = cell_map.get(key);
+
+      if(value == null)
+      {
+        // La cache pleine ne conserve plus de valeur : une évaluation exacte coûte moins que le parcours des niveaux suivants
+        if(isFull())
+          break;
+
+        hit = false;
+
+        value = evaluateCell(level, size, ix, iy, iz, function);
+
+        if(!isFull())
+          cell_map.putIfAbsent(key, value);
+      }
+
+      // La cellule est acceptée si l'intensité varie peu entre son centre et ses coins
+      if(!Double.isNaN(value))
+      {
+        if(hit)
+          hit_count.increment();
+
+        return value;
+      }
+    }
+
+    // Région de fort gradient ou cache pleine : évaluation exacte
+    evaluation_count.increment();
+
+    return function.applyAsDouble(position);
+  }
+
+  /**
+   * Méthode pour vider la cache et remettre à zéro ses statistiques.
+   */
+  public void clear()
+  {
+    cell_map.clear();
+    corner_map.clear();
+
+    query_count.reset();
+    hit_count.reset();
+    evaluation_count.reset();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de cellules conservées dans la cache.
+   *
+   * @return Le nombre de cellules.
+   */
+  public int size()
+  {
+    return cell_map.size();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de demandes d'intensité.
+   *
+   * @return Le nombre de demandes.
+   */
+  public long getQueryCount()
+  {
+    return query_count.sum();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre de demandes d'intensité répondues sans aucune évaluation.
+   *
+   * @return Le nombre de succès de la cache.
+   */
+  public long getHitCount()
+  {
+    return hit_count.sum();
+  }
+
+  /**
+   * Méthode pour obtenir le nombre d'évaluations de l'intensité effectuées.
+   *
+   * @return Le nombre d'évaluations.
+   */
+  public long getEvaluationCount()
+  {
+    return evaluation_count.sum();
+  }
+
+  /**
+   * Méthode pour obtenir le taux de succès de la cache, soit la proportion des demandes répondues sans aucune évaluation.
+   *
+   * @return Le taux de succès (entre 0 et 1).
+   */
+  public double getHitRate()
+  {
+    long query = getQueryCount();
+
+    if(query == 0)
+      return 0.0;
+    else
+      return (double)getHitCount() / (double)query;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "SIntensityCache [cell_size=" + cell_size + ", tolerance=" + tolerance + ", size=" + size() + ", query=" + getQueryCount()
+        + ", hit=" + getHitCount() + ", evaluation=" + getEvaluationCount() + ", hit_rate=" + getHitRate() + "]";
+  }
+
+  /**
+   * Méthode pour évaluer la valeur d'une cellule. L'intensité au centre de la cellule est comparée à l'intensité à ses coins.
+   * Le centre est conservé comme un coin du niveau suivant afin d'être réutilisé lors du raffinement de la cellule.
+   *
+   * @param level Le niveau de la cellule.
+   * @param size La taille des cellules du niveau.
+   * @param ix L'index de la cellule selon l'axe x.
+   * @param iy L'index de la cellule selon l'axe y.
+   * @param iz L'index de la cellule selon l'axe z.
+   * @param function La fonction d'évaluation exacte de l'intensité relative.
+   * @return L'intensité au centre de la cellule ou <b>NaN</b> si l'intensité à un coin s'en écarte de plus de la tolérance.
+   */
+  private double evaluateCell(int level, double size, long ix, long iy, long iz, ToDoubleFunction<SVector3d> function)
+  {
+    double value = getCornerValue(level + 1, size*0.5, 2*ix + 1, 2*iy + 1, 2*iz + 1, function);
+
+    for(int corner = 0; corner < 8; corner++)
+    {
+      double corner_value = getCornerValue(level, size, ix + (corner & 1), iy + ((corner >> 1) & 1), iz + ((corner >> 2) & 1), function);
+
+      if(Math.abs(corner_value - value) > tolerance)
+        return Double.NaN;
+    }
+
+    return value;
+  }
+
+  /**
+   * Méthode pour obtenir l'intensité à un coin de cellule à partir de la cache. Un coin partagé par un niveau plus grossier
+   * est identifié par le niveau le plus grossier où il existe afin que sa valeur ne soit évaluée qu'une seule fois.
+   *
+   * @param level Le niveau du coin.
+   * @param size La taille des cellules du niveau.
+   * @param cx L'index du coin selon l'axe x.
+   * @param cy L'index du coin selon l'axe y.
+   * @param cz L'index du coin selon l'axe z.
+   * @param function La fonction d'évaluation exacte de l'intensité relative.
+   * @return L'intensité au coin.
+   */
+  private double getCornerValue(int level, double size, long cx, long cy, long cz, ToDoubleFunction<SVector3d> function)
+  {
+    while(level > 0 && ((cx | cy | cz) & 1) == 0)
+    {
+      level--;
+      size *= 2.0;
+      cx >>= 1;
+      cy >>= 1;
+      cz >>= 1;
+    }
+
+    Long key = buildKey(level, cx, cy, cz);
+
+    Double value = corner_map.get(key);
+
+    if(value == null)
+    {
+      evaluation_count.increment();
+
+      value = function.applyAsDouble(new SVector3d(cx*size, cy*size, cz*size));
+
+      if(!isFull())
+        corner_map.putIfAbsent(key, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Méthode pour déterminer si la cache a atteint le nombre maximal de valeurs conservées.
+   *
+   * @return <b>true</b> si la cache est pleine et <b>false</b> sinon.
+   */
+  private boolean isFull()
+  {
+    return cell_map.size() + corner_map.size() >= max_size;
+  }
+
+  /**
+   * Méthode pour déterminer si un index de cellule peut être représenté dans une clé de recherche.
+   *
+   * @param index L'index.
+   * @return <b>true</b> si l'index peut être représenté et <b>false</b> sinon.
+   */
+  private static boolean isInsideIndexLimit(long index)
+  {
+    return index >= -INDEX_LIMIT && index < INDEX_LIMIT;
+  }
+
+  /**
+   * Méthode pour construire la clé de recherche d'une cellule.
+   *
+   * @param level Le niveau de la cellule.
+   * @param ix L'index de la cellule selon l'axe x.
+   * @param iy L'index de la cellule selon l'axe y.
+   * @param iz L'index de la cellule selon l'axe z.
+   * @return La clé de recherche.
+   */
+  private static long buildKey(int level, long ix, long iy, long iz)
+  {
+    return ((long)level << (3*INDEX_BITS)) | ((ix & INDEX_MASK) << (2*INDEX_BITS)) | ((iy & INDEX_MASK) << INDEX_BITS) | (iz & INDEX_MASK);
+  }
+
+}//fin de la classe SIntensityCache
@@ -1,37 +1,37 @@
-/**
- * 
- */
-package sim.graphics.light;
-
-import sim.math.SVector3d;
-
-/**
- * L'interface <b>SInterferenceLight</b> reprsente une source de lumire dont l'intensit de la source
- * dpend de l'interfrence interne de la source.
- *  
- * @author Simon Vzina
- * @since 2016-02-15
- * @version 2016-02-28
- */
-public interface SInterferenceLight extends SAttenuatedLight {
-
-  /**
-   * <p>
-   * Mthode permettant d'valuer l'intensit relative d'une source de lumire monochromatique en incluant un facteur d'interfrence
-   * entre les diffrents oscillateurs composant la source de lumire. 
-   * </p>
-   * 
-   * <p>
-   * Les interprtations des intensits sont les suivantes :
-   * <ul> I = 1     : Intensit avec <b>interfrence constructive</b>.</ul>
-   * <ul> I = 0.5   : Intensit <b>sans interfrence</b> (intensit totale des oscillateurs sans interfrence).</ul>
-   * <ul> I = 0     : Intensit avec <b>interfrence destructive</b>.</ul>
-   * <ul> I = autre : Intensit avec <b>interfrence partielle</b>.</ul>
-   *  </p>
-   *  
-   * @param position_to_illuminate La position o l'intensit sera value.
-   * @return L'intensit relative de la source de lumire monochromatique.
-   */
-  public double getRelativeIntensity(SVector3d position_to_illuminate);
-  
-}//fin de l'interface SInterferenceLight
+/**
+ * 
+ */
+package sim.graphics.light;
+
+import sim.math.SVector3d;
+
+/**
+ * L'interface <b>SInterferenceLight</b> représente une source de lumière dont l'intensité de la source
+ * dépend de l'interférence interne de la source.
+ *  
+ * @author Simon Vézina
+ * @since 2016-02-15
+ * @version 2016-02-28
+ */
+public interface SInterferenceLight extends SAttenuatedLight {
+
+  /**
+   * <p>
+   * Méthode permettant d'évaluer l'intensité relative d'une source de lumière monochromatique en incluant un facteur d'interférence
+   * entre les différents oscillateurs composant la source de lumière. 
+   * </p>
+   * 
+   * <p>
+   * Les interprétations des intensités sont les suivantes :
+   * <ul> I = 1     : Intensité avec <b>interférence constructive</b>.</ul>
+   * <ul> I = 0.5   : Intensité <b>sans interférence</b> (intensité totale des oscillateurs sans interférence).</ul>
+   * <ul> I = 0     : Intensité avec <b>interférence destructive</b>.</ul>
+   * <ul> I = autre : Intensité avec <b>interférence partielle</b>.</ul>
+   *  </p>
+   *  
+   * @param position_to_illuminate La position où l'intensité sera évaluée.
+   * @return L'intensité relative de la source de lumière monochromatique.
+   */
+  public double getRelativeIntensity(SVector3d position_to_illuminate);
+  
+}//fin de l'interface SInterferenceLight
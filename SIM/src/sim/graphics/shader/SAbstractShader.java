@@ -1,406 +1,588 @@
-/**
- * 
- */
-package sim.graphics.shader;
-
-import java.util.List;
-
-import sim.exception.SConstructorException;
-import sim.exception.SNoImplementationException;
-import sim.exception.SRuntimeException;
-import sim.geometry.SGeometry;
-import sim.geometry.SRay;
-import sim.geometry.space.SGeometrySpace;
-import sim.graphics.SColor;
-import sim.graphics.light.SAbstractLight;
-import sim.graphics.light.SAmbientLight;
-import sim.graphics.light.SDirectionalLight;
-import sim.graphics.light.SInterferenceLight;
-import sim.graphics.light.SLight;
-import sim.graphics.light.SPointLight;
-import sim.graphics.light.SShadowRay;
-import sim.graphics.material.SMaterial;
-import sim.math.SVector3d;
-import sim.util.SLog;
-import sim.util.SStringUtil;
-
-/**
- * La classe abstraite <b>SAbstractShader</b> reprsente un <i>shader</i> avec plusieurs fonctionnalits de base.
- * 
- * @author Simon Vzina
- * @since 2015-02-01
- * @version 2017-08-22
- */
-public abstract class SAbstractShader implements SShader {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-	//type de mode de rflexion spculaire disponible
-  final public static String[] REFLEXION_ALGORITHM = { "no_light", "ambient", "diffuse", "phong_specular", "blinn_specular", "no_specular", "phong", "blinn" };
-  final public static int NO_LIGHT = 0;
-  final public static int AMBIENT = 1;
-  final public static int DIFFUSE = 2;
-  final public static int PHONG_SPECULAR = 3;
-  final public static int BLINN_SPECULAR = 4;
-  final public static int NO_SPECULAR_REFLEXION = 5;
-	final public static int PHONG_REFLEXION = 6;
-	final public static int BLINN_REFLEXION = 7;
-	
-	/**
-	 * La constance <b>MAX_REFLEXION_CODE</b> correspond au nombre de codes diffrents maximals reconnus par le shader tant gal  {@value}.
-	 */
-	final private static int MAX_REFLEXION_CODE = 7;
-	
-	//-------------
-	// VARIABLES //
-	//-------------
-	
-	/**
-	 * La variable <b>geometry_space</b> reprsente l'espace des gomtries.
-	 */
-	final protected SGeometrySpace geometry_space;	   
-	
-	/**
-	 * La variable <b>t_max</b> reprsente le temps maximal qu'un rayon peut se dplacer selon ce shader.
-	 */
-	final protected double t_max;                      
-	
-	/**
-	 * La variable <b>light_list</b> reprsente une liste des sources de lumire qui seront utilises dans le calcul de l'illumination.
-	 */
-	final protected List<SLight> light_list;				   
-	
-	/**
-	 * La variable <b>reflexion_algo</b> reprsente le code correspond au type d'algorithme utilis pour valuer l'illumination.
-	 */
-	final protected int reflexion_algo;       
-	
-	
-	private static int MULTIPLE_INSIDE_GEOMETRY_ERROR = 0;      //code d'erreur lorsqu'il y a plusieurs gomtries imbriques ensemble
-	
-	//-----------------
-	// CONSTRUCTEURS //
-	//-----------------
-	
-	/**
-	 * Constructeur d'une shader abstrait avec le modle de rflexion de <b><i>Blinn</i></b>.
-	 * 
-	 * @param geometry_space - L'espace des gomtries.
-	 * @param t_max - Temps de dplacement maximal d'un rayon.
-	 * @param light_list - La liste des sources de lumires.
-	 */
-	public SAbstractShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list) 
-	{
-		this(geometry_space, t_max, light_list, BLINN_REFLEXION);
-	}
-
-	/**
-	 * Constructeur d'une shader abstrait.
-	 * 
-	 * @param geometry_space - L'espace des gomtries.
-	 * @param t_max - Temps de dplacement maximal d'un rayon.
-	 * @param light_list - La liste des sources de lumires.
-	 * @param reflexion_algo - Le type d'algorithme pour raliser le calcul de l'illumination.
-	 * @throws SConstructorException Si la valeur de t_max est infrieur  une valeur de seuil.
-	 * @throws SConstructorException Si le type d'algorithme de rflexion spculaire n'est pas reconnu.
-	 * @see NO_SPECULAR_REFLEXION
-	 * @see PHONG_SPECULAR_REFLEXION
-	 * @see BLINN_SPECULAR_REFLEXION
-	 */
-	public SAbstractShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo) throws SConstructorException 
-	{
-		if(t_max < SRay.getEpsilon())
-		  throw new SConstructorException("Erreur SAbstractShader 001 : Le temps maximal '" + t_max + "' doit tre suprieur  '" + SRay.getEpsilon() +"'.");
-		
-		if(reflexion_algo < 0 || reflexion_algo > MAX_REFLEXION_CODE)
-		  throw new SConstructorException("Erreur SAbstractShader 002 : Le code de l'algorithme de rflexion '" + reflexion_algo + "' n'est par reconnu. Il ne peut pas dpasser " + MAX_REFLEXION_CODE + ".");
-		
-		this.geometry_space = geometry_space;
-		this.t_max = t_max;
-		this.light_list = light_list;
-		this.reflexion_algo = reflexion_algo;
-	}
-	
-	/**
-	 * Mthode qui fait l'analyse du type de source de lumire et redirige vers l'appel de la 
-	 * mthode approprie pour faire le calcul de shading particulier de chaque source de lumire.
-	 * @param ray - Le rayon en intersection.
-	 * @param light - La source de lumire.
-	 * @param material - Le matriel qui interagit avec la source de lumire.
-	 * @return la couleur rsultat du calcul du shading.
-	 * @throws SNoImplementationException Si le type de source n'a pas t implment dans le calcul de shading. 
-	 */
-	protected SColor shadeWithLight(SRay ray, SLight light, SMaterial material) throws SNoImplementationException
-	{
-		// valuer l'illumination du rayon en fonction du type de source en jeu
-	  switch(light.getCodeName())
-		{
-		  case SAbstractLight.AMBIENT_LIGHT_CODE :  return shadeWithAmbientLight(ray, (SAmbientLight)light, material);
-		  
-		  case SAbstractLight.DIRECTIONAL_LIGHT_CODE : return shadeWithDirectionalLight(ray, (SDirectionalLight)light, material);
-		  
-		  case SAbstractLight.POINT_LIGHT_CODE : return shadeWithPointLight(ray, (SPointLight)light, material);
-		  
-		  case  SAbstractLight.LINEAR_APERTURE_LIGHT_CODE : 
-		  case  SAbstractLight.RECTANGULAR_APERTURE_LIGHT_CODE :  
-		  case  SAbstractLight.ELLIPTICAL_APERTURE_LIGHT_CODE :   
-		  case  SAbstractLight.APERTURE_MASK_LIGHT_CODE :         return shadeWithInterferenceLight(ray, (SInterferenceLight)light, material);
-		  
-		  default : throw new SNoImplementationException("Erreur SAbstractShader 003 : La source de lumire est de type indtermin.");
-		}
-	}
-	
-	/**
-	 * Mthode qui effectue le calcul de shading pour une source de lumire ambiante.
-	 * @param ray - Le rayon en intersection.
-	 * @param light - La source de lumire ambiante.
-	 * @param material - Le matriel qui interagit avec la source de lumire.
-	 * @return la couleur rsultant d'un shading avec une source de lumire ambiante.
-	 */
-	protected SColor shadeWithAmbientLight(SRay ray, SAmbientLight light, SMaterial material)
-	{
-		if(ray.asUV())
-		  return shadeWithAmbientReflexion(light.getColor(), material.ambientColor(ray.getUV()));   //avec coordonne uv
-		else
-		  return shadeWithAmbientReflexion(light.getColor(), material.ambientColor());              //sans coordonne uv
-	}
-	
-	/**
-	 * Mthode qui effectue le calcul de shading pour une source de lumire directionnelle.
-	 * @param ray - Le rayon en intersection.
-	 * @param light - La source de lumire directionnelle.
-	 * @param material - Le matriel qui interagit avec la source de lumire.
-	 * @return la couleur rsultant d'un shading avec une source de lumire directionnelle.
-	 */
-	protected SColor shadeWithDirectionalLight(SRay ray, SDirectionalLight light, SMaterial material)
-	{
-		// valuer le rayon d'ombrage (shadow ray)
-	  SShadowRay shadow_ray = new SShadowRay(ray, light, geometry_space);
-		
-		// Si la surface intersecte est dans l'ombrage, il n'y aura pas de contribution de cette source de lumire
-		if(shadow_ray.isInShadow())
-			return SIllumination.NO_ILLUMINATION;
-		
-		// Obtenir la couleur associe  un clairage avec orientation
-		return shadeWithOrientedLight(shadow_ray.filtredLight(), ray, material, light.getOrientation());
-	}
-	
-	/**
-	 * Mthode qui effectue le calcul de shading pour une source de lumire ponctuelle.
-	 * @param ray - Le rayon en intersection.
-	 * @param light - La source de lumire ponctuelle.
-	 * @param material - Le matriel qui interagit avec la source de lumire.
-	 * @return la couleur rsultant d'un shading avec une source de lumire ponctuelle.
-	 */
-	protected SColor shadeWithPointLight(SRay ray, SPointLight light, SMaterial material)
-	{
-	  // valuer le rayon d'ombrage (shadow ray)
-	  SShadowRay shadow_ray = new SShadowRay(ray, light, geometry_space);
-		
-	  // Si la surface intersecte est dans l'ombrage, il n'y aura pas de contribution de cette source de lumire
-		if(shadow_ray.isInShadow())
-			return SIllumination.NO_ILLUMINATION;
-		
-		// valuer l'orientation de la source de lumire
-		SVector3d light_orientation = light.getOrientation(ray.getIntersectionPosition());
-			
-		// Obtenir la couleur associe  un clairage avec orientation
-		SColor color = shadeWithOrientedLight(shadow_ray.filtredLight(), ray, material, light_orientation);
-			
-		//Ajouter le facteur d'attenuation et d'amplification  la source de lumire retourne
-		double factor = light.amplification() * light.attenuation(ray.getIntersectionPosition());
-		
-		// Couleur avec amplification et attnuation
-		return color.multiply(factor);
-	}
-	
-	/**
-	 * ...
-	 * 
-	 * @param filtred_light_color
-	 * @param ray
-	 * @param material
-	 * @param light_orientation
-	 * @return
-	 */
-	private SColor shadeWithOrientedLight(SColor filtred_light_color, SRay ray, SMaterial material, SVector3d light_orientation)
-  {
-    // Ajouter la luminosit selon le type de rayon (avec ou sans coordonne UV)
-    if(ray.asUV())
-    {
-      // Contribution de la rflexion diffuse
-      SColor color = shadeWithDiffuseReflexion(filtred_light_color, material.diffuseColor(ray.getUV()), ray.getShadingNormal(), light_orientation);
-      
-      // Constribution de la rflexion spculaire
-      color = color.add(shadeWithSpecularReflexion(filtred_light_color, material.specularColor(ray.getUV()), ray.getShadingNormal(), ray.getDirection(), light_orientation, material.getShininess()));
-    
-      return color;
-    }
-    else
-    {
-      // Contribution de la rflexion diffuse
-      SColor color = shadeWithDiffuseReflexion(filtred_light_color, material.diffuseColor(), ray.getShadingNormal(), light_orientation);
-      
-      // Constribution de la rflexion spculaire
-      color = color.add(shadeWithSpecularReflexion(filtred_light_color, material.specularColor(), ray.getShadingNormal(), ray.getDirection(), light_orientation, material.getShininess()));
-    
-      return color;
-    }
-  }
-	
-	/**
-	 * ...
-	 * 
-	 * @param ray
-	 * @param light
-	 * @param material
-	 * @return
-	 */
-	protected SColor shadeWithInterferenceLight(SRay ray, SInterferenceLight light, SMaterial material)
-	{
-	  // Calcul du rayon d'ombre.
-	  SShadowRay shadow_ray = new SShadowRay(ray, light, geometry_space);
-    
-    //Si la surface intersecte est dans l'ombrage.
-    if(shadow_ray.isInShadow())
-      return SIllumination.NO_ILLUMINATION;
-    
-    // Obtenir l'intensit relative de l'interfrence.
-    double intensity = light.getRelativeIntensity(ray.getIntersectionPosition());
-    
-    // Ajouter le facteur d'attenuation et d'amplification  la source de lumire retourne
-    //  la valeur de l'intensit value aprs calcul d'interfrence.
-    double factor = light.amplification() * light.attenuation(ray.getIntersectionPosition()) * intensity;
-   
-    // Retourner la couleur adquatement pondr
-    return light.getColor().multiply(factor);
-	}
-	
-  @Override
-  public double evaluateRefractiveIndex(SVector3d position)
-  {
-    //Pour dterminer l'indice de rfraction d'un milieu ambiant, 
-    //il faut vrifier dans quelle gomtrie le rayon est situ.
-    //- Si le rayon est situ  la frontire d'une gomtrie (sur la surface), il sera considr comme  l'extrieur et l'indice n = 1.0 sera affect.
-    //- Si le rayon est situ dans une gomtrie, il faudra obtenir son indice de rfraction s'il possde une primitive comme parent, sinon n = 1.0 sera affect.
-    //- Si le rayon est situ dans plusieurs gomtrie, NOUS AVONS PRSENTEMENT UN PROBLME !!! qui devra tre rsolu dans le futur.
-    
-    List<SGeometry> list_inside = geometry_space.listInsideGeometry(position);
-    
-    // Cas #1 : La position est  l'intrieur d'aucune gomtrie
-    if(list_inside.isEmpty())
-      return 1.0;               
-    
-    // Cas #2 : La position est uniquement situ dans une gomtrie
-    if(list_inside.size() == 1)
-      return list_inside.get(0).getPrimitiveParent().getMaterial().refractiveIndex();
-    
-    // Cas #3 : Le cas sans solution idale, car il y a des gomtries imbriques sans clarification de la situation
-    
-    //-----------------------------------------
-    //C'est ici que nous avons un problme!!!
-    //-----------------------------------------
-    MULTIPLE_INSIDE_GEOMETRY_ERROR++;
-        
-    //Pour le moment, nous allons faire la moyenne de tout les indices de rfraction pour dfinir l'indice du milieu
-    double total_refractive_index = 0.0;
-                
-    for(SGeometry g : list_inside)
-      total_refractive_index += g.getPrimitiveParent().getMaterial().refractiveIndex();   //pour faire la moyenne des indices de rfraction
-         
-    //Message de la situation de plusieurs gomtrie transparente imbrique
-    if(MULTIPLE_INSIDE_GEOMETRY_ERROR == 1)
-      SLog.logWriteLine(SStringUtil.END_LINE_CARACTER + "Message SAbstractShader : Il y a une situation o " + list_inside.size() + " gomtries sont imbriques et l'identification de l'indice de rfraction sera une moyenne des indices des matriaux.");
-                  
-    return total_refractive_index / list_inside.size();    
-  }
-  
-  /**
-   * ...
-   * 
-   * @param ambient_light_color
-   * @param material_color
-   * @return
-   * @throws SRuntimeException
-   */
-  private SColor shadeWithAmbientReflexion(SColor ambient_light_color, SColor material_color) throws SRuntimeException
-  {
-    switch(reflexion_algo)
-    {
-      case NO_LIGHT : 
-      case DIFFUSE :
-      case PHONG_SPECULAR : 
-      case BLINN_SPECULAR :   return SIllumination.NO_ILLUMINATION;
-      
-      case AMBIENT :
-      case NO_SPECULAR_REFLEXION :
-      case PHONG_REFLEXION :
-      case BLINN_REFLEXION :  return SIllumination.ambientReflexion(ambient_light_color, material_color);
-      
-      default : throw new SRuntimeException("Erreur SAbstractShader 004 : Le code " + reflexion_algo + " n'est pas reconnu dans cette mthode.");
-    }
-  }
-  
- /**
-  * ...
-  * 
-  * @param diffuse_light_color
-  * @param material_color
-  * @param normal
-  * @param light_orientation
-  * @return
-  * @throws SRuntimeException
-  */
-  private SColor shadeWithDiffuseReflexion(SColor diffuse_light_color, SColor material_color, SVector3d normal, SVector3d light_orientation) throws SRuntimeException
-  {
-    switch(reflexion_algo)
-    {
-      case NO_LIGHT : 
-      case AMBIENT :
-      case PHONG_SPECULAR : 
-      case BLINN_SPECULAR :   return SIllumination.NO_ILLUMINATION;
-      
-      case DIFFUSE :
-      case NO_SPECULAR_REFLEXION :
-      case PHONG_REFLEXION :
-      case BLINN_REFLEXION :  return SIllumination.lambertianReflexion(diffuse_light_color, material_color, normal, light_orientation);
-      
-      default : throw new SRuntimeException("Erreur SAbstractShader 005 : Le code " + reflexion_algo + " n'est pas reconnu dans cette mthode.");
-    }
-  }
-  
- /**
-  * ...
-  * 
-  * @param specular_light_color
-  * @param material_color
-  * @param normal
-  * @param ray_orientation
-  * @param light_orientation
-  * @param shininess
-  * @return
-  * @throws SRuntimeException
-  */
-  private SColor shadeWithSpecularReflexion(SColor specular_light_color, SColor material_color, SVector3d normal, SVector3d ray_orientation, SVector3d light_orientation, double shininess) throws SRuntimeException
-  {
-    switch(reflexion_algo)
-    {
-      case NO_LIGHT : 
-      case AMBIENT :
-      case DIFFUSE :          
-      case NO_SPECULAR_REFLEXION :  return SIllumination.NO_ILLUMINATION;
-      
-      
-      case PHONG_SPECULAR : 
-      case PHONG_REFLEXION :        return SIllumination.phongSpecularReflexion(specular_light_color, material_color, normal, ray_orientation, light_orientation, shininess);
-        
-      case BLINN_SPECULAR :
-      case BLINN_REFLEXION :        return SIllumination.blinnSpecularReflexion(specular_light_color, material_color, normal, ray_orientation, light_orientation, shininess);
-      
-      default : throw new SRuntimeException("Erreur SAbstractShader 006 : Le code " + reflexion_algo + " n'est pas reconnu dans cette mthode.");
-    }
-  }
-    
-}//fin classe SAbstractShader
+/**
+ * 
+ */
+package sim.graphics.shader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sim.exception.SConstructorException;
+import sim.exception.SNoImplementationException;
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.SColor;
+import sim.graphics.light.SAbstractLight;
+import sim.graphics.light.SAmbientLight;
+import sim.graphics.light.SDirectionalLight;
+import sim.graphics.light.SInterferenceLight;
+import sim.graphics.light.SLight;
+import sim.graphics.light.SPointLight;
+import sim.graphics.material.SMaterial;
+import sim.math.SMath;
+import sim.math.SVector3d;
+import sim.util.SLog;
+import sim.util.SStringUtil;
+
+/**
+ * La classe abstraite <b>SAbstractShader</b> représente un <i>shader</i> avec plusieurs fonctionnalités de base.
+ * 
+ * @author Simon Vézina
+ * @since 2015-02-01
+ * @version 2017-12-20
+ */
+public abstract class SAbstractShader implements SShader {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+	//type de mode de réflexion spéculaire disponible
+  final public static String[] REFLEXION_ALGORITHM = { "no_light", "ambient", "diffuse", "phong_specular", "blinn_specular", "no_specular", "phong", "blinn" };
+  final public static int NO_LIGHT = 0;
+  final public static int AMBIENT = 1;
+  final public static int DIFFUSE = 2;
+  final public static int PHONG_SPECULAR = 3;
+  final public static int BLINN_SPECULAR = 4;
+  final public static int NO_SPECULAR_REFLEXION = 5;
+	final public static int PHONG_REFLEXION = 6;
+	final public static int BLINN_REFLEXION = 7;
+	
+	/**
+	 * La constance <b>MAX_REFLEXION_CODE</b> correspond au nombre de codes différents maximals reconnus par le shader étant égal à {@value}.
+	 */
+	final private static int MAX_REFLEXION_CODE = 7;
+	
+	//-------------
+	// VARIABLES //
+	//-------------
+	
+	/**
+	 * La variable <b>geometry_space</b> représente l'espace des géométries.
+	 */
+	final protected SGeometrySpace geometry_space;	   
+	
+	/**
+	 * La variable <b>t_max</b> représente le temps maximal qu'un rayon peut se déplacer selon ce shader.
+	 */
+	final protected double t_max;                      
+	
+	/**
+	 * La variable <b>light_list</b> représente une liste des sources de lumière qui seront utilisées dans le calcul de l'illumination.
+	 */
+	final protected List<SLight> light_list;				   
+	
+	/**
+	 * La variable <b>reflexion_algo</b> représente le code correspond au type d'algorithme utilisé pour évaluer l'illumination.
+	 */
+	final protected int reflexion_algo;       
+	
+	/**
+	 * Les variables <b>ambient_light_array</b>, <b>directional_light_array</b>, <b>point_light_array</b> et <b>interference_light_array</b> 
+	 * correspondent aux sources de lumière de la liste des sources triées par type lors de la construction du shader. 
+	 * Chaque type de source est ainsi traité dans sa propre boucle sans analyse de type ni conversion à chaque calcul d'illumination.
+	 */
+	final private SAmbientLight[] ambient_light_array;
+	final private SDirectionalLight[] directional_light_array;
+	final private SPointLight[] point_light_array;
+	final private SInterferenceLight[] interference_light_array;
+	
+	/**
+	 * Les variables <b>ambient_reflexion</b>, <b>diffuse_reflexion</b>, <b>phong_specular_reflexion</b> et <b>blinn_specular_reflexion</b>
+	 * déterminent les types de réflexion évalués selon l'algorithme de réflexion du shader.
+	 */
+	final private boolean ambient_reflexion;
+	final private boolean diffuse_reflexion;
+	final private boolean phong_specular_reflexion;
+	final private boolean blinn_specular_reflexion;
+	
+	/**
+	 * La variable <b>illumination_buffer</b> correspond à l'accumulateur de l'illumination directe propre à chaque <i>thread</i>.
+	 */
+	final private ThreadLocal<SColorAccumulator> illumination_buffer = ThreadLocal.withInitial(SColorAccumulator::new);
+	
+	/**
+	 * La variable <b>light_buffer</b> correspond à l'accumulateur de la couleur filtrée d'une source de lumière propre à chaque <i>thread</i>.
+	 */
+	final private ThreadLocal<SColorAccumulator> light_buffer = ThreadLocal.withInitial(SColorAccumulator::new);
+	
+	/**
+	 * La variable <b>direction_buffer</b> correspond à l'orientation et à la distance d'une source de lumière propre à chaque <i>thread</i>.
+	 */
+	final private ThreadLocal<double[]> direction_buffer = ThreadLocal.withInitial(() -> new double[4]);
+	
+	
+	private static int MULTIPLE_INSIDE_GEOMETRY_ERROR = 0;      //code d'erreur lorsqu'il y a plusieurs géométries imbriquées ensemble
+	
+	//-----------------
+	// CONSTRUCTEURS //
+	//-----------------
+	
+	/**
+	 * Constructeur d'une shader abstrait avec le modèle de réflexion de <b><i>Blinn</i></b>.
+	 * 
+	 * @param geometry_space - L'espace des géométries.
+	 * @param t_max - Temps de déplacement maximal d'un rayon.
+	 * @param light_list - La liste des sources de lumières.
+	 */
+	public SAbstractShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list) 
+	{
+		this(geometry_space, t_max, light_list, BLINN_REFLEXION);
+	}
+
+	/**
+	 * Constructeur d'une shader abstrait.
+	 * 
+	 * @param geometry_space - L'espace des géométries.
+	 * @param t_max - Temps de déplacement maximal d'un rayon.
+	 * @param light_list - La liste des sources de lumières.
+	 * @param reflexion_algo - Le type d'algorithme pour réaliser le calcul de l'illumination.
+	 * @throws SConstructorException Si la valeur de t_max est inférieur à une valeur de seuil.
+	 * @throws SConstructorException Si le type d'algorithme de réflexion spéculaire n'est pas reconnu.
+	 * @throws SConstructorException Si une source de lumière est de type indéterminé.
+	 * @see NO_SPECULAR_REFLEXION
+	 * @see PHONG_SPECULAR_REFLEXION
+	 * @see BLINN_SPECULAR_REFLEXION
+	 */
+	public SAbstractShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo) throws SConstructorException 
+	{
+		if(t_max < SRay.getEpsilon())
+		  throw new SConstructorException("Erreur SAbstractShader 001 : Le temps maximal '" + t_max + "' doit être supérieur à '" + SRay.getEpsilon() +"'.");
+		
+		if(reflexion_algo < 0 || reflexion_algo > MAX_REFLEXION_CODE)
+		  throw new SConstructorException("Erreur SAbstractShader 002 : Le code de l'algorithme de réflexion '" + reflexion_algo + "' n'est par reconnu. Il ne peut pas dépasser " + MAX_REFLEXION_CODE + ".");
+		
+		this.geometry_space = geometry_space;
+		this.t_max = t_max;
+		this.light_list = light_list;
+		this.reflexion_algo = reflexion_algo;
+		
+		// Trier les sources de lumière par type
+		List<SAmbientLight> ambient_list = new ArrayList<SAmbientLight>();
+		List<SDirectionalLight> directional_list = new ArrayList<SDirectionalLight>();
+		List<SPointLight> point_list = new ArrayList<SPointLight>();
+		List<SInterferenceLight> interference_list = new ArrayList<SInterferenceLight>();
+		
+		for(SLight light : light_list)
+		  switch(light.getCodeName())
+	    {
+	      case SAbstractLight.AMBIENT_LIGHT_CODE : ambient_list.add((SAmbientLight)light); break;
+	      
+	      case SAbstractLight.DIRECTIONAL_LIGHT_CODE : directional_list.add((SDirectionalLight)light); break;
+	      
+	      case SAbstractLight.POINT_LIGHT_CODE : point_list.add((SPointLight)light); break;
+	      
+	      case  SAbstractLight.LINEAR_APERTURE_LIGHT_CODE : 
+	      case  SAbstractLight.RECTANGULAR_APERTURE_LIGHT_CODE :  
+	      case  SAbstractLight.ELLIPTICAL_APERTURE_LIGHT_CODE :   
+	      case  SAbstractLight.APERTURE_MASK_LIGHT_CODE : interference_list.add((SInterferenceLight)light); break;
+	      
+	      default : throw new SConstructorException("Erreur SAbstractShader 003 : La source de lumière est de type indéterminé.");
+	    }
+		
+		ambient_light_array = ambient_list.toArray(new SAmbientLight[ambient_list.size()]);
+		directional_light_array = directional_list.toArray(new SDirectionalLight[directional_list.size()]);
+		point_light_array = point_list.toArray(new SPointLight[point_list.size()]);
+		interference_light_array = interference_list.toArray(new SInterferenceLight[interference_list.size()]);
+		
+		// Types de réflexion selon l'algorithme de réflexion
+		ambient_reflexion = reflexion_algo == AMBIENT || reflexion_algo == NO_SPECULAR_REFLEXION || reflexion_algo == PHONG_REFLEXION || reflexion_algo == BLINN_REFLEXION;
+		diffuse_reflexion = reflexion_algo == DIFFUSE || reflexion_algo == NO_SPECULAR_REFLEXION || reflexion_algo == PHONG_REFLEXION || reflexion_algo == BLINN_REFLEXION;
+		phong_specular_reflexion = reflexion_algo == PHONG_SPECULAR || reflexion_algo == PHONG_REFLEXION;
+		blinn_specular_reflexion = reflexion_algo == BLINN_SPECULAR || reflexion_algo == BLINN_REFLEXION;
+	}
+	
+	/**
+	 * Méthode pour obtenir l'accumulateur de l'illumination directe propre au <i>thread</i> courant.
+	 * Le contenu de l'accumulateur est remplacé à chaque appel de la méthode <b>directIllumination</b>.
+	 * 
+	 * @return L'accumulateur de l'illumination directe.
+	 */
+	protected SColorAccumulator getIlluminationBuffer()
+	{
+	  return illumination_buffer.get();
+	}
+	
+	/**
+	 * Méthode permettant d'évaluer l'illumination directe d'un rayon intersecté par l'ensemble des sources de lumière.
+	 * L'illumination est accumulée sans construction de couleur intermédiaire.
+	 * 
+	 * @param ray - Le rayon ayant réalisé une intersection avec une géométrie de l'espace des géométries.
+	 * @param material - Le matériel appliqué sur la géométrie.
+	 * @param color - L'accumulateur qui contiendra la couleur de l'illumination directe (son contenu est remplacé).
+	 */
+	protected void directIllumination(SRay ray, SMaterial material, SColorAccumulator color)
+	{
+	  color.clear();
+	  
+	  //Illumination ambiante
+	  ambientIllumination(ray, material, color);
+	  
+	  if(getNbShadowLight() == 0)
+	    return;
+	  
+	  //Illumination par des sources avec ombrage (directionnelles, ponctuelles et d'interférence)
+	  SColor Sd = diffuseColor(ray, material);
+	  SColor Ss = specularColor(ray, material);
+	  
+	  SColorAccumulator filtered_light = light_buffer.get();
+	  double[] direction = direction_buffer.get();
+	  
+	  for(int light = 0; light < getNbShadowLight(); light++)
+	    if(evaluateLightDirection(ray, light, direction) && evaluateFilteredLight(ray, light, direction, filtered_light))
+	      lightIllumination(ray, light, direction, filtered_light, Sd, Ss, material.getShininess(), color);
+	}
+	
+	/**
+	 * Méthode pour accumuler l'illumination ambiante d'un rayon intersecté.
+	 * 
+	 * @param ray - Le rayon ayant réalisé une intersection avec une géométrie de l'espace des géométries.
+	 * @param material - Le matériel appliqué sur la géométrie.
+	 * @param color - L'accumulateur de l'illumination.
+	 */
+	protected void ambientIllumination(SRay ray, SMaterial material, SColorAccumulator color)
+	{
+	  if(ambient_reflexion && ambient_light_array.length > 0)
+	  {
+	    SColor Sa = ray.asUV() ? material.ambientColor(ray.getUV()) : material.ambientColor();
+	    
+	    for(SAmbientLight light : ambient_light_array)
+	    {
+	      SColor La = light.getColor();
+	      color.add(La.getRed()*Sa.getRed(), La.getGreen()*Sa.getGreen(), La.getBlue()*Sa.getBlue());
+	    }
+	  }
+	}
+	
+	/**
+	 * Méthode pour obtenir la couleur diffuse du matériel au point d'intersection d'un rayon. 
+	 * La couleur n'est pas évaluée (<b>null</b>) s'il n'y a aucune source de lumière orientée.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param material - Le matériel appliqué sur la géométrie.
+	 * @return La couleur diffuse.
+	 */
+	protected SColor diffuseColor(SRay ray, SMaterial material)
+	{
+	  if(directional_light_array.length == 0 && point_light_array.length == 0)
+	    return null;
+	  
+	  return ray.asUV() ? material.diffuseColor(ray.getUV()) : material.diffuseColor();
+	}
+	
+	/**
+	 * Méthode pour obtenir la couleur spéculaire du matériel au point d'intersection d'un rayon.
+	 * La couleur n'est pas évaluée (<b>null</b>) s'il n'y a aucune source de lumière orientée.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param material - Le matériel appliqué sur la géométrie.
+	 * @return La couleur spéculaire.
+	 */
+	protected SColor specularColor(SRay ray, SMaterial material)
+	{
+	  if(directional_light_array.length == 0 && point_light_array.length == 0)
+	    return null;
+	  
+	  return ray.asUV() ? material.specularColor(ray.getUV()) : material.specularColor();
+	}
+	
+	/**
+	 * Méthode pour obtenir le nombre de sources de lumière nécessitant un rayon d'ombrage. Les sources sont indexées dans l'ordre
+	 * suivant : les sources directionnelles, les sources ponctuelles et les sources d'interférence.
+	 * 
+	 * @return Le nombre de sources de lumière avec ombrage.
+	 */
+	protected int getNbShadowLight()
+	{
+	  return directional_light_array.length + point_light_array.length + interference_light_array.length;
+	}
+	
+	/**
+	 * Méthode pour obtenir une source de lumière avec ombrage à partir de son index.
+	 * 
+	 * @param light - L'index de la source de lumière.
+	 * @return La source de lumière.
+	 * @see #getNbShadowLight()
+	 */
+	protected SLight getShadowLight(int light)
+	{
+	  if(light < directional_light_array.length)
+	    return directional_light_array[light];
+	  
+	  light -= directional_light_array.length;
+	  
+	  if(light < point_light_array.length)
+	    return point_light_array[light];
+	  
+	  return interference_light_array[light - point_light_array.length];
+	}
+	
+	/**
+	 * Méthode pour évaluer l'orientation (unitaire) d'une source de lumière avec ombrage vers le point d'intersection d'un rayon ainsi que leur distance.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param light - L'index de la source de lumière.
+	 * @param direction - Le tableau qui contiendra l'orientation (index 0 à 2) et la distance (index 3).
+	 * @return <b>true</b> si la normale à la surface fait face à la source de lumière (un rayon d'ombrage doit être lancé) et <b>false</b> sinon.
+	 * @throws SRuntimeException Si le point d'intersection est situé sur une source de lumière ponctuelle.
+	 */
+	protected boolean evaluateLightDirection(SRay ray, int light, double[] direction) throws SRuntimeException
+	{
+	  if(light < directional_light_array.length)
+	  {
+	    SVector3d d = directional_light_array[light].getOrientation();
+	    
+	    direction[0] = d.getX();
+	    direction[1] = d.getY();
+	    direction[2] = d.getZ();
+	    direction[3] = Double.POSITIVE_INFINITY;
+	  }
+	  else
+	    if(light < directional_light_array.length + point_light_array.length)
+	    {
+	      // Orientation de la source de lumière vers le point à illuminer
+	      SVector3d P = ray.getIntersectionPosition();
+	      SVector3d position = point_light_array[light - directional_light_array.length].getPosition();
+	      
+	      double dx = P.getX() - position.getX();
+	      double dy = P.getY() - position.getY();
+	      double dz = P.getZ() - position.getZ();
+	      
+	      double distance = Math.sqrt((dx*dx) + (dy*dy) + (dz*dz));
+	      
+	      if(distance < SMath.EPSILON)
+	        throw new SRuntimeException("Erreur SAbstractShader 004 : La cible à illuminer est située sur la source de lumière ponctuelle.");
+	      
+	      direction[0] = dx/distance;
+	      direction[1] = dy/distance;
+	      direction[2] = dz/distance;
+	      direction[3] = distance;
+	    }
+	    else
+	    {
+	      SInterferenceLight interference_light = interference_light_array[light - directional_light_array.length - point_light_array.length];
+	      
+	      SVector3d P = ray.getIntersectionPosition();
+	      SVector3d d = interference_light.getOrientation(P);
+	      
+	      direction[0] = d.getX();
+	      direction[1] = d.getY();
+	      direction[2] = d.getZ();
+	      direction[3] = interference_light.getPosition().substract(P).modulus();
+	    }
+	  
+	  // Tester si la normale est orientée dans le même sens que la source de lumière (L = -d)
+	  SVector3d N = ray.getShadingNormal();
+	  
+	  return N.getX()*(-direction[0]) + N.getY()*(-direction[1]) + N.getZ()*(-direction[2]) > 0.0;
+	}
+	
+	/**
+	 * Méthode pour évaluer la couleur d'une source de lumière rendue au point d'intersection d'un rayon (rayon d'ombrage).
+	 * La couleur est filtrée par les géométries transparentes situées entre le point d'intersection et la source.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param light - L'index de la source de lumière.
+	 * @param direction - L'orientation (index 0 à 2) de la source de lumière et la distance (index 3).
+	 * @param filtered_light - L'accumulateur qui contiendra la couleur filtrée de la source de lumière.
+	 * @return <b>true</b> si la source de lumière éclaire le point d'intersection et <b>false</b> s'il est dans l'ombre.
+	 */
+	private boolean evaluateFilteredLight(SRay ray, int light, double[] direction, SColorAccumulator filtered_light)
+	{
+	  // Rayon de l'intersection à la source de lumière (avec indice de réfraction de 1.0, car il n'y aura pas de calcul de réfraction pour ce rayon)
+	  SRay intersection_to_light_ray = new SRay(ray.getIntersectionPosition(), new SVector3d(-direction[0], -direction[1], -direction[2]), SRay.DEFAULT_REFRACTIVE_INDEX);
+	  
+	  // Liste des géométries rencontrées avant d'atteindre la source de lumière 
+	  // en ordre inverse et débutant par une géométrie opaque s'il y a eu intersection de ce type
+	  List<SRay> list_transparent = geometry_space.nearestOpaqueIntersection(intersection_to_light_ray, direction[3]);
+	  
+	  return filterLight(light, list_transparent, filtered_light);
+	}
+	
+	/**
+	 * Méthode pour filtrer la couleur d'une source de lumière par les géométries rencontrées par un rayon d'ombrage.
+	 * 
+	 * @param light - L'index de la source de lumière.
+	 * @param list_transparent - La liste des intersections du rayon d'ombrage (en ordre inverse et débutant par une géométrie opaque s'il y a lieu).
+	 * @param filtered_light - L'accumulateur qui contiendra la couleur filtrée de la source de lumière.
+	 * @return <b>true</b> si la source de lumière éclaire le point d'intersection et <b>false</b> s'il est dans l'ombre.
+	 */
+	protected boolean filterLight(int light, List<SRay> list_transparent, SColorAccumulator filtered_light)
+	{
+	  filtered_light.set(getShadowLight(light).getColor());
+	  
+	  if(!list_transparent.isEmpty())
+	  {
+	    // Si la liste possède une géométrie opaque (non transparente) au début, la lumiere sera bloquée
+	    if(!list_transparent.get(0).getGeometry().isTransparent())
+	      return false;
+	    
+	    // Filtrer la lumière par la couleur de transparence des matériaux traversés
+	    for(SRay r : list_transparent)
+	      SIllumination.filteredTransparencyLight(r.getGeometry().getPrimitiveParent().getMaterial(), filtered_light);
+	  }
+	  
+	  // Une lumière complètement filtrée n'éclaire pas
+	  return !(SMath.nearlyZero(filtered_light.getRed()) && SMath.nearlyZero(filtered_light.getGreen()) && SMath.nearlyZero(filtered_light.getBlue()));
+	}
+	
+	/**
+	 * Méthode pour accumuler l'illumination d'une source de lumière avec ombrage éclairant le point d'intersection d'un rayon.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param light - L'index de la source de lumière.
+	 * @param direction - L'orientation (index 0 à 2) de la source de lumière et la distance (index 3).
+	 * @param filtered_light - La couleur filtrée de la source de lumière.
+	 * @param Sd - La couleur diffuse du matériel.
+	 * @param Ss - La couleur spéculaire du matériel.
+	 * @param shininess - Le niveau de brillance du matériel.
+	 * @param color - L'accumulateur de l'illumination.
+	 */
+	protected void lightIllumination(SRay ray, int light, double[] direction, SColorAccumulator filtered_light, SColor Sd, SColor Ss, double shininess, SColorAccumulator color)
+	{
+	  if(light < directional_light_array.length)
+	    orientedLightIllumination(ray, filtered_light, direction[0], direction[1], direction[2], Sd, Ss, shininess, 1.0, color);
+	  else
+	    if(light < directional_light_array.length + point_light_array.length)
+	    {
+	      SPointLight point_light = point_light_array[light - directional_light_array.length];
+	      
+	      // Facteur d'attenuation et d'amplification de la source de lumière
+	      double factor = point_light.amplification() * point_light.attenuation(ray.getIntersectionPosition());
+	      
+	      orientedLightIllumination(ray, filtered_light, direction[0], direction[1], direction[2], Sd, Ss, shininess, factor, color);
+	    }
+	    else
+	    {
+	      SInterferenceLight interference_light = interference_light_array[light - directional_light_array.length - point_light_array.length];
+	      
+	      SVector3d P = ray.getIntersectionPosition();
+	      
+	      // Obtenir l'intensité relative de l'interférence.
+	      double intensity = interference_light.getRelativeIntensity(P);
+	      
+	      // Ajouter le facteur d'attenuation et d'amplification à la source de lumière 
+	      // à la valeur de l'intensité évaluée après calcul d'interférence.
+	      double factor = interference_light.amplification() * interference_light.attenuation(P) * intensity;
+	      
+	      SColor L = interference_light.getColor();
+	      color.add(L.getRed()*factor, L.getGreen()*factor, L.getBlue()*factor);
+	    }
+	}
+	
+	/**
+	 * Méthode pour accumuler la réflexion diffuse et spéculaire d'une source de lumière orientée.
+	 * 
+	 * @param ray - Le rayon en intersection.
+	 * @param light - La couleur filtrée de la source de lumière.
+	 * @param dx - La composante x de l'orientation (unitaire) de la source de lumière.
+	 * @param dy - La composante y de l'orientation (unitaire) de la source de lumière.
+	 * @param dz - La composante z de l'orientation (unitaire) de la source de lumière.
+	 * @param Sd - La couleur diffuse du matériel.
+	 * @param Ss - La couleur spéculaire du matériel.
+	 * @param shininess - Le niveau de brillance du matériel.
+	 * @param factor - Le facteur d'atténuation et d'amplification de la source de lumière.
+	 * @param color - L'accumulateur de l'illumination.
+	 */
+	private void orientedLightIllumination(SRay ray, SColorAccumulator light, double dx, double dy, double dz, SColor Sd, SColor Ss, double shininess, double factor, SColorAccumulator color)
+	{
+	  SVector3d N = ray.getShadingNormal();
+	  
+	  double r = 0.0;
+	  double g = 0.0;
+	  double b = 0.0;
+	  
+	  // Contribution de la réflexion diffuse (modèle de réflexion Lambertienne)
+	  if(diffuse_reflexion)
+	  {
+	    double N_dot_L = SIllumination.lambertianReflexion(N, dx, dy, dz);
+	    
+	    r = light.getRed()*N_dot_L*Sd.getRed();
+	    g = light.getGreen()*N_dot_L*Sd.getGreen();
+	    b = light.getBlue()*N_dot_L*Sd.getBlue();
+	  }
+	  
+	  // Contribution de la réflexion spéculaire selon le modèle de Blinn
+	  if(blinn_specular_reflexion)
+	  {
+	    SVector3d v = ray.getDirection();
+	    
+	    double specular = SIllumination.blinnSpecularReflexion(N, v.getX(), v.getY(), v.getZ(), dx, dy, dz, shininess);
+	    
+	    r += light.getRed()*specular*Ss.getRed();
+	    g += light.getGreen()*specular*Ss.getGreen();
+	    b += light.getBlue()*specular*Ss.getBlue();
+	  }
+	  
+	  // Contribution de la réflexion spéculaire selon le modèle de Phong
+	  if(phong_specular_reflexion)
+	  {
+	    SColor specular = SIllumination.phongSpecularReflexion(light.toColor(), Ss, N, ray.getDirection(), new SVector3d(dx, dy, dz), shininess);
+	    
+	    r += specular.getRed();
+	    g += specular.getGreen();
+	    b += specular.getBlue();
+	  }
+	  
+	  color.add(r*factor, g*factor, b*factor);
+	}
+	
+  @Override
+  public SColor shade(SRay ray, SMediumStack medium_stack) throws SRuntimeException
+  {
+    // Sans rayon récursif, le milieu du rayon n'est pas utilisé
+    return shade(ray);
+  }
+  
+  @Override
+  public SMediumStack evaluateMediumStack(SVector3d position)
+  {
+    SMediumStack medium_stack = SMediumStack.EMPTY;
+    
+    for(SGeometry g : geometry_space.listInsideGeometry(position))
+      medium_stack = medium_stack.enter(g, g.getPrimitiveParent().getMaterial().refractiveIndex());
+    
+    return medium_stack;
+  }
+  
+  @Override
+  public double evaluateRefractiveIndex(SVector3d position)
+  {
+    //Pour déterminer l'indice de réfraction d'un milieu ambiant, 
+    //il faut vérifier dans quelle géométrie le rayon est situé.
+    //- Si le rayon est situé à la frontière d'une géométrie (sur la surface), il sera considéré comme à l'extérieur et l'indice n = 1.0 sera affecté.
+    //- Si le rayon est situé dans une géométrie, il faudra obtenir son indice de réfraction s'il possède une primitive comme parent, sinon n = 1.0 sera affecté.
+    //- Si le rayon est situé dans plusieurs géométrie, NOUS AVONS PRÉSENTEMENT UN PROBLÈME !!! qui devra être résolu dans le futur.
+    
+    List<SGeometry> list_inside = geometry_space.listInsideGeometry(position);
+    
+    // Cas #1 : La position est à l'intérieur d'aucune géométrie
+    if(list_inside.isEmpty())
+      return 1.0;               
+    
+    // Cas #2 : La position est uniquement situé dans une géométrie
+    if(list_inside.size() == 1)
+      return list_inside.get(0).getPrimitiveParent().getMaterial().refractiveIndex();
+    
+    // Cas #3 : Le cas sans solution idéale, car il y a des géométries imbriquées sans clarification de la situation
+    
+    //-----------------------------------------
+    //C'est ici que nous avons un problème!!!
+    //-----------------------------------------
+    MULTIPLE_INSIDE_GEOMETRY_ERROR++;
+        
+    //Pour le moment, nous allons faire la moyenne de tout les indices de réfraction pour définir l'indice du milieu
+    double total_refractive_index = 0.0;
+                
+    for(SGeometry g : list_inside)
+      total_refractive_index += g.getPrimitiveParent().getMaterial().refractiveIndex();   //pour faire la moyenne des indices de réfraction
+         
+    //Message de la situation de plusieurs géométrie transparente imbriquée
+    if(MULTIPLE_INSIDE_GEOMETRY_ERROR == 1)
+      SLog.logWriteLine(SStringUtil.END_LINE_CARACTER + "Message SAbstractShader : Il y a une situation où " + list_inside.size() + " géométries sont imbriquées et l'identification de l'indice de réfraction sera une moyenne des indices des matériaux.");
+                  
+    return total_refractive_index / list_inside.size();    
+  }
+  
+}//fin classe SAbstractShader
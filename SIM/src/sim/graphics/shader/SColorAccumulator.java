@@ -0,0 +1,172 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import sim.graphics.SColor;
+
+/**
+ * <p>
+ * La classe <b>SColorAccumulator</b> représente une somme de couleurs <b>modifiable</b> utilisée lors des calculs d'illumination.
+ * Contrairement à la classe <b>SColor</b> étant immuable, l'accumulation de contributions lumineuses dans un accumulateur
+ * ne construit aucun nouvel objet.
+ * </p>
+ *
+ * <p>
+ * Un accumulateur n'est pas <i>thread-safe</i>. Chaque <i>thread</i> doit utiliser son propre accumulateur.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2016-04-18
+ * @version 2016-04-18
+ */
+public class SColorAccumulator {
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>r</b> correspond à la somme du canal rouge.
+   */
+  private double r;
+
+  /**
+   * La variable <b>g</b> correspond à la somme du canal vert.
+   */
+  private double g;
+
+  /**
+   * La variable <b>b</b> correspond à la somme du canal bleu.
+   */
+  private double b;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un accumulateur de couleur initialisé à la couleur noire.
+   */
+  public SColorAccumulator()
+  {
+    clear();
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir la somme du canal rouge.
+   *
+   * @return La somme du canal rouge.
+   */
+  public double getRed()
+  {
+    return r;
+  }
+
+  /**
+   * Méthode pour obtenir la somme du canal vert.
+   *
+   * @return La somme du canal vert.
+   */
+  public double getGreen()
+  {
+    return g;
+  }
+
+  /**
+   * Méthode pour obtenir la somme du canal bleu.
+   *
+   * @return La somme du canal bleu.
+   */
+  public double getBlue()
+  {
+    return b;
+  }
+
+  /**
+   * Méthode pour remettre l'accumulateur à la couleur noire.
+   */
+  public void clear()
+  {
+    r = 0.0;
+    g = 0.0;
+    b = 0.0;
+  }
+
+  /**
+   * Méthode pour affecter une couleur à l'accumulateur.
+   *
+   * @param color - La couleur.
+   */
+  public void set(SColor color)
+  {
+    r = color.getRed();
+    g = color.getGreen();
+    b = color.getBlue();
+  }
+
+  /**
+   * Méthode pour ajouter une couleur à l'accumulateur.
+   *
+   * @param red - Le canal rouge à ajouter.
+   * @param green - Le canal vert à ajouter.
+   * @param blue - Le canal bleu à ajouter.
+   */
+  public void add(double red, double green, double blue)
+  {
+    r += red;
+    g += green;
+    b += blue;
+  }
+
+  /**
+   * Méthode pour ajouter à l'accumulateur le contenu d'un autre accumulateur multiplié canal par canal par une couleur.
+   *
+   * @param accumulator - L'accumulateur à ajouter.
+   * @param weight - La couleur de pondération.
+   */
+  public void addMultiplied(SColorAccumulator accumulator, SColor weight)
+  {
+    r += accumulator.r * weight.getRed();
+    g += accumulator.g * weight.getGreen();
+    b += accumulator.b * weight.getBlue();
+  }
+
+  /**
+   * Méthode pour multiplier canal par canal l'accumulateur par une couleur.
+   *
+   * @param color - La couleur.
+   */
+  public void multiply(SColor color)
+  {
+    r *= color.getRed();
+    g *= color.getGreen();
+    b *= color.getBlue();
+  }
+
+  /**
+   * Méthode pour déterminer si l'accumulateur est (presque) égal à la couleur noire.
+   *
+   * @param epsilon - La précision de la comparaison.
+   * @return <b>true</b> si chaque canal est inférieur à la précision et <b>false</b> sinon.
+   */
+  public boolean isBlack(double epsilon)
+  {
+    return Math.abs(r) < epsilon && Math.abs(g) < epsilon && Math.abs(b) < epsilon;
+  }
+
+  /**
+   * Méthode pour obtenir la couleur correspondant à la somme de l'accumulateur.
+   *
+   * @return La couleur.
+   */
+  public SColor toColor()
+  {
+    return new SColor(r, g, b);
+  }
+
+}//fin de la classe SColorAccumulator
@@ -1,140 +1,205 @@
-/**
- * 
- */
-package sim.graphics.shader;
-
-import java.util.List;
-
-import sim.exception.SNoImplementationException;
-import sim.graphics.SColor;
-import sim.graphics.material.SMaterial;
-import sim.math.SVector3d;
-import sim.physics.SGeometricalOptics;
-
-/**
- * La classe <b>SIllumination</b> reprsente une classe utilitaire qui effectue les calculs d'illuminations selon le type d'algorithme utilis. 
- * On y retrouve des modles d'illumination  rflexion (ambiante, diffuse et spculaire) et  transmission (filtrage
- * d'une source de lumire au travers des matriaux transparents). 
- * 
- * @author Simon Vzina
- * @since 2015-01-16
- * @version 2017-12-20 (version labo  Le ray tracer v2.1)
- */
-public class SIllumination {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>NO_ILLUMINATION</b> correspond  la couleur par dfaut sans calcul d'illumination.
-   * Cette couleur est <b>noire</b>.
-   */
-	public static final SColor NO_ILLUMINATION = new SColor(0.0, 0.0, 0.0);
-	
-	//------------
-	// MTHODES //
-	//------------
-	
-	/**
-	 * <p>Mthode qui effectue le calcul de la <u>rflexion ambiante</u> d'une source de lumire <b><i>L</i>a</b> sur une surface
-	 * dont la couleur rflchie de faon ambiante est <b><i>S</i>a</b>.</p> 
-	 * <p>La formule calcule est <b><i>L</i>amb = <i>L</i>a*<i>S</i>a</b>.</p> 
-	 * 
-	 * @param La - La couleur ambiante <b><i>L</i>a</b> de la source de lumire.
-	 * @param Sa - La couleur rflchie de faon ambiante <b><i>S</i>a</b> par la surface.
-	 * @return La couleur ambient <b><i>L</i>amb</b> de la lumire rflchie par la surface.
-	 */
-	public static SColor ambientReflexion(SColor La, SColor Sa)
-	{
-		return (La.multiply(Sa));
-		//throw new SNoImplementationException("La mthode n'est pas implmente.");
-	}
-	
-	/**
-	 * <p>Mthode qui effectue le calcul de la <u>rflexion diffuse</u> selon le <b>modle de rfexion Lambertienne</b> d'une source de lumire <b><i>L</i>d</b> sur une surface
-	 * dont la couleur rflchie de faon diffuse est <b><i>S</i>d</b></b>.</p> 
-	 * <p>La formule calcule est <ul><b><i>L</i>dif = <i>L</i>d*<i>S</i>d*<i>N</i>dot<i>L</i></b></ul></p>
-	 * <p>o <b><i>N</i></b> est la normale  la surface et <b><i>L</i></b> est l'orientation <u>inverse</u> de la source de lumire.</p>
-	 * 
-	 * @param Ld - La couleur diffuse <b><i>L</i>d</b> de la source de lumire.
-	 * @param Sd - La couleur rflchie de faon diffuse <b><i>S</i>d</b> par la surface.
-	 * @param N - La normale <b><i>N</i></b>  la surface (unitaire).
-	 * @param d - L'orientation <b><i>d</i></b> de la source de lumire (unitaire).
-	 * @return La couleur diffuse <b><i>L</i>dif</b> de la lumire rflchie par la surface.
-	 */
-	public static SColor lambertianReflexion(SColor Ld, SColor Sd, SVector3d N, SVector3d d)
-	{
-		if((N.dot(d.multiply(-1))) < 0) {
-			return NO_ILLUMINATION;
-		}
-		SColor temp = Ld.multiply((N.dot(d.multiply(-1)) )  ).multiply(Sd);
-		return temp;
-		//throw new SNoImplementationException("La mthode n'est pas implmente.");
-	}
-	
-	/**
-	 * <p>Mthode qui effectue le calcul de la <u>rflexion spculaire</u> selon le <b>modle spculaire de <i>Phong</i></b> d'une source de lumire <b><i>L</i>s</b> sur une surface
-	 * dont la couleur rflchie de faon spculaire est <b><i>S</i>s</b></b>.</p> 
-	 * <p>La formule calcule est <ul><b><i>L</i>spe = <i>L</i>s*<i>S</i>s*(<i>R</i>dot<i>E</i>)^<i>n</i></b></ul></p>
-	 * <p>o <b><i>R</i></b> est l'orientation de la rflexion de la lumire, <b><i>E</i></b> est l'orientation vers l'oeil (l'inverse de l'orientation du rayon) et <b><i>n</i></b> est le niveau de brillance.</p>
-	 * 
-	 * @param Ls - La couleur spculaire <b><i>L</i>s</b> de la source de lumire.
-	 * @param Ss - La couleur rflchie de faon spculaire <b><i>S</i>s</b> par la surface.
-	 * @param N - La normale <b><i>N</i></b>  la surface (unitaire).
-	 * @param v - L'orientation <b><i>v</i></b> du rayon  (unitaire).
-	 * @param d - L'orientation <b><i>d</i></b> de la source de lumire (unitaire).
-	 * @param n - Le niveau de brillance <b><i>n</i></b> ( quel point la surface est polie).
-	 * @return La couleur spculaire <b><i>L</i>spe</b> de la lumire rflchie par la surface.  
-	 */
-	public static SColor phongSpecularReflexion(SColor Ls, SColor Ss, SVector3d N, SVector3d v, SVector3d d, double n)
-	{
-	  throw new SNoImplementationException("La mthode n'est pas implmente.");
-	}
-	
-	/**
-	 * <p>Mthode qui effectue le calcul de la <u>rflexion spculaire</u> selon le <b>modle spculaire de <i>Blinn</i></b> d'une source de lumire <b><i>L</i>s</b> sur une surface
-	 * dont la couleur rflchie de faon spculaire est <b><i>S</i>s</b></b>.</p> 
-	 * <p>La formule calcule est <ul><b><i>L</i>spe = <i>L</i>s*<i>S</i>s*(<i>N</i>dot<i>H</i>)^<i>n</i></b></ul></p>
-	 * <p>o <b><i>N</i></b> est l'orientation de la normale  la surface, <b><i>H</i></b> est l'orientation du vecteur bisecteur entre <b><i>E</i></b> et <b><i>L</i></b> et <b><i>n</i></b> est le niveau de brillance.</p>
-	 * 
-	 * @param Ls - La couleur spculaire <b><i>L</i>s</b> de la source de lumire.
-	 * @param Ss - La couleur rflchie de faon spculaire <b><i>S</i>s</b> par la surface.
-	 * @param N - La normale <b><i>N</i></b>  la surface (unitaire).
-	 * @param v - L'orientation <b><i>v</i></b> du rayon  (unitaire).
-	 * @param d - L'orientation <b><i>d</i></b> de la source de lumire (unitaire).
-	 * @param n - Le niveau de brillance <b><i>n</i></b> ( quel point la surface est polie).
-	 * @return La couleur spculaire <b><i>L</i>spe</b> de la lumire rflchie par la surface.  
-	 */
-	public static SColor blinnSpecularReflexion(SColor Ls, SColor Ss, SVector3d N, SVector3d v, SVector3d d, double n)
-	{
-		SVector3d H = v.multiply(-1).add(d.multiply(-1)).multiply(1/(v.multiply(-1).add(d.multiply(-1)).modulus()))  ;
-		if(N.dot(H) < 0) {
-			return NO_ILLUMINATION;
-		}
-		return Ls.multiply(Math.pow(N.dot(H), n)).multiply(Ss);
-		//throw new SNoImplementationException("La mthode n'est pas implmente.");
-	}
-	
-	/**
-	 * Mthode pour valuer la couleur d'une source de lumire aprs son passage au travers plusieurs matriaux transparents.
-	 * 
-	 * @param transparent_material_list - La liste des matriaux transparents traverss par la lumire.
-	 * @param light_color - La couleur de la source de lumire.
-	 * @return La couleur de la source de la lumire filtr par son passage au travers les matriaux transparents.
-	 */
-	public static SColor filteredTransparencyLight(List<SMaterial> transparent_material_list, SColor light_color)
-	{
-		SColor filtered_light = light_color;	//couleur de la lumire filtre par la transparence des gomtries traverses
-		
-		//Nous allons utiliser la couleur diffuse pour dterminer la couleur pouvant traverser un matriel.
-		//Les couleurs des matriaux vont jouer le rle de filtre laissant passer uniquement la couleur du matriel
-		//et pondr par leur niveau de transparence.
-		for(SMaterial m : transparent_material_list)
-			filtered_light = filtered_light.multiply(m.transparencyColor());
-		
-		
-		return filtered_light;
-	}
-	
-}//fin de la classe SIllumination
+/**
+ * 
+ */
+package sim.graphics.shader;
+
+import java.util.List;
+
+import sim.exception.SNoImplementationException;
+import sim.graphics.SColor;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+import sim.physics.SGeometricalOptics;
+
+/**
+ * La classe <b>SIllumination</b> représente une classe utilitaire qui effectue les calculs d'illuminations selon le type d'algorithme utilisé. 
+ * On y retrouve des modèles d'illumination à réflexion (ambiante, diffuse et spéculaire) et à transmission (filtrage
+ * d'une source de lumière au travers des matériaux transparents). 
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-16
+ * @version 2017-12-20 (version labo  Le ray tracer v2.1)
+ */
+public class SIllumination {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>NO_ILLUMINATION</b> correspond à la couleur par défaut sans calcul d'illumination.
+   * Cette couleur est <b>noire</b>.
+   */
+	public static final SColor NO_ILLUMINATION = new SColor(0.0, 0.0, 0.0);
+	
+	//------------
+	// MÉTHODES //
+	//------------
+	
+	/**
+	 * <p>Méthode qui effectue le calcul de la <u>réflexion ambiante</u> d'une source de lumière <b><i>L</i>a</b> sur une surface
+	 * dont la couleur réfléchie de façon ambiante est <b><i>S</i>a</b>.</p> 
+	 * <p>La formule calculée est <b><i>L</i>amb = <i>L</i>a*<i>S</i>a</b>.</p> 
+	 * 
+	 * @param La - La couleur ambiante <b><i>L</i>a</b> de la source de lumière.
+	 * @param Sa - La couleur réfléchie de façon ambiante <b><i>S</i>a</b> par la surface.
+	 * @return La couleur ambient <b><i>L</i>amb</b> de la lumière réfléchie par la surface.
+	 */
+	public static SColor ambientReflexion(SColor La, SColor Sa)
+	{
+		return (La.multiply(Sa));
+		//throw new SNoImplementationException("La méthode n'est pas implémentée.");
+	}
+	
+	/**
+	 * <p>Méthode qui effectue le calcul de la <u>réflexion diffuse</u> selon le <b>modèle de réfexion Lambertienne</b> d'une source de lumière <b><i>L</i>d</b> sur une surface
+	 * dont la couleur réfléchie de façon diffuse est <b><i>S</i>d</b></b>.</p> 
+	 * <p>La formule calculée est <ul><b><i>L</i>dif = <i>L</i>d*<i>S</i>d*<i>N</i>dot<i>L</i></b></ul></p>
+	 * <p>où <b><i>N</i></b> est la normale à la surface et <b><i>L</i></b> est l'orientation <u>inverse</u> de la source de lumière.</p>
+	 * 
+	 * @param Ld - La couleur diffuse <b><i>L</i>d</b> de la source de lumière.
+	 * @param Sd - La couleur réfléchie de façon diffuse <b><i>S</i>d</b> par la surface.
+	 * @param N - La normale <b><i>N</i></b> à la surface (unitaire).
+	 * @param d - L'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @return La couleur diffuse <b><i>L</i>dif</b> de la lumière réfléchie par la surface.
+	 */
+	public static SColor lambertianReflexion(SColor Ld, SColor Sd, SVector3d N, SVector3d d)
+	{
+		double N_dot_L = lambertianReflexion(N, d.getX(), d.getY(), d.getZ());
+		
+		if(N_dot_L == 0.0)
+			return NO_ILLUMINATION;
+		
+		return Ld.multiply(N_dot_L).multiply(Sd);
+	}
+	
+	/**
+	 * <p>Méthode qui évalue le facteur <b><i>N</i>dot<i>L</i></b> de la <u>réflexion diffuse</u> selon le <b>modèle de réfexion Lambertienne</b> 
+	 * sans construire de vecteur. Ce facteur est nul lorsque la source de lumière éclaire l'arrière de la surface.</p>
+	 * <p>La réflexion diffuse correspond à <b><i>L</i>dif = <i>L</i>d*<i>S</i>d*<i>N</i>dot<i>L</i></b>.</p>
+	 * 
+	 * @param N - La normale <b><i>N</i></b> à la surface (unitaire).
+	 * @param dx - La composante x de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param dy - La composante y de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param dz - La composante z de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @return Le facteur <b><i>N</i>dot<i>L</i></b> (positif ou nul).
+	 */
+	public static double lambertianReflexion(SVector3d N, double dx, double dy, double dz)
+	{
+		double N_dot_L = N.getX()*(-dx) + N.getY()*(-dy) + N.getZ()*(-dz);
+		
+		if(N_dot_L < 0.0)
+			return 0.0;
+		
+		return N_dot_L;
+	}
+	
+	/**
+	 * <p>Méthode qui effectue le calcul de la <u>réflexion spéculaire</u> selon le <b>modèle spéculaire de <i>Phong</i></b> d'une source de lumière <b><i>L</i>s</b> sur une surface
+	 * dont la couleur réfléchie de façon spéculaire est <b><i>S</i>s</b></b>.</p> 
+	 * <p>La formule calculée est <ul><b><i>L</i>spe = <i>L</i>s*<i>S</i>s*(<i>R</i>dot<i>E</i>)^<i>n</i></b></ul></p>
+	 * <p>où <b><i>R</i></b> est l'orientation de la réflexion de la lumière, <b><i>E</i></b> est l'orientation vers l'oeil (l'inverse de l'orientation du rayon) et <b><i>n</i></b> est le niveau de brillance.</p>
+	 * 
+	 * @param Ls - La couleur spéculaire <b><i>L</i>s</b> de la source de lumière.
+	 * @param Ss - La couleur réfléchie de façon spéculaire <b><i>S</i>s</b> par la surface.
+	 * @param N - La normale <b><i>N</i></b> à la surface (unitaire).
+	 * @param v - L'orientation <b><i>v</i></b> du rayon  (unitaire).
+	 * @param d - L'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param n - Le niveau de brillance <b><i>n</i></b> (à quel point la surface est polie).
+	 * @return La couleur spéculaire <b><i>L</i>spe</b> de la lumière réfléchie par la surface.  
+	 */
+	public static SColor phongSpecularReflexion(SColor Ls, SColor Ss, SVector3d N, SVector3d v, SVector3d d, double n)
+	{
+	  throw new SNoImplementationException("La méthode n'est pas implémentée.");
+	}
+	
+	/**
+	 * <p>Méthode qui effectue le calcul de la <u>réflexion spéculaire</u> selon le <b>modèle spéculaire de <i>Blinn</i></b> d'une source de lumière <b><i>L</i>s</b> sur une surface
+	 * dont la couleur réfléchie de façon spéculaire est <b><i>S</i>s</b></b>.</p> 
+	 * <p>La formule calculée est <ul><b><i>L</i>spe = <i>L</i>s*<i>S</i>s*(<i>N</i>dot<i>H</i>)^<i>n</i></b></ul></p>
+	 * <p>où <b><i>N</i></b> est l'orientation de la normale à la surface, <b><i>H</i></b> est l'orientation du vecteur bisecteur entre <b><i>E</i></b> et <b><i>L</i></b> et <b><i>n</i></b> est le niveau de brillance.</p>
+	 * 
+	 * @param Ls - La couleur spéculaire <b><i>L</i>s</b> de la source de lumière.
+	 * @param Ss - La couleur réfléchie de façon spéculaire <b><i>S</i>s</b> par la surface.
+	 * @param N - La normale <b><i>N</i></b> à la surface (unitaire).
+	 * @param v - L'orientation <b><i>v</i></b> du rayon  (unitaire).
+	 * @param d - L'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param n - Le niveau de brillance <b><i>n</i></b> (à quel point la surface est polie).
+	 * @return La couleur spéculaire <b><i>L</i>spe</b> de la lumière réfléchie par la surface.  
+	 */
+	public static SColor blinnSpecularReflexion(SColor Ls, SColor Ss, SVector3d N, SVector3d v, SVector3d d, double n)
+	{
+		double specular = blinnSpecularReflexion(N, v.getX(), v.getY(), v.getZ(), d.getX(), d.getY(), d.getZ(), n);
+		
+		if(specular == 0.0)
+			return NO_ILLUMINATION;
+		
+		return Ls.multiply(specular).multiply(Ss);
+	}
+	
+	/**
+	 * <p>Méthode qui évalue le facteur <b>(<i>N</i>dot<i>H</i>)^<i>n</i></b> de la <u>réflexion spéculaire</u> selon le <b>modèle spéculaire de <i>Blinn</i></b> 
+	 * sans construire de vecteur. Ce facteur est nul lorsque le vecteur bisecteur <b><i>H</i></b> est orienté vers l'arrière de la surface.</p>
+	 * <p>La réflexion spéculaire correspond à <b><i>L</i>spe = <i>L</i>s*<i>S</i>s*(<i>N</i>dot<i>H</i>)^<i>n</i></b>.</p>
+	 * 
+	 * @param N - La normale <b><i>N</i></b> à la surface (unitaire).
+	 * @param vx - La composante x de l'orientation <b><i>v</i></b> du rayon (unitaire).
+	 * @param vy - La composante y de l'orientation <b><i>v</i></b> du rayon (unitaire).
+	 * @param vz - La composante z de l'orientation <b><i>v</i></b> du rayon (unitaire).
+	 * @param dx - La composante x de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param dy - La composante y de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param dz - La composante z de l'orientation <b><i>d</i></b> de la source de lumière (unitaire).
+	 * @param n - Le niveau de brillance <b><i>n</i></b> (à quel point la surface est polie).
+	 * @return Le facteur <b>(<i>N</i>dot<i>H</i>)^<i>n</i></b> (positif ou nul).
+	 */
+	public static double blinnSpecularReflexion(SVector3d N, double vx, double vy, double vz, double dx, double dy, double dz, double n)
+	{
+		// Vecteur bisecteur H entre l'orientation vers l'oeil et l'orientation vers la source de lumière
+		double hx = -vx - dx;
+		double hy = -vy - dy;
+		double hz = -vz - dz;
+		
+		double inv_modulus = 1.0 / Math.sqrt(hx*hx + hy*hy + hz*hz);
+		
+		double N_dot_H = (N.getX()*hx + N.getY()*hy + N.getZ()*hz) * inv_modulus;
+		
+		if(N_dot_H < 0.0)
+			return 0.0;
+		
+		return Math.pow(N_dot_H, n);
+	}
+	
+	/**
+	 * Méthode pour évaluer la couleur d'une source de lumière après son passage au travers plusieurs matériaux transparents.
+	 * 
+	 * @param transparent_material_list - La liste des matériaux transparents traversés par la lumière.
+	 * @param light_color - La couleur de la source de lumière.
+	 * @return La couleur de la source de la lumière filtré par son passage au travers les matériaux transparents.
+	 */
+	public static SColor filteredTransparencyLight(List<SMaterial> transparent_material_list, SColor light_color)
+	{
+		SColor filtered_light = light_color;	//couleur de la lumière filtrée par la transparence des géométries traversées
+		
+		//Nous allons utiliser la couleur diffuse pour déterminer la couleur pouvant traverser un matériel.
+		//Les couleurs des matériaux vont jouer le rôle de filtre laissant passer uniquement la couleur du matériel
+		//et pondéré par leur niveau de transparence.
+		for(SMaterial m : transparent_material_list)
+			filtered_light = filtered_light.multiply(m.transparencyColor());
+		
+		
+		return filtered_light;
+	}
+	
+	/**
+	 * Méthode pour filtrer la couleur d'une source de lumière lors de son passage au travers d'un matériau transparent 
+	 * sans construire de couleur. La couleur accumulée est multipliée par la couleur de transparence du matériau.
+	 * 
+	 * @param material - Le matériau transparent traversé par la lumière.
+	 * @param filtered_light - L'accumulateur contenant la couleur de la source de lumière qui sera filtrée.
+	 */
+	public static void filteredTransparencyLight(SMaterial material, SColorAccumulator filtered_light)
+	{
+		filtered_light.multiply(material.transparencyColor());
+	}
+	
+}//fin de la classe SIllumination
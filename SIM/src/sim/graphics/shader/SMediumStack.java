@@ -0,0 +1,167 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import sim.geometry.SGeometry;
+
+/**
+ * <p>
+ * La classe <b>SMediumStack</b> représente la pile des milieux traversés par un rayon. Chaque entrée de la pile correspond
+ * à une géométrie fermée dans laquelle le rayon est entré ainsi qu'à l'indice de réfraction de son matériel.
+ * Le milieu courant du rayon est celui du dessus de la pile (le dernier milieu dans lequel le rayon est entré).
+ * Lorsque la pile est vide, le rayon se déplace dans le vide (n = 1.0).
+ * </p>
+ *
+ * <p>
+ * Une pile est <b>immuable</b>. L'entrée dans une géométrie ou la sortie d'une géométrie construit une nouvelle pile
+ * afin que les rayons réfléchis et réfractés d'un même point d'intersection puissent avoir chacun leur propre pile.
+ * La pile est de taille maximale fixe. Au-delà de cette taille, le milieu le plus ancien est oublié.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2016-04-14
+ * @version 2016-04-14
+ */
+public class SMediumStack {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>MAX_SIZE</b> correspond au nombre maximal de milieux imbriqués conservés dans la pile étant égal à {@value}.
+   */
+  public static final int MAX_SIZE = 8;
+
+  /**
+   * La constante <b>VACUUM_REFRACTIVE_INDEX</b> correspond à l'indice de réfraction du vide étant égal à {@value}.
+   */
+  public static final double VACUUM_REFRACTIVE_INDEX = 1.0;
+
+  /**
+   * La constante <b>EMPTY</b> correspond à la pile vide (rayon se déplaçant dans le vide).
+   */
+  public static final SMediumStack EMPTY = new SMediumStack(new SGeometry[0], new double[0]);
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>geometry_array</b> correspond aux géométries des milieux de la pile (du bas vers le dessus).
+   */
+  private final SGeometry[] geometry_array;
+
+  /**
+   * La variable <b>refractive_index_array</b> correspond aux indices de réfraction des milieux de la pile (du bas vers le dessus).
+   */
+  private final double[] refractive_index_array;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une pile de milieux.
+   *
+   * @param geometry_array - Les géométries des milieux.
+   * @param refractive_index_array - Les indices de réfraction des milieux.
+   */
+  private SMediumStack(SGeometry[] geometry_array, double[] refractive_index_array)
+  {
+    this.geometry_array = geometry_array;
+    this.refractive_index_array = refractive_index_array;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de milieux dans la pile.
+   *
+   * @return Le nombre de milieux.
+   */
+  public int size()
+  {
+    return geometry_array.length;
+  }
+
+  /**
+   * Méthode pour déterminer si la pile est vide.
+   *
+   * @return <b>true</b> si la pile est vide et <b>false</b> sinon.
+   */
+  public boolean isEmpty()
+  {
+    return geometry_array.length == 0;
+  }
+
+  /**
+   * Méthode pour obtenir l'indice de réfraction du milieu courant (le dessus de la pile).
+   *
+   * @return L'indice de réfraction du milieu courant ou l'indice du vide si la pile est vide.
+   */
+  public double getRefractiveIndex()
+  {
+    if(geometry_array.length == 0)
+      return VACUUM_REFRACTIVE_INDEX;
+    else
+      return refractive_index_array[refractive_index_array.length - 1];
+  }
+
+  /**
+   * Méthode pour obtenir la pile des milieux après l'entrée d'un rayon dans une géométrie.
+   *
+   * @param geometry - La géométrie dans laquelle le rayon est entré.
+   * @param refractive_index - L'indice de réfraction du matériel de la géométrie.
+   * @return La nouvelle pile des milieux.
+   */
+  public SMediumStack enter(SGeometry geometry, double refractive_index)
+  {
+    // Oublier le milieu le plus ancien si la pile est pleine
+    int first = geometry_array.length < MAX_SIZE ? 0 : geometry_array.length - MAX_SIZE + 1;
+    int size = geometry_array.length - first;
+
+    SGeometry[] new_geometry_array = new SGeometry[size + 1];
+    double[] new_refractive_index_array = new double[size + 1];
+
+    System.arraycopy(geometry_array, first, new_geometry_array, 0, size);
+    System.arraycopy(refractive_index_array, first, new_refractive_index_array, 0, size);
+
+    new_geometry_array[size] = geometry;
+    new_refractive_index_array[size] = refractive_index;
+
+    return new SMediumStack(new_geometry_array, new_refractive_index_array);
+  }
+
+  /**
+   * Méthode pour obtenir la pile des milieux après la sortie d'un rayon d'une géométrie.
+   * Le milieu de la géométrie le plus près du dessus de la pile est retiré même s'il n'est pas sur le dessus de la pile (géométries se chevauchant).
+   * La pile est inchangée si la géométrie n'est pas dans la pile.
+   *
+   * @param geometry - La géométrie de laquelle le rayon est sorti.
+   * @return La nouvelle pile des milieux.
+   */
+  public SMediumStack exit(SGeometry geometry)
+  {
+    for(int i = geometry_array.length - 1; i >= 0; i--)
+      if(geometry_array[i].equals(geometry))
+      {
+        SGeometry[] new_geometry_array = new SGeometry[geometry_array.length - 1];
+        double[] new_refractive_index_array = new double[geometry_array.length - 1];
+
+        System.arraycopy(geometry_array, 0, new_geometry_array, 0, i);
+        System.arraycopy(refractive_index_array, 0, new_refractive_index_array, 0, i);
+
+        System.arraycopy(geometry_array, i + 1, new_geometry_array, i, geometry_array.length - i - 1);
+        System.arraycopy(refractive_index_array, i + 1, new_refractive_index_array, i, geometry_array.length - i - 1);
+
+        return new SMediumStack(new_geometry_array, new_refractive_index_array);
+      }
+
+    return this;
+  }
+
+}//fin de la classe SMediumStack
@@ -0,0 +1,338 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import java.util.Arrays;
+
+import sim.geometry.SRay;
+import sim.graphics.SColor;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SRayBatch</b> représente un lot de rayons à lancer par un <b>SWavefrontShader</b>. L'état des rayons est conservé
+ * sous forme de tableaux parallèles (<i>structure of arrays</i>) : chaque propriété des rayons est un tableau de valeurs primitives
+ * indexé par le numéro du rayon dans le lot. Les étapes du shader parcourent ainsi des données contiguës plutôt qu'une liste d'objets.
+ * </p>
+ * <p>
+ * Chaque rayon est associé à un <b>échantillon</b> correspondant à l'index de la couleur à laquelle sa contribution est ajoutée.
+ * Les rayons récursifs héritent de l'échantillon du rayon primaire.
+ * </p>
+ * <p>
+ * Un lot n'est pas <i>thread-safe</i>.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-12
+ * @version 2017-02-12
+ */
+public class SRayBatch {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>DEFAULT_CAPACITY</b> correspond à la capacité initiale par défaut d'un lot étant égale à {@value}.
+   */
+  private static final int DEFAULT_CAPACITY = 256;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>size</b> correspond au nombre de rayons du lot.
+   */
+  private int size;
+
+  /**
+   * Les variables <b>origin_x</b>, <b>origin_y</b> et <b>origin_z</b> correspondent aux composantes de l'origine des rayons.
+   */
+  private double[] origin_x;
+  private double[] origin_y;
+  private double[] origin_z;
+
+  /**
+   * Les variables <b>direction_x</b>, <b>direction_y</b> et <b>direction_z</b> correspondent aux composantes de la direction des rayons.
+   */
+  private double[] direction_x;
+  private double[] direction_y;
+  private double[] direction_z;
+
+  /**
+   * La variable <b>refractive_index</b> correspond à l'indice de réfraction du milieu où voyagent les rayons.
+   */
+  private double[] refractive_index;
+
+  /**
+   * Les variables <b>throughput_r</b>, <b>throughput_g</b> et <b>throughput_b</b> correspondent au facteur de pondération accumulé des rayons.
+   */
+  private double[] throughput_r;
+  private double[] throughput_g;
+  private double[] throughput_b;
+
+  /**
+   * La variable <b>sample</b> correspond à l'index de l'échantillon auquel la contribution des rayons est ajoutée.
+   */
+  private int[] sample;
+
+  /**
+   * La variable <b>depth</b> correspond au niveau de récursivité des rayons (1 pour un rayon primaire).
+   */
+  private int[] depth;
+
+  /**
+   * La variable <b>medium_stack</b> correspond à la pile des milieux dans lesquels l'origine des rayons est située.
+   */
+  private SMediumStack[] medium_stack;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un lot de rayons vide.
+   */
+  public SRayBatch()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructeur d'un lot de rayons vide avec une capacité initiale.
+   *
+   * @param capacity La capacité initiale.
+   */
+  public SRayBatch(int capacity)
+  {
+    capacity = Math.max(1, capacity);
+
+    origin_x = new double[capacity];
+    origin_y = new double[capacity];
+    origin_z = new double[capacity];
+
+    direction_x = new double[capacity];
+    direction_y = new double[capacity];
+    direction_z = new double[capacity];
+
+    refractive_index = new double[capacity];
+
+    throughput_r = new double[capacity];
+    throughput_g = new double[capacity];
+    throughput_b = new double[capacity];
+
+    sample = new int[capacity];
+    depth = new int[capacity];
+    medium_stack = new SMediumStack[capacity];
+
+    size = 0;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de rayons du lot.
+   *
+   * @return Le nombre de rayons.
+   */
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * Méthode pour déterminer si le lot est vide.
+   *
+   * @return <b>true</b> si le lot est vide et <b>false</b> sinon.
+   */
+  public boolean isEmpty()
+  {
+    return size == 0;
+  }
+
+  /**
+   * Méthode pour vider le lot. La capacité du lot est conservée.
+   */
+  public void clear()
+  {
+    // Libérer les piles des milieux
+    Arrays.fill(medium_stack, 0, size, null);
+
+    size = 0;
+  }
+
+  /**
+   * Méthode pour ajouter un rayon primaire (sans pondération) au lot.
+   *
+   * @param origin L'origine du rayon.
+   * @param direction La direction du rayon.
+   * @param stack La pile des milieux de l'origine du rayon.
+   * @param sample L'index de l'échantillon du rayon.
+   */
+  public void addPrimaryRay(SVector3d origin, SVector3d direction, SMediumStack stack, int sample)
+  {
+    add(origin, direction, stack.getRefractiveIndex(), 1.0, 1.0, 1.0, sample, 1, stack);
+  }
+
+  /**
+   * Méthode pour ajouter au lot le rayon d'un noeud de l'arbre des rayons.
+   *
+   * @param node Le noeud de l'arbre des rayons.
+   * @param sample L'index de l'échantillon du rayon.
+   */
+  public void add(SRayTreeNode node, int sample)
+  {
+    SRay ray = node.getRay();
+    SColor throughput = node.getThroughput();
+
+    add(ray.getOrigin(), ray.getDirection(), ray.getRefractiveIndex(), throughput.getRed(), throughput.getGreen(), throughput.getBlue(), sample, node.getDepth(), node.getMediumStack());
+  }
+
+  /**
+   * Méthode pour ajouter un rayon au lot.
+   *
+   * @param origin L'origine du rayon.
+   * @param direction La direction du rayon.
+   * @param n L'indice de réfraction du milieu du rayon.
+   * @param r Le facteur de pondération du canal rouge.
+   * @param g Le facteur de pondération du canal vert.
+   * @param b Le facteur de pondération du canal bleu.
+   * @param sample L'index de l'échantillon du rayon.
+   * @param depth Le niveau de récursivité du rayon.
+   * @param stack La pile des milieux de l'origine du rayon.
+   */
+  private void add(SVector3d origin, SVector3d direction, double n, double r, double g, double b, int sample, int depth, SMediumStack stack)
+  {
+    if(size == origin_x.length)
+      grow();
+
+    origin_x[size] = origin.getX();
+    origin_y[size] = origin.getY();
+    origin_z[size] = origin.getZ();
+
+    direction_x[size] = direction.getX();
+    direction_y[size] = direction.getY();
+    direction_z[size] = direction.getZ();
+
+    refractive_index[size] = n;
+
+    throughput_r[size] = r;
+    throughput_g[size] = g;
+    throughput_b[size] = b;
+
+    this.sample[size] = sample;
+    this.depth[size] = depth;
+    medium_stack[size] = stack;
+
+    size++;
+  }
+
+  /**
+   * Méthode pour construire le rayon (non intersecté) d'index i du lot.
+   *
+   * @param i L'index du rayon.
+   * @return Le rayon.
+   */
+  public SRay getRay(int i)
+  {
+    return new SRay(new SVector3d(origin_x[i], origin_y[i], origin_z[i]), new SVector3d(direction_x[i], direction_y[i], direction_z[i]), refractive_index[i]);
+  }
+
+  /**
+   * Méthode pour construire le noeud de l'arbre des rayons d'un rayon du lot ayant réalisé une intersection.
+   *
+   * @param i L'index du rayon.
+   * @param intersected_ray Le rayon intersecté.
+   * @return Le noeud de l'arbre des rayons.
+   */
+  public SRayTreeNode getNode(int i, SRay intersected_ray)
+  {
+    return new SRayTreeNode(intersected_ray, new SColor(throughput_r[i], throughput_g[i], throughput_b[i]), depth[i], medium_stack[i]);
+  }
+
+  /**
+   * Méthode pour obtenir le facteur de pondération du canal rouge d'un rayon.
+   *
+   * @param i L'index du rayon.
+   * @return Le facteur de pondération.
+   */
+  public double getThroughputRed(int i)
+  {
+    return throughput_r[i];
+  }
+
+  /**
+   * Méthode pour obtenir le facteur de pondération du canal vert d'un rayon.
+   *
+   * @param i L'index du rayon.
+   * @return Le facteur de pondération.
+   */
+  public double getThroughputGreen(int i)
+  {
+    return throughput_g[i];
+  }
+
+  /**
+   * Méthode pour obtenir le facteur de pondération du canal bleu d'un rayon.
+   *
+   * @param i L'index du rayon.
+   * @return Le facteur de pondération.
+   */
+  public double getThroughputBlue(int i)
+  {
+    return throughput_b[i];
+  }
+
+  /**
+   * Méthode pour obtenir l'index de l'échantillon d'un rayon.
+   *
+   * @param i L'index du rayon.
+   * @return L'index de l'échantillon.
+   */
+  public int getSample(int i)
+  {
+    return sample[i];
+  }
+
+  /**
+   * Méthode pour obtenir le niveau de récursivité d'un rayon.
+   *
+   * @param i L'index du rayon.
+   * @return Le niveau de récursivité.
+   */
+  public int getDepth(int i)
+  {
+    return depth[i];
+  }
+
+  /**
+   * Méthode pour doubler la capacité du lot.
+   */
+  private void grow()
+  {
+    int capacity = 2*origin_x.length;
+
+    origin_x = Arrays.copyOf(origin_x, capacity);
+    origin_y = Arrays.copyOf(origin_y, capacity);
+    origin_z = Arrays.copyOf(origin_z, capacity);
+
+    direction_x = Arrays.copyOf(direction_x, capacity);
+    direction_y = Arrays.copyOf(direction_y, capacity);
+    direction_z = Arrays.copyOf(direction_z, capacity);
+
+    refractive_index = Arrays.copyOf(refractive_index, capacity);
+
+    throughput_r = Arrays.copyOf(throughput_r, capacity);
+    throughput_g = Arrays.copyOf(throughput_g, capacity);
+    throughput_b = Arrays.copyOf(throughput_b, capacity);
+
+    sample = Arrays.copyOf(sample, capacity);
+    depth = Arrays.copyOf(depth, capacity);
+    medium_stack = Arrays.copyOf(medium_stack, capacity);
+  }
+
+}//fin de la classe SRayBatch
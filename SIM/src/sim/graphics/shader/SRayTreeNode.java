@@ -0,0 +1,120 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import sim.geometry.SRay;
+import sim.graphics.SColor;
+
+/**
+ * La classe <b>SRayTreeNode</b> représente un noeud de l'arbre des rayons évalué par un <b>SRecursiveShader</b>.
+ * Le noeud comprend le rayon à lancer, sa contribution accumulée (<i>throughput</i>) à la couleur du pixel
+ * ainsi que son niveau de récursivité.
+ *
+ * @author Simon Vézina
+ * @since 2016-04-12
+ * @version 2016-04-12
+ */
+public class SRayTreeNode {
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>ray</b> correspond au rayon à lancer (non intersecté).
+   */
+  private final SRay ray;
+
+  /**
+   * La variable <b>throughput</b> correspond au facteur de pondération accumulé par chaque canal de couleur
+   * depuis le rayon primaire. La couleur évaluée par le rayon sera multipliée par ce facteur.
+   */
+  private final SColor throughput;
+
+  /**
+   * La variable <b>depth</b> correspond au niveau de récursivité du rayon (1 pour le rayon primaire).
+   */
+  private final int depth;
+
+  /**
+   * La variable <b>medium_stack</b> correspond à la pile des milieux dans lesquels l'origine du rayon est située.
+   */
+  private final SMediumStack medium_stack;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un noeud de l'arbre des rayons.
+   *
+   * @param ray - Le rayon à lancer.
+   * @param throughput - Le facteur de pondération accumulé.
+   * @param depth - Le niveau de récursivité du rayon.
+   * @param medium_stack - La pile des milieux du rayon.
+   */
+  public SRayTreeNode(SRay ray, SColor throughput, int depth, SMediumStack medium_stack)
+  {
+    this.ray = ray;
+    this.throughput = throughput;
+    this.depth = depth;
+    this.medium_stack = medium_stack;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le rayon à lancer.
+   *
+   * @return Le rayon.
+   */
+  public SRay getRay()
+  {
+    return ray;
+  }
+
+  /**
+   * Méthode pour obtenir le facteur de pondération accumulé.
+   *
+   * @return Le facteur de pondération.
+   */
+  public SColor getThroughput()
+  {
+    return throughput;
+  }
+
+  /**
+   * Méthode pour obtenir le niveau de récursivité du rayon.
+   *
+   * @return Le niveau de récursivité.
+   */
+  public int getDepth()
+  {
+    return depth;
+  }
+
+  /**
+   * Méthode pour obtenir la pile des milieux dans lesquels l'origine du rayon est située.
+   *
+   * @return La pile des milieux.
+   */
+  public SMediumStack getMediumStack()
+  {
+    return medium_stack;
+  }
+
+  /**
+   * Méthode pour obtenir la contribution maximale du rayon à la couleur du pixel
+   * correspondant au plus grand canal du facteur de pondération accumulé.
+   *
+   * @return La contribution maximale.
+   */
+  public double getContribution()
+  {
+    return Math.max(throughput.getRed(), Math.max(throughput.getGreen(), throughput.getBlue()));
+  }
+
+}//fin de la classe SRayTreeNode
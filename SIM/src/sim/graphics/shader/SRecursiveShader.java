@@ -1,200 +1,341 @@
-/**
- * 
- */
-package sim.graphics.shader;
-
-import java.util.List;
-
-import sim.exception.SConstructorException;
-import sim.exception.SRuntimeException;
-import sim.geometry.SRay;
-import sim.geometry.space.SGeometrySpace;
-import sim.graphics.SColor;
-import sim.graphics.light.SLight;
-import sim.graphics.material.SMaterial;
-import sim.math.SVector3d;
-import sim.physics.SGeometricalOptics;
-
-/**
- * La classe <b>SRecursiveShader</b> reprsente un shader avec lanc de rayon rcursif.
- * 
- * @author Simon Vzina
- * @since 2015-02-03
- * @version 2017-06-04
- */
-public class SRecursiveShader extends SPhongReflexionShader {
-
-  //--------------
-  // CONSTANTES //
-  //--------------
-  
-  /**
-   * La constante <b>MINIMAL_MAX_DEPT</b> correspond au niveau de rcursivit minimale tant gal  {@value}.
-   */
-	private static final int MINIMAL_MAX_DEPT = 1; 
-	
-	//-------------
-	// VARIABLES //
-	//-------------
-	
-	/**
-	 * La variable <b>max_dept</b> correspond au niveau de rcursivit qui sera utilis lors des calculs d'illuminations.
-	 */
-  private final int max_dept;	
-	
-  //----------------
-  // CONSTRUCTEUR //
-  //----------------
-  
-	/**
-	 * Constructeur d'un shader avec lanc de rayon rcursif.
-	 * 
-	 * @param geometry_space L'espace des gomtries.
-	 * @param t_max Le temps de dplacement maximal d'un rayon.
-	 * @param light_list La liste des sources de lumires.
-	 * @param reflexion_algo Le type d'algorithme pour raliser le calcul de la rflexion.
-	 * @param max_dept - Le niveau de rayon rcursif.
-	 * @throws SConstructorException Si le niveau de rcursivit des rayons est infrieur au seuil minimal (habituellement 1).
-   */
-	public SRecursiveShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo, int max_dept)throws SConstructorException 
-	{
-		super(geometry_space, t_max, light_list, reflexion_algo);
-		
-		if(max_dept < MINIMAL_MAX_DEPT)
-      throw new SConstructorException("Erreur SRecursiveShader 002 : Le niveau '" + max_dept + "' de rcursivit des rayons doit tre suprieur  '" + MINIMAL_MAX_DEPT + "'.");
-    
-		this.max_dept = max_dept;
-	}
-
-	//------------
-	// MTHODES //
-	//------------
-	
-	@Override
-	public SColor shade(SRay ray) throws SRuntimeException 
-	{
-		if(ray.asIntersected())
-			throw new SRuntimeException("Erreur SRecursiveShader 003 : Le rayon a dj intersect une gomtrie pralablement.");
-		    
-		//Lancer un rayon de niveau de rcursivit 1
-		return recursiveShade(ray, 1);
-	}
-
-	/**
-	 * Mthode qui effectue l'illumination d'un rayon rcursivement.
-	 * 
-	 * @param ray Le rayon  illuminer.
-	 * @param depth Le niveau de rcursivit du rayon.
-	 * @return La couleur associe  l'illumination du rayon rcursif.
-	 */
-	private SColor recursiveShade(SRay ray, int depth)
-	{
-		// Si le niveau de rayon rcursif est trop profond, tout arrter et retourner la couleur noire
-		if(depth > max_dept)
-			return SIllumination.NO_ILLUMINATION;
-		
-		// Effectuer l'intersection avec l'espace des gomtries
-		ray = geometry_space.nearestIntersection(ray, t_max);
-			
-		// S'il n'y a pas d'intersection, la couleur affecte sera noire
-		if(!ray.asIntersected())
-			return SIllumination.NO_ILLUMINATION;
-		
-		// Obtenir le matriel de la primitive
-    SMaterial material = ray.getGeometry().getPrimitiveParent().getMaterial(); 
-    
-		// Vrifier s'il y a un algorithme d'illumination (pas en mode no_light)
-    if(reflexion_algo == NO_LIGHT)
-      if(ray.asUV())
-       return material.diffuseColor(ray.getUV()); 
-     else
-       return material.diffuseColor();  
-   
-		// Constribution de l'illumination directe
-		SColor color = directIllumination(ray, material);
-			
-		// Contribution de l'illumination indirecte (avec rcursivit potentielle)
-		color = color.add(indirectIllumination(ray, material, depth));
-			
-		return color;
-	}
-	
-	/**
-	 * Mthode permettant d'valuer la couleur attribue  un rayon par illumination indirecte.
-	 * @param ray Le rayon ayant ralis une intersection avec une gomtrie de l'espace des gomtries.
-	 * @param material Le matriel appliqu sur la gomtrie intersect par le rayon.
-	 * @param depth Le niveau de rcursivit du rayon.
-	 * @return La couleur de l'illumination indirecte.
-	 */
-	protected SColor indirectIllumination(SRay ray, SMaterial material, int depth)
-	{
-	  // La somme des couleurs par rflexion et rfraction
-	  SColor color = SIllumination.NO_ILLUMINATION;
-	  
-	  //-----------------------------------------------
-    //  Illumination indirecte : Loi de la rflexion  
-    //-----------------------------------------------
-    if(material.isReflective())
-    {
-      // valuer la nouvelle orientation du rayon selon la loi de la rflexion.
-      SVector3d R = SGeometricalOptics.reflexion(ray.getDirection(), ray.getShadingNormal());
-    
-      // Rayon de rflexion, sans changement de milieu (indice de rfraction du rayon intersect)
-      SRay reflexion_ray = ray.castRecursiveRay(R, ray.getRefractiveIndex());
-            
-      // Ajouter la luminosit rflexive  la somme des couleurs en augmentant le niveau de 1
-      color = color.add(recursiveShade(reflexion_ray, depth+1).multiply(material.reflectivity()));
-    }
-      
-    //------------------------------------------------
-    //  Illumination indirecte : Loi de la rfraction
-    //------------------------------------------------
-    if(material.isTransparent())
-    {
-      // Rfraction uniquement si la gomtrie intersecte est une gomtrie ferme (pas une surface)
-      if(ray.getGeometry().isClosedGeometry())
-      {
-        // Indice de rfraction  dterminer (n1 = incident, n2 = rfract)
-        double n1 = ray.getRefractiveIndex();
-          
-        //Pour dterminer n2, il y a deux scnarios  considrer :
-        //1) L'intersection vient de l'extrieur, donc n2 sera l'indice interne de la gomtrie intersecte.
-        //2) L'intersection vient de l'intrieur, donc on utilise le shader pour dterminer l'indice  l'extrieur de la gomtrie intersecte de l'intrieur.
-          double n2;
-          
-          boolean from_outside;
-          
-          if(!ray.isInsideIntersection())                                  //de l'extrieur
-          {
-            n2 = material.refractiveIndex();
-            from_outside = true;
-          }
-          else                                                             //de l'intrieur
-          {
-            n2 = evaluateRefractiveIndex(ray.getIntersectionPosition());
-            from_outside = false;
-          }
-          
-          // Vrifier qu'il n'y a pas rflexion totale interne
-          if(!SGeometricalOptics.isTotalInternalReflection(ray.getDirection(), ray.getShadingNormal(), n1, n2))
-          {
-            // valuer l'orientation du rayon selon la loi de la rfraction.
-            SVector3d T = SGeometricalOptics.refraction(ray.getDirection(), ray.getShadingNormal(), n1, n2);
-          
-            // Rayon de rfraction avec changement de milieu (indice de rfraction n2)
-            SRay refraction_ray = ray.castRecursiveRay(T, n2);
-            
-            // Ajouter la luminosit rfractive  la somme des couleurs en augmentant le niveau de 1
-            // Venant de l'extrieur, nous allons appliquer un filtrage  la couleur
-            if(from_outside)
-              color = color.add(recursiveShade(refraction_ray, depth+1).multiply(material.transparencyColor()));  // couleur avec filtrage
-            else  
-              color = color.add(recursiveShade(refraction_ray, depth+1).multiply(material.transparency()));       // couleur dj filtre
-          }
-        }
-      }
-    
-    return color;
-	}
-	
-}//fin classe SRecursiveShader
+/**
+ * 
+ */
+package sim.graphics.shader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.geometry.SRay;
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.SColor;
+import sim.graphics.light.SLight;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+import sim.physics.SGeometricalOptics;
+
+/**
+ * La classe <b>SRecursiveShader</b> représente un shader avec lancé de rayon récursif.
+ * 
+ * @author Simon Vézina
+ * @since 2015-02-03
+ * @version 2017-06-04
+ */
+public class SRecursiveShader extends SPhongReflexionShader {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+  
+  /**
+   * La constante <b>MINIMAL_MAX_DEPT</b> correspond au niveau de récursivité minimale étant égal à {@value}.
+   */
+	private static final int MINIMAL_MAX_DEPT = 1; 
+	
+	/**
+	 * La constante <b>DEFAULT_CONTRIBUTION_THRESHOLD</b> correspond au seuil de contribution par défaut en dessous duquel un rayon récursif
+	 * ne sera pas lancé étant égal à {@value}. Avec une valeur nulle, l'arbre des rayons est évalué au complet.
+	 */
+	public static final double DEFAULT_CONTRIBUTION_THRESHOLD = 0.0;
+	
+	/**
+	 * La constante <b>RUSSIAN_ROULETTE_MIN_DEPT</b> correspond au niveau de récursivité à partir duquel la roulette russe 
+	 * peut mettre fin à un rayon étant égal à {@value}.
+	 */
+	private static final int RUSSIAN_ROULETTE_MIN_DEPT = 3;
+	
+	/**
+	 * La constante <b>NO_ATTENUATION</b> correspond au facteur de pondération du rayon primaire.
+	 */
+	private static final SColor NO_ATTENUATION = new SColor(1.0, 1.0, 1.0);
+	
+	//-------------
+	// VARIABLES //
+	//-------------
+	
+	/**
+	 * La variable <b>max_dept</b> correspond au niveau de récursivité qui sera utilisé lors des calculs d'illuminations.
+	 */
+  private final int max_dept;	
+  
+  /**
+   * La variable <b>contribution_threshold</b> correspond au seuil de contribution (plus grand canal du facteur de pondération accumulé) 
+   * en dessous duquel un rayon récursif ne sera pas lancé.
+   */
+  private final double contribution_threshold;
+  
+  /**
+   * La variable <b>russian_roulette</b> détermine si la roulette russe est appliquée aux rayons récursifs profonds. 
+   * Un rayon survit avec une probabilité égale à sa contribution et sa pondération est alors divisée par cette probabilité (estimation sans biais).
+   */
+  private final boolean russian_roulette;
+	
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+  
+	/**
+	 * Constructeur d'un shader avec lancé de rayon récursif.
+	 * 
+	 * @param geometry_space L'espace des géométries.
+	 * @param t_max Le temps de déplacement maximal d'un rayon.
+	 * @param light_list La liste des sources de lumières.
+	 * @param reflexion_algo Le type d'algorithme pour réaliser le calcul de la réflexion.
+	 * @param max_dept - Le niveau de rayon récursif.
+	 * @throws SConstructorException Si le niveau de récursivité des rayons est inférieur au seuil minimal (habituellement 1).
+   */
+	public SRecursiveShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo, int max_dept)throws SConstructorException 
+	{
+		this(geometry_space, t_max, light_list, reflexion_algo, max_dept, DEFAULT_CONTRIBUTION_THRESHOLD, false);
+	}
+	
+	/**
+	 * Constructeur d'un shader avec lancé de rayon récursif où les rayons de faible contribution ne sont pas lancés.
+	 * 
+	 * @param geometry_space L'espace des géométries.
+	 * @param t_max Le temps de déplacement maximal d'un rayon.
+	 * @param light_list La liste des sources de lumières.
+	 * @param reflexion_algo Le type d'algorithme pour réaliser le calcul de la réflexion.
+	 * @param max_dept - Le niveau de rayon récursif.
+	 * @param contribution_threshold - Le seuil de contribution en dessous duquel un rayon récursif ne sera pas lancé.
+	 * @param russian_roulette - Détermine si la roulette russe est appliquée aux rayons récursifs profonds.
+	 * @throws SConstructorException Si le niveau de récursivité des rayons est inférieur au seuil minimal (habituellement 1).
+	 * @throws SConstructorException Si le seuil de contribution est négatif.
+   */
+	public SRecursiveShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo, int max_dept, double contribution_threshold, boolean russian_roulette)throws SConstructorException 
+	{
+		super(geometry_space, t_max, light_list, reflexion_algo);
+		
+		if(max_dept < MINIMAL_MAX_DEPT)
+      throw new SConstructorException("Erreur SRecursiveShader 002 : Le niveau '" + max_dept + "' de récursivité des rayons doit être supérieur à '" + MINIMAL_MAX_DEPT + "'.");
+    
+		if(contribution_threshold < 0.0)
+		  throw new SConstructorException("Erreur SRecursiveShader 004 : Le seuil de contribution '" + contribution_threshold + "' doit être positif.");
+		
+		this.max_dept = max_dept;
+		this.contribution_threshold = contribution_threshold;
+		this.russian_roulette = russian_roulette;
+	}
+
+	//------------
+	// MÉTHODES //
+	//------------
+	
+	@Override
+	public SColor shade(SRay ray) throws SRuntimeException 
+	{
+		if(ray.asIntersected())
+			throw new SRuntimeException("Erreur SRecursiveShader 003 : Le rayon a déjà intersecté une géométrie préalablement.");
+		
+		return shade(ray, evaluateMediumStack(ray.getOrigin()));
+	}
+	
+	@Override
+	public SColor shade(SRay ray, SMediumStack medium_stack) throws SRuntimeException 
+	{
+		if(ray.asIntersected())
+			throw new SRuntimeException("Erreur SRecursiveShader 005 : Le rayon a déjà intersecté une géométrie préalablement.");
+		    
+		// Sans algorithme d'illumination (mode no_light), il n'y a pas de rayon récursif
+		if(reflexion_algo == NO_LIGHT)
+		  return noLightShade(ray);
+		
+		//Évaluer l'arbre des rayons à partir du rayon de niveau de récursivité 1
+		return iterativeShade(ray, medium_stack);
+	}
+
+	/**
+	 * Méthode qui effectue l'illumination d'un rayon sans algorithme d'illumination (mode no_light). La couleur diffuse du matériel intersecté est retournée.
+	 * 
+	 * @param ray Le rayon à illuminer.
+	 * @return La couleur diffuse du matériel intersecté.
+	 */
+	private SColor noLightShade(SRay ray)
+	{
+	  ray = geometry_space.nearestIntersection(ray, t_max);
+	  
+	  if(!ray.asIntersected())
+      return SIllumination.NO_ILLUMINATION;
+	  
+	  SMaterial material = ray.getGeometry().getPrimitiveParent().getMaterial(); 
+	  
+	  if(ray.asUV())
+      return material.diffuseColor(ray.getUV()); 
+    else
+      return material.diffuseColor();
+	}
+	
+	/**
+	 * Méthode qui effectue l'illumination d'un rayon par l'évaluation itérative de son arbre de rayons récursifs.
+	 * Les rayons à lancer sont placés dans une pile avec leur facteur de pondération accumulé. 
+	 * La couleur de l'illumination directe de chaque rayon est ainsi pondérée et ajoutée directement à la couleur du pixel.
+	 * 
+	 * @param ray Le rayon primaire à illuminer.
+	 * @param medium_stack La pile des milieux du rayon primaire.
+	 * @return La couleur associée à l'illumination du rayon et de ses rayons récursifs.
+	 */
+	private SColor iterativeShade(SRay ray, SMediumStack medium_stack)
+	{
+	  // Somme de la couleur du pixel et illumination directe de chaque rayon (sans couleur intermédiaire)
+	  SColorAccumulator color = new SColorAccumulator();
+	  SColorAccumulator illumination = getIlluminationBuffer();
+	  
+	  Deque<SRayTreeNode> stack = new ArrayDeque<SRayTreeNode>();
+	  stack.push(new SRayTreeNode(ray, NO_ATTENUATION, 1, medium_stack));
+	  
+	  while(!stack.isEmpty())
+	  {
+	    SRayTreeNode node = stack.pop();
+	    
+	    // Effectuer l'intersection avec l'espace des géométries
+	    SRay intersected_ray = geometry_space.nearestIntersection(node.getRay(), t_max);
+	    
+	    // S'il n'y a pas d'intersection, il n'y a pas de contribution
+	    if(!intersected_ray.asIntersected())
+	      continue;
+	    
+	    // Obtenir le matériel de la primitive
+	    SMaterial material = intersected_ray.getGeometry().getPrimitiveParent().getMaterial(); 
+	    
+	    // Contribution de l'illumination directe
+	    directIllumination(intersected_ray, material, illumination);
+	    color.addMultiplied(illumination, node.getThroughput());
+	    
+	    // Contribution de l'illumination indirecte (si le niveau de récursivité maximal n'est pas atteint)
+	    if(node.getDepth() < max_dept)
+	      emitIndirectRay(node, intersected_ray, material, stack::push);
+	  }
+	  
+	  return color.toColor();
+	}
+	
+	/**
+	 * Méthode pour obtenir le niveau de récursivité maximal des rayons.
+	 * 
+	 * @return Le niveau de récursivité maximal.
+	 */
+	public int getMaxDept()
+	{
+	  return max_dept;
+	}
+	
+	/**
+	 * Méthode permettant de transmettre les rayons de l'illumination indirecte (réflexion et réfraction)
+	 * d'un rayon ayant réalisé une intersection. Le rayon de réflexion est transmis avant le rayon de réfraction.
+	 * 
+	 * @param node Le noeud de l'arbre des rayons du rayon intersecté.
+	 * @param ray Le rayon ayant réalisé une intersection avec une géométrie de l'espace des géométries.
+	 * @param material Le matériel appliqué sur la géométrie intersecté par le rayon.
+	 * @param sink La destination des rayons à lancer (ex : la pile des rayons).
+	 */
+	protected void emitIndirectRay(SRayTreeNode node, SRay ray, SMaterial material, Consumer<SRayTreeNode> sink)
+	{
+	  //-----------------------------------------------
+    //  Illumination indirecte : Loi de la réflexion  
+    //-----------------------------------------------
+    if(material.isReflective())
+    {
+      SColor throughput = node.getThroughput().multiply(material.reflectivity());
+      
+      if(isContributing(throughput))
+      {
+        // Évaluer la nouvelle orientation du rayon selon la loi de la réflexion.
+        SVector3d R = SGeometricalOptics.reflexion(ray.getDirection(), ray.getShadingNormal());
+      
+        // Rayon de réflexion, sans changement de milieu (indice de réfraction du rayon intersecté)
+        SRay reflexion_ray = ray.castRecursiveRay(R, ray.getRefractiveIndex());
+        
+        emitRay(sink, new SRayTreeNode(reflexion_ray, throughput, node.getDepth()+1, node.getMediumStack()));
+      }
+    }
+      
+    //------------------------------------------------
+    //  Illumination indirecte : Loi de la réfraction
+    //------------------------------------------------
+    if(material.isTransparent())
+    {
+      // Réfraction uniquement si la géométrie intersectée est une géométrie fermée (pas une surface)
+      if(ray.getGeometry().isClosedGeometry())
+      {
+        // Venant de l'extérieur, nous allons appliquer un filtrage à la couleur
+        boolean from_outside = !ray.isInsideIntersection();
+        
+        SColor throughput;
+        
+        if(from_outside)
+          throughput = node.getThroughput().multiply(material.transparencyColor());   // couleur avec filtrage
+        else
+          throughput = node.getThroughput().multiply(material.transparency());        // couleur déjà filtrée
+        
+        if(isContributing(throughput))
+        {
+          // Indice de réfraction à déterminer (n1 = incident, n2 = réfracté)
+          double n1 = ray.getRefractiveIndex();
+            
+          //Pour déterminer n2, il y a deux scénarios à considérer :
+          //1) L'intersection vient de l'extérieur, donc n2 sera l'indice interne de la géométrie intersectée qui est ajoutée à la pile des milieux.
+          //2) L'intersection vient de l'intérieur, donc la géométrie est retirée de la pile des milieux et n2 sera l'indice du milieu restant sur le dessus de la pile.
+          SMediumStack refraction_medium_stack;
+          
+          if(from_outside)
+            refraction_medium_stack = node.getMediumStack().enter(ray.getGeometry(), material.refractiveIndex());
+          else
+            refraction_medium_stack = node.getMediumStack().exit(ray.getGeometry());
+          
+          double n2 = refraction_medium_stack.getRefractiveIndex();
+          
+          // Vérifier qu'il n'y a pas réflexion totale interne
+          if(!SGeometricalOptics.isTotalInternalReflection(ray.getDirection(), ray.getShadingNormal(), n1, n2))
+          {
+            // Évaluer l'orientation du rayon selon la loi de la réfraction.
+            SVector3d T = SGeometricalOptics.refraction(ray.getDirection(), ray.getShadingNormal(), n1, n2);
+          
+            // Rayon de réfraction avec changement de milieu (indice de réfraction n2)
+            SRay refraction_ray = ray.castRecursiveRay(T, n2);
+            
+            emitRay(sink, new SRayTreeNode(refraction_ray, throughput, node.getDepth()+1, refraction_medium_stack));
+          }
+        }
+      }
+    }
+	}
+	
+	/**
+	 * Méthode pour déterminer si un facteur de pondération accumulé est suffisant pour lancer un rayon récursif.
+	 * 
+	 * @param throughput Le facteur de pondération accumulé.
+	 * @return <b>true</b> si le rayon doit être lancé et <b>false</b> sinon.
+	 */
+	private boolean isContributing(SColor throughput)
+	{
+	  return Math.max(throughput.getRed(), Math.max(throughput.getGreen(), throughput.getBlue())) > contribution_threshold;
+	}
+	
+	/**
+	 * Méthode pour transmettre un rayon à lancer. Si la roulette russe est appliquée, 
+	 * un rayon profond survit avec une probabilité égale à sa contribution et sa pondération est divisée par cette probabilité.
+	 * 
+	 * @param sink La destination des rayons à lancer.
+	 * @param node Le noeud de l'arbre des rayons à transmettre.
+	 */
+	private void emitRay(Consumer<SRayTreeNode> sink, SRayTreeNode node)
+	{
+	  if(russian_roulette && node.getDepth() >= RUSSIAN_ROULETTE_MIN_DEPT)
+	  {
+	    double probability = Math.min(1.0, node.getContribution());
+	    
+	    if(ThreadLocalRandom.current().nextDouble() >= probability)
+	      return;
+	    
+	    node = new SRayTreeNode(node.getRay(), node.getThroughput().multiply(1.0/probability), node.getDepth(), node.getMediumStack());
+	  }
+	  
+	  sink.accept(node);
+	}
+	
+}//fin classe SRecursiveShader
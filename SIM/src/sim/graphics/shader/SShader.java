@@ -1,44 +1,63 @@
-/**
- * 
- */
-package sim.graphics.shader;
-
-import sim.exception.SRuntimeException;
-import sim.geometry.SRay;
-import sim.graphics.SColor;
-import sim.math.SVector3d;
-
-/**
- * Interface permet de dterminer la couleur associe  l'intersection d'un rayon avec une gomtrie en fonction du matriel appliqu sur la gomtrie, de l'clairage de la scne et des primitives environnant (ex : effet d'ombrage).
- * Il existe une trs grande varit de "shader" dont leur complexit amliore le ralisme de la couleur calcule.
- * 
- * @author Simon Vzina
- * @since 2015-01-09
- * @version 2015-08-14
- */
-public interface SShader {
-
-	/**
-	 * Mthode qui dtermine la couleur associe  un rayon ayant effectu une intersection avec une gomtrie de la scne.
-	 * Si le <b>rayon a touch une gomtrie</b>, un calcul sera ralis pour <b>dterminer la couleur</b> en lien avec le <b>point d'intersection</b>.
-	 * Si le <b>rayon n'a pas touch de gomtrie</b>, un <b>test d'intersection sera ralis</b> en premier temps pour dterminer la gomtrie intersect et un calcul de couleur sera ralis par la suite.
-	 * Une couleur </b>noire</b> sera retourne s'il n'y a <b>pas d'intersection</b> entre le rayon et une gomtrie de la scne.
-	 * Il est important de rappeler que chaque gomtrie possde un lien vers sa primitive parent qui dtient l'information du matriel (ex: couleur de la gomtrie).
-	 * @param ray - Le rayon ayant ralis une intersection.
-	 * @return La couleur associe  l'intersection. S'il n'y a <b>pas d'intersection</b>, la couleur retourne sera <b>noire</b>.
-	 * @throws SRuntimeException Si le rayon a dj t intersect palablement.
-	 */
-	public SColor shade(SRay ray)throws SRuntimeException;
-	
-	/**
-   * Mthode pour valuer l'indice de rfraction associ  un point de l'espace.
-   * Nous avons trois scnarios possibles :
-   * <p>1) Si la position est situe  la <b>frontire d'une gomtrie</b> (sur la surface), elle sera considre comme  l'extrieure de la gomtrie et l'indice n = 1.0 sera affect.</p>
-   * <p>2) Si la position est situe dans <b>une gomtrie</b>, il faudra obtenir son indice de rfraction n s'il possde une primitive comme parent, sinon n = 1.0 sera affect.</p>
-   * <p>3) Si la position est situe dans <b>plusieurs gomtrie</b>, NOUS AVONS PRSENTEMENT UN PROBLME !!! qui devra tre rsolu dans le futur.</p>
-   * @param position - La position dans l'espace des gomtries.
-   * @return L'indice de rfraction associ  la position.
-   */
-  public double evaluateRefractiveIndex(SVector3d position);
-  
-}//fin interface SShader
+/**
+ * 
+ */
+package sim.graphics.shader;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SRay;
+import sim.graphics.SColor;
+import sim.math.SVector3d;
+
+/**
+ * Interface permet de déterminer la couleur associée à l'intersection d'un rayon avec une géométrie en fonction du matériel appliqué sur la géométrie, de l'éclairage de la scène et des primitives environnant (ex : effet d'ombrage).
+ * Il existe une très grande variété de "shader" dont leur complexité améliore le réalisme de la couleur calculée.
+ * 
+ * @author Simon Vézina
+ * @since 2015-01-09
+ * @version 2015-08-14
+ */
+public interface SShader {
+
+	/**
+	 * Méthode qui détermine la couleur associée à un rayon ayant effectué une intersection avec une géométrie de la scène.
+	 * Si le <b>rayon a touché une géométrie</b>, un calcul sera réalisé pour <b>déterminer la couleur</b> en lien avec le <b>point d'intersection</b>.
+	 * Si le <b>rayon n'a pas touché de géométrie</b>, un <b>test d'intersection sera réalisé</b> en premier temps pour déterminer la géométrie intersecté et un calcul de couleur sera réalisé par la suite.
+	 * Une couleur </b>noire</b> sera retournée s'il n'y a <b>pas d'intersection</b> entre le rayon et une géométrie de la scène.
+	 * Il est important de rappeler que chaque géométrie possède un lien vers sa primitive parent qui détient l'information du matériel (ex: couleur de la géométrie).
+	 * @param ray - Le rayon ayant réalisé une intersection.
+	 * @return La couleur associée à l'intersection. S'il n'y a <b>pas d'intersection</b>, la couleur retournée sera <b>noire</b>.
+	 * @throws SRuntimeException Si le rayon a déjà été intersecté péalablement.
+	 */
+	public SColor shade(SRay ray)throws SRuntimeException;
+	
+	/**
+	 * Méthode qui détermine la couleur associée à un rayon en connaissant la pile des milieux dans lesquels le rayon se situe.
+	 * Cette méthode évite d'évaluer le milieu du rayon par un test d'inclusion dans les géométries de la scène.
+	 * @param ray - Le rayon à illuminer (non intersecté).
+	 * @param medium_stack - La pile des milieux dans lesquels l'origine du rayon est située.
+	 * @return La couleur associée à l'intersection. S'il n'y a <b>pas d'intersection</b>, la couleur retournée sera <b>noire</b>.
+	 * @throws SRuntimeException Si le rayon a déjà été intersecté péalablement.
+	 * @see SShader#shade(SRay)
+	 */
+	public SColor shade(SRay ray, SMediumStack medium_stack)throws SRuntimeException;
+	
+	/**
+   * Méthode pour évaluer l'indice de réfraction associé à un point de l'espace.
+   * Nous avons trois scénarios possibles :
+   * <p>1) Si la position est située à la <b>frontière d'une géométrie</b> (sur la surface), elle sera considérée comme à l'extérieure de la géométrie et l'indice n = 1.0 sera affecté.</p>
+   * <p>2) Si la position est située dans <b>une géométrie</b>, il faudra obtenir son indice de réfraction n s'il possède une primitive comme parent, sinon n = 1.0 sera affecté.</p>
+   * <p>3) Si la position est située dans <b>plusieurs géométrie</b>, NOUS AVONS PRÉSENTEMENT UN PROBLÈME !!! qui devra être résolu dans le futur.</p>
+   * @param position - La position dans l'espace des géométries.
+   * @return L'indice de réfraction associé à la position.
+   */
+  public double evaluateRefractiveIndex(SVector3d position);
+  
+  /**
+   * Méthode pour évaluer la pile des milieux associée à un point de l'espace. La pile comprend l'ensemble des géométries contenant la position.
+   * Cette évaluation nécessite un test d'inclusion avec les géométries de la scène et devrait être réalisée une seule fois (ex : à la position de la caméra).
+   * @param position - La position dans l'espace des géométries.
+   * @return La pile des milieux associée à la position.
+   */
+  public SMediumStack evaluateMediumStack(SVector3d position);
+  
+}//fin interface SShader
@@ -0,0 +1,409 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import sim.exception.SConstructorException;
+import sim.geometry.SRay;
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.SColor;
+import sim.graphics.light.SLight;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SWavefrontShader</b> représente un shader avec lancé de rayon récursif évaluant des <b>lots de rayons</b> par étapes
+ * (<i>wavefront</i>) plutôt qu'un rayon à la fois. Chaque étape est appliquée à l'ensemble du lot avant de passer à la suivante :
+ * </p>
+ * <ol>
+ * <li>L'intersection de tous les rayons du lot avec l'espace des géométries par paquets de rayons consécutifs.</li>
+ * <li>Le tri des intersections par matériel.</li>
+ * <li>L'illumination ambiante et l'évaluation des couleurs des matériaux de chaque intersection.</li>
+ * <li>La construction du lot des rayons d'ombrage, regroupés par source de lumière.</li>
+ * <li>L'intersection des rayons d'ombrage par paquets (d'une même source) et l'accumulation de l'illumination des sources non bloquées.</li>
+ * <li>L'accumulation de l'illumination directe dans la couleur des échantillons et l'émission des rayons récursifs dans un nouveau lot.</li>
+ * </ol>
+ * <p>
+ * Les étapes successives sur des rayons semblables (même matériel, même source de lumière) réutilisent les mêmes données et le même code,
+ * ce qui améliore l'usage des caches du processeur. La couleur obtenue pour chaque échantillon est la même que celle du <b>SRecursiveShader</b>
+ * à l'ordre de sommation près des contributions des rayons récursifs.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-12
+ * @version 2017-02-13
+ */
+public class SWavefrontShader extends SRecursiveShader {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>PACKET_SIZE</b> correspond au nombre maximal de rayons d'un paquet transmis à l'espace des géométries étant égal à {@value}
+   * (ex : 4x4 pixels voisins). Les rayons consécutifs d'un lot étant cohérents, ils parcourent ensemble l'espace des géométries.
+   */
+  public static final int PACKET_SIZE = 16;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un shader évaluant des lots de rayons par étapes.
+   *
+   * @param geometry_space L'espace des géométries.
+   * @param t_max Le temps de déplacement maximal d'un rayon.
+   * @param light_list La liste des sources de lumières.
+   * @param reflexion_algo Le type d'algorithme pour réaliser le calcul de la réflexion.
+   * @param max_dept - Le niveau de rayon récursif.
+   * @param contribution_threshold - Le seuil de contribution en dessous duquel un rayon récursif ne sera pas lancé.
+   * @param russian_roulette - Détermine si la roulette russe est appliquée aux rayons récursifs profonds.
+   * @throws SConstructorException Si le niveau de récursivité des rayons est inférieur au seuil minimal (habituellement 1).
+   * @throws SConstructorException Si le seuil de contribution est négatif.
+   */
+  public SWavefrontShader(SGeometrySpace geometry_space, double t_max, List<SLight> light_list, int reflexion_algo, int max_dept, double contribution_threshold, boolean russian_roulette) throws SConstructorException
+  {
+    super(geometry_space, t_max, light_list, reflexion_algo, max_dept, contribution_threshold, russian_roulette);
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode qui effectue l'illumination d'un lot de rayons primaires ainsi que de l'ensemble de leurs rayons récursifs.
+   * La contribution de chaque rayon est ajoutée à la couleur de son échantillon. Le lot est vidé au terme de l'évaluation.
+   *
+   * @param batch Le lot de rayons primaires.
+   * @param color Les couleurs des échantillons (indexées par l'échantillon des rayons).
+   */
+  public void shade(SRayBatch batch, SColorAccumulator[] color)
+  {
+    SRayBatch current = batch;
+    SRayBatch next = new SRayBatch(batch.size());
+
+    while(!current.isEmpty())
+    {
+      shadeDepth(current, next, color);
+
+      // Le lot des rayons récursifs devient le lot courant
+      current.clear();
+
+      SRayBatch swap = current;
+      current = next;
+      next = swap;
+    }
+  }
+
+  /**
+   * Méthode qui effectue l'illumination d'un lot de rayons de même génération. Les rayons récursifs sont ajoutés au lot suivant.
+   *
+   * @param batch Le lot de rayons à illuminer.
+   * @param next Le lot qui contiendra les rayons récursifs.
+   * @param color Les couleurs des échantillons.
+   */
+  private void shadeDepth(SRayBatch batch, SRayBatch next, SColorAccumulator[] color)
+  {
+    //-------------------------------------
+    // Étape 1 : Intersection des rayons
+    //-------------------------------------
+    int size = batch.size();
+
+    SRay[] hit_ray = new SRay[size];
+    int[] hit_index = new int[size];
+    int nb_hit = 0;
+
+    for(int first = 0; first < size; first += PACKET_SIZE)
+    {
+      SRay[] packet = new SRay[Math.min(PACKET_SIZE, size - first)];
+
+      for(int p = 0; p < packet.length; p++)
+        packet[p] = batch.getRay(first + p);
+
+      SRay[] packet_result = geometry_space.nearestIntersection(packet, t_max);
+
+      for(int p = 0; p < packet.length; p++)
+        if(packet_result[p].asIntersected())
+        {
+          hit_ray[nb_hit] = packet_result[p];
+          hit_index[nb_hit] = first + p;
+          nb_hit++;
+        }
+    }
+
+    if(nb_hit == 0)
+      return;
+
+    SMaterial[] hit_material = new SMaterial[nb_hit];
+
+    for(int k = 0; k < nb_hit; k++)
+      hit_material[k] = hit_ray[k].getGeometry().getPrimitiveParent().getMaterial();
+
+    // Sans algorithme d'illumination (mode no_light), la couleur diffuse est retenue sans rayon récursif
+    if(reflexion_algo == NO_LIGHT)
+    {
+      for(int k = 0; k < nb_hit; k++)
+      {
+        SColor diffuse = hit_ray[k].asUV() ? hit_material[k].diffuseColor(hit_ray[k].getUV()) : hit_material[k].diffuseColor();
+        color[batch.getSample(hit_index[k])].add(diffuse.getRed(), diffuse.getGreen(), diffuse.getBlue());
+      }
+
+      return;
+    }
+
+    //--------------------------------------------
+    // Étape 2 : Tri des intersections par matériel
+    //--------------------------------------------
+    int[] order = sortByMaterial(hit_material, nb_hit);
+
+    //-----------------------------------------------------------
+    // Étape 3 : Illumination ambiante et couleurs des matériaux
+    //-----------------------------------------------------------
+    SColorAccumulator[] illumination = new SColorAccumulator[nb_hit];
+    SColor[] Sd = new SColor[nb_hit];
+    SColor[] Ss = new SColor[nb_hit];
+
+    int nb_light = getNbShadowLight();
+
+    for(int k : order)
+    {
+      illumination[k] = new SColorAccumulator();
+      ambientIllumination(hit_ray[k], hit_material[k], illumination[k]);
+
+      if(nb_light > 0)
+      {
+        Sd[k] = diffuseColor(hit_ray[k], hit_material[k]);
+        Ss[k] = specularColor(hit_ray[k], hit_material[k]);
+      }
+    }
+
+    //-------------------------------------------------------------
+    // Étape 4 : Lot des rayons d'ombrage (par source de lumière)
+    //-------------------------------------------------------------
+    ShadowRayBatch shadow = new ShadowRayBatch(nb_hit*nb_light);
+    double[] direction = new double[4];
+
+    for(int light = 0; light < nb_light; light++)
+      for(int k : order)
+        if(evaluateLightDirection(hit_ray[k], light, direction))
+          shadow.add(k, light, hit_ray[k].getIntersectionPosition(), direction);
+
+    //-----------------------------------------------------------------
+    // Étape 5 : Intersection des rayons d'ombrage et illumination
+    //-----------------------------------------------------------------
+    SColorAccumulator filtered_light = new SColorAccumulator();
+
+    for(int first = 0; first < shadow.size; )
+    {
+      // Paquet de rayons d'ombrage consécutifs vers une même source de lumière
+      int last = first + 1;
+
+      while(last < shadow.size && last - first < PACKET_SIZE && shadow.light[last] == shadow.light[first])
+        last++;
+
+      SRay[] packet = new SRay[last - first];
+      double[] packet_t_max = new double[last - first];
+
+      for(int j = first; j < last; j++)
+      {
+        shadow.getDirection(j, direction);
+
+        // Rayon de l'intersection à la source de lumière (avec indice de réfraction de 1.0, car il n'y aura pas de calcul de réfraction pour ce rayon)
+        packet[j - first] = new SRay(shadow.getOrigin(j), new SVector3d(-direction[0], -direction[1], -direction[2]), SRay.DEFAULT_REFRACTIVE_INDEX);
+        packet_t_max[j - first] = direction[3];
+      }
+
+      List<List<SRay>> packet_result = geometry_space.nearestOpaqueIntersection(packet, packet_t_max);
+
+      for(int j = first; j < last; j++)
+      {
+        int k = shadow.hit[j];
+        int light = shadow.light[j];
+
+        shadow.getDirection(j, direction);
+
+        if(filterLight(light, packet_result.get(j - first), filtered_light))
+          lightIllumination(hit_ray[k], light, direction, filtered_light, Sd[k], Ss[k], hit_material[k].getShininess(), illumination[k]);
+      }
+
+      first = last;
+    }
+
+    //-----------------------------------------------------------------
+    // Étape 6 : Couleur des échantillons et rayons récursifs
+    //-----------------------------------------------------------------
+    int max_dept = getMaxDept();
+
+    for(int k : order)
+    {
+      int i = hit_index[k];
+      int sample = batch.getSample(i);
+
+      color[sample].add(illumination[k].getRed()*batch.getThroughputRed(i), illumination[k].getGreen()*batch.getThroughputGreen(i), illumination[k].getBlue()*batch.getThroughputBlue(i));
+
+      if(batch.getDepth(i) < max_dept)
+        emitIndirectRay(batch.getNode(i, hit_ray[k]), hit_ray[k], hit_material[k], node -> next.add(node, sample));
+    }
+  }
+
+  /**
+   * Méthode pour trier les intersections par matériel (tri par dénombrement). Les matériaux apparaissent dans l'ordre de leur première
+   * rencontre et l'ordre des intersections d'un même matériel est conservé.
+   *
+   * @param material Les matériaux des intersections.
+   * @param size Le nombre d'intersections.
+   * @return L'ordre des intersections triées.
+   */
+  private static int[] sortByMaterial(SMaterial[] material, int size)
+  {
+    Map<SMaterial, Integer> id_map = new IdentityHashMap<SMaterial, Integer>();
+
+    int[] id = new int[size];
+
+    for(int k = 0; k < size; k++)
+    {
+      Integer value = id_map.get(material[k]);
+
+      if(value == null)
+      {
+        value = id_map.size();
+        id_map.put(material[k], value);
+      }
+
+      id[k] = value;
+    }
+
+    // Position de départ de chaque matériel dans l'ordre trié
+    int[] start = new int[id_map.size() + 1];
+
+    for(int k = 0; k < size; k++)
+      start[id[k] + 1]++;
+
+    for(int m = 1; m < start.length; m++)
+      start[m] += start[m-1];
+
+    int[] order = new int[size];
+
+    for(int k = 0; k < size; k++)
+      order[start[id[k]]++] = k;
+
+    return order;
+  }
+
+  /**
+   * La classe <b>ShadowRayBatch</b> représente un lot de rayons d'ombrage conservé sous forme de tableaux parallèles.
+   * Chaque rayon est associé à l'intersection qu'il doit illuminer et à l'index de sa source de lumière.
+   */
+  private static final class ShadowRayBatch {
+
+    /**
+     * La variable <b>size</b> correspond au nombre de rayons d'ombrage du lot.
+     */
+    private int size;
+
+    /**
+     * La variable <b>hit</b> correspond à l'index de l'intersection illuminée par le rayon d'ombrage.
+     */
+    private final int[] hit;
+
+    /**
+     * La variable <b>light</b> correspond à l'index de la source de lumière du rayon d'ombrage.
+     */
+    private final int[] light;
+
+    /**
+     * Les variables <b>origin_x</b>, <b>origin_y</b> et <b>origin_z</b> correspondent au point d'intersection illuminé.
+     */
+    private final double[] origin_x;
+    private final double[] origin_y;
+    private final double[] origin_z;
+
+    /**
+     * Les variables <b>direction_x</b>, <b>direction_y</b>, <b>direction_z</b> et <b>distance</b> correspondent à l'orientation
+     * de la source de lumière vers le point d'intersection et à leur distance.
+     */
+    private final double[] direction_x;
+    private final double[] direction_y;
+    private final double[] direction_z;
+    private final double[] distance;
+
+    /**
+     * Constructeur d'un lot de rayons d'ombrage vide.
+     *
+     * @param capacity Le nombre maximal de rayons d'ombrage.
+     */
+    private ShadowRayBatch(int capacity)
+    {
+      size = 0;
+
+      hit = new int[capacity];
+      light = new int[capacity];
+
+      origin_x = new double[capacity];
+      origin_y = new double[capacity];
+      origin_z = new double[capacity];
+
+      direction_x = new double[capacity];
+      direction_y = new double[capacity];
+      direction_z = new double[capacity];
+      distance = new double[capacity];
+    }
+
+    /**
+     * Méthode pour ajouter un rayon d'ombrage au lot.
+     *
+     * @param hit L'index de l'intersection illuminée.
+     * @param light L'index de la source de lumière.
+     * @param origin Le point d'intersection.
+     * @param direction L'orientation de la source de lumière (index 0 à 2) et la distance (index 3).
+     */
+    private void add(int hit, int light, SVector3d origin, double[] direction)
+    {
+      this.hit[size] = hit;
+      this.light[size] = light;
+
+      origin_x[size] = origin.getX();
+      origin_y[size] = origin.getY();
+      origin_z[size] = origin.getZ();
+
+      direction_x[size] = direction[0];
+      direction_y[size] = direction[1];
+      direction_z[size] = direction[2];
+      distance[size] = direction[3];
+
+      size++;
+    }
+
+    /**
+     * Méthode pour obtenir le point d'intersection illuminé par un rayon d'ombrage.
+     *
+     * @param j L'index du rayon d'ombrage.
+     * @return Le point d'intersection.
+     */
+    private SVector3d getOrigin(int j)
+    {
+      return new SVector3d(origin_x[j], origin_y[j], origin_z[j]);
+    }
+
+    /**
+     * Méthode pour copier l'orientation et la distance de la source de lumière d'un rayon d'ombrage.
+     *
+     * @param j L'index du rayon d'ombrage.
+     * @param direction Le tableau qui contiendra l'orientation (index 0 à 2) et la distance (index 3).
+     */
+    private void getDirection(int j, double[] direction)
+    {
+      direction[0] = direction_x[j];
+      direction[1] = direction_y[j];
+      direction[2] = direction_z[j];
+      direction[3] = distance[j];
+    }
+  }
+
+}//fin de la classe SWavefrontShader
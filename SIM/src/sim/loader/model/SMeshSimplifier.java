@@ -0,0 +1,885 @@
+/**
+ *
+ */
+package sim.loader.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.geometry.SAbstractGeometry;
+import sim.geometry.SBTriangleGeometry;
+import sim.geometry.SGeometry;
+import sim.geometry.STriangleGeometry;
+import sim.graphics.SModel;
+import sim.graphics.SPrimitive;
+import sim.math.SVector3d;
+
+/**
+ * <p>
+ * La classe <b>SMeshSimplifier</b> permet de construire des versions simplifiées (niveaux de détail) d'un modèle 3d
+ * constitué de triangles par fusion successive d'arêtes selon la métrique d'erreur quadrique de <b>Garland et Heckbert</b>.
+ * </p>
+ * <p>
+ * Chaque sommet accumule une quadrique correspondant à la somme des distances au carré aux plans des triangles qui l'entourent
+ * (pondérés par leur aire). L'arête dont la fusion produit la plus petite erreur est fusionnée en premier. Le sommet conservé
+ * lors d'une fusion est l'une des deux extrémités de l'arête ce qui permet aux triangles de garder les normales et les coordonnées
+ * uv de leurs sommets d'origine. Les bords du modèle et les frontières entre matériaux sont préservés par des quadriques
+ * de plans perpendiculaires fortement pondérées.
+ * </p>
+ * <p>
+ * Une fusion est refusée si elle retourne un triangle, si elle rend un triangle dégénéré ou si elle rend le maillage non manifold.
+ * Les primitives qui ne sont pas des triangles sont conservées telles quelles dans chaque niveau de détail.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-11
+ * @version 2017-02-11
+ */
+public class SMeshSimplifier {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>DEFAULT_REDUCTION</b> correspond au rapport par défaut entre le nombre de triangles de deux niveaux de détail consécutifs étant égal à {@value}.
+   */
+  public static final double DEFAULT_REDUCTION = 0.25;
+
+  /**
+   * La constante <b>DEFAULT_MINIMUM_TRIANGLE</b> correspond au nombre minimal de triangles par défaut d'un niveau de détail étant égal à {@value}.
+   * Un modèle plus petit ne gagne rien à être simplifié.
+   */
+  public static final int DEFAULT_MINIMUM_TRIANGLE = 256;
+
+  /**
+   * La constante <b>BOUNDARY_WEIGHT</b> correspond à la pondération des quadriques préservant les bords et les frontières entre matériaux étant égale à {@value}.
+   */
+  private static final double BOUNDARY_WEIGHT = 1000.0;
+
+  /**
+   * La constante <b>MINIMUM_NORMAL_COSINUS</b> correspond au cosinus minimal de l'angle entre la normale d'un triangle
+   * avant et après une fusion étant égal à {@value}. Sous ce seuil, le triangle est considéré comme retourné.
+   */
+  private static final double MINIMUM_NORMAL_COSINUS = 0.2;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>other_primitive_list</b> correspond aux primitives du modèle qui ne sont pas des triangles.
+   */
+  private final List<SPrimitive> other_primitive_list;
+
+  /**
+   * La variable <b>triangle_primitive</b> correspond aux primitives d'origine des triangles.
+   */
+  private final SPrimitive[] triangle_primitive;
+
+  /**
+   * La variable <b>position</b> correspond aux coordonnées des sommets fusionnés par position (x0, y0, z0, x1, ...).
+   */
+  private final double[] position;
+
+  /**
+   * La variable <b>original_triangle_vertex</b> correspond aux index des trois sommets de chaque triangle d'origine.
+   */
+  private final int[] original_triangle_vertex;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un simplificateur de maillage pour un modèle 3d. Les sommets des triangles de même position sont fusionnés afin de connaître
+   * les triangles voisins. Les primitives du modèle doivent avoir un matériel affecté.
+   *
+   * @param model Le modèle à simplifier.
+   */
+  public SMeshSimplifier(SModel model)
+  {
+    other_primitive_list = new ArrayList<SPrimitive>();
+
+    List<SPrimitive> triangle_list = new ArrayList<SPrimitive>();
+
+    for(SPrimitive p : model.getPrimitiveList())
+      if(isTriangle(p))
+        triangle_list.add(p);
+      else
+        other_primitive_list.add(p);
+
+    triangle_primitive = triangle_list.toArray(new SPrimitive[triangle_list.size()]);
+    original_triangle_vertex = new int[3*triangle_primitive.length];
+
+    Map<SVector3d, Integer> vertex_map = new HashMap<SVector3d, Integer>();
+    List<SVector3d> vertex_list = new ArrayList<SVector3d>();
+
+    for(int t = 0; t < triangle_primitive.length; t++)
+    {
+      STriangleGeometry triangle = (STriangleGeometry)triangle_primitive[t].getGeometry();
+      SVector3d[] p = { triangle.getP0(), triangle.getP1(), triangle.getP2() };
+
+      for(int k = 0; k < 3; k++)
+      {
+        Integer index = vertex_map.get(p[k]);
+
+        if(index == null)
+        {
+          index = vertex_list.size();
+          vertex_map.put(p[k], index);
+          vertex_list.add(p[k]);
+        }
+
+        original_triangle_vertex[3*t + k] = index;
+      }
+    }
+
+    position = new double[3*vertex_list.size()];
+
+    for(int i = 0; i < vertex_list.size(); i++)
+    {
+      position[3*i] = vertex_list.get(i).getX();
+      position[3*i + 1] = vertex_list.get(i).getY();
+      position[3*i + 2] = vertex_list.get(i).getZ();
+    }
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir le nombre de triangles du modèle d'origine.
+   *
+   * @return Le nombre de triangles.
+   */
+  public int getNbTriangle()
+  {
+    return triangle_primitive.length;
+  }
+
+  /**
+   * Méthode pour construire les niveaux de détail du modèle avec les paramètres par défaut.
+   *
+   * @return La liste des modèles simplifiés du plus détaillé au plus grossier (vide si le modèle est trop petit).
+   * @see #DEFAULT_REDUCTION
+   * @see #DEFAULT_MINIMUM_TRIANGLE
+   */
+  public List<SModel> buildLevelOfDetail()
+  {
+    return buildLevelOfDetail(DEFAULT_REDUCTION, DEFAULT_MINIMUM_TRIANGLE);
+  }
+
+  /**
+   * Méthode pour construire les niveaux de détail du modèle. Le niveau i+1 contient environ <i>reduction</i> fois le nombre de triangles du niveau i.
+   * Une seule séquence de fusions est réalisée et chaque niveau correspond à un état intermédiaire de cette séquence.
+   *
+   * @param reduction Le rapport entre le nombre de triangles de deux niveaux consécutifs (entre 0 et 1 exclusivement).
+   * @param minimum_triangle Le nombre minimal de triangles d'un niveau de détail.
+   * @return La liste des modèles simplifiés du plus détaillé au plus grossier (vide si le modèle est trop petit).
+   * @throws SRuntimeException Si le rapport de réduction n'est pas entre 0 et 1.
+   */
+  public List<SModel> buildLevelOfDetail(double reduction, int minimum_triangle) throws SRuntimeException
+  {
+    if(reduction <= 0.0 || reduction >= 1.0)
+      throw new SRuntimeException("Erreur SMeshSimplifier 001 : Le rapport de réduction '" + reduction + "' doit être entre 0 et 1.");
+
+    List<SModel> list = new ArrayList<SModel>();
+
+    int target = (int)(triangle_primitive.length * reduction);
+
+    if(target < minimum_triangle)
+      return list;
+
+    Collapse collapse = new Collapse();
+
+    while(target >= minimum_triangle)
+    {
+      // Arrêter si aucune fusion supplémentaire n'est possible
+      if(!collapse.reduceTo(target))
+        break;
+
+      list.add(collapse.buildModel());
+
+      target = (int)(target * reduction);
+    }
+
+    return list;
+  }
+
+  /**
+   * Méthode pour déterminer si une primitive est un triangle pouvant être simplifié.
+   *
+   * @param primitive La primitive.
+   * @return <b>true</b> si la primitive est un triangle et <b>false</b> sinon.
+   */
+  private static boolean isTriangle(SPrimitive primitive)
+  {
+    SGeometry geometry = primitive.getGeometry();
+
+    if(geometry == null)
+      return false;
+
+    switch(geometry.getCodeName())
+    {
+      case SAbstractGeometry.TRIANGLE_CODE :
+      case SAbstractGeometry.BTRIANGLE_CODE : return true;
+
+      default : return false;
+    }
+  }
+
+  /**
+   * Méthode pour ajouter à une quadrique la quadrique d'un plan (a*x + b*y + c*z + d = 0) pondérée.
+   * La quadrique symétrique 4x4 est conservée par ses 10 coefficients distincts.
+   *
+   * @param q Le tableau des quadriques.
+   * @param v L'index du sommet de la quadrique.
+   * @param a La composante x de la normale du plan.
+   * @param b La composante y de la normale du plan.
+   * @param c La composante z de la normale du plan.
+   * @param d La constante du plan.
+   * @param weight La pondération.
+   */
+  private static void addPlane(double[] q, int v, double a, double b, double c, double d, double weight)
+  {
+    int i = 10*v;
+
+    q[i]     += weight*a*a;
+    q[i + 1] += weight*a*b;
+    q[i + 2] += weight*a*c;
+    q[i + 3] += weight*a*d;
+    q[i + 4] += weight*b*b;
+    q[i + 5] += weight*b*c;
+    q[i + 6] += weight*b*d;
+    q[i + 7] += weight*c*c;
+    q[i + 8] += weight*c*d;
+    q[i + 9] += weight*d*d;
+  }
+
+  /**
+   * La classe interne <b>Collapse</b> représente l'état d'une séquence de fusions d'arêtes.
+   */
+  private class Collapse {
+
+    /**
+     * La variable <b>vertex</b> correspond aux index des trois sommets courants de chaque triangle.
+     */
+    private final int[] vertex;
+
+    /**
+     * La variable <b>alive</b> détermine si un triangle existe encore.
+     */
+    private final boolean[] alive;
+
+    /**
+     * La variable <b>nb_alive</b> correspond au nombre de triangles existants.
+     */
+    private int nb_alive;
+
+    /**
+     * La variable <b>removed</b> détermine si un sommet a été retiré par une fusion.
+     */
+    private final boolean[] removed;
+
+    /**
+     * La variable <b>stamp</b> correspond au numéro de version de chaque sommet. Une arête candidate dont l'un des sommets a changé de version est périmée.
+     */
+    private final int[] stamp;
+
+    /**
+     * La variable <b>quadric</b> correspond aux quadriques des sommets (10 coefficients par sommet).
+     */
+    private final double[] quadric;
+
+    /**
+     * La variable <b>vertex_triangle</b> correspond aux triangles autour de chaque sommet (pouvant contenir des triangles n'existant plus).
+     */
+    private final int[][] vertex_triangle;
+
+    /**
+     * La variable <b>vertex_triangle_size</b> correspond au nombre de triangles de la liste de chaque sommet.
+     */
+    private final int[] vertex_triangle_size;
+
+    /**
+     * La variable <b>mark</b> correspond au marquage temporaire des sommets voisins lors de la vérification topologique.
+     */
+    private final int[] mark;
+
+    /**
+     * La variable <b>mark_stamp</b> correspond à la valeur courante du marquage.
+     */
+    private int mark_stamp;
+
+    /**
+     * La variable <b>queue</b> correspond aux arêtes candidates triées par erreur croissante.
+     */
+    private final PriorityQueue<Candidate> queue;
+
+    /**
+     * Constructeur de l'état initial : évaluation des quadriques et des arêtes candidates.
+     */
+    private Collapse()
+    {
+      int nb_vertex = position.length / 3;
+      int nb_triangle = triangle_primitive.length;
+
+      vertex = original_triangle_vertex.clone();
+      alive = new boolean[nb_triangle];
+      removed = new boolean[nb_vertex];
+      stamp = new int[nb_vertex];
+      quadric = new double[10*nb_vertex];
+      mark = new int[nb_vertex];
+      mark_stamp = 0;
+
+      // Triangles autour de chaque sommet
+      vertex_triangle_size = new int[nb_vertex];
+
+      for(int i = 0; i < vertex.length; i++)
+        vertex_triangle_size[vertex[i]]++;
+
+      vertex_triangle = new int[nb_vertex][];
+
+      for(int v = 0; v < nb_vertex; v++)
+      {
+        vertex_triangle[v] = new int[Math.max(1, vertex_triangle_size[v])];
+        vertex_triangle_size[v] = 0;
+      }
+
+      nb_alive = 0;
+
+      for(int t = 0; t < nb_triangle; t++)
+      {
+        alive[t] = !isDegenerate(vertex[3*t], vertex[3*t + 1], vertex[3*t + 2]);
+
+        if(alive[t])
+        {
+          nb_alive++;
+
+          for(int k = 0; k < 3; k++)
+            vertex_triangle[vertex[3*t + k]][vertex_triangle_size[vertex[3*t + k]]++] = t;
+        }
+      }
+
+      // Quadriques des plans des triangles pondérées par leur aire
+      for(int t = 0; t < nb_triangle; t++)
+        if(alive[t])
+        {
+          double[] n = triangleNormal(vertex[3*t], vertex[3*t + 1], vertex[3*t + 2]);
+          double area = Math.sqrt(n[0]*n[0] + n[1]*n[1] + n[2]*n[2]);
+
+          if(area == 0.0)
+            continue;
+
+          double a = n[0]/area;
+          double b = n[1]/area;
+          double c = n[2]/area;
+          double d = -(a*position[3*vertex[3*t]] + b*position[3*vertex[3*t] + 1] + c*position[3*vertex[3*t] + 2]);
+
+          for(int k = 0; k < 3; k++)
+            addPlane(quadric, vertex[3*t + k], a, b, c, d, area/2);
+        }
+
+      // Quadriques des bords et des frontières entre matériaux
+      Map<Long, Integer> edge_map = new HashMap<Long, Integer>();
+
+      for(int t = 0; t < nb_triangle; t++)
+        if(alive[t])
+          for(int k = 0; k < 3; k++)
+          {
+            Long key = edgeKey(vertex[3*t + k], vertex[3*t + (k + 1) % 3]);
+            Integer other = edge_map.get(key);
+
+            // -1 : arête partagée par deux triangles de même matériel
+            if(other == null)
+              edge_map.put(key, t);
+            else
+              if(other >= 0 && triangle_primitive[other].getMaterialName().equals(triangle_primitive[t].getMaterialName()))
+                edge_map.put(key, -1);
+              else
+                addBoundaryPlane(t, k);
+          }
+
+      for(int t = 0; t < nb_triangle; t++)
+        if(alive[t])
+          for(int k = 0; k < 3; k++)
+          {
+            Integer value = edge_map.get(edgeKey(vertex[3*t + k], vertex[3*t + (k + 1) % 3]));
+
+            if(value != null && value == t)
+              addBoundaryPlane(t, k);
+          }
+
+      // Arêtes candidates
+      queue = new PriorityQueue<Candidate>(Math.max(1, 3*nb_triangle));
+
+      for(int t = 0; t < nb_triangle; t++)
+        if(alive[t])
+          for(int k = 0; k < 3; k++)
+          {
+            int a = vertex[3*t + k];
+            int b = vertex[3*t + (k + 1) % 3];
+
+            if(a < b)
+              queue.add(buildCandidate(a, b));
+          }
+    }
+
+    /**
+     * Méthode pour fusionner des arêtes jusqu'à ce que le nombre de triangles soit inférieur ou égal à une cible.
+     *
+     * @param target Le nombre de triangles ciblé.
+     * @return <b>true</b> si la cible a été atteinte et <b>false</b> si aucune fusion supplémentaire n'était possible.
+     */
+    private boolean reduceTo(int target)
+    {
+      while(nb_alive > target)
+      {
+        Candidate c = queue.poll();
+
+        if(c == null)
+          return false;
+
+        // Arête périmée
+        if(removed[c.keep] || removed[c.remove] || stamp[c.keep] != c.stamp_keep || stamp[c.remove] != c.stamp_remove)
+          continue;
+
+        if(isValidCollapse(c.keep, c.remove))
+          collapse(c.keep, c.remove);
+      }
+
+      return true;
+    }
+
+    /**
+     * Méthode pour construire le modèle correspondant à l'état courant. Les triangles inchangés réutilisent leur primitive d'origine.
+     *
+     * @return Le modèle simplifié.
+     */
+    private SModel buildModel()
+    {
+      SModel model = new SModel(SModel.DEFAULT_FILE_NAME);
+
+      for(SPrimitive p : other_primitive_list)
+        model.addPrimitive(p);
+
+      for(int t = 0; t < alive.length; t++)
+        if(alive[t])
+        {
+          SPrimitive p = triangle_primitive[t];
+
+          if(vertex[3*t] == original_triangle_vertex[3*t] && vertex[3*t + 1] == original_triangle_vertex[3*t + 1] && vertex[3*t + 2] == original_triangle_vertex[3*t + 2])
+          {
+            model.addPrimitive(p);
+            continue;
+          }
+
+          try{
+            model.addPrimitive(new SPrimitive(buildGeometry(p.getGeometry(), vertexPosition(vertex[3*t]), vertexPosition(vertex[3*t + 1]), vertexPosition(vertex[3*t + 2])), p.getMaterial()));
+          }catch(SConstructorException e){
+            // Un triangle devenu dégénéré (trois points colinéaires) n'est pas affiché
+          }
+        }
+
+      return model;
+    }
+
+    /**
+     * Méthode pour construire la géométrie d'un triangle déplacé en conservant les normales et les coordonnées uv de ses sommets d'origine.
+     *
+     * @param original La géométrie du triangle d'origine.
+     * @param p0 La nouvelle position du point P0.
+     * @param p1 La nouvelle position du point P1.
+     * @param p2 La nouvelle position du point P2.
+     * @return La géométrie du triangle.
+     * @throws SConstructorException Si le triangle est dégénéré.
+     */
+    private SGeometry buildGeometry(SGeometry original, SVector3d p0, SVector3d p1, SVector3d p2) throws SConstructorException
+    {
+      if(original.getCodeName() == SAbstractGeometry.BTRIANGLE_CODE)
+      {
+        SBTriangleGeometry t = (SBTriangleGeometry)original;
+
+        return new SBTriangleGeometry(p0, p1, p2, t.getN0(), t.getN1(), t.getN2(), t.getUV0(), t.getUV1(), t.getUV2());
+      }
+      else
+        return new STriangleGeometry(p0, p1, p2);
+    }
+
+    /**
+     * Méthode pour déterminer si la fusion du sommet <i>remove</i> dans le sommet <i>keep</i> est valide.
+     *
+     * @param keep Le sommet conservé.
+     * @param remove Le sommet retiré.
+     * @return <b>true</b> si la fusion est valide et <b>false</b> sinon.
+     */
+    private boolean isValidCollapse(int keep, int remove)
+    {
+      // Condition de lien : les deux sommets ne doivent avoir en commun que les sommets opposés de leurs triangles communs
+      mark_stamp++;
+
+      for(int i = 0; i < vertex_triangle_size[keep]; i++)
+      {
+        int t = vertex_triangle[keep][i];
+
+        if(alive[t])
+          for(int k = 0; k < 3; k++)
+            mark[vertex[3*t + k]] = mark_stamp;
+      }
+
+      int nb_shared_triangle = 0;
+      int nb_common = 0;
+
+      mark_stamp++;
+
+      // Les sommets opposés des triangles communs sont exclus du comptage
+      for(int i = 0; i < vertex_triangle_size[remove]; i++)
+      {
+        int t = vertex_triangle[remove][i];
+
+        if(alive[t] && isShared(t, keep))
+        {
+          nb_shared_triangle++;
+
+          for(int k = 0; k < 3; k++)
+            mark[vertex[3*t + k]] = mark_stamp;
+        }
+      }
+
+      for(int i = 0; i < vertex_triangle_size[remove]; i++)
+      {
+        int t = vertex_triangle[remove][i];
+
+        if(!alive[t] || isShared(t, keep))
+          continue;
+
+        for(int k = 0; k < 3; k++)
+        {
+          int w = vertex[3*t + k];
+
+          if(w != remove && mark[w] == mark_stamp - 1)
+          {
+            nb_common++;
+            mark[w] = mark_stamp;
+          }
+        }
+
+        // Le triangle ne doit pas se retourner ni devenir dégénéré
+        double[] before = triangleNormal(vertex[3*t], vertex[3*t + 1], vertex[3*t + 2]);
+        double[] after = triangleNormal(replace(vertex[3*t], remove, keep), replace(vertex[3*t + 1], remove, keep), replace(vertex[3*t + 2], remove, keep));
+
+        double dot = before[0]*after[0] + before[1]*after[1] + before[2]*after[2];
+        double length_before = Math.sqrt(before[0]*before[0] + before[1]*before[1] + before[2]*before[2]);
+        double length_after = Math.sqrt(after[0]*after[0] + after[1]*after[1] + after[2]*after[2]);
+
+        if(length_after == 0.0 || dot < MINIMUM_NORMAL_COSINUS*length_before*length_after)
+          return false;
+      }
+
+      return nb_shared_triangle > 0 && nb_common == 0;
+    }
+
+    /**
+     * Méthode pour déterminer si un triangle contient un sommet.
+     *
+     * @param t Le triangle.
+     * @param v Le sommet.
+     * @return <b>true</b> si le triangle contient le sommet et <b>false</b> sinon.
+     */
+    private boolean isShared(int t, int v)
+    {
+      return vertex[3*t] == v || vertex[3*t + 1] == v || vertex[3*t + 2] == v;
+    }
+
+    /**
+     * Méthode pour fusionner le sommet <i>remove</i> dans le sommet <i>keep</i>.
+     *
+     * @param keep Le sommet conservé.
+     * @param remove Le sommet retiré.
+     */
+    private void collapse(int keep, int remove)
+    {
+      for(int i = 0; i < vertex_triangle_size[remove]; i++)
+      {
+        int t = vertex_triangle[remove][i];
+
+        if(!alive[t])
+          continue;
+
+        if(isShared(t, keep))
+        {
+          alive[t] = false;
+          nb_alive--;
+        }
+        else
+        {
+          for(int k = 0; k < 3; k++)
+            if(vertex[3*t + k] == remove)
+              vertex[3*t + k] = keep;
+
+          addTriangle(keep, t);
+        }
+      }
+
+      removed[remove] = true;
+      vertex_triangle_size[remove] = 0;
+
+      for(int i = 0; i < 10; i++)
+        quadric[10*keep + i] += quadric[10*remove + i];
+
+      stamp[keep]++;
+
+      // Retirer les triangles n'existant plus de la liste du sommet conservé
+      int size = 0;
+
+      for(int i = 0; i < vertex_triangle_size[keep]; i++)
+        if(alive[vertex_triangle[keep][i]])
+          vertex_triangle[keep][size++] = vertex_triangle[keep][i];
+
+      vertex_triangle_size[keep] = size;
+
+      // Nouvelles arêtes candidates autour du sommet conservé
+      mark_stamp++;
+
+      for(int i = 0; i < size; i++)
+      {
+        int t = vertex_triangle[keep][i];
+
+        for(int k = 0; k < 3; k++)
+        {
+          int w = vertex[3*t + k];
+
+          if(w != keep && mark[w] != mark_stamp)
+          {
+            mark[w] = mark_stamp;
+            queue.add(buildCandidate(keep, w));
+          }
+        }
+      }
+    }
+
+    /**
+     * Méthode pour ajouter un triangle à la liste des triangles d'un sommet.
+     *
+     * @param v Le sommet.
+     * @param t Le triangle.
+     */
+    private void addTriangle(int v, int t)
+    {
+      if(vertex_triangle_size[v] == vertex_triangle[v].length)
+        vertex_triangle[v] = Arrays.copyOf(vertex_triangle[v], 2*vertex_triangle[v].length);
+
+      vertex_triangle[v][vertex_triangle_size[v]++] = t;
+    }
+
+    /**
+     * Méthode pour construire l'arête candidate entre deux sommets. Le sommet conservé est l'extrémité dont l'erreur est la plus petite.
+     *
+     * @param a Le 1ier sommet.
+     * @param b Le 2ième sommet.
+     * @return L'arête candidate.
+     */
+    private Candidate buildCandidate(int a, int b)
+    {
+      double error_a = error(a, b, a);
+      double error_b = error(a, b, b);
+
+      if(error_a <= error_b)
+        return new Candidate(error_a, a, b, stamp[a], stamp[b]);
+      else
+        return new Candidate(error_b, b, a, stamp[b], stamp[a]);
+    }
+
+    /**
+     * Méthode pour évaluer l'erreur de la somme des quadriques de deux sommets à la position d'un sommet.
+     *
+     * @param a Le 1ier sommet.
+     * @param b Le 2ième sommet.
+     * @param v Le sommet où l'erreur est évaluée.
+     * @return L'erreur.
+     */
+    private double error(int a, int b, int v)
+    {
+      double x = position[3*v];
+      double y = position[3*v + 1];
+      double z = position[3*v + 2];
+
+      int i = 10*a;
+      int j = 10*b;
+
+      return (quadric[i] + quadric[j])*x*x + 2*(quadric[i + 1] + quadric[j + 1])*x*y + 2*(quadric[i + 2] + quadric[j + 2])*x*z + 2*(quadric[i + 3] + quadric[j + 3])*x
+           + (quadric[i + 4] + quadric[j + 4])*y*y + 2*(quadric[i + 5] + quadric[j + 5])*y*z + 2*(quadric[i + 6] + quadric[j + 6])*y
+           + (quadric[i + 7] + quadric[j + 7])*z*z + 2*(quadric[i + 8] + quadric[j + 8])*z
+           + (quadric[i + 9] + quadric[j + 9]);
+    }
+
+    /**
+     * Méthode pour ajouter aux deux extrémités d'une arête de bord la quadrique du plan perpendiculaire au triangle contenant l'arête.
+     *
+     * @param t Le triangle.
+     * @param k L'index de l'arête dans le triangle (du sommet k au sommet k+1).
+     */
+    private void addBoundaryPlane(int t, int k)
+    {
+      int a = vertex[3*t + k];
+      int b = vertex[3*t + (k + 1) % 3];
+
+      double[] n = triangleNormal(vertex[3*t], vertex[3*t + 1], vertex[3*t + 2]);
+
+      double ex = position[3*b] - position[3*a];
+      double ey = position[3*b + 1] - position[3*a + 1];
+      double ez = position[3*b + 2] - position[3*a + 2];
+
+      // Normale du plan perpendiculaire : e x n
+      double px = ey*n[2] - ez*n[1];
+      double py = ez*n[0] - ex*n[2];
+      double pz = ex*n[1] - ey*n[0];
+
+      double length = Math.sqrt(px*px + py*py + pz*pz);
+
+      if(length == 0.0)
+        return;
+
+      px /= length;
+      py /= length;
+      pz /= length;
+
+      double d = -(px*position[3*a] + py*position[3*a + 1] + pz*position[3*a + 2]);
+      double weight = BOUNDARY_WEIGHT * (ex*ex + ey*ey + ez*ez);
+
+      addPlane(quadric, a, px, py, pz, d, weight);
+      addPlane(quadric, b, px, py, pz, d, weight);
+    }
+
+    /**
+     * Méthode pour obtenir la normale (non normalisée, de longueur égale au double de l'aire) d'un triangle.
+     *
+     * @param a Le 1ier sommet.
+     * @param b Le 2ième sommet.
+     * @param c Le 3ième sommet.
+     * @return La normale.
+     */
+    private double[] triangleNormal(int a, int b, int c)
+    {
+      double ux = position[3*b] - position[3*a];
+      double uy = position[3*b + 1] - position[3*a + 1];
+      double uz = position[3*b + 2] - position[3*a + 2];
+
+      double vx = position[3*c] - position[3*a];
+      double vy = position[3*c + 1] - position[3*a + 1];
+      double vz = position[3*c + 2] - position[3*a + 2];
+
+      return new double[] { uy*vz - uz*vy, uz*vx - ux*vz, ux*vy - uy*vx };
+    }
+
+    /**
+     * Méthode pour déterminer si un triangle est dégénéré (deux sommets identiques).
+     *
+     * @param a Le 1ier sommet.
+     * @param b Le 2ième sommet.
+     * @param c Le 3ième sommet.
+     * @return <b>true</b> si le triangle est dégénéré et <b>false</b> sinon.
+     */
+    private boolean isDegenerate(int a, int b, int c)
+    {
+      return a == b || b == c || a == c;
+    }
+
+  }//fin de la classe interne Collapse
+
+  /**
+   * La classe interne <b>Candidate</b> représente une arête candidate à la fusion.
+   */
+  private static class Candidate implements Comparable<Candidate> {
+
+    /**
+     * La variable <b>error</b> correspond à l'erreur quadrique de la fusion.
+     */
+    private final double error;
+
+    /**
+     * Les variables <b>keep</b> et <b>remove</b> correspondent au sommet conservé et au sommet retiré.
+     */
+    private final int keep;
+    private final int remove;
+
+    /**
+     * Les variables <b>stamp_keep</b> et <b>stamp_remove</b> correspondent aux versions des sommets lors de l'évaluation de l'erreur.
+     */
+    private final int stamp_keep;
+    private final int stamp_remove;
+
+    /**
+     * Constructeur d'une arête candidate.
+     *
+     * @param error L'erreur de la fusion.
+     * @param keep Le sommet conservé.
+     * @param remove Le sommet retiré.
+     * @param stamp_keep La version du sommet conservé.
+     * @param stamp_remove La version du sommet retiré.
+     */
+    private Candidate(double error, int keep, int remove, int stamp_keep, int stamp_remove)
+    {
+      this.error = error;
+      this.keep = keep;
+      this.remove = remove;
+      this.stamp_keep = stamp_keep;
+      this.stamp_remove = stamp_remove;
+    }
+
+    @Override
+    public int compareTo(Candidate other)
+    {
+      return Double.compare(error, other.error);
+    }
+
+  }//fin de la classe interne Candidate
+
+  /**
+   * Méthode pour obtenir la clé d'une arête non orientée.
+   *
+   * @param a Le 1ier sommet.
+   * @param b Le 2ième sommet.
+   * @return La clé de l'arête.
+   */
+  private static Long edgeKey(int a, int b)
+  {
+    if(a < b)
+      return ((long)a << 32) | b;
+    else
+      return ((long)b << 32) | a;
+  }
+
+  /**
+   * Méthode pour remplacer un sommet par un autre.
+   *
+   * @param v Le sommet.
+   * @param remove Le sommet à remplacer.
+   * @param keep Le sommet de remplacement.
+   * @return Le sommet après remplacement.
+   */
+  private static int replace(int v, int remove, int keep)
+  {
+    return v == remove ? keep : v;
+  }
+
+  /**
+   * Méthode pour obtenir la position d'un sommet.
+   *
+   * @param v Le sommet.
+   * @return La position.
+   */
+  private SVector3d vertexPosition(int v)
+  {
+    return new SVector3d(position[3*v], position[3*v + 1], position[3*v + 2]);
+  }
+
+}//fin de la classe SMeshSimplifier
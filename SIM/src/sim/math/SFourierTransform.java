@@ -0,0 +1,173 @@
+/**
+ *
+ */
+package sim.math;
+
+import sim.exception.SRuntimeException;
+
+/**
+ * <p>
+ * La classe <b>SFourierTransform</b> permet d'effectuer la <b>transformée de Fourier discrète</b> d'un signal complexe
+ * à l'aide de l'algorithme de la <b>transformée de Fourier rapide</b> (<i>FFT</i>) de Cooley-Tukey en base 2.
+ * </p>
+ * <p>
+ * La transformée est définie par
+ * <ul>F(u) = somme( f(n)*e^(-2*Pi*i*u*n/N) )</ul>
+ * et nécessite un nombre d'échantillons N étant une puissance de 2.
+ * Le calcul est effectué sur place dans les tableaux de la partie réelle et de la partie imaginaire du signal.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-05
+ * @version 2017-02-05
+ */
+public class SFourierTransform {
+
+  /**
+   * Méthode pour déterminer si un nombre est une puissance de 2.
+   *
+   * @param n - Le nombre.
+   * @return <b>true</b> si le nombre est une puissance de 2 et <b>false</b> sinon.
+   */
+  public static boolean isPowerOfTwo(int n)
+  {
+    return n > 0 && (n & (n - 1)) == 0;
+  }
+
+  /**
+   * Méthode pour obtenir la plus petite puissance de 2 supérieure ou égale à un nombre.
+   *
+   * @param n - Le nombre.
+   * @return La puissance de 2.
+   */
+  public static int nextPowerOfTwo(int n)
+  {
+    int power = 1;
+
+    while(power < n)
+      power = power << 1;
+
+    return power;
+  }
+
+  /**
+   * Méthode pour effectuer la transformée de Fourier rapide d'un signal complexe à une dimension.
+   * Le résultat remplace le signal dans les tableaux passés en paramètre.
+   *
+   * @param real - La partie réelle du signal.
+   * @param imaginary - La partie imaginaire du signal.
+   * @throws SRuntimeException Si les tableaux ne sont pas de même taille ou si leur taille n'est pas une puissance de 2.
+   */
+  public static void fft(double[] real, double[] imaginary) throws SRuntimeException
+  {
+    int n = real.length;
+
+    if(imaginary.length != n)
+      throw new SRuntimeException("Erreur SFourierTransform 001 : La partie réelle de taille " + n + " et la partie imaginaire de taille " + imaginary.length + " doivent être de même taille.");
+
+    if(!isPowerOfTwo(n))
+      throw new SRuntimeException("Erreur SFourierTransform 002 : La taille du signal '" + n + "' doit être une puissance de 2.");
+
+    // Réordonner les échantillons selon l'inversion des bits de leur index
+    for(int i = 1, j = 0; i < n; i++)
+    {
+      int bit = n >> 1;
+
+      for(; (j & bit) != 0; bit = bit >> 1)
+        j = j ^ bit;
+
+      j = j ^ bit;
+
+      if(i < j)
+      {
+        double tmp = real[i];
+        real[i] = real[j];
+        real[j] = tmp;
+
+        tmp = imaginary[i];
+        imaginary[i] = imaginary[j];
+        imaginary[j] = tmp;
+      }
+    }
+
+    // Combiner les transformées de taille 2, 4, 8, ..., n
+    for(int length = 2; length <= n; length = length << 1)
+    {
+      double angle = -2*Math.PI/length;
+
+      double w_real = Math.cos(angle);
+      double w_imaginary = Math.sin(angle);
+
+      for(int start = 0; start < n; start += length)
+      {
+        // Facteur de rotation (twiddle) débutant à 1
+        double t_real = 1.0;
+        double t_imaginary = 0.0;
+
+        for(int k = 0; k < length/2; k++)
+        {
+          int even = start + k;
+          int odd = even + length/2;
+
+          double odd_real = real[odd]*t_real - imaginary[odd]*t_imaginary;
+          double odd_imaginary = real[odd]*t_imaginary + imaginary[odd]*t_real;
+
+          real[odd] = real[even] - odd_real;
+          imaginary[odd] = imaginary[even] - odd_imaginary;
+
+          real[even] += odd_real;
+          imaginary[even] += odd_imaginary;
+
+          // Rotation du facteur
+          double tmp = t_real*w_real - t_imaginary*w_imaginary;
+          t_imaginary = t_real*w_imaginary + t_imaginary*w_real;
+          t_real = tmp;
+        }
+      }
+    }
+  }
+
+  /**
+   * Méthode pour effectuer la transformée de Fourier rapide d'un signal complexe à deux dimensions.
+   * La transformée est effectuée sur chaque ligne et ensuite sur chaque colonne du signal.
+   * Le résultat remplace le signal dans les tableaux passés en paramètre.
+   *
+   * @param real - La partie réelle du signal (real[x][y]).
+   * @param imaginary - La partie imaginaire du signal (imaginary[x][y]).
+   * @throws SRuntimeException Si les tableaux ne sont pas de même taille ou si leurs dimensions ne sont pas des puissances de 2.
+   */
+  public static void fft2d(double[][] real, double[][] imaginary) throws SRuntimeException
+  {
+    if(real.length != imaginary.length)
+      throw new SRuntimeException("Erreur SFourierTransform 003 : La partie réelle et la partie imaginaire du signal doivent être de même taille.");
+
+    // Transformée selon l'axe y
+    for(int x = 0; x < real.length; x++)
+      fft(real[x], imaginary[x]);
+
+    if(real.length == 0)
+      return;
+
+    // Transformée selon l'axe x (colonne par colonne)
+    double[] column_real = new double[real.length];
+    double[] column_imaginary = new double[real.length];
+
+    for(int y = 0; y < real[0].length; y++)
+    {
+      for(int x = 0; x < real.length; x++)
+      {
+        column_real[x] = real[x][y];
+        column_imaginary[x] = imaginary[x][y];
+      }
+
+      fft(column_real, column_imaginary);
+
+      for(int x = 0; x < real.length; x++)
+      {
+        real[x][y] = column_real[x];
+        imaginary[x][y] = column_imaginary[x];
+      }
+    }
+  }
+
+}//fin de la classe SFourierTransform
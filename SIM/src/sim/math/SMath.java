@@ -1,674 +1,827 @@
-/**
- * 
- */
-package sim.math;
-
-import java.util.Arrays;
-
-import sim.exception.SNoImplementationException;
-import sim.exception.SRuntimeException;
-
-/**
- * La classe <b>SMath</b> contient des mthodes de calcul qui sont
- * complmentaire  la classe java.lang.Math. Elle perment entre autre d'valuer
- * les racines relles d'un polynme de degr 1, 2, 3 et 4.
- * 
- * @author Simon Vzina
- * @since 2015-02-19
- * @version 2017-12-20 (version labo  Le ray tracer v2.1)
- */
-public final class SMath {
-
-	/**
-	 * La constante <b>NO_ROOT_SOLUTION</b> reprsente le tableau des solutions au
-	 * racine d'un polynme o il n'y a <u>pas de solution relle</u>. Le tableau
-	 * est donc vide et de taille gale  zro.
-	 */
-	public static double[] NO_ROOT_SOLUTION = new double[0];
-
-	/**
-	 * <p>
-	 * La constante <b>EPSILON</b> reprsentante un nombre trs petit, mais non nul.
-	 * Ce chiffre peut tre utilis pour comparer une valeur de type double avec le
-	 * chiffre zro. Puisqu'un double gale  zro est difficile  obtenir
-	 * numriquement aprs un calcul (sauf si l'on multiplie par zro), il est
-	 * prfrable de comparer un "pseudo zro" avec cette constante.
-	 * </p>
-	 * <p>
-	 * Avec une valeur de EPSILON = 1e-10, cette valeur permet de comparer
-	 * adquatement des nombres autour de '1' avec suffisamment de chiffres
-	 * significatifs.
-	 * </p>
-	 */
-	public static double EPSILON = 1e-10;
-
-	/**
-	 * La constante <b>EPSILON_RELAXED</b> reprsente un nombre trs petit, mais
-	 * mille fois plus grand que EPSILON (1000*EPSILON). Pour des raisons
-	 * numriques, le seuil EPSILON est trop petit et ce nouveau seuil peut tre
-	 * adquat.
-	 */
-	public static double EPSILON_RELAXED = EPSILON * 1000.0;
-
-	/**
-	 * La constante <b>NEGATIVE_EPSILON</b> reprsentante un nombre trs petit, mais
-	 * non nul qui est <b>negatif</b>. Ce chiffre peut tre utilis pour comparer
-	 * une valeur arbiraire de type double avec le chiffre zro, mais qui sera
-	 * ngatif. Puisqu'un double gale  zro est difficile  obtenir numriquement
-	 * aprs un calcul (sauf si l'on multiplie par zro), il est prfrable de
-	 * comparer un "pseudo zro" avec cette constante.
-	 */
-	public static double NEGATIVE_EPSILON = -1.0 * EPSILON;
-
-	/**
-	 * La constante <b>ONE_PLUS_EPSILON</b> reprsente une constante gale  <b>1 +
-	 * EPSILON</b> ce qui correspond  un nombre lgrement suprieur  1.
-	 */
-	public static double ONE_PLUS_EPSILON = 1 + EPSILON;
-
-	/**
-	 * La constante <b>ONE_MINUS_EPSILON</b> reprsente une constant gale  <b>1 -
-	 * EPSILON</b> ce qui correspond  un nombre lgrement infrieur  1.
-	 */
-	public static double ONE_MINUS_EPSILON = 1 - EPSILON;
-
-	/**
-	 * La constante <b>ONE_PLUS_1000EPSILON</b> reprsente une constante gale 
-	 * <b>1 + 1000*EPSILON</b> ce qui correspond  un nombre lgrement suprieur 
-	 * 1.
-	 */
-	public static double ONE_PLUS_1000EPSILON = 1 + 1000 * EPSILON;
-
-	/**
-	 * La constante <b>ONE_MINUS_EPSILON</b> reprsente une constant gale  <b>1 -
-	 * 1000*EPSILON</b> ce qui correspond  un nombre lgrement infrieur  1.
-	 */
-	public static double ONE_MINUS_1000EPSILON = 1 - 1000 * EPSILON;
-
-	/**
-	 * La constante <b>INFINITY</b> reprsente un nombre positif gale  l'infini.
-	 * Cette valeur est obtenue  partir de la classe java.lang.Double.
-	 * 
-	 * @see java.lang.Double
-	 */
-	public static double INFINITY = Double.POSITIVE_INFINITY;
-
-	/**
-	 * Mthode pour dterminer si deux nombres de type double sont <b>relativement
-	 * gaux</b>. En utilisant une approche de calcul de diffrence, on vrifie si
-	 * <ul>
-	 * a - b < EPSILON*ref
-	 * </ul>
-	 * afin de <b>valid l'galit</b> entre a et b (a == b). EPSILON est un seuil
-	 * de prcision et ref est une base de rfrence (la valeur absolue la plus
-	 * leve parmis a et b).
-	 * <p>
-	 * Cependant, si les deux chiffres sont infrieurs  EPSILON, ils seront
-	 * considrs comme gaux.
-	 * </p>
-	 * 
-	 * @param a Le 1ier nombre  comparer.
-	 * @param b Le 2ime nombre  comparer.
-	 * @return <b>true</b> si les deux nombres sont <b>relativement gaux</b> et
-	 *         <b>false</b> sinon.
-	 */
-	public static boolean nearlyEquals(double a, double b) {
-		return nearlyEquals(a, b, EPSILON);
-	}
-
-	/**
-	 * Mthode pour dterminer si deux nombres de type double sont <b>relativement
-	 * gaux</b>. En utilisant une approche de calcul de diffrence, on vrifie si
-	 * <ul>
-	 * a - b < EPSILON*ref
-	 * </ul>
-	 * afin de <b>valid l'galit</b> entre a et b (a == b). EPSILON est un seuil
-	 * de prcision et ref est une base de rfrence (la valeur absolue la plus
-	 * leve parmis a et b).
-	 * <p>
-	 * Cenpendant, si les deux chiffres sont infrieurs  EPSILON, ils seront
-	 * considrs comme gaux.
-	 * </p>
-	 * 
-	 * @param a       Le 1ier nombre  comparer.
-	 * @param b       Le 2ime nombre  comparer.
-	 * @param epsilon - La prcision acceptable.
-	 * @return <b>true</b> si les deux nombres sont <b>relativement gaux</b> et
-	 *         <b>false</b> sinon.
-	 */
-	public static boolean nearlyEquals(double a, double b, double epsilon) {
-		double absA = Math.abs(a);
-		double absB = Math.abs(b);
-		double diff = Math.abs(a - b);
-
-		// Vrification du cas particulier : 0 = 0 et infiny = infiny (mais pas certain
-		// ...)
-		if (a == b)
-			return true;
-
-		// Cas des petites chiffres : Vrifier si les deux chiffres sont trs prs l'un
-		// de l'autre
-		if (diff < epsilon)
-			return true;
-
-		// Cas gnral
-		double positive_max;
-
-		if (absA > absB)
-			positive_max = absA;
-		else
-			positive_max = absB;
-
-		if (diff < positive_max * epsilon)
-			return true;
-		else
-			return false;
-	}
-
-	/**
-	 * Mthpde pour dterminer si une valeur est relativement prs de zro. Cette
-	 * mthode est ncessaire, car une opration mathmatique menant au chiffre 0
-	 * peut tre 0.0 et -0.0 ce qui n'est pas gal selon JAVA.
-	 * 
-	 * @param value La valeur  comparer avec 0.
-	 * @return <b>true</b> si la valeur est <b>relativement gal</b>  zro et
-	 *         <b>false</b> sinon.
-	 */
-	public static boolean nearlyZero(double value) {
-		return nearlyEquals(value, 0.0);
-	}
-
-	/**
-	 * Mthode pour dterminer si deux tableau de nombres de type double sont
-	 * <b>relativement gaux</b>. En utilisant une approche de calcul de diffrence,
-	 * on vrifie si pour chaque lment du tableau
-	 * <ul>
-	 * a - b < EPSILON*ref
-	 * </ul>
-	 * afin de <b>valid l'galit</b> entre a et b (a == b). EPSILON est un seuil
-	 * de prcision et ref est une base de rfrence (la valeur absolue la plus
-	 * leve parmis a et b).
-	 * <p>
-	 * Cenpendant, si les deux chiffres sont infrieurs  EPSILON, ils seront
-	 * considrs comme gaux.
-	 * </p>
-	 * 
-	 * @param tab1    Le premier tableau  comparer.
-	 * @param tab2    Le deuxime tableau  comparer.
-	 * @param epsilon La prcision acceptable.
-	 * @return <b>true</b> si les deux tableaux sont <b>relativement gaux</b> et
-	 *         <b>false</b> sinon.
-	 */
-	public static boolean nearlyEquals(double[] tab1, double[] tab2, double epsilon) {
-		// Vrifier que les deux tableaux ont la mme taille.
-		if (tab1.length != tab2.length)
-			return false;
-
-		// Vrifier que l'ensemble des donne indexe par indexe sont "nearlyEquals".
-		for (int i = 0; i < tab1.length; i++)
-			if (!nearlyEquals(tab1[i], tab2[i], epsilon))
-				return false;
-
-		// Puisque l'ensemble des valeurs indexe par indexe sont "nearlyEquals", le
-		// tableau doit l'tre.
-		return true;
-	}
-
-	/**
-	 * Mthode permettant d'valuer la racine relle d'un polynme de degr '1' de
-	 * la forme
-	 * <ul>
-	 * Ax + B = 0.
-	 * </ul>
-	 * <p>
-	 * Un polynme de degr '1' possde au maximum <b>une</b> racine relle.
-	 * </p>
-	 * 
-	 * @param A Le coefficient devant le terme de puissance '1' (x).
-	 * @param B Le coefficient devant le terme de puissance '0' (1).
-	 * @return La racine relle d'un polynme de degr '1' (s'il y en a).
-	 * @throws SInfinityOfSolutionsException Si le polynme contient une infinit de
-	 *                                       solution (0x + 0 = 0).
-	 */
-	public static double[] linearRealRoot(double A, double B) throws SInfinityOfSolutionsException {
-		// Vrifier si le polynme n'est pas d'un degr infrieur.
-		if (nearlyZero(A)) {
-			// Vrifier si l'quation n'est pas 0*t + B = 0.
-			// Si B == 0, l'quation admettra une infinit de solutions.
-			// Autrement, l'quation n'admettra aucune solution.
-			if (nearlyZero(B))
-				throw new SInfinityOfSolutionsException(
-						"L'quation linaire 0x + 0 = 0 admet une infinit de solutions.");
-			else
-				return NO_ROOT_SOLUTION;
-		}
-		double[] res = {-B/A};
-		return (res);
-		
-		//throw new SNoImplementationException("Erreur SMath : C'est mthode n'a pas t implmente.");
-
-	}
-
-	/**
-	 * Mthode permettant d'valuer les racines relles d'un polynme de degr '2'
-	 * de la forme
-	 * <ul>
-	 * Ax^2 + Bx + C = 0.
-	 * </ul>
-	 * <p>
-	 * Un polynme de degr '2' possde au maximum <b>deux</b> racines relles.
-	 * </p>
-	 * 
-	 * @param A Le coefficient devant le terme de puissance '2' (x^2).
-	 * @param B Le coefficient devant le terme de puissance '1' (x).
-	 * @param C Le coefficient devant le terme de puissance '0' (1).
-	 * @return Les racines relles de d'un polynme de degr '2' (s'il y en a). Les
-	 *         solutions retournes dans un tableau sont <b>tries en ordre
-	 *         croissant</b>.
-	 * @throws SInfinityOfSolutionsException Si le polynme contient une infinit de
-	 *                                       solution (0x^2 + 0x + 0 = 0).
-	 */
-	public static double[] quadricRealRoot(double A, double B, double C) throws SInfinityOfSolutionsException {
-		// Vrifier si le polynme n'est pas d'un degr infrieur
-		double[] solution = new double[2];
-		if (nearlyZero(A))
-			return linearRealRoot(B, C);
-
-		double discriminant = B*B - 4*A*C;
-		if(discriminant<0) {
-			return new double[0];
-		} else {
-			
-			double solution1;
-			double solution2;
-			solution1 = (-B+Math.sqrt(discriminant))/(2*A);
-			solution2 = (-B-Math.sqrt(discriminant))/(2*A);
-			if(solution1 > solution2) {
-				solution[0] = solution2;
-				solution[1] = solution1;
-			} else {
-				solution[0] = solution1;
-				solution[1] = solution2;
-			}
-		}
-		return solution;
-		//throw new SNoImplementationException("Erreur SMath : C'est mthode n'a pas t implmente.");
-
-	}
-
-	/**
-	 * Mthode permettant d'valuer les racines relles d'un polynme de degr '3'
-	 * de la forme
-	 * <ul>
-	 * Ax^3 + Bx^2 + Cx + D = 0.
-	 * </ul>
-	 * <p>
-	 * Un polynme de degr '3' possde au maximum <b>trois</b> racines relles.
-	 * </p>
-	 * 
-	 * @param A Le coefficient devant le terme de puissance '3' (x^3).
-	 * @param B Le coefficient devant le terme de puissance '2' (x^2).
-	 * @param C Le coefficient devant le terme de puissance '1' (x).
-	 * @param D Le coefficient devant le terme de puissance '0' (1).
-	 * @return Les racines relles de d'un polynme de degr '3' (s'il y en a). Les
-	 *         solutions retournes dans un tableau sont <b>tries en ordre
-	 *         croissant</b>.
-	 * @throws SInfinityOfSolutionsException Si le polynme contient une infinit de
-	 *                                       solution (0x^3 + 0x^2 + 0x + 0 = 0).
-	 */
-	public static double[] cubicRealRoot(double A, double B, double C, double D) throws SInfinityOfSolutionsException {
-		// Vrifier si le polynme n'est pas d'un degr infrieur
-		if (nearlyZero(A))
-			return quadricRealRoot(B, C, D);
-
-		throw new SNoImplementationException("Erreur SMath : C'est mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode permettant d'valuer les racines relles d'un polynme de degr '4'
-	 * de la forme
-	 * <ul>
-	 * Ax^4 + Bx^3 + Cx^2 + Dx + E = 0.
-	 * </ul>
-	 * <p>
-	 * Un polynme de degr '4' possde au maximum <b>quatre</b> racines relles.
-	 * </p>
-	 * 
-	 * @param A Le coefficient devant le terme de puissance '4' (x^4).
-	 * @param B Le coefficient devant le terme de puissance '3' (x^3).
-	 * @param C Le coefficient devant le terme de puissance '2' (x^2).
-	 * @param D Le coefficient devant le terme de puissance '1' (x).
-	 * @param E Le coefficient devant le terme de puissance '0' (1).
-	 * @return Les racines relles de d'un polynme de degr '4' (s'il y en a). Les
-	 *         solutions retournes dans un tableau sont <b>tries en ordre
-	 *         croissant</b>.
-	 * @throws SInfinityOfSolutionsException Si le polynme contient une infinit de
-	 *                                       solution (0x^4 + 0x^3 + 0x^2 + 0x + 0 =
-	 *                                       0).
-	 */
-	public static double[] quarticRealRoot(double A, double B, double C, double D, double E)
-			throws SInfinityOfSolutionsException {
-		// Vrifier si le polynme n'est pas d'un degr infrieur.
-		if (nearlyZero(A))
-			return cubicRealRoot(B, C, D, E);
-
-		throw new SNoImplementationException("Erreur SMath : C'est mthode n'a pas t implmente.");
-	}
-
-	/**
-	 * Mthode qui effectue le calcul inverse de l'interpolation linaire d'une
-	 * valeur numrique. Cela sigifie que l'on cherche la valeur du paramtre
-	 * d'interpolation t  partir d'une valeur interpole ainsi que des deux valeurs
-	 * extrmes.
-	 * 
-	 * @param v  La valeur interpole dont la valeur de t doit tre calcule.
-	 * @param v0 La valeur de rfrence pondre par 1 - t.
-	 * @param v1 La valeur de rfrence pondre par le facteur t.
-	 * @return La facteur t d'interpolation linaire.
-	 */
-	public static double reverseLinearInterpolation(double v, double v0, double v1) {
-		//  partir de la relation v = (1-t)*v0 + t*v1 , on doit isoler t.
-		return (v - v0) / (v1 - v0);
-	}
-
-	/**
-	 * Mthode qui effectue le calcul de l'interpolation linaire d'une valeur
-	 * numrique.
-	 * 
-	 * @param v0 La valeur de rfrence pondre par 1 - t.
-	 * @param v1 La valeur de rfrence pondre par le facteur t.
-	 * @param t  Le paramtre de pondration.
-	 * @return La valeur interpole.
-	 * @throws SRuntimeException Si la contrainte sur t n'est pas respecte (0 <= t
-	 *                           <= 1).
-	 */
-	public static double linearInterpolation(double v0, double v1, double t) throws SRuntimeException {
-		// Doit satisfaire la contrainte sur t
-		if (t < 0.0 || t > 1.0)
-			throw new SRuntimeException(
-					"Erreur SMath 002 : Le paramtre d'interpolation t = " + t + " n'est pas compris entre 0 et 1.");
-
-		// Calcul de l'interpolation : v = v0*(1 - t) + v1*t
-		return v0 * (1.0 - t) + (v1 * t);
-	}
-
-	/**
-	 * Mthode qui effectue le calcul de l'interpolation quadratique d'une valeur
-	 * numrique.
-	 * 
-	 * @param v0 La valeur de rfrence pondre par 1 - t*t.
-	 * @param v1 La valeur de rfrence pondre par le facteur t*t.
-	 * @param t  Le paramtre de pondration.
-	 * @return La valeur interpole.
-	 * @throws SRuntimeException Si la contrainte sur t n'est pas respecte (0 <= t
-	 *                           <= 1).
-	 */
-	public static double quadricInterpolation(double v0, double v1, double t) throws SRuntimeException {
-		// Doit satisfaire la contrainte sur t
-		if (t < 0.0 || t > 1.0)
-			throw new SRuntimeException(
-					"Erreur SMath 003 : Le paramtre d'interpolation t = " + t + " n'est pas compris entre 0 et 1.");
-
-		// Calcul de l'interpolation : v = v0*(1 - t^2) + v1*t^2
-		double t2 = t * t;
-
-		return v0 * (1.0 - t2) + v1 * t2;
-	}
-
-	/**
-	 * ...
-	 * 
-	 * @param array
-	 * @return
-	 */
-	public static double strategicArraySum(double[] array) {
-		// STRATGIE DE SOMMATION : Trier en valeur absolue les nombres et en faire
-		// l'addition.
-
-		// Faire une copie des donnes dans un tableau de type objet Double.
-		Double[] tab = new Double[array.length];
-
-		for (int i = 0; i < array.length; i++)
-			tab[i] = new Double(array[i]);
-
-		// Faire le trie des donnes avec le comparateur en valeur absolue.
-		Arrays.sort(tab, new SAbsoluteDoubleComparator());
-
-		// Faire la somme des termes du tableau dans l'ordre stratgique qui devrait
-		// minimiser l'imprcision.
-		double value = 0.0;
-
-		for (Double d : tab)
-			value += d.doubleValue();
-
-		return value;
-
-	}
-
-	/**
-	 * Mthode dterminant le signe d'un nombre. Les rsultats sont
-	 * <ul>
-	 * -1 si a < 0
-	 * </ul>
-	 * <ul>
-	 * 0 si a = 0
-	 * </ul>
-	 * <ul>
-	 * 1 si a > 0
-	 * </ul>
-	 * 
-	 * @param a Le nombre.
-	 * @return Le signe du nombre.
-	 */
-	public static double sgn(double a) {
-		if (a > 0)
-			return 1.0;
-		else if (a < 0)
-			return -1.0;
-		else
-			return 0.0;
-	}
-
-	/**
-	 * Mthode pour obtenir la <b>plus grande valeur</b> d'un tableau.
-	 * 
-	 * @param tab Le tableau.
-	 * @return La plus grande valeur du tableau.
-	 */
-	public static int findMax(int[] tab) {
-		int max = tab[0];
-
-		for (int v : tab)
-			if (v > max)
-				max = v;
-
-		return max;
-	}
-
-	/**
-	 * Mthode pour obtenir la <b>plus grande valeur</b> d'un tableau.
-	 * 
-	 * @param tab Le tableau.
-	 * @return La plus grande valeur du tableau.
-	 */
-	public static double findMax(double[] tab) {
-		double max = tab[0];
-
-		for (double v : tab)
-			if (v > max)
-				max = v;
-
-		return max;
-	}
-
-	/**
-	 * Mthode pour obtenir la <b>plus petite valeur</b> d'un tableau.
-	 * 
-	 * @param tab Le tableau.
-	 * @return La plus petite valeur du tableau.
-	 */
-	public static int findMin(int[] tab) {
-		int min = tab[0];
-
-		for (int v : tab)
-			if (v < min)
-				min = v;
-
-		return min;
-	}
-
-	/**
-	 * Mthode pour obtenir la <b>plus petite valeur</b> d'un tableau.
-	 * 
-	 * @param tab Le tableau.
-	 * @return La plus petite valeur du tableau.
-	 */
-	public static double findMin(double[] tab) {
-		double min = tab[0];
-
-		for (double v : tab)
-			if (v < min)
-				min = v;
-
-		return min;
-	}
-
-	/**
-	 * Mthode pour convertir un tableau d'entier vers un tableau de nombre rel
-	 * entre une valeur minimale et maximale. La correspondance entre les valeurs
-	 * converties sera linaire.
-	 * 
-	 * @param data Les entiers  convertir.
-	 * @param min  La borne minimale.
-	 * @param max  La borne maximale.
-	 * @return Le tableau converti.
-	 * @throws SRuntimeException Si les bornes sont mal dfinies.
-	 */
-	public static double[] mappingIntToDouble(int[] data, double min, double max) throws SRuntimeException {
-		if (min > max)
-			throw new SRuntimeException("Erreur SMath 003 : La borne minimale " + min + " et la borne maximale " + max
-					+ " sont mal dfinies.");
-
-		int min_value = SMath.findMin(data);
-		int max_value = SMath.findMax(data);
-
-		double[] result = new double[data.length];
-
-		// Itrer sur l'ensemble des lments du tableau.
-		for (int i = 0; i < result.length; i++) {
-			double t = SMath.reverseLinearInterpolation((double) data[i], (double) min_value, (double) max_value);
-			result[i] = SMath.linearInterpolation(min, max, t);
-		}
-
-		return result;
-	}
-
-	/**
-	 * Mthode pour convertir un tableau de nombre rel vers un tableau d'entier
-	 * entre une valeur minimale et maximale. La correspondance entre les valeurs
-	 * converties sera linaire.
-	 * 
-	 * @param data Les donnes  convertir.
-	 * @param min  La borne minimale.
-	 * @param max  La borne maximale.
-	 * @return Le tableau converti.
-	 * @throws SRuntimeException Si les bornes sont mal dfinies.
-	 */
-	public static int[] mappingDoubleToInt(double[] data, int min, int max) {
-		if (min > max)
-			throw new SRuntimeException("Erreur SMath 004 : La borne minimale " + min + " et la borne maximale " + max
-					+ " sont mal dfinies.");
-
-		double min_value = SMath.findMin(data);
-		double max_value = SMath.findMax(data);
-
-		int[] result = new int[data.length];
-
-		// Itrer sur l'ensemble des lments du tableau.
-		for (int i = 0; i < result.length; i++) {
-			double t = SMath.reverseLinearInterpolation(data[i], min_value, max_value);
-			result[i] = (int) SMath.linearInterpolation(min, max, t);
-		}
-
-		return result;
-	}
-
-	/**
-	 * <p>
-	 * Mthode permettant de gnrer un tableau contenant les lments identique de
-	 * deux tableaux de valeur
-	 * <ul>
-	 * pralablement tri
-	 * </ul>
-	 * .
-	 * </p>
-	 * 
-	 * <p>
-	 * <b>REMARQUE</b> : Le fonctionnement de cette mthode ne sera pas valide si
-	 * les deux tableaux passs en paramtre ne sont pas palablement tri.
-	 * </p>
-	 * Rfrence :
-	 * https://stackoverflow.com/questions/32676381/find-intersection-of-two-arrays
-	 * 
-	 * @param tab1 Le 1ier tableau  comparer.
-	 * @param tab2 Le 2ime tableau  comparer.
-	 * @return Un tableau comprenant les lments identiques de deux tableaux
-	 *         (l'intersection des deux tableaux).
-	 */
-	public static double[] intersectionSortedArray(double[] tab1, double[] tab2) {
-		return intersectionSortedArray(tab1, tab2, EPSILON);
-	}
-
-	/**
-	 * <p>
-	 * Mthode permettant de gnrer un tableau contenant les lments identique de
-	 * deux tableaux de valeur
-	 * <ul>
-	 * pralablement tri
-	 * </ul>
-	 * .
-	 * </p>
-	 * 
-	 * <p>
-	 * <b>REMARQUE</b> : Le fonctionnement de cette mthode ne sera pas valide si
-	 * les deux tableaux passs en paramtre ne sont pas palablement tri.
-	 * </p>
-	 * Rfrence :
-	 * https://stackoverflow.com/questions/32676381/find-intersection-of-two-arrays
-	 * 
-	 * @param tab1    Le 1ier tableau  comparer.
-	 * @param tab2    Le 2ime tableau  comparer.
-	 * @param epsilon La prcision de la comparaison.
-	 * @return Un tableau comprenant les lments identiques de deux tableaux
-	 *         (l'intersection des deux tableaux).
-	 */
-	public static double[] intersectionSortedArray(double[] tab1, double[] tab2, double epsilon) {
-		double intersection[] = new double[Math.min(tab1.length, tab2.length)];
-		int count = 0;
-
-		int i = 0;
-		int j = 0;
-		while (i < tab1.length && j < tab2.length) {
-			// Vrifier s'il y a galit.
-			if (SMath.nearlyEquals(tab1[i], tab2[j], epsilon)) {
-				intersection[count] = tab1[i];
-				count++;
-				i++;
-				j++;
-			} else
-			// Avancer dans la recherche des lments.
-			if (tab1[i] < tab2[j])
-				i++; // avancer dans le tableau 1
-			else
-				j++; // avancer dans le tableau 2
-		}
-
-		// Construire un tableau avec l'espace mmoire minimum.
-		double[] result = new double[count];
-		for (int k = 0; k < result.length; k++)
-			result[k] = intersection[k];
-
-		return result;
-	}
-
-}// fin de la classe SMath
+/**
+ * 
+ */
+package sim.math;
+
+import java.util.Arrays;
+
+import sim.exception.SRuntimeException;
+
+/**
+ * La classe <b>SMath</b> contient des méthodes de calcul qui sont
+ * complémentaire à la classe java.lang.Math. Elle perment entre autre d'évaluer
+ * les racines réelles d'un polynôme de degré 1, 2, 3 et 4.
+ * 
+ * @author Simon Vézina
+ * @since 2015-02-19
+ * @version 2017-12-20 (version labo  Le ray tracer v2.1)
+ */
+public final class SMath {
+
+	/**
+	 * La constante <b>NO_ROOT_SOLUTION</b> représente le tableau des solutions au
+	 * racine d'un polynôme où il n'y a <u>pas de solution réelle</u>. Le tableau
+	 * est donc vide et de taille égale à zéro.
+	 */
+	public static double[] NO_ROOT_SOLUTION = new double[0];
+
+	/**
+	 * <p>
+	 * La constante <b>EPSILON</b> représentante un nombre très petit, mais non nul.
+	 * Ce chiffre peut être utilisé pour comparer une valeur de type double avec le
+	 * chiffre zéro. Puisqu'un double égale à zéro est difficile à obtenir
+	 * numériquement après un calcul (sauf si l'on multiplie par zéro), il est
+	 * préférable de comparer un "pseudo zéro" avec cette constante.
+	 * </p>
+	 * <p>
+	 * Avec une valeur de EPSILON = 1e-10, cette valeur permet de comparer
+	 * adéquatement des nombres autour de '1' avec suffisamment de chiffres
+	 * significatifs.
+	 * </p>
+	 */
+	public static double EPSILON = 1e-10;
+
+	/**
+	 * La constante <b>EPSILON_RELAXED</b> représente un nombre très petit, mais
+	 * mille fois plus grand que EPSILON (1000*EPSILON). Pour des raisons
+	 * numériques, le seuil EPSILON est trop petit et ce nouveau seuil peut être
+	 * adéquat.
+	 */
+	public static double EPSILON_RELAXED = EPSILON * 1000.0;
+
+	/**
+	 * La constante <b>POLISH_ITERATION</b> correspond au nombre maximal
+	 * d'itérations de la méthode de Newton effectuées pour raffiner les racines
+	 * d'un polynôme de degré '3' ou '4' étant égal à {@value}.
+	 */
+	private static final int POLISH_ITERATION = 4;
+
+	/**
+	 * La constante <b>NEGATIVE_EPSILON</b> représentante un nombre très petit, mais
+	 * non nul qui est <b>negatif</b>. Ce chiffre peut être utilisé pour comparer
+	 * une valeur arbiraire de type double avec le chiffre zéro, mais qui sera
+	 * négatif. Puisqu'un double égale à zéro est difficile à obtenir numériquement
+	 * après un calcul (sauf si l'on multiplie par zéro), il est préférable de
+	 * comparer un "pseudo zéro" avec cette constante.
+	 */
+	public static double NEGATIVE_EPSILON = -1.0 * EPSILON;
+
+	/**
+	 * La constante <b>ONE_PLUS_EPSILON</b> représente une constante égale à <b>1 +
+	 * EPSILON</b> ce qui correspond à un nombre légèrement supérieur à 1.
+	 */
+	public static double ONE_PLUS_EPSILON = 1 + EPSILON;
+
+	/**
+	 * La constante <b>ONE_MINUS_EPSILON</b> représente une constant égale à <b>1 -
+	 * EPSILON</b> ce qui correspond à un nombre légèrement inférieur à 1.
+	 */
+	public static double ONE_MINUS_EPSILON = 1 - EPSILON;
+
+	/**
+	 * La constante <b>ONE_PLUS_1000EPSILON</b> représente une constante égale à
+	 * <b>1 + 1000*EPSILON</b> ce qui correspond à un nombre légèrement supérieur à
+	 * 1.
+	 */
+	public static double ONE_PLUS_1000EPSILON = 1 + 1000 * EPSILON;
+
+	/**
+	 * La constante <b>ONE_MINUS_EPSILON</b> représente une constant égale à <b>1 -
+	 * 1000*EPSILON</b> ce qui correspond à un nombre légèrement inférieur à 1.
+	 */
+	public static double ONE_MINUS_1000EPSILON = 1 - 1000 * EPSILON;
+
+	/**
+	 * La constante <b>INFINITY</b> représente un nombre positif égale à l'infini.
+	 * Cette valeur est obtenue à partir de la classe java.lang.Double.
+	 * 
+	 * @see java.lang.Double
+	 */
+	public static double INFINITY = Double.POSITIVE_INFINITY;
+
+	/**
+	 * Méthode pour déterminer si deux nombres de type double sont <b>relativement
+	 * égaux</b>. En utilisant une approche de calcul de différence, on vérifie si
+	 * <ul>
+	 * a - b < EPSILON*ref
+	 * </ul>
+	 * afin de <b>validé l'égalité</b> entre a et b (a == b). EPSILON est un seuil
+	 * de précision et ref est une base de référence (la valeur absolue la plus
+	 * élevée parmis a et b).
+	 * <p>
+	 * Cependant, si les deux chiffres sont inférieurs à EPSILON, ils seront
+	 * considérés comme égaux.
+	 * </p>
+	 * 
+	 * @param a Le 1ier nombre à comparer.
+	 * @param b Le 2ième nombre à comparer.
+	 * @return <b>true</b> si les deux nombres sont <b>relativement égaux</b> et
+	 *         <b>false</b> sinon.
+	 */
+	public static boolean nearlyEquals(double a, double b) {
+		return nearlyEquals(a, b, EPSILON);
+	}
+
+	/**
+	 * Méthode pour déterminer si deux nombres de type double sont <b>relativement
+	 * égaux</b>. En utilisant une approche de calcul de différence, on vérifie si
+	 * <ul>
+	 * a - b < EPSILON*ref
+	 * </ul>
+	 * afin de <b>validé l'égalité</b> entre a et b (a == b). EPSILON est un seuil
+	 * de précision et ref est une base de référence (la valeur absolue la plus
+	 * élevée parmis a et b).
+	 * <p>
+	 * Cenpendant, si les deux chiffres sont inférieurs à EPSILON, ils seront
+	 * considérés comme égaux.
+	 * </p>
+	 * 
+	 * @param a       Le 1ier nombre à comparer.
+	 * @param b       Le 2ième nombre à comparer.
+	 * @param epsilon - La précision acceptable.
+	 * @return <b>true</b> si les deux nombres sont <b>relativement égaux</b> et
+	 *         <b>false</b> sinon.
+	 */
+	public static boolean nearlyEquals(double a, double b, double epsilon) {
+		double absA = Math.abs(a);
+		double absB = Math.abs(b);
+		double diff = Math.abs(a - b);
+
+		// Vérification du cas particulier : 0 = 0 et infiny = infiny (mais pas certain
+		// ...)
+		if (a == b)
+			return true;
+
+		// Cas des petites chiffres : Vérifier si les deux chiffres sont très près l'un
+		// de l'autre
+		if (diff < epsilon)
+			return true;
+
+		// Cas général
+		double positive_max;
+
+		if (absA > absB)
+			positive_max = absA;
+		else
+			positive_max = absB;
+
+		if (diff < positive_max * epsilon)
+			return true;
+		else
+			return false;
+	}
+
+	/**
+	 * Méthpde pour déterminer si une valeur est relativement près de zéro. Cette
+	 * méthode est nécessaire, car une opération mathématique menant au chiffre 0
+	 * peut être 0.0 et -0.0 ce qui n'est pas égal selon JAVA.
+	 * 
+	 * @param value La valeur à comparer avec 0.
+	 * @return <b>true</b> si la valeur est <b>relativement égal</b> à zéro et
+	 *         <b>false</b> sinon.
+	 */
+	public static boolean nearlyZero(double value) {
+		return nearlyEquals(value, 0.0);
+	}
+
+	/**
+	 * Méthode pour déterminer si deux tableau de nombres de type double sont
+	 * <b>relativement égaux</b>. En utilisant une approche de calcul de différence,
+	 * on vérifie si pour chaque élément du tableau
+	 * <ul>
+	 * a - b < EPSILON*ref
+	 * </ul>
+	 * afin de <b>validé l'égalité</b> entre a et b (a == b). EPSILON est un seuil
+	 * de précision et ref est une base de référence (la valeur absolue la plus
+	 * élevée parmis a et b).
+	 * <p>
+	 * Cenpendant, si les deux chiffres sont inférieurs à EPSILON, ils seront
+	 * considérés comme égaux.
+	 * </p>
+	 * 
+	 * @param tab1    Le premier tableau à comparer.
+	 * @param tab2    Le deuxième tableau à comparer.
+	 * @param epsilon La précision acceptable.
+	 * @return <b>true</b> si les deux tableaux sont <b>relativement égaux</b> et
+	 *         <b>false</b> sinon.
+	 */
+	public static boolean nearlyEquals(double[] tab1, double[] tab2, double epsilon) {
+		// Vérifier que les deux tableaux ont la même taille.
+		if (tab1.length != tab2.length)
+			return false;
+
+		// Vérifier que l'ensemble des donnée indexe par indexe sont "nearlyEquals".
+		for (int i = 0; i < tab1.length; i++)
+			if (!nearlyEquals(tab1[i], tab2[i], epsilon))
+				return false;
+
+		// Puisque l'ensemble des valeurs indexe par indexe sont "nearlyEquals", le
+		// tableau doit l'être.
+		return true;
+	}
+
+	/**
+	 * Méthode permettant d'évaluer la racine réelle d'un polynôme de degré '1' de
+	 * la forme
+	 * <ul>
+	 * Ax + B = 0.
+	 * </ul>
+	 * <p>
+	 * Un polynôme de degré '1' possède au maximum <b>une</b> racine réelle.
+	 * </p>
+	 * 
+	 * @param A Le coefficient devant le terme de puissance '1' (x).
+	 * @param B Le coefficient devant le terme de puissance '0' (1).
+	 * @return La racine réelle d'un polynôme de degré '1' (s'il y en a).
+	 * @throws SInfinityOfSolutionsException Si le polynôme contient une infinité de
+	 *                                       solution (0x + 0 = 0).
+	 */
+	public static double[] linearRealRoot(double A, double B) throws SInfinityOfSolutionsException {
+		// Vérifier si le polynôme n'est pas d'un degré inférieur.
+		if (nearlyZero(A)) {
+			// Vérifier si l'équation n'est pas 0*t + B = 0.
+			// Si B == 0, l'équation admettra une infinité de solutions.
+			// Autrement, l'équation n'admettra aucune solution.
+			if (nearlyZero(B))
+				throw new SInfinityOfSolutionsException(
+						"L'équation linéaire 0x + 0 = 0 admet une infinité de solutions.");
+			else
+				return NO_ROOT_SOLUTION;
+		}
+		double[] res = {-B/A};
+		return (res);
+		
+		//throw new SNoImplementationException("Erreur SMath : C'est méthode n'a pas été implémentée.");
+
+	}
+
+	/**
+	 * Méthode permettant d'évaluer les racines réelles d'un polynôme de degré '2'
+	 * de la forme
+	 * <ul>
+	 * Ax^2 + Bx + C = 0.
+	 * </ul>
+	 * <p>
+	 * Un polynôme de degré '2' possède au maximum <b>deux</b> racines réelles.
+	 * </p>
+	 * 
+	 * @param A Le coefficient devant le terme de puissance '2' (x^2).
+	 * @param B Le coefficient devant le terme de puissance '1' (x).
+	 * @param C Le coefficient devant le terme de puissance '0' (1).
+	 * @return Les racines réelles de d'un polynôme de degré '2' (s'il y en a). Les
+	 *         solutions retournées dans un tableau sont <b>triées en ordre
+	 *         croissant</b>.
+	 * @throws SInfinityOfSolutionsException Si le polynôme contient une infinité de
+	 *                                       solution (0x^2 + 0x + 0 = 0).
+	 */
+	public static double[] quadricRealRoot(double A, double B, double C) throws SInfinityOfSolutionsException {
+		// Vérifier si le polynôme n'est pas d'un degré inférieur
+		double[] solution = new double[2];
+		if (nearlyZero(A))
+			return linearRealRoot(B, C);
+
+		double discriminant = B*B - 4*A*C;
+		if(discriminant<0) {
+			return new double[0];
+		} else {
+			
+			double solution1;
+			double solution2;
+			solution1 = (-B+Math.sqrt(discriminant))/(2*A);
+			solution2 = (-B-Math.sqrt(discriminant))/(2*A);
+			if(solution1 > solution2) {
+				solution[0] = solution2;
+				solution[1] = solution1;
+			} else {
+				solution[0] = solution1;
+				solution[1] = solution2;
+			}
+		}
+		return solution;
+		//throw new SNoImplementationException("Erreur SMath : C'est méthode n'a pas été implémentée.");
+
+	}
+
+	/**
+	 * Méthode permettant d'évaluer les racines réelles d'un polynôme de degré '3'
+	 * de la forme
+	 * <ul>
+	 * Ax^3 + Bx^2 + Cx + D = 0.
+	 * </ul>
+	 * <p>
+	 * Un polynôme de degré '3' possède au maximum <b>trois</b> racines réelles.
+	 * </p>
+	 * 
+	 * @param A Le coefficient devant le terme de puissance '3' (x^3).
+	 * @param B Le coefficient devant le terme de puissance '2' (x^2).
+	 * @param C Le coefficient devant le terme de puissance '1' (x).
+	 * @param D Le coefficient devant le terme de puissance '0' (1).
+	 * @return Les racines réelles de d'un polynôme de degré '3' (s'il y en a). Les
+	 *         solutions retournées dans un tableau sont <b>triées en ordre
+	 *         croissant</b>.
+	 * @throws SInfinityOfSolutionsException Si le polynôme contient une infinité de
+	 *                                       solution (0x^3 + 0x^2 + 0x + 0 = 0).
+	 */
+	public static double[] cubicRealRoot(double A, double B, double C, double D) throws SInfinityOfSolutionsException {
+		// Vérifier si le polynôme n'est pas d'un degré inférieur
+		if (nearlyZero(A))
+			return quadricRealRoot(B, C, D);
+
+		// Normaliser le polynôme : x^3 + a*x^2 + b*x + c = 0
+		double a = B / A;
+		double b = C / A;
+		double c = D / A;
+
+		// Polynôme réduit avec x = y - a/3 : y^3 + p*y + q = 0
+		double shift = a / 3.0;
+		double p = b - a * shift;
+		double q = c - b * shift + 2.0 * shift * shift * shift;
+
+		double[] solution;
+
+		// Discriminant de Cardan
+		double half_q = q / 2.0;
+		double third_p = p / 3.0;
+		double discriminant = half_q * half_q + third_p * third_p * third_p;
+
+		// Échelle du discriminant permettant de reconnaître une racine double
+		double scale = half_q * half_q + Math.abs(third_p * third_p * third_p);
+
+		if (scale == 0.0) {
+			// Racine triple (p = q = 0)
+			solution = new double[] { -shift, -shift, -shift };
+		} else if (Math.abs(discriminant) <= EPSILON * scale) {
+			// Une racine simple et une racine double
+			double u = Math.cbrt(-half_q);
+
+			solution = new double[] { 2.0 * u - shift, -u - shift, -u - shift };
+		} else if (discriminant > 0.0) {
+			// Une seule racine réelle (méthode de Cardan)
+			double sqrt_discriminant = Math.sqrt(discriminant);
+			double u = Math.cbrt(-half_q + sqrt_discriminant);
+			double v = Math.cbrt(-half_q - sqrt_discriminant);
+
+			solution = new double[] { u + v - shift };
+		} else {
+			// Trois racines réelles (méthode trigonométrique)
+			double m = 2.0 * Math.sqrt(-third_p);
+			double cos_theta = Math.max(-1.0, Math.min(1.0, 3.0 * q / (p * m)));
+			double theta = Math.acos(cos_theta) / 3.0;
+
+			solution = new double[3];
+			for (int k = 0; k < 3; k++)
+				solution[k] = m * Math.cos(theta - 2.0 * Math.PI * k / 3.0) - shift;
+		}
+
+		// Raffiner les racines sur le polynôme d'origine
+		for (int i = 0; i < solution.length; i++)
+			solution[i] = polishRoot(solution[i], 0.0, 1.0, a, b, c);
+
+		Arrays.sort(solution);
+		return solution;
+	}
+
+	/**
+	 * Méthode permettant d'évaluer les racines réelles d'un polynôme de degré '4'
+	 * de la forme
+	 * <ul>
+	 * Ax^4 + Bx^3 + Cx^2 + Dx + E = 0.
+	 * </ul>
+	 * <p>
+	 * Un polynôme de degré '4' possède au maximum <b>quatre</b> racines réelles.
+	 * </p>
+	 * 
+	 * @param A Le coefficient devant le terme de puissance '4' (x^4).
+	 * @param B Le coefficient devant le terme de puissance '3' (x^3).
+	 * @param C Le coefficient devant le terme de puissance '2' (x^2).
+	 * @param D Le coefficient devant le terme de puissance '1' (x).
+	 * @param E Le coefficient devant le terme de puissance '0' (1).
+	 * @return Les racines réelles de d'un polynôme de degré '4' (s'il y en a). Les
+	 *         solutions retournées dans un tableau sont <b>triées en ordre
+	 *         croissant</b>.
+	 * @throws SInfinityOfSolutionsException Si le polynôme contient une infinité de
+	 *                                       solution (0x^4 + 0x^3 + 0x^2 + 0x + 0 =
+	 *                                       0).
+	 */
+	public static double[] quarticRealRoot(double A, double B, double C, double D, double E)
+			throws SInfinityOfSolutionsException {
+		// Vérifier si le polynôme n'est pas d'un degré inférieur.
+		if (nearlyZero(A))
+			return cubicRealRoot(B, C, D, E);
+
+		// Normaliser le polynôme : x^4 + a*x^3 + b*x^2 + c*x + d = 0
+		double a = B / A;
+		double b = C / A;
+		double c = D / A;
+		double d = E / A;
+
+		// Polynôme réduit avec x = y - a/4 : y^4 + p*y^2 + q*y + r = 0
+		double shift = a / 4.0;
+		double shift2 = shift * shift;
+		double p = b - 6.0 * shift2;
+		double q = c - 2.0 * b * shift + 8.0 * shift2 * shift;
+		double r = d - c * shift + b * shift2 - 3.0 * shift2 * shift2;
+
+		double[] y_solution;
+
+		// Racine de la cubique résolvante de Ferrari : 8m^3 + 8p*m^2 + (2p^2 - 8r)*m - q^2 = 0
+		double m = 0.0;
+		if (q != 0.0) {
+			double[] m_solution = cubicRealRoot(8.0, 8.0 * p, 2.0 * p * p - 8.0 * r, -q * q);
+			m = m_solution[m_solution.length - 1];
+		}
+
+		if (m <= 0.0) {
+			// Polynôme bicarré : y^4 + p*y^2 + r = 0
+			double[] z_solution = quadricRealRoot(1.0, p, r);
+
+			double[] tmp = new double[4];
+			int n = 0;
+			for (double z : z_solution)
+				if (z >= 0.0) {
+					double sqrt_z = Math.sqrt(z);
+					tmp[n++] = -sqrt_z;
+					tmp[n++] = sqrt_z;
+				}
+
+			y_solution = Arrays.copyOf(tmp, n);
+		} else {
+			// Factorisation en deux polynômes de degré '2' :
+			// (y^2 + p/2 + m)^2 = (s*y - q/(2s))^2 avec s = sqrt(2m)
+			double s = Math.sqrt(2.0 * m);
+			double half_q_on_s = q / (2.0 * s);
+
+			double[] y1 = quadricRealRoot(1.0, -s, p / 2.0 + m + half_q_on_s);
+			double[] y2 = quadricRealRoot(1.0, s, p / 2.0 + m - half_q_on_s);
+
+			y_solution = new double[y1.length + y2.length];
+			System.arraycopy(y1, 0, y_solution, 0, y1.length);
+			System.arraycopy(y2, 0, y_solution, y1.length, y2.length);
+		}
+
+		// Revenir à la variable x et raffiner les racines sur le polynôme d'origine
+		for (int i = 0; i < y_solution.length; i++)
+			y_solution[i] = polishRoot(y_solution[i] - shift, 1.0, a, b, c, d);
+
+		Arrays.sort(y_solution);
+		return y_solution;
+	}
+
+	/**
+	 * Méthode permettant de raffiner une racine approximative d'un polynôme
+	 * normalisé de degré '4' (ou inférieur) de la forme
+	 * <ul>
+	 * x^4 + a3*x^3 + a2*x^2 + a1*x + a0 = 0
+	 * </ul>
+	 * par la méthode de Newton. Le coefficient <i>a4</i> permet d'annuler le terme
+	 * de degré '4' afin de raffiner une racine d'un polynôme de degré '3'. La
+	 * racine d'origine est conservée si une itération ne réduit pas l'erreur (dérivée
+	 * nulle ou racine double).
+	 * 
+	 * @param x  La racine approximative.
+	 * @param a4 Le coefficient devant le terme de puissance '4' (0 ou 1).
+	 * @param a3 Le coefficient devant le terme de puissance '3'.
+	 * @param a2 Le coefficient devant le terme de puissance '2'.
+	 * @param a1 Le coefficient devant le terme de puissance '1'.
+	 * @param a0 Le coefficient devant le terme de puissance '0'.
+	 * @return La racine raffinée.
+	 */
+	private static double polishRoot(double x, double a4, double a3, double a2, double a1, double a0) {
+		double f = (((a4 * x + a3) * x + a2) * x + a1) * x + a0;
+
+		for (int i = 0; i < POLISH_ITERATION && f != 0.0; i++) {
+			double df = ((4.0 * a4 * x + 3.0 * a3) * x + 2.0 * a2) * x + a1;
+			if (df == 0.0)
+				break;
+
+			double new_x = x - f / df;
+			double new_f = (((a4 * new_x + a3) * new_x + a2) * new_x + a1) * new_x + a0;
+
+			// Arrêter si l'itération n'améliore plus la racine
+			if (Math.abs(new_f) >= Math.abs(f))
+				break;
+
+			x = new_x;
+			f = new_f;
+		}
+
+		return x;
+	}
+
+	/**
+	 * Méthode qui effectue le calcul inverse de l'interpolation linéaire d'une
+	 * valeur numérique. Cela sigifie que l'on cherche la valeur du paramètre
+	 * d'interpolation t à partir d'une valeur interpolée ainsi que des deux valeurs
+	 * extrêmes.
+	 * 
+	 * @param v  La valeur interpolée dont la valeur de t doit être calculée.
+	 * @param v0 La valeur de référence pondérée par 1 - t.
+	 * @param v1 La valeur de référence pondérée par le facteur t.
+	 * @return La facteur t d'interpolation linéaire.
+	 */
+	public static double reverseLinearInterpolation(double v, double v0, double v1) {
+		// À partir de la relation v = (1-t)*v0 + t*v1 , on doit isoler t.
+		return (v - v0) / (v1 - v0);
+	}
+
+	/**
+	 * Méthode qui effectue le calcul de l'interpolation linéaire d'une valeur
+	 * numérique.
+	 * 
+	 * @param v0 La valeur de référence pondérée par 1 - t.
+	 * @param v1 La valeur de référence pondérée par le facteur t.
+	 * @param t  Le paramètre de pondération.
+	 * @return La valeur interpolée.
+	 * @throws SRuntimeException Si la contrainte sur t n'est pas respectée (0 <= t
+	 *                           <= 1).
+	 */
+	public static double linearInterpolation(double v0, double v1, double t) throws SRuntimeException {
+		// Doit satisfaire la contrainte sur t
+		if (t < 0.0 || t > 1.0)
+			throw new SRuntimeException(
+					"Erreur SMath 002 : Le paramètre d'interpolation t = " + t + " n'est pas compris entre 0 et 1.");
+
+		// Calcul de l'interpolation : v = v0*(1 - t) + v1*t
+		return v0 * (1.0 - t) + (v1 * t);
+	}
+
+	/**
+	 * Méthode qui effectue le calcul de l'interpolation quadratique d'une valeur
+	 * numérique.
+	 * 
+	 * @param v0 La valeur de référence pondérée par 1 - t*t.
+	 * @param v1 La valeur de référence pondérée par le facteur t*t.
+	 * @param t  Le paramètre de pondération.
+	 * @return La valeur interpolée.
+	 * @throws SRuntimeException Si la contrainte sur t n'est pas respectée (0 <= t
+	 *                           <= 1).
+	 */
+	public static double quadricInterpolation(double v0, double v1, double t) throws SRuntimeException {
+		// Doit satisfaire la contrainte sur t
+		if (t < 0.0 || t > 1.0)
+			throw new SRuntimeException(
+					"Erreur SMath 003 : Le paramètre d'interpolation t = " + t + " n'est pas compris entre 0 et 1.");
+
+		// Calcul de l'interpolation : v = v0*(1 - t^2) + v1*t^2
+		double t2 = t * t;
+
+		return v0 * (1.0 - t2) + v1 * t2;
+	}
+
+	/**
+	 * ...
+	 * 
+	 * @param array
+	 * @return
+	 */
+	public static double strategicArraySum(double[] array) {
+		// STRATÉGIE DE SOMMATION : Trier en valeur absolue les nombres et en faire
+		// l'addition.
+
+		// Faire une copie des données dans un tableau de type objet Double.
+		Double[] tab = new Double[array.length];
+
+		for (int i = 0; i < array.length; i++)
+			tab[i] = new Double(array[i]);
+
+		// Faire le trie des données avec le comparateur en valeur absolue.
+		Arrays.sort(tab, new SAbsoluteDoubleComparator());
+
+		// Faire la somme des termes du tableau dans l'ordre stratégique qui devrait
+		// minimiser l'imprécision.
+		double value = 0.0;
+
+		for (Double d : tab)
+			value += d.doubleValue();
+
+		return value;
+
+	}
+
+	/**
+	 * Méthode déterminant le signe d'un nombre. Les résultats sont
+	 * <ul>
+	 * -1 si a < 0
+	 * </ul>
+	 * <ul>
+	 * 0 si a = 0
+	 * </ul>
+	 * <ul>
+	 * 1 si a > 0
+	 * </ul>
+	 * 
+	 * @param a Le nombre.
+	 * @return Le signe du nombre.
+	 */
+	public static double sgn(double a) {
+		if (a > 0)
+			return 1.0;
+		else if (a < 0)
+			return -1.0;
+		else
+			return 0.0;
+	}
+
+	/**
+	 * Méthode pour obtenir la <b>plus grande valeur</b> d'un tableau.
+	 * 
+	 * @param tab Le tableau.
+	 * @return La plus grande valeur du tableau.
+	 */
+	public static int findMax(int[] tab) {
+		int max = tab[0];
+
+		for (int v : tab)
+			if (v > max)
+				max = v;
+
+		return max;
+	}
+
+	/**
+	 * Méthode pour obtenir la <b>plus grande valeur</b> d'un tableau.
+	 * 
+	 * @param tab Le tableau.
+	 * @return La plus grande valeur du tableau.
+	 */
+	public static double findMax(double[] tab) {
+		double max = tab[0];
+
+		for (double v : tab)
+			if (v > max)
+				max = v;
+
+		return max;
+	}
+
+	/**
+	 * Méthode pour obtenir la <b>plus petite valeur</b> d'un tableau.
+	 * 
+	 * @param tab Le tableau.
+	 * @return La plus petite valeur du tableau.
+	 */
+	public static int findMin(int[] tab) {
+		int min = tab[0];
+
+		for (int v : tab)
+			if (v < min)
+				min = v;
+
+		return min;
+	}
+
+	/**
+	 * Méthode pour obtenir la <b>plus petite valeur</b> d'un tableau.
+	 * 
+	 * @param tab Le tableau.
+	 * @return La plus petite valeur du tableau.
+	 */
+	public static double findMin(double[] tab) {
+		double min = tab[0];
+
+		for (double v : tab)
+			if (v < min)
+				min = v;
+
+		return min;
+	}
+
+	/**
+	 * Méthode pour convertir un tableau d'entier vers un tableau de nombre réel
+	 * entre une valeur minimale et maximale. La correspondance entre les valeurs
+	 * converties sera linéaire.
+	 * 
+	 * @param data Les entiers à convertir.
+	 * @param min  La borne minimale.
+	 * @param max  La borne maximale.
+	 * @return Le tableau converti.
+	 * @throws SRuntimeException Si les bornes sont mal définies.
+	 */
+	public static double[] mappingIntToDouble(int[] data, double min, double max) throws SRuntimeException {
+		if (min > max)
+			throw new SRuntimeException("Erreur SMath 003 : La borne minimale " + min + " et la borne maximale " + max
+					+ " sont mal définies.");
+
+		int min_value = SMath.findMin(data);
+		int max_value = SMath.findMax(data);
+
+		double[] result = new double[data.length];
+
+		// Itérer sur l'ensemble des éléments du tableau.
+		for (int i = 0; i < result.length; i++) {
+			double t = SMath.reverseLinearInterpolation((double) data[i], (double) min_value, (double) max_value);
+			result[i] = SMath.linearInterpolation(min, max, t);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Méthode pour convertir un tableau de nombre réel vers un tableau d'entier
+	 * entre une valeur minimale et maximale. La correspondance entre les valeurs
+	 * converties sera linéaire.
+	 * 
+	 * @param data Les données à convertir.
+	 * @param min  La borne minimale.
+	 * @param max  La borne maximale.
+	 * @return Le tableau converti.
+	 * @throws SRuntimeException Si les bornes sont mal définies.
+	 */
+	public static int[] mappingDoubleToInt(double[] data, int min, int max) {
+		if (min > max)
+			throw new SRuntimeException("Erreur SMath 004 : La borne minimale " + min + " et la borne maximale " + max
+					+ " sont mal définies.");
+
+		double min_value = SMath.findMin(data);
+		double max_value = SMath.findMax(data);
+
+		int[] result = new int[data.length];
+
+		// Itérer sur l'ensemble des éléments du tableau.
+		for (int i = 0; i < result.length; i++) {
+			double t = SMath.reverseLinearInterpolation(data[i], min_value, max_value);
+			result[i] = (int) SMath.linearInterpolation(min, max, t);
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Méthode permettant de générer un tableau contenant les éléments identique de
+	 * deux tableaux de valeur
+	 * <ul>
+	 * préalablement trié
+	 * </ul>
+	 * .
+	 * </p>
+	 * 
+	 * <p>
+	 * <b>REMARQUE</b> : Le fonctionnement de cette méthode ne sera pas valide si
+	 * les deux tableaux passés en paramètre ne sont pas péalablement trié.
+	 * </p>
+	 * Référence :
+	 * https://stackoverflow.com/questions/32676381/find-intersection-of-two-arrays
+	 * 
+	 * @param tab1 Le 1ier tableau à comparer.
+	 * @param tab2 Le 2ième tableau à comparer.
+	 * @return Un tableau comprenant les éléments identiques de deux tableaux
+	 *         (l'intersection des deux tableaux).
+	 */
+	public static double[] intersectionSortedArray(double[] tab1, double[] tab2) {
+		return intersectionSortedArray(tab1, tab2, EPSILON);
+	}
+
+	/**
+	 * <p>
+	 * Méthode permettant de générer un tableau contenant les éléments identique de
+	 * deux tableaux de valeur
+	 * <ul>
+	 * préalablement trié
+	 * </ul>
+	 * .
+	 * </p>
+	 * 
+	 * <p>
+	 * <b>REMARQUE</b> : Le fonctionnement de cette méthode ne sera pas valide si
+	 * les deux tableaux passés en paramètre ne sont pas péalablement trié.
+	 * </p>
+	 * Référence :
+	 * https://stackoverflow.com/questions/32676381/find-intersection-of-two-arrays
+	 * 
+	 * @param tab1    Le 1ier tableau à comparer.
+	 * @param tab2    Le 2ième tableau à comparer.
+	 * @param epsilon La précision de la comparaison.
+	 * @return Un tableau comprenant les éléments identiques de deux tableaux
+	 *         (l'intersection des deux tableaux).
+	 */
+	public static double[] intersectionSortedArray(double[] tab1, double[] tab2, double epsilon) {
+		double intersection[] = new double[Math.min(tab1.length, tab2.length)];
+		int count = 0;
+
+		int i = 0;
+		int j = 0;
+		while (i < tab1.length && j < tab2.length) {
+			// Vérifier s'il y a égalité.
+			if (SMath.nearlyEquals(tab1[i], tab2[j], epsilon)) {
+				intersection[count] = tab1[i];
+				count++;
+				i++;
+				j++;
+			} else
+			// Avancer dans la recherche des éléments.
+			if (tab1[i] < tab2[j])
+				i++; // avancer dans le tableau 1
+			else
+				j++; // avancer dans le tableau 2
+		}
+
+		// Construire un tableau avec l'espace mémoire minimum.
+		double[] result = new double[count];
+		for (int k = 0; k < result.length; k++)
+			result[k] = intersection[k];
+
+		return result;
+	}
+
+}// fin de la classe SMath
@@ -0,0 +1,118 @@
+/**
+ *
+ */
+package sim.math;
+
+import sim.exception.SRuntimeException;
+
+/**
+ * <p>
+ * La classe <b>SSpaceFillingCurve</b> contient des méthodes pour parcourir une grille carrée de côté 2^n le long d'une courbe remplissant l'espace.
+ * Deux cellules consécutives sur la courbe sont voisines (ou proches) dans la grille, ce qui préserve la localité d'un parcours.
+ * </p>
+ *
+ * <ul>- La courbe de <b>Morton</b> (ordre Z) est obtenue en désentrelaçant les bits de la distance parcourue sur la courbe.</ul>
+ * <ul>- La courbe de <b>Hilbert</b> ne comporte aucun saut : deux cellules consécutives sont toujours adjacentes.</ul>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public final class SSpaceFillingCurve {
+
+  /**
+   * Méthode pour obtenir le plus petit côté d'une grille carrée de côté 2^n contenant une grille rectangulaire.
+   *
+   * @param width - La largeur de la grille rectangulaire.
+   * @param height - La hauteur de la grille rectangulaire.
+   * @return Le côté de la grille carrée.
+   * @throws SRuntimeException Si une dimension n'est pas supérieure à 0.
+   */
+  public static int squareSide(int width, int height) throws SRuntimeException
+  {
+    if(width < 1 || height < 1)
+      throw new SRuntimeException("Erreur SSpaceFillingCurve 001 : Les dimensions '" + width + "' x '" + height + "' doivent être supérieures à 0.");
+
+    int side = 1;
+
+    while(side < width || side < height)
+      side *= 2;
+
+    return side;
+  }
+
+  /**
+   * Méthode pour obtenir la coordonnée (x,y) d'une cellule située à une distance d sur la courbe de Morton.
+   *
+   * @param d - La distance sur la courbe (0 correspondant à la cellule (0,0)).
+   * @return La coordonnée {x, y} de la cellule.
+   */
+  public static int[] mortonToXY(long d)
+  {
+    return new int[]{ compactBits(d), compactBits(d >>> 1) };
+  }
+
+  /**
+   * Méthode pour obtenir la coordonnée (x,y) d'une cellule située à une distance d sur la courbe de Hilbert d'une grille carrée.
+   *
+   * @param side - Le côté de la grille (une puissance de 2).
+   * @param d - La distance sur la courbe (0 correspondant à la cellule (0,0)).
+   * @return La coordonnée {x, y} de la cellule.
+   * @throws SRuntimeException Si le côté de la grille n'est pas une puissance de 2.
+   */
+  public static int[] hilbertToXY(int side, long d) throws SRuntimeException
+  {
+    if(side < 1 || Integer.bitCount(side) != 1)
+      throw new SRuntimeException("Erreur SSpaceFillingCurve 002 : Le côté de la grille '" + side + "' n'est pas une puissance de 2.");
+
+    int x = 0;
+    int y = 0;
+    long t = d;
+
+    // Construction de la coordonnée du plus petit au plus grand quadrant
+    for(int s = 1; s < side; s *= 2)
+    {
+      int rx = (int)(1 & (t / 2));
+      int ry = (int)(1 & (t ^ rx));
+
+      // Rotation du quadrant
+      if(ry == 0)
+      {
+        if(rx == 1)
+        {
+          x = s - 1 - x;
+          y = s - 1 - y;
+        }
+
+        int tmp = x;
+        x = y;
+        y = tmp;
+      }
+
+      x += s * rx;
+      y += s * ry;
+      t /= 4;
+    }
+
+    return new int[]{ x, y };
+  }
+
+  /**
+   * Méthode pour conserver les bits de rang pair d'un nombre et les regrouper (bit 0, 2, 4, ... vers bit 0, 1, 2, ...).
+   *
+   * @param v - Le nombre.
+   * @return Le nombre formé des bits de rang pair.
+   */
+  private static int compactBits(long v)
+  {
+    v &= 0x5555555555555555L;
+    v = (v | (v >>> 1)) & 0x3333333333333333L;
+    v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+    v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+    v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+    v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+
+    return (int)v;
+  }
+
+}//fin de la classe SSpaceFillingCurve
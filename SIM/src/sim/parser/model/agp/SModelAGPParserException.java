@@ -1,70 +1,70 @@
-/**
- * 
- */
-package sim.parser.model.agp;
-
-/**
- * Classe reprsentant une exception lance par la classe SModelAGPParser lorsqu'il y a une erreur de lecture dans le fichier. 
- * 
- * @author Simon Vzina
- * @since 2015-08-01
- * @version 2015-08-01
- */
-public class SModelAGPParserException extends Exception {
-
-  /**
-   * 
-   */
-  private static final long serialVersionUID = 1L;
-
-  /**
-   * 
-   */
-  public SModelAGPParserException()
-  {
-    // TODO Auto-generated constructor stub
-  }
-
-  /**
-   * @param arg0
-   */
-  public SModelAGPParserException(String arg0)
-  {
-    super(arg0);
-    // TODO Auto-generated constructor stub
-  }
-
-  /**
-   * @param arg0
-   */
-  public SModelAGPParserException(Throwable arg0)
-  {
-    super(arg0);
-    // TODO Auto-generated constructor stub
-  }
-
-  /**
-   * @param arg0
-   * @param arg1
-   */
-  public SModelAGPParserException(String arg0, Throwable arg1)
-  {
-    super(arg0, arg1);
-    // TODO Auto-generated constructor stub
-  }
-
-  /**
-   * @param arg0
-   * @param arg1
-   * @param arg2
-   * @param arg3
-   */
-  /*
-  public SModelAGPParserException(String arg0, Throwable arg1, boolean arg2, boolean arg3)
-  {
-    super(arg0, arg1, arg2, arg3);
-    // TODO Auto-generated constructor stub
-  }
-  */
-  
-}//fin de la classe SModelAGPParserException
+/**
+ * 
+ */
+package sim.parser.model.agp;
+
+/**
+ * Classe représentant une exception lancée par la classe SModelAGPParser lorsqu'il y a une erreur de lecture dans le fichier. 
+ * 
+ * @author Simon Vézina
+ * @since 2015-08-01
+ * @version 2015-08-01
+ */
+public class SModelAGPParserException extends Exception {
+
+  /**
+   * 
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * 
+   */
+  public SModelAGPParserException()
+  {
+    // TODO Auto-generated constructor stub
+  }
+
+  /**
+   * @param arg0
+   */
+  public SModelAGPParserException(String arg0)
+  {
+    super(arg0);
+    // TODO Auto-generated constructor stub
+  }
+
+  /**
+   * @param arg0
+   */
+  public SModelAGPParserException(Throwable arg0)
+  {
+    super(arg0);
+    // TODO Auto-generated constructor stub
+  }
+
+  /**
+   * @param arg0
+   * @param arg1
+   */
+  public SModelAGPParserException(String arg0, Throwable arg1)
+  {
+    super(arg0, arg1);
+    // TODO Auto-generated constructor stub
+  }
+
+  /**
+   * @param arg0
+   * @param arg1
+   * @param arg2
+   * @param arg3
+   */
+  /*
+  public SModelAGPParserException(String arg0, Throwable arg1, boolean arg2, boolean arg3)
+  {
+    super(arg0, arg1, arg2, arg3);
+    // TODO Auto-generated constructor stub
+  }
+  */
+  
+}//fin de la classe SModelAGPParserException
@@ -0,0 +1,174 @@
+/**
+ *
+ */
+package sim.physics;
+
+import sim.exception.SConstructorException;
+import sim.math.SFourierTransform;
+
+/**
+ * <p>
+ * La classe <b>SFraunhoferPattern</b> représente la figure de diffraction en champ lointain (régime de <b>Fraunhofer</b>)
+ * d'une grille rectangulaire d'oscillateurs identiques en phase. La figure est précalculée une seule fois par
+ * transformée de Fourier rapide et conservée dans une table d'intensité relative selon la direction d'observation.
+ * </p>
+ * <p>
+ * En champ lointain, la différence de marche entre l'oscillateur (x,y) de la grille et le centre de la grille
+ * dans la direction de cosinus directeurs (sx,sy) est égale à x*sx + y*sy. L'amplitude de l'onde résultante est alors
+ * <ul>E(sx,sy) = somme( e^(-i*k*(x*sx + y*sy)) )</ul>
+ * ce qui correspond à la transformée de Fourier discrète de la grille évaluée à la fréquence u = sx*N*dx/lambda
+ * (et de façon similaire selon y). La table est échantillonnée avec un facteur de sur-échantillonnage afin
+ * qu'une interpolation bilinéaire soit suffisante entre les échantillons.
+ * </p>
+ * <p>
+ * L'intensité relative retournée est normalisée de la même façon que l'évaluation exacte
+ * d'une source de lumière avec interférence, soit la moyenne temporelle divisée par le nombre d'oscillateurs au carré.
+ * </p>
+ *
+ * @author Simon Vézina
+ * @since 2017-02-05
+ * @version 2017-02-05
+ */
+public class SFraunhoferPattern {
+
+  //--------------
+  // CONSTANTES //
+  //--------------
+
+  /**
+   * La constante <b>OVERSAMPLING</b> correspond au facteur de sur-échantillonnage de la table d'intensité
+   * par rapport au nombre d'oscillateurs de la grille étant égal à {@value}.
+   */
+  public static final int OVERSAMPLING = 4;
+
+  /**
+   * La constante <b>MAX_TABLE_SIZE</b> correspond à la taille maximale de la table d'intensité selon un axe étant égale à {@value}.
+   */
+  public static final int MAX_TABLE_SIZE = 2048;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>intensity_table</b> correspond à la table des intensités relatives (intensity_table[u][v]).
+   */
+  private final double[][] intensity_table;
+
+  /**
+   * Les variables <b>u_factor</b> et <b>v_factor</b> correspondent aux facteurs de conversion entre un cosinus directeur
+   * et un index de la table (u = sx*N*dx/lambda).
+   */
+  private final double u_factor;
+  private final double v_factor;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'une figure de diffraction en champ lointain d'une grille d'oscillateurs.
+   *
+   * @param grid La grille des oscillateurs (grid[i][j] est <b>true</b> s'il y a un oscillateur à la position (i*size_x, j*size_y)).
+   * @param size_x La distance entre deux oscillateurs consécutifs selon l'axe x.
+   * @param size_y La distance entre deux oscillateurs consécutifs selon l'axe y.
+   * @param wave_length La longueur d'onde des oscillateurs (en m).
+   * @throws SConstructorException Si la grille est vide ou si la longueur d'onde n'est pas positive.
+   */
+  public SFraunhoferPattern(boolean[][] grid, double size_x, double size_y, double wave_length) throws SConstructorException
+  {
+    if(grid.length == 0 || grid[0].length == 0)
+      throw new SConstructorException("Erreur SFraunhoferPattern 001 : La grille des oscillateurs ne peut pas être vide.");
+
+    if(wave_length <= 0)
+      throw new SConstructorException("Erreur SFraunhoferPattern 002 : La longueur d'onde '" + wave_length + "' doit être positive.");
+
+    int size_u = tableSize(grid.length);
+    int size_v = tableSize(grid[0].length);
+
+    // Construire le signal de la grille (complété par des zéros)
+    double[][] real = new double[size_u][size_v];
+    double[][] imaginary = new double[size_u][size_v];
+
+    int nb = 0;
+
+    for(int i = 0; i < grid.length; i++)
+      for(int j = 0; j < grid[i].length; j++)
+        if(grid[i][j])
+        {
+          real[i][j] = 1.0;
+          nb++;
+        }
+
+    if(nb == 0)
+      throw new SConstructorException("Erreur SFraunhoferPattern 003 : La grille ne contient aucun oscillateur.");
+
+    SFourierTransform.fft2d(real, imaginary);
+
+    // Intensité relative : moyenne temporelle |E|^2 / 2 divisée par le nombre d'oscillateurs au carré
+    double normalization = 1.0 / (2.0*nb*nb);
+
+    intensity_table = real;
+
+    for(int u = 0; u < size_u; u++)
+      for(int v = 0; v < size_v; v++)
+        intensity_table[u][v] = (real[u][v]*real[u][v] + imaginary[u][v]*imaginary[u][v]) * normalization;
+
+    u_factor = size_u * size_x / wave_length;
+    v_factor = size_v * size_y / wave_length;
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour obtenir l'intensité relative de la figure de diffraction dans une direction d'observation.
+   * L'intensité est interpolée bilinéairement entre les échantillons de la table.
+   *
+   * @param sx Le cosinus directeur de la direction d'observation selon l'axe x de la grille.
+   * @param sy Le cosinus directeur de la direction d'observation selon l'axe y de la grille.
+   * @return L'intensité relative.
+   */
+  public double getRelativeIntensity(double sx, double sy)
+  {
+    int size_u = intensity_table.length;
+    int size_v = intensity_table[0].length;
+
+    // Index (réel) dans la table. La table est périodique (repliement du spectre de la grille).
+    double u = sx * u_factor;
+    double v = sy * v_factor;
+
+    double u_floor = Math.floor(u);
+    double v_floor = Math.floor(v);
+
+    double fu = u - u_floor;
+    double fv = v - v_floor;
+
+    int u0 = (int)Math.floorMod((long)u_floor, (long)size_u);
+    int v0 = (int)Math.floorMod((long)v_floor, (long)size_v);
+    int u1 = u0 + 1 < size_u ? u0 + 1 : 0;
+    int v1 = v0 + 1 < size_v ? v0 + 1 : 0;
+
+    return (1.0 - fu)*((1.0 - fv)*intensity_table[u0][v0] + fv*intensity_table[u0][v1])
+         + fu*((1.0 - fv)*intensity_table[u1][v0] + fv*intensity_table[u1][v1]);
+  }
+
+  /**
+   * Méthode pour obtenir la taille de la table d'intensité selon un axe.
+   *
+   * @param nb Le nombre d'oscillateurs de la grille selon l'axe.
+   * @return La taille de la table (une puissance de 2).
+   */
+  private static int tableSize(int nb)
+  {
+    int size = SFourierTransform.nextPowerOfTwo(nb * OVERSAMPLING);
+
+    // Limiter la taille de la table sans réduire sous la taille de la grille
+    if(size > MAX_TABLE_SIZE)
+      size = Math.max(MAX_TABLE_SIZE, SFourierTransform.nextPowerOfTwo(nb));
+
+    return size;
+  }
+
+}//fin de la classe SFraunhoferPattern
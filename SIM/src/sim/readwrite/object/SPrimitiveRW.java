@@ -1,20 +1,20 @@
-/**
- * 
- */
-package sim.readwrite.object;
-
-/**
- * @author Simon
- *
- */
-public class SPrimitiveRW {
-
-  /**
-   * 
-   */
-  public SPrimitiveRW()
-  {
-    // TODO Auto-generated constructor stub
-  }
-
-}
+/**
+ * 
+ */
+package sim.readwrite.object;
+
+/**
+ * @author Simon
+ *
+ */
+public class SPrimitiveRW {
+
+  /**
+   * 
+   */
+  public SPrimitiveRW()
+  {
+    // TODO Auto-generated constructor stub
+  }
+
+}
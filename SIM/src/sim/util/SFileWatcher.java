@@ -0,0 +1,155 @@
+/**
+ *
+ */
+package sim.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La classe <b>SFileWatcher</b> permet de surveiller un ensemble de fichiers afin de détecter leur modification.
+ * La détection est réalisée par scrutation de la date de dernière modification de chaque fichier.
+ * Les fichiers sont localisés à partir du répertoire <b>"user.dir"</b> à l'aide d'un <b>SFileSearch</b>.
+ *
+ * @author Simon Vézina
+ * @since 2016-04-08
+ * @version 2016-04-08
+ */
+public class SFileWatcher {
+
+  //-------------
+  // CONSTANTES //
+  //-------------
+
+  /**
+   * La constante <b>DEFAULT_PERIOD</b> correspond à la période de scrutation par défaut des fichiers en milliseconde étant égale à {@value}.
+   */
+  public static final long DEFAULT_PERIOD = 500;
+
+  //-------------
+  // VARIABLES //
+  //-------------
+
+  /**
+   * La variable <b>file_map</b> correspond à la carte des fichiers surveillés. La <b>clé de recherche</b> est le <b>nom du fichier</b>
+   * tel qu'il a été ajouté à la surveillance.
+   */
+  private final Map<String, File> file_map;
+
+  /**
+   * La variable <b>last_modified_map</b> correspond à la carte des dates de dernière modification connues des fichiers surveillés.
+   */
+  private final Map<String, Long> last_modified_map;
+
+  //----------------
+  // CONSTRUCTEUR //
+  //----------------
+
+  /**
+   * Constructeur d'un surveillant de fichiers ne surveillant aucun fichier.
+   */
+  public SFileWatcher()
+  {
+    file_map = new LinkedHashMap<String, File>();
+    last_modified_map = new LinkedHashMap<String, Long>();
+  }
+
+  //------------
+  // MÉTHODES //
+  //------------
+
+  /**
+   * Méthode pour ajouter un fichier à la surveillance. Le fichier ne sera pas surveillé s'il n'est pas trouvé
+   * ou s'il a été trouvé plus d'une fois.
+   *
+   * @param file_name - Le nom du fichier à surveiller.
+   * @return <b>true</b> si le fichier est surveillé et <b>false</b> sinon.
+   */
+  public boolean addFile(String file_name)
+  {
+    if(file_map.containsKey(file_name))
+      return true;
+
+    SFileSearch search = new SFileSearch("", file_name);
+
+    if(!search.isFileFound() || search.isManyFileFound())
+      return false;
+
+    File file = new File(search.getFileFoundList().get(0));
+
+    file_map.put(file_name, file);
+    last_modified_map.put(file_name, file.lastModified());
+
+    return true;
+  }
+
+  /**
+   * Méthode pour ajouter une liste de fichiers à la surveillance.
+   *
+   * @param file_name_list - La liste des noms de fichier à surveiller.
+   * @see SFileWatcher#addFile(String)
+   */
+  public void addFile(List<String> file_name_list)
+  {
+    for(String file_name : file_name_list)
+      addFile(file_name);
+  }
+
+  /**
+   * Méthode pour obtenir la liste des noms de fichier surveillés.
+   *
+   * @return La liste des noms de fichier.
+   */
+  public List<String> getFileNameList()
+  {
+    return new ArrayList<String>(file_map.keySet());
+  }
+
+  /**
+   * Méthode pour obtenir la liste des fichiers modifiés depuis le dernier appel de cette méthode
+   * (ou depuis leur ajout à la surveillance).
+   *
+   * @return La liste des noms de fichier modifiés. La liste est vide s'il n'y a pas eu de modification.
+   */
+  public List<String> getModifiedFileList()
+  {
+    List<String> list = new ArrayList<String>();
+
+    for(Map.Entry<String, File> e : file_map.entrySet())
+    {
+      long last_modified = e.getValue().lastModified();
+
+      if(last_modified != last_modified_map.get(e.getKey()))
+      {
+        last_modified_map.put(e.getKey(), last_modified);
+        list.add(e.getKey());
+      }
+    }
+
+    return list;
+  }
+
+  /**
+   * Méthode pour attendre la modification d'au moins un fichier surveillé.
+   *
+   * @param period - La période de scrutation des fichiers en milliseconde.
+   * @return La liste des noms de fichier modifiés.
+   * @throws InterruptedException Si l'attente a été interrompue.
+   */
+  public List<String> waitModification(long period) throws InterruptedException
+  {
+    List<String> list = getModifiedFileList();
+
+    while(list.isEmpty())
+    {
+      Thread.sleep(period);
+      list = getModifiedFileList();
+    }
+
+    return list;
+  }
+
+}//fin de la classe SFileWatcher
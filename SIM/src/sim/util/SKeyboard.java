@@ -4,7 +4,7 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 
 /**
- * La classe <b>SKeyboard</b> permet la lecture d'une donne  l'aide du clavier.
+ * La classe <b>SKeyboard</b> permet la lecture d'une donnée à l'aide du clavier.
  * 
  * @author Simon Vezina
  * @version 2014-12-06
@@ -13,12 +13,12 @@ import java.io.InputStreamReader;
 public class SKeyboard
 {
   /**
-   * La constante <b>ERROR_MESSAGE</b> correspond au message d'erreur associ  une erreur de l'utilisation de la classe.
+   * La constante <b>ERROR_MESSAGE</b> correspond au message d'erreur associé à une erreur de l'utilisation de la classe.
    */
   private static final String ERROR_MESSAGE = "Erreur de lecture! Recommencez! ";
 
   /**
-   *  Mthode pour lire un String au clavier a partir d'une console.
+   *  Méthode pour lire un String au clavier a partir d'une console.
    *  
    *  @return La valeur lue au clavier.
    */
@@ -39,7 +39,7 @@ public class SKeyboard
   }//fin readString
 
   /**
-   *  Mthode pour lire un int au clavier a partir d'une console.
+   *  Méthode pour lire un int au clavier a partir d'une console.
    *  
    *  @return La valeur lue au clavier.
    */
@@ -63,7 +63,7 @@ public class SKeyboard
   }//fin readInt
 
   /**
-   *  Mthode pour lire un float au clavier a partir d'une console.
+   *  Méthode pour lire un float au clavier a partir d'une console.
    *  
    *  @return La valeur lue au clavier.
    */
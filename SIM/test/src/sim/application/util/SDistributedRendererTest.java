@@ -0,0 +1,320 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.exception.SRuntimeException;
+import sim.graphics.SColor;
+import sim.graphics.SViewport;
+
+/**
+ * JUnit Test de la classe <b>SDistributedRenderer</b>. Les processus de rendu sont simulés par des fils d'exécution
+ * respectant le protocole de communication du coordonnateur.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SDistributedRendererTest {
+
+  /**
+   * Test permettant de valider l'échange initial (scène et empreinte) et l'assemblage des tuiles d'un processus de rendu.
+   */
+  @Test
+  public void test_render1() throws Exception
+  {
+    SViewport viewport = new SViewport(8, 4);
+    SDistributedRenderer renderer = new SDistributedRenderer(viewport, "scene.txt", "abc", 4, 5.0);
+    Thread coordinator = startRender(renderer, "");
+
+    SColor color = new SColor(0.25, 0.5, 0.75);
+    SFakeWorker worker = new SFakeWorker(renderer, "", color, -1, -1);
+    worker.run();
+    coordinator.join();
+
+    Assert.assertEquals("scene.txt", worker.scene_file_name);
+    Assert.assertEquals("abc", worker.scene_hash);
+    Assert.assertEquals(2, worker.received.get());
+    Assert.assertTrue(worker.end);
+
+    assertColor(color, viewport, 0, 8);
+  }
+
+  /**
+   * Test permettant de valider la redistribution de la tuile d'un processus de rendu en panne.
+   */
+  @Test
+  public void test_render2() throws Exception
+  {
+    SViewport viewport = new SViewport(8, 4);
+    SDistributedRenderer renderer = new SDistributedRenderer(viewport, "scene.txt", "abc", 4, 5.0);
+    Thread coordinator = startRender(renderer, "");
+
+    // Le premier processus se déconnecte à la réception de sa première tuile
+    SFakeWorker dead_worker = new SFakeWorker(renderer, "", new SColor(1.0, 0.0, 0.0), 0, -1);
+    dead_worker.run();
+
+    // Attendre la détection de la panne afin que la tuile ne soit pas plutôt dupliquée (calcul lent)
+    while(renderer.getRedispatchCount() == 0)
+      Thread.sleep(10);
+
+    SColor color = new SColor(0.0, 1.0, 0.0);
+    SFakeWorker worker = new SFakeWorker(renderer, "", color, -1, -1);
+    worker.run();
+    coordinator.join();
+
+    Assert.assertEquals(1, renderer.getRedispatchCount());
+    Assert.assertEquals(2, worker.received.get());
+
+    assertColor(color, viewport, 0, 8);
+  }
+
+  /**
+   * Test permettant de valider qu'une tuile dupliquée (calcul anormalement long) conserve le premier résultat reçu.
+   */
+  @Test
+  public void test_render3() throws Exception
+  {
+    SViewport viewport = new SViewport(8, 4);
+    SDistributedRenderer renderer = new SDistributedRenderer(viewport, "scene.txt", "abc", 4, 5.0);
+    Thread coordinator = startRender(renderer, "");
+
+    // Le processus lent calcule la deuxième tuile pendant 2 secondes
+    SColor slow_color = new SColor(1.0, 0.0, 0.0);
+    SFakeWorker slow_worker = new SFakeWorker(renderer, "", slow_color, -1, 1);
+    Thread slow_thread = new Thread(slow_worker);
+    slow_thread.start();
+
+    while(slow_worker.received.get() < 2)
+      Thread.sleep(10);
+
+    // Le processus rapide reçoit une copie de la deuxième tuile
+    SColor fast_color = new SColor(0.0, 0.0, 1.0);
+    SFakeWorker fast_worker = new SFakeWorker(renderer, "", fast_color, -1, -1);
+    fast_worker.run();
+    coordinator.join();
+
+    // Le résultat du processus lent est reçu après la fin du rendu
+    slow_thread.join();
+
+    Assert.assertEquals(1, renderer.getDuplicateCount());
+    Assert.assertEquals(1, fast_worker.received.get());
+    Assert.assertTrue(slow_worker.end);
+
+    assertColor(slow_color, viewport, 0, 4);
+    assertColor(fast_color, viewport, 4, 8);
+  }
+
+  /**
+   * Test permettant de valider l'abandon du rendu lorsqu'aucun processus de rendu n'est connecté durant le délai de panne.
+   */
+  @Test(expected = SRuntimeException.class)
+  public void test_render4() throws Exception
+  {
+    SDistributedRenderer renderer = new SDistributedRenderer(new SViewport(8, 4), "scene.txt", "abc", 4, 0.3);
+    renderer.render(0, 0);
+  }
+
+  /**
+   * Test permettant de valider qu'un processus ne connaissant pas le secret partagé est déconnecté sans recevoir la scène ni de tuile.
+   */
+  @Test
+  public void test_render5() throws Exception
+  {
+    SViewport viewport = new SViewport(8, 4);
+    SDistributedRenderer renderer = new SDistributedRenderer(viewport, "scene.txt", "abc", 4, 5.0);
+    Thread coordinator = startRender(renderer, "secret");
+
+    SFakeWorker intruder = new SFakeWorker(renderer, "autre", new SColor(1.0, 0.0, 0.0), -1, -1);
+    intruder.run();
+
+    Assert.assertTrue(intruder.refused);
+    Assert.assertNull(intruder.scene_file_name);
+    Assert.assertEquals(0, intruder.received.get());
+
+    SColor color = new SColor(0.0, 1.0, 0.0);
+    SFakeWorker worker = new SFakeWorker(renderer, "secret", color, -1, -1);
+    worker.run();
+    coordinator.join();
+
+    Assert.assertFalse(worker.refused);
+    Assert.assertEquals(2, worker.received.get());
+
+    assertColor(color, viewport, 0, 8);
+  }
+
+  /**
+   * Test permettant de valider qu'un port ouvert sur toutes les interfaces réseau exige un secret partagé.
+   */
+  @Test(expected = SRuntimeException.class)
+  public void test_render6() throws Exception
+  {
+    SDistributedRenderer renderer = new SDistributedRenderer(new SViewport(8, 4), "scene.txt", "abc", 4, 5.0);
+    renderer.render(InetAddress.getByName("0.0.0.0"), 0, "", 0);
+  }
+
+  /**
+   * Méthode pour lancer le rendu dans un fil d'exécution et attendre que le coordonnateur soit en attente des processus de rendu.
+   *
+   * @param renderer - Le coordonnateur.
+   * @param secret - Le secret partagé du rendu.
+   * @return Le fil d'exécution du rendu.
+   */
+  private static Thread startRender(final SDistributedRenderer renderer, final String secret) throws InterruptedException
+  {
+    Thread thread = new Thread(new Runnable(){
+
+      @Override
+      public void run()
+      {
+        try{
+          renderer.render(InetAddress.getLoopbackAddress(), 0, secret, 0);
+        }catch(IOException e){
+          throw new SRuntimeException("Erreur SDistributedRendererTest 001 : Le rendu est impossible.", e);
+        }
+      }
+    });
+
+    thread.start();
+
+    while(renderer.getPort() == 0)
+      Thread.sleep(10);
+
+    return thread;
+  }
+
+  /**
+   * Méthode pour vérifier la couleur des colonnes [x_min, x_max[ du viewport.
+   */
+  private static void assertColor(SColor expected, SViewport viewport, int x_min, int x_max)
+  {
+    for(int x = x_min; x < x_max; x++)
+      for(int y = 0; y < viewport.getHeight(); y++)
+        Assert.assertEquals(expected, viewport.getColor(x, y));
+  }
+
+  /**
+   * Classe interne représentant un processus de rendu simulé attribuant une couleur unique aux pixels des tuiles reçues.
+   */
+  private static class SFakeWorker implements Runnable {
+
+    private final SDistributedRenderer renderer;
+    private final String secret;
+    private final SColor color;
+    private final int dead_tile;
+    private final int slow_tile;
+
+    private final AtomicInteger received = new AtomicInteger();
+    private volatile String scene_file_name;
+    private volatile String scene_hash;
+    private volatile boolean end;
+    private volatile boolean refused;
+
+    /**
+     * @param renderer - Le coordonnateur.
+     * @param secret - Le secret partagé utilisé pour répondre au défi d'authentification.
+     * @param color - La couleur des pixels.
+     * @param dead_tile - L'index de la tuile reçue à laquelle le processus se déconnecte (-1 pour aucune).
+     * @param slow_tile - L'index de la tuile reçue dont le calcul dure 2 secondes (-1 pour aucune).
+     */
+    private SFakeWorker(SDistributedRenderer renderer, String secret, SColor color, int dead_tile, int slow_tile)
+    {
+      this.renderer = renderer;
+      this.secret = secret;
+      this.color = color;
+      this.dead_tile = dead_tile;
+      this.slow_tile = slow_tile;
+    }
+
+    @Override
+    public void run()
+    {
+      try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), renderer.getPort())){
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        out.writeInt(SDistributedRenderer.MAGIC);
+        out.writeInt(SDistributedRenderer.VERSION);
+        out.flush();
+
+        Assert.assertEquals(SDistributedRenderer.CHALLENGE, in.readInt());
+
+        byte[] challenge = new byte[SDistributedRenderer.CHALLENGE_SIZE];
+        in.readFully(challenge);
+
+        out.writeInt(SDistributedRenderer.AUTH);
+        out.write(SDistributedRenderer.authenticationCode(secret, challenge));
+        out.flush();
+
+        int answer;
+
+        try{
+          answer = in.readInt();
+        }catch(EOFException e){
+          // Le coordonnateur a refusé le secret partagé
+          refused = true;
+          return;
+        }
+
+        Assert.assertEquals(SDistributedRenderer.SCENE, answer);
+        scene_file_name = in.readUTF();
+        scene_hash = in.readUTF();
+
+        out.writeInt(SDistributedRenderer.READY);
+        out.flush();
+
+        int command;
+
+        while((command = in.readInt()) == SDistributedRenderer.TILE)
+        {
+          int index = received.getAndIncrement();
+
+          int id = in.readInt();
+          in.readInt();
+          in.readInt();
+          int width = in.readInt();
+          int height = in.readInt();
+
+          if(index == dead_tile)
+            return;
+
+          if(index == slow_tile)
+            Thread.sleep(2000);
+
+          out.writeInt(SDistributedRenderer.RESULT);
+          out.writeInt(id);
+
+          for(int i = 0; i < width * height; i++)
+          {
+            out.writeDouble(color.getRed());
+            out.writeDouble(color.getGreen());
+            out.writeDouble(color.getBlue());
+            out.writeDouble(color.getAlpha());
+          }
+
+          out.flush();
+        }
+
+        end = command == SDistributedRenderer.END;
+
+      }catch(IOException | InterruptedException e){
+        throw new SRuntimeException("Erreur SDistributedRendererTest 002 : Le processus de rendu simulé est interrompu.", e);
+      }
+    }
+  }
+
+}//fin de la classe SDistributedRendererTest
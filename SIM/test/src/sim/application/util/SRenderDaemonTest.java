@@ -0,0 +1,328 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.SPrimitive;
+import sim.graphics.SScene;
+import sim.math.SVector3d;
+
+/**
+ * JUnit Test de la classe <b>SRenderDaemon</b>. Les demandes sont ajoutées par la méthode <b>submit</b>
+ * et rendues par le service lancé dans une tâche séparée.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRenderDaemonTest {
+
+  /**
+   * La constante <b>TIMEOUT</b> correspond au temps d'attente maximal d'une demande en milliseconde.
+   */
+  private static final long TIMEOUT = 60000;
+
+  /**
+   * Test permettant de valider la réutilisation d'une scène conservée en mémoire (incluant son espace des géométries)
+   * par une seconde demande portant sur la même scène.
+   */
+  @Test
+  public void test_loadScene1() throws Exception
+  {
+    File directory = Files.createTempDirectory("daemon").toFile();
+    File scene_file = createSceneFile();
+
+    SRenderDaemon daemon = new SRenderDaemon(0, 1);
+    Thread thread = start(daemon);
+
+    try{
+
+      writeScene(scene_file, 32, 0.0);
+
+      File image1 = new File(directory, "image1.png");
+      SRenderJob job1 = daemon.submit(scene_file.getName(), 0, null, null, null, image1.getPath());
+
+      waitJob(job1);
+      Assert.assertEquals(SRenderJob.DONE, job1.getState());
+      Assert.assertTrue(image1.isFile());
+
+      SScene scene = daemon.getScene(scene_file.getName());
+      Assert.assertNotNull(scene);
+
+      SGeometrySpace geometry_space = scene.getGeometrySpace();
+      Assert.assertNotNull(geometry_space);
+
+      // Seconde demande avec une autre caméra
+      File image2 = new File(directory, "image2.png");
+      SRenderJob job2 = daemon.submit(scene_file.getName(), 0, new SVector3d(-6.0, 1.0, 2.0), new SVector3d(0.0, 0.0, 0.0), null, image2.getPath());
+
+      waitJob(job2);
+      Assert.assertEquals(SRenderJob.DONE, job2.getState());
+      Assert.assertTrue(image2.isFile());
+
+      Assert.assertSame(scene, daemon.getScene(scene_file.getName()));
+      Assert.assertSame(geometry_space, scene.getGeometrySpace());
+
+    }finally{
+      stop(thread);
+      delete(directory, scene_file);
+    }
+  }
+
+  /**
+   * Test permettant de valider la relecture d'une scène conservée en mémoire après la modification de son fichier.
+   * Les primitives inchangées de la scène précédente sont réutilisées.
+   */
+  @Test
+  public void test_loadScene2() throws Exception
+  {
+    File directory = Files.createTempDirectory("daemon").toFile();
+    File scene_file = createSceneFile();
+
+    SRenderDaemon daemon = new SRenderDaemon(0, 1);
+    Thread thread = start(daemon);
+
+    try{
+
+      writeScene(scene_file, 32, 0.0);
+
+      SRenderJob job1 = daemon.submit(scene_file.getName(), 0, null, null, null, new File(directory, "image1.png").getPath());
+
+      waitJob(job1);
+      Assert.assertEquals(SRenderJob.DONE, job1.getState());
+
+      SScene scene1 = daemon.getScene(scene_file.getName());
+      List<SPrimitive> primitive_list1 = new ArrayList<SPrimitive>(scene1.getPrimitiveList());
+
+      // Modification de la position de la dernière sphère (la date de modification doit changer)
+      long last_modified = scene_file.lastModified();
+
+      writeScene(scene_file, 32, 0.5);
+      Assert.assertTrue(scene_file.setLastModified(last_modified + 10000));
+
+      SRenderJob job2 = daemon.submit(scene_file.getName(), 0, null, null, null, new File(directory, "image2.png").getPath());
+
+      waitJob(job2);
+      Assert.assertEquals(SRenderJob.DONE, job2.getState());
+
+      SScene scene2 = daemon.getScene(scene_file.getName());
+      Assert.assertNotSame(scene1, scene2);
+
+      List<SPrimitive> primitive_list2 = scene2.getPrimitiveList();
+      Assert.assertEquals(primitive_list1.size(), primitive_list2.size());
+
+      int last = primitive_list2.size() - 1;
+
+      for(int i = 0; i < last; i++)
+        Assert.assertSame(primitive_list1.get(i), primitive_list2.get(i));
+
+      Assert.assertNotSame(primitive_list1.get(last), primitive_list2.get(last));
+
+    }finally{
+      stop(thread);
+      delete(directory, scene_file);
+    }
+  }
+
+  /**
+   * Test permettant de valider l'annulation d'une demande en cours de rendu entre deux paquets de pixels.
+   * L'image partielle n'est pas écrite.
+   */
+  @Test
+  public void test_cancel() throws Exception
+  {
+    File directory = Files.createTempDirectory("daemon").toFile();
+    File scene_file = createSceneFile();
+
+    SRenderDaemon daemon = new SRenderDaemon(0, 1);
+    Thread thread = start(daemon);
+
+    try{
+
+      // Image suffisamment grande pour plusieurs centaines de paquets de pixels
+      writeScene(scene_file, 1600, 0.0);
+
+      File image = new File(directory, "image.png");
+      SRenderJob job = daemon.submit(scene_file.getName(), 0, null, null, null, image.getPath());
+
+      // Attendre la fin du premier paquet de pixels
+      long end = System.currentTimeMillis() + TIMEOUT;
+
+      while(job.getProgress() == 0.0 && System.currentTimeMillis() < end)
+        Thread.sleep(1);
+
+      Assert.assertEquals(SRenderJob.RUNNING, job.getState());
+      Assert.assertTrue(job.cancel());
+
+      waitJob(job);
+      Assert.assertEquals(SRenderJob.CANCELLED, job.getState());
+      Assert.assertTrue(job.getProgress() < 1.0);
+      Assert.assertFalse(image.exists());
+
+    }finally{
+      stop(thread);
+      delete(directory, scene_file);
+    }
+  }
+
+  /**
+   * Test permettant de valider qu'une demande lançant une exception (ici une <b>SConstructorException</b> lors de la construction
+   * de la caméra de la demande) se termine en erreur et que la demande suivante est rendue.
+   */
+  @Test
+  public void test_render_failure() throws Exception
+  {
+    File directory = Files.createTempDirectory("daemon").toFile();
+    File scene_file = createSceneFile();
+
+    SRenderDaemon daemon = new SRenderDaemon(0, 1);
+
+    try{
+
+      writeScene(scene_file, 32, 0.0);
+
+      // La position de la caméra et la position où elle regarde sont identiques
+      SRenderJob job1 = daemon.submit(scene_file.getName(), 0, new SVector3d(1.0, 2.0, 3.0), new SVector3d(1.0, 2.0, 3.0), null, new File(directory, "image1.png").getPath());
+
+      File image2 = new File(directory, "image2.png");
+      SRenderJob job2 = daemon.submit(scene_file.getName(), 0, null, null, null, image2.getPath());
+
+      Thread thread = start(daemon);
+
+      try{
+        waitJob(job1);
+        waitJob(job2);
+      }finally{
+        stop(thread);
+      }
+
+      Assert.assertEquals(SRenderJob.FAILED, job1.getState());
+      Assert.assertTrue(job1.toString().contains("SCamera 001"));
+
+      Assert.assertEquals(SRenderJob.DONE, job2.getState());
+      Assert.assertTrue(image2.isFile());
+
+    }finally{
+      delete(directory, scene_file);
+    }
+  }
+
+  /**
+   * Méthode pour lancer le service de rendu dans une tâche séparée.
+   *
+   * @param daemon - Le service de rendu.
+   * @return La tâche du service.
+   */
+  private static Thread start(SRenderDaemon daemon)
+  {
+    Thread thread = new Thread(daemon::run, "SRenderDaemonTest");
+    thread.setDaemon(true);
+    thread.start();
+
+    return thread;
+  }
+
+  /**
+   * Méthode pour arrêter le service de rendu lancé dans une tâche séparée.
+   *
+   * @param thread - La tâche du service.
+   * @throws InterruptedException Si l'attente de l'arrêt a été interrompue.
+   */
+  private static void stop(Thread thread) throws InterruptedException
+  {
+    thread.interrupt();
+    thread.join(TIMEOUT);
+  }
+
+  /**
+   * Méthode pour attendre la fin d'une demande (réussie, en erreur ou annulée).
+   *
+   * @param job - La demande.
+   * @throws InterruptedException Si l'attente a été interrompue.
+   */
+  private static void waitJob(SRenderJob job) throws InterruptedException
+  {
+    long end = System.currentTimeMillis() + TIMEOUT;
+
+    while((job.getState() == SRenderJob.QUEUED || job.getState() == SRenderJob.RUNNING) && System.currentTimeMillis() < end)
+      Thread.sleep(5);
+  }
+
+  /**
+   * Méthode pour créer un fichier de scène vide au nom unique dans le répertoire de l'application.
+   * Une scène est cherchée par son nom à partir du répertoire "user.dir".
+   *
+   * @return Le fichier de scène.
+   * @throws IOException Si le fichier ne peut pas être créé.
+   */
+  private static File createSceneFile() throws IOException
+  {
+    return File.createTempFile("SRenderDaemonTest", ".txt", new File(System.getProperty("user.dir")));
+  }
+
+  /**
+   * Méthode pour écrire une scène formée d'un plan et de dix sphères alignées.
+   *
+   * @param file - Le fichier de scène.
+   * @param size - La largeur et la hauteur de l'image en pixel.
+   * @param shift - Le déplacement en z de la dernière sphère.
+   * @throws IOException Si le fichier ne peut pas être écrit.
+   */
+  private static void writeScene(File file, int size, double shift) throws IOException
+  {
+    StringBuilder builder = new StringBuilder();
+
+    builder.append("camera\nposition -6.0 0.0 2.0\nlook_at 0.0 0.0 0.0\nup 0.0 0.0 1.0\nend\n");
+    builder.append("viewport\nwidth " + size + "\nheight " + size + "\nimage_file_name daemon\nend\n");
+    builder.append("raytracer\ntask 1\nspace voxel\nend\n");
+
+    builder.append("primitive\nmaterial_name plan\nplane\nposition 0.0 0.0 0.0\nnormal 0.0 0.0 1.0\nend\nend\n");
+    builder.append("material\nname plan\ncolor 0.8 0.8 0.6\nka 0.1\nkd 0.4\nks 0.2\nend\n");
+
+    for(int i = 0; i < 10; i++)
+    {
+      double z = i == 9 ? 1.0 + shift : 1.0;
+
+      builder.append("primitive\nmaterial_name sphere\nsphere\nposition " + (i - 4.5) + " 0.0 " + z + "\nray 0.4\nend\nend\n");
+    }
+
+    builder.append("material\nname sphere\ncolor 0.2 0.4 0.9\nka 0.1\nkd 0.6\nks 0.3\nend\n");
+
+    builder.append("ambient_light\ncolor 1.0 1.0 1.0\nend\n");
+    builder.append("directional_light\ncolor 0.7 0.7 0.7\norientation 1.0 1.0 -1.0\nend\n");
+
+    try(FileWriter writer = new FileWriter(file)){
+      writer.write(builder.toString());
+    }
+  }
+
+  /**
+   * Méthode pour supprimer le répertoire des images et le fichier de scène d'un test.
+   *
+   * @param directory - Le répertoire des images.
+   * @param scene_file - Le fichier de scène.
+   */
+  private static void delete(File directory, File scene_file)
+  {
+    File[] list = directory.listFiles();
+
+    if(list != null)
+      for(File f : list)
+        f.delete();
+
+    directory.delete();
+    scene_file.delete();
+  }
+
+}//fin de la classe SRenderDaemonTest
@@ -0,0 +1,111 @@
+/**
+ *
+ */
+package sim.application.util;
+
+import java.util.PriorityQueue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit Test de la classe <b>SRenderJob</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRenderJobTest {
+
+  /**
+   * Test permettant de valider l'ordre de rendu des demandes : la priorité la plus grande en premier, puis la demande arrivée la première.
+   */
+  @Test
+  public void test_compareTo() throws Exception
+  {
+    SRenderJob job1 = new SRenderJob(1, "scene.txt", 0, null, null, null, null);
+    SRenderJob job2 = new SRenderJob(2, "scene.txt", 5, null, null, null, null);
+    SRenderJob job3 = new SRenderJob(3, "scene.txt", 0, null, null, null, null);
+    SRenderJob job4 = new SRenderJob(4, "scene.txt", 5, null, null, null, null);
+
+    Assert.assertTrue(job2.compareTo(job1) < 0);
+    Assert.assertTrue(job1.compareTo(job3) < 0);
+    Assert.assertEquals(0, job1.compareTo(job1));
+
+    PriorityQueue<SRenderJob> queue = new PriorityQueue<SRenderJob>();
+    queue.add(job3);
+    queue.add(job1);
+    queue.add(job4);
+    queue.add(job2);
+
+    Assert.assertSame(job2, queue.poll());
+    Assert.assertSame(job4, queue.poll());
+    Assert.assertSame(job1, queue.poll());
+    Assert.assertSame(job3, queue.poll());
+  }
+
+  /**
+   * Test permettant de valider l'annulation d'une demande en attente.
+   */
+  @Test
+  public void test_cancel1() throws Exception
+  {
+    SRenderJob job = new SRenderJob(1, "scene.txt", 0, null, null, null, null);
+
+    Assert.assertEquals(SRenderJob.QUEUED, job.getState());
+    Assert.assertTrue(job.cancel());
+    Assert.assertEquals(SRenderJob.CANCELLED, job.getState());
+
+    // Une demande annulée ne peut pas débuter
+    Assert.assertFalse(job.start());
+    Assert.assertFalse(job.cancel());
+  }
+
+  /**
+   * Test permettant de valider l'annulation d'une demande en cours de rendu et la fin d'une demande.
+   */
+  @Test
+  public void test_cancel2() throws Exception
+  {
+    SRenderJob job = new SRenderJob(1, "scene.txt", 0, null, null, null, null);
+
+    Assert.assertTrue(job.start());
+    Assert.assertEquals(SRenderJob.RUNNING, job.getState());
+    Assert.assertFalse(job.start());
+
+    // L'annulation d'une demande en cours est demandée à la tâche de rendu
+    Assert.assertTrue(job.cancel());
+    Assert.assertTrue(job.isCancelRequested());
+    Assert.assertEquals(SRenderJob.RUNNING, job.getState());
+
+    job.finish(SRenderJob.CANCELLED, null);
+    Assert.assertEquals(SRenderJob.CANCELLED, job.getState());
+    Assert.assertFalse(job.cancel());
+  }
+
+  /**
+   * Test permettant de valider la fin d'une demande réussie ou en erreur.
+   */
+  @Test
+  public void test_finish() throws Exception
+  {
+    SRenderJob job1 = new SRenderJob(1, "scene.txt", 0, null, null, null, null);
+    job1.start();
+    job1.setProgress(0.5);
+    job1.finish(SRenderJob.DONE, null);
+
+    Assert.assertEquals(SRenderJob.DONE, job1.getState());
+    Assert.assertEquals(1.0, job1.getProgress(), 0.0);
+    Assert.assertFalse(job1.cancel());
+
+    SRenderJob job2 = new SRenderJob(2, "scene.txt", 0, null, null, null, null);
+    job2.start();
+    job2.finish(SRenderJob.FAILED, "Erreur");
+
+    Assert.assertEquals(SRenderJob.FAILED, job2.getState());
+    Assert.assertTrue(job2.toString().contains("failed"));
+    Assert.assertTrue(job2.toString().endsWith("Erreur"));
+    Assert.assertFalse(job2.cancel());
+  }
+
+}//fin de la classe SRenderJobTest
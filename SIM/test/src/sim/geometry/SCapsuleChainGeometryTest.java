@@ -0,0 +1,182 @@
+/**
+ *
+ */
+package sim.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.space.SBoundingBox;
+import sim.geometry.space.SBoundingBoxBuilder;
+import sim.geometry.space.SVoxelSpace;
+import sim.math.SVector3d;
+
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SCapsuleChainGeometry</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-10
+ * @version 2017-02-14
+ */
+public class SCapsuleChainGeometryTest {
+
+  /**
+   * Méthode pour construire la chaîne (0,0,0) - (2,0,0) - (2,2,0) de rayon 0.5 utilisée par les tests.
+   *
+   * @return La chaîne de capsules.
+   */
+  private static SCapsuleChainGeometry buildElbow()
+  {
+    List<SVector3d> list = new ArrayList<SVector3d>();
+
+    list.add(new SVector3d(0.0, 0.0, 0.0));
+    list.add(new SVector3d(2.0, 0.0, 0.0));
+    list.add(new SVector3d(2.0, 2.0, 0.0));
+
+    return new SCapsuleChainGeometry(list, 0.5);
+  }
+
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe z et le tube du 1ier segment de la chaîne.
+   */
+  @Test
+  public void intersectionTest1()
+  {
+    SRay ray = new SRay(new SVector3d(1.0, 0.0, 5.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    SRay calculated_solution = geometry.intersection(ray);
+
+    SRay expected_solution = ray.intersection(geometry, new SVector3d(0.0, 0.0, 1.0), 4.5);
+
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe x et la sphère de la jonction entre les deux segments de la chaîne.
+   */
+  @Test
+  public void intersectionTest2()
+  {
+    SRay ray = new SRay(new SVector3d(5.0, 0.0, 0.0), new SVector3d(-1.0, 0.0, 0.0), 1.0);
+
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    SRay calculated_solution = geometry.intersection(ray);
+
+    SRay expected_solution = ray.intersection(geometry, new SVector3d(1.0, 0.0, 0.0), 2.5);
+
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+
+  /**
+   * Test de l'intersection entre un rayon débutant à l'intérieur du 2ième segment et traversant la jonction.
+   * La surface de la capsule du 1ier segment rencontrée à l'intérieur du 2ième segment ne fait pas partie de la surface de la chaîne.
+   */
+  @Test
+  public void intersectionTest3()
+  {
+    SRay ray = new SRay(new SVector3d(2.0, 1.0, 0.0), new SVector3d(0.0, -1.0, 0.0), 1.0);
+
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    SRay calculated_solution = geometry.intersection(ray);
+
+    SRay expected_solution = ray.intersection(geometry, new SVector3d(0.0, -1.0, 0.0), 1.5);
+
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+
+  /**
+   * Test de l'intersection entre un rayon et une longue chaîne en zigzag. Le rayon doit rencontrer le segment 73 parmi 199 segments.
+   */
+  @Test
+  public void intersectionTest4()
+  {
+    List<SVector3d> list = new ArrayList<SVector3d>();
+
+    for(int i = 0; i < 200; i++)
+      list.add(new SVector3d(i, (i % 2 == 0) ? 0.0 : 1.0, 0.0));
+
+    SCapsuleChainGeometry geometry = new SCapsuleChainGeometry(list, 0.25);
+
+    // Milieu du segment 73 reliant (73,1,0) à (74,0,0)
+    SRay ray = new SRay(new SVector3d(73.5, 0.5, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    SRay calculated_solution = geometry.intersection(ray);
+
+    SRay expected_solution = ray.intersection(geometry, new SVector3d(0.0, 0.0, 1.0), 9.75);
+
+    Assert.assertEquals(expected_solution, calculated_solution);
+
+    // Un rayon passant entre deux segments ne rencontre pas la chaîne
+    SRay miss = new SRay(new SVector3d(73.0, -0.5, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    Assert.assertFalse(geometry.intersection(miss).asIntersected());
+  }
+
+  /**
+   * Test de la méthode isInside pour des points dans un segment, dans la sphère d'une extrémité et à l'extérieur de la chaîne.
+   */
+  @Test
+  public void isInsideTest()
+  {
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    Assert.assertTrue(geometry.isInside(new SVector3d(1.0, 0.4, 0.0)));
+    Assert.assertTrue(geometry.isInside(new SVector3d(2.0, 2.4, 0.0)));
+    Assert.assertTrue(geometry.isInside(new SVector3d(-0.3, 0.0, 0.3)));
+
+    Assert.assertFalse(geometry.isInside(new SVector3d(1.0, 0.6, 0.0)));
+    Assert.assertFalse(geometry.isInside(new SVector3d(2.0, 2.6, 0.0)));
+    Assert.assertFalse(geometry.isInside(new SVector3d(1.0, 1.0, 0.0)));
+  }
+
+  /**
+   * Test de la boîte englobante de la chaîne qui doit correspondre à la racine de sa hiérarchie (points de la chaîne agrandis du rayon).
+   */
+  @Test
+  public void boundingBoxTest()
+  {
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    SBoundingBox box = new SBoundingBoxBuilder().buildBoundingBox(geometry);
+
+    Assert.assertNotNull(box);
+    Assert.assertSame(geometry, box.getGeometry());
+
+    Assert.assertEquals(-0.5, box.getMinPoint().getX(), 1e-6);
+    Assert.assertEquals(-0.5, box.getMinPoint().getY(), 1e-6);
+    Assert.assertEquals(-0.5, box.getMinPoint().getZ(), 1e-6);
+
+    Assert.assertEquals(2.5, box.getMaxPoint().getX(), 1e-6);
+    Assert.assertEquals(2.5, box.getMaxPoint().getY(), 1e-6);
+    Assert.assertEquals(0.5, box.getMaxPoint().getZ(), 1e-6);
+  }
+
+  /**
+   * Test de l'intersection d'une chaîne placée dans un espace de voxel (la chaîne est répartie dans les voxels couverts par sa boîte).
+   */
+  @Test
+  public void intersectionVoxelSpaceTest()
+  {
+    SCapsuleChainGeometry geometry = buildElbow();
+
+    SVoxelSpace space = new SVoxelSpace();
+    space.addGeometry(geometry);
+    space.addGeometry(new SSphereGeometry(new SVector3d(10.0, 10.0, 10.0), 0.1));
+    space.initialize();
+
+    SRay ray = new SRay(new SVector3d(1.9, 1.1, 5.0), new SVector3d(0.01, 0.02, -1.0).normalize(), 1.0);
+    SRay result = space.nearestIntersection(ray, Double.POSITIVE_INFINITY);
+
+    Assert.assertSame(geometry, result.getGeometry());
+    Assert.assertEquals(geometry.intersection(ray).getT(), result.getT(), 1e-10);
+  }
+
+}//fin de la classe SCapsuleChainGeometryTest
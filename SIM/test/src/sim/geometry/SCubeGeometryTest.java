@@ -0,0 +1,75 @@
+/**
+ * 
+ */
+package sim.geometry;
+
+import org.junit.Assert;
+import org.junit.Test;
+import sim.math.SVector3d;
+
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SCubeGeometry</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-07
+ * @version 2017-02-07
+ */
+public class SCubeGeometryTest {
+
+  /**
+   * Test de l'intersection entre un rayon et la face d'un cube perpendiculaire à l'axe y par laquelle le rayon entre dans le cube.
+   */
+  @Test
+  public void intersectionTest1()
+  {
+    SRay ray = new SRay(new SVector3d(0.2, 5.0, -0.3), new SVector3d(0.0, -2.0, 0.0), 1.0);
+      
+    SCubeGeometry geometry = new SCubeGeometry(new SVector3d(0.0, 1.0, 0.0), 2.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du cube.
+    SVector3d expected_normal = new SVector3d(0.0, 1.0, 0.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 1.5);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon débutant à l'intérieur du cube et la face par laquelle il sort du cube.
+   */
+  @Test
+  public void intersectionTest2()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(-1.0, 0.0, 0.2), 1.0);
+      
+    SCubeGeometry geometry = new SCubeGeometry(new SVector3d(0.0, 0.0, 0.0), 2.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du cube.
+    SVector3d expected_normal = new SVector3d(-1.0, 0.0, 0.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 1.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre un rayon et un cube situé derrière le rayon.
+   */
+  @Test
+  public void intersectionTest3()
+  {
+    SRay ray = new SRay(new SVector3d(5.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SCubeGeometry geometry = new SCubeGeometry(new SVector3d(0.0, 0.0, 0.0), 2.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    Assert.assertEquals(ray, calculated_solution);
+  }
+  
+}//fin de la classe de test SCubeGeometryTest
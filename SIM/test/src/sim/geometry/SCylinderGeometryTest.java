@@ -0,0 +1,95 @@
+/**
+ * 
+ */
+package sim.geometry;
+
+import org.junit.Assert;
+import org.junit.Test;
+import sim.math.SVector3d;
+
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SCylinderGeometry</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-07
+ * @version 2017-02-07
+ */
+public class SCylinderGeometryTest {
+
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe z et le disque de l'extrémité P1 d'un cylindre aligné selon l'axe z.
+   */
+  @Test
+  public void intersectionTest1()
+  {
+    SRay ray = new SRay(new SVector3d(0.5, 0.0, -5.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SCylinderGeometry geometry = new SCylinderGeometry(new SVector3d(0.0, 0.0, -1.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du disque de l'extrémité P1.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, -1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 4.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe x et la surface du tube d'un cylindre aligné selon l'axe z.
+   */
+  @Test
+  public void intersectionTest2()
+  {
+    SRay ray = new SRay(new SVector3d(-5.0, 0.0, 0.5), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SCylinderGeometry geometry = new SCylinderGeometry(new SVector3d(0.0, 0.0, -1.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du tube.
+    SVector3d expected_normal = new SVector3d(-1.0, 0.0, 0.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 4.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon débutant à l'intérieur du cylindre et le disque de l'extrémité P2 par lequel il sort du cylindre.
+   */
+  @Test
+  public void intersectionTest3()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SCylinderGeometry geometry = new SCylinderGeometry(new SVector3d(0.0, 0.0, -1.0), new SVector3d(0.0, 0.0, 2.0), 1.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du disque de l'extrémité P2.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 2.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre un rayon passant à côté d'un cylindre.
+   */
+  @Test
+  public void intersectionTest4()
+  {
+    SRay ray = new SRay(new SVector3d(-5.0, 0.0, 1.5), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SCylinderGeometry geometry = new SCylinderGeometry(new SVector3d(0.0, 0.0, -1.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    Assert.assertEquals(ray, calculated_solution);
+  }
+  
+}//fin de la classe de test SCylinderGeometryTest
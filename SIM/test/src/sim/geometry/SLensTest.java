@@ -0,0 +1,172 @@
+/**
+ * 
+ */
+package sim.geometry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.math.SVector3d;
+
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SLens</b>.
+ * 
+ * <p>Les lentilles des tests sont alignées selon l'axe z entre P1 = (0,0,-4) et P2 = (0,0,4) avec un rayon de 3. 
+ * Une calotte sphérique de rayon de courbure 5 en valeur absolue est alors de hauteur 1.</p>
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SLensTest {
+
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe -z et la calotte sphérique convexe de l'extrémité P2 d'une lentille biconvexe.
+   */
+  @Test
+  public void intersectionTest1()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, 5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur de la calotte de l'extrémité P2.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 5.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe x et la surface du tube d'une lentille biconvexe.
+   */
+  @Test
+  public void intersectionTest2()
+  {
+    SRay ray = new SRay(new SVector3d(-10.0, 0.0, 0.5), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, 5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur du tube.
+    SVector3d expected_normal = new SVector3d(-1.0, 0.0, 0.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 7.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe -z et la calotte sphérique concave de l'extrémité P2 d'une lentille.
+   * La normale à la surface extérieure de la lentille est inversée par rapport à celle de la calotte sphérique.
+   */
+  @Test
+  public void intersectionTest3()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, -5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 7.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon tangent au sommet de la calotte sphérique convexe de l'extrémité P2 d'une lentille.
+   */
+  @Test
+  public void intersectionTest4()
+  {
+    SRay ray = new SRay(new SVector3d(-10.0, 0.0, 5.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, 5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 10.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon débutant au centre d'une lentille et la calotte sphérique par laquelle il sort de la lentille.
+   */
+  @Test
+  public void intersectionTest5()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, 5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur de la calotte de l'extrémité P1.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, -1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 5.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon débutant au centre d'une lentille et la surface du tube par laquelle il sort de la lentille.
+   */
+  @Test
+  public void intersectionTest6()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 1.0, 0.0), 1.0);
+      
+    SLens geometry = buildLens(5.0, -5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    SVector3d expected_normal = new SVector3d(0.0, 1.0, 0.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 3.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre des rayons passant à côté d'une lentille.
+   * Le second rayon traverse la sphère de la courbure des deux calottes sphériques sans traverser les calottes.
+   */
+  @Test
+  public void intersectionTest7()
+  {
+    SLens geometry = buildLens(5.0, 5.0);
+    
+    SRay ray1 = new SRay(new SVector3d(-10.0, 0.0, 6.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    Assert.assertEquals(ray1, geometry.intersection(ray1));
+    
+    SRay ray2 = new SRay(new SVector3d(-10.0, 4.0, 0.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+    
+    Assert.assertEquals(ray2, geometry.intersection(ray2));
+  }
+  
+  /**
+   * Méthode pour construire une lentille alignée selon l'axe z entre P1 = (0,0,-4) et P2 = (0,0,4) de rayon 3.
+   * 
+   * @param curvature1 - Le rayon de courbure du côté P1 de la lentille.
+   * @param curvature2 - Le rayon de courbure du côté P2 de la lentille.
+   * @return La lentille.
+   */
+  private static SLens buildLens(double curvature1, double curvature2)
+  {
+    return new SLens(new SVector3d(0.0, 0.0, -4.0), new SVector3d(0.0, 0.0, 4.0), 3.0, curvature1, curvature2);
+  }
+  
+}//fin de la classe de test SLensTest
@@ -0,0 +1,169 @@
+/**
+ * 
+ */
+package sim.geometry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.math.SMath;
+import sim.math.SVector3d;
+
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SSphericalCapGeometry</b>.
+ * 
+ * <p>Les calottes sphériques des tests ont un disque de rayon 3 centré en (0,0,4) et un rayon de courbure de 5 en valeur absolue. 
+ * La sphère de la courbure est alors centrée en (0,0,0) pour une courbure convexe et en (0,0,8) pour une courbure concave.</p>
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SSphericalCapGeometryTest {
+
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe -z et le sommet d'une calotte sphérique convexe.
+   */
+  @Test
+  public void intersectionTest1()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SSphericalCapGeometry geometry = buildCap(5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur de la courbure convexe.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 5.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon voyageant selon l'axe -z et le sommet d'une calotte sphérique concave.
+   * Le rayon traverse la sphère de la courbure à l'extérieur de la calotte avant d'atteindre la calotte (2e temps d'intersection).
+   */
+  @Test
+  public void intersectionTest2()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 20.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SSphericalCapGeometry geometry = buildCap(-5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    // Orientation de la normale à la surface à l'extérieur de la sphère de la courbure concave.
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, -1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 17.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon tangent au sommet d'une calotte sphérique convexe.
+   */
+  @Test
+  public void intersectionTest3()
+  {
+    SRay ray = new SRay(new SVector3d(-10.0, 0.0, 5.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+      
+    SSphericalCapGeometry geometry = buildCap(5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 10.0);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection entre un rayon débutant entre le disque et la calotte sphérique convexe et la calotte par laquelle il sort.
+   */
+  @Test
+  public void intersectionTest4()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 4.5), new SVector3d(0.0, 0.0, 1.0), 1.0);
+      
+    SSphericalCapGeometry geometry = buildCap(5.0);
+      
+    SRay calculated_solution = geometry.intersection(ray);
+      
+    SVector3d expected_normal = new SVector3d(0.0, 0.0, 1.0);
+    
+    SRay expected_solution = ray.intersection(geometry, expected_normal, 0.5);
+      
+    Assert.assertEquals(expected_solution, calculated_solution);
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre un rayon débutant entre le disque et la calotte sphérique convexe 
+   * et sortant par le disque (la calotte sphérique est ouverte).
+   */
+  @Test
+  public void intersectionTest5()
+  {
+    SRay ray = new SRay(new SVector3d(0.0, 0.0, 4.5), new SVector3d(0.0, 0.0, -1.0), 1.0);
+      
+    SSphericalCapGeometry geometry = buildCap(5.0);
+      
+    Assert.assertEquals(SMath.INFINITY, geometry.capIntersectionTime(ray), 0.0);
+    Assert.assertEquals(ray, geometry.intersection(ray));
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre un rayon et la sphère de la courbure du côté opposé à la courbure 
+   * par rapport au plan du disque.
+   */
+  @Test
+  public void intersectionTest6()
+  {
+    SSphericalCapGeometry geometry = buildCap(5.0);
+    
+    // Le rayon traverse la sphère de la courbure à côté du disque.
+    SRay ray1 = new SRay(new SVector3d(4.0, 0.0, 10.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+    
+    Assert.assertEquals(SMath.INFINITY, geometry.capIntersectionTime(ray1), 0.0);
+    Assert.assertEquals(ray1, geometry.intersection(ray1));
+    
+    // Le rayon est tangent à la sphère de la courbure à l'opposé de la calotte.
+    SRay ray2 = new SRay(new SVector3d(-10.0, 0.0, -5.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+    
+    Assert.assertEquals(SMath.INFINITY, geometry.capIntersectionTime(ray2), 0.0);
+    Assert.assertEquals(ray2, geometry.intersection(ray2));
+  }
+  
+  /**
+   * Test de l'intersection <u>sans succès</u> entre un rayon passant à côté d'une calotte sphérique et un rayon s'en éloignant.
+   */
+  @Test
+  public void intersectionTest7()
+  {
+    SSphericalCapGeometry geometry = buildCap(5.0);
+    
+    SRay ray1 = new SRay(new SVector3d(-10.0, 0.0, 6.0), new SVector3d(1.0, 0.0, 0.0), 1.0);
+    
+    Assert.assertEquals(ray1, geometry.intersection(ray1));
+    
+    SRay ray2 = new SRay(new SVector3d(0.0, 0.0, 10.0), new SVector3d(0.0, 0.0, 1.0), 1.0);
+    
+    Assert.assertEquals(ray2, geometry.intersection(ray2));
+  }
+  
+  /**
+   * Méthode pour construire une calotte sphérique dont le disque de rayon 3 est centré en (0,0,4) avec une normale selon l'axe z.
+   * 
+   * @param radius_of_curvature - Le rayon de courbure de la calotte sphérique.
+   * @return La calotte sphérique.
+   */
+  private static SSphericalCapGeometry buildCap(double radius_of_curvature)
+  {
+    return new SSphericalCapGeometry(new SVector3d(0.0, 0.0, 4.0), new SVector3d(0.0, 0.0, 1.0), 3.0, radius_of_curvature);
+  }
+  
+}//fin de la classe de test SSphericalCapGeometryTest
@@ -0,0 +1,225 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SPlaneGeometry;
+import sim.geometry.SRay;
+import sim.geometry.SSphereGeometry;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SLazyVoxelSpace</b>. Les intersections sont comparées
+ * à celles d'un espace linéaire (<b>SLinearSpace</b>) contenant les mêmes géométries.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SLazyVoxelSpaceTest {
+
+  /**
+   * Test de la construction paresseuse : aucune cellule n'est construite à l'initialisation ni par un rayon ne traversant aucune cellule.
+   * Un rayon ne construit que les cellules qu'il traverse.
+   */
+  @Test
+  public void getNbBuiltCellTest1()
+  {
+    List<SGeometry> list = SVoxelSpaceTest.buildRandomGeometry(300);
+
+    SLazyVoxelSpace space = buildLazySpace(list);
+
+    Assert.assertEquals(0, space.getNbBuiltCell());
+
+    // Rayon s'éloignant des géométries
+    SRay ray1 = new SRay(new SVector3d(30.0, 30.0, 30.0), new SVector3d(1.0, 1.1, 1.2).normalize(), 1.0);
+    Assert.assertFalse(space.nearestIntersection(ray1, Double.POSITIVE_INFINITY).asIntersected());
+    Assert.assertEquals(0, space.getNbBuiltCell());
+
+    // Rayon traversant la région des géométries
+    SRay ray2 = new SRay(new SVector3d(-30.0, -30.0, -30.0), new SVector3d(1.0, 1.1, 1.2).normalize(), 1.0);
+    space.nearestIntersection(ray2, Double.POSITIVE_INFINITY);
+
+    int nb_built_cell = space.getNbBuiltCell();
+    Assert.assertTrue(nb_built_cell > 0);
+
+    // Plusieurs rayons construisent davantage de cellules
+    compare(space, buildLinearSpace(list), 1000, 1);
+
+    Assert.assertTrue(space.getNbBuiltCell() > nb_built_cell);
+  }
+
+  /**
+   * Test des intersections (la plus près et la plus près avec une géométrie opaque) comparées à celles d'un espace linéaire.
+   */
+  @Test
+  public void nearestIntersectionTest1()
+  {
+    List<SGeometry> list = SVoxelSpaceTest.buildRandomGeometry(300);
+
+    // Un plan n'admet pas de boîte englobante et est conservé dans la liste linéaire
+    list.add(new SPlaneGeometry(new SVector3d(0.0, 0.0, -12.0), new SVector3d(0.0, 0.0, 1.0)));
+
+    compare(buildLazySpace(list), buildLinearSpace(list), 4000, 2);
+  }
+
+  /**
+   * Test de l'insertion, du retrait et du déplacement de géométries dans un espace initialisé et partiellement construit.
+   * Uniquement les cellules recouvertes par les géométries modifiées sont invalidées.
+   */
+  @Test
+  public void updateGeometryTest1()
+  {
+    List<SGeometry> list = SVoxelSpaceTest.buildRandomGeometry(300);
+
+    SLazyVoxelSpace space = buildLazySpace(list);
+    SLinearSpace linear_space = buildLinearSpace(list);
+
+    compare(space, linear_space, 2000, 3);
+
+    Random random = new Random(4);
+
+    // Insertion d'une très petite sphère : une seule cellule est recouverte et invalidée
+    for(int i = 0; i < 5; i++)
+    {
+      SGeometry geometry = new SSphereGeometry(new SVector3d(16.0*random.nextDouble() - 8.0, 16.0*random.nextDouble() - 8.0, 16.0*random.nextDouble() - 8.0), 0.001);
+
+      int nb_built_cell = space.getNbBuiltCell();
+
+      space.insertGeometry(geometry);
+      linear_space.insertGeometry(geometry);
+
+      Assert.assertTrue(space.getNbBuiltCell() >= nb_built_cell - 1);
+      Assert.assertTrue(space.getNbBuiltCell() <= nb_built_cell);
+
+      compare(space, linear_space, 500, 10 + i);
+    }
+
+    // Insertion
+    for(int i = 0; i < 20; i++)
+    {
+      SGeometry geometry = buildSphere(random);
+
+      space.insertGeometry(geometry);
+      linear_space.insertGeometry(geometry);
+    }
+
+    compare(space, linear_space, 2000, 5);
+
+    // Retrait
+    for(int i = 0; i < 20; i++)
+    {
+      SGeometry geometry = list.get(10*i);
+
+      space.removeGeometry(geometry);
+      linear_space.removeGeometry(geometry);
+    }
+
+    compare(space, linear_space, 2000, 6);
+
+    // Déplacement
+    for(int i = 0; i < 20; i++)
+    {
+      SGeometry old_geometry = list.get(10*i + 5);
+      SGeometry new_geometry = buildSphere(random);
+
+      space.moveGeometry(old_geometry, new_geometry);
+      linear_space.moveGeometry(old_geometry, new_geometry);
+    }
+
+    compare(space, linear_space, 2000, 7);
+  }
+
+  /**
+   * Méthode pour construire un espace de voxel à construction paresseuse initialisé.
+   *
+   * @param list - La liste des géométries.
+   * @return L'espace.
+   */
+  private static SLazyVoxelSpace buildLazySpace(List<SGeometry> list)
+  {
+    SLazyVoxelSpace space = new SLazyVoxelSpace();
+    space.addGeometry(list);
+    space.initialize();
+
+    return space;
+  }
+
+  /**
+   * Méthode pour construire un espace linéaire initialisé.
+   *
+   * @param list - La liste des géométries.
+   * @return L'espace.
+   */
+  private static SLinearSpace buildLinearSpace(List<SGeometry> list)
+  {
+    SLinearSpace space = new SLinearSpace();
+    space.addGeometry(list);
+    space.initialize();
+
+    return space;
+  }
+
+  /**
+   * Méthode pour construire une sphère aléatoire dans le cube [-10, 10]^3.
+   *
+   * @param random - Le générateur de nombres aléatoires.
+   * @return La sphère.
+   */
+  private static SGeometry buildSphere(Random random)
+  {
+    return new SSphereGeometry(new SVector3d(20.0*random.nextDouble() - 10.0, 20.0*random.nextDouble() - 10.0, 20.0*random.nextDouble() - 10.0), 0.2 + 1.3*random.nextDouble());
+  }
+
+  /**
+   * Méthode pour comparer les intersections de rayons aléatoires (origine dans le cube [-15, 15]^3) avec deux espaces de géométries.
+   *
+   * @param space - L'espace à valider.
+   * @param expected_space - L'espace de référence.
+   * @param nb_ray - Le nombre de rayons.
+   * @param seed - La graine du générateur de nombres aléatoires.
+   */
+  private static void compare(SGeometrySpace space, SGeometrySpace expected_space, int nb_ray, long seed)
+  {
+    Random random = new Random(seed);
+
+    for(int i = 0; i < nb_ray; i++)
+    {
+      SVector3d origin = new SVector3d(30.0*random.nextDouble() - 15.0, 30.0*random.nextDouble() - 15.0, 30.0*random.nextDouble() - 15.0);
+      SVector3d direction = new SVector3d(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()).normalize();
+      double t_max = i % 2 == 0 ? Double.POSITIVE_INFINITY : 20.0*random.nextDouble();
+
+      // Intersection la plus près
+      SRay expected_solution = expected_space.nearestIntersection(new SRay(origin, direction, 1.0), t_max);
+      SRay calculated_solution = space.nearestIntersection(new SRay(origin, direction, 1.0), t_max);
+
+      Assert.assertEquals(expected_solution.asIntersected(), calculated_solution.asIntersected());
+
+      if(expected_solution.asIntersected())
+      {
+        Assert.assertSame(expected_solution.getGeometry(), calculated_solution.getGeometry());
+        Assert.assertEquals(expected_solution.getT(), calculated_solution.getT(), 1e-10);
+      }
+
+      // Intersection la plus près avec une géométrie opaque
+      List<SRay> expected_list = expected_space.nearestOpaqueIntersection(new SRay(origin, direction, 1.0), t_max);
+      List<SRay> calculated_list = space.nearestOpaqueIntersection(new SRay(origin, direction, 1.0), t_max);
+
+      Assert.assertEquals(expected_list.size(), calculated_list.size());
+
+      for(int j = 0; j < expected_list.size(); j++)
+      {
+        Assert.assertSame(expected_list.get(j).getGeometry(), calculated_list.get(j).getGeometry());
+        Assert.assertEquals(expected_list.get(j).getT(), calculated_list.get(j).getT(), 1e-10);
+      }
+    }
+  }
+
+}//fin de la classe SLazyVoxelSpaceTest
@@ -0,0 +1,124 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SLinearSpace</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SLinearSpaceTest {
+
+  /**
+   * Méthode pour construire un espace linéaire initialisé contenant des sphères distribuées aléatoirement (de façon reproductible).
+   * 
+   * @param nb - Le nombre de sphères.
+   * @return L'espace linéaire.
+   */
+  private SLinearSpace buildSpace(int nb)
+  {
+    SLinearSpace space = new SLinearSpace();
+    space.addGeometry(SVoxelSpaceTest.buildRandomGeometry(nb));
+    space.initialize();
+    
+    return space;
+  }
+  
+  /**
+   * Test de l'intersection de paquets de rayons divergents (rayons primaires d'une caméra). 
+   * Le résultat de chaque rayon doit être identique à celui du rayon lancé seul.
+   */
+  @Test
+  public void nearestIntersectionPacketTest1()
+  {
+    SLinearSpace space = buildSpace(100);
+    
+    SVector3d[] direction = { new SVector3d(1.0, 0.0, 0.0), new SVector3d(0.0, -1.0, 0.0), new SVector3d(0.0, 0.0, 1.0) };
+    
+    for(SVector3d d : direction)
+      for(int tile = 0; tile < 16; tile++)
+      {
+        SRay[] packet = SVoxelSpaceTest.buildCameraPacket(d, tile);
+        SRay[] calculated_solution = space.nearestIntersection(packet, 40.0);
+        
+        for(int i = 0; i < packet.length; i++)
+        {
+          SRay expected_solution = space.nearestIntersection(packet[i], 40.0);
+          
+          Assert.assertEquals(expected_solution.asIntersected(), calculated_solution[i].asIntersected());
+          
+          if(expected_solution.asIntersected())
+          {
+            Assert.assertSame(expected_solution.getGeometry(), calculated_solution[i].getGeometry());
+            Assert.assertEquals(expected_solution.getT(), calculated_solution[i].getT(), 1e-10);
+          }
+        }
+      }
+  }
+  
+  /**
+   * Test de l'intersection opaque d'un paquet de rayons d'ombrage (temps maximal propre à chaque rayon) dirigés vers une même source de lumière.
+   * Le résultat de chaque rayon doit être identique à celui du rayon lancé seul.
+   */
+  @Test
+  public void nearestOpaqueIntersectionPacketTest1()
+  {
+    SLinearSpace space = buildSpace(100);
+    
+    SVector3d light = new SVector3d(25.0, 18.0, 30.0);
+    
+    SRay[] packet = new SRay[16];
+    double[] t_max = new double[packet.length];
+    
+    for(int i = 0; i < packet.length; i++)
+    {
+      SVector3d origin = new SVector3d(-12.0 + 1.2*(i%4), -12.0 + 1.2*(i/4), -11.0);
+      SVector3d to_light = light.substract(origin);
+      
+      packet[i] = new SRay(origin, to_light.normalize(), 1.0);
+      t_max[i] = to_light.modulus();
+    }
+    
+    List<List<SRay>> calculated_solution = space.nearestOpaqueIntersection(packet, t_max);
+    
+    for(int i = 0; i < packet.length; i++)
+    {
+      List<SRay> expected_solution = space.nearestOpaqueIntersection(packet[i], t_max[i]);
+      
+      Assert.assertEquals(expected_solution.size(), calculated_solution.get(i).size());
+      
+      for(int j = 0; j < expected_solution.size(); j++)
+        Assert.assertSame(expected_solution.get(j).getGeometry(), calculated_solution.get(i).get(j).getGeometry());
+    }
+  }
+  
+  /**
+   * Test d'un paquet non cohérent qui doit être évalué rayon par rayon.
+   */
+  @Test
+  public void nearestIntersectionPacketTest2()
+  {
+    SLinearSpace space = buildSpace(100);
+    
+    SRay[] packet = new SRay[2];
+    packet[0] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(1.0, 1.0, 1.0).normalize(), 1.0);
+    packet[1] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(-1.0, -1.0, -1.0).normalize(), 1.0);
+    
+    SRay[] calculated_solution = space.nearestIntersection(packet, 40.0);
+    
+    for(int i = 0; i < packet.length; i++)
+      Assert.assertEquals(space.nearestIntersection(packet[i], 40.0).getT(), calculated_solution[i].getT(), 1e-10);
+  }
+  
+}//fin de la classe SLinearSpaceTest
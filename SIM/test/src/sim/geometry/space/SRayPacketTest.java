@@ -0,0 +1,168 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SRay;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SRayPacket</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRayPacketTest {
+
+  /**
+   * Test de la cohérence d'un paquet dont les directions ont le même signe selon chaque axe.
+   * L'axe dominant est celui dont la plus petite composante est la plus grande.
+   */
+  @Test
+  public void isCoherentTest1()
+  {
+    SRay[] ray = new SRay[2];
+    ray[0] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.2, -0.9, 0.3).normalize(), 1.0);
+    ray[1] = new SRay(new SVector3d(1.0, 0.0, 0.0), new SVector3d(0.6, -0.5, 0.6).normalize(), 1.0);
+    
+    SRayPacket packet = new SRayPacket(ray, 10.0);
+    
+    Assert.assertTrue(packet.isCoherent());
+    Assert.assertEquals(1, packet.getDominantAxis());
+    Assert.assertEquals(1, packet.getSign(0));
+    Assert.assertEquals(-1, packet.getSign(1));
+    Assert.assertEquals(1, packet.getSign(2));
+    Assert.assertEquals(10.0, packet.getTMax(1), 0.0);
+  }
+  
+  /**
+   * Test de la cohérence d'un paquet dont un seul axe a des directions de même signe.
+   */
+  @Test
+  public void isCoherentTest2()
+  {
+    SRay[] ray = new SRay[2];
+    ray[0] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.9, 0.1, -0.1).normalize(), 1.0);
+    ray[1] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(-0.1, 0.1, 0.9).normalize(), 1.0);
+    
+    SRayPacket packet = new SRayPacket(ray, 10.0);
+    
+    Assert.assertTrue(packet.isCoherent());
+    Assert.assertEquals(1, packet.getDominantAxis());
+    Assert.assertEquals(0, packet.getSign(0));
+    Assert.assertEquals(0, packet.getSign(2));
+  }
+  
+  /**
+   * Test d'un paquet non cohérent (directions de signes opposés selon chaque axe ou composante nulle).
+   */
+  @Test
+  public void isCoherentTest3()
+  {
+    SRay[] ray = new SRay[2];
+    ray[0] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(1.0, 1.0, 0.0).normalize(), 1.0);
+    ray[1] = new SRay(new SVector3d(0.0, 0.0, 0.0), new SVector3d(-1.0, -1.0, 1.0).normalize(), 1.0);
+    
+    SRayPacket packet = new SRayPacket(ray, 10.0);
+    
+    Assert.assertFalse(packet.isCoherent());
+    Assert.assertEquals(SRayPacket.NO_AXIS, packet.getDominantAxis());
+  }
+  
+  /**
+   * Test du caractère conservateur du test d'une boîte englobante : si un rayon du paquet traverse une boîte avant son temps maximal, 
+   * le paquet doit la traverser.
+   */
+  @Test
+  public void intersectsTest1()
+  {
+    Random random = new Random(7);
+    
+    for(int n = 0; n < 200; n++)
+    {
+      SRay[] ray = new SRay[8];
+      double[] t_max = new double[ray.length];
+      
+      for(int i = 0; i < ray.length; i++)
+      {
+        SVector3d origin = new SVector3d(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        SVector3d direction = new SVector3d(0.5 + random.nextDouble(), random.nextDouble() - 0.5, 0.2 + random.nextDouble()).normalize();
+        
+        ray[i] = new SRay(origin, direction, 1.0);
+        t_max[i] = 2.0 + 10.0*random.nextDouble();
+      }
+      
+      SRayPacket packet = new SRayPacket(ray, t_max);
+      
+      for(int b = 0; b < 20; b++)
+      {
+        SVector3d min = new SVector3d(12.0*random.nextDouble() - 2.0, 12.0*random.nextDouble() - 6.0, 12.0*random.nextDouble() - 2.0);
+        SVector3d max = min.add(new SVector3d(2.0*random.nextDouble(), 2.0*random.nextDouble(), 2.0*random.nextDouble()));
+        
+        SBoundingBox box = new SBoundingBox(null, min, max);
+        
+        boolean expected = false;
+        
+        for(int i = 0; i < ray.length; i++)
+          expected |= slabTest(ray[i], t_max[i], min, max);
+        
+        if(expected)
+          Assert.assertTrue(packet.intersects(box));
+      }
+    }
+  }
+  
+  /**
+   * Test d'une boîte englobante située derrière l'origine des rayons du paquet et d'une boîte située au-delà du temps maximal.
+   */
+  @Test
+  public void intersectsTest2()
+  {
+    SRay[] ray = new SRay[4];
+    
+    for(int i = 0; i < ray.length; i++)
+      ray[i] = new SRay(new SVector3d(0.0, 0.1*i, 0.0), new SVector3d(1.0, 0.05*i, 0.0).normalize(), 1.0);
+    
+    SRayPacket packet = new SRayPacket(ray, 5.0);
+    
+    Assert.assertTrue(packet.intersects(new SBoundingBox(null, new SVector3d(2.0, -1.0, -1.0), new SVector3d(3.0, 1.0, 1.0))));
+    Assert.assertFalse(packet.intersects(new SBoundingBox(null, new SVector3d(-3.0, -1.0, -1.0), new SVector3d(-2.0, 1.0, 1.0))));
+    Assert.assertFalse(packet.intersects(new SBoundingBox(null, new SVector3d(6.0, -1.0, -1.0), new SVector3d(7.0, 1.0, 1.0))));
+  }
+  
+  /**
+   * Méthode pour déterminer si un rayon traverse une boîte englobante avant son temps maximal (test des plans).
+   * 
+   * @param ray - Le rayon.
+   * @param t_max - Le temps maximal.
+   * @param min - Le point minimal de la boîte.
+   * @param max - Le point maximal de la boîte.
+   * @return <b>true</b> si le rayon traverse la boîte et <b>false</b> sinon.
+   */
+  private static boolean slabTest(SRay ray, double t_max, SVector3d min, SVector3d max)
+  {
+    double t_enter = 0.0;
+    double t_exit = t_max;
+    
+    for(int axis = 0; axis < 3; axis++)
+    {
+      double o = SRayPacket.component(ray.getOrigin(), axis);
+      double d = SRayPacket.component(ray.getDirection(), axis);
+      
+      double t1 = (SRayPacket.component(min, axis) - o)/d;
+      double t2 = (SRayPacket.component(max, axis) - o)/d;
+      
+      t_enter = Math.max(t_enter, Math.min(t1, t2));
+      t_exit = Math.min(t_exit, Math.max(t1, t2));
+    }
+    
+    return t_enter <= t_exit;
+  }
+  
+}//fin de la classe SRayPacketTest
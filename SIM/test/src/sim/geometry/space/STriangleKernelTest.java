@@ -0,0 +1,104 @@
+/**
+ *
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.geometry.SSphereGeometry;
+import sim.geometry.STriangleGeometry;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>STriangleKernel</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class STriangleKernelTest {
+
+  /**
+   * Méthode pour construire une liste de triangles dans le plan z = 0 placés côte à côte le long de l'axe x.
+   *
+   * @param nb - Le nombre de triangles.
+   * @return La liste des triangles.
+   */
+  private List<SGeometry> buildTriangleList(int nb)
+  {
+    List<SGeometry> list = new ArrayList<SGeometry>();
+
+    for(int i = 0; i < nb; i++)
+      list.add(new STriangleGeometry(new SVector3d(2.0*i, 0.0, 0.0), new SVector3d(2.0*i + 1.0, 0.0, 0.0), new SVector3d(2.0*i, 1.0, 0.0)));
+
+    return list;
+  }
+
+  /**
+   * Test du filtrage d'un rayon perpendiculaire au plan des triangles : seul le triangle intersecté est retenu.
+   */
+  @Test
+  public void candidatesTest1()
+  {
+    List<SGeometry> list = buildTriangleList(10);
+    STriangleKernel kernel = new STriangleKernel(list);
+
+    SRay ray = new SRay(new SVector3d(6.25, 0.25, 5.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    int[] candidate = new int[kernel.size()];
+    int nb = kernel.candidates(ray, Double.POSITIVE_INFINITY, candidate);
+
+    Assert.assertEquals(1, nb);
+    Assert.assertEquals(3, candidate[0]);
+
+    // Le triangle est trop éloigné pour le temps maximal
+    Assert.assertEquals(0, kernel.candidates(ray, 4.0, candidate));
+  }
+
+  /**
+   * Test du filtrage où une géométrie qui n'est pas un triangle est toujours retenue.
+   */
+  @Test
+  public void candidatesTest2()
+  {
+    List<SGeometry> list = buildTriangleList(10);
+    list.add(5, new SSphereGeometry(new SVector3d(100.0, 100.0, 100.0), 1.0));
+
+    STriangleKernel kernel = new STriangleKernel(list);
+
+    SRay ray = new SRay(new SVector3d(6.25, 0.25, 5.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    int[] candidate = new int[kernel.size()];
+    int nb = kernel.candidates(ray, Double.POSITIVE_INFINITY, candidate);
+
+    Assert.assertEquals(2, nb);
+    Assert.assertEquals(3, candidate[0]);
+    Assert.assertEquals(5, candidate[1]);
+  }
+
+  /**
+   * Test d'un rayon intersectant exactement une arête commune : les deux triangles sont retenus.
+   */
+  @Test
+  public void candidatesTest3()
+  {
+    List<SGeometry> list = new ArrayList<SGeometry>();
+    list.add(new STriangleGeometry(new SVector3d(0.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 0.0), new SVector3d(0.0, 1.0, 0.0)));
+    list.add(new STriangleGeometry(new SVector3d(1.0, 0.0, 0.0), new SVector3d(1.0, 1.0, 0.0), new SVector3d(0.0, 1.0, 0.0)));
+
+    STriangleKernel kernel = new STriangleKernel(list);
+
+    SRay ray = new SRay(new SVector3d(0.5, 0.5, 1.0), new SVector3d(0.0, 0.0, -1.0), 1.0);
+
+    int[] candidate = new int[kernel.size()];
+
+    Assert.assertEquals(2, kernel.candidates(ray, Double.POSITIVE_INFINITY, candidate));
+  }
+
+}//fin de la classe STriangleKernelTest
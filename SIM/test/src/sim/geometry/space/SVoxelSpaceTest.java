@@ -0,0 +1,440 @@
+/**
+ * 
+ */
+package sim.geometry.space;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.exception.SRuntimeException;
+import sim.geometry.SGeometry;
+import sim.geometry.SRay;
+import sim.geometry.SSphereGeometry;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SVoxelSpace</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2016-04-04
+ * @version 2017-02-14
+ */
+public class SVoxelSpaceTest {
+
+  /**
+   * Méthode pour construire un espace de voxel initialisé contenant une rangée de sphères de rayon 1 le long de l'axe x.
+   * 
+   * @param nb - Le nombre de sphères.
+   * @return L'espace de voxel.
+   */
+  private SVoxelSpace buildSpace(int nb)
+  {
+    SVoxelSpace space = new SVoxelSpace();
+    
+    for(int i = 0; i < nb; i++)
+      space.addGeometry(new SSphereGeometry(new SVector3d(4.0*i, 0.0, 0.0), 1.0));
+    
+    space.initialize();
+    
+    return space;
+  }
+  
+  /**
+   * Test de l'insertion d'une géométrie dans un espace déjà initialisé.
+   */
+  @Test
+  public void insertGeometryTest1()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    SGeometry geometry = new SSphereGeometry(new SVector3d(10.0, 10.0, 10.0), 1.0);
+    space.insertGeometry(geometry);
+    
+    SRay ray = new SRay(new SVector3d(20.0, 20.0, 20.0), new SVector3d(-1.0, -1.0, -1.0).normalize(), 1.0);
+    SRay calculated_solution = space.nearestIntersection(ray, Double.POSITIVE_INFINITY);
+    
+    Assert.assertEquals(geometry, calculated_solution.getGeometry());
+    Assert.assertEquals(Math.sqrt(300.0) - 1.0, calculated_solution.getT(), 1e-10);
+  }
+  
+  /**
+   * Test du retrait d'une géométrie d'un espace déjà initialisé.
+   */
+  @Test
+  public void removeGeometryTest1()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    SGeometry geometry = new SSphereGeometry(new SVector3d(-10.0, -10.0, -10.0), 1.0);
+    space.insertGeometry(geometry);
+    space.removeGeometry(geometry);
+    
+    // Le rayon doit traverser la position de la sphère retirée et intersecter la sphère située à l'origine
+    SRay ray = new SRay(new SVector3d(-20.0, -20.0, -20.0), new SVector3d(1.0, 1.0, 1.0).normalize(), 1.0);
+    SRay calculated_solution = space.nearestIntersection(ray, Double.POSITIVE_INFINITY);
+    
+    Assert.assertEquals(Math.sqrt(1200.0) - 1.0, calculated_solution.getT(), 1e-10);
+  }
+  
+  /**
+   * Test du déplacement d'une géométrie d'un espace déjà initialisé.
+   */
+  @Test
+  public void moveGeometryTest1()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    SGeometry old_geometry = new SSphereGeometry(new SVector3d(-10.0, -10.0, -10.0), 1.0);
+    space.insertGeometry(old_geometry);
+    
+    SGeometry new_geometry = new SSphereGeometry(new SVector3d(10.0, 10.0, 10.0), 1.0);
+    space.moveGeometry(old_geometry, new_geometry);
+    
+    // Première validation : la géométrie est à sa nouvelle position
+    SRay ray1 = new SRay(new SVector3d(20.0, 20.0, 20.0), new SVector3d(-1.0, -1.0, -1.0).normalize(), 1.0);
+    SRay calculated_solution1 = space.nearestIntersection(ray1, Double.POSITIVE_INFINITY);
+    
+    Assert.assertEquals(new_geometry, calculated_solution1.getGeometry());
+    
+    // Deuxième validation : la géométrie n'est plus à son ancienne position
+    SRay ray2 = new SRay(new SVector3d(-20.0, -20.0, -20.0), new SVector3d(1.0, 1.0, 1.0).normalize(), 1.0);
+    SRay calculated_solution2 = space.nearestIntersection(ray2, Double.POSITIVE_INFINITY);
+    
+    Assert.assertEquals(Math.sqrt(1200.0) - 1.0, calculated_solution2.getT(), 1e-10);
+  }
+  
+  /**
+   * Test du retrait d'une géométrie qui n'est pas dans l'espace.
+   */
+  @Test
+  public void removeGeometryTest2()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    try{
+      space.removeGeometry(new SSphereGeometry(new SVector3d(0.0, 0.0, 0.0), 1.0));
+      Assert.fail("Erreur : Le retrait d'une géométrie absente de l'espace doit lancer une exception.");
+    }catch(SRuntimeException e){
+      // Test réussi
+    }
+  }
+  
+  /**
+   * Test de l'intersection d'un paquet de rayons cohérents. Le résultat de chaque rayon doit être identique à celui du rayon lancé seul.
+   */
+  @Test
+  public void nearestIntersectionPacketTest1()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    SRay[] packet = new SRay[16];
+    
+    for(int i = 0; i < packet.length; i++)
+      packet[i] = new SRay(new SVector3d(-5.0, -1.5 + 0.2*(i/4), -1.5 + 0.2*(i%4)), new SVector3d(1.0, 0.05, 0.05).normalize(), 1.0);
+    
+    SRay[] calculated_solution = space.nearestIntersection(packet, Double.POSITIVE_INFINITY);
+    
+    for(int i = 0; i < packet.length; i++)
+    {
+      SRay expected_solution = space.nearestIntersection(packet[i], Double.POSITIVE_INFINITY);
+      
+      Assert.assertEquals(expected_solution.asIntersected(), calculated_solution[i].asIntersected());
+      Assert.assertEquals(expected_solution.getT(), calculated_solution[i].getT(), 1e-10);
+    }
+  }
+  
+  /**
+   * Test de l'intersection d'un paquet de rayons n'atteignant pas la carte de voxel.
+   */
+  @Test
+  public void nearestIntersectionPacketTest2()
+  {
+    SVoxelSpace space = buildSpace(10);
+    
+    SRay[] packet = new SRay[4];
+    
+    for(int i = 0; i < packet.length; i++)
+      packet[i] = new SRay(new SVector3d(0.1*i, 10.0, 0.0), new SVector3d(0.0, 1.0, 0.1).normalize(), 1.0);
+    
+    for(SRay r : space.nearestIntersection(packet, Double.POSITIVE_INFINITY))
+      Assert.assertFalse(r.asIntersected());
+  }
+  
+  /**
+   * Test de l'intersection de paquets de rayons divergents (rayons primaires d'une caméra) parcourant une carte de voxel 
+   * selon chaque axe et chaque sens. Le résultat de chaque rayon doit être identique à celui du rayon lancé seul.
+   */
+  @Test
+  public void nearestIntersectionPacketTest3()
+  {
+    SVoxelSpace space = buildRandomSpace(200);
+    
+    SVector3d[] direction = { new SVector3d(1.0, 0.0, 0.0), new SVector3d(-1.0, 0.0, 0.0), new SVector3d(0.0, 1.0, 0.0), 
+                              new SVector3d(0.0, -1.0, 0.0), new SVector3d(0.0, 0.0, 1.0), new SVector3d(0.0, 0.0, -1.0) };
+    
+    for(SVector3d d : direction)
+      for(int tile = 0; tile < 16; tile++)
+      {
+        SRay[] packet = buildCameraPacket(d, tile);
+        SRay[] calculated_solution = space.nearestIntersection(packet, 40.0);
+        
+        for(int i = 0; i < packet.length; i++)
+        {
+          SRay expected_solution = space.nearestIntersection(packet[i], 40.0);
+          
+          Assert.assertEquals(expected_solution.asIntersected(), calculated_solution[i].asIntersected());
+          
+          if(expected_solution.asIntersected())
+          {
+            Assert.assertSame(expected_solution.getGeometry(), calculated_solution[i].getGeometry());
+            Assert.assertEquals(expected_solution.getT(), calculated_solution[i].getT(), 1e-10);
+          }
+        }
+      }
+  }
+  
+  /**
+   * Test de l'intersection opaque d'un paquet de rayons d'ombrage (temps maximal propre à chaque rayon) dirigés vers une même source de lumière.
+   * Le résultat de chaque rayon doit être identique à celui du rayon lancé seul.
+   */
+  @Test
+  public void nearestOpaqueIntersectionPacketTest1()
+  {
+    SVoxelSpace space = buildRandomSpace(200);
+    
+    SVector3d light = new SVector3d(25.0, 18.0, 30.0);
+    
+    for(int tile = 0; tile < 16; tile++)
+    {
+      SRay[] packet = new SRay[16];
+      double[] t_max = new double[packet.length];
+      
+      for(int i = 0; i < packet.length; i++)
+      {
+        SVector3d origin = new SVector3d(-12.0 + 1.5*(tile%4) + 0.3*(i%4), -12.0 + 1.5*(tile/4) + 0.3*(i/4), -11.0);
+        SVector3d to_light = light.substract(origin);
+        
+        packet[i] = new SRay(origin, to_light.normalize(), 1.0);
+        t_max[i] = to_light.modulus();
+      }
+      
+      List<List<SRay>> calculated_solution = space.nearestOpaqueIntersection(packet, t_max);
+      
+      for(int i = 0; i < packet.length; i++)
+      {
+        List<SRay> expected_solution = space.nearestOpaqueIntersection(packet[i], t_max[i]);
+        
+        Assert.assertEquals(expected_solution.size(), calculated_solution.get(i).size());
+        
+        for(int j = 0; j < expected_solution.size(); j++)
+        {
+          Assert.assertSame(expected_solution.get(j).getGeometry(), calculated_solution.get(i).get(j).getGeometry());
+          Assert.assertEquals(expected_solution.get(j).getT(), calculated_solution.get(i).get(j).getT(), 1e-10);
+        }
+      }
+    }
+  }
+  
+  /**
+   * Test de la construction d'une carte de voxels. La carte construite en parallèle (au moins {@link SAbstractGeometrySpace#PARALLEL_BUILD_THRESHOLD} boîtes) 
+   * ou séquentiellement doit être identique, voxel par voxel et dans le même ordre, à celle d'une insertion séquentielle des géométries.
+   */
+  @Test
+  public void buildVoxelMapTest1()
+  {
+    SVoxelSpace space = new SVoxelSpace();
+    SVoxelBuilder builder = new SVoxelBuilder(1.0);
+    
+    for(int nb : new int[]{ 300, 2*SAbstractGeometrySpace.PARALLEL_BUILD_THRESHOLD })
+    {
+      List<SBoundingBox> box_list = new SBoundingBoxBuilder().buildBoundingBox(buildRandomGeometry(nb));
+      
+      Map<SVoxel, List<SGeometry>> expected_map = buildSequentialVoxelMap(space, box_list, builder);
+      Map<SVoxel, List<SGeometry>> calculated_map = space.buildVoxelMap(box_list, builder);
+      
+      assertSameVoxelMap(expected_map, calculated_map);
+      Assert.assertEquals(space.evaluateAbsoluteExtremumVoxel(expected_map), space.evaluateAbsoluteExtremumVoxel(calculated_map));
+    }
+  }
+  
+  /**
+   * Test de la fusion de cartes de voxels partielles construites sur des tranches consécutives d'une liste de géométries.
+   * Les fusions sont réalisées deux à deux comme celles d'un <i>parallel stream</i> avec un découpage aléatoire de la liste.
+   */
+  @Test
+  public void mergeVoxelMapTest1()
+  {
+    SVoxelSpace space = new SVoxelSpace();
+    SVoxelBuilder builder = new SVoxelBuilder(1.0);
+    
+    List<SBoundingBox> box_list = new SBoundingBoxBuilder().buildBoundingBox(buildRandomGeometry(300));
+    
+    Map<SVoxel, List<SGeometry>> expected_map = buildSequentialVoxelMap(space, box_list, builder);
+    SVoxel expected_extremum = space.evaluateAbsoluteExtremumVoxel(expected_map);
+    
+    // Validation du voxel d'extremum
+    int max_x = 0;
+    int max_y = 0;
+    int max_z = 0;
+    
+    for(SVoxel v : expected_map.keySet())
+    {
+      max_x = Math.max(max_x, Math.abs(v.getX()));
+      max_y = Math.max(max_y, Math.abs(v.getY()));
+      max_z = Math.max(max_z, Math.abs(v.getZ()));
+    }
+    
+    Assert.assertEquals(new SVoxel(max_x, max_y, max_z), expected_extremum);
+    
+    Random random = new Random(7);
+    
+    for(int k = 0; k < 20; k++)
+    {
+      // Découpage aléatoire de la liste en tranches consécutives et construction d'une carte partielle par tranche
+      List<Map<SVoxel, List<SGeometry>>> partial_map_list = new ArrayList<Map<SVoxel, List<SGeometry>>>();
+      
+      int begin = 0;
+      
+      while(begin < box_list.size())
+      {
+        int end = Math.min(box_list.size(), begin + 1 + random.nextInt(60));
+        
+        partial_map_list.add(buildSequentialVoxelMap(space, box_list.subList(begin, end), builder));
+        begin = end;
+      }
+      
+      // Fusion deux à deux des cartes voisines jusqu'à l'obtention d'une seule carte
+      while(partial_map_list.size() > 1)
+      {
+        List<Map<SVoxel, List<SGeometry>>> merged_map_list = new ArrayList<Map<SVoxel, List<SGeometry>>>();
+        
+        for(int i = 0; i < partial_map_list.size(); i += 2)
+        {
+          Map<SVoxel, List<SGeometry>> map = partial_map_list.get(i);
+          
+          if(i + 1 < partial_map_list.size())
+            space.mergeVoxelMap(map, partial_map_list.get(i + 1));
+          
+          merged_map_list.add(map);
+        }
+        
+        partial_map_list = merged_map_list;
+      }
+      
+      Map<SVoxel, List<SGeometry>> calculated_map = partial_map_list.get(0);
+      
+      assertSameVoxelMap(expected_map, calculated_map);
+      Assert.assertEquals(expected_extremum, space.evaluateAbsoluteExtremumVoxel(calculated_map));
+    }
+  }
+  
+  /**
+   * Méthode pour construire une carte de voxels par l'insertion séquentielle des géométries d'une liste de boîtes englobantes.
+   * 
+   * @param space - L'espace de voxel.
+   * @param box_list - La liste des boîtes englobantes.
+   * @param builder - Le constructeur de voxel.
+   * @return La carte des voxels.
+   */
+  private static Map<SVoxel, List<SGeometry>> buildSequentialVoxelMap(SVoxelSpace space, List<SBoundingBox> box_list, SVoxelBuilder builder)
+  {
+    Map<SVoxel, List<SGeometry>> map = new HashMap<SVoxel, List<SGeometry>>();
+    
+    for(SBoundingBox box : box_list)
+      space.addGeometryToMap(map, box.getGeometry(), builder.buildVoxel(box));
+    
+    return map;
+  }
+  
+  /**
+   * Méthode pour valider que deux cartes de voxels ont les mêmes voxels et que chaque voxel référence les mêmes géométries dans le même ordre.
+   * 
+   * @param expected_map - La carte attendue.
+   * @param calculated_map - La carte calculée.
+   */
+  private static void assertSameVoxelMap(Map<SVoxel, List<SGeometry>> expected_map, Map<SVoxel, List<SGeometry>> calculated_map)
+  {
+    Assert.assertEquals(expected_map.keySet(), calculated_map.keySet());
+    
+    for(Map.Entry<SVoxel, List<SGeometry>> e : expected_map.entrySet())
+    {
+      List<SGeometry> expected_list = e.getValue();
+      List<SGeometry> calculated_list = calculated_map.get(e.getKey());
+      
+      Assert.assertEquals(expected_list.size(), calculated_list.size());
+      
+      for(int i = 0; i < expected_list.size(); i++)
+        Assert.assertSame(expected_list.get(i), calculated_list.get(i));
+    }
+  }
+  
+  /**
+   * Méthode pour construire un espace de voxel initialisé contenant des sphères de tailles variées distribuées aléatoirement (de façon reproductible) 
+   * dans le cube [-10, 10]^3.
+   * 
+   * @param nb - Le nombre de sphères.
+   * @return L'espace de voxel.
+   */
+  static SVoxelSpace buildRandomSpace(int nb)
+  {
+    SVoxelSpace space = new SVoxelSpace();
+    space.addGeometry(buildRandomGeometry(nb));
+    space.initialize();
+    
+    return space;
+  }
+  
+  /**
+   * Méthode pour construire une liste de sphères de tailles variées distribuées aléatoirement (de façon reproductible) dans le cube [-10, 10]^3.
+   * 
+   * @param nb - Le nombre de sphères.
+   * @return La liste des sphères.
+   */
+  static List<SGeometry> buildRandomGeometry(int nb)
+  {
+    Random random = new Random(42);
+    List<SGeometry> list = new ArrayList<SGeometry>();
+    
+    for(int i = 0; i < nb; i++)
+      list.add(new SSphereGeometry(new SVector3d(20.0*random.nextDouble() - 10.0, 20.0*random.nextDouble() - 10.0, 20.0*random.nextDouble() - 10.0), 0.2 + 1.3*random.nextDouble()));
+    
+    return list;
+  }
+  
+  /**
+   * Méthode pour construire un paquet de 4 x 4 rayons primaires divergents issus d'une caméra située à l'extérieur du cube [-10, 10]^3 
+   * et regardant vers l'origine. L'écran de la caméra est découpé en 4 x 4 tuiles.
+   * 
+   * @param view - La direction de visée de la caméra (selon un axe).
+   * @param tile - L'index de la tuile de l'écran (entre 0 et 15).
+   * @return Le paquet de rayons.
+   */
+  static SRay[] buildCameraPacket(SVector3d view, int tile)
+  {
+    SVector3d origin = view.multiply(-20.0);
+    
+    // Deux axes perpendiculaires à la direction de visée
+    SVector3d u = Math.abs(view.getX()) > 0.5 ? new SVector3d(0.0, 1.0, 0.0) : new SVector3d(1.0, 0.0, 0.0);
+    SVector3d v = view.cross(u);
+    
+    SRay[] packet = new SRay[16];
+    
+    // Le décalage de 0.01 évite les directions parallèles à un plan de voxels
+    for(int i = 0; i < packet.length; i++)
+    {
+      double a = -0.59 + 0.3*(tile%4) + 0.075*(i%4);
+      double b = -0.59 + 0.3*(tile/4) + 0.075*(i/4);
+      
+      packet[i] = new SRay(origin, view.add(u.multiply(a)).add(v.multiply(b)).normalize(), 1.0);
+    }
+    
+    return packet;
+  }
+  
+}//fin de la classe SVoxelSpaceTest
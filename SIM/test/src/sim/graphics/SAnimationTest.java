@@ -0,0 +1,89 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.math.SVector3d;
+import sim.util.SBufferedReader;
+
+/**
+ * JUnit Test de la classe <b>SAnimation</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SAnimationTest {
+
+  /**
+   * Test permettant de valider l'interpolation linéaire de la caméra entre deux images clés.
+   */
+  @Test
+  public void test_getCamera1() throws Exception
+  {
+    List<SKeyFrame> list = new ArrayList<SKeyFrame>();
+    list.add(new SKeyFrame(10, new SVector3d(10.0, 0.0, 0.0), new SVector3d(10.0, 0.0, 5.0), null));
+    list.add(new SKeyFrame(0, new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 5.0), null));
+
+    SAnimation animation = new SAnimation(0, list);
+    SCamera camera = new SCamera();
+
+    Assert.assertEquals(11, animation.getFrameCount());
+    Assert.assertEquals(new SVector3d(0.0, 0.0, 0.0), animation.getCamera(camera, 0).getPosition());
+    Assert.assertEquals(new SVector3d(5.0, 0.0, 0.0), animation.getCamera(camera, 5).getPosition());
+    Assert.assertEquals(new SVector3d(8.0, 0.0, 5.0), animation.getCamera(camera, 8).getLookAt());
+
+    // Caméra immobile après la dernière image clé
+    Assert.assertEquals(new SVector3d(10.0, 0.0, 0.0), animation.getCamera(camera, 20).getPosition());
+  }
+
+  /**
+   * Test permettant de valider que l'interpolation passe par chaque image clé et conserve l'objectif de la caméra de la scène.
+   */
+  @Test
+  public void test_getCamera2() throws Exception
+  {
+    String text = "frame_count 30\n" +
+                  "key_frame\n frame 0\n position 0.0 0.0 0.0\n look_at 0.0 0.0 1.0\n end\n" +
+                  "key_frame\n frame 10\n position 4.0 1.0 0.0\n look_at 0.0 0.0 1.0\n end\n" +
+                  "key_frame\n frame 25\n position 6.0 -2.0 3.0\n look_at 0.0 0.0 1.0\n end\n" +
+                  "end\n";
+
+    SAnimation animation = new SAnimation(new SBufferedReader(new StringReader(text)));
+    SCamera camera = new SCamera(new SBufferedReader(new StringReader("angle 30.0\nend\n")));
+
+    Assert.assertEquals(30, animation.getFrameCount());
+    Assert.assertEquals(new SVector3d(4.0, 1.0, 0.0), animation.getCamera(camera, 10).getPosition());
+    Assert.assertEquals(new SVector3d(6.0, -2.0, 3.0), animation.getCamera(camera, 25).getPosition());
+    Assert.assertEquals(30.0, animation.getCamera(camera, 17).getViewAngle(), 0.0);
+  }
+
+  /**
+   * Test permettant de valider l'interpolation par spline de Catmull-Rom entre deux images clés (différente de l'interpolation linéaire).
+   */
+  @Test
+  public void test_getCamera3() throws Exception
+  {
+    List<SKeyFrame> list = new ArrayList<SKeyFrame>();
+    list.add(new SKeyFrame(0, new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 10.0), null));
+    list.add(new SKeyFrame(10, new SVector3d(4.0, 1.0, 0.0), new SVector3d(0.0, 0.0, 10.0), null));
+    list.add(new SKeyFrame(25, new SVector3d(6.0, -2.0, 3.0), new SVector3d(0.0, 0.0, 10.0), null));
+
+    SAnimation animation = new SAnimation(0, list);
+
+    // Tangentes : (P1 - P0)/10 à l'image 0 et (P2 - P0)/25 à l'image 10. Le point milieu linéaire serait [2.0, 0.5, 0.0].
+    SVector3d position = animation.getCamera(new SCamera(), 5).getPosition();
+
+    Assert.assertEquals(2.2, position.getX(), 1e-10);
+    Assert.assertEquals(0.725, position.getY(), 1e-10);
+    Assert.assertEquals(-0.15, position.getZ(), 1e-10);
+  }
+
+}//fin de la classe SAnimationTest
@@ -1,108 +1,127 @@
-/**
- * 
- */
-package sim.graphics;
-
-import java.io.BufferedWriter;
-
-import org.junit.After;
-import org.junit.AfterClass;
-import org.junit.Assert;
-import org.junit.Before;
-import org.junit.BeforeClass;
-import org.junit.Test;
-
-import sim.graphics.SCamera;
-import sim.math.SVector3d;
-import sim.util.SBufferedReader;
-import sim.util.SLog;
-
-/**
- * JUnit Test de la classe <b>SCamera</b>.
- * 
- * @author Simon Vzina
- * @since 2015-11-28
- * @version 2016-04-20
- */
-public class SCameraTest {
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @BeforeClass
-  public static void setUpBeforeClass() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @AfterClass
-  public static void tearDownAfterClass() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @Before
-  public void setUp() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @After
-  public void tearDown() throws Exception
-  {
-  }
-
-  /**
-   * Test permettant de valider les fonctionnalits de la mthode getUp().
-   */
-  @Test
-  public void test_getUp()
-  {
-    SCamera camera = new SCamera(new SVector3d(0.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 1.0));
-    
-    Assert.assertEquals(new SVector3d(0.0, 0.0, 1.0), camera.getUp());
-  }
-
-  // faire ...
-  
-  /**
-   * @param args
-   */
-  public static void main(String[] args)
-  {
-    test1();
-    
-    try{
-    SLog.closeLogFile();
-    }catch(Exception e){}
-    
-  }
-
-  private static void test1()
-  {
-    try
-    {
-      java.io.FileReader fr = new java.io.FileReader("lectureCamera.txt");
-      SBufferedReader br = new SBufferedReader(fr);
-      
-      SCamera camera = new SCamera(br);
-            
-      java.io.FileWriter fw = new java.io.FileWriter("ecritureCamera.txt");
-      BufferedWriter bw = new BufferedWriter(fw);
-      
-      camera.write(bw);
-      
-      bw.close(); //  fermer celui-ci en premier, sinon, ERROR !!!
-      fw.close();
-    }
-    catch(java.io.FileNotFoundException e){ SLog.logWriteLine(e.getMessage()); }
-    catch(Exception e){ SLog.logWriteLine(e.getMessage()); }    
-  }
-  
-}//fin de la classe SCameraTest
+/**
+ * 
+ */
+package sim.graphics;
+
+import java.io.BufferedWriter;
+import java.io.StringReader;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import sim.graphics.SCamera;
+import sim.math.SVector3d;
+import sim.util.SBufferedReader;
+import sim.util.SLog;
+
+/**
+ * JUnit Test de la classe <b>SCamera</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2015-11-28
+ * @version 2017-02-14
+ */
+public class SCameraTest {
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  /**
+   * Test permettant de valider les fonctionnalités de la méthode getUp().
+   */
+  @Test
+  public void test_getUp()
+  {
+    SCamera camera = new SCamera(new SVector3d(0.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 0.0), new SVector3d(1.0, 0.0, 1.0));
+    
+    Assert.assertEquals(new SVector3d(0.0, 0.0, 1.0), camera.getUp());
+  }
+
+  /**
+   * Test permettant de valider que la méthode move() conserve l'angle d'ouverture et les écrans de la caméra.
+   */
+  @Test
+  public void test_move() throws Exception
+  {
+    SCamera camera = new SCamera(new SBufferedReader(new StringReader("angle 30.0\nnear_clipping_plane 0.5\nfar_clipping_plane 40.0\nend\n")));
+    
+    SCamera moved = camera.move(new SVector3d(1.0, 2.0, 3.0), new SVector3d(1.0, 2.0, 10.0), new SVector3d(0.0, 1.0, 0.0));
+    
+    Assert.assertEquals(new SVector3d(1.0, 2.0, 3.0), moved.getPosition());
+    Assert.assertEquals(new SVector3d(1.0, 2.0, 10.0), moved.getLookAt());
+    Assert.assertEquals(new SVector3d(0.0, 0.0, 1.0), moved.getFront());
+    Assert.assertEquals(30.0, moved.getViewAngle(), 0.0);
+    Assert.assertEquals(0.5, moved.getZNear(), 0.0);
+    Assert.assertEquals(40.0, moved.getZFar(), 0.0);
+  }
+  
+  //À faire ...
+  
+  /**
+   * @param args
+   */
+  public static void main(String[] args)
+  {
+    test1();
+    
+    try{
+    SLog.closeLogFile();
+    }catch(Exception e){}
+    
+  }
+
+  private static void test1()
+  {
+    try
+    {
+      java.io.FileReader fr = new java.io.FileReader("lectureCamera.txt");
+      SBufferedReader br = new SBufferedReader(fr);
+      
+      SCamera camera = new SCamera(br);
+            
+      java.io.FileWriter fw = new java.io.FileWriter("ecritureCamera.txt");
+      BufferedWriter bw = new BufferedWriter(fw);
+      
+      camera.write(bw);
+      
+      bw.close(); //  fermer celui-ci en premier, sinon, ERROR !!!
+      fw.close();
+    }
+    catch(java.io.FileNotFoundException e){ SLog.logWriteLine(e.getMessage()); }
+    catch(Exception e){ SLog.logWriteLine(e.getMessage()); }    
+  }
+  
+}//fin de la classe SCameraTest
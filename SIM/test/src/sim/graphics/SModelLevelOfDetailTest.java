@@ -0,0 +1,60 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.STriangleGeometry;
+import sim.loader.model.SModelLoader;
+
+/**
+ * JUnit Test de la classe <b>SModelLevelOfDetail</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SModelLevelOfDetailTest {
+
+  /**
+   * Test permettant de valider qu'un niveau de détail retiré de la mémoire est reconstruit à l'identique lorsqu'il est demandé.
+   */
+  @Test
+  public void test_releaseUnusedLevels() throws Exception
+  {
+    SModelLevelOfDetail lod = new SModelLoader().loadModel("teapot.obj").getLevelOfDetail();
+
+    Assert.assertNotNull(lod);
+    Assert.assertTrue(lod.getNbLevel() > 1);
+
+    STriangleGeometry expected = (STriangleGeometry)lod.getLevel(1).getPrimitiveList().get(0).getGeometry();
+
+    // Seul le niveau le plus grossier demeure en mémoire
+    Set<Integer> used_level_set = new HashSet<Integer>();
+    used_level_set.add(lod.getNbLevel() - 1);
+
+    lod.releaseUnusedLevels(used_level_set);
+
+    Assert.assertFalse(lod.isLoaded(0));
+    Assert.assertFalse(lod.isLoaded(1));
+    Assert.assertTrue(lod.isLoaded(lod.getNbLevel() - 1));
+
+    // Reconstruction des niveaux retirés
+    SModel level = lod.getLevel(1);
+
+    Assert.assertTrue(lod.isLoaded(0));
+    Assert.assertEquals(lod.getNbTriangle(1), level.getPrimitiveList().size());
+
+    STriangleGeometry triangle = (STriangleGeometry)level.getPrimitiveList().get(0).getGeometry();
+
+    Assert.assertEquals(expected.getP0(), triangle.getP0());
+    Assert.assertEquals(expected.getP1(), triangle.getP1());
+    Assert.assertEquals(expected.getP2(), triangle.getP2());
+  }
+
+}//fin de la classe SModelLevelOfDetailTest
@@ -0,0 +1,69 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit Test de la classe <b>SMultiViewRaytracer</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SMultiViewRaytracerTest {
+
+  /**
+   * Test permettant de valider que le rendu par tuiles de plusieurs vues donne la même image que le rendu de chaque vue séparément.
+   */
+  @Test
+  public void test_raytrace() throws Exception
+  {
+    SScene scene = new SScene(SScene.DEFAULT_SCENE_FILE_NAME);
+    SCamera camera = scene.getCamera();
+
+    SViewport viewport1 = new SViewport(40, 30);
+    SViewport viewport2 = new SViewport(20, 20);
+
+    List<SRaytracer> list = new ArrayList<SRaytracer>();
+    list.add(scene.buildRaytracer(camera, viewport1));
+    list.add(scene.buildRaytracer(camera, viewport2));
+
+    SMultiViewRaytracer raytracer = new SMultiViewRaytracer(list, 2, 16);
+
+    Assert.assertEquals(1600, raytracer.nbPixels());
+    Assert.assertEquals(10, raytracer.getNbTile());
+
+    raytracer.raytrace();
+
+    // Rendu de référence de chaque vue
+    assertView(scene, camera, viewport1);
+    assertView(scene, camera, viewport2);
+  }
+
+  /**
+   * Méthode pour comparer le viewport d'une vue au rendu de référence de cette vue effectué séparément.
+   *
+   * @param scene - La scène.
+   * @param camera - La caméra de la vue.
+   * @param viewport - Le viewport obtenu par le rendu de plusieurs vues.
+   */
+  private static void assertView(SScene scene, SCamera camera, SViewport viewport)
+  {
+    SViewport expected = new SViewport(viewport.getWidth(), viewport.getHeight());
+    SRaytracer reference = scene.buildRaytracer(camera, expected);
+
+    while(expected.hasNextPixel())
+      reference.raytrace(expected.getWidth()*expected.getHeight());
+
+    for(int x = 0; x < viewport.getWidth(); x++)
+      for(int y = 0; y < viewport.getHeight(); y++)
+        Assert.assertEquals(expected.getColor(x, y), viewport.getColor(x, y));
+  }
+
+}//fin de la classe SMultiViewRaytracerTest
@@ -1,123 +1,342 @@
-/**
- * 
- */
-package sim.graphics;
-
-import static org.junit.Assert.*;
-
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import org.junit.After;
-import org.junit.AfterClass;
-import org.junit.Before;
-import org.junit.BeforeClass;
-import org.junit.Test;
-
-import sim.graphics.SScene;
-import sim.util.SLog;
-
-/**
- * JUnit test permettant de valider les fonctionnalits de la classe <b>SScene</b>.
- * 
- * @author Simon Vzina
- * @since 2015-10-07
- * @version 2016-04-20
- */
-public class SSceneTest {
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @BeforeClass
-  public static void setUpBeforeClass() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @AfterClass
-  public static void tearDownAfterClass() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @Before
-  public void setUp() throws Exception
-  {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @After
-  public void tearDown() throws Exception
-  {
-  }
-
-  /**
-   * Test permettant de vrifier la construction d'une scne sans fichier de scne valide.
-   */
-  @Test
-  public void test_constructor()
-  {
-    try{
-    
-      SScene scene = new SScene("La scne n'existe pas.");
-    
-      fail("FAIL - Le fichier de scne n'est pas suppos tre trouv.");
-     
-      // Afin de retirer le "warning".
-      scene.buildRaytracer();
-      
-    }catch(FileNotFoundException e){
-      
-      // Ce scnario est suppos ce produire.
-    
-    }catch(IOException e){
-      fail("FAIL - Cette exception n'est pas supposer survenir." + "\t" + e.getMessage());
-    }
-    
-  }
-
-  // FAIRE ...
-  
-  /**
-   * @param args
-   */
-  public static void main(String[] args) 
-  {
-    test1();
-    
-    try{
-      SLog.closeLogFile();
-    }catch(Exception e){}
-  }
-
-  public static void test1()
-  {
-    /*
-    try
-    {
-      java.io.FileReader fr = new java.io.FileReader("lectureScene.txt");
-      SBufferedReader br = new SBufferedReader(fr);
-      
-      SScene scene = new SScene(br);
-            
-      java.io.FileWriter fw = new java.io.FileWriter("ecritureScene.txt");
-      BufferedWriter bw = new BufferedWriter(fw);
-      
-      scene.write(bw);
-      
-      bw.close(); //  fermer celui-ci en premier, sinon, ERROR !!!
-      fw.close();
-    }
-    catch(java.io.FileNotFoundException e){ SLog.logWriteLine(e.getMessage()); }
-    catch(Exception e){ e.printStackTrace(); }  
-    */
-  }
-  
-}
+/**
+ * 
+ */
+package sim.graphics;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import sim.geometry.SRay;
+import sim.geometry.space.SGeometrySpace;
+import sim.graphics.SScene;
+import sim.math.SVector3d;
+import sim.util.SLog;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SScene</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2015-10-07
+ * @version 2017-02-14
+ */
+public class SSceneTest {
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  /**
+   * Test permettant de vérifier la construction d'une scène sans fichier de scène valide.
+   */
+  @Test
+  public void test_constructor()
+  {
+    try{
+    
+      SScene scene = new SScene("La scène n'existe pas.");
+    
+      fail("FAIL - Le fichier de scène n'est pas supposé être trouvé.");
+     
+      // Afin de retirer le "warning".
+      scene.buildRaytracer();
+      
+    }catch(FileNotFoundException e){
+      
+      // Ce scénario est supposé ce produire.
+    
+    }catch(IOException e){
+      fail("FAIL - Cette exception n'est pas supposer survenir." + "\t" + e.getMessage());
+    }
+    
+  }
+
+  /**
+   * Test permettant de valider le rechargement à chaud d'une scène : les primitives inchangées de la scène précédente 
+   * sont réutilisées et la primitive modifiée est reconstruite.
+   */
+  @Test
+  public void test_reload1() throws Exception
+  {
+    File scene_file = createFile(".txt");
+    
+    try{
+      
+      writeScene(scene_file, 0.0, null);
+      SScene scene1 = new SScene(scene_file.getName());
+      
+      // Déplacement de la dernière sphère
+      writeScene(scene_file, 0.5, null);
+      SScene scene2 = new SScene(scene_file.getName(), scene1, Arrays.asList(scene_file.getName()));
+      
+      List<SPrimitive> list1 = scene1.getPrimitiveList();
+      List<SPrimitive> list2 = scene2.getPrimitiveList();
+      
+      assertEquals(list1.size(), list2.size());
+      
+      int last = list2.size() - 1;
+      
+      for(int i = 0; i < last; i++)
+        assertSame(list1.get(i), list2.get(i));
+      
+      assertNotSame(list1.get(last), list2.get(last));
+      assertNotSame(list1.get(last).getGeometry(), list2.get(last).getGeometry());
+      
+    }finally{
+      scene_file.delete();
+    }
+  }
+  
+  /**
+   * Test permettant de valider le rechargement à chaud d'une scène comprenant un modèle : le modèle est réutilisé 
+   * si son fichier n'a pas été modifié et il est relu sinon.
+   */
+  @Test
+  public void test_reload2() throws Exception
+  {
+    File scene_file = createFile(".txt");
+    File model_file = createFile(".obj");
+    
+    try{
+      
+      writeModel(model_file, 1);
+      writeScene(scene_file, 0.0, model_file.getName());
+      
+      SScene scene1 = new SScene(scene_file.getName());
+      
+      assertEquals(1, scene1.getModelList().size());
+      assertEquals(1, scene1.getModelList().get(0).getPrimitiveList().size());
+      
+      // Le fichier du modèle n'est pas modifié
+      SScene scene2 = new SScene(scene_file.getName(), scene1, new ArrayList<String>());
+      
+      assertSame(scene1.getModelList().get(0), scene2.getModelList().get(0));
+      
+      // Le fichier du modèle est modifié (le modèle conservé en mémoire est retiré comme lors d'une modification détectée)
+      writeModel(model_file, 2);
+      SModelReader.removeLoadedFile(model_file.getName());
+      
+      SScene scene3 = new SScene(scene_file.getName(), scene2, Arrays.asList(model_file.getName()));
+      
+      assertNotSame(scene2.getModelList().get(0), scene3.getModelList().get(0));
+      assertEquals(2, scene3.getModelList().get(0).getPrimitiveList().size());
+      
+      // Les primitives de la scène sont inchangées
+      for(int i = 0; i < scene2.getPrimitiveList().size(); i++)
+        assertSame(scene2.getPrimitiveList().get(i), scene3.getPrimitiveList().get(i));
+      
+    }finally{
+      SModelReader.removeLoadedFile(model_file.getName());
+      scene_file.delete();
+      model_file.delete();
+    }
+  }
+  
+  /**
+   * Test permettant de valider la mise à jour de l'espace des géométries de la scène précédente lors d'un rechargement à chaud.
+   * L'espace mis à jour doit donner les mêmes intersections qu'un espace construit pour la nouvelle scène.
+   */
+  @Test
+  public void test_reload3() throws Exception
+  {
+    File scene_file = createFile(".txt");
+    
+    try{
+      
+      writeScene(scene_file, 0.0, null);
+      
+      SScene scene1 = new SScene(scene_file.getName());
+      scene1.buildRaytracer();
+      
+      SGeometrySpace space1 = scene1.getGeometrySpace();
+      
+      // Déplacement de la dernière sphère (une géométrie retirée et une géométrie insérée)
+      writeScene(scene_file, 0.5, null);
+      
+      SScene scene2 = new SScene(scene_file.getName(), scene1, Arrays.asList(scene_file.getName()));
+      scene2.buildRaytracer();
+      
+      // L'espace de la scène précédente est mis à jour plutôt que reconstruit
+      assertSame(space1, scene2.getGeometrySpace());
+      
+      SScene scene3 = new SScene(scene_file.getName());
+      scene3.buildRaytracer();
+      
+      SGeometrySpace expected_space = scene3.getGeometrySpace();
+      
+      Random random = new Random(7);
+      
+      for(int i = 0; i < 2000; i++)
+      {
+        SVector3d origin = new SVector3d(16.0*random.nextDouble() - 8.0, 16.0*random.nextDouble() - 8.0, 6.0*random.nextDouble() + 0.1);
+        SVector3d direction = new SVector3d(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()).normalize();
+        
+        SRay expected_ray = expected_space.nearestIntersection(new SRay(origin, direction, 1.0), Double.POSITIVE_INFINITY);
+        SRay calculated_ray = space1.nearestIntersection(new SRay(origin, direction, 1.0), Double.POSITIVE_INFINITY);
+        
+        assertEquals(expected_ray.asIntersected(), calculated_ray.asIntersected());
+        
+        if(expected_ray.asIntersected())
+        {
+          assertEquals(expected_ray.getT(), calculated_ray.getT(), 1e-10);
+          assertEquals(expected_ray.getOutsideNormal(), calculated_ray.getOutsideNormal());
+        }
+      }
+      
+    }finally{
+      scene_file.delete();
+    }
+  }
+  
+  /**
+   * Méthode pour créer un fichier vide au nom unique dans le répertoire de l'application. 
+   * Les fichiers d'une scène sont cherchés par leur nom à partir du répertoire "user.dir".
+   * 
+   * @param extension - L'extension du fichier.
+   * @return Le fichier.
+   * @throws IOException Si le fichier ne peut pas être créé.
+   */
+  private static File createFile(String extension) throws IOException
+  {
+    return File.createTempFile("SSceneTest", extension, new File(System.getProperty("user.dir")));
+  }
+  
+  /**
+   * Méthode pour écrire une scène formée d'un plan et de trente sphères en grille dans un espace de voxel.
+   * 
+   * @param file - Le fichier de scène.
+   * @param shift - Le déplacement en z de la dernière sphère.
+   * @param model_file_name - Le nom du fichier d'un modèle de la scène (<b>null</b> s'il n'y en a pas).
+   * @throws IOException Si le fichier ne peut pas être écrit.
+   */
+  private static void writeScene(File file, double shift, String model_file_name) throws IOException
+  {
+    StringBuilder builder = new StringBuilder();
+    
+    builder.append("camera\nposition -10.0 0.0 4.0\nlook_at 0.0 0.0 0.0\nup 0.0 0.0 1.0\nend\n");
+    builder.append("viewport\nwidth 32\nheight 32\nimage_file_name scene_test\nend\n");
+    builder.append("raytracer\ntask 1\nspace voxel\nend\n");
+    
+    builder.append("primitive\nmaterial_name plan\nplane\nposition 0.0 0.0 0.0\nnormal 0.0 0.0 1.0\nend\nend\n");
+    builder.append("material\nname plan\ncolor 0.8 0.8 0.6\nend\n");
+    
+    for(int i = 0; i < 30; i++)
+    {
+      double z = i == 29 ? 1.0 + shift : 1.0;
+      
+      builder.append("primitive\nmaterial_name sphere\nsphere\nposition " + (2.0*(i % 6) - 5.0) + " " + (2.0*(i / 6) - 4.0) + " " + z + "\nray 0.6\nend\nend\n");
+    }
+    
+    builder.append("material\nname sphere\ncolor 0.2 0.4 0.9\nend\n");
+    
+    if(model_file_name != null)
+      builder.append("model\nfile " + model_file_name + "\nend\n");
+    
+    builder.append("ambient_light\ncolor 1.0 1.0 1.0\nend\n");
+    
+    try(FileWriter writer = new FileWriter(file)){
+      writer.write(builder.toString());
+    }
+  }
+  
+  /**
+   * Méthode pour écrire un modèle de format obj formé de triangles.
+   * 
+   * @param file - Le fichier du modèle.
+   * @param nb_triangle - Le nombre de triangles.
+   * @throws IOException Si le fichier ne peut pas être écrit.
+   */
+  private static void writeModel(File file, int nb_triangle) throws IOException
+  {
+    StringBuilder builder = new StringBuilder();
+    
+    for(int i = 0; i < nb_triangle; i++)
+      builder.append("v " + i + ".0 0.0 3.0\nv " + i + ".5 0.0 3.0\nv " + i + ".0 0.5 3.0\n");
+    
+    for(int i = 0; i < nb_triangle; i++)
+      builder.append("f " + (3*i + 1) + " " + (3*i + 2) + " " + (3*i + 3) + "\n");
+    
+    try(FileWriter writer = new FileWriter(file)){
+      writer.write(builder.toString());
+    }
+  }
+  
+  //À FAIRE ...
+  
+  /**
+   * @param args
+   */
+  public static void main(String[] args) 
+  {
+    test1();
+    
+    try{
+      SLog.closeLogFile();
+    }catch(Exception e){}
+  }
+
+  public static void test1()
+  {
+    /*
+    try
+    {
+      java.io.FileReader fr = new java.io.FileReader("lectureScene.txt");
+      SBufferedReader br = new SBufferedReader(fr);
+      
+      SScene scene = new SScene(br);
+            
+      java.io.FileWriter fw = new java.io.FileWriter("ecritureScene.txt");
+      BufferedWriter bw = new BufferedWriter(fw);
+      
+      scene.write(bw);
+      
+      bw.close(); //  fermer celui-ci en premier, sinon, ERROR !!!
+      fw.close();
+    }
+    catch(java.io.FileNotFoundException e){ SLog.logWriteLine(e.getMessage()); }
+    catch(Exception e){ e.printStackTrace(); }  
+    */
+  }
+  
+}
@@ -1,218 +1,511 @@
-/**
- * 
- */
-package sim.graphics;
-
-import static org.junit.Assert.*;
-
-import java.io.IOException;
-
-import org.junit.After;
-import org.junit.AfterClass;
-import org.junit.Before;
-import org.junit.BeforeClass;
-import org.junit.Test;
-
-import sim.exception.SConstructorException;
-import sim.graphics.SColor;
-import sim.graphics.SViewport;
-import sim.math.SVectorPixel;
-
-/**
- * JUnit test permettant de valider les fonctionnalits de la classe <b>SViewport</b>.
- * 
- * @author Simon Vzina
- * @since 2015-09-24
- * @version 2016-04-22
- */
-public class SViewportTest {
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @BeforeClass
-  public static void setUpBeforeClass() throws Exception {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @AfterClass
-  public static void tearDownAfterClass() throws Exception {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @Before
-  public void setUp() throws Exception {
-  }
-
-  /**
-   * @throws java.lang.Exception
-   */
-  @After
-  public void tearDown() throws Exception {
-  }
-
-  /**
-   * Test vrifiant si une mauvaise construction d'un SViewport lance une exception.
-   */
-  @Test
-  public void test_constructor() 
-  {
-    try{
-      
-      SViewport viewport = new SViewport(-5, -5);
-      
-      fail("FAIL - La construction est impossible, car des dimensions du viewport sont ngative.");
-      
-      // Pour viter le warning.
-      viewport.clear();
-      
-    }catch(SConstructorException e){
-      // C'est le scnario dsir. 
-    }
-    
-  }
-  
-  
-  
-  //A FAIRE !!!!!
-  
-  
-  /**
-   * @param args
-   */
-  public static void main(String[] args) 
-  {
-    //test1();
-    test2();
-  }
-
-  /**
-   * Test #1 : Vrifier l'criture d'une image dans un fichier.
-   */
-  public static void test1()
-  {
-    sim.util.SChronometer chrono = new sim.util.SChronometer();
-    chrono.start();
-    System.out.println("Dbut de la cration de l'image.");
-    
-    SViewport viewport = new SViewport();
-    
-    float inc_x = 1.0f / (float)viewport.getWidth();
-    float inc_y = 1.0f / (float)viewport.getHeight();
-    
-    float r = 0.0f;
-    float g = 0.0f;
-    float b = 0.0f;
-    
-    for(int j=0; j<viewport.getHeight(); j++)
-    { r = 0.0f;
-      for(int i=0; i<viewport.getWidth(); i++)
-      {
-        viewport.setColor(i, j, new SColor(r,g,b));
-                
-        r += inc_x;
-      }
-      b += inc_y;
-    }
-    
-    try{
-      viewport.writeImage();  
-    }catch(IOException ioe){ ioe.printStackTrace(); }
-    
-    
-    
-    try{
-      chrono.stop();
-      System.out.println("Temps coul : " + chrono.getTime() + " s");
-    }catch(Exception e){}
-    
-  }
-  
-  /**
-   * Test #2 : Test pour vrifier l'criture de 3 images dans un fichier. 
-   */
-  public static void test2()
-  {
-    sim.util.SChronometer chrono = new sim.util.SChronometer();
-    SViewport viewport = new SViewport();
-    
-    chrono.start();
-    System.out.println("Dbut de la cration de l'image 001.");
-    
-    float r = 0.0f;
-    float g = 0.0f;
-    float b = 0.0f;
-    
-    while(viewport.hasNextPixel())
-    {
-      SVectorPixel p = viewport.nextPixel();
-      
-      viewport.setColor(p.getX(), p.getY(), new SColor(r,g,b));
-            
-      float inc = 1.0f / (float)(viewport.getWidth()*viewport.getHeight());
-      r += inc;
-      g += inc;
-      b += inc;     
-    }
-    
-    try{
-      viewport.writeImage();  
-    }catch(IOException ioe){ ioe.printStackTrace(); }
-    
-    try{
-      chrono.stop();
-      System.out.println("Temps coul : " + chrono.getTime() + " s");
-    }catch(Exception e){}
-    
-    viewport.clear();
-    
-    
-    chrono.start();
-    System.out.println("Dbut de la cration de l'image 002.");
-        
-    while(viewport.hasNextPixel())
-    {
-      SVectorPixel p = viewport.nextPixel();
-      
-      viewport.setColor(p.getX(), p.getY(), new SColor(r,g,b));
-            
-      r = (float)Math.random();
-      g = (float)Math.random();
-      b = (float)Math.random();
-      
-    }
-    
-    try{
-      viewport.writeImage();  
-    }catch(IOException ioe){ ioe.printStackTrace(); }
-    
-    try{
-      chrono.stop();
-      System.out.println("Temps coul : " + chrono.getTime() + " s");
-    }catch(Exception e){}
-    
-    viewport.clear();
-    
-    
-    
-    chrono.start();
-    System.out.println("Dbut de la cration de l'image 003.");
-    
-    try{
-      viewport.writeImage();  
-    }catch(IOException ioe){ ioe.printStackTrace(); }
-    
-      
-    try{
-      chrono.stop();
-      System.out.println("Temps coul : " + chrono.getTime() + " s");
-    }catch(Exception e){}
-    
-  }
-  
-  
-}//fin de la classe SViewportTest
+/**
+ * 
+ */
+package sim.graphics;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import sim.exception.SConstructorException;
+import sim.exception.SRuntimeException;
+import sim.graphics.SColor;
+import sim.graphics.SViewport;
+import sim.math.SVectorPixel;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SViewport</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2015-09-24
+ * @version 2017-02-14
+ */
+public class SViewportTest {
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @Before
+  public void setUp() throws Exception {
+  }
+
+  /**
+   * @throws java.lang.Exception
+   */
+  @After
+  public void tearDown() throws Exception {
+  }
+
+  /**
+   * Test vérifiant si une mauvaise construction d'un SViewport lance une exception.
+   */
+  @Test
+  public void test_constructor() 
+  {
+    try{
+      
+      SViewport viewport = new SViewport(-5, -5);
+      
+      fail("FAIL - La construction est impossible, car des dimensions du viewport sont négative.");
+      
+      // Pour éviter le warning.
+      viewport.clear();
+      
+    }catch(SConstructorException e){
+      // C'est le scénario désiré. 
+    }
+    
+  }
+  
+  
+  
+  /**
+   * Test vérifiant que chaque ordre de parcours retourne une seule fois chacun des pixels d'un viewport dont les dimensions ne sont pas des multiples de la taille des tuiles.
+   */
+  @Test
+  public void test_pixelOrder1()
+  {
+    for(int order = 0; order < SViewport.PIXEL_ORDER.length; order++)
+    {
+      SViewport viewport = new SViewport(37, 21);
+      viewport.setPixelOrder(order);
+      
+      boolean[][] visited = new boolean[37][21];
+      int nb = 0;
+      
+      while(viewport.hasNextPixel())
+      {
+        SVectorPixel p = viewport.nextPixel();
+        
+        assertFalse("Le pixel " + p + " est retourné deux fois (ordre " + SViewport.PIXEL_ORDER[order] + ").", visited[p.getX()][p.getY()]);
+        
+        visited[p.getX()][p.getY()] = true;
+        nb++;
+      }
+      
+      assertEquals(37*21, nb);
+      assertNull(viewport.nextPixel());
+    }
+  }
+  
+  /**
+   * Test vérifiant le parcours le long d'une courbe de Hilbert : la première tuile est parcourue ligne par ligne 
+   * et deux tuiles consécutives sont adjacentes.
+   */
+  @Test
+  public void test_pixelOrder2()
+  {
+    int size = SViewport.ORDER_TILE_SIZE;
+    
+    SViewport viewport = new SViewport(4*size, 4*size);
+    viewport.setPixelOrder(SViewport.HILBERT_ORDER);
+    
+    assertEquals(new SVectorPixel(0, 0), viewport.nextPixel());
+    assertEquals(new SVectorPixel(1, 0), viewport.nextPixel());
+    
+    SVectorPixel previous_tile = new SVectorPixel(0, 0);
+    
+    for(int i = 2; i < 16*size*size; i++)
+    {
+      SVectorPixel p = viewport.nextPixel();
+      
+      // Premier pixel d'une nouvelle tuile
+      if(i % (size*size) == 0)
+      {
+        SVectorPixel tile = new SVectorPixel(p.getX() / size, p.getY() / size);
+        
+        assertEquals(1, Math.abs(tile.getX() - previous_tile.getX()) + Math.abs(tile.getY() - previous_tile.getY()));
+        
+        previous_tile = tile;
+      }
+    }
+    
+    assertFalse(viewport.hasNextPixel());
+  }
+  
+  //A FAIRE !!!!!
+  
+  
+  /**
+   * @param args
+   */
+  public static void main(String[] args) 
+  {
+    //test1();
+    test2();
+  }
+
+  /**
+   * Test #1 : Vérifier l'écriture d'une image dans un fichier.
+   */
+  public static void test1()
+  {
+    sim.util.SChronometer chrono = new sim.util.SChronometer();
+    chrono.start();
+    System.out.println("Début de la création de l'image.");
+    
+    SViewport viewport = new SViewport();
+    
+    float inc_x = 1.0f / (float)viewport.getWidth();
+    float inc_y = 1.0f / (float)viewport.getHeight();
+    
+    float r = 0.0f;
+    float g = 0.0f;
+    float b = 0.0f;
+    
+    for(int j=0; j<viewport.getHeight(); j++)
+    { r = 0.0f;
+      for(int i=0; i<viewport.getWidth(); i++)
+      {
+        viewport.setColor(i, j, new SColor(r,g,b));
+                
+        r += inc_x;
+      }
+      b += inc_y;
+    }
+    
+    try{
+      viewport.writeImage();  
+    }catch(IOException ioe){ ioe.printStackTrace(); }
+    
+    
+    
+    try{
+      chrono.stop();
+      System.out.println("Temps écoulé : " + chrono.getTime() + " s");
+    }catch(Exception e){}
+    
+  }
+  
+  /**
+   * Test #2 : Test pour vérifier l'écriture de 3 images dans un fichier. 
+   */
+  public static void test2()
+  {
+    sim.util.SChronometer chrono = new sim.util.SChronometer();
+    SViewport viewport = new SViewport();
+    
+    chrono.start();
+    System.out.println("Début de la création de l'image 001.");
+    
+    float r = 0.0f;
+    float g = 0.0f;
+    float b = 0.0f;
+    
+    while(viewport.hasNextPixel())
+    {
+      SVectorPixel p = viewport.nextPixel();
+      
+      viewport.setColor(p.getX(), p.getY(), new SColor(r,g,b));
+            
+      float inc = 1.0f / (float)(viewport.getWidth()*viewport.getHeight());
+      r += inc;
+      g += inc;
+      b += inc;     
+    }
+    
+    try{
+      viewport.writeImage();  
+    }catch(IOException ioe){ ioe.printStackTrace(); }
+    
+    try{
+      chrono.stop();
+      System.out.println("Temps écoulé : " + chrono.getTime() + " s");
+    }catch(Exception e){}
+    
+    viewport.clear();
+    
+    
+    chrono.start();
+    System.out.println("Début de la création de l'image 002.");
+        
+    while(viewport.hasNextPixel())
+    {
+      SVectorPixel p = viewport.nextPixel();
+      
+      viewport.setColor(p.getX(), p.getY(), new SColor(r,g,b));
+            
+      r = (float)Math.random();
+      g = (float)Math.random();
+      b = (float)Math.random();
+      
+    }
+    
+    try{
+      viewport.writeImage();  
+    }catch(IOException ioe){ ioe.printStackTrace(); }
+    
+    try{
+      chrono.stop();
+      System.out.println("Temps écoulé : " + chrono.getTime() + " s");
+    }catch(Exception e){}
+    
+    viewport.clear();
+    
+    
+    
+    chrono.start();
+    System.out.println("Début de la création de l'image 003.");
+    
+    try{
+      viewport.writeImage();  
+    }catch(IOException ioe){ ioe.printStackTrace(); }
+    
+      
+    try{
+      chrono.stop();
+      System.out.println("Temps écoulé : " + chrono.getTime() + " s");
+    }catch(Exception e){}
+    
+  }
+  
+  
+  /**
+   * Test vérifiant l'itération des pixels restreinte à une région du viewport pour chaque ordre de parcours.
+   */
+  @Test
+  public void test_pixelRegion1()
+  {
+    for(int order = 0; order < SViewport.PIXEL_ORDER.length; order++)
+    {
+      SViewport viewport = new SViewport(37, 21);
+      viewport.setPixelOrder(order);
+      viewport.setPixelRegion(5, 3, 19, 11);
+      
+      boolean[][] visited = new boolean[37][21];
+      int nb = 0;
+      
+      while(viewport.hasNextPixel())
+      {
+        SVectorPixel p = viewport.nextPixel();
+        
+        assertTrue(p.getX() >= 5 && p.getX() < 24 && p.getY() >= 3 && p.getY() < 14);
+        assertFalse(visited[p.getX()][p.getY()]);
+        
+        visited[p.getX()][p.getY()] = true;
+        nb++;
+      }
+      
+      assertEquals(19*11, nb);
+      assertNull(viewport.nextPixel());
+    }
+  }
+  
+  /**
+   * Test vérifiant qu'une image écrite en continu (PNG) rangée par rangée, dans un ordre quelconque des pixels, 
+   * est identique à l'image conservée en mémoire.
+   */
+  @Test
+  public void test_streamingOutput1() throws IOException
+  {
+    File directory = Files.createTempDirectory("viewport").toFile();
+    
+    int width = 37;
+    int height = 21;
+    
+    SViewport memory_viewport = new SViewport(width, height);
+    SViewport streaming_viewport = new SViewport(width, height, new File(directory, "streaming").getPath());
+    streaming_viewport.setStreamingOutput(SViewport.PNG_STREAMING);
+    streaming_viewport.setPixelOrder(SViewport.HILBERT_ORDER);
+    
+    // L'image n'est pas conservée en mémoire
+    try{
+      streaming_viewport.getBufferedImage();
+      fail("FAIL - L'image d'un viewport en écriture continue ne devrait pas être disponible.");
+    }catch(SRuntimeException e){
+      // test réussi
+    }
+    
+    while(streaming_viewport.hasNextPixel())
+    {
+      SVectorPixel p = streaming_viewport.nextPixel();
+      
+      // La dernière rangée est laissée incomplète (pixels transparents)
+      if(p.getY() == height-1 && p.getX() > width/2)
+        continue;
+      
+      SColor color = new SColor(p.getX() / (double)width, p.getY() / (double)height, 0.5);
+      
+      streaming_viewport.setColor(p, color);
+      memory_viewport.setColor(p, color);
+    }
+    
+    streaming_viewport.writeImage();
+    
+    File[] file = directory.listFiles();
+    assertEquals(1, file.length);
+    assertTrue(file[0].getName().endsWith(".png"));
+    
+    BufferedImage expected = memory_viewport.getBufferedImage();
+    BufferedImage read = ImageIO.read(file[0]);
+    
+    for(int x = 0; x < width; x++)
+      for(int y = 0; y < height; y++)
+        assertEquals(expected.getRGB(x, y), read.getRGB(x, y));
+    
+    file[0].delete();
+    directory.delete();
+  }
+  
+  /**
+   * Test vérifiant la reprise d'un rendu interrompu : seuls les pixels non calculés sont itérés 
+   * et l'image reprise est identique à l'image calculée sans interruption.
+   */
+  @Test
+  public void test_checkpoint1() throws IOException
+  {
+    File directory = Files.createTempDirectory("viewport").toFile();
+    File checkpoint_file = new File(directory, "render.checkpoint");
+    
+    int width = 37;
+    int height = 21;
+    
+    SViewport memory_viewport = new SViewport(width, height);
+    
+    // Rendu interrompu après la moitié des pixels
+    SViewport interrupted_viewport = new SViewport(width, height, new File(directory, "image").getPath());
+    interrupted_viewport.setPixelOrder(SViewport.HILBERT_ORDER);
+    interrupted_viewport.setCheckpointFile(checkpoint_file.getPath());
+    
+    assertFalse(interrupted_viewport.isResumed());
+    
+    for(int i = 0; i < width*height/2; i++)
+    {
+      SVectorPixel p = interrupted_viewport.nextPixel();
+      interrupted_viewport.setColor(p, new SColor(p.getX() / (double)width, p.getY() / (double)height, 0.5));
+    }
+    
+    interrupted_viewport.saveCheckpoint();
+    
+    // Fin du rendu interrompu : le fichier de sauvegarde est fermé et conservé sur disque
+    interrupted_viewport.setCheckpointFile(null);
+    
+    // Reprise du rendu
+    SViewport resumed_viewport = new SViewport(width, height, new File(directory, "image").getPath());
+    resumed_viewport.setCheckpointFile(checkpoint_file.getPath());
+    
+    assertTrue(resumed_viewport.isResumed());
+    
+    int nb = 0;
+    
+    while(resumed_viewport.hasNextPixel())
+    {
+      SVectorPixel p = resumed_viewport.nextPixel();
+      resumed_viewport.setColor(p, new SColor(p.getX() / (double)width, p.getY() / (double)height, 0.5));
+      nb++;
+    }
+    
+    assertEquals(width*height - width*height/2, nb);
+    assertNull(resumed_viewport.nextPixel());
+    
+    for(int x = 0; x < width; x++)
+      for(int y = 0; y < height; y++)
+        memory_viewport.setColor(x, y, new SColor(x / (double)width, y / (double)height, 0.5));
+    
+    BufferedImage expected = memory_viewport.getBufferedImage();
+    BufferedImage resumed = resumed_viewport.getBufferedImage();
+    
+    for(int x = 0; x < width; x++)
+      for(int y = 0; y < height; y++)
+        assertEquals(expected.getRGB(x, y), resumed.getRGB(x, y));
+    
+    // Le fichier de sauvegarde est supprimé lorsque l'image est écrite
+    resumed_viewport.writeImage();
+    
+    assertFalse(checkpoint_file.exists());
+    
+    for(File f : directory.listFiles())
+      f.delete();
+    
+    directory.delete();
+  }
+  
+  /**
+   * Test vérifiant qu'un fichier de sauvegarde provenant d'une autre scène est effacé et que le rendu suivant 
+   * l'écriture de l'image est également sauvegardé.
+   */
+  @Test
+  public void test_checkpoint2() throws IOException
+  {
+    File directory = Files.createTempDirectory("viewport").toFile();
+    File checkpoint_file = new File(directory, "render.checkpoint");
+    
+    int width = 12;
+    int height = 8;
+    
+    // Rendu interrompu de la scène 'a'
+    SViewport interrupted_viewport = new SViewport(width, height, new File(directory, "image").getPath());
+    interrupted_viewport.setCheckpointFile(checkpoint_file.getPath());
+    interrupted_viewport.setCheckpointSceneHash("a");
+    
+    for(int i = 0; i < width*height/2; i++)
+      interrupted_viewport.setColor(interrupted_viewport.nextPixel(), new SColor(1.0, 0.0, 0.0));
+    
+    interrupted_viewport.saveCheckpoint();
+    interrupted_viewport.setCheckpointFile(null);
+    
+    // Le rendu de la scène 'b' recommence
+    SViewport viewport = new SViewport(width, height, new File(directory, "image").getPath());
+    viewport.setCheckpointFile(checkpoint_file.getPath());
+    
+    assertTrue(viewport.isResumed());
+    
+    viewport.setCheckpointSceneHash("b");
+    
+    assertFalse(viewport.isResumed());
+    
+    int nb = 0;
+    
+    while(viewport.hasNextPixel())
+    {
+      viewport.setColor(viewport.nextPixel(), new SColor(0.0, 1.0, 0.0));
+      nb++;
+    }
+    
+    assertEquals(width*height, nb);
+    
+    // Le fichier de sauvegarde est supprimé lorsque l'image est écrite et recréé pour le rendu suivant
+    viewport.writeImage();
+    
+    assertFalse(viewport.hasCheckpoint());
+    assertFalse(checkpoint_file.exists());
+    
+    viewport.clear();
+    
+    assertTrue(viewport.hasCheckpoint());
+    assertTrue(checkpoint_file.exists());
+    
+    viewport.setCheckpointFile(null);
+    
+    for(File f : directory.listFiles())
+      f.delete();
+    
+    directory.delete();
+  }
+  
+}//fin de la classe SViewportTest
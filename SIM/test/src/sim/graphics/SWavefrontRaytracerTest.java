@@ -0,0 +1,115 @@
+/**
+ *
+ */
+package sim.graphics;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SPlaneGeometry;
+import sim.geometry.SSphereGeometry;
+import sim.geometry.space.SGeometrySpace;
+import sim.geometry.space.SLinearSpace;
+import sim.graphics.light.SAmbientLight;
+import sim.graphics.light.SLight;
+import sim.graphics.light.SPointLight;
+import sim.graphics.material.SBlinnMaterial;
+import sim.graphics.material.SMaterial;
+import sim.graphics.shader.SAbstractShader;
+import sim.graphics.shader.SRecursiveShader;
+import sim.graphics.shader.SWavefrontShader;
+import sim.math.SVector3d;
+import sim.util.SBufferedReader;
+
+/**
+ * JUnit Test de la classe <b>SWavefrontRaytracer</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SWavefrontRaytracerTest {
+
+  /**
+   * La constante <b>RECURSIVE_LEVEL</b> correspond au nombre de réflexions et de réfractions évaluées par les deux shaders.
+   */
+  private static final int RECURSIVE_LEVEL = 4;
+
+  /**
+   * Test permettant de valider que le rendu par lots de rayons donne la même couleur pour chaque pixel que le rendu récursif classique
+   * (<b>SRecursiveShader</b>) d'une scène comprenant une sphère réfléchissante, une sphère transparente et des ombres sur un plan.
+   */
+  @Test
+  public void test_raytrace() throws Exception
+  {
+    List<SGeometry> geometry_list = new ArrayList<SGeometry>();
+
+    geometry_list.add(buildGeometry(new SPlaneGeometry(new SVector3d(0.0, 0.0, -1.0), new SVector3d(0.0, 0.0, 1.0)), "color 0.8 0.8 0.6\nka 0.1\nkd 0.6\nks 0.2\nend\n"));
+    geometry_list.add(buildGeometry(new SSphereGeometry(new SVector3d(0.0, 1.2, 0.0), 1.0), "color 0.9 0.9 0.9\nka 0.05\nkd 0.2\nks 0.3\nkr 0.7\nend\n"));
+    geometry_list.add(buildGeometry(new SSphereGeometry(new SVector3d(0.5, -1.2, 0.0), 1.0), "color 1.0 1.0 1.0\nka 0.05\nkd 0.05\nks 0.2\nkt 0.9\nn 1.5\nend\n"));
+
+    SGeometrySpace geometry_space = new SLinearSpace();
+    geometry_space.addGeometry(geometry_list);
+    geometry_space.initialize();
+
+    List<SLight> light_list = new ArrayList<SLight>();
+    light_list.add(new SAmbientLight(new SColor(0.2, 0.2, 0.2)));
+    light_list.add(new SPointLight(SColor.WHITE, new SVector3d(-3.0, 2.0, 5.0)));
+
+    SCamera camera = new SCamera(new SVector3d(-5.0, 0.0, 1.5), new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 1.0));
+
+    // Rendu récursif classique
+    SViewport expected = new SViewport(32, 24);
+    SRecursiveShader shader = new SRecursiveShader(geometry_space, camera.getZFar(), light_list, SAbstractShader.BLINN_REFLEXION, RECURSIVE_LEVEL, 0.0, false);
+    render(new SSingleCastRaytracer(new SViewFrustum(camera, expected), shader, expected), expected);
+
+    // Rendu par lots de rayons
+    SViewport viewport = new SViewport(32, 24);
+    SWavefrontShader wavefront_shader = new SWavefrontShader(geometry_space, camera.getZFar(), light_list, SAbstractShader.BLINN_REFLEXION, RECURSIVE_LEVEL, 0.0, false);
+    render(new SWavefrontRaytracer(new SViewFrustum(camera, viewport), wavefront_shader, viewport, 1, 1), viewport);
+
+    for(int x = 0; x < viewport.getWidth(); x++)
+      for(int y = 0; y < viewport.getHeight(); y++)
+      {
+        SColor c1 = expected.getColor(x, y);
+        SColor c2 = viewport.getColor(x, y);
+
+        Assert.assertEquals(c1.getRed(), c2.getRed(), 1e-9);
+        Assert.assertEquals(c1.getGreen(), c2.getGreen(), 1e-9);
+        Assert.assertEquals(c1.getBlue(), c2.getBlue(), 1e-9);
+      }
+  }
+
+  /**
+   * Méthode pour construire la primitive d'une géométrie avec un matériel défini sous forme de texte (format d'un fichier de scène).
+   *
+   * @param geometry - La géométrie.
+   * @param material_description - La description du matériel.
+   * @return La géométrie de la primitive.
+   */
+  private static SGeometry buildGeometry(SGeometry geometry, String material_description) throws IOException
+  {
+    SMaterial material = new SBlinnMaterial(new SBufferedReader(new StringReader(material_description)));
+
+    return new SPrimitive(geometry, material).getGeometry();
+  }
+
+  /**
+   * Méthode pour faire le rendu complet d'un viewport.
+   *
+   * @param raytracer - Le raytracer.
+   * @param viewport - Le viewport.
+   */
+  private static void render(SRaytracer raytracer, SViewport viewport)
+  {
+    while(viewport.hasNextPixel())
+      raytracer.raytrace(raytracer.nbPixels());
+  }
+
+}//fin de la classe SWavefrontRaytracerTest
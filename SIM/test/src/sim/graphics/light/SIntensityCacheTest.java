@@ -0,0 +1,141 @@
+/**
+ * 
+ */
+package sim.graphics.light;
+
+import java.util.function.ToDoubleFunction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SIntensityCache</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-06
+ * @version 2017-02-14
+ */
+public class SIntensityCacheTest {
+
+  @Test
+  public void getValueTest1()
+  {
+    // Test d'une fonction lisse : les positions voisines réutilisent les valeurs de la cache à la tolérance près
+    ToDoubleFunction<SVector3d> function = p -> 0.5 + 0.001*p.getX();
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.01);
+    
+    for(int i = 0; i < 100; i++)
+    {
+      SVector3d p = new SVector3d(0.1 + i*0.001, 0.2, 0.3);
+      
+      Assert.assertEquals(function.applyAsDouble(p), cache.getValue(p, function), 0.01);
+    }
+    
+    Assert.assertEquals(100, cache.getQueryCount());
+    Assert.assertEquals(99, cache.getHitCount());
+    // Le centre et les huit coins de la première cellule
+    Assert.assertEquals(9, cache.getEvaluationCount());
+  }
+  
+  @Test
+  public void getValueTest2()
+  {
+    // Test d'une fonction discontinue : la valeur exacte est évaluée près de la discontinuité
+    ToDoubleFunction<SVector3d> function = p -> p.getX() < 0.5 ? 0.0 : 1.0;
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.01);
+    
+    Assert.assertEquals(0.0, cache.getValue(new SVector3d(0.4999, 0.2, 0.3), function), 0.0);
+    Assert.assertEquals(1.0, cache.getValue(new SVector3d(0.5001, 0.2, 0.3), function), 0.0);
+  }
+  
+  @Test
+  public void getValueTest3()
+  {
+    // Test d'une fonction dont les centres des cellules parent et enfant sont semblables, mais qui varie fortement vers le coin de la cellule
+    ToDoubleFunction<SVector3d> function = p -> 0.16*(p.getX() - 0.5)*(p.getX() - 0.5);
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.01);
+    
+    SVector3d p = new SVector3d(0.01, 0.2, 0.3);
+    
+    Assert.assertEquals(function.applyAsDouble(p), cache.getValue(p, function), 0.01);
+  }
+  
+  @Test
+  public void getValueTest4()
+  {
+    // Test de franges dont la période divise la demi-taille d'une cellule : les centres et les coins y ont tous la même valeur
+    ToDoubleFunction<SVector3d> function = p -> Math.pow(Math.cos(Math.PI*p.getX()/0.25), 2);
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.01);
+    
+    SVector3d p = new SVector3d(0.125, 0.2, 0.3);
+    
+    Assert.assertEquals(1.0, cache.getValue(p, function), 1e-9);
+    
+    // La taille des cellules limitée à la moitié de l'interfrange
+    cache.clear();
+    
+    for(int i = 0; i < 100; i++)
+    {
+      SVector3d q = new SVector3d(0.005 + i*0.01, 0.2, 0.3);
+      
+      Assert.assertEquals(function.applyAsDouble(q), cache.getValue(q, function, 0.125), 0.02);
+    }
+  }
+  
+  @Test
+  public void getValueTest5()
+  {
+    // Test d'une taille maximale plus petite que les cellules du niveau le plus fin : évaluation exacte
+    ToDoubleFunction<SVector3d> function = p -> 0.5;
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.01);
+    
+    Assert.assertEquals(0.5, cache.getValue(new SVector3d(0.1, 0.2, 0.3), function, 1e-6), 0.0);
+    Assert.assertEquals(0, cache.getHitCount());
+    Assert.assertEquals(1, cache.getEvaluationCount());
+    Assert.assertEquals(0, cache.size());
+  }
+  
+  @Test
+  public void getValueTest6()
+  {
+    // Test d'une cache pleine : chaque nouvelle demande ne coûte qu'une seule évaluation exacte
+    ToDoubleFunction<SVector3d> function = p -> Math.pow(Math.cos(10.0*p.getX()), 2);
+    
+    SIntensityCache cache = new SIntensityCache(1.0, 0.001, 50);
+    
+    int i = 0;
+    
+    while(cache.size() < 10)
+    {
+      SVector3d p = new SVector3d(0.013 + i*0.7, 0.2, 0.3);
+      cache.getValue(p, function);
+      i++;
+    }
+    
+    // Remplir la cache jusqu'à ce qu'aucune valeur ne puisse y être ajoutée
+    for(int j = 0; j < 100; j++, i++)
+      cache.getValue(new SVector3d(0.013 + i*0.7, 0.2, 0.3), function);
+    
+    int size = cache.size();
+    
+    for(int j = 0; j < 100; j++, i++)
+    {
+      long evaluation = cache.getEvaluationCount();
+      
+      SVector3d p = new SVector3d(0.013 + i*0.7, 0.2, 0.3);
+      
+      Assert.assertEquals(function.applyAsDouble(p), cache.getValue(p, function), 0.0);
+      Assert.assertEquals(evaluation + 1, cache.getEvaluationCount());
+    }
+    
+    Assert.assertEquals(size, cache.size());
+  }
+  
+}//fin de la classe SIntensityCacheTest
@@ -1,215 +1,317 @@
-/**
- * 
- */
-package sim.graphics.shader;
-
-import org.junit.Assert;
-import org.junit.Test;
-
-import sim.exception.SNoImplementationException;
-import sim.graphics.SColor;
-import sim.math.SVector3d;
-import sim.util.SLog;
-
-/**
- * JUnit test permettant de valider les fonctionnalits de la classe <b>SIllumination</b>.
- * 
- * @author Simon Vzina
- * @since 2017-02-16
- * @version 2017-08-19
- */
-public class SIlluminationTest {
-
-	/**
-	 * Test de l'illumination ambiante avec une source de lumire blanche et noire.
-	 */
-	@Test
-	public void ambientReflexionTest1()
-	{
-		try{
-			
-		SColor black_light = SColor.BLACK;
-		SColor white_light = SColor.WHITE;
-		
-		SColor random_material = new SColor(0.6, 0.5, 0.2);
-		
-		// Test de la couleur ambiante blanche
-		Assert.assertEquals(random_material, SIllumination.ambientReflexion(white_light, random_material));
-		
-		// Test de la couleur ambiant noire
-		Assert.assertEquals(black_light, SIllumination.ambientReflexion(black_light, random_material));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void ambientReflexionTest1()");
-		}
-	}
-
-	/**
-	 * Test de l'illumination ambiante avec une source de lumire quelconque.
-	 */
-	@Test
-	public void ambientReflexionTest2()
-	{
-		try{
-			
-		SColor light = new SColor(0.2, 0.3, 0.4);
-		SColor material = new SColor(0.9, 0.8, 0.7);
-		
-		Assert.assertEquals(new SColor(0.18, 0.24, 0.28), SIllumination.ambientReflexion(light, material));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void ambientReflexionTest2()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination diffuse avec une source de lumire blanche et noire avec des orientations parallles.
-	 */
-	@Test
-	public void lambertianReflexionTest1()
-	{
-		try{
-			
-		SColor black_light = SColor.BLACK;
-		SColor white_light = SColor.WHITE;
-		
-		SVector3d normal = new SVector3d(0.0, 0.0, 1.0).normalize();
-		SVector3d light_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
-		
-		SColor random_material = new SColor(0.6, 0.5, 0.2);
-		
-		// Test de la couleur ambiante blanche
-		Assert.assertEquals(random_material, SIllumination.lambertianReflexion(white_light, random_material, normal, light_direction));
-		
-		// Test de la couleur ambiant noire
-		Assert.assertEquals(black_light, SIllumination.lambertianReflexion(black_light, random_material, normal, light_direction));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void lambertianReflexionTest1()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination diffuse avec une source de lumire quelconque et des orientations quelconques, mais sens oppos.
-	 * Il y aura de l'illumination.
-	 */
-	@Test
-	public void lambertianReflexionTest2()
-	{
-		try{
-			
-		SColor light = new SColor(0.2, 0.3, 0.4);
-		SColor material = new SColor(0.9, 0.8, 0.7);
-		
-		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
-		SVector3d light_direction = new SVector3d(-1.2, -5.6, -2.4).normalize();
-		
-		Assert.assertEquals(new SColor(0.1407100214802341, 0.18761336197364545, 0.21888225563591968), SIllumination.lambertianReflexion(light, material, normal, light_direction));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void lambertianReflexionTest2()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination diffuse avec une source de lumire quelconque et des orientations quelconques, mais de mme sens.
-	 * Il n'y aura pas d'illumination
-	 */
-	@Test
-	public void lambertianReflexionTest3()
-	{
-		try{
-			
-		SColor light = new SColor(0.2, 0.3, 0.4);
-		SColor material = new SColor(0.9, 0.8, 0.7);
-		
-		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
-		SVector3d light_direction = new SVector3d(1.2, 5.6, 2.4).normalize();
-		
-		// Test de la couleur ambiante blanche
-		Assert.assertEquals(new SColor(0.0, 0.0, 0.0), SIllumination.lambertianReflexion(light, material, normal, light_direction));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void lambertianReflexionTest3()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination spculaire de Blinn avec une source de lumire blanche et noire avec des orientations parallles.
-	 */
-	@Test
-	public void blinnSpecularReflexionTest1()
-	{
-		try{
-			
-		SColor black_light = SColor.BLACK;
-		SColor white_light = SColor.WHITE;
-		
-		SVector3d normal = new SVector3d(0.0, 0.0, 1.0).normalize();
-		SVector3d light_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
-		SVector3d ray_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
-		double random_n = 6.9;	// valeur alatoire
-		
-		SColor random_material = new SColor(0.6, 0.5, 0.2);
-		
-		// Test de la couleur ambiante blanche
-		Assert.assertEquals(random_material, SIllumination.blinnSpecularReflexion(white_light, random_material, normal, ray_direction, light_direction, random_n));
-		
-		// Test de la couleur ambiant noire
-		Assert.assertEquals(black_light, SIllumination.blinnSpecularReflexion(black_light, random_material, normal, ray_direction, light_direction, random_n));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void blinnSpecularReflexionTest1()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination spculaire de Blinn avec une source de lumire quelconque et des orientations quelconques, mais sens oppos.
-	 * Il y aura de l'illumination.
-	 */
-	@Test
-	public void blinnSpecularReflexionTest2()
-	{
-		try{
-			
-		SColor light = new SColor(0.2, 0.3, 0.4);
-		SColor material = new SColor(0.9, 0.8, 0.7);
-		
-		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
-		SVector3d light_direction = new SVector3d(-1.2, -5.6, -2.4).normalize();
-		SVector3d ray_direction = new SVector3d(4.5, -8.4, -3.0).normalize();
-		double n = 3.2;	
-		
-		Assert.assertEquals(new SColor(0.05624968851560261, 0.07499958468747013, 0.08749951546871515), SIllumination.blinnSpecularReflexion(light, material, normal, ray_direction, light_direction, n));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void blinnSpecularReflexionTest2()");
-		}
-	}
-	
-	/**
-	 * Test de l'illumination spculaire de Blinn avec une source de lumire quelconque et des orientations quelconques, mais de mme sens.
-	 * Il n'y aura pas d'illumination
-	 */
-	@Test
-	public void blinnSpecularReflexionTest3()
-	{
-		try{
-			
-		SColor light = new SColor(0.2, 0.3, 0.4);
-		SColor material = new SColor(0.9, 0.8, 0.7);
-		
-		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
-		SVector3d light_direction = new SVector3d(1.2, 5.6, 2.4).normalize();
-		SVector3d ray_direction = new SVector3d(4.5, -8.4, -3.0).normalize();
-		double n = 3.2;	
-		
-		// Test de la couleur ambiante blanche
-		Assert.assertEquals(new SColor(0.0, 0.0, 0.0), SIllumination.blinnSpecularReflexion(light, material, normal, ray_direction, light_direction, n));
-		
-		}catch(SNoImplementationException e){
-			SLog.logWriteLine("SIlluminationTest ---> Test non effectu : public void blinnSpecularReflexionTest3()");
-		}
-	}
-	
-}//fin de la classe SIlluminationTest
+/**
+ * 
+ */
+package sim.graphics.shader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.exception.SNoImplementationException;
+import sim.graphics.SColor;
+import sim.graphics.material.SBlinnMaterial;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+import sim.util.SBufferedReader;
+import sim.util.SLog;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SIllumination</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-16
+ * @version 2017-12-20
+ */
+public class SIlluminationTest {
+
+	/**
+	 * Test de l'illumination ambiante avec une source de lumière blanche et noire.
+	 */
+	@Test
+	public void ambientReflexionTest1()
+	{
+		try{
+			
+		SColor black_light = SColor.BLACK;
+		SColor white_light = SColor.WHITE;
+		
+		SColor random_material = new SColor(0.6, 0.5, 0.2);
+		
+		// Test de la couleur ambiante blanche
+		Assert.assertEquals(random_material, SIllumination.ambientReflexion(white_light, random_material));
+		
+		// Test de la couleur ambiant noire
+		Assert.assertEquals(black_light, SIllumination.ambientReflexion(black_light, random_material));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void ambientReflexionTest1()");
+		}
+	}
+
+	/**
+	 * Test de l'illumination ambiante avec une source de lumière quelconque.
+	 */
+	@Test
+	public void ambientReflexionTest2()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		Assert.assertEquals(new SColor(0.18, 0.24, 0.28), SIllumination.ambientReflexion(light, material));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void ambientReflexionTest2()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination diffuse avec une source de lumière blanche et noire avec des orientations parallèles.
+	 */
+	@Test
+	public void lambertianReflexionTest1()
+	{
+		try{
+			
+		SColor black_light = SColor.BLACK;
+		SColor white_light = SColor.WHITE;
+		
+		SVector3d normal = new SVector3d(0.0, 0.0, 1.0).normalize();
+		SVector3d light_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
+		
+		SColor random_material = new SColor(0.6, 0.5, 0.2);
+		
+		// Test de la couleur ambiante blanche
+		Assert.assertEquals(random_material, SIllumination.lambertianReflexion(white_light, random_material, normal, light_direction));
+		
+		// Test de la couleur ambiant noire
+		Assert.assertEquals(black_light, SIllumination.lambertianReflexion(black_light, random_material, normal, light_direction));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void lambertianReflexionTest1()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination diffuse avec une source de lumière quelconque et des orientations quelconques, mais sens opposé.
+	 * Il y aura de l'illumination.
+	 */
+	@Test
+	public void lambertianReflexionTest2()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		SVector3d light_direction = new SVector3d(-1.2, -5.6, -2.4).normalize();
+		
+		Assert.assertEquals(new SColor(0.1407100214802341, 0.18761336197364545, 0.21888225563591968), SIllumination.lambertianReflexion(light, material, normal, light_direction));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void lambertianReflexionTest2()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination diffuse avec une source de lumière quelconque et des orientations quelconques, mais de même sens.
+	 * Il n'y aura pas d'illumination
+	 */
+	@Test
+	public void lambertianReflexionTest3()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		SVector3d light_direction = new SVector3d(1.2, 5.6, 2.4).normalize();
+		
+		// Test de la couleur ambiante blanche
+		Assert.assertEquals(new SColor(0.0, 0.0, 0.0), SIllumination.lambertianReflexion(light, material, normal, light_direction));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void lambertianReflexionTest3()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination spéculaire de Blinn avec une source de lumière blanche et noire avec des orientations parallèles.
+	 */
+	@Test
+	public void blinnSpecularReflexionTest1()
+	{
+		try{
+			
+		SColor black_light = SColor.BLACK;
+		SColor white_light = SColor.WHITE;
+		
+		SVector3d normal = new SVector3d(0.0, 0.0, 1.0).normalize();
+		SVector3d light_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
+		SVector3d ray_direction = new SVector3d(0.0, 0.0, -1.0).normalize();
+		double random_n = 6.9;	// valeur aléatoire
+		
+		SColor random_material = new SColor(0.6, 0.5, 0.2);
+		
+		// Test de la couleur ambiante blanche
+		Assert.assertEquals(random_material, SIllumination.blinnSpecularReflexion(white_light, random_material, normal, ray_direction, light_direction, random_n));
+		
+		// Test de la couleur ambiant noire
+		Assert.assertEquals(black_light, SIllumination.blinnSpecularReflexion(black_light, random_material, normal, ray_direction, light_direction, random_n));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void blinnSpecularReflexionTest1()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination spéculaire de Blinn avec une source de lumière quelconque et des orientations quelconques, mais sens opposé.
+	 * Il y aura de l'illumination.
+	 */
+	@Test
+	public void blinnSpecularReflexionTest2()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		SVector3d light_direction = new SVector3d(-1.2, -5.6, -2.4).normalize();
+		SVector3d ray_direction = new SVector3d(4.5, -8.4, -3.0).normalize();
+		double n = 3.2;	
+		
+		Assert.assertEquals(new SColor(0.05624968851560261, 0.07499958468747013, 0.08749951546871515), SIllumination.blinnSpecularReflexion(light, material, normal, ray_direction, light_direction, n));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void blinnSpecularReflexionTest2()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination spéculaire de Blinn avec une source de lumière quelconque et des orientations quelconques, mais de même sens.
+	 * Il n'y aura pas d'illumination
+	 */
+	@Test
+	public void blinnSpecularReflexionTest3()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		SVector3d light_direction = new SVector3d(1.2, 5.6, 2.4).normalize();
+		SVector3d ray_direction = new SVector3d(4.5, -8.4, -3.0).normalize();
+		double n = 3.2;	
+		
+		// Test de la couleur ambiante blanche
+		Assert.assertEquals(new SColor(0.0, 0.0, 0.0), SIllumination.blinnSpecularReflexion(light, material, normal, ray_direction, light_direction, n));
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void blinnSpecularReflexionTest3()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination diffuse évaluée sans construction de vecteur comparée à l'illumination diffuse évaluée avec des couleurs.
+	 */
+	@Test
+	public void lambertianReflexionTest4()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		
+		SVector3d[] light_direction = { new SVector3d(-1.2, -5.6, -2.4).normalize(), new SVector3d(1.2, 5.6, 2.4).normalize(), new SVector3d(0.3, -0.2, -1.0).normalize() };
+		
+		for(SVector3d d : light_direction)
+		{
+			double N_dot_L = SIllumination.lambertianReflexion(normal, d.getX(), d.getY(), d.getZ());
+			
+			SColor expected = SIllumination.lambertianReflexion(light, material, normal, d);
+			
+			Assert.assertTrue(N_dot_L >= 0.0);
+			Assert.assertEquals(expected.getRed(), light.getRed()*N_dot_L*material.getRed(), 1e-12);
+			Assert.assertEquals(expected.getGreen(), light.getGreen()*N_dot_L*material.getGreen(), 1e-12);
+			Assert.assertEquals(expected.getBlue(), light.getBlue()*N_dot_L*material.getBlue(), 1e-12);
+		}
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void lambertianReflexionTest4()");
+		}
+	}
+	
+	/**
+	 * Test de l'illumination spéculaire de Blinn évaluée sans construction de vecteur comparée à l'illumination spéculaire évaluée avec des couleurs.
+	 */
+	@Test
+	public void blinnSpecularReflexionTest4()
+	{
+		try{
+			
+		SColor light = new SColor(0.2, 0.3, 0.4);
+		SColor material = new SColor(0.9, 0.8, 0.7);
+		
+		SVector3d normal = new SVector3d(2.3, 4.5, 8.7).normalize();
+		SVector3d ray_direction = new SVector3d(4.5, -8.4, -3.0).normalize();
+		
+		SVector3d[] light_direction = { new SVector3d(-1.2, -5.6, -2.4).normalize(), new SVector3d(1.2, 5.6, 2.4).normalize(), new SVector3d(0.3, -0.2, -1.0).normalize() };
+		double[] n = { 3.2, 1.0, 50.0 };
+		
+		for(int i = 0; i < light_direction.length; i++)
+		{
+			SVector3d d = light_direction[i];
+			
+			double specular = SIllumination.blinnSpecularReflexion(normal, ray_direction.getX(), ray_direction.getY(), ray_direction.getZ(), d.getX(), d.getY(), d.getZ(), n[i]);
+			
+			SColor expected = SIllumination.blinnSpecularReflexion(light, material, normal, ray_direction, d, n[i]);
+			
+			Assert.assertTrue(specular >= 0.0);
+			Assert.assertEquals(expected.getRed(), light.getRed()*specular*material.getRed(), 1e-12);
+			Assert.assertEquals(expected.getGreen(), light.getGreen()*specular*material.getGreen(), 1e-12);
+			Assert.assertEquals(expected.getBlue(), light.getBlue()*specular*material.getBlue(), 1e-12);
+		}
+		
+		}catch(SNoImplementationException e){
+			SLog.logWriteLine("SIlluminationTest ---> Test non effectué : public void blinnSpecularReflexionTest4()");
+		}
+	}
+	
+	/**
+	 * Test du filtrage d'une source de lumière par des matériaux transparents dans un accumulateur comparé au filtrage avec des couleurs.
+	 */
+	@Test
+	public void filteredTransparencyLightTest1() throws IOException
+	{
+		SColor light = new SColor(0.9, 0.8, 0.7);
+		
+		List<SMaterial> material_list = new ArrayList<SMaterial>();
+		material_list.add(new SBlinnMaterial(new SBufferedReader(new StringReader("color 1.0 0.5 0.2\nkt 0.9\nend\n"))));
+		material_list.add(new SBlinnMaterial(new SBufferedReader(new StringReader("color 0.3 0.9 0.6\nkt 0.5\nend\n"))));
+		
+		SColorAccumulator filtered_light = new SColorAccumulator();
+		filtered_light.set(light);
+		
+		for(SMaterial m : material_list)
+			SIllumination.filteredTransparencyLight(m, filtered_light);
+		
+		SColor expected = SIllumination.filteredTransparencyLight(material_list, light);
+		
+		Assert.assertEquals(expected.getRed(), filtered_light.getRed(), 1e-12);
+		Assert.assertEquals(expected.getGreen(), filtered_light.getGreen(), 1e-12);
+		Assert.assertEquals(expected.getBlue(), filtered_light.getBlue(), 1e-12);
+		Assert.assertEquals(0.9*1.0*0.9 * 0.3*0.5, filtered_light.getRed(), 1e-12);
+	}
+	
+}//fin de la classe SIlluminationTest
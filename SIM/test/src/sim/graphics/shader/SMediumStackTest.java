@@ -0,0 +1,150 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SSphereGeometry;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SMediumStack</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SMediumStackTest {
+
+  /**
+   * Test de la pile vide : le rayon se déplace dans le vide.
+   */
+  @Test
+  public void emptyTest1()
+  {
+    Assert.assertTrue(SMediumStack.EMPTY.isEmpty());
+    Assert.assertEquals(0, SMediumStack.EMPTY.size());
+    Assert.assertEquals(SMediumStack.VACUUM_REFRACTIVE_INDEX, SMediumStack.EMPTY.getRefractiveIndex(), 0.0);
+
+    // Sortir d'une géométrie absente de la pile ne change pas la pile
+    Assert.assertSame(SMediumStack.EMPTY, SMediumStack.EMPTY.exit(buildSphere(0.0)));
+  }
+
+  /**
+   * Test de milieux imbriqués : le rayon entre dans A puis dans B (à l'intérieur de A), puis sort de B et de A.
+   */
+  @Test
+  public void nestedTest1()
+  {
+    SGeometry A = buildSphere(0.0);
+    SGeometry B = buildSphere(1.0);
+
+    SMediumStack stack_a = SMediumStack.EMPTY.enter(A, 1.5);
+    SMediumStack stack_ab = stack_a.enter(B, 1.33);
+
+    Assert.assertEquals(1, stack_a.size());
+    Assert.assertEquals(1.5, stack_a.getRefractiveIndex(), 0.0);
+
+    Assert.assertEquals(2, stack_ab.size());
+    Assert.assertEquals(1.33, stack_ab.getRefractiveIndex(), 0.0);
+
+    // Sortie de B : retour dans A
+    SMediumStack stack_b_exit = stack_ab.exit(B);
+    Assert.assertEquals(1, stack_b_exit.size());
+    Assert.assertEquals(1.5, stack_b_exit.getRefractiveIndex(), 0.0);
+
+    // Sortie de A : retour dans le vide
+    SMediumStack stack_a_exit = stack_b_exit.exit(A);
+    Assert.assertTrue(stack_a_exit.isEmpty());
+    Assert.assertEquals(SMediumStack.VACUUM_REFRACTIVE_INDEX, stack_a_exit.getRefractiveIndex(), 0.0);
+
+    // Une pile est immuable
+    Assert.assertEquals(1, stack_a.size());
+    Assert.assertEquals(2, stack_ab.size());
+    Assert.assertEquals(1.33, stack_ab.getRefractiveIndex(), 0.0);
+  }
+
+  /**
+   * Test de milieux se chevauchant : le rayon entre dans A puis dans B, mais sort de A avant de sortir de B.
+   * Le milieu de A est retiré même s'il n'est pas sur le dessus de la pile.
+   */
+  @Test
+  public void overlappingTest1()
+  {
+    SGeometry A = buildSphere(0.0);
+    SGeometry B = buildSphere(1.0);
+
+    SMediumStack stack_ab = SMediumStack.EMPTY.enter(A, 1.5).enter(B, 2.0);
+
+    // Sortie de A : le rayon est toujours dans B
+    SMediumStack stack_b = stack_ab.exit(A);
+    Assert.assertEquals(1, stack_b.size());
+    Assert.assertEquals(2.0, stack_b.getRefractiveIndex(), 0.0);
+
+    // Sortir de nouveau de A ne change pas la pile
+    Assert.assertSame(stack_b, stack_b.exit(A));
+
+    // Sortie de B : retour dans le vide
+    Assert.assertTrue(stack_b.exit(B).isEmpty());
+
+    // Le rayon entre dans A, dans B puis de nouveau dans A (A et B se chevauchent deux fois)
+    SMediumStack stack_aba = stack_ab.enter(A, 1.5);
+    Assert.assertEquals(3, stack_aba.size());
+
+    // Seul le milieu de A le plus près du dessus de la pile est retiré
+    SMediumStack stack_ab2 = stack_aba.exit(A);
+    Assert.assertEquals(2, stack_ab2.size());
+    Assert.assertEquals(2.0, stack_ab2.getRefractiveIndex(), 0.0);
+    Assert.assertEquals(1.5, stack_ab2.exit(B).getRefractiveIndex(), 0.0);
+  }
+
+  /**
+   * Test de la taille maximale de la pile : au-delà de cette taille, le milieu le plus ancien est oublié.
+   */
+  @Test
+  public void maxSizeTest1()
+  {
+    SGeometry[] geometry = new SGeometry[SMediumStack.MAX_SIZE + 2];
+
+    SMediumStack stack = SMediumStack.EMPTY;
+
+    for(int i = 0; i < geometry.length; i++)
+    {
+      geometry[i] = buildSphere(i);
+      stack = stack.enter(geometry[i], 1.0 + 0.1*i);
+
+      Assert.assertEquals(Math.min(i + 1, SMediumStack.MAX_SIZE), stack.size());
+      Assert.assertEquals(1.0 + 0.1*i, stack.getRefractiveIndex(), 0.0);
+    }
+
+    // Les deux milieux les plus anciens sont oubliés
+    Assert.assertSame(stack, stack.exit(geometry[0]));
+    Assert.assertSame(stack, stack.exit(geometry[1]));
+
+    // Sortie de tous les autres milieux, du plus récent au plus ancien
+    for(int i = geometry.length - 1; i >= 2; i--)
+    {
+      stack = stack.exit(geometry[i]);
+
+      if(i > 2)
+        Assert.assertEquals(1.0 + 0.1*(i - 1), stack.getRefractiveIndex(), 1e-12);
+    }
+
+    Assert.assertTrue(stack.isEmpty());
+  }
+
+  /**
+   * Méthode pour construire une sphère de rayon unitaire centrée sur l'axe x.
+   *
+   * @param x - La position du centre de la sphère sur l'axe x.
+   * @return La sphère.
+   */
+  private static SGeometry buildSphere(double x)
+  {
+    return new SSphereGeometry(new SVector3d(x, 0.0, 0.0), 1.0);
+  }
+
+}//fin de la classe SMediumStackTest
@@ -0,0 +1,388 @@
+/**
+ *
+ */
+package sim.graphics.shader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.SGeometry;
+import sim.geometry.SPlaneGeometry;
+import sim.geometry.SRay;
+import sim.geometry.SSphereGeometry;
+import sim.geometry.space.SGeometrySpace;
+import sim.geometry.space.SLinearSpace;
+import sim.graphics.SColor;
+import sim.graphics.SPrimitive;
+import sim.graphics.light.SAmbientLight;
+import sim.graphics.light.SLight;
+import sim.graphics.material.SBlinnMaterial;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+import sim.util.SBufferedReader;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SRecursiveShader</b>.
+ * La scène est formée d'un plancher réfléchissant (z = 0), d'une sphère réfléchissante et transparente (4 &lt; z &lt; 6)
+ * et d'un plafond (z = 10). Les rayons sont lancés le long de l'axe z et l'illumination est uniquement ambiante.
+ * La couleur attendue est ainsi évaluée par un parcours récursif de référence le long de l'axe z.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-14
+ * @version 2017-02-14
+ */
+public class SRecursiveShaderTest {
+
+  /**
+   * La constante <b>SPHERE_COLOR</b> correspond à la couleur de la sphère.
+   */
+  private static final double[] SPHERE_COLOR = { 0.9, 0.6, 0.3 };
+
+  /**
+   * La constante <b>FLOOR_COLOR</b> correspond à la couleur du plancher.
+   */
+  private static final double[] FLOOR_COLOR = { 0.5, 0.8, 0.4 };
+
+  /**
+   * La constante <b>CEILING_COLOR</b> correspond à la couleur du plafond.
+   */
+  private static final double[] CEILING_COLOR = { 0.7, 0.7, 0.9 };
+
+  /**
+   * Les constantes <b>SPHERE_KA</b>, <b>SPHERE_KR</b> et <b>SPHERE_KT</b> correspondent aux coefficients ambiant, de réflexion et de transparence de la sphère.
+   */
+  private static final double SPHERE_KA = 0.2;
+  private static final double SPHERE_KR = 0.3;
+  private static final double SPHERE_KT = 0.6;
+
+  /**
+   * Les constantes <b>FLOOR_KA</b> et <b>FLOOR_KR</b> correspondent aux coefficients ambiant et de réflexion du plancher.
+   */
+  private static final double FLOOR_KA = 0.3;
+  private static final double FLOOR_KR = 0.5;
+
+  /**
+   * La constante <b>CEILING_KA</b> correspond au coefficient ambiant du plafond.
+   */
+  private static final double CEILING_KA = 0.4;
+
+  /**
+   * Test de l'évaluation itérative de l'arbre des rayons (réflexion et réfraction) comparée à la couleur de référence
+   * pour plusieurs niveaux de récursivité.
+   */
+  @Test
+  public void shadeTest1() throws Exception
+  {
+    SGeometrySpace space = buildSpace();
+
+    for(int max_dept = 1; max_dept <= 10; max_dept++)
+    {
+      SRecursiveShader shader = new SRecursiveShader(space, Double.POSITIVE_INFINITY, buildLightList(), SAbstractShader.AMBIENT, max_dept);
+
+      // Rayon vers le bas au-dessus de la sphère et rayon vers le haut sous la sphère
+      assertColor(reference(8.0, -1, max_dept, 0.0, null), shader.shade(new SRay(new SVector3d(0.0, 0.0, 8.0), new SVector3d(0.0, 0.0, -1.0), 1.0)));
+      assertColor(reference(2.0, 1, max_dept, 0.0, null), shader.shade(new SRay(new SVector3d(0.0, 0.0, 2.0), new SVector3d(0.0, 0.0, 1.0), 1.0)));
+    }
+
+    // Au premier niveau, uniquement l'illumination directe de la sphère
+    SRecursiveShader shader = new SRecursiveShader(space, Double.POSITIVE_INFINITY, buildLightList(), SAbstractShader.AMBIENT, 1);
+    assertColor(new double[]{ SPHERE_COLOR[0]*SPHERE_KA, SPHERE_COLOR[1]*SPHERE_KA, SPHERE_COLOR[2]*SPHERE_KA }, shader.shade(new SRay(new SVector3d(0.0, 0.0, 8.0), new SVector3d(0.0, 0.0, -1.0), 1.0)));
+  }
+
+  /**
+   * Test du seuil de contribution : uniquement les rayons dont la contribution est supérieure au seuil sont lancés
+   * et ce sont les mêmes rayons que ceux du parcours de référence.
+   */
+  @Test
+  public void contributionThresholdTest1() throws Exception
+  {
+    SGeometrySpace space = buildSpace();
+    int max_dept = 10;
+
+    List<Double> all_list = new ArrayList<Double>();
+    reference(8.0, -1, max_dept, 0.0, all_list);
+
+    for(double threshold : new double[]{ 0.01, 0.05, 0.2 })
+    {
+      List<Double> expected_list = new ArrayList<Double>();
+      double[] expected = reference(8.0, -1, max_dept, threshold, expected_list);
+
+      SRecordingShader shader = new SRecordingShader(space, max_dept, threshold, false);
+      SColor color = shader.shade(new SRay(new SVector3d(0.0, 0.0, 8.0), new SVector3d(0.0, 0.0, -1.0), 1.0));
+
+      assertColor(expected, color);
+
+      // Les branches élaguées sont celles du parcours de référence
+      Assert.assertTrue(expected_list.size() < all_list.size());
+      Assert.assertEquals(expected_list.size(), shader.emitted_list.size());
+
+      List<Double> emitted_list = new ArrayList<Double>();
+
+      for(SRayTreeNode node : shader.emitted_list)
+      {
+        Assert.assertTrue(node.getContribution() > threshold);
+        emitted_list.add(node.getContribution());
+      }
+
+      Collections.sort(expected_list);
+      Collections.sort(emitted_list);
+
+      for(int i = 0; i < expected_list.size(); i++)
+        Assert.assertEquals(expected_list.get(i), emitted_list.get(i), 1e-12);
+    }
+  }
+
+  /**
+   * Test de la roulette russe : elle ne s'applique pas aux premiers niveaux de récursivité
+   * et la moyenne de plusieurs évaluations tend vers la couleur sans roulette russe (estimation sans biais).
+   */
+  @Test
+  public void russianRouletteTest1() throws Exception
+  {
+    SGeometrySpace space = buildSpace();
+
+    // Sans rayon de niveau 3, la roulette russe n'est pas appliquée
+    SRecursiveShader shader1 = new SRecursiveShader(space, Double.POSITIVE_INFINITY, buildLightList(), SAbstractShader.AMBIENT, 2, 0.0, true);
+    assertColor(reference(8.0, -1, 2, 0.0, null), shader1.shade(new SRay(new SVector3d(0.0, 0.0, 8.0), new SVector3d(0.0, 0.0, -1.0), 1.0)));
+
+    int max_dept = 8;
+    double[] expected = reference(8.0, -1, max_dept, 0.0, null);
+
+    SRecursiveShader shader2 = new SRecursiveShader(space, Double.POSITIVE_INFINITY, buildLightList(), SAbstractShader.AMBIENT, max_dept, 0.0, true);
+
+    int nb_sample = 20000;
+    double[] sum = new double[3];
+    double[] square_sum = new double[3];
+
+    for(int i = 0; i < nb_sample; i++)
+    {
+      SColor color = shader2.shade(new SRay(new SVector3d(0.0, 0.0, 8.0), new SVector3d(0.0, 0.0, -1.0), 1.0));
+      double[] value = { color.getRed(), color.getGreen(), color.getBlue() };
+
+      for(int j = 0; j < 3; j++)
+      {
+        sum[j] += value[j];
+        square_sum[j] += value[j]*value[j];
+      }
+    }
+
+    // La moyenne doit être à moins de six écarts types (de la moyenne) de la couleur attendue
+    for(int i = 0; i < 3; i++)
+    {
+      double mean = sum[i] / nb_sample;
+      double standard_error = Math.sqrt((square_sum[i] / nb_sample - mean*mean) / nb_sample);
+
+      Assert.assertTrue(standard_error > 0.0);
+      Assert.assertEquals(expected[i], mean, 6.0 * standard_error);
+    }
+  }
+
+  /**
+   * Méthode pour évaluer la couleur de référence d'un rayon lancé le long de l'axe z par un parcours récursif.
+   *
+   * @param z - La position de l'origine du rayon sur l'axe z (à l'extérieur de la sphère).
+   * @param direction - Le sens du rayon (1 vers le haut et -1 vers le bas).
+   * @param max_dept - Le niveau de récursivité maximal.
+   * @param threshold - Le seuil de contribution.
+   * @param emitted_list - La liste des contributions des rayons récursifs lancés (<b>null</b> pour ne pas les conserver).
+   * @return La couleur de référence.
+   */
+  private static double[] reference(double z, int direction, int max_dept, double threshold, List<Double> emitted_list)
+  {
+    double[] color = new double[3];
+
+    reference(z, direction, false, new double[]{ 1.0, 1.0, 1.0 }, 1, max_dept, threshold, color, emitted_list);
+
+    return color;
+  }
+
+  /**
+   * Méthode récursive pour accumuler la couleur de référence d'un rayon lancé le long de l'axe z.
+   *
+   * @param z - La position de l'origine du rayon sur l'axe z.
+   * @param direction - Le sens du rayon (1 vers le haut et -1 vers le bas).
+   * @param inside - Détermine si le rayon est à l'intérieur de la sphère.
+   * @param throughput - Le facteur de pondération accumulé du rayon.
+   * @param depth - Le niveau de récursivité du rayon.
+   * @param max_dept - Le niveau de récursivité maximal.
+   * @param threshold - Le seuil de contribution.
+   * @param color - La couleur accumulée.
+   * @param emitted_list - La liste des contributions des rayons récursifs lancés (<b>null</b> pour ne pas les conserver).
+   */
+  private static void reference(double z, int direction, boolean inside, double[] throughput, int depth, int max_dept, double threshold, double[] color, List<Double> emitted_list)
+  {
+    // Intersection le long de l'axe z
+    double hit;
+
+    if(inside)
+      hit = direction > 0 ? 6.0 : 4.0;
+    else
+      if(direction < 0)
+        hit = z > 5.0 ? 6.0 : 0.0;
+      else
+        hit = z < 5.0 ? 4.0 : 10.0;
+
+    boolean sphere = hit == 4.0 || hit == 6.0;
+
+    // Illumination ambiante
+    for(int i = 0; i < 3; i++)
+      if(sphere)
+        color[i] += throughput[i] * SPHERE_COLOR[i] * SPHERE_KA;
+      else
+        if(hit == 0.0)
+          color[i] += throughput[i] * FLOOR_COLOR[i] * FLOOR_KA;
+        else
+          color[i] += throughput[i] * CEILING_COLOR[i] * CEILING_KA;
+
+    if(depth >= max_dept)
+      return;
+
+    if(sphere)
+    {
+      // Réflexion sans changement de milieu
+      double[] reflexion = { throughput[0]*SPHERE_KR, throughput[1]*SPHERE_KR, throughput[2]*SPHERE_KR };
+
+      if(isContributing(reflexion, threshold, emitted_list))
+        reference(hit, -direction, inside, reflexion, depth + 1, max_dept, threshold, color, emitted_list);
+
+      // Réfraction à incidence normale (filtrage par la couleur en entrant dans la sphère)
+      double[] refraction = new double[3];
+
+      for(int i = 0; i < 3; i++)
+        refraction[i] = inside ? throughput[i]*SPHERE_KT : throughput[i]*SPHERE_COLOR[i]*SPHERE_KT;
+
+      if(isContributing(refraction, threshold, emitted_list))
+        reference(hit, direction, !inside, refraction, depth + 1, max_dept, threshold, color, emitted_list);
+    }
+    else
+      if(hit == 0.0)
+      {
+        double[] reflexion = { throughput[0]*FLOOR_KR, throughput[1]*FLOOR_KR, throughput[2]*FLOOR_KR };
+
+        if(isContributing(reflexion, threshold, emitted_list))
+          reference(hit, -direction, inside, reflexion, depth + 1, max_dept, threshold, color, emitted_list);
+      }
+  }
+
+  /**
+   * Méthode pour déterminer si un rayon de référence est lancé selon le seuil de contribution.
+   *
+   * @param throughput - Le facteur de pondération accumulé du rayon.
+   * @param threshold - Le seuil de contribution.
+   * @param emitted_list - La liste des contributions des rayons lancés (<b>null</b> pour ne pas les conserver).
+   * @return <b>true</b> si le rayon est lancé et <b>false</b> sinon.
+   */
+  private static boolean isContributing(double[] throughput, double threshold, List<Double> emitted_list)
+  {
+    double contribution = Math.max(throughput[0], Math.max(throughput[1], throughput[2]));
+
+    if(contribution <= threshold)
+      return false;
+
+    if(emitted_list != null)
+      emitted_list.add(contribution);
+
+    return true;
+  }
+
+  /**
+   * Méthode pour comparer une couleur à la couleur de référence.
+   *
+   * @param expected - La couleur de référence.
+   * @param color - La couleur évaluée.
+   */
+  private static void assertColor(double[] expected, SColor color)
+  {
+    Assert.assertEquals(expected[0], color.getRed(), 1e-12);
+    Assert.assertEquals(expected[1], color.getGreen(), 1e-12);
+    Assert.assertEquals(expected[2], color.getBlue(), 1e-12);
+  }
+
+  /**
+   * Méthode pour construire l'espace des géométries de la scène (plancher, sphère et plafond).
+   *
+   * @return L'espace des géométries initialisé.
+   */
+  private static SGeometrySpace buildSpace() throws IOException
+  {
+    List<SGeometry> list = new ArrayList<SGeometry>();
+
+    list.add(buildGeometry(new SPlaneGeometry(new SVector3d(0.0, 0.0, 0.0), new SVector3d(0.0, 0.0, 1.0)), FLOOR_COLOR, "ka " + FLOOR_KA + "\nkr " + FLOOR_KR + "\n"));
+    list.add(buildGeometry(new SSphereGeometry(new SVector3d(0.0, 0.0, 5.0), 1.0), SPHERE_COLOR, "ka " + SPHERE_KA + "\nkr " + SPHERE_KR + "\nkt " + SPHERE_KT + "\nn 1.5\n"));
+    list.add(buildGeometry(new SPlaneGeometry(new SVector3d(0.0, 0.0, 10.0), new SVector3d(0.0, 0.0, -1.0)), CEILING_COLOR, "ka " + CEILING_KA + "\n"));
+
+    SLinearSpace space = new SLinearSpace();
+    space.addGeometry(list);
+    space.initialize();
+
+    return space;
+  }
+
+  /**
+   * Méthode pour construire la géométrie d'une primitive avec un matériel défini sous forme de texte (format d'un fichier de scène).
+   *
+   * @param geometry - La géométrie.
+   * @param color - La couleur du matériel.
+   * @param coefficient - Les coefficients du matériel.
+   * @return La géométrie de la primitive.
+   */
+  private static SGeometry buildGeometry(SGeometry geometry, double[] color, String coefficient) throws IOException
+  {
+    String description = "color " + color[0] + " " + color[1] + " " + color[2] + "\n" + coefficient + "end\n";
+
+    SMaterial material = new SBlinnMaterial(new SBufferedReader(new StringReader(description)));
+
+    return new SPrimitive(geometry, material).getGeometry();
+  }
+
+  /**
+   * Méthode pour construire la liste des sources de lumière (une lumière ambiante blanche).
+   *
+   * @return La liste des sources de lumière.
+   */
+  private static List<SLight> buildLightList()
+  {
+    List<SLight> list = new ArrayList<SLight>();
+    list.add(new SAmbientLight(new SColor(1.0, 1.0, 1.0)));
+
+    return list;
+  }
+
+  /**
+   * Classe interne représentant un shader récursif conservant les noeuds de l'arbre des rayons lancés.
+   */
+  private static class SRecordingShader extends SRecursiveShader {
+
+    /**
+     * La variable <b>emitted_list</b> correspond aux noeuds des rayons récursifs lancés.
+     */
+    private final List<SRayTreeNode> emitted_list = new ArrayList<SRayTreeNode>();
+
+    /**
+     * Constructeur d'un shader récursif conservant les noeuds lancés.
+     *
+     * @param space - L'espace des géométries.
+     * @param max_dept - Le niveau de récursivité maximal.
+     * @param threshold - Le seuil de contribution.
+     * @param russian_roulette - Détermine si la roulette russe est appliquée.
+     */
+    private SRecordingShader(SGeometrySpace space, int max_dept, double threshold, boolean russian_roulette)
+    {
+      super(space, Double.POSITIVE_INFINITY, buildLightList(), SAbstractShader.AMBIENT, max_dept, threshold, russian_roulette);
+    }
+
+    @Override
+    protected void emitIndirectRay(SRayTreeNode node, SRay ray, SMaterial material, Consumer<SRayTreeNode> sink)
+    {
+      super.emitIndirectRay(node, ray, material, n -> { emitted_list.add(n); sink.accept(n); });
+    }
+  }
+
+}//fin de la classe SRecursiveShaderTest
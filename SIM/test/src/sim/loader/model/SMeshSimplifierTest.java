@@ -0,0 +1,112 @@
+/**
+ *
+ */
+package sim.loader.model;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.geometry.STriangleGeometry;
+import sim.graphics.SModel;
+import sim.graphics.SPrimitive;
+import sim.graphics.material.SDefaultMaterial;
+import sim.graphics.material.SMaterial;
+import sim.math.SVector3d;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SMeshSimplifier</b>.
+ *
+ * @author Simon Vézina
+ * @since 2017-02-11
+ * @version 2017-02-11
+ */
+public class SMeshSimplifierTest {
+
+  /**
+   * Méthode pour construire un carré unitaire dans le plan z = 0 subdivisé en n x n cellules de deux triangles.
+   *
+   * @param n Le nombre de cellules par côté.
+   * @return Le modèle.
+   */
+  private static SModel buildGrid(int n)
+  {
+    SModel model = new SModel(SModel.DEFAULT_FILE_NAME);
+    SMaterial material = new SDefaultMaterial();
+
+    for(int i = 0; i < n; i++)
+      for(int j = 0; j < n; j++)
+      {
+        SVector3d p00 = new SVector3d((double)i/n, (double)j/n, 0.0);
+        SVector3d p10 = new SVector3d((double)(i+1)/n, (double)j/n, 0.0);
+        SVector3d p01 = new SVector3d((double)i/n, (double)(j+1)/n, 0.0);
+        SVector3d p11 = new SVector3d((double)(i+1)/n, (double)(j+1)/n, 0.0);
+
+        model.addPrimitive(new SPrimitive(new STriangleGeometry(p00, p10, p11), material));
+        model.addPrimitive(new SPrimitive(new STriangleGeometry(p00, p11, p01), material));
+      }
+
+    return model;
+  }
+
+  /**
+   * Test du nombre de triangles des niveaux de détail d'un carré de 3200 triangles.
+   * Chaque niveau doit respecter le rapport de réduction demandé.
+   */
+  @Test
+  public void buildLevelOfDetailTest1()
+  {
+    SMeshSimplifier simplifier = new SMeshSimplifier(buildGrid(40));
+
+    Assert.assertEquals(3200, simplifier.getNbTriangle());
+
+    List<SModel> list = simplifier.buildLevelOfDetail(0.25, 100);
+
+    // Niveaux de 800 et 200 triangles (50 < 100 n'est pas construit)
+    Assert.assertEquals(2, list.size());
+    Assert.assertTrue(list.get(0).getPrimitiveList().size() <= 800);
+    Assert.assertTrue(list.get(1).getPrimitiveList().size() <= 200);
+  }
+
+  /**
+   * Test de la préservation de la forme d'un carré plan. Les triangles simplifiés doivent demeurer dans le plan, conserver leur orientation
+   * et recouvrir exactement le carré puisque ses bords sont préservés.
+   */
+  @Test
+  public void buildLevelOfDetailTest2()
+  {
+    SMeshSimplifier simplifier = new SMeshSimplifier(buildGrid(40));
+
+    for(SModel model : simplifier.buildLevelOfDetail(0.25, 100))
+    {
+      double area = 0.0;
+
+      for(SPrimitive p : model.getPrimitiveList())
+      {
+        STriangleGeometry t = (STriangleGeometry)p.getGeometry();
+
+        SVector3d n = t.getP1().substract(t.getP0()).cross(t.getP2().substract(t.getP0()));
+
+        Assert.assertEquals(0.0, t.getP0().getZ(), 1e-12);
+        Assert.assertTrue(n.getZ() > 0.0);
+
+        area += n.getZ() / 2;
+      }
+
+      Assert.assertEquals(1.0, area, 1e-9);
+    }
+  }
+
+  /**
+   * Test d'un modèle trop petit pour être simplifié.
+   */
+  @Test
+  public void buildLevelOfDetailTest3()
+  {
+    SMeshSimplifier simplifier = new SMeshSimplifier(buildGrid(4));
+
+    Assert.assertTrue(simplifier.buildLevelOfDetail().isEmpty());
+  }
+
+}//fin de la classe SMeshSimplifierTest
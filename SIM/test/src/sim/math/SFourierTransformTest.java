@@ -0,0 +1,59 @@
+/**
+ * 
+ */
+package sim.math;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.exception.SRuntimeException;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SFourierTransform</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-05
+ * @version 2017-02-05
+ */
+public class SFourierTransformTest {
+
+  @Test
+  public void fftTest1()
+  {
+    // Comparaison avec la définition de la transformée de Fourier discrète
+    double[] real = { 1.0, 2.0, -0.5, 0.0, 3.0, 1.5, -2.0, 0.25 };
+    double[] imaginary = { 0.0, -1.0, 0.5, 2.0, 0.0, 0.0, 1.0, -0.75 };
+    
+    int n = real.length;
+    
+    double[] expected_real = new double[n];
+    double[] expected_imaginary = new double[n];
+    
+    for(int u = 0; u < n; u++)
+      for(int k = 0; k < n; k++)
+      {
+        double angle = -2*Math.PI*u*k/n;
+        
+        expected_real[u] += real[k]*Math.cos(angle) - imaginary[k]*Math.sin(angle);
+        expected_imaginary[u] += real[k]*Math.sin(angle) + imaginary[k]*Math.cos(angle);
+      }
+    
+    SFourierTransform.fft(real, imaginary);
+    
+    Assert.assertArrayEquals(expected_real, real, SMath.EPSILON);
+    Assert.assertArrayEquals(expected_imaginary, imaginary, SMath.EPSILON);
+  }
+  
+  @Test
+  public void fftTest2()
+  {
+    // Test d'une taille qui n'est pas une puissance de 2
+    try{
+      SFourierTransform.fft(new double[6], new double[6]);
+      Assert.fail("Ce test devrait lancer une exception, car la taille n'est pas une puissance de 2.");
+    }catch(SRuntimeException e){
+      // Test réussi
+    }
+  }
+  
+}//fin de la classe SFourierTransformTest
@@ -0,0 +1,41 @@
+/**
+ * 
+ */
+package sim.physics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import sim.math.SMath;
+
+/**
+ * JUnit test permettant de valider les fonctionnalités de la classe <b>SFraunhoferPattern</b>.
+ * 
+ * @author Simon Vézina
+ * @since 2017-02-05
+ * @version 2017-02-05
+ */
+public class SFraunhoferPatternTest {
+
+  @Test
+  public void getRelativeIntensityTest1()
+  {
+    // Test : Interférence de Young de deux oscillateurs séparés par une distance d, I = (1 + cos(k*d*sx))/4
+    double wave_length = 500e-9;
+    double d = 0.000002;
+    
+    boolean[][] grid = { { true }, { true } };
+    
+    SFraunhoferPattern pattern = new SFraunhoferPattern(grid, d, d, wave_length);
+    
+    // Maximum central
+    Assert.assertEquals(0.5, pattern.getRelativeIntensity(0.0, 0.0), SMath.EPSILON);
+    
+    // Premier minimum (d*sx = lambda/2)
+    Assert.assertEquals(0.0, pattern.getRelativeIntensity(wave_length/(2*d), 0.3), SMath.EPSILON);
+    
+    // Premier maximum secondaire (d*sx = lambda)
+    Assert.assertEquals(0.5, pattern.getRelativeIntensity(wave_length/d, 0.0), SMath.EPSILON);
+  }
+  
+}//fin de la classe SFraunhoferPatternTest